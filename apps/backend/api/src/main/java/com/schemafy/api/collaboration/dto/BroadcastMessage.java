@@ -8,19 +8,23 @@ import reactor.core.publisher.Sinks;
 public record BroadcastMessage(
     String projectId,
     String excludeSessionId,
-    String message,
+    CollaborationPayload payload,
     Optional<Consumer<Sinks.EmitResult>> onFailure) {
 
   public static BroadcastMessage of(String projectId, String excludeSessionId,
-      String message) {
-    return new BroadcastMessage(projectId, excludeSessionId, message,
+      CollaborationPayload payload) {
+    return new BroadcastMessage(projectId, excludeSessionId, payload,
         Optional.empty());
   }
 
   public static BroadcastMessage of(String projectId, String excludeSessionId,
-      String message, Consumer<Sinks.EmitResult> onFailure) {
-    return new BroadcastMessage(projectId, excludeSessionId, message,
+      CollaborationPayload payload, Consumer<Sinks.EmitResult> onFailure) {
+    return new BroadcastMessage(projectId, excludeSessionId, payload,
         Optional.ofNullable(onFailure));
   }
 
+  public String message() {
+    return payload.json();
+  }
+
 }
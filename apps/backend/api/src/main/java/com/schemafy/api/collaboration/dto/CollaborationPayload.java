@@ -0,0 +1,44 @@
+package com.schemafy.api.collaboration.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import com.schemafy.api.collaboration.protocol.CollaborationBinaryCodec;
+import com.schemafy.api.collaboration.protocol.CollaborationWireFormat;
+
+/**
+ * A serialized outbound event. Each wire format is encoded at most once, on
+ * the thread that hands the payload to the sessions, and the bytes are shared
+ * by every session using that format.
+ */
+public final class CollaborationPayload {
+
+  private final String json;
+  private byte[] jsonBytes;
+  private byte[] cborBytes;
+
+  private CollaborationPayload(String json) {
+    this.json = json;
+  }
+
+  public static CollaborationPayload of(String json) {
+    return new CollaborationPayload(json);
+  }
+
+  public String json() {
+    return json;
+  }
+
+  public byte[] encoded(CollaborationWireFormat wireFormat) {
+    if (wireFormat == CollaborationWireFormat.CBOR) {
+      if (cborBytes == null) {
+        cborBytes = CollaborationBinaryCodec.encode(json);
+      }
+      return cborBytes;
+    }
+    if (jsonBytes == null) {
+      jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+    return jsonBytes;
+  }
+
+}
@@ -2,8 +2,10 @@ package com.schemafy.api.collaboration.handler;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
@@ -13,6 +15,7 @@ import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.schemafy.api.collaboration.protocol.CollaborationWireFormat;
 import com.schemafy.api.collaboration.security.ProjectAccessValidator;
 import com.schemafy.api.collaboration.security.WebSocketAuthInfo;
 import com.schemafy.api.collaboration.service.CollaborationDirectMessageSender;
@@ -40,6 +43,11 @@ public class CollaborationWebSocketHandler implements WebSocketHandler {
   private final ProjectAccessValidator projectAccessValidator;
   private final CollaborationPresenceProperties presenceProperties;
 
+  @Override
+  public List<String> getSubProtocols() {
+    return CollaborationWireFormat.subProtocols();
+  }
+
   @Override
   public Mono<Void> handle(WebSocketSession session) {
     URI uri = session.getHandshakeInfo().getUri();
@@ -202,6 +210,15 @@ public class CollaborationWebSocketHandler implements WebSocketHandler {
           .onErrorResume(e -> Mono.empty());
     }
 
+    if (message.getType() == WebSocketMessage.Type.BINARY) {
+      return collaborationService
+          .handleBinaryMessage(projectId, sessionId, readBytes(message.getPayload()))
+          .doOnError(e -> log.warn(
+              "[CollaborationWebSocketHandler] Failed to handle binary message: sessionId={}, error={}",
+              sessionId, e.getMessage()))
+          .onErrorResume(e -> Mono.empty());
+    }
+
     if (message.getType() != WebSocketMessage.Type.TEXT) {
       return Mono.empty();
     }
@@ -214,6 +231,12 @@ public class CollaborationWebSocketHandler implements WebSocketHandler {
         .onErrorResume(e -> Mono.empty());
   }
 
+  private static byte[] readBytes(DataBuffer payload) {
+    byte[] bytes = new byte[payload.readableByteCount()];
+    payload.read(bytes);
+    return bytes;
+  }
+
   private Mono<Void> handleUnauthenticated(WebSocketSession session) {
     log.warn(
         "[CollaborationWebSocketHandler] WebSocket authentication failed: sessionId={}",
@@ -0,0 +1,240 @@
+package com.schemafy.api.collaboration.protocol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.schemafy.core.collaboration.dto.CollaborationEventType;
+
+/**
+ * Transcodes collaboration JSON messages to and from the compact CBOR form
+ * used by {@link CollaborationWireFormat#CBOR} sessions. Known property names
+ * are written as small integer keys and the top-level {@code type} as an
+ * integer event code, so a frame carries no repeated field names. Properties
+ * outside the table, such as keys inside a preview {@code position} or
+ * {@code extra}, stay text keys.
+ *
+ * <p>Clients resolve keys and event codes by index, so both tables are
+ * append-only.
+ */
+public final class CollaborationBinaryCodec {
+
+  static final List<String> FIELD_KEYS = List.of(
+      "type",
+      "sessionId",
+      "timestamp",
+      "userId",
+      "userName",
+      "participants",
+      "profileImageUrl",
+      "userInfo",
+      "cursor",
+      "x",
+      "y",
+      "action",
+      "schemaId",
+      "tableId",
+      "relationshipId",
+      "position",
+      "extra",
+      "messageId",
+      "content",
+      "affectedTableIds",
+      "operation",
+      "committedAt",
+      "opId",
+      "clientOperationId",
+      "committedRevision",
+      "derivationKind");
+
+  static final List<CollaborationEventType> EVENT_TYPES = List.of(
+      CollaborationEventType.SESSION_READY,
+      CollaborationEventType.JOIN,
+      CollaborationEventType.LEAVE,
+      CollaborationEventType.CURSOR,
+      CollaborationEventType.TABLE_POSITION_PREVIEW,
+      CollaborationEventType.RELATIONSHIP_EXTRA_PREVIEW,
+      CollaborationEventType.SCHEMA_FOCUS,
+      CollaborationEventType.CHAT,
+      CollaborationEventType.ERD_MUTATED);
+
+  private static final String TYPE_FIELD = "type";
+
+  private static final Map<String, Integer> FIELD_IDS = indexOf(FIELD_KEYS);
+  private static final Map<String, Integer> EVENT_CODES = indexOf(EVENT_TYPES.stream()
+      .map(CollaborationEventType::getValue)
+      .toList());
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+  private CollaborationBinaryCodec() {}
+
+  public static byte[] encode(String json) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length() / 2 + 16);
+    try (JsonParser parser = JSON_FACTORY.createParser(json);
+        CBORGenerator generator = CBOR_FACTORY.createGenerator(out)) {
+      toCbor(parser, generator);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to encode collaboration message", e);
+    }
+    return out.toByteArray();
+  }
+
+  public static String decode(byte[] cbor) {
+    StringWriter out = new StringWriter(cbor.length * 2);
+    try (JsonParser parser = CBOR_FACTORY.createParser(cbor);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      toJson(parser, generator);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to decode collaboration message", e);
+    }
+    return out.toString();
+  }
+
+  private static void toCbor(JsonParser parser, CBORGenerator generator) throws IOException {
+    int depth = 0;
+    boolean eventType = false;
+    JsonToken token;
+    while ((token = parser.nextToken()) != null) {
+      switch (token) {
+      case START_OBJECT -> {
+        depth++;
+        generator.writeStartObject();
+      }
+      case END_OBJECT -> {
+        depth--;
+        generator.writeEndObject();
+      }
+      case START_ARRAY -> {
+        depth++;
+        generator.writeStartArray();
+      }
+      case END_ARRAY -> {
+        depth--;
+        generator.writeEndArray();
+      }
+      case FIELD_NAME -> {
+        String name = parser.currentName();
+        Integer id = FIELD_IDS.get(name);
+        if (id != null) {
+          generator.writeFieldId(id);
+        } else {
+          generator.writeFieldName(name);
+        }
+        eventType = depth == 1 && TYPE_FIELD.equals(name);
+        continue;
+      }
+      case VALUE_STRING -> {
+        Integer code = eventType ? EVENT_CODES.get(parser.getText()) : null;
+        if (code != null) {
+          generator.writeNumber(code);
+        } else {
+          generator.writeString(parser.getText());
+        }
+      }
+      case VALUE_NUMBER_INT -> writeInteger(parser, generator);
+      case VALUE_NUMBER_FLOAT -> {
+        double value = parser.getDoubleValue();
+        if ((float) value == value) {
+          generator.writeNumber((float) value);
+        } else {
+          generator.writeNumber(value);
+        }
+      }
+      case VALUE_TRUE, VALUE_FALSE -> generator.writeBoolean(parser.getBooleanValue());
+      case VALUE_NULL -> generator.writeNull();
+      default -> throw new IOException("Unexpected JSON token: " + token);
+      }
+      eventType = false;
+    }
+  }
+
+  private static void toJson(JsonParser parser, JsonGenerator generator) throws IOException {
+    int depth = 0;
+    boolean eventType = false;
+    JsonToken token;
+    while ((token = parser.nextToken()) != null) {
+      switch (token) {
+      case START_OBJECT -> {
+        depth++;
+        generator.writeStartObject();
+      }
+      case END_OBJECT -> {
+        depth--;
+        generator.writeEndObject();
+      }
+      case START_ARRAY -> {
+        depth++;
+        generator.writeStartArray();
+      }
+      case END_ARRAY -> {
+        depth--;
+        generator.writeEndArray();
+      }
+      case FIELD_NAME -> {
+        String name = fieldName(parser.currentName());
+        generator.writeFieldName(name);
+        eventType = depth == 1 && TYPE_FIELD.equals(name);
+        continue;
+      }
+      case VALUE_STRING -> generator.writeString(parser.getText());
+      case VALUE_NUMBER_INT -> {
+        if (eventType && parser.getNumberType() == JsonParser.NumberType.INT
+            && parser.getIntValue() >= 0 && parser.getIntValue() < EVENT_TYPES.size()) {
+          generator.writeString(EVENT_TYPES.get(parser.getIntValue()).getValue());
+        } else {
+          writeInteger(parser, generator);
+        }
+      }
+      case VALUE_NUMBER_FLOAT -> {
+        if (parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL) {
+          generator.writeNumber(parser.getDecimalValue());
+        } else {
+          generator.writeNumber(parser.getDoubleValue());
+        }
+      }
+      case VALUE_TRUE, VALUE_FALSE -> generator.writeBoolean(parser.getBooleanValue());
+      case VALUE_NULL -> generator.writeNull();
+      case VALUE_EMBEDDED_OBJECT -> generator.writeBinary(parser.getBinaryValue());
+      default -> throw new IOException("Unexpected CBOR token: " + token);
+      }
+      eventType = false;
+    }
+  }
+
+  private static void writeInteger(JsonParser parser, JsonGenerator generator) throws IOException {
+    switch (parser.getNumberType()) {
+    case INT -> generator.writeNumber(parser.getIntValue());
+    case LONG -> generator.writeNumber(parser.getLongValue());
+    default -> generator.writeNumber(parser.getBigIntegerValue());
+    }
+  }
+
+  // Integer map keys surface as their decimal text.
+  private static String fieldName(String name) {
+    if (name.isEmpty() || name.length() > 3 || !name.chars().allMatch(Character::isDigit)) {
+      return name;
+    }
+    int id = Integer.parseInt(name);
+    return id < FIELD_KEYS.size() ? FIELD_KEYS.get(id) : name;
+  }
+
+  private static Map<String, Integer> indexOf(List<String> values) {
+    Map<String, Integer> index = new HashMap<>();
+    for (int i = 0; i < values.size(); i++) {
+      index.put(values.get(i), i);
+    }
+    return Map.copyOf(index);
+  }
+
+}
@@ -0,0 +1,45 @@
+package com.schemafy.api.collaboration.protocol;
+
+import java.util.List;
+
+import org.springframework.web.reactive.socket.WebSocketMessage;
+
+/**
+ * Encoding a collaboration session receives its events in, negotiated through
+ * {@code Sec-WebSocket-Protocol}. Clients that do not ask for a sub-protocol
+ * get JSON text frames.
+ */
+public enum CollaborationWireFormat {
+
+  JSON("schemafy.collaboration.v1+json", WebSocketMessage.Type.TEXT),
+  CBOR("schemafy.collaboration.v1+cbor", WebSocketMessage.Type.BINARY);
+
+  private final String subProtocol;
+  private final WebSocketMessage.Type messageType;
+
+  CollaborationWireFormat(String subProtocol, WebSocketMessage.Type messageType) {
+    this.subProtocol = subProtocol;
+    this.messageType = messageType;
+  }
+
+  public String getSubProtocol() { return subProtocol; }
+
+  public WebSocketMessage.Type getMessageType() { return messageType; }
+
+  public static List<String> subProtocols() {
+    return List.of(CBOR.subProtocol, JSON.subProtocol);
+  }
+
+  public static CollaborationWireFormat fromSubProtocol(String subProtocol) {
+    if (subProtocol == null) {
+      return JSON;
+    }
+    for (CollaborationWireFormat format : values()) {
+      if (format.subProtocol.equalsIgnoreCase(subProtocol)) {
+        return format;
+      }
+    }
+    return JSON;
+  }
+
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
+import com.schemafy.api.collaboration.dto.CollaborationPayload;
 import com.schemafy.api.collaboration.service.model.SessionEntry;
 import com.schemafy.core.collaboration.dto.ProjectPresenceParticipant;
 import com.schemafy.core.collaboration.dto.event.CollaborationOutbound;
@@ -29,10 +30,11 @@ public class CollaborationDirectMessageSender {
 
   public Mono<Void> send(SessionEntry entry, CollaborationOutbound event) {
     return payloadSerializer.serialize(event)
+        .map(CollaborationPayload::of)
         .flatMap(payload -> emit(entry, payload));
   }
 
-  private Mono<Void> emit(SessionEntry entry, String payload) {
+  private Mono<Void> emit(SessionEntry entry, CollaborationPayload payload) {
     return Mono.fromRunnable(() -> {
       Sinks.EmitResult result = entry.send(payload);
       if (!result.isSuccess()) {
@@ -10,6 +10,8 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 import com.schemafy.api.collaboration.dto.BroadcastMessage;
+import com.schemafy.api.collaboration.dto.CollaborationPayload;
+import com.schemafy.api.collaboration.protocol.CollaborationBinaryCodec;
 import com.schemafy.api.collaboration.service.handler.InboundMessageHandler;
 import com.schemafy.api.collaboration.service.handler.MessageContext;
 import com.schemafy.api.collaboration.service.model.SessionEntry;
@@ -22,9 +24,11 @@ import com.schemafy.core.collaboration.dto.event.CollaborationInbound;
 import com.schemafy.core.collaboration.dto.event.CollaborationOutbound;
 import com.schemafy.core.collaboration.dto.event.CollaborationOutboundFactory;
 import com.schemafy.core.collaboration.dto.event.CursorEvent;
+import com.schemafy.core.collaboration.dto.event.ErdMutatedEvent;
 import com.schemafy.core.collaboration.service.CollaborationEventPublisher;
 import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
 import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.ErdMutationMetrics;
 
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
@@ -41,6 +45,7 @@ public class CollaborationService {
   private final CollaborationPayloadSerializer payloadSerializer;
   private final ProjectPresenceStore presenceStore;
   private final JsonCodec jsonCodec;
+  private final ErdMutationMetrics erdMutationMetrics;
   private final Map<CollaborationEventType, InboundMessageHandler> handlers;
   private final Map<String, CursorPosition> cursorDedupeCache = new ConcurrentHashMap<>();
 
@@ -50,12 +55,14 @@ public class CollaborationService {
       CollaborationPayloadSerializer payloadSerializer,
       ProjectPresenceStore presenceStore,
       JsonCodec jsonCodec,
+      ErdMutationMetrics erdMutationMetrics,
       List<InboundMessageHandler> handlerList) {
     this.sessionRegistry = sessionRegistry;
     this.eventPublisher = eventPublisher;
     this.payloadSerializer = payloadSerializer;
     this.presenceStore = presenceStore;
     this.jsonCodec = jsonCodec;
+    this.erdMutationMetrics = erdMutationMetrics;
     this.handlers = handlerList.stream()
         .collect(Collectors.toMap(
             InboundMessageHandler::supportedType,
@@ -219,6 +226,19 @@ public class CollaborationService {
         });
   }
 
+  /** handle inbound message of a session that negotiated the binary format */
+  public Mono<Void> handleBinaryMessage(String projectId, String sessionId,
+      byte[] payload) {
+    return Mono.fromCallable(() -> CollaborationBinaryCodec.decode(payload))
+        .flatMap(json -> handleMessage(projectId, sessionId, json))
+        .onErrorResume(e -> {
+          log.warn(
+              "[CollaborationService] Binary message decoding failed: sessionId={}, error={}",
+              sessionId, e.getMessage());
+          return Mono.empty();
+        });
+  }
+
   /** handle redis message */
   public Mono<Void> handleRedisMessage(String projectId, String message) {
     return deserializeFromJson(message, CollaborationOutbound.class)
@@ -233,29 +253,35 @@ public class CollaborationService {
           }
 
           return payloadSerializer.serialize(event)
-              .doOnNext(json -> broadcastEvent(
-                  projectId,
-                  event.sessionId(),
-                  event.type(),
-                  json))
+              .map(CollaborationPayload::of)
+              .doOnNext(payload -> {
+                broadcastEvent(
+                    projectId,
+                    event.sessionId(),
+                    event.type(),
+                    payload);
+                if (event instanceof ErdMutatedEvent.Outbound erdMutated) {
+                  erdMutationMetrics.recordDelivery(erdMutated.committedAt());
+                }
+              })
               .then();
         });
   }
 
   private void broadcastEvent(String projectId, String excludeSessionId,
-      CollaborationEventType eventType, String json) {
+      CollaborationEventType eventType, CollaborationPayload payload) {
     if (eventType == null) {
       log.warn(
           "[CollaborationService] Event type is null, using best effort");
       sessionRegistry.broadcast(
-          BroadcastMessage.of(projectId, excludeSessionId, json));
+          BroadcastMessage.of(projectId, excludeSessionId, payload));
       return;
     }
 
     String exclude = eventType.shouldIncludeSender() ? null
         : excludeSessionId;
     sessionRegistry
-        .broadcast(BroadcastMessage.of(projectId, exclude, json));
+        .broadcast(BroadcastMessage.of(projectId, exclude, payload));
   }
 
   private <T> Mono<T> deserializeFromJson(String json, Class<T> clazz) {
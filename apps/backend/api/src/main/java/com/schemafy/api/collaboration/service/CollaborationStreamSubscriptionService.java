@@ -0,0 +1,168 @@
+package com.schemafy.api.collaboration.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.collaboration.CollaborationEventBusProperties;
+import com.schemafy.core.collaboration.stream.CollaborationEventStream;
+import com.schemafy.core.collaboration.stream.CollaborationStreamRecord;
+import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
+import com.schemafy.core.erd.operation.SchemaWriterNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Reads the streams of the projects that have sessions on this node, through
+ * a consumer group named after the node. An event is acknowledged once it has
+ * been handed to the local sessions. After a read fails, unacknowledged events
+ * are read again before new ones, so a connection loss delays events instead of
+ * dropping them.
+ *
+ * <p>Joined streams are joined again every half max age, which keeps a quiet
+ * project's stream from expiring while its sessions are still here. A stream or
+ * group that disappears anyway fails the read with {@code NOGROUP}; the groups
+ * are then joined again from the last read, without the error backoff.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnRedisEnabled
+@ConditionalOnProperty(name = "collaboration.event-bus.transport", havingValue = "streams")
+public class CollaborationStreamSubscriptionService {
+
+  private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+  private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+  private final CollaborationEventStream eventStream;
+  private final CollaborationService collaborationService;
+  private final SessionRegistry sessionRegistry;
+  private final SchemaWriterNode schemaWriterNode;
+  private final CollaborationEventBusProperties properties;
+  private final Clock clock;
+
+  private final Set<String> joinedProjects = ConcurrentHashMap.newKeySet();
+  private volatile boolean recoverPending = true;
+  private volatile long groupsRefreshedAt;
+  private volatile long lastReadAt = Long.MAX_VALUE;
+  private Disposable subscription;
+
+  @PostConstruct
+  public void init() {
+    subscription = Mono.defer(this::poll)
+        .repeat()
+        .doOnError(error -> {
+          log.error("[CollaborationStreamSubscriptionService] Stream read error", error);
+          joinedProjects.clear();
+          recoverPending = true;
+        })
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, INITIAL_BACKOFF)
+            .maxBackoff(MAX_BACKOFF)
+            .transientErrors(true)
+            .doBeforeRetry(signal -> log.info(
+                "[CollaborationStreamSubscriptionService] Retrying stream read (attempt #{})",
+                signal.totalRetriesInARow() + 1)))
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void destroy() {
+    if (subscription != null && !subscription.isDisposed()) {
+      subscription.dispose();
+    }
+  }
+
+  Mono<Void> poll() {
+    return syncGroups(sessionRegistry.activeProjectIds())
+        .then(Mono.defer(this::readAndDeliver))
+        .onErrorResume(CollaborationStreamSubscriptionService::isMissingGroup, this::rejoinAll);
+  }
+
+  // A project joins slightly before the last read so events published while its first session was connecting,
+  // or while its group was gone, are not skipped.
+  private Mono<Void> syncGroups(Set<String> activeProjectIds) {
+    long now = clock.millis();
+    long since = Math.min(now, lastReadAt) - properties.getBlockTimeout().toMillis() * 2;
+    boolean refresh = now - groupsRefreshedAt >= properties.getMaxAge().toMillis() / 2;
+    Flux<Void> joins = Flux.fromIterable(activeProjectIds)
+        .filter(projectId -> refresh || !joinedProjects.contains(projectId))
+        .concatMap(projectId -> eventStream.join(projectId, group(), since)
+            .doOnSuccess(ignored -> joinedProjects.add(projectId)));
+    Flux<Void> leaves = Flux.fromIterable(Set.copyOf(joinedProjects))
+        .filter(projectId -> !activeProjectIds.contains(projectId))
+        .concatMap(projectId -> eventStream.leave(projectId, group())
+            .doOnSuccess(ignored -> joinedProjects.remove(projectId)));
+    return joins.thenMany(leaves)
+        .then(Mono.fromRunnable(() -> {
+          if (refresh) {
+            groupsRefreshedAt = now;
+          }
+        }));
+  }
+
+  private Mono<Void> rejoinAll(Throwable error) {
+    log.warn("[CollaborationStreamSubscriptionService] Stream group missing, joining again: {}",
+        error.getMessage());
+    joinedProjects.clear();
+    recoverPending = true;
+    return Mono.empty();
+  }
+
+  private Mono<Void> readAndDeliver() {
+    if (joinedProjects.isEmpty()) {
+      return Mono.delay(properties.getBlockTimeout()).then();
+    }
+    List<String> projectIds = List.copyOf(joinedProjects);
+    if (recoverPending) {
+      return eventStream.readPending(projectIds, group(), properties.getReadCount())
+          .concatMap(this::deliver)
+          .count()
+          .doOnNext(delivered -> recoverPending = delivered > 0)
+          .then();
+    }
+    long readStartedAt = clock.millis();
+    return eventStream.readNew(projectIds, group(), properties.getReadCount(), properties.getBlockTimeout())
+        .concatMap(this::deliver)
+        .then(Mono.fromRunnable(() -> lastReadAt = readStartedAt));
+  }
+
+  private Mono<String> deliver(CollaborationStreamRecord record) {
+    Mono<Void> handled = record.payload() == null
+        ? Mono.empty()
+        : collaborationService.handleRedisMessage(record.projectId(), record.payload())
+            .doOnError(e -> log.error(
+                "[CollaborationStreamSubscriptionService] Failed to handle event for project {}: {}",
+                record.projectId(), e.getMessage()))
+            .onErrorResume(e -> Mono.empty());
+    return handled
+        .then(eventStream.acknowledge(record.projectId(), group(), record.id()))
+        .thenReturn(record.id());
+  }
+
+  private static boolean isMissingGroup(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause.getMessage() != null && cause.getMessage().contains("NOGROUP")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String group() {
+    return schemaWriterNode.id();
+  }
+
+}
@@ -8,8 +8,11 @@ import jakarta.annotation.PreDestroy;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.schemafy.api.erd.service.forwarding.ErdMutationForwardingService;
 import com.schemafy.core.collaboration.CollaborationChannel;
 import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
+import com.schemafy.core.erd.operation.SchemaWriterChannel;
+import com.schemafy.core.erd.operation.SchemaWriterNode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,12 +32,16 @@ public class RedisSubscriptionService {
 
   private final ReactiveStringRedisTemplate redisTemplate;
   private final CollaborationService collaborationService;
+  private final ErdMutationForwardingService erdMutationForwardingService;
+  private final SchemaWriterNode schemaWriterNode;
 
   private Disposable subscription;
+  private Disposable writerSubscription;
 
   @PostConstruct
   public void init() {
     subscribeToChannels();
+    subscribeToWriterChannels();
   }
 
   @PreDestroy
@@ -75,6 +82,36 @@ public class RedisSubscriptionService {
         .subscribe();
   }
 
+  private void subscribeToWriterChannels() {
+    writerSubscription = redisTemplate
+        .listenToChannel(
+            SchemaWriterChannel.requestsFor(schemaWriterNode.id()),
+            SchemaWriterChannel.repliesFor(schemaWriterNode.id()))
+        .flatMap(message -> {
+          if (SchemaWriterChannel.isReplyChannel(message.getChannel())) {
+            return Mono.fromRunnable(() -> erdMutationForwardingService.handleReply(message.getMessage()))
+                .doOnError(e -> log.error(
+                    "[RedisSubscriptionService] Failed to handle forwarded mutation reply: {}",
+                    e.getMessage()))
+                .onErrorResume(e -> Mono.empty());
+          }
+          return Mono.defer(() -> erdMutationForwardingService.handleRequest(message.getMessage()))
+              .doOnError(e -> log.error(
+                  "[RedisSubscriptionService] Failed to handle forwarded mutation request: {}",
+                  e.getMessage()))
+              .onErrorResume(e -> Mono.empty());
+        })
+        .doOnError(error -> log.error(
+            "[RedisSubscriptionService] Redis writer subscription error",
+            error))
+        .retryWhen(Retry.backoff(MAX_RETRY_ATTEMPTS, INITIAL_BACKOFF)
+            .maxBackoff(MAX_BACKOFF)
+            .doBeforeRetry(signal -> log.info(
+                "[RedisSubscriptionService] Retrying writer subscription (attempt #{})",
+                signal.totalRetries() + 1)))
+        .subscribe();
+  }
+
   private String extractProjectId(String channel) {
     return CollaborationChannel.extractProjectId(channel);
   }
@@ -83,6 +120,9 @@ public class RedisSubscriptionService {
     if (subscription != null && !subscription.isDisposed()) {
       subscription.dispose();
     }
+    if (writerSubscription != null && !writerSubscription.isDisposed()) {
+      writerSubscription.dispose();
+    }
   }
 
 }
@@ -2,6 +2,7 @@ package com.schemafy.api.collaboration.service;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Service;
@@ -56,7 +57,7 @@ public class SessionRegistry {
     sessions.forEach((sessionId, entry) -> {
       if (!sessionId.equals(request.excludeSessionId())
           && entry.isOpen()) {
-        Sinks.EmitResult result = entry.send(request.message());
+        Sinks.EmitResult result = entry.send(request.payload());
         if (!result.isSuccess()) {
           request.onFailure()
               .ifPresent(consumer -> consumer.accept(result));
@@ -70,6 +71,10 @@ public class SessionRegistry {
     return sessions != null ? sessions.size() : 0;
   }
 
+  public Set<String> activeProjectIds() {
+    return Set.copyOf(projectSessions.keySet());
+  }
+
   public Optional<WebSocketAuthInfo> getAuthInfo(String sessionId) {
     return projectSessions.values()
         .stream()
@@ -5,6 +5,8 @@ import java.time.Duration;
 import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
 
+import com.schemafy.api.collaboration.dto.CollaborationPayload;
+import com.schemafy.api.collaboration.protocol.CollaborationWireFormat;
 import com.schemafy.api.collaboration.security.WebSocketAuthInfo;
 import com.schemafy.core.collaboration.dto.CursorPosition;
 
@@ -18,8 +20,9 @@ public class SessionEntry {
 
   private final WebSocketSession session;
   private final WebSocketAuthInfo authInfo;
+  private final CollaborationWireFormat wireFormat;
 
-  private final Sinks.Many<String> outboundSink;
+  private final Sinks.Many<byte[]> outboundSink;
   private final Flux<WebSocketMessage> outboundFlux;
 
   private final Sinks.Many<CursorPosition> cursorSink;
@@ -29,13 +32,15 @@ public class SessionEntry {
   public SessionEntry(WebSocketSession session, WebSocketAuthInfo authInfo) {
     this.session = session;
     this.authInfo = authInfo;
+    this.wireFormat = CollaborationWireFormat.fromSubProtocol(
+        session.getHandshakeInfo().getSubProtocol());
     this.currentSchemaId = null;
 
     this.outboundSink = Sinks.many()
         .unicast()
         .onBackpressureBuffer();
     this.outboundFlux = outboundSink.asFlux()
-        .map(session::textMessage);
+        .map(this::toMessage);
 
     this.cursorSink = Sinks.many()
         .unicast()
@@ -50,6 +55,10 @@ public class SessionEntry {
     return authInfo;
   }
 
+  public CollaborationWireFormat wireFormat() {
+    return wireFormat;
+  }
+
   public Flux<WebSocketMessage> outboundFlux() {
     return outboundFlux;
   }
@@ -63,8 +72,8 @@ public class SessionEntry {
     cursorSink.tryEmitNext(cursor);
   }
 
-  public Sinks.EmitResult send(String message) {
-    return outboundSink.tryEmitNext(message);
+  public Sinks.EmitResult send(CollaborationPayload payload) {
+    return outboundSink.tryEmitNext(payload.encoded(wireFormat));
   }
 
   public void complete() {
@@ -72,6 +81,11 @@ public class SessionEntry {
     cursorSink.tryEmitComplete();
   }
 
+  private WebSocketMessage toMessage(byte[] payload) {
+    return new WebSocketMessage(wireFormat.getMessageType(),
+        session.bufferFactory().wrap(payload));
+  }
+
   public boolean isOpen() { return session.isOpen(); }
 
   public String getCurrentSchemaId() { return currentSchemaId; }
@@ -0,0 +1,107 @@
+package com.schemafy.api.common.crypto;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import com.schemafy.api.common.exception.ServerOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Runs CPU-bound crypto work (password hashing) on its own fixed pool so a
+ * burst of logins cannot starve the shared elastic scheduler. Work beyond the
+ * bounded queue is rejected immediately with {@link ServerOverloadedException}
+ * instead of waiting.
+ */
+@Slf4j
+@Component
+public class CryptoScheduler {
+
+  static final String METRIC_PREFIX = "crypto.scheduler";
+
+  private final ThreadPoolExecutor executor;
+  private final Scheduler scheduler;
+  private final CryptoSchedulerProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public CryptoScheduler(CryptoSchedulerProperties properties, MeterRegistry meterRegistry) {
+    int threads = properties.resolvedThreads();
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.executor = new ThreadPoolExecutor(
+        threads,
+        threads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+        new CryptoThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy());
+    this.scheduler = Schedulers.fromExecutorService(executor, "crypto");
+
+    Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  public <T> Mono<T> execute(String operation, Callable<T> task) {
+    Timer queueWait = meterRegistry.timer(METRIC_PREFIX + ".queue.wait", "operation", operation);
+    Timer execution = meterRegistry.timer(METRIC_PREFIX + ".execution", "operation", operation);
+    return Mono.defer(() -> {
+      long enqueuedAt = System.nanoTime();
+      return Mono.fromCallable(() -> {
+        long startedAt = System.nanoTime();
+        queueWait.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+          return task.call();
+        } finally {
+          execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+      }).subscribeOn(scheduler);
+    }).onErrorMap(RejectedExecutionException.class, e -> {
+      rejectedCounter(operation).increment();
+      log.warn("[CryptoScheduler] rejected operation={}, queued={}", operation,
+          executor.getQueue().size());
+      return new ServerOverloadedException(properties.getRetryAfter());
+    });
+  }
+
+  @PreDestroy
+  void shutdown() {
+    scheduler.dispose();
+  }
+
+  private Counter rejectedCounter(String operation) {
+    return meterRegistry.counter(METRIC_PREFIX + ".rejected", "operation", operation);
+  }
+
+  private static final class CryptoThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "crypto-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+
+  }
+
+}
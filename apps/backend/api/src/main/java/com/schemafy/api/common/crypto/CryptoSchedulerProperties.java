@@ -0,0 +1,26 @@
+package com.schemafy.api.common.crypto;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crypto.scheduler")
+public class CryptoSchedulerProperties {
+
+  /** Worker threads; zero or less means one per available processor. */
+  private int threads = 0;
+
+  private int queueCapacity = 64;
+
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  public int resolvedThreads() {
+    return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+  }
+
+}
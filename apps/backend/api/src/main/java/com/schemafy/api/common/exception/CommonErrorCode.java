@@ -18,7 +18,8 @@ public enum CommonErrorCode implements DomainErrorCode {
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR),
   ALREADY_DELETED(HttpStatus.CONFLICT),
   API_VERSION_MISSING(HttpStatus.BAD_REQUEST),
-  API_VERSION_INVALID(HttpStatus.BAD_REQUEST);
+  API_VERSION_INVALID(HttpStatus.BAD_REQUEST),
+  SERVER_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE);
 
   private final HttpStatus status;
 
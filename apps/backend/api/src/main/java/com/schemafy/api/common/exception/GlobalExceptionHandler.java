@@ -6,6 +6,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -41,6 +42,19 @@ public class GlobalExceptionHandler {
     return buildResponse(exchange, errorCode, e.getMessage());
   }
 
+  @ExceptionHandler(ServerOverloadedException.class)
+  public ResponseEntity<ProblemDetail> handleServerOverloadedException(
+      ServerOverloadedException e, ServerWebExchange exchange) {
+    ResponseEntity<ProblemDetail> response = buildResponse(exchange,
+        e.getErrorCode(), e.getMessage());
+    long retryAfterSeconds = Math.max(1L,
+        (e.getRetryAfter().toMillis() + 999L) / 1000L);
+    return ResponseEntity.status(response.getStatusCode())
+        .headers(response.getHeaders())
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+        .body(response.getBody());
+  }
+
   @ExceptionHandler(AuthorizationDeniedException.class)
   public ResponseEntity<ProblemDetail> handleAuthorizationDeniedException(
       AuthorizationDeniedException e, ServerWebExchange exchange) {
@@ -0,0 +1,19 @@
+package com.schemafy.api.common.exception;
+
+import java.time.Duration;
+
+import com.schemafy.core.common.exception.DomainException;
+
+import lombok.Getter;
+
+@Getter
+public class ServerOverloadedException extends DomainException {
+
+  private final Duration retryAfter;
+
+  public ServerOverloadedException(Duration retryAfter) {
+    super(CommonErrorCode.SERVER_OVERLOADED, "서버가 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    this.retryAfter = retryAfter;
+  }
+
+}
@@ -1,5 +1,7 @@
 package com.schemafy.api.common.security.hmac;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import lombok.Getter;
@@ -16,6 +18,16 @@ public class HmacProperties {
 
   private int timestampToleranceSeconds = 30;
 
+  private int nonceLocalCacheSize = 100_000;
+
+  private int nonceBatchSize = 64;
+
+  private int nonceMaxPending = 4_096;
+
+  private Duration nonceClaimTimeout = Duration.ofSeconds(2);
+
+  private Duration nonceRetryAfter = Duration.ofSeconds(1);
+
   private boolean enabled = true;
 
   private EnforcementMode enforcementMode = EnforcementMode.ENFORCE;
@@ -36,15 +36,22 @@ public final class HmacUtil {
   }
 
   public static String computeBodyHash(byte[] body) {
+    MessageDigest digest = newBodyDigest();
+    return bytesToHex(digest.digest(body != null ? body : new byte[0]));
+  }
+
+  public static MessageDigest newBodyDigest() {
     try {
-      MessageDigest digest = MessageDigest.getInstance(SHA256_ALGORITHM);
-      byte[] hash = digest.digest(body != null ? body : new byte[0]);
-      return bytesToHex(hash);
+      return MessageDigest.getInstance(SHA256_ALGORITHM);
     } catch (NoSuchAlgorithmException e) {
       throw new IllegalStateException("SHA-256 not available", e);
     }
   }
 
+  public static String completeBodyHash(MessageDigest digest) {
+    return bytesToHex(digest.digest());
+  }
+
   public static String buildHttpCanonicalString(String method,
       String path, String timestamp, String nonce, String bodyHash) {
     return method + "\n"
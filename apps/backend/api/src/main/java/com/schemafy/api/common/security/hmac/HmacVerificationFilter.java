@@ -1,10 +1,13 @@
 package com.schemafy.api.common.security.hmac;
 
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.crypto.SecretKey;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
@@ -14,6 +17,7 @@ import org.springframework.web.server.WebFilterChain;
 
 import com.schemafy.api.common.constant.ApiPath;
 import com.schemafy.api.common.exception.HmacErrorCode;
+import com.schemafy.api.common.exception.ServerOverloadedException;
 import com.schemafy.api.common.security.hmac.HmacProperties.EnforcementMode;
 import com.schemafy.api.common.security.jwt.WebExchangeErrorWriter;
 import com.schemafy.core.common.exception.DomainErrorCode;
@@ -87,21 +91,19 @@ public class HmacVerificationFilter implements WebFilter {
         return handleFailure(exchange, chain,
             HmacErrorCode.NONCE_DUPLICATE);
       }
-      return DataBufferUtils.join(request.getBody())
-          .defaultIfEmpty(
-              DefaultDataBufferFactory.sharedInstance.allocateBuffer(0))
-          .flatMap(dataBuffer -> {
-            byte[] bodyBytes = new byte[dataBuffer.readableByteCount()];
-            dataBuffer.read(bodyBytes);
-            DataBufferUtils.release(dataBuffer);
-
+      MessageDigest bodyDigest = HmacUtil.newBodyDigest();
+      return request.getBody()
+          .doOnNext(buffer -> updateBodyDigest(bodyDigest, buffer))
+          .collectList()
+          .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+          .flatMap(buffers -> {
             String method = request.getMethod().name();
             String requestPath = request.getURI().getRawPath();
             String query = request.getURI().getRawQuery();
             if (query != null && !query.isEmpty()) {
               requestPath = requestPath + "?" + query;
             }
-            String bodyHash = HmacUtil.computeBodyHash(bodyBytes);
+            String bodyHash = HmacUtil.completeBodyHash(bodyDigest);
             String canonical = HmacUtil.buildHttpCanonicalString(
                 method, requestPath, timestamp, nonce, bodyHash);
 
@@ -116,32 +118,40 @@ public class HmacVerificationFilter implements WebFilter {
               valid = HmacUtil.verifySignature(signature, fallback);
             }
 
-            ServerHttpRequest cachedRequest = new ServerHttpRequestDecorator(
-                request) {
-
-              @Override
-              public Flux<DataBuffer> getBody() {
-                if (bodyBytes.length == 0) {
-                  return Flux.empty();
-                }
-                DataBuffer buffer = DefaultDataBufferFactory.sharedInstance
-                    .wrap(bodyBytes);
-                return Flux.just(buffer);
-              }
-
-            };
-
+            RetainedBodyRequest retainedRequest = new RetainedBodyRequest(
+                request, buffers);
             ServerWebExchange mutated = exchange.mutate()
-                .request(cachedRequest).build();
-
-            if (!valid) {
-              return handleFailure(mutated, chain,
-                  HmacErrorCode.SIGNATURE_INVALID);
-            }
+                .request(retainedRequest).build();
 
-            return chain.filter(mutated);
+            Mono<Void> next = valid
+                ? chain.filter(mutated)
+                : handleFailure(mutated, chain,
+                    HmacErrorCode.SIGNATURE_INVALID);
+            return next.doFinally(signal -> retainedRequest.releaseIfUnread());
           });
-    });
+    }).onErrorResume(ServerOverloadedException.class,
+        e -> writeOverloaded(exchange, e));
+  }
+
+  // 필터에서 난 예외는 GlobalExceptionHandler에 닿지 않으므로 503과 Retry-After를 직접 쓴다
+  private Mono<Void> writeOverloaded(ServerWebExchange exchange,
+      ServerOverloadedException e) {
+    long retryAfterSeconds = Math.max(1L,
+        (e.getRetryAfter().toMillis() + 999L) / 1000L);
+    exchange.getResponse().getHeaders()
+        .set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    return errorWriter.writeErrorResponse(exchange, e.getErrorCode(),
+        e.getMessage());
+  }
+
+  private static void updateBodyDigest(MessageDigest digest,
+      DataBuffer buffer) {
+    try (DataBuffer.ByteBufferIterator iterator = buffer
+        .readableByteBuffers()) {
+      while (iterator.hasNext()) {
+        digest.update(iterator.next());
+      }
+    }
   }
 
   private boolean isTimestampValid(String timestampStr) {
@@ -168,4 +178,37 @@ public class HmacVerificationFilter implements WebFilter {
         errorCode.code());
   }
 
+  /**
+   * Replays the body buffers that were hashed during verification. The buffers are handed to the
+   * downstream decoder as-is, which releases them, so the body is never copied into a heap array.
+   */
+  private static final class RetainedBodyRequest
+      extends ServerHttpRequestDecorator {
+
+    private final List<DataBuffer> buffers;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    RetainedBodyRequest(ServerHttpRequest delegate,
+        List<DataBuffer> buffers) {
+      super(delegate);
+      this.buffers = buffers;
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+      return Flux.defer(() -> consumed.compareAndSet(false, true)
+          ? Flux.fromIterable(buffers)
+          : Flux.error(new IllegalStateException(
+              "Request body has already been consumed")))
+          .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    void releaseIfUnread() {
+      if (consumed.compareAndSet(false, true)) {
+        buffers.forEach(DataBufferUtils::release);
+      }
+    }
+
+  }
+
 }
@@ -1,12 +1,24 @@
 package com.schemafy.api.common.security.hmac;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schemafy.api.common.exception.ServerOverloadedException;
+
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 @Component
 @ConditionalOnProperty(prefix = "hmac", name = "enabled", havingValue = "true", matchIfMissing = true)
@@ -16,23 +28,115 @@ public class NonceCache {
 
   private final ReactiveStringRedisTemplate redisTemplate;
   private final Duration ttl;
+  private final int batchSize;
+  private final int maxPending;
+  private final Duration claimTimeout;
+  private final Duration retryAfter;
+  private final Cache<String, Boolean> localNonces;
+  private final Queue<PendingNonce> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final AtomicBoolean flushing = new AtomicBoolean();
+  private final AtomicInteger drainRequests = new AtomicInteger();
 
   public NonceCache(ReactiveStringRedisTemplate redisTemplate,
       HmacProperties hmacProperties) {
     this.redisTemplate = redisTemplate;
     this.ttl = Duration.ofSeconds(
         (long) hmacProperties.getTimestampToleranceSeconds() * 2);
+    this.batchSize = Math.max(1, hmacProperties.getNonceBatchSize());
+    this.maxPending = Math.max(batchSize, hmacProperties.getNonceMaxPending());
+    this.claimTimeout = hmacProperties.getNonceClaimTimeout();
+    this.retryAfter = hmacProperties.getNonceRetryAfter();
+    this.localNonces = Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(hmacProperties.getNonceLocalCacheSize())
+        .build();
   }
 
-  // 원자적으로 중복 + 삽입 연산하기 위해서
+  // 로컬에서 본 nonce는 Redis 왕복 없이 거절하고, 처음 본 nonce만 Redis에 원자적으로 선점한다
+  // 구독 전에는 로컬 기록도 대기열도 건드리지 않는다
   public Mono<Boolean> isDuplicate(String nonce) {
-    if (nonce == null || nonce.isBlank()) {
-      return Mono.just(true);
+    return Mono.defer(() -> {
+      if (nonce == null || nonce.isBlank()) {
+        return Mono.just(true);
+      }
+
+      if (localNonces.asMap().putIfAbsent(nonce, Boolean.TRUE) != null) {
+        return Mono.just(true);
+      }
+
+      // Redis가 느려 대기열이 가득 차면 요청을 쌓아두지 않고 바로 거절한다
+      if (pendingCount.incrementAndGet() > maxPending) {
+        pendingCount.decrementAndGet();
+        localNonces.invalidate(nonce);
+        return Mono.error(new ServerOverloadedException(retryAfter));
+      }
+
+      return Mono.<Boolean>create(sink -> {
+        pending.add(new PendingNonce(nonce, sink));
+        drain();
+      })
+          .map(claimed -> !claimed)
+          .doOnError(e -> localNonces.invalidate(nonce));
+    });
+  }
+
+  // 한 스레드만 루프를 돌고, 그 사이 들어온 요청은 횟수만 남겨 같은 루프가 이어서 처리한다
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      if (!flushing.get()) {
+        List<PendingNonce> batch = pollBatch();
+        if (!batch.isEmpty()) {
+          flushing.set(true);
+          claim(batch).subscribe(
+              claimed -> complete(batch, claimed),
+              error -> {
+                batch.forEach(item -> item.sink().error(error));
+                finishFlush();
+              },
+              this::finishFlush);
+        }
+      }
+      missed = drainRequests.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private List<PendingNonce> pollBatch() {
+    List<PendingNonce> batch = new ArrayList<>(batchSize);
+    PendingNonce next;
+    while (batch.size() < batchSize && (next = pending.poll()) != null) {
+      pendingCount.decrementAndGet();
+      batch.add(next);
     }
+    return batch;
+  }
+
+  private void finishFlush() {
+    flushing.set(false);
+    drain();
+  }
+
+  // 키마다 SET NX EX를 보내되 응답을 기다리지 않고 이어 보내므로 한 번의 왕복에 가깝고, 클러스터에서도 키별 노드로 나뉜다
+  private Mono<List<Boolean>> claim(List<PendingNonce> batch) {
+    return Flux.fromIterable(batch)
+        .flatMapSequential(item -> redisTemplate.opsForValue()
+            .setIfAbsent(KEY_PREFIX + item.nonce(), "1", ttl)
+            .defaultIfEmpty(false))
+        .collectList()
+        .timeout(claimTimeout);
+  }
+
+  private static void complete(List<PendingNonce> batch, List<Boolean> claimed) {
+    for (int i = 0; i < batch.size(); i++) {
+      batch.get(i).sink().success(claimed.get(i));
+    }
+  }
 
-    return redisTemplate.opsForValue()
-        .setIfAbsent(KEY_PREFIX + nonce, "1", ttl)
-        .map(created -> !created);
+  private record PendingNonce(String nonce, MonoSink<Boolean> sink) {
   }
 
 }
@@ -1,5 +1,7 @@
 package com.schemafy.api.common.security.jwt;
 
+import java.time.Instant;
+
 import jakarta.validation.constraints.NotNull;
 
 import org.springframework.http.HttpHeaders;
@@ -24,7 +26,6 @@ import io.jsonwebtoken.JwtException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Component
 @RequiredArgsConstructor
@@ -32,9 +33,9 @@ public class JwtAuthenticationFilter implements WebFilter {
 
   private static final String BEARER_PREFIX = "Bearer ";
   private static final String ACCESS_TOKEN_COOKIE_NAME = "accessToken";
-  private static final String CLAIM_NAME = "name";
 
   private final JwtProvider jwtProvider;
+  private final VerifiedJwtCache verifiedJwtCache;
   private final WebExchangeErrorWriter errorResponseWriter;
 
   @Override
@@ -48,8 +49,7 @@ public class JwtAuthenticationFilter implements WebFilter {
 
     boolean publicPath = isPublicPath(exchange.getRequest());
 
-    return Mono.fromCallable(() -> validateTokenAndGetAuth(token))
-        .subscribeOn(Schedulers.boundedElastic())
+    return Mono.fromSupplier(() -> validateTokenAndGetAuth(token))
         .onErrorResume(e -> Mono.just(
             AuthenticationResult
                 .error(AuthErrorCode.TOKEN_VALIDATION_ERROR)))
@@ -80,21 +80,22 @@ public class JwtAuthenticationFilter implements WebFilter {
 
   private AuthenticationResult validateTokenAndGetAuth(String token) {
     try {
-      String userId = jwtProvider.extractUserId(token);
-      String tokenType = jwtProvider.getTokenType(token);
+      VerifiedJwt jwt = verifiedJwtCache.verify(token);
 
-      if (!JwtProvider.ACCESS_TOKEN.equals(tokenType)) {
+      if (!JwtProvider.ACCESS_TOKEN.equals(jwt.tokenType())) {
         return AuthenticationResult
             .error(AuthErrorCode.INVALID_ACCESS_TOKEN_TYPE);
       }
 
-      if (!jwtProvider.validateToken(token, userId)) {
+      if (jwt.isExpired(Instant.now())) {
+        return AuthenticationResult.error(AuthErrorCode.EXPIRED_TOKEN);
+      }
+
+      if (!jwtProvider.isTrusted(jwt)) {
         return AuthenticationResult.error(AuthErrorCode.INVALID_TOKEN);
       }
 
-      String userName = jwtProvider.extractClaim(token,
-          claims -> claims.get(CLAIM_NAME, String.class));
-      AuthenticatedUser principal = createPrincipal(userId, userName);
+      AuthenticatedUser principal = createPrincipal(jwt.userId(), jwt.name());
       UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
           principal, null, principal.getAuthorities());
 
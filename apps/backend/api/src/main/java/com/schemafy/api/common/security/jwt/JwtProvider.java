@@ -2,6 +2,7 @@ package com.schemafy.api.common.security.jwt;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -89,24 +90,23 @@ public class JwtProvider {
 
   public boolean validateToken(String token, String userId) {
     try {
-      Claims claims = extractAllClaims(token);
-
-      // 정책 체크
-      if (!Objects.equals(jwtProperties.getIssuer(), claims.getIssuer()))
-        return false;
-      if (claims.getAudience() == null || !claims.getAudience()
-          .contains(jwtProperties.getAudience()))
-        return false;
-      if (!Objects.equals(userId, claims.getSubject()))
-        return false;
-      if (claims.getExpiration() == null || isTokenExpired(token))
-        return false;
+      VerifiedJwt jwt = verify(token);
+      return isTrusted(jwt) && Objects.equals(userId, jwt.userId());
     } catch (Exception e) {
       return false;
     }
+  }
+
+  public VerifiedJwt verify(String token) {
+    return VerifiedJwt.from(extractAllClaims(token));
+  }
 
-    final String extractedUserId = extractUserId(token);
-    return extractedUserId.equals(userId);
+  // 정책 체크
+  public boolean isTrusted(VerifiedJwt jwt) {
+    return jwt.userId() != null
+        && Objects.equals(jwtProperties.getIssuer(), jwt.issuer())
+        && jwt.audience().contains(jwtProperties.getAudience())
+        && !jwt.isExpired(Instant.now());
   }
 
   public String getTokenType(String token) {
@@ -0,0 +1,40 @@
+package com.schemafy.api.common.security.jwt;
+
+import java.time.Instant;
+import java.util.Set;
+
+import io.jsonwebtoken.Claims;
+
+/** Claims of a token whose signature has been verified once. */
+public record VerifiedJwt(
+    String userId,
+    String tokenType,
+    String name,
+    String issuer,
+    Set<String> audience,
+    Instant expiresAt) {
+
+  private static final String CLAIM_TYPE = "type";
+  private static final String CLAIM_NAME = "name";
+
+  public VerifiedJwt {
+    audience = audience == null ? Set.of() : Set.copyOf(audience);
+  }
+
+  static VerifiedJwt from(Claims claims) {
+    return new VerifiedJwt(
+        claims.getSubject(),
+        claims.get(CLAIM_TYPE, String.class),
+        claims.get(CLAIM_NAME, String.class),
+        claims.getIssuer(),
+        claims.getAudience(),
+        claims.getExpiration() == null
+            ? null
+            : claims.getExpiration().toInstant());
+  }
+
+  public boolean isExpired(Instant now) {
+    return expiresAt == null || !expiresAt.isAfter(now);
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.schemafy.api.common.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Remembers tokens whose signature was already verified, keyed by the SHA-256 of the token so raw
+ * tokens are not retained. Entries never outlive the token's own expiration.
+ */
+@Component
+public class VerifiedJwtCache {
+
+  private final JwtProvider jwtProvider;
+  private final Clock clock;
+  private final Cache<String, VerifiedJwt> cache;
+
+  public VerifiedJwtCache(
+      JwtProvider jwtProvider,
+      Clock clock,
+      @Value("${jwt.verified-cache.maximum-size:50000}") long maximumSize,
+      @Value("${jwt.verified-cache.max-ttl:10m}") Duration maxTtl) {
+    this.jwtProvider = jwtProvider;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(Expiry.<String, VerifiedJwt>creating(
+            (key, jwt) -> timeToLive(jwt, maxTtl)))
+        .build();
+  }
+
+  /** Returns the verified claims, parsing and checking the signature only on a cache miss. */
+  public VerifiedJwt verify(String token) {
+    String key = digest(token);
+    VerifiedJwt cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    VerifiedJwt verified = jwtProvider.verify(token);
+    if (!verified.isExpired(clock.instant())) {
+      cache.put(key, verified);
+    }
+    return verified;
+  }
+
+  private Duration timeToLive(VerifiedJwt jwt, Duration maxTtl) {
+    Duration remaining = Duration.between(clock.instant(), jwt.expiresAt());
+    if (remaining.isNegative()) {
+      return Duration.ZERO;
+    }
+    return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+  }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+}
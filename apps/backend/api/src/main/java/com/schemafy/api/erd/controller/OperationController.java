@@ -1,16 +1,28 @@
 package com.schemafy.api.erd.controller;
 
+import jakarta.validation.Valid;
+
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.schemafy.api.common.constant.ApiPath;
 import com.schemafy.api.common.type.MutationResponse;
+import com.schemafy.api.erd.controller.dto.request.ApplyErdMutationBatchRequest;
+import com.schemafy.api.erd.controller.dto.response.ErdMutationBatchResponse;
+import com.schemafy.api.erd.controller.dto.response.SchemaRevisionResponse;
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.erd.broadcast.ErdMutationBroadcaster;
 import com.schemafy.core.erd.operation.application.inverse.StructuralOperationInverse;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchUseCase;
+import com.schemafy.core.erd.operation.application.port.in.ErdMutationBatchItem;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionQuery;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionUseCase;
 import com.schemafy.core.erd.operation.application.port.in.RedoErdOperationCommand;
 import com.schemafy.core.erd.operation.application.port.in.RedoErdOperationUseCase;
 import com.schemafy.core.erd.operation.application.port.in.UndoErdOperationCommand;
@@ -26,6 +38,8 @@ public class OperationController {
 
   private final UndoErdOperationUseCase undoErdOperationUseCase;
   private final RedoErdOperationUseCase redoErdOperationUseCase;
+  private final ApplyErdMutationBatchUseCase applyErdMutationBatchUseCase;
+  private final GetSchemaAtRevisionUseCase getSchemaAtRevisionUseCase;
   private final ObjectProvider<ErdMutationBroadcaster> broadcasterProvider;
 
   @PostMapping("/operations/{opId}/undo")
@@ -44,6 +58,41 @@ public class OperationController {
             result.affectedTableIds(), result.operation()));
   }
 
+  @PostMapping("/schemas/{schemaId}/mutations/batch")
+  public Mono<MutationResponse<ErdMutationBatchResponse>> applyMutationBatch(
+      @PathVariable String schemaId,
+      @Valid @RequestBody ApplyErdMutationBatchRequest request) {
+    ApplyErdMutationBatchCommand command = new ApplyErdMutationBatchCommand(
+        schemaId,
+        request.mutations().stream()
+            .map(item -> new ErdMutationBatchItem(item.ref(), item.type(), item.payload()))
+            .toList());
+    return applyErdMutationBatchUseCase.applyMutationBatch(command)
+        .flatMap(result -> broadcastSchemaMutation(schemaId, result)
+            .thenReturn(result))
+        .map(result -> MutationResponse.of(
+            ErdMutationBatchResponse.from(result.result()),
+            result.affectedTableIds(),
+            result.operation()));
+  }
+
+  @GetMapping("/schemas/{schemaId}/revisions/{revision}")
+  public Mono<SchemaRevisionResponse> getSchemaAtRevision(
+      @PathVariable String schemaId,
+      @PathVariable long revision) {
+    return Mono.fromCallable(() -> new GetSchemaAtRevisionQuery(schemaId, revision))
+        .flatMap(getSchemaAtRevisionUseCase::getSchemaAtRevision)
+        .map(SchemaRevisionResponse::from);
+  }
+
+  private Mono<Void> broadcastSchemaMutation(String schemaId, MutationResult<?> result) {
+    ErdMutationBroadcaster broadcaster = broadcasterProvider.getIfAvailable();
+    if (broadcaster == null) {
+      return Mono.empty();
+    }
+    return broadcaster.broadcastSchemaMutation(schemaId, result.affectedTableIds(), result.operation());
+  }
+
   private Mono<MutationResult<Void>> broadcastMutation(
       MutationResult<Void> result) {
     return broadcast(result)
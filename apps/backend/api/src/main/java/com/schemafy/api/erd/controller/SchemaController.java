@@ -18,18 +18,32 @@ import org.springframework.web.bind.annotation.RestController;
 import com.schemafy.api.common.constant.ApiPath;
 import com.schemafy.api.common.type.MutationResponse;
 import com.schemafy.api.erd.controller.dto.request.ChangeSchemaNameRequest;
+import com.schemafy.api.erd.controller.dto.request.CloneSchemaRequest;
 import com.schemafy.api.erd.controller.dto.request.CreateSchemaRequest;
+import com.schemafy.api.erd.controller.dto.request.ImportSchemaDdlRequest;
+import com.schemafy.api.erd.controller.dto.response.SchemaCloneResponse;
 import com.schemafy.api.erd.controller.dto.response.SchemaDdlExportResponse;
+import com.schemafy.api.erd.controller.dto.response.SchemaDdlImportResponse;
+import com.schemafy.api.erd.controller.dto.response.SchemaDiffResponse;
 import com.schemafy.api.erd.controller.dto.response.SchemaMermaidExportResponse;
+import com.schemafy.api.erd.controller.dto.response.SchemaOutlineResponse;
 import com.schemafy.api.erd.controller.dto.response.SchemaResponse;
 import com.schemafy.api.erd.controller.dto.response.SchemaSnapshotsResponse;
+import com.schemafy.api.erd.controller.dto.response.SchemaViewportResponse;
 import com.schemafy.api.erd.service.SchemaDdlExportOrchestrator;
 import com.schemafy.api.erd.service.SchemaMermaidExportOrchestrator;
 import com.schemafy.api.erd.service.SchemaSnapshotOrchestrator;
+import com.schemafy.api.erd.service.SchemaViewportOrchestrator;
 import com.schemafy.core.erd.broadcast.ErdMutationBroadcaster;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlCommand;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlUseCase;
+import com.schemafy.core.erd.diff.application.port.in.GetSchemaDiffQuery;
+import com.schemafy.core.erd.diff.application.port.in.GetSchemaDiffUseCase;
 import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
 import com.schemafy.core.erd.schema.application.port.in.ChangeSchemaNameCommand;
 import com.schemafy.core.erd.schema.application.port.in.ChangeSchemaNameUseCase;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaCommand;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaUseCase;
 import com.schemafy.core.erd.schema.application.port.in.CreateSchemaCommand;
 import com.schemafy.core.erd.schema.application.port.in.CreateSchemaUseCase;
 import com.schemafy.core.erd.schema.application.port.in.DeleteSchemaCommand;
@@ -38,6 +52,7 @@ import com.schemafy.core.erd.schema.application.port.in.GetSchemaQuery;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemaWithRevisionUseCase;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemasByProjectIdQuery;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemasByProjectIdUseCase;
+import com.schemafy.core.erd.viewport.application.port.in.GetSchemaViewportQuery;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
@@ -52,7 +67,11 @@ public class SchemaController {
   private final GetSchemasByProjectIdUseCase getSchemasByProjectIdUseCase;
   private final ChangeSchemaNameUseCase changeSchemaNameUseCase;
   private final DeleteSchemaUseCase deleteSchemaUseCase;
+  private final ImportSchemaDdlUseCase importSchemaDdlUseCase;
+  private final CloneSchemaUseCase cloneSchemaUseCase;
+  private final GetSchemaDiffUseCase getSchemaDiffUseCase;
   private final SchemaSnapshotOrchestrator schemaSnapshotOrchestrator;
+  private final SchemaViewportOrchestrator schemaViewportOrchestrator;
   private final SchemaDdlExportOrchestrator schemaDdlExportOrchestrator;
   private final SchemaMermaidExportOrchestrator schemaMermaidExportOrchestrator;
 
@@ -77,6 +96,42 @@ public class SchemaController {
             result.operation()));
   }
 
+  @PostMapping("/schemas/imports/ddl")
+  public Mono<MutationResponse<SchemaDdlImportResponse>> importSchemaDdl(
+      @Valid @RequestBody ImportSchemaDdlRequest request) {
+    ImportSchemaDdlCommand command = new ImportSchemaDdlCommand(
+        request.projectId(),
+        request.name(),
+        request.charset(),
+        request.collation(),
+        request.ddl());
+    return importSchemaDdlUseCase.importSchemaDdl(command)
+        .flatMap(result -> broadcastSchemaChange(
+            result.result().schemaId(),
+            result.operation())
+            .thenReturn(result))
+        .map(result -> MutationResponse.of(
+            SchemaDdlImportResponse.from(result.result()),
+            result.affectedTableIds(),
+            result.operation()));
+  }
+
+  @PostMapping("/schemas/{schemaId}/clones")
+  public Mono<MutationResponse<SchemaCloneResponse>> cloneSchema(
+      @PathVariable String schemaId,
+      @Valid @RequestBody CloneSchemaRequest request) {
+    CloneSchemaCommand command = new CloneSchemaCommand(schemaId, request.name());
+    return cloneSchemaUseCase.cloneSchema(command)
+        .flatMap(result -> broadcastSchemaChange(
+            result.result().schemaId(),
+            result.operation())
+            .thenReturn(result))
+        .map(result -> MutationResponse.of(
+            SchemaCloneResponse.from(result.result()),
+            result.affectedTableIds(),
+            result.operation()));
+  }
+
   @GetMapping("/schemas/{schemaId}")
   public Mono<SchemaResponse> getSchema(
       @PathVariable String schemaId) {
@@ -91,6 +146,30 @@ public class SchemaController {
     return schemaSnapshotOrchestrator.getSchemaSnapshots(schemaId);
   }
 
+  @GetMapping("/schemas/{schemaId}/viewport")
+  public Mono<SchemaViewportResponse> getSchemaViewport(
+      @PathVariable String schemaId,
+      @RequestParam double x,
+      @RequestParam double y,
+      @RequestParam double width,
+      @RequestParam double height) {
+    return Mono.fromCallable(() -> GetSchemaViewportQuery.of(
+        schemaId, x, y, width, height))
+        .flatMap(schemaViewportOrchestrator::getSchemaViewport);
+  }
+
+  @GetMapping("/schemas/{schemaId}/outline")
+  public Mono<SchemaOutlineResponse> getSchemaOutline(
+      @PathVariable String schemaId,
+      @RequestParam(required = false) Double x,
+      @RequestParam(required = false) Double y,
+      @RequestParam(required = false) Double width,
+      @RequestParam(required = false) Double height) {
+    return Mono.fromCallable(() -> GetSchemaViewportQuery.of(
+        schemaId, x, y, width, height))
+        .flatMap(schemaViewportOrchestrator::getSchemaOutline);
+  }
+
   @GetMapping("/schemas/{schemaId}/exports/ddl")
   public Mono<SchemaDdlExportResponse> exportSchemaDdl(
       @PathVariable String schemaId,
@@ -105,6 +184,17 @@ public class SchemaController {
     return schemaMermaidExportOrchestrator.exportSchemaMermaid(schemaId);
   }
 
+  @GetMapping("/schemas/{schemaId}/diff")
+  public Mono<SchemaDiffResponse> getSchemaDiff(
+      @PathVariable String schemaId,
+      @RequestParam String baseSchemaId,
+      @RequestParam(required = false) Long baseRevision,
+      @RequestParam(required = false) Long revision) {
+    return Mono.fromCallable(() -> new GetSchemaDiffQuery(baseSchemaId, baseRevision, schemaId, revision))
+        .flatMap(getSchemaDiffUseCase::getSchemaDiff)
+        .map(SchemaDiffResponse::from);
+  }
+
   @GetMapping("/projects/{projectId}/schemas")
   public Mono<List<SchemaResponse>> getSchemasByProjectId(
       @PathVariable String projectId) {
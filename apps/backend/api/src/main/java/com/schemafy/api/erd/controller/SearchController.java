@@ -0,0 +1,37 @@
+package com.schemafy.api.erd.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.schemafy.api.common.constant.ApiPath;
+import com.schemafy.api.erd.controller.dto.response.ProjectSearchResponse;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectQuery;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectUseCase;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(ApiPath.API)
+@RequiredArgsConstructor
+public class SearchController {
+
+  private final SearchProjectUseCase searchProjectUseCase;
+
+  @GetMapping("/projects/{projectId}/search")
+  public Mono<ProjectSearchResponse> searchProject(
+      @PathVariable String projectId,
+      @RequestParam String q,
+      @RequestParam(required = false) Integer limit) {
+    return Mono.fromCallable(() -> new SearchProjectQuery(
+        projectId,
+        q,
+        limit == null ? SearchProjectQuery.DEFAULT_LIMIT : limit))
+        .flatMap(searchProjectUseCase::searchProject)
+        .map(ProjectSearchResponse::from);
+  }
+
+}
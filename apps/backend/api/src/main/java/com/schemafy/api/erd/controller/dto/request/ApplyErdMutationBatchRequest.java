@@ -0,0 +1,13 @@
+package com.schemafy.api.erd.controller.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record ApplyErdMutationBatchRequest(
+    @NotEmpty(message = "mutations는 비어 있을 수 없습니다.")
+    @Size(max = 200, message = "mutations는 최대 200개까지 보낼 수 있습니다.")
+    List<@Valid ErdMutationBatchItemRequest> mutations) {
+}
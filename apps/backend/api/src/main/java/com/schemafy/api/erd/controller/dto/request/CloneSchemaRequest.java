@@ -0,0 +1,7 @@
+package com.schemafy.api.erd.controller.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record CloneSchemaRequest(
+    @NotBlank(message = "name은 필수입니다.") String name) {
+}
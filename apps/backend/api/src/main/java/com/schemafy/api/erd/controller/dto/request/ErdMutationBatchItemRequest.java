@@ -0,0 +1,12 @@
+package com.schemafy.api.erd.controller.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+
+public record ErdMutationBatchItemRequest(
+    String ref,
+    @NotNull(message = "type은 필수입니다.") ErdOperationType type,
+    @NotNull(message = "payload는 필수입니다.") JsonNode payload) {
+}
@@ -0,0 +1,15 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import com.schemafy.core.erd.operation.application.port.in.ErdMutationBatchItemResult;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+
+public record ErdMutationBatchItemResponse(
+    String ref,
+    ErdOperationType type,
+    String createdId) {
+
+  public static ErdMutationBatchItemResponse from(ErdMutationBatchItemResult result) {
+    return new ErdMutationBatchItemResponse(result.ref(), result.type(), result.createdId());
+  }
+
+}
@@ -0,0 +1,19 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import java.util.List;
+
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+
+public record ErdMutationBatchResponse(
+    String schemaId,
+    List<ErdMutationBatchItemResponse> mutations) {
+
+  public static ErdMutationBatchResponse from(ApplyErdMutationBatchResult result) {
+    return new ErdMutationBatchResponse(
+        result.schemaId(),
+        result.mutations().stream()
+            .map(ErdMutationBatchItemResponse::from)
+            .toList());
+  }
+
+}
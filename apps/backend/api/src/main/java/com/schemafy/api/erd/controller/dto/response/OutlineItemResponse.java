@@ -0,0 +1,23 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import com.schemafy.core.erd.viewport.domain.ViewportItem;
+
+public record OutlineItemResponse(
+    String id,
+    String name,
+    double x,
+    double y,
+    double width,
+    double height) {
+
+  public static OutlineItemResponse from(ViewportItem item) {
+    return new OutlineItemResponse(
+        item.id(),
+        item.name(),
+        item.bounds().x(),
+        item.bounds().y(),
+        item.bounds().width(),
+        item.bounds().height());
+  }
+
+}
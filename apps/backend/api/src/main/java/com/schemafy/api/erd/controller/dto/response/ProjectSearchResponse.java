@@ -0,0 +1,13 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import java.util.List;
+
+import com.schemafy.core.erd.search.domain.SearchHit;
+
+public record ProjectSearchResponse(List<SearchHitResponse> hits) {
+
+  public static ProjectSearchResponse from(List<SearchHit> hits) {
+    return new ProjectSearchResponse(hits.stream().map(SearchHitResponse::from).toList());
+  }
+
+}
@@ -0,0 +1,27 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import java.util.List;
+
+import com.schemafy.core.erd.diff.domain.SchemaChange;
+
+public record SchemaChangeResponse(
+    String elementType,
+    String changeType,
+    String baseId,
+    String targetId,
+    String tableName,
+    String name,
+    List<String> changedFields) {
+
+  public static SchemaChangeResponse from(SchemaChange change) {
+    return new SchemaChangeResponse(
+        change.elementType().name(),
+        change.changeType().name(),
+        change.baseId(),
+        change.targetId(),
+        change.tableName(),
+        change.name(),
+        change.changedFields());
+  }
+
+}
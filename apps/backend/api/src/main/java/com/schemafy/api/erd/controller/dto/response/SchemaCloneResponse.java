@@ -0,0 +1,25 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaResult;
+
+public record SchemaCloneResponse(
+    String id,
+    String sourceSchemaId,
+    String projectId,
+    String name,
+    String charset,
+    String collation,
+    int tableCount) {
+
+  public static SchemaCloneResponse from(CloneSchemaResult result) {
+    return new SchemaCloneResponse(
+        result.schemaId(),
+        result.sourceSchemaId(),
+        result.projectId(),
+        result.name(),
+        result.charset(),
+        result.collation(),
+        result.tableCount());
+  }
+
+}
@@ -0,0 +1,27 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import java.util.List;
+
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlResult;
+
+public record SchemaDdlImportResponse(
+    String id,
+    String projectId,
+    String name,
+    String charset,
+    String collation,
+    int tableCount,
+    List<String> warnings) {
+
+  public static SchemaDdlImportResponse from(ImportSchemaDdlResult result) {
+    return new SchemaDdlImportResponse(
+        result.schemaId(),
+        result.projectId(),
+        result.name(),
+        result.charset(),
+        result.collation(),
+        result.tableCount(),
+        result.warnings());
+  }
+
+}
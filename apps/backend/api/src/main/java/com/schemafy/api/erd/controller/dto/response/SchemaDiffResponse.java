@@ -0,0 +1,27 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import java.util.List;
+
+import com.schemafy.core.erd.diff.application.port.in.SchemaDiffResult;
+
+public record SchemaDiffResponse(
+    String baseSchemaId,
+    long baseRevision,
+    String schemaId,
+    long currentRevision,
+    List<SchemaChangeResponse> changes,
+    String migrationDdl) {
+
+  public static SchemaDiffResponse from(SchemaDiffResult result) {
+    return new SchemaDiffResponse(
+        result.baseSchemaId(),
+        result.baseRevision(),
+        result.schemaId(),
+        result.currentRevision(),
+        result.changes().stream()
+            .map(SchemaChangeResponse::from)
+            .toList(),
+        result.migrationDdl());
+  }
+
+}
@@ -0,0 +1,19 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import java.util.List;
+
+import com.schemafy.core.erd.viewport.application.port.in.SchemaViewport;
+
+public record SchemaOutlineResponse(
+    long currentRevision,
+    List<OutlineItemResponse> tables,
+    List<OutlineItemResponse> memos) {
+
+  public static SchemaOutlineResponse from(SchemaViewport viewport) {
+    return new SchemaOutlineResponse(
+        viewport.currentRevision(),
+        viewport.tables().stream().map(OutlineItemResponse::from).toList(),
+        viewport.memos().stream().map(OutlineItemResponse::from).toList());
+  }
+
+}
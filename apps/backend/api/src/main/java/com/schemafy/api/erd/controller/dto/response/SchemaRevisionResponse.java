@@ -0,0 +1,22 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.port.in.SchemaAtRevisionResult;
+
+public record SchemaRevisionResponse(
+    String schemaId,
+    long revision,
+    long baseRevision,
+    int rewoundOperationCount,
+    StructuralSnapshot structure) {
+
+  public static SchemaRevisionResponse from(SchemaAtRevisionResult result) {
+    return new SchemaRevisionResponse(
+        result.schemaId(),
+        result.revision(),
+        result.baseRevision(),
+        result.rewoundOperationCount(),
+        result.structure());
+  }
+
+}
@@ -0,0 +1,10 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+public record SchemaViewportResponse(
+    long currentRevision,
+    Map<String, TableSnapshotResponse> snapshots,
+    List<MemoResponse> memos) {
+}
@@ -0,0 +1,27 @@
+package com.schemafy.api.erd.controller.dto.response;
+
+import com.schemafy.core.erd.search.domain.SearchHit;
+
+public record SearchHitResponse(
+    String type,
+    String id,
+    String schemaId,
+    String tableId,
+    String memoId,
+    String label,
+    String field,
+    String text) {
+
+  public static SearchHitResponse from(SearchHit hit) {
+    return new SearchHitResponse(
+        hit.type().name(),
+        hit.id(),
+        hit.schemaId(),
+        hit.tableId(),
+        hit.memoId(),
+        hit.label(),
+        hit.field().name(),
+        hit.text());
+  }
+
+}
@@ -31,9 +31,9 @@ import com.schemafy.core.erd.memo.application.port.in.UpdateMemoPositionUseCase;
 import com.schemafy.core.erd.memo.domain.Memo;
 import com.schemafy.core.erd.memo.domain.MemoComment;
 import com.schemafy.core.erd.memo.domain.MemoDetail;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsQuery;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsUseCase;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.application.port.in.GetUserSummariesQuery;
+import com.schemafy.core.user.application.port.in.GetUserSummariesUseCase;
+import com.schemafy.core.user.domain.UserSummary;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
@@ -50,7 +50,7 @@ public class MemoOrchestrator {
   private final CreateMemoCommentUseCase createMemoCommentUseCase;
   private final GetMemoCommentsUseCase getMemoCommentsUseCase;
   private final UpdateMemoCommentUseCase updateMemoCommentUseCase;
-  private final GetUsersByIdsUseCase getUsersByIdsUseCase;
+  private final GetUserSummariesUseCase getUserSummariesUseCase;
   private final MemoApiCommandMapper commandMapper;
   private final MemoApiResponseMapper responseMapper;
   private final JsonCodec jsonCodec;
@@ -75,6 +75,18 @@ public class MemoOrchestrator {
         .flatMapMany(this::mapMemosToResponses);
   }
 
+  public Flux<MemoResponse> getMemosBySchemaIdAndIds(String schemaId,
+      Set<String> memoIds) {
+    if (memoIds.isEmpty()) {
+      return Flux.empty();
+    }
+    return getMemosBySchemaIdUseCase.getMemosBySchemaId(
+        commandMapper.toGetMemosBySchemaIdQuery(schemaId))
+        .filter(memo -> memoIds.contains(memo.id()))
+        .collectList()
+        .flatMapMany(this::mapMemosToResponses);
+  }
+
   public Mono<MemoResponse> updateMemo(String memoId,
       UpdateMemoRequest request, AuthenticatedUser user) {
     return updateMemoPositionUseCase.updateMemoPosition(
@@ -172,9 +184,10 @@ public class MemoOrchestrator {
     if (userIds.isEmpty()) {
       return Mono.just(Collections.emptyMap());
     }
-    return getUsersByIdsUseCase.getUsersByIds(new GetUsersByIdsQuery(userIds))
-        .collectMap(User::id,
-            user -> new UserSummaryResponse(user.id(), user.name()));
+    return getUserSummariesUseCase.getUserSummaries(new GetUserSummariesQuery(userIds))
+        .map(summaries -> summaries.values().stream()
+            .collect(Collectors.toMap(UserSummary::id,
+                summary -> new UserSummaryResponse(summary.id(), summary.name()))));
   }
 
   private Mono<UserSummaryResponse> getUserSummary(String userId) {
@@ -10,6 +10,7 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import com.schemafy.api.erd.controller.dto.response.SchemaSnapshotsResponse;
 import com.schemafy.api.erd.controller.dto.response.TableSnapshotResponse;
+import com.schemafy.core.common.r2dbc.ReadRouting;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemaQuery;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemaWithRevisionUseCase;
 import com.schemafy.core.erd.table.application.port.in.GetTablesBySchemaIdQuery;
@@ -53,7 +54,8 @@ public class SchemaSnapshotOrchestrator {
               result.currentRevision(),
               snapshots));
         }))
-        .as(transactionalOperator::transactional);
+        .as(transactionalOperator::transactional)
+        .contextWrite(ReadRouting.preferReplica());
   }
 
   private static TransactionalOperator createReadTransactionalOperator(
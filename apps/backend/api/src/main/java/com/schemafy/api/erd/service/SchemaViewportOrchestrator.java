@@ -0,0 +1,84 @@
+package com.schemafy.api.erd.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import com.schemafy.api.erd.controller.dto.response.SchemaOutlineResponse;
+import com.schemafy.api.erd.controller.dto.response.SchemaViewportResponse;
+import com.schemafy.api.erd.controller.dto.response.TableSnapshotResponse;
+import com.schemafy.core.erd.viewport.application.port.in.GetSchemaViewportQuery;
+import com.schemafy.core.erd.viewport.application.port.in.GetSchemaViewportUseCase;
+import com.schemafy.core.erd.viewport.domain.ViewportItem;
+
+import reactor.core.publisher.Mono;
+
+@Service
+public class SchemaViewportOrchestrator {
+
+  private final GetSchemaViewportUseCase getSchemaViewportUseCase;
+  private final TableSnapshotOrchestrator tableSnapshotOrchestrator;
+  private final MemoOrchestrator memoOrchestrator;
+  private final TransactionalOperator transactionalOperator;
+
+  public SchemaViewportOrchestrator(
+      GetSchemaViewportUseCase getSchemaViewportUseCase,
+      TableSnapshotOrchestrator tableSnapshotOrchestrator,
+      MemoOrchestrator memoOrchestrator,
+      ReactiveTransactionManager transactionManager) {
+    this.getSchemaViewportUseCase = getSchemaViewportUseCase;
+    this.tableSnapshotOrchestrator = tableSnapshotOrchestrator;
+    this.memoOrchestrator = memoOrchestrator;
+    this.transactionalOperator = createReadTransactionalOperator(
+        transactionManager);
+  }
+
+  public Mono<SchemaViewportResponse> getSchemaViewport(
+      GetSchemaViewportQuery query) {
+    return Mono.defer(() -> getSchemaViewportUseCase.getSchemaViewport(query)
+        .flatMap(viewport -> {
+          List<String> tableIds = viewport.tables().stream()
+              .map(ViewportItem::id)
+              .toList();
+          Set<String> memoIds = viewport.memos().stream()
+              .map(ViewportItem::id)
+              .collect(Collectors.toSet());
+
+          Mono<Map<String, TableSnapshotResponse>> snapshotsMono = tableIds.isEmpty()
+              ? Mono.just(Map.of())
+              : tableSnapshotOrchestrator.getTableSnapshotsStrict(tableIds);
+
+          return snapshotsMono.flatMap(snapshots -> memoOrchestrator
+              .getMemosBySchemaIdAndIds(query.schemaId(), memoIds)
+              .collectList()
+              .map(memos -> new SchemaViewportResponse(
+                  viewport.currentRevision(),
+                  snapshots,
+                  memos)));
+        }))
+        .as(transactionalOperator::transactional);
+  }
+
+  public Mono<SchemaOutlineResponse> getSchemaOutline(
+      GetSchemaViewportQuery query) {
+    return getSchemaViewportUseCase.getSchemaViewport(query)
+        .map(SchemaOutlineResponse::from);
+  }
+
+  private static TransactionalOperator createReadTransactionalOperator(
+      ReactiveTransactionManager transactionManager) {
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+    definition.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    definition.setName("schemaViewportRead");
+    return TransactionalOperator.create(transactionManager, definition);
+  }
+
+}
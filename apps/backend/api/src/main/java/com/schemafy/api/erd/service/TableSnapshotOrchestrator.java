@@ -6,6 +6,10 @@ import java.util.Map;
 import java.util.function.Function;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import com.schemafy.api.erd.controller.dto.response.ColumnResponse;
 import com.schemafy.api.erd.controller.dto.response.ConstraintColumnResponse;
@@ -20,6 +24,7 @@ import com.schemafy.api.erd.controller.dto.response.TableResponse;
 import com.schemafy.api.erd.controller.dto.response.TableSnapshotResponse;
 import com.schemafy.api.erd.service.relationship.RelationshipApiResponseMapper;
 import com.schemafy.api.erd.service.table.TableApiResponseMapper;
+import com.schemafy.core.common.r2dbc.ReadRouting;
 import com.schemafy.core.erd.column.application.port.in.GetColumnsByTableIdQuery;
 import com.schemafy.core.erd.column.application.port.in.GetColumnsByTableIdUseCase;
 import com.schemafy.core.erd.column.domain.Column;
@@ -41,12 +46,10 @@ import com.schemafy.core.erd.relationship.domain.RelationshipColumn;
 import com.schemafy.core.erd.table.application.port.in.GetTableQuery;
 import com.schemafy.core.erd.table.application.port.in.GetTableUseCase;
 
-import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
-@RequiredArgsConstructor
 public class TableSnapshotOrchestrator {
 
   private final GetTableUseCase getTableUseCase;
@@ -59,8 +62,42 @@ public class TableSnapshotOrchestrator {
   private final GetIndexColumnsByIndexIdUseCase getIndexColumnsByIndexIdUseCase;
   private final TableApiResponseMapper tableResponseMapper;
   private final RelationshipApiResponseMapper relationshipResponseMapper;
+  private final TransactionalOperator transactionalOperator;
 
+  public TableSnapshotOrchestrator(
+      GetTableUseCase getTableUseCase,
+      GetColumnsByTableIdUseCase getColumnsByTableIdUseCase,
+      GetConstraintsByTableIdUseCase getConstraintsByTableIdUseCase,
+      GetConstraintColumnsByConstraintIdUseCase getConstraintColumnsByConstraintIdUseCase,
+      GetRelationshipsByTableIdUseCase getRelationshipsByTableIdUseCase,
+      GetRelationshipColumnsByRelationshipIdUseCase getRelationshipColumnsByRelationshipIdUseCase,
+      GetIndexesByTableIdUseCase getIndexesByTableIdUseCase,
+      GetIndexColumnsByIndexIdUseCase getIndexColumnsByIndexIdUseCase,
+      TableApiResponseMapper tableResponseMapper,
+      RelationshipApiResponseMapper relationshipResponseMapper,
+      ReactiveTransactionManager transactionManager) {
+    this.getTableUseCase = getTableUseCase;
+    this.getColumnsByTableIdUseCase = getColumnsByTableIdUseCase;
+    this.getConstraintsByTableIdUseCase = getConstraintsByTableIdUseCase;
+    this.getConstraintColumnsByConstraintIdUseCase = getConstraintColumnsByConstraintIdUseCase;
+    this.getRelationshipsByTableIdUseCase = getRelationshipsByTableIdUseCase;
+    this.getRelationshipColumnsByRelationshipIdUseCase = getRelationshipColumnsByRelationshipIdUseCase;
+    this.getIndexesByTableIdUseCase = getIndexesByTableIdUseCase;
+    this.getIndexColumnsByIndexIdUseCase = getIndexColumnsByIndexIdUseCase;
+    this.tableResponseMapper = tableResponseMapper;
+    this.relationshipResponseMapper = relationshipResponseMapper;
+    this.transactionalOperator = createReadTransactionalOperator(
+        transactionManager);
+  }
+
+  // The five child reads share one read-only transaction, so the snapshot comes from a single point in time.
   public Mono<TableSnapshotResponse> getTableSnapshot(String tableId) {
+    return Mono.defer(() -> readTableSnapshot(tableId))
+        .as(transactionalOperator::transactional)
+        .contextWrite(ReadRouting.preferReplica());
+  }
+
+  private Mono<TableSnapshotResponse> readTableSnapshot(String tableId) {
     Mono<TableResponse> tableMono = getTableUseCase
         .getTable(new GetTableQuery(tableId))
         .map(tableResponseMapper::toTableResponse);
@@ -149,4 +186,13 @@ public class TableSnapshotOrchestrator {
         .collectMap(snapshot -> snapshot.table().id(), Function.identity());
   }
 
+  private static TransactionalOperator createReadTransactionalOperator(
+      ReactiveTransactionManager transactionManager) {
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+    definition.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    definition.setName("tableSnapshotRead");
+    return TransactionalOperator.create(transactionManager, definition);
+  }
+
 }
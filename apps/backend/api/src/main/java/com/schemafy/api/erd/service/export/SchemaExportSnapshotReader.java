@@ -11,6 +11,7 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 import com.schemafy.api.erd.controller.dto.response.SchemaResponse;
 import com.schemafy.api.erd.controller.dto.response.TableSnapshotResponse;
 import com.schemafy.api.erd.service.TableSnapshotOrchestrator;
+import com.schemafy.core.common.r2dbc.ReadRouting;
 import com.schemafy.core.erd.export.domain.SchemaExportSnapshot;
 import com.schemafy.core.erd.index.domain.policy.IndexCapabilities;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemaQuery;
@@ -78,7 +79,8 @@ public class SchemaExportSnapshotReader {
                   tuple.getT1().capabilities().indexes(),
                   tuple.getT1().capabilities().identifiers()));
         })
-        .as(transactionalOperator::transactional);
+        .as(transactionalOperator::transactional)
+        .contextWrite(ReadRouting.preferReplica());
   }
 
   private static TransactionalOperator createReadTransactionalOperator(
@@ -0,0 +1,114 @@
+package com.schemafy.api.erd.service.forwarding;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.ErdOperationContexts;
+import com.schemafy.core.erd.operation.ErdOperationMetadata;
+import com.schemafy.core.erd.operation.SchemaWriterChannel;
+import com.schemafy.core.erd.operation.SchemaWriterNode;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchUseCase;
+import com.schemafy.core.erd.operation.application.port.out.ForwardErdMutationBatchPort;
+import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+
+/**
+ * Request/reply over Redis pub/sub between the node that received a mutation
+ * batch and the node holding the schema's write lease. A timed-out forward is
+ * not retried locally because the writer may still apply it.
+ */
+@Slf4j
+@Service
+@ConditionalOnRedisEnabled
+public class ErdMutationForwardingService implements ForwardErdMutationBatchPort {
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final ApplyErdMutationBatchUseCase applyErdMutationBatchUseCase;
+  private final SchemaWriterNode schemaWriterNode;
+  private final JsonCodec jsonCodec;
+  private final Duration forwardTimeout;
+  private final Map<String, Sinks.One<ForwardedMutationBatchReply>> pendingReplies = new ConcurrentHashMap<>();
+
+  public ErdMutationForwardingService(
+      ReactiveStringRedisTemplate redisTemplate,
+      ApplyErdMutationBatchUseCase applyErdMutationBatchUseCase,
+      SchemaWriterNode schemaWriterNode,
+      JsonCodec jsonCodec,
+      @Value("${erd.writer.forward-timeout:10s}") Duration forwardTimeout) {
+    this.redisTemplate = redisTemplate;
+    this.applyErdMutationBatchUseCase = applyErdMutationBatchUseCase;
+    this.schemaWriterNode = schemaWriterNode;
+    this.jsonCodec = jsonCodec;
+    this.forwardTimeout = forwardTimeout;
+  }
+
+  @Override
+  public Mono<MutationResult<ApplyErdMutationBatchResult>> forward(
+      String ownerNodeId,
+      ApplyErdMutationBatchCommand command,
+      ErdOperationMetadata metadata) {
+    return Mono.defer(() -> {
+      String requestId = UUID.randomUUID().toString();
+      Sinks.One<ForwardedMutationBatchReply> reply = Sinks.one();
+      pendingReplies.put(requestId, reply);
+      String message = jsonCodec.toJson(ForwardedMutationBatchRequest.of(
+          requestId, schemaWriterNode.id(), command, metadata));
+      return redisTemplate.convertAndSend(SchemaWriterChannel.requestsFor(ownerNodeId), message)
+          .flatMap(receivers -> receivers == 0
+              ? Mono.<ForwardedMutationBatchReply>empty()
+              : reply.asMono().timeout(forwardTimeout, Mono.error(() -> new DomainException(
+                  OperationErrorCode.WRITER_UNAVAILABLE,
+                  "Schema writer did not answer in time: schemaId=%s, node=%s"
+                      .formatted(command.schemaId(), ownerNodeId)))))
+          .map(ForwardedMutationBatchReply::toMutationResult)
+          .doFinally(signal -> pendingReplies.remove(requestId));
+    });
+  }
+
+  public Mono<Void> handleRequest(String payload) {
+    ForwardedMutationBatchRequest request = jsonCodec.fromJson(payload, ForwardedMutationBatchRequest.class);
+    return applyErdMutationBatchUseCase.applyMutationBatch(request.command())
+        .map(result -> ForwardedMutationBatchReply.success(request.requestId(), result))
+        .onErrorResume(error -> Mono.just(ForwardedMutationBatchReply.failure(request.requestId(), error)))
+        .contextWrite(restoreMetadata(request))
+        .contextWrite(ErdOperationContexts.forwardedFromPeer())
+        .flatMap(reply -> redisTemplate.convertAndSend(
+            SchemaWriterChannel.repliesFor(request.replyTo()), jsonCodec.toJson(reply)))
+        .then();
+  }
+
+  public void handleReply(String payload) {
+    ForwardedMutationBatchReply reply = jsonCodec.fromJson(payload, ForwardedMutationBatchReply.class);
+    Sinks.One<ForwardedMutationBatchReply> pending = pendingReplies.remove(reply.requestId());
+    if (pending == null) {
+      log.debug("[ErdMutationForwardingService] Reply without pending request: {}", reply.requestId());
+      return;
+    }
+    pending.tryEmitValue(reply);
+  }
+
+  private static Function<Context, Context> restoreMetadata(ForwardedMutationBatchRequest request) {
+    return ErdOperationContexts.withSessionId(request.sessionId())
+        .andThen(ErdOperationContexts.withClientOperationId(request.clientOperationId()))
+        .andThen(ErdOperationContexts.withBaseSchemaRevision(request.baseSchemaRevision()))
+        .andThen(ErdOperationContexts.withActorUserId(request.actorUserId()));
+  }
+
+}
@@ -0,0 +1,15 @@
+package com.schemafy.api.erd.service.forwarding;
+
+import org.springframework.http.HttpStatus;
+
+import com.schemafy.core.common.exception.DomainErrorCode;
+
+/** Error code of a failure raised on the writer node, so the origin answers with the same code and status. */
+record ForwardedErrorCode(String code, HttpStatus status) implements DomainErrorCode {
+
+  @Override
+  public HttpStatus getStatus() {
+    return status;
+  }
+
+}
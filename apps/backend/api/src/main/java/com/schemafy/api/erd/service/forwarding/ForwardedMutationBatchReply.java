@@ -0,0 +1,67 @@
+package com.schemafy.api.erd.service.forwarding;
+
+import java.time.Instant;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.exception.DomainErrorCode;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
+
+record ForwardedMutationBatchReply(
+    String requestId,
+    ApplyErdMutationBatchResult result,
+    Set<String> affectedTableIds,
+    CommittedErdOperation operation,
+    Instant committedAt,
+    boolean noOp,
+    String errorCode,
+    HttpStatus errorStatus,
+    String errorMessage) {
+
+  static ForwardedMutationBatchReply success(
+      String requestId,
+      MutationResult<ApplyErdMutationBatchResult> mutationResult) {
+    CommittedErdOperation operation = mutationResult.operation();
+    return new ForwardedMutationBatchReply(
+        requestId,
+        mutationResult.result(),
+        mutationResult.affectedTableIds(),
+        operation,
+        operation == null ? null : operation.committedAt(),
+        mutationResult.noOp(),
+        null,
+        null,
+        null);
+  }
+
+  static ForwardedMutationBatchReply failure(String requestId, Throwable error) {
+    if (error instanceof DomainException domainException) {
+      DomainErrorCode code = domainException.getErrorCode();
+      return new ForwardedMutationBatchReply(requestId, null, null, null, null, false,
+          code.code(), code.status(), domainException.getMessage());
+    }
+    return new ForwardedMutationBatchReply(requestId, null, null, null, null, false,
+        null, null, error.getMessage() == null ? error.getClass().getName() : error.getMessage());
+  }
+
+  MutationResult<ApplyErdMutationBatchResult> toMutationResult() {
+    if (errorCode != null) {
+      throw new DomainException(new ForwardedErrorCode(errorCode, errorStatus), errorMessage);
+    }
+    if (errorMessage != null) {
+      throw new IllegalStateException("Forwarded mutation batch failed on writer node: " + errorMessage);
+    }
+    if (noOp) {
+      return MutationResult.noop(result, affectedTableIds);
+    }
+    MutationResult<ApplyErdMutationBatchResult> mutationResult = MutationResult.of(result, affectedTableIds);
+    return operation == null
+        ? mutationResult
+        : mutationResult.withOperation(operation.withCommittedAt(committedAt));
+  }
+
+}
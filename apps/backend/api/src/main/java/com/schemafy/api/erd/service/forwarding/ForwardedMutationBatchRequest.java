@@ -0,0 +1,30 @@
+package com.schemafy.api.erd.service.forwarding;
+
+import com.schemafy.core.erd.operation.ErdOperationMetadata;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+
+record ForwardedMutationBatchRequest(
+    String requestId,
+    String replyTo,
+    ApplyErdMutationBatchCommand command,
+    String sessionId,
+    String clientOperationId,
+    Long baseSchemaRevision,
+    String actorUserId) {
+
+  static ForwardedMutationBatchRequest of(
+      String requestId,
+      String replyTo,
+      ApplyErdMutationBatchCommand command,
+      ErdOperationMetadata metadata) {
+    return new ForwardedMutationBatchRequest(
+        requestId,
+        replyTo,
+        command,
+        metadata.sessionId(),
+        metadata.clientOperationId(),
+        metadata.baseSchemaRevision(),
+        metadata.actorUserId());
+  }
+
+}
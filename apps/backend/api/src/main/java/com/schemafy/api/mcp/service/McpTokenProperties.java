@@ -37,6 +37,9 @@ public class McpTokenProperties {
   @NotBlank
   private String revocationKeyPrefix = "mcp:token:revoked:";
 
+  @NotBlank
+  private String revocationChannel = "mcp:token:revocations";
+
   @NotNull
   private Duration expiresIn = Duration.ofDays(7);
 
@@ -22,6 +22,8 @@ public class RedisMcpTokenRevocationCache implements McpTokenRevocationCache {
   public Mono<Void> cacheRevocation(String tokenId, Duration ttl) {
     return redisTemplate.opsForValue()
         .set(properties.getRevocationKeyPrefix() + tokenId, "1", ttl)
+        .then(redisTemplate.convertAndSend(
+            properties.getRevocationChannel(), tokenId))
         .then();
   }
 
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -12,6 +13,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import com.schemafy.api.common.constant.ApiPath;
+import com.schemafy.api.common.type.CursorResponse;
 import com.schemafy.api.common.type.PageResponse;
 import com.schemafy.api.project.controller.dto.request.CreateProjectRequest;
 import com.schemafy.api.project.controller.dto.request.UpdateProjectMemberRoleRequest;
@@ -29,15 +31,19 @@ import com.schemafy.core.project.application.port.in.DeleteProjectCommand;
 import com.schemafy.core.project.application.port.in.DeleteProjectUseCase;
 import com.schemafy.core.project.application.port.in.DeleteShareLinkCommand;
 import com.schemafy.core.project.application.port.in.DeleteShareLinkUseCase;
+import com.schemafy.core.project.application.port.in.GetMySharedProjectsCursorQuery;
 import com.schemafy.core.project.application.port.in.GetMySharedProjectsQuery;
 import com.schemafy.core.project.application.port.in.GetMySharedProjectsUseCase;
+import com.schemafy.core.project.application.port.in.GetProjectMembersCursorQuery;
 import com.schemafy.core.project.application.port.in.GetProjectMembersQuery;
 import com.schemafy.core.project.application.port.in.GetProjectQuery;
 import com.schemafy.core.project.application.port.in.GetProjectUseCase;
+import com.schemafy.core.project.application.port.in.GetProjectsCursorQuery;
 import com.schemafy.core.project.application.port.in.GetProjectsQuery;
 import com.schemafy.core.project.application.port.in.GetProjectsUseCase;
 import com.schemafy.core.project.application.port.in.GetShareLinkQuery;
 import com.schemafy.core.project.application.port.in.GetShareLinkUseCase;
+import com.schemafy.core.project.application.port.in.GetShareLinksCursorQuery;
 import com.schemafy.core.project.application.port.in.GetShareLinksQuery;
 import com.schemafy.core.project.application.port.in.GetShareLinksUseCase;
 import com.schemafy.core.project.application.port.in.LeaveProjectCommand;
@@ -112,6 +118,25 @@ public class ProjectController {
             result.totalElements()));
   }
 
+  @GetMapping("/workspaces/{workspaceId}/projects/cursor")
+  public Mono<CursorResponse<ProjectSummaryResponse>> getProjectsByCursor(
+      @PathVariable String workspaceId,
+      @RequestParam(required = false) @Size(max = 64) String cursorId,
+      @RequestParam(defaultValue = "5") @Positive @Max(100) int size,
+      Authentication authentication) {
+    String userId = authentication.getName();
+    return getProjectsUseCase.getProjectsByCursor(new GetProjectsCursorQuery(
+        workspaceId,
+        userId,
+        cursorId,
+        size))
+        .map(result -> CursorResponse.of(
+            result.content().stream().map(ProjectSummaryResponse::from).toList(),
+            result.size(),
+            result.hasNext(),
+            result.nextCursorId()));
+  }
+
   @GetMapping("/projects/{projectId}")
   public Mono<ProjectResponse> getProject(
       @PathVariable String projectId,
@@ -137,6 +162,22 @@ public class ProjectController {
             result.totalElements()));
   }
 
+  @GetMapping("/projects/shared/me/cursor")
+  public Mono<CursorResponse<ProjectSummaryResponse>> getMySharedProjectsByCursor(
+      @RequestParam(required = false) @Size(max = 64) String cursorId,
+      @RequestParam(defaultValue = "5") @Positive @Max(100) int size,
+      Authentication authentication) {
+    String userId = authentication.getName();
+    return getMySharedProjectsUseCase.getMySharedProjectsByCursor(
+        new GetMySharedProjectsCursorQuery(userId, cursorId, size))
+        .map(result -> CursorResponse.of(
+            result.content().stream()
+                .map(ProjectSummaryResponse::from).toList(),
+            result.size(),
+            result.hasNext(),
+            result.nextCursorId()));
+  }
+
   @PutMapping("/projects/{projectId}")
   public Mono<ProjectResponse> updateProject(
       @PathVariable String projectId,
@@ -176,6 +217,18 @@ public class ProjectController {
         .map(result -> result.map(ProjectMemberResponse::from));
   }
 
+  @GetMapping("/projects/{projectId}/members/cursor")
+  public Mono<CursorResponse<ProjectMemberResponse>> getMembersByCursor(
+      @PathVariable String projectId,
+      @RequestParam(required = false) @Size(max = 64) String cursorId,
+      @RequestParam(defaultValue = "5") @Positive @Max(100) int size,
+      Authentication authentication) {
+    String userId = authentication.getName();
+    return projectMemberOrchestrator.getMembersByCursor(
+        new GetProjectMembersCursorQuery(projectId, userId, cursorId, size))
+        .map(result -> result.map(ProjectMemberResponse::from));
+  }
+
   @PatchMapping("/projects/{projectId}/members/{userId}/role")
   public Mono<ProjectMemberResponse> updateMemberRole(
       @PathVariable String projectId,
@@ -248,6 +301,20 @@ public class ProjectController {
             result.totalElements()));
   }
 
+  @GetMapping("/projects/{projectId}/share-links/cursor")
+  public Mono<CursorResponse<ShareLinkResponse>> getShareLinksByCursor(
+      @PathVariable String version,
+      @PathVariable String projectId,
+      @RequestParam(required = false) @Size(max = 64) String cursorId,
+      @RequestParam(defaultValue = "10") @Positive @Max(100) int size,
+      Authentication authentication) {
+    String userId = authentication.getName();
+    return getShareLinksUseCase.getShareLinksByCursor(
+        new GetShareLinksCursorQuery(projectId, userId, cursorId, size))
+        .map(result -> result.map(
+            link -> ShareLinkResponse.of(link, baseUrl, version)));
+  }
+
   @GetMapping("/projects/{projectId}/share-links/{shareLinkId}")
   public Mono<ShareLinkResponse> getShareLink(
       @PathVariable String version,
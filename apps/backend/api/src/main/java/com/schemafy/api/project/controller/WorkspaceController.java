@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
@@ -11,6 +12,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import com.schemafy.api.common.constant.ApiPath;
+import com.schemafy.api.common.type.CursorResponse;
 import com.schemafy.api.common.type.PageResponse;
 import com.schemafy.api.project.controller.dto.request.AddWorkspaceMemberRequest;
 import com.schemafy.api.project.controller.dto.request.CreateWorkspaceRequest;
@@ -25,9 +27,11 @@ import com.schemafy.core.project.application.port.in.CreateWorkspaceCommand;
 import com.schemafy.core.project.application.port.in.CreateWorkspaceUseCase;
 import com.schemafy.core.project.application.port.in.DeleteWorkspaceCommand;
 import com.schemafy.core.project.application.port.in.DeleteWorkspaceUseCase;
+import com.schemafy.core.project.application.port.in.GetWorkspaceMembersCursorQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspaceMembersQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspaceQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspaceUseCase;
+import com.schemafy.core.project.application.port.in.GetWorkspacesCursorQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspacesQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspacesUseCase;
 import com.schemafy.core.project.application.port.in.LeaveWorkspaceCommand;
@@ -86,6 +90,22 @@ public class WorkspaceController {
             result.totalElements()));
   }
 
+  @GetMapping("/workspaces/cursor")
+  public Mono<CursorResponse<WorkspaceSummaryResponse>> getWorkspacesByCursor(
+      @RequestParam(required = false) @Size(max = 64) String cursorId,
+      @RequestParam(defaultValue = "5") @Positive @Max(100) int size,
+      Authentication authentication) {
+    String requesterId = authentication.getName();
+    return getWorkspacesUseCase.getWorkspacesByCursor(
+        new GetWorkspacesCursorQuery(requesterId, cursorId, size))
+        .map(result -> CursorResponse.of(
+            result.content().stream()
+                .map(WorkspaceSummaryResponse::of).toList(),
+            result.size(),
+            result.hasNext(),
+            result.nextCursorId()));
+  }
+
   @GetMapping("/workspaces/{id}")
   public Mono<WorkspaceResponse> getWorkspace(
       @PathVariable String id, Authentication authentication) {
@@ -134,6 +154,18 @@ public class WorkspaceController {
         .map(result -> result.map(WorkspaceMemberResponse::from));
   }
 
+  @GetMapping("/workspaces/{id}/members/cursor")
+  public Mono<CursorResponse<WorkspaceMemberResponse>> getMembersByCursor(
+      @PathVariable String id,
+      @RequestParam(required = false) @Size(max = 64) String cursorId,
+      @RequestParam(defaultValue = "5") @Positive @Max(100) int size,
+      Authentication authentication) {
+    String requesterId = authentication.getName();
+    return workspaceMemberOrchestrator.getMembersByCursor(
+        new GetWorkspaceMembersCursorQuery(id, requesterId, cursorId, size))
+        .map(result -> result.map(WorkspaceMemberResponse::from));
+  }
+
   @PostMapping("/workspaces/{workspaceId}/members")
   @ResponseStatus(HttpStatus.CREATED)
   public Mono<WorkspaceMemberResponse> addMember(
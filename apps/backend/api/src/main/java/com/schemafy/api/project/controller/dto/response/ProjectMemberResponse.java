@@ -4,12 +4,12 @@ import java.time.Instant;
 
 import com.schemafy.api.project.orchestrator.dto.ProjectMemberView;
 import com.schemafy.core.project.domain.ProjectMember;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.domain.UserSummary;
 
 public record ProjectMemberResponse(String projectId, String userId,
     String userName, String userEmail, String role, Instant joinedAt) {
 
-  public static ProjectMemberResponse of(ProjectMember member, User user) {
+  public static ProjectMemberResponse of(ProjectMember member, UserSummary user) {
     return new ProjectMemberResponse(member.getProjectId(),
         member.getUserId(), user.name(), user.email(), member.getRole(),
         member.getJoinedAt());
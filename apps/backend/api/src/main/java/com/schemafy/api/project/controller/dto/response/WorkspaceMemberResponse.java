@@ -4,13 +4,13 @@ import java.time.Instant;
 
 import com.schemafy.api.project.orchestrator.dto.WorkspaceMemberView;
 import com.schemafy.core.project.domain.WorkspaceMember;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.domain.UserSummary;
 
 public record WorkspaceMemberResponse(String workspaceId, String userId,
     String userName, String userEmail, String role, Instant joinedAt) {
 
   public static WorkspaceMemberResponse of(WorkspaceMember member,
-      User user) {
+      UserSummary user) {
     return new WorkspaceMemberResponse(
         member.getWorkspaceId(),
         user.id(),
@@ -3,26 +3,25 @@ package com.schemafy.api.project.orchestrator;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.schemafy.api.common.type.CursorResponse;
 import com.schemafy.api.common.type.PageResponse;
 import com.schemafy.api.project.orchestrator.dto.ProjectMemberView;
 import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.project.application.port.in.AcceptProjectInvitationCommand;
 import com.schemafy.core.project.application.port.in.AcceptProjectInvitationUseCase;
+import com.schemafy.core.project.application.port.in.GetProjectMembersCursorQuery;
 import com.schemafy.core.project.application.port.in.GetProjectMembersQuery;
 import com.schemafy.core.project.application.port.in.GetProjectMembersUseCase;
 import com.schemafy.core.project.application.port.in.UpdateProjectMemberRoleCommand;
 import com.schemafy.core.project.application.port.in.UpdateProjectMemberRoleUseCase;
 import com.schemafy.core.project.domain.ProjectMember;
-import com.schemafy.core.user.application.port.in.GetUserByIdQuery;
-import com.schemafy.core.user.application.port.in.GetUserByIdUseCase;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsQuery;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsUseCase;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.application.port.in.GetUserSummariesQuery;
+import com.schemafy.core.user.application.port.in.GetUserSummariesUseCase;
+import com.schemafy.core.user.domain.UserSummary;
 import com.schemafy.core.user.domain.exception.UserErrorCode;
 
 import lombok.RequiredArgsConstructor;
@@ -35,8 +34,7 @@ public class ProjectMemberOrchestrator {
   private final GetProjectMembersUseCase getProjectMembersUseCase;
   private final UpdateProjectMemberRoleUseCase updateProjectMemberRoleUseCase;
   private final AcceptProjectInvitationUseCase acceptProjectInvitationUseCase;
-  private final GetUserByIdUseCase getUserByIdUseCase;
-  private final GetUsersByIdsUseCase getUsersByIdsUseCase;
+  private final GetUserSummariesUseCase getUserSummariesUseCase;
 
   public Mono<PageResponse<ProjectMemberView>> getMembers(
       GetProjectMembersQuery query) {
@@ -61,6 +59,24 @@ public class ProjectMemberOrchestrator {
         });
   }
 
+  public Mono<CursorResponse<ProjectMemberView>> getMembersByCursor(
+      GetProjectMembersCursorQuery query) {
+    return getProjectMembersUseCase.getProjectMembersByCursor(query)
+        .flatMap(result -> {
+          Set<String> userIds = result.content().stream()
+              .map(ProjectMember::getUserId)
+              .collect(Collectors.toSet());
+
+          return loadUsersById(userIds)
+              .map(usersById -> result.content().stream()
+                  .map(member -> new ProjectMemberView(member,
+                      requireUser(usersById, member.getUserId())))
+                  .toList())
+              .map(content -> CursorResponse.of(content, result.size(),
+                  result.hasNext(), result.nextCursorId()));
+        });
+  }
+
   public Mono<ProjectMemberView> updateMemberRole(
       UpdateProjectMemberRoleCommand command) {
     return updateProjectMemberRoleUseCase.updateProjectMemberRole(command)
@@ -74,17 +90,16 @@ public class ProjectMemberOrchestrator {
   }
 
   private Mono<ProjectMemberView> hydrateMember(ProjectMember member) {
-    return getUserByIdUseCase.getUserById(new GetUserByIdQuery(member.getUserId()))
-        .switchIfEmpty(Mono.error(new DomainException(UserErrorCode.NOT_FOUND)))
-        .map(user -> new ProjectMemberView(member, user));
+    return loadUsersById(Set.of(member.getUserId()))
+        .map(usersById -> new ProjectMemberView(member,
+            requireUser(usersById, member.getUserId())));
   }
 
-  private Mono<Map<String, User>> loadUsersById(Set<String> userIds) {
+  private Mono<Map<String, UserSummary>> loadUsersById(Set<String> userIds) {
     if (userIds.isEmpty()) {
       return Mono.just(Collections.emptyMap());
     }
-    return getUsersByIdsUseCase.getUsersByIds(new GetUsersByIdsQuery(userIds))
-        .collectMap(User::id, Function.identity())
+    return getUserSummariesUseCase.getUserSummaries(new GetUserSummariesQuery(userIds))
         .flatMap(usersById -> {
           if (usersById.size() != userIds.size()) {
             return Mono.error(new DomainException(UserErrorCode.NOT_FOUND));
@@ -93,8 +108,8 @@ public class ProjectMemberOrchestrator {
         });
   }
 
-  private User requireUser(Map<String, User> usersById, String userId) {
-    User user = usersById.get(userId);
+  private UserSummary requireUser(Map<String, UserSummary> usersById, String userId) {
+    UserSummary user = usersById.get(userId);
     if (user == null) {
       throw new DomainException(UserErrorCode.NOT_FOUND);
     }
@@ -3,11 +3,11 @@ package com.schemafy.api.project.orchestrator;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.schemafy.api.common.type.CursorResponse;
 import com.schemafy.api.common.type.PageResponse;
 import com.schemafy.api.project.orchestrator.dto.WorkspaceMemberView;
 import com.schemafy.core.common.exception.DomainException;
@@ -15,16 +15,15 @@ import com.schemafy.core.project.application.port.in.AcceptWorkspaceInvitationCo
 import com.schemafy.core.project.application.port.in.AcceptWorkspaceInvitationUseCase;
 import com.schemafy.core.project.application.port.in.AddWorkspaceMemberCommand;
 import com.schemafy.core.project.application.port.in.AddWorkspaceMemberUseCase;
+import com.schemafy.core.project.application.port.in.GetWorkspaceMembersCursorQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspaceMembersQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspaceMembersUseCase;
 import com.schemafy.core.project.application.port.in.UpdateWorkspaceMemberRoleCommand;
 import com.schemafy.core.project.application.port.in.UpdateWorkspaceMemberRoleUseCase;
 import com.schemafy.core.project.domain.WorkspaceMember;
-import com.schemafy.core.user.application.port.in.GetUserByIdQuery;
-import com.schemafy.core.user.application.port.in.GetUserByIdUseCase;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsQuery;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsUseCase;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.application.port.in.GetUserSummariesQuery;
+import com.schemafy.core.user.application.port.in.GetUserSummariesUseCase;
+import com.schemafy.core.user.domain.UserSummary;
 import com.schemafy.core.user.domain.exception.UserErrorCode;
 
 import lombok.RequiredArgsConstructor;
@@ -38,8 +37,7 @@ public class WorkspaceMemberOrchestrator {
   private final AddWorkspaceMemberUseCase addWorkspaceMemberUseCase;
   private final UpdateWorkspaceMemberRoleUseCase updateWorkspaceMemberRoleUseCase;
   private final AcceptWorkspaceInvitationUseCase acceptWorkspaceInvitationUseCase;
-  private final GetUserByIdUseCase getUserByIdUseCase;
-  private final GetUsersByIdsUseCase getUsersByIdsUseCase;
+  private final GetUserSummariesUseCase getUserSummariesUseCase;
 
   public Mono<PageResponse<WorkspaceMemberView>> getMembers(
       GetWorkspaceMembersQuery query) {
@@ -64,6 +62,24 @@ public class WorkspaceMemberOrchestrator {
         });
   }
 
+  public Mono<CursorResponse<WorkspaceMemberView>> getMembersByCursor(
+      GetWorkspaceMembersCursorQuery query) {
+    return getWorkspaceMembersUseCase.getWorkspaceMembersByCursor(query)
+        .flatMap(result -> {
+          Set<String> userIds = result.content().stream()
+              .map(WorkspaceMember::getUserId)
+              .collect(Collectors.toSet());
+
+          return loadUsersById(userIds)
+              .map(usersById -> result.content().stream()
+                  .map(member -> new WorkspaceMemberView(member,
+                      requireUser(usersById, member.getUserId())))
+                  .toList())
+              .map(content -> CursorResponse.of(content, result.size(),
+                  result.hasNext(), result.nextCursorId()));
+        });
+  }
+
   public Mono<WorkspaceMemberView> addMember(AddWorkspaceMemberCommand command) {
     return addWorkspaceMemberUseCase.addWorkspaceMember(command)
         .flatMap(this::hydrateMember);
@@ -82,17 +98,16 @@ public class WorkspaceMemberOrchestrator {
   }
 
   private Mono<WorkspaceMemberView> hydrateMember(WorkspaceMember member) {
-    return getUserByIdUseCase.getUserById(new GetUserByIdQuery(member.getUserId()))
-        .switchIfEmpty(Mono.error(new DomainException(UserErrorCode.NOT_FOUND)))
-        .map(user -> new WorkspaceMemberView(member, user));
+    return loadUsersById(Set.of(member.getUserId()))
+        .map(usersById -> new WorkspaceMemberView(member,
+            requireUser(usersById, member.getUserId())));
   }
 
-  private Mono<Map<String, User>> loadUsersById(Set<String> userIds) {
+  private Mono<Map<String, UserSummary>> loadUsersById(Set<String> userIds) {
     if (userIds.isEmpty()) {
       return Mono.just(Collections.emptyMap());
     }
-    return getUsersByIdsUseCase.getUsersByIds(new GetUsersByIdsQuery(userIds))
-        .collectMap(User::id, Function.identity())
+    return getUserSummariesUseCase.getUserSummaries(new GetUserSummariesQuery(userIds))
         .flatMap(usersById -> {
           if (usersById.size() != userIds.size()) {
             return Mono.error(new DomainException(UserErrorCode.NOT_FOUND));
@@ -101,8 +116,8 @@ public class WorkspaceMemberOrchestrator {
         });
   }
 
-  private User requireUser(Map<String, User> usersById, String userId) {
-    User user = usersById.get(userId);
+  private UserSummary requireUser(Map<String, UserSummary> usersById, String userId) {
+    UserSummary user = usersById.get(userId);
     if (user == null) {
       throw new DomainException(UserErrorCode.NOT_FOUND);
     }
@@ -1,9 +1,9 @@
 package com.schemafy.api.project.orchestrator.dto;
 
 import com.schemafy.core.project.domain.ProjectMember;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.domain.UserSummary;
 
 public record ProjectMemberView(
     ProjectMember member,
-    User user) {
+    UserSummary user) {
 }
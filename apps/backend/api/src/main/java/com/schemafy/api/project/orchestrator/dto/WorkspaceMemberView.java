@@ -1,9 +1,9 @@
 package com.schemafy.api.project.orchestrator.dto;
 
 import com.schemafy.core.project.domain.WorkspaceMember;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.domain.UserSummary;
 
 public record WorkspaceMemberView(
     WorkspaceMember member,
-    User user) {
+    UserSummary user) {
 }
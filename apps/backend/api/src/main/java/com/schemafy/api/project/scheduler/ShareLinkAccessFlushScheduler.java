@@ -0,0 +1,65 @@
+package com.schemafy.api.project.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.project.application.port.in.FlushShareLinkAccessUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShareLinkAccessFlushScheduler {
+
+  private final FlushShareLinkAccessUseCase flushShareLinkAccessUseCase;
+  private final ShareLinkAccessProperties properties;
+
+  private Disposable flushTask;
+
+  @PostConstruct
+  public void start() {
+    flushTask = Flux.interval(properties.getFlushInterval())
+        .onBackpressureDrop()
+        .concatMap(tick -> flush())
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (flushTask != null && !flushTask.isDisposed()) {
+      flushTask.dispose();
+    }
+    try {
+      flush().block(properties.getShutdownFlushTimeout());
+    } catch (RuntimeException e) {
+      log.warn(
+          "[ShareLinkAccessFlushScheduler] Final flush failed: {}",
+          e.getMessage());
+    }
+  }
+
+  private Mono<Long> flush() {
+    return flushShareLinkAccessUseCase.flushAccessCounts()
+        .doOnNext(flushed -> {
+          if (flushed > 0) {
+            log.debug(
+                "[ShareLinkAccessFlushScheduler] Flushed {} share link counters",
+                flushed);
+          }
+        })
+        .onErrorResume(error -> {
+          log.warn(
+              "[ShareLinkAccessFlushScheduler] Flush failed: {}",
+              error.getMessage());
+          return Mono.empty();
+        });
+  }
+
+}
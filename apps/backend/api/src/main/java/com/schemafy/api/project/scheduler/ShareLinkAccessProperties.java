@@ -0,0 +1,21 @@
+package com.schemafy.api.project.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "sharelink.access")
+public class ShareLinkAccessProperties {
+
+  private Duration flushInterval = Duration.ofSeconds(5);
+  private Duration shutdownFlushTimeout = Duration.ofSeconds(10);
+
+  public Duration getFlushInterval() { return flushInterval; }
+
+  public void setFlushInterval(Duration flushInterval) { this.flushInterval = flushInterval; }
+
+  public Duration getShutdownFlushTimeout() { return shutdownFlushTimeout; }
+
+  public void setShutdownFlushTimeout(Duration shutdownFlushTimeout) { this.shutdownFlushTimeout = shutdownFlushTimeout; }
+
+}
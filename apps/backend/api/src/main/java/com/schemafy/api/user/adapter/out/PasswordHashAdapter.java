@@ -3,29 +3,29 @@ package com.schemafy.api.user.adapter.out;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import com.schemafy.api.common.crypto.CryptoScheduler;
 import com.schemafy.core.user.application.port.out.PasswordHashPort;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Component
 @RequiredArgsConstructor
 public class PasswordHashAdapter implements PasswordHashPort {
 
   private final PasswordEncoder passwordEncoder;
+  private final CryptoScheduler cryptoScheduler;
 
   @Override
   public Mono<String> hash(String rawPassword) {
-    return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword))
-        .subscribeOn(Schedulers.boundedElastic());
+    return cryptoScheduler.execute("password.hash",
+        () -> passwordEncoder.encode(rawPassword));
   }
 
   @Override
   public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
-    return Mono.fromCallable(
-        () -> passwordEncoder.matches(rawPassword, encodedPassword))
-        .subscribeOn(Schedulers.boundedElastic());
+    return cryptoScheduler.execute("password.matches",
+        () -> passwordEncoder.matches(rawPassword, encodedPassword));
   }
 
 }
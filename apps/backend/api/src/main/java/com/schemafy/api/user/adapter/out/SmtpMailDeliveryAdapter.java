@@ -0,0 +1,124 @@
+package com.schemafy.api.user.adapter.out;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.api.user.config.AuthMailProperties;
+import com.schemafy.api.user.scheduler.MailOutboxProperties;
+import com.schemafy.core.mail.application.port.out.DeliverMailsPort;
+import com.schemafy.core.mail.domain.MailDeliveryResult;
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Component
+public class SmtpMailDeliveryAdapter implements DeliverMailsPort {
+
+  private final JavaMailSenderImpl mailSender;
+  private final SmtpTransportPool transportPool;
+  private final String from;
+
+  public SmtpMailDeliveryAdapter(
+      JavaMailSenderImpl mailSender,
+      AuthMailProperties authMailProperties,
+      MailOutboxProperties mailOutboxProperties,
+      Clock clock) {
+    this.mailSender = mailSender;
+    this.from = authMailProperties.getFrom();
+    this.transportPool = new SmtpTransportPool(
+        mailSender,
+        mailOutboxProperties.getTransportPoolSize(),
+        mailOutboxProperties.getTransportIdleTimeout(),
+        clock);
+  }
+
+  @Override
+  public Mono<List<MailDeliveryResult>> deliverMails(List<OutboxMail> mails) {
+    return Mono.fromCallable(() -> deliver(mails))
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  @PreDestroy
+  void closeTransports() {
+    transportPool.close();
+  }
+
+  int idleTransportCount() {
+    return transportPool.idleCount();
+  }
+
+  private List<MailDeliveryResult> deliver(List<OutboxMail> mails) {
+    List<MailDeliveryResult> results = new ArrayList<>(mails.size());
+    Transport transport;
+    try {
+      transport = transportPool.borrow();
+    } catch (MessagingException e) {
+      log.warn("[SmtpMailDelivery] Failed to connect: {}", e.getMessage());
+      mails.forEach(mail -> results.add(MailDeliveryResult.retryable(mail.getId(), describe(e))));
+      return results;
+    }
+
+    boolean healthy = true;
+    try {
+      for (OutboxMail mail : mails) {
+        if (!healthy) {
+          results.add(MailDeliveryResult.retryable(mail.getId(), "SMTP connection lost"));
+          continue;
+        }
+        MimeMessage message;
+        try {
+          message = message(mail);
+        } catch (MessagingException e) {
+          results.add(MailDeliveryResult.rejected(mail.getId(), describe(e)));
+          continue;
+        }
+        try {
+          transport.sendMessage(message, message.getAllRecipients());
+          results.add(MailDeliveryResult.delivered(mail.getId()));
+        } catch (SendFailedException e) {
+          boolean invalidRecipient = e.getInvalidAddresses() != null
+              && e.getInvalidAddresses().length > 0;
+          results.add(invalidRecipient
+              ? MailDeliveryResult.rejected(mail.getId(), describe(e))
+              : MailDeliveryResult.retryable(mail.getId(), describe(e)));
+        } catch (MessagingException e) {
+          healthy = false;
+          results.add(MailDeliveryResult.retryable(mail.getId(), describe(e)));
+        }
+      }
+    } finally {
+      transportPool.release(transport, healthy);
+    }
+    return results;
+  }
+
+  private MimeMessage message(OutboxMail mail) throws MessagingException {
+    MimeMessage message = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    helper.setFrom(from);
+    helper.setTo(mail.getRecipient());
+    helper.setSubject(mail.getSubject());
+    helper.setText(mail.getTextBody(), mail.getHtmlBody());
+    message.saveChanges();
+    return message;
+  }
+
+  private static String describe(MessagingException e) {
+    return e.getClass().getSimpleName() + ": " + e.getMessage();
+  }
+
+}
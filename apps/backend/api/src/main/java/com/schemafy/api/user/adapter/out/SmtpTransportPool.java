@@ -0,0 +1,97 @@
+package com.schemafy.api.user.adapter.out;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps connected SMTP transports between batches so each send does not pay
+ * for a new TCP/TLS handshake and AUTH. Idle transports are checked with a
+ * NOOP ({@link Transport#isConnected()}) before reuse and closed once they
+ * have been idle longer than the configured timeout.
+ */
+@Slf4j
+final class SmtpTransportPool implements AutoCloseable {
+
+  private final JavaMailSenderImpl mailSender;
+  private final Duration idleTimeout;
+  private final Clock clock;
+  private final BlockingDeque<IdleTransport> idle;
+
+  SmtpTransportPool(JavaMailSenderImpl mailSender, int maxIdle, Duration idleTimeout, Clock clock) {
+    this.mailSender = mailSender;
+    this.idleTimeout = idleTimeout;
+    this.clock = clock;
+    this.idle = new LinkedBlockingDeque<>(Math.max(1, maxIdle));
+  }
+
+  Transport borrow() throws MessagingException {
+    IdleTransport candidate;
+    while ((candidate = idle.pollFirst()) != null) {
+      if (candidate.idleSince().plus(idleTimeout).isAfter(clock.instant())
+          && candidate.transport().isConnected()) {
+        return candidate.transport();
+      }
+      closeQuietly(candidate.transport());
+    }
+    return connect();
+  }
+
+  void release(Transport transport, boolean healthy) {
+    if (!healthy || !idle.offerFirst(new IdleTransport(transport, clock.instant()))) {
+      closeQuietly(transport);
+    }
+  }
+
+  int idleCount() {
+    return idle.size();
+  }
+
+  @Override
+  public void close() {
+    IdleTransport candidate;
+    while ((candidate = idle.pollFirst()) != null) {
+      closeQuietly(candidate.transport());
+    }
+  }
+
+  private Transport connect() throws MessagingException {
+    Transport transport = mailSender.getSession().getTransport(protocol());
+    transport.connect(
+        mailSender.getHost(),
+        mailSender.getPort(),
+        emptyToNull(mailSender.getUsername()),
+        emptyToNull(mailSender.getPassword()));
+    return transport;
+  }
+
+  private String protocol() {
+    String protocol = mailSender.getProtocol();
+    return protocol == null || protocol.isEmpty() ? JavaMailSenderImpl.DEFAULT_PROTOCOL : protocol;
+  }
+
+  private static String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  private static void closeQuietly(Transport transport) {
+    try {
+      transport.close();
+    } catch (MessagingException e) {
+      log.debug("[SmtpTransportPool] Failed to close transport: {}", e.getMessage());
+    }
+  }
+
+  private record IdleTransport(Transport transport, Instant idleSince) {
+  }
+
+}
@@ -0,0 +1,59 @@
+package com.schemafy.api.user.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.mail.application.port.in.DispatchOutboxMailsCommand;
+import com.schemafy.core.mail.application.port.in.DispatchOutboxMailsUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "mail.outbox", name = "dispatcher-enabled", havingValue = "true",
+    matchIfMissing = true)
+public class MailOutboxDispatchScheduler {
+
+  private final DispatchOutboxMailsUseCase dispatchOutboxMailsUseCase;
+  private final MailOutboxProperties properties;
+
+  private Disposable dispatchTask;
+
+  @PostConstruct
+  public void start() {
+    DispatchOutboxMailsCommand command = new DispatchOutboxMailsCommand(properties.getBatchSize());
+    dispatchTask = Flux.interval(properties.getPollInterval())
+        .onBackpressureDrop()
+        .concatMap(tick -> dispatch(command))
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (dispatchTask != null && !dispatchTask.isDisposed()) {
+      dispatchTask.dispose();
+    }
+  }
+
+  private Mono<Long> dispatch(DispatchOutboxMailsCommand command) {
+    return dispatchOutboxMailsUseCase.dispatchOutboxMails(command)
+        .doOnNext(delivered -> {
+          if (delivered > 0) {
+            log.debug("[MailOutboxDispatchScheduler] Delivered {} mails", delivered);
+          }
+        })
+        .onErrorResume(error -> {
+          log.warn("[MailOutboxDispatchScheduler] Dispatch failed: {}", error.getMessage());
+          return Mono.empty();
+        });
+  }
+
+}
@@ -0,0 +1,26 @@
+package com.schemafy.api.user.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "mail.outbox")
+public class MailOutboxProperties {
+
+  private boolean dispatcherEnabled = true;
+
+  private Duration pollInterval = Duration.ofSeconds(1);
+
+  private int batchSize = 50;
+
+  /** Idle SMTP connections kept open between batches. */
+  private int transportPoolSize = 2;
+
+  private Duration transportIdleTimeout = Duration.ofSeconds(60);
+
+}
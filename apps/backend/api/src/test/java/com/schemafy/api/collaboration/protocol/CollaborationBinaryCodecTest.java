@@ -0,0 +1,66 @@
+package com.schemafy.api.collaboration.protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.schemafy.core.collaboration.dto.CollaborationEventType;
+import com.schemafy.core.collaboration.dto.CursorPosition;
+import com.schemafy.core.collaboration.dto.PreviewAction;
+import com.schemafy.core.collaboration.dto.event.CollaborationOutboundFactory;
+import com.schemafy.core.collaboration.dto.event.CursorEvent;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
+import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CollaborationBinaryCodec")
+class CollaborationBinaryCodecTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private final JsonCodec jsonCodec = new JsonCodec(objectMapper);
+
+  @Test
+  @DisplayName("이벤트 type과 알려진 필드명을 정수로 줄이고, 디코딩하면 같은 JSON이 된다")
+  void encodesKnownNamesAsIntegersAndRoundTrips() throws Exception {
+    String json = jsonCodec.toJson(CollaborationOutboundFactory.erdMutated("session-1", "schema-1",
+        Set.of("table-1"),
+        new CommittedErdOperation("op-1", "client-op-1", 42L, ErdOperationDerivationKind.ORIGINAL)));
+
+    byte[] cbor = CollaborationBinaryCodec.encode(json);
+
+    JsonNode raw = new ObjectMapper(new CBORFactory()).readTree(cbor);
+    assertThat(raw.get("0").intValue())
+        .isEqualTo(CollaborationBinaryCodec.EVENT_TYPES.indexOf(CollaborationEventType.ERD_MUTATED));
+    assertThat(raw.has("sessionId")).isFalse();
+    assertThat(cbor.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length * 2 / 3);
+    assertThat(objectMapper.readTree(CollaborationBinaryCodec.decode(cbor)))
+        .isEqualTo(objectMapper.readTree(json));
+  }
+
+  @Test
+  @DisplayName("table 밖의 필드명과 소수 좌표를 손실 없이 유지한다")
+  void keepsUnknownNamesAndFractionalNumbers() throws Exception {
+    ObjectNode position = objectMapper.createObjectNode()
+        .put("x", 120.25)
+        .put("y", 0.1)
+        .put("zIndex", 3);
+    String preview = jsonCodec.toJson(CollaborationOutboundFactory.tablePositionPreview("session-1",
+        PreviewAction.UPDATE, "schema-1", "table-1", position));
+    String cursor = jsonCodec.toJson(CollaborationOutboundFactory.cursor("session-1",
+        new CursorEvent.UserInfo("user-1", "tester"), new CursorPosition(10.5, 20.0)));
+
+    assertThat(objectMapper.readTree(CollaborationBinaryCodec.decode(CollaborationBinaryCodec.encode(preview))))
+        .isEqualTo(objectMapper.readTree(preview));
+    assertThat(objectMapper.readTree(CollaborationBinaryCodec.decode(CollaborationBinaryCodec.encode(cursor))))
+        .isEqualTo(objectMapper.readTree(cursor));
+  }
+
+}
@@ -10,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.api.collaboration.dto.CollaborationPayload;
 import com.schemafy.api.collaboration.service.model.SessionEntry;
 import com.schemafy.core.collaboration.dto.ProjectPresenceParticipant;
 import com.schemafy.core.common.json.JsonCodec;
@@ -18,7 +19,7 @@ import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -36,7 +37,7 @@ class CollaborationDirectMessageSenderTest {
   @Test
   @DisplayName("세션 큐 적재 실패 시 에러를 반환한다")
   void sendSessionReady_returns_error_when_emit_fails() {
-    given(entry.send(anyString())).willReturn(Sinks.EmitResult.FAIL_TERMINATED);
+    given(entry.send(any(CollaborationPayload.class))).willReturn(Sinks.EmitResult.FAIL_TERMINATED);
 
     StepVerifier.create(sender.sendSessionReady(entry, "session-1",
         List.of()))
@@ -48,25 +49,25 @@ class CollaborationDirectMessageSenderTest {
   @Test
   @DisplayName("SESSION_READY를 참가자 snapshot과 함께 직접 전송한다")
   void sendSessionReady_emits_participant_snapshot() {
-    given(entry.send(anyString())).willReturn(Sinks.EmitResult.OK);
+    given(entry.send(any(CollaborationPayload.class))).willReturn(Sinks.EmitResult.OK);
 
     StepVerifier.create(sender.sendSessionReady(entry, "session-1",
         List.of(new ProjectPresenceParticipant("session-1",
             "user-1", "tester", null))))
         .verifyComplete();
 
-    ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(
-        String.class);
+    ArgumentCaptor<CollaborationPayload> payloadCaptor = ArgumentCaptor.forClass(
+        CollaborationPayload.class);
     verify(entry).send(payloadCaptor.capture());
-    assertThat(payloadCaptor.getValue())
+    assertThat(payloadCaptor.getValue().json())
         .contains("\"type\":\"SESSION_READY\"");
-    assertThat(payloadCaptor.getValue())
+    assertThat(payloadCaptor.getValue().json())
         .contains("\"userName\":\"tester\"");
-    assertThat(payloadCaptor.getValue())
+    assertThat(payloadCaptor.getValue().json())
         .doesNotContain("participantCount");
-    assertThat(payloadCaptor.getValue())
+    assertThat(payloadCaptor.getValue().json())
         .contains("\"profileImageUrl\":null");
-    assertThat(payloadCaptor.getValue())
+    assertThat(payloadCaptor.getValue().json())
         .doesNotContain("joinedAt")
         .doesNotContain("lastSeenAt");
   }
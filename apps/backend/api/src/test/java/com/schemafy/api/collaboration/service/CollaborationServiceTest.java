@@ -1,5 +1,6 @@
 package com.schemafy.api.collaboration.service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -29,9 +30,11 @@ import com.schemafy.core.collaboration.dto.event.ErdMutatedEvent;
 import com.schemafy.core.collaboration.dto.event.LeaveEvent;
 import com.schemafy.core.collaboration.service.CollaborationEventPublisher;
 import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.ErdMutationMetrics;
 import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
 import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -67,6 +70,7 @@ class CollaborationServiceTest {
   @Mock
   private ProjectPresenceStore presenceStore;
 
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
   private ObjectMapper objectMapper;
   private CollaborationService collaborationService;
 
@@ -78,7 +82,7 @@ class CollaborationServiceTest {
         jsonCodec);
     collaborationService = new CollaborationService(sessionRegistry,
         eventPublisher, serializer, presenceStore, jsonCodec,
-        List.of());
+        new ErdMutationMetrics(meterRegistry), List.of());
   }
 
   @Test
@@ -201,6 +205,22 @@ class CollaborationServiceTest {
         .contains("\"type\":\"ERD_MUTATED\"");
   }
 
+  @Test
+  @DisplayName("커밋 시각이 있는 ERD_MUTATED 이벤트는 전달 지연을 기록한다")
+  void handleRedisMessage_records_commit_to_delivery_latency() throws Exception {
+    ErdMutatedEvent.Outbound event = CollaborationOutboundFactory.erdMutated(
+        "session-1", "schema-1", Set.of("table-1"),
+        OPERATION.withCommittedAt(Instant.now().minusMillis(50)));
+    String message = objectMapper.writeValueAsString(event);
+
+    StepVerifier.create(
+        collaborationService.handleRedisMessage("project-1", message))
+        .verifyComplete();
+
+    assertThat(meterRegistry.get("erd.mutation.delivery").timer().count())
+        .isEqualTo(1);
+  }
+
   @Test
   @DisplayName("ERD_MUTATED 이벤트에 sessionId가 없으면 모든 세션에 브로드캐스트한다")
   void handleRedisMessage_includes_all_sessions_for_sessionless_erd_mutated_event()
@@ -0,0 +1,144 @@
+package com.schemafy.api.collaboration.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.schemafy.core.collaboration.CollaborationEventBusProperties;
+import com.schemafy.core.collaboration.stream.InMemoryCollaborationEventStream;
+import com.schemafy.core.erd.operation.SchemaWriterNode;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CollaborationStreamSubscriptionService")
+class CollaborationStreamSubscriptionServiceTest {
+
+  private static final String PROJECT_ID = "project-1";
+
+  @Mock
+  private CollaborationService collaborationService;
+
+  @Mock
+  private SessionRegistry sessionRegistry;
+
+  @Mock
+  private Clock clock;
+
+  private final AtomicLong now = new AtomicLong(1_767_225_600_000L);
+  private final SchemaWriterNode node = new SchemaWriterNode("node-1");
+  private final CollaborationEventBusProperties properties = new CollaborationEventBusProperties();
+  private InMemoryCollaborationEventStream eventStream;
+
+  @BeforeEach
+  void setUp() {
+    given(clock.millis()).willAnswer(invocation -> now.get());
+    eventStream = new InMemoryCollaborationEventStream(100, properties.getMaxAge(), clock);
+    properties.setBlockTimeout(Duration.ZERO);
+    given(sessionRegistry.activeProjectIds()).willReturn(Set.of(PROJECT_ID));
+    given(collaborationService.handleRedisMessage(anyString(), anyString())).willReturn(Mono.empty());
+  }
+
+  @Test
+  @DisplayName("끊겨 있는 동안 쌓인 이벤트를 마지막 ack 다음부터 순서대로 전달한다")
+  void resumesAfterLastAcknowledgedEvent() {
+    CollaborationStreamSubscriptionService sut = subscriber();
+    StepVerifier.create(sut.poll()).verifyComplete();
+    append("first");
+    StepVerifier.create(sut.poll().then(sut.poll())).verifyComplete();
+
+    append("second");
+    append("third");
+    StepVerifier.create(sut.poll()).verifyComplete();
+
+    InOrder inOrder = inOrder(collaborationService);
+    inOrder.verify(collaborationService).handleRedisMessage(PROJECT_ID, "first");
+    inOrder.verify(collaborationService).handleRedisMessage(PROJECT_ID, "second");
+    inOrder.verify(collaborationService).handleRedisMessage(PROJECT_ID, "third");
+  }
+
+  @Test
+  @DisplayName("전달 전에 멈춘 node는 같은 group으로 다시 시작하면 ack되지 않은 이벤트부터 받는다")
+  void redeliversUnacknowledgedEventsAfterRestart() {
+    StepVerifier.create(subscriber().poll()).verifyComplete();
+    append("delivered-before-crash");
+    eventStream.readNew(Set.of(PROJECT_ID), node.id(), 10, Duration.ZERO).blockLast();
+    append("published-while-down");
+
+    CollaborationStreamSubscriptionService restarted = subscriber();
+    StepVerifier.create(restarted.poll().then(restarted.poll()).then(restarted.poll()))
+        .verifyComplete();
+
+    InOrder inOrder = inOrder(collaborationService);
+    inOrder.verify(collaborationService).handleRedisMessage(PROJECT_ID, "delivered-before-crash");
+    inOrder.verify(collaborationService).handleRedisMessage(PROJECT_ID, "published-while-down");
+    verify(collaborationService, times(2)).handleRedisMessage(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("세션이 남아 있는 프로젝트는 이벤트가 없어도 스트림과 group이 만료되지 않는다")
+  void keepsQuietProjectStreamAlive() {
+    CollaborationStreamSubscriptionService sut = subscriber();
+    StepVerifier.create(sut.poll()).verifyComplete();
+    for (int i = 0; i < 5; i++) {
+      advance(Duration.ofMinutes(4));
+      StepVerifier.create(sut.poll()).verifyComplete();
+    }
+
+    append("after-quiet-period");
+    StepVerifier.create(sut.poll()).verifyComplete();
+
+    verify(collaborationService).handleRedisMessage(PROJECT_ID, "after-quiet-period");
+  }
+
+  @Test
+  @DisplayName("group이 사라지면 읽기를 실패시키지 않고 다시 join해 그 사이 이벤트를 전달한다")
+  void joinsAgainWhenGroupIsMissing() {
+    CollaborationStreamSubscriptionService sut = subscriber();
+    StepVerifier.create(sut.poll()).verifyComplete();
+    append("first");
+    advance(Duration.ofSeconds(1));
+    StepVerifier.create(sut.poll()).verifyComplete();
+
+    advance(Duration.ofSeconds(1));
+    eventStream.leave(PROJECT_ID, node.id()).block();
+    append("while-missing");
+    advance(Duration.ofSeconds(1));
+    StepVerifier.create(sut.poll().then(sut.poll()).then(sut.poll())).verifyComplete();
+
+    InOrder inOrder = inOrder(collaborationService);
+    inOrder.verify(collaborationService).handleRedisMessage(PROJECT_ID, "first");
+    inOrder.verify(collaborationService).handleRedisMessage(PROJECT_ID, "while-missing");
+    verify(collaborationService, times(2)).handleRedisMessage(anyString(), anyString());
+  }
+
+  private CollaborationStreamSubscriptionService subscriber() {
+    return new CollaborationStreamSubscriptionService(eventStream, collaborationService, sessionRegistry, node,
+        properties, clock);
+  }
+
+  private void advance(Duration duration) {
+    now.addAndGet(duration.toMillis());
+  }
+
+  private void append(String payload) {
+    eventStream.append(PROJECT_ID, payload).block();
+  }
+
+}
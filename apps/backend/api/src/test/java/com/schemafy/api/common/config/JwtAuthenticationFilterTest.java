@@ -1,5 +1,9 @@
 package com.schemafy.api.common.config;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.http.HttpHeaders;
@@ -23,6 +27,8 @@ import com.schemafy.api.common.exception.ProblemDetailFactory;
 import com.schemafy.api.common.exception.ProblemProperties;
 import com.schemafy.api.common.security.jwt.JwtAuthenticationFilter;
 import com.schemafy.api.common.security.jwt.JwtProvider;
+import com.schemafy.api.common.security.jwt.VerifiedJwt;
+import com.schemafy.api.common.security.jwt.VerifiedJwtCache;
 import com.schemafy.api.common.security.jwt.WebExchangeErrorWriter;
 import com.schemafy.api.common.security.principal.AuthenticatedUser;
 import com.schemafy.core.common.json.JsonCodec;
@@ -35,7 +41,7 @@ import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,9 +64,17 @@ class JwtAuthenticationFilterTest {
         new JsonCodec(new ObjectMapper()),
         new ProblemDetailFactory(new ProblemProperties()));
     jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider,
+        new VerifiedJwtCache(jwtProvider, Clock.systemUTC(), 1_000,
+            Duration.ofMinutes(10)),
         errorResponseWriter);
   }
 
+  private static VerifiedJwt verifiedJwt(String userId, String tokenType,
+      String userName) {
+    return new VerifiedJwt(userId, tokenType, userName, "schemafy",
+        Set.of("schemafy-audience"), Instant.now().plusSeconds(3600));
+  }
+
   @Test
   @DisplayName("유효한 JWT 토큰은 authority 없이 인증에 성공한다")
   void authenticateValidTokenWithoutAuthorities() {
@@ -74,11 +88,9 @@ class JwtAuthenticationFilterTest {
     MockServerWebExchange exchange = MockServerWebExchange.from(request);
     AtomicReference<Authentication> authenticationRef = new AtomicReference<>();
 
-    when(jwtProvider.extractUserId(token)).thenReturn(userId);
-    when(jwtProvider.getTokenType(token))
-        .thenReturn(JwtProvider.ACCESS_TOKEN);
-    when(jwtProvider.validateToken(token, userId)).thenReturn(true);
-    when(jwtProvider.<String>extractClaim(eq(token), any())).thenReturn(userName);
+    when(jwtProvider.verify(token))
+        .thenReturn(verifiedJwt(userId, JwtProvider.ACCESS_TOKEN, userName));
+    when(jwtProvider.isTrusted(any())).thenReturn(true);
     when(filterChain.filter(any())).thenReturn(
         ReactiveSecurityContextHolder.getContext()
             .doOnNext(context -> authenticationRef.set(
@@ -108,10 +120,9 @@ class JwtAuthenticationFilterTest {
     MockServerWebExchange exchange = MockServerWebExchange.from(request);
     AtomicReference<ErdOperationMetadata> metadataRef = new AtomicReference<>();
 
-    when(jwtProvider.extractUserId(token)).thenReturn(userId);
-    when(jwtProvider.getTokenType(token))
-        .thenReturn(JwtProvider.ACCESS_TOKEN);
-    when(jwtProvider.validateToken(token, userId)).thenReturn(true);
+    when(jwtProvider.verify(token))
+        .thenReturn(verifiedJwt(userId, JwtProvider.ACCESS_TOKEN, null));
+    when(jwtProvider.isTrusted(any())).thenReturn(true);
     when(filterChain.filter(any())).thenReturn(Mono.deferContextual(ctx -> {
       metadataRef.set(ErdOperationContexts.metadata(ctx));
       return Mono.empty();
@@ -139,10 +150,9 @@ class JwtAuthenticationFilterTest {
     MockServerWebExchange exchange = MockServerWebExchange.from(request);
     AtomicReference<String> requesterIdRef = new AtomicReference<>();
 
-    when(jwtProvider.extractUserId(token)).thenReturn(userId);
-    when(jwtProvider.getTokenType(token))
-        .thenReturn(JwtProvider.ACCESS_TOKEN);
-    when(jwtProvider.validateToken(token, userId)).thenReturn(true);
+    when(jwtProvider.verify(token))
+        .thenReturn(verifiedJwt(userId, JwtProvider.ACCESS_TOKEN, null));
+    when(jwtProvider.isTrusted(any())).thenReturn(true);
     when(filterChain.filter(any())).thenReturn(Mono.deferContextual(ctx -> {
       requesterIdRef.set(ProjectAccessRequesterContext.requesterIdOrNull(ctx));
       return Mono.empty();
@@ -154,6 +164,30 @@ class JwtAuthenticationFilterTest {
     assertThat(requesterIdRef.get()).isEqualTo(userId);
   }
 
+  @Test
+  @DisplayName("같은 토큰으로 반복 요청하면 서명 검증은 한 번만 수행한다")
+  void repeatedTokenIsVerifiedOnce() {
+    String token = "valid-token";
+    String userId = "user123";
+
+    when(jwtProvider.verify(token))
+        .thenReturn(verifiedJwt(userId, JwtProvider.ACCESS_TOKEN, "tester"));
+    when(jwtProvider.isTrusted(any())).thenReturn(true);
+    when(filterChain.filter(any())).thenReturn(Mono.empty());
+
+    for (int i = 0; i < 3; i++) {
+      MockServerWebExchange exchange = MockServerWebExchange.from(
+          MockServerHttpRequest.get("/api/test")
+              .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+              .build());
+      StepVerifier.create(jwtAuthenticationFilter.filter(exchange, filterChain))
+          .verifyComplete();
+    }
+
+    verify(jwtProvider, times(1)).verify(token);
+    verify(filterChain, times(3)).filter(any());
+  }
+
   @Test
     @DisplayName("Authorization 헤더가 없는 요청을 거부한다")
     void rejectRequestWithoutAuthHeader() {
@@ -194,10 +228,9 @@ class JwtAuthenticationFilterTest {
         .build();
     MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-    when(jwtProvider.extractUserId(token)).thenReturn(userId);
-    when(jwtProvider.getTokenType(token))
-        .thenReturn(JwtProvider.ACCESS_TOKEN);
-    when(jwtProvider.validateToken(token, userId)).thenReturn(false);
+    when(jwtProvider.verify(token)).thenReturn(new VerifiedJwt(
+        userId, JwtProvider.ACCESS_TOKEN, null, "schemafy",
+        Set.of("schemafy-audience"), Instant.now().minusSeconds(1)));
 
     StepVerifier
         .create(jwtAuthenticationFilter.filter(exchange, filterChain))
@@ -215,9 +248,8 @@ class JwtAuthenticationFilterTest {
         .build();
     MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-    when(jwtProvider.extractUserId(token)).thenReturn(userId);
-    when(jwtProvider.getTokenType(token))
-        .thenReturn(JwtProvider.REFRESH_TOKEN);
+    when(jwtProvider.verify(token))
+        .thenReturn(verifiedJwt(userId, JwtProvider.REFRESH_TOKEN, null));
 
     StepVerifier
         .create(jwtAuthenticationFilter.filter(exchange, filterChain))
@@ -234,7 +266,7 @@ class JwtAuthenticationFilterTest {
         .build();
     MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-    when(jwtProvider.extractUserId(token))
+    when(jwtProvider.verify(token))
         .thenThrow(new RuntimeException("Invalid token"));
 
     StepVerifier
@@ -260,7 +292,7 @@ class JwtAuthenticationFilterTest {
         .build();
     MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-    when(jwtProvider.extractUserId(token))
+    when(jwtProvider.verify(token))
         .thenThrow(new RuntimeException("Invalid token"));
     when(filterChain.filter(any())).thenReturn(Mono.empty());
 
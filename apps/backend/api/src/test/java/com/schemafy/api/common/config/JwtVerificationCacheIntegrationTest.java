@@ -0,0 +1,71 @@
+package com.schemafy.api.common.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.api.common.constant.ApiPath;
+import com.schemafy.api.common.security.jwt.JwtProvider;
+import com.schemafy.api.testsupport.user.UserHttpTestSupport;
+import com.schemafy.core.user.domain.User;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureWebTestClient
+@DisplayName("JWT 검증 캐시 통합 테스트")
+class JwtVerificationCacheIntegrationTest extends UserHttpTestSupport {
+
+  private static final String API_BASE_PATH = ApiPath.API.replace("{version}",
+      "v1.0");
+  private static final int REQUESTS = 20;
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @MockitoSpyBean
+  private JwtProvider spiedJwtProvider;
+
+  @BeforeEach
+  void setUp() {
+    cleanupUserFixtures().block();
+  }
+
+  @Test
+  @DisplayName("같은 토큰으로 반복 요청하면 토큰마다 파싱과 서명 검증을 한 번만 수행한다")
+  void verifiesEachTokenOnceAcrossRequests() {
+    User userA = createUser("cache-a@example.com", "Cache User A", "password");
+    User userB = createUser("cache-b@example.com", "Cache User B", "password");
+    String tokenA = generateAccessToken(userA.id());
+    String tokenB = generateAccessToken(userB.id());
+
+    for (int i = 0; i < REQUESTS; i++) {
+      getMyInfo(tokenA, userA.id());
+      getMyInfo(tokenB, userB.id());
+    }
+
+    verify(spiedJwtProvider, times(1)).verify(tokenA);
+    verify(spiedJwtProvider, times(1)).verify(tokenB);
+  }
+
+  private void getMyInfo(String accessToken, String expectedUserId) {
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/users")
+        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.id").isEqualTo(expectedUserId);
+  }
+
+}
@@ -0,0 +1,82 @@
+package com.schemafy.api.common.crypto;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.api.common.exception.ServerOverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CryptoScheduler")
+class CryptoSchedulerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private CryptoScheduler sut;
+
+  @BeforeEach
+  void setUp() {
+    CryptoSchedulerProperties properties = new CryptoSchedulerProperties();
+    properties.setThreads(1);
+    properties.setQueueCapacity(1);
+    properties.setRetryAfter(Duration.ofMillis(1500));
+    sut = new CryptoScheduler(properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    sut.shutdown();
+  }
+
+  @Test
+  @DisplayName("전용 스레드에서 작업을 실행하고 대기 시간과 실행 시간을 기록한다")
+  void runsOnDedicatedThreadAndRecordsTimings() {
+    StepVerifier.create(sut.execute("password.hash", () -> Thread.currentThread().getName()))
+        .assertNext(threadName -> assertThat(threadName).startsWith("crypto-"))
+        .verifyComplete();
+
+    assertThat(meterRegistry.get("crypto.scheduler.queue.wait")
+        .tag("operation", "password.hash").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("crypto.scheduler.execution")
+        .tag("operation", "password.hash").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 기다리지 않고 즉시 거절한다")
+  void rejectsImmediatelyWhenQueueIsFull() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Disposable running = sut.execute("password.matches", () -> {
+      started.countDown();
+      return release.await(5, TimeUnit.SECONDS);
+    }).subscribe();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Disposable queued = sut.execute("password.matches", () -> true).subscribe();
+
+    try {
+      StepVerifier.create(sut.execute("password.matches", () -> true))
+          .expectErrorSatisfies(error -> assertThat(error)
+              .isInstanceOfSatisfying(ServerOverloadedException.class,
+                  overloaded -> assertThat(overloaded.getRetryAfter())
+                      .isEqualTo(Duration.ofMillis(1500))))
+          .verify(Duration.ofSeconds(1));
+
+      assertThat(meterRegistry.get("crypto.scheduler.rejected")
+          .tag("operation", "password.matches").counter().count()).isEqualTo(1.0);
+    } finally {
+      release.countDown();
+      running.dispose();
+      queued.dispose();
+    }
+  }
+
+}
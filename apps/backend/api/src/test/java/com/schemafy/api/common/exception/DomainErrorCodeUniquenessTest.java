@@ -16,6 +16,7 @@ import com.schemafy.core.erd.memo.domain.exception.MemoErrorCode;
 import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
 import com.schemafy.core.erd.relationship.domain.exception.RelationshipErrorCode;
 import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.search.domain.exception.SearchErrorCode;
 import com.schemafy.core.erd.table.domain.exception.TableErrorCode;
 import com.schemafy.core.erd.vendor.domain.exception.VendorErrorCode;
 import com.schemafy.core.project.domain.exception.ProjectErrorCode;
@@ -49,7 +50,8 @@ class DomainErrorCodeUniquenessTest {
       RelationshipErrorCode.class,
       VendorErrorCode.class,
       UlidErrorCode.class,
-      OperationErrorCode.class);
+      OperationErrorCode.class,
+      SearchErrorCode.class);
 
   @Test
   void codesMustBeGloballyUnique() {
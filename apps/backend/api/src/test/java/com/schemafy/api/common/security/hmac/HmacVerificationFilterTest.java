@@ -1,9 +1,15 @@
 package com.schemafy.api.common.security.hmac;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import javax.crypto.SecretKey;
 
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -20,10 +26,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.schemafy.api.common.exception.ProblemDetailFactory;
 import com.schemafy.api.common.exception.ProblemProperties;
+import com.schemafy.api.common.exception.ServerOverloadedException;
 import com.schemafy.api.common.security.hmac.HmacProperties.EnforcementMode;
 import com.schemafy.api.common.security.jwt.WebExchangeErrorWriter;
 import com.schemafy.core.common.json.JsonCodec;
 
+import io.netty.buffer.UnpooledByteBufAllocator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -203,6 +212,24 @@ class HmacVerificationFilterTest {
         .isEqualTo(HttpStatus.UNAUTHORIZED);
   }
 
+  @Test
+  @DisplayName("nonce 대기열이 가득 차면 503과 Retry-After를 반환한다")
+  void overloadedNonceCacheReturns503() {
+    given(nonceCache.isDuplicate(anyString()))
+        .willReturn(Mono.error(new ServerOverloadedException(Duration.ofSeconds(1))));
+
+    MockServerWebExchange exchange = createExchangeWithHmac("GET",
+        "/api/v1.0/tables", null, "nonce-overloaded-1");
+
+    StepVerifier.create(filter.filter(exchange, filterChain))
+        .verifyComplete();
+
+    assertThat(exchange.getResponse().getStatusCode())
+        .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER))
+        .isEqualTo("1");
+  }
+
   @Test
   @DisplayName("Public API 경로는 HMAC 검증을 스킵한다")
   void publicApiSkipsHmac() {
@@ -401,4 +428,86 @@ class HmacVerificationFilterTest {
         .verifyComplete();
   }
 
+  @Test
+  @DisplayName("여러 청크로 나뉜 body도 전체 body 해시로 검증하고 원본 버퍼를 그대로 전달한다")
+  void chunkedBodyIsVerifiedAndReplayed() {
+    given(nonceCache.isDuplicate(anyString()))
+        .willReturn(Mono.just(false));
+
+    String body = "{\"name\":\"chunked-table\",\"comment\":\"streamed\"}";
+    byte[] bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+    String timestamp = currentTimestamp();
+    String nonce = "nonce-chunked-1";
+    String canonical = HmacUtil.buildHttpCanonicalString("POST",
+        "/api/v1.0/tables", timestamp, nonce,
+        HmacUtil.computeBodyHash(bodyBytes));
+
+    NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(
+        UnpooledByteBufAllocator.DEFAULT);
+    List<NettyDataBuffer> chunks = List.of(
+        bufferFactory.wrap(Arrays.copyOfRange(bodyBytes, 0, 10)),
+        bufferFactory.wrap(Arrays.copyOfRange(bodyBytes, 10, 25)),
+        bufferFactory.wrap(Arrays.copyOfRange(bodyBytes, 25,
+            bodyBytes.length)));
+
+    given(filterChain.filter(any())).willAnswer(invocation -> {
+      ServerWebExchange passedExchange = invocation.getArgument(0);
+      return passedExchange.getRequest().getBody()
+          .collectList()
+          .doOnNext(buffers -> {
+            assertThat(buffers).containsExactlyElementsOf(chunks);
+            buffers.forEach(DataBufferUtils::release);
+          })
+          .then();
+    });
+
+    MockServerHttpRequest request = MockServerHttpRequest
+        .post("/api/v1.0/tables")
+        .header(HmacVerificationFilter.HEADER_SIGNATURE,
+            HmacUtil.computeHmac(KEY, canonical))
+        .header(HmacVerificationFilter.HEADER_TIMESTAMP, timestamp)
+        .header(HmacVerificationFilter.HEADER_NONCE, nonce)
+        .body(Flux.fromIterable(chunks));
+    MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+    StepVerifier.create(filter.filter(exchange, filterChain))
+        .verifyComplete();
+
+    assertThat(exchange.getResponse().getStatusCode())
+        .isNotEqualTo(HttpStatus.UNAUTHORIZED);
+    assertThat(chunks)
+        .allSatisfy(chunk -> assertThat(chunk.getNativeBuffer().refCnt())
+            .isZero());
+  }
+
+  @Test
+  @DisplayName("서명 검증 실패로 body가 소비되지 않으면 보관한 버퍼를 해제한다")
+  void unreadBodyBuffersAreReleasedOnRejection() {
+    given(nonceCache.isDuplicate(anyString()))
+        .willReturn(Mono.just(false));
+
+    NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(
+        UnpooledByteBufAllocator.DEFAULT);
+    NettyDataBuffer chunk = bufferFactory.wrap(
+        "{\"name\":\"rejected\"}".getBytes(StandardCharsets.UTF_8));
+
+    MockServerHttpRequest request = MockServerHttpRequest
+        .post("/api/v1.0/tables")
+        .header(HmacVerificationFilter.HEADER_SIGNATURE,
+            "invalid-signature")
+        .header(HmacVerificationFilter.HEADER_TIMESTAMP,
+            currentTimestamp())
+        .header(HmacVerificationFilter.HEADER_NONCE,
+            "nonce-release-1")
+        .body(Flux.just(chunk));
+    MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+    StepVerifier.create(filter.filter(exchange, filterChain))
+        .verifyComplete();
+
+    assertThat(exchange.getResponse().getStatusCode())
+        .isEqualTo(HttpStatus.UNAUTHORIZED);
+    assertThat(chunk.getNativeBuffer().refCnt()).isZero();
+  }
+
 }
@@ -1,6 +1,10 @@
 package com.schemafy.api.common.security.hmac;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
 
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
@@ -9,44 +13,64 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import com.schemafy.api.common.exception.ServerOverloadedException;
+
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class NonceCacheTest {
 
+  private static final Duration TTL = Duration.ofSeconds(60);
+
   @Mock
   ReactiveStringRedisTemplate redisTemplate;
 
   @Mock
-  ReactiveValueOperations<String, String> valueOps;
+  ReactiveValueOperations<String, String> valueOperations;
 
   NonceCache nonceCache;
 
   @BeforeEach
   void setUp() {
-    given(redisTemplate.opsForValue()).willReturn(valueOps);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
     HmacProperties props = new HmacProperties();
     props.setTimestampToleranceSeconds(30);
     nonceCache = new NonceCache(redisTemplate, props);
   }
 
+  private void givenClaimResult(Mono<Boolean> result) {
+    given(valueOperations.setIfAbsent(anyString(), eq("1"), eq(TTL)))
+        .willReturn(result);
+  }
+
+  private void givenClaimResult(String nonce, Mono<Boolean> result) {
+    given(valueOperations.setIfAbsent(eq("hmac:nonce:" + nonce), eq("1"), eq(TTL)))
+        .willReturn(result);
+  }
+
   @Test
   @DisplayName("새로운 nonce는 중복이 아니다")
   void newNonceIsNotDuplicate() {
-    given(valueOps.setIfAbsent(anyString(), eq("1"),
-        eq(Duration.ofSeconds(60))))
-        .willReturn(Mono.just(true));
+    givenClaimResult(Mono.just(true));
 
     StepVerifier.create(nonceCache.isDuplicate("nonce-1"))
         .expectNext(false)
@@ -54,17 +78,145 @@ class NonceCacheTest {
   }
 
   @Test
-  @DisplayName("동일한 nonce를 재사용하면 중복으로 판단한다")
+  @DisplayName("다른 노드가 선점한 nonce는 중복으로 판단한다")
   void duplicateNonceIsDetected() {
-    given(valueOps.setIfAbsent(anyString(), eq("1"),
-        eq(Duration.ofSeconds(60))))
-        .willReturn(Mono.just(false));
+    givenClaimResult(Mono.just(false));
 
     StepVerifier.create(nonceCache.isDuplicate("nonce-1"))
         .expectNext(true)
         .verifyComplete();
   }
 
+  @Test
+  @DisplayName("로컬에서 이미 본 nonce는 Redis 조회 없이 중복으로 판단한다")
+  void locallySeenNonceSkipsRedis() {
+    givenClaimResult(Mono.just(true));
+
+    StepVerifier.create(nonceCache.isDuplicate("nonce-local"))
+        .expectNext(false)
+        .verifyComplete();
+    StepVerifier.create(nonceCache.isDuplicate("nonce-local"))
+        .expectNext(true)
+        .verifyComplete();
+
+    then(valueOperations).should(times(1))
+        .setIfAbsent(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("구독하기 전에는 nonce를 기록하지도 Redis에 보내지도 않는다")
+  void doesNothingUntilSubscribed() {
+    givenClaimResult(Mono.just(true));
+
+    nonceCache.isDuplicate("nonce-lazy");
+
+    then(valueOperations).should(never())
+        .setIfAbsent(anyString(), anyString(), any(Duration.class));
+    StepVerifier.create(nonceCache.isDuplicate("nonce-lazy"))
+        .expectNext(false)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Redis 호출 중에 들어온 nonce는 앞선 묶음이 끝난 뒤 다음 묶음으로 함께 보낸다")
+  void concurrentNoncesShareOneBatch() {
+    Sinks.One<Boolean> firstResult = Sinks.one();
+    givenClaimResult("nonce-a", firstResult.asMono());
+    givenClaimResult("nonce-b", Mono.just(true));
+    givenClaimResult("nonce-c", Mono.just(false));
+
+    var first = nonceCache.isDuplicate("nonce-a").toFuture();
+    var second = nonceCache.isDuplicate("nonce-b").toFuture();
+    var third = nonceCache.isDuplicate("nonce-c").toFuture();
+
+    then(valueOperations).should(never()).setIfAbsent(eq("hmac:nonce:nonce-b"), anyString(), any(Duration.class));
+    firstResult.tryEmitValue(true);
+
+    assertThat(first.join()).isFalse();
+    assertThat(second.join()).isFalse();
+    assertThat(third.join()).isTrue();
+
+    InOrder inOrder = inOrder(valueOperations);
+    inOrder.verify(valueOperations).setIfAbsent("hmac:nonce:nonce-a", "1", TTL);
+    inOrder.verify(valueOperations).setIfAbsent("hmac:nonce:nonce-b", "1", TTL);
+    inOrder.verify(valueOperations).setIfAbsent("hmac:nonce:nonce-c", "1", TTL);
+  }
+
+  @Test
+  @DisplayName("밀린 묶음이 곧바로 끝나도 재귀 없이 모두 처리한다")
+  void drainsManyImmediateBatchesWithoutRecursion() {
+    HmacProperties props = new HmacProperties();
+    props.setTimestampToleranceSeconds(30);
+    props.setNonceBatchSize(1);
+    props.setNonceMaxPending(20_000);
+    NonceCache sut = new NonceCache(redisTemplate, props);
+    Sinks.One<Boolean> firstResult = Sinks.one();
+    givenClaimResult(Mono.just(true));
+    givenClaimResult("nonce-first", firstResult.asMono());
+
+    CompletableFuture<Boolean> first = sut.isDuplicate("nonce-first").toFuture();
+    List<CompletableFuture<Boolean>> queued = IntStream.range(0, 20_000)
+        .mapToObj(i -> sut.isDuplicate("nonce-" + i).toFuture())
+        .toList();
+    firstResult.tryEmitValue(true);
+
+    assertThat(first.join()).isFalse();
+    assertThat(queued).allSatisfy(result -> assertThat(result.join()).isFalse());
+  }
+
+  @Test
+  @DisplayName("Redis 오류 시 로컬 기록을 지워 같은 nonce로 재시도할 수 있다")
+  void redisFailureAllowsRetry() {
+    given(valueOperations.setIfAbsent(anyString(), eq("1"), eq(TTL)))
+        .willReturn(Mono.error(new IllegalStateException("redis down")))
+        .willReturn(Mono.just(true));
+
+    StepVerifier.create(nonceCache.isDuplicate("nonce-retry"))
+        .expectError(IllegalStateException.class)
+        .verify();
+    StepVerifier.create(nonceCache.isDuplicate("nonce-retry"))
+        .expectNext(false)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Redis 응답이 제한 시간을 넘기면 해당 묶음을 실패시키고 다음 묶음을 처리한다")
+  void claimTimeoutFailsBatchAndReleasesFlush() {
+    HmacProperties props = new HmacProperties();
+    props.setTimestampToleranceSeconds(30);
+    props.setNonceClaimTimeout(Duration.ofMillis(50));
+    NonceCache sut = new NonceCache(redisTemplate, props);
+    givenClaimResult("nonce-slow", Mono.never());
+    givenClaimResult("nonce-next", Mono.just(true));
+
+    StepVerifier.create(sut.isDuplicate("nonce-slow"))
+        .expectError(TimeoutException.class)
+        .verify(Duration.ofSeconds(1));
+    StepVerifier.create(sut.isDuplicate("nonce-next"))
+        .expectNext(false)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("대기 중인 nonce가 한도를 넘으면 Redis 호출 없이 과부하로 거절한다")
+  void rejectsWhenPendingQueueIsFull() {
+    HmacProperties props = new HmacProperties();
+    props.setTimestampToleranceSeconds(30);
+    props.setNonceBatchSize(1);
+    props.setNonceMaxPending(1);
+    NonceCache sut = new NonceCache(redisTemplate, props);
+    givenClaimResult(Mono.never());
+
+    sut.isDuplicate("nonce-in-flight").subscribe();
+    sut.isDuplicate("nonce-queued").subscribe();
+
+    StepVerifier.create(sut.isDuplicate("nonce-rejected"))
+        .expectError(ServerOverloadedException.class)
+        .verify();
+    then(valueOperations).should(times(1))
+        .setIfAbsent(anyString(), anyString(), any(Duration.class));
+  }
+
   @Test
   @DisplayName("null nonce는 중복으로 판단한다")
   void nullNonceIsDuplicate() {
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import com.schemafy.api.common.security.jwt.JwtProperties;
 import com.schemafy.api.common.security.jwt.JwtProvider;
+import com.schemafy.api.common.security.jwt.VerifiedJwt;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -210,4 +211,33 @@ class JwtProviderTest {
         .isEqualTo(JwtProvider.REFRESH_TOKEN);
   }
 
+  @Test
+  @DisplayName("한 번의 파싱으로 검증된 클레임을 반환한다")
+  void verifyReturnsAllClaimsInOnePass() {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put("name", "tester");
+    String token = jwtProvider.generateAccessToken("user123", claims,
+        System.currentTimeMillis());
+
+    VerifiedJwt jwt = jwtProvider.verify(token);
+
+    assertThat(jwt.userId()).isEqualTo("user123");
+    assertThat(jwt.tokenType()).isEqualTo(JwtProvider.ACCESS_TOKEN);
+    assertThat(jwt.name()).isEqualTo("tester");
+    assertThat(jwtProvider.isTrusted(jwt)).isTrue();
+  }
+
+  @Test
+  @DisplayName("발급자가 다른 토큰은 신뢰하지 않는다")
+  void untrustedIssuerIsRejected() {
+    JwtProperties otherProperties = new JwtProperties();
+    otherProperties.setSecret(jwtProperties.getSecret());
+    otherProperties.setIssuer("other-issuer");
+    otherProperties.setAudience(jwtProperties.getAudience());
+    String token = new JwtProvider(otherProperties).generateAccessToken(
+        "user123", new HashMap<>(), System.currentTimeMillis());
+
+    assertThat(jwtProvider.isTrusted(jwtProvider.verify(token))).isFalse();
+  }
+
 }
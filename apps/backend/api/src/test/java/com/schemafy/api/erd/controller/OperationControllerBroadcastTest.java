@@ -12,15 +12,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.schemafy.api.erd.controller.dto.request.ApplyErdMutationBatchRequest;
+import com.schemafy.api.erd.controller.dto.request.ErdMutationBatchItemRequest;
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.erd.broadcast.ErdMutationBroadcaster;
 import com.schemafy.core.erd.operation.application.inverse.CreateTableInverse;
 import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchUseCase;
+import com.schemafy.core.erd.operation.application.port.in.ErdMutationBatchItemResult;
 import com.schemafy.core.erd.operation.application.port.in.RedoErdOperationUseCase;
 import com.schemafy.core.erd.operation.application.port.in.UndoErdOperationCommand;
 import com.schemafy.core.erd.operation.application.port.in.UndoErdOperationUseCase;
 import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
 import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
 
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -41,6 +49,9 @@ class OperationControllerBroadcastTest {
   @Mock
   RedoErdOperationUseCase redoErdOperationUseCase;
 
+  @Mock
+  ApplyErdMutationBatchUseCase applyErdMutationBatchUseCase;
+
   @Mock
   ObjectProvider<ErdMutationBroadcaster> broadcasterProvider;
 
@@ -54,6 +65,7 @@ class OperationControllerBroadcastTest {
     sut = new OperationController(
         undoErdOperationUseCase,
         redoErdOperationUseCase,
+        applyErdMutationBatchUseCase,
         broadcasterProvider);
   }
 
@@ -97,6 +109,42 @@ class OperationControllerBroadcastTest {
     then(broadcaster).should(never()).broadcast(any(), any());
   }
 
+  @Test
+  @DisplayName("batch mutation은 영향받은 테이블을 모아 schema context로 한 번만 브로드캐스트한다")
+  void mutationBatchBroadcastsOnceWithSchemaContext() {
+    String schemaId = "schema-1";
+    Set<String> affectedTableIds = Set.of("table-1", "table-2");
+    CommittedErdOperation operation = new CommittedErdOperation(
+        "batch-op-1",
+        null,
+        3L,
+        ErdOperationDerivationKind.ORIGINAL);
+    ApplyErdMutationBatchRequest request = new ApplyErdMutationBatchRequest(List.of(
+        new ErdMutationBatchItemRequest("users", ErdOperationType.CREATE_TABLE,
+            JsonNodeFactory.instance.objectNode().put("schemaId", schemaId))));
+
+    given(broadcasterProvider.getIfAvailable()).willReturn(broadcaster);
+    given(applyErdMutationBatchUseCase.applyMutationBatch(any(ApplyErdMutationBatchCommand.class)))
+        .willReturn(Mono.just(MutationResult.of(
+            new ApplyErdMutationBatchResult(schemaId, List.of(new ErdMutationBatchItemResult(
+                "users", ErdOperationType.CREATE_TABLE, "table-2"))),
+            affectedTableIds)
+            .withOperation(operation)));
+    given(broadcaster.broadcastSchemaMutation(schemaId, affectedTableIds, operation))
+        .willReturn(Mono.empty());
+
+    StepVerifier.create(sut.applyMutationBatch(schemaId, request))
+        .assertNext(response -> {
+          assertThat(response.data().mutations()).singleElement()
+              .satisfies(item -> assertThat(item.createdId()).isEqualTo("table-2"));
+          assertThat(response.operation()).isEqualTo(operation);
+        })
+        .verifyComplete();
+
+    then(broadcaster).should().broadcastSchemaMutation(schemaId, affectedTableIds, operation);
+    then(broadcaster).should(never()).broadcast(any(), any());
+  }
+
   private static StructuralSnapshot emptySnapshot(String schemaId) {
     return new StructuralSnapshot(
         schemaId,
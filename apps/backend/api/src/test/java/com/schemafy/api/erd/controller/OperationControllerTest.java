@@ -1,11 +1,13 @@
 package com.schemafy.api.erd.controller;
 
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -19,10 +21,21 @@ import com.schemafy.api.common.security.WithMockCustomUser;
 import com.schemafy.api.erd.docs.OperationApiSnippets;
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.TableSnapshot;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchUseCase;
+import com.schemafy.core.erd.operation.application.port.in.ErdMutationBatchItemResult;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionQuery;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionUseCase;
 import com.schemafy.core.erd.operation.application.port.in.RedoErdOperationCommand;
+import com.schemafy.core.erd.operation.application.port.in.SchemaAtRevisionResult;
 import com.schemafy.core.erd.operation.application.port.in.UndoErdOperationCommand;
 import com.schemafy.core.erd.operation.application.service.UndoRedoErdOperationService;
 import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
 import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
 
 import reactor.core.publisher.Mono;
@@ -31,6 +44,7 @@ import static com.epages.restdocs.apispec.WebTestClientRestDocumentationWrapper.
 import static com.schemafy.api.erd.controller.ErdOperationFixtures.OP_ID;
 import static com.schemafy.api.erd.controller.ErdOperationFixtures.committedOperation;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -51,6 +65,12 @@ class OperationControllerTest {
   @MockitoBean
   private UndoRedoErdOperationService undoRedoErdOperationService;
 
+  @MockitoBean
+  private ApplyErdMutationBatchUseCase applyErdMutationBatchUseCase;
+
+  @MockitoBean
+  private GetSchemaAtRevisionUseCase getSchemaAtRevisionUseCase;
+
   @Test
   @DisplayName("undo API 문서화")
   void undo() {
@@ -231,4 +251,128 @@ class OperationControllerTest {
         .jsonPath("$.reason").isEqualTo(OperationErrorCode.UNSUPPORTED.code());
   }
 
+  @Test
+  @DisplayName("batch mutation API 문서화")
+  void applyMutationBatch() {
+    String schemaId = "06D6W1GAHD51T5NJPK29Q6BCR8";
+    given(applyErdMutationBatchUseCase.applyMutationBatch(any(ApplyErdMutationBatchCommand.class)))
+        .willReturn(Mono.just(MutationResult.of(
+            new ApplyErdMutationBatchResult(schemaId, List.of(
+                new ErdMutationBatchItemResult("orders", ErdOperationType.CREATE_TABLE,
+                    "06D6W2ZHHN3QFKDT7HKEF2T8Q4"),
+                new ErdMutationBatchItemResult("orderId", ErdOperationType.CREATE_COLUMN,
+                    "06D6W3A4YQ9N5R8S0T1V2W3X4Y"))),
+            Set.of("06D6W2ZHHN3QFKDT7HKEF2T8Q4"))
+            .withOperation(committedOperation())));
+
+    webTestClient.post()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/mutations/batch", schemaId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .header("Accept", "application/json")
+        .header(CollaborationConstants.SESSION_ID_HEADER, "session-1")
+        .header(CollaborationConstants.CLIENT_OPERATION_ID_HEADER, "client-op-batch")
+        .header(CollaborationConstants.BASE_SCHEMA_REVISION_HEADER, "41")
+        .bodyValue("""
+            {
+              "mutations": [
+                {
+                  "ref": "orders",
+                  "type": "CREATE_TABLE",
+                  "payload": { "schemaId": "06D6W1GAHD51T5NJPK29Q6BCR8", "name": "orders" }
+                },
+                {
+                  "ref": "orderId",
+                  "type": "CREATE_COLUMN",
+                  "payload": { "tableId": "$orders", "name": "id", "dataType": "BIGINT" }
+                }
+              ]
+            }
+            """)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.data.schemaId").isEqualTo(schemaId)
+        .jsonPath("$.data.mutations[0].createdId").isEqualTo("06D6W2ZHHN3QFKDT7HKEF2T8Q4")
+        .jsonPath("$.data.mutations[1].ref").isEqualTo("orderId")
+        .jsonPath("$.affectedTableIds[0]").isEqualTo("06D6W2ZHHN3QFKDT7HKEF2T8Q4")
+        .jsonPath("$.operation.opId").isEqualTo(OP_ID)
+        .consumeWith(document("operation-apply-mutation-batch",
+            OperationApiSnippets.applyMutationBatchPathParameters(),
+            OperationApiSnippets.applyMutationBatchRequestHeaders(),
+            OperationApiSnippets.applyMutationBatchRequest(),
+            OperationApiSnippets.applyMutationBatchResponseHeaders(),
+            OperationApiSnippets.applyMutationBatchResponse()));
+
+    then(applyErdMutationBatchUseCase).should()
+        .applyMutationBatch(argThat(command -> command.schemaId().equals(schemaId)
+            && command.mutations().size() == 2
+            && command.mutations().get(1).payload().get("tableId").asText().equals("$orders")));
+  }
+
+  @Test
+  @DisplayName("batch mutation API는 mutations가 비어 있으면 400을 반환한다")
+  void applyMutationBatchRejectsEmptyMutations() {
+    webTestClient.post()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/mutations/batch", "06D6W1GAHD51T5NJPK29Q6BCR8")
+        .contentType(MediaType.APPLICATION_JSON)
+        .header("Accept", "application/json")
+        .bodyValue("{\"mutations\": []}")
+        .exchange()
+        .expectStatus().isBadRequest();
+
+    then(applyErdMutationBatchUseCase).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("revision 시점 스키마 구조 조회 API 문서화")
+  void getSchemaAtRevision() {
+    String schemaId = "06D6W1GAHD51T5NJPK29Q6BCR8";
+    String tableId = "06D6W2ZHHN3QFKDT7HKEF2T8Q4";
+    StructuralSnapshot structure = new StructuralSnapshot(
+        schemaId,
+        List.of(new TableSnapshot(tableId, schemaId, "users", "utf8mb4", "utf8mb4_general_ci", null)),
+        List.of(new ColumnSnapshot("06D6W4B2Q8M3N1P60000000001", tableId, "id", "BIGINT", null, 0, true,
+            null, null, null)),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of());
+    given(getSchemaAtRevisionUseCase.getSchemaAtRevision(new GetSchemaAtRevisionQuery(schemaId, 12L)))
+        .willReturn(Mono.just(new SchemaAtRevisionResult(schemaId, 12L, 64L, 5, structure)));
+
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/revisions/{revision}", schemaId, 12)
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.revision").isEqualTo(12)
+        .jsonPath("$.baseRevision").isEqualTo(64)
+        .jsonPath("$.rewoundOperationCount").isEqualTo(5)
+        .jsonPath("$.structure.tables[0].name").isEqualTo("users")
+        .jsonPath("$.structure.columns[0].name").isEqualTo("id")
+        .consumeWith(document("operation-schema-at-revision",
+            OperationApiSnippets.getSchemaAtRevisionPathParameters(),
+            OperationApiSnippets.getSchemaAtRevisionRequestHeaders(),
+            OperationApiSnippets.getSchemaAtRevisionResponseHeaders(),
+            OperationApiSnippets.getSchemaAtRevisionResponse()));
+  }
+
+  @Test
+  @DisplayName("revision 시점 스키마 구조 조회 API는 현재보다 큰 revision이면 404를 반환한다")
+  void getSchemaAtRevisionReturnsNotFound() {
+    given(getSchemaAtRevisionUseCase.getSchemaAtRevision(any(GetSchemaAtRevisionQuery.class)))
+        .willReturn(Mono.error(new DomainException(OperationErrorCode.NOT_FOUND)));
+
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/revisions/{revision}", "06D6W1GAHD51T5NJPK29Q6BCR8", 99)
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.reason").isEqualTo(OperationErrorCode.NOT_FOUND.code());
+  }
+
 }
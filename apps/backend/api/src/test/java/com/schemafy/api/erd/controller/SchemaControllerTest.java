@@ -1,5 +1,8 @@
 package com.schemafy.api.erd.controller;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
@@ -18,18 +21,35 @@ import com.schemafy.api.common.constant.ApiPath;
 import com.schemafy.api.common.security.WithMockCustomUser;
 import com.schemafy.api.erd.controller.dto.request.ChangeSchemaNameRequest;
 import com.schemafy.api.erd.controller.dto.request.CreateSchemaRequest;
+import com.schemafy.api.erd.controller.dto.request.CloneSchemaRequest;
+import com.schemafy.api.erd.controller.dto.request.ImportSchemaDdlRequest;
 import com.schemafy.api.erd.controller.dto.response.SchemaDdlExportResponse;
+import com.schemafy.api.erd.controller.dto.response.OutlineItemResponse;
 import com.schemafy.api.erd.controller.dto.response.SchemaMermaidExportResponse;
+import com.schemafy.api.erd.controller.dto.response.SchemaOutlineResponse;
 import com.schemafy.api.erd.controller.dto.response.SchemaSnapshotsResponse;
 import com.schemafy.api.erd.controller.dto.response.TableResponse;
 import com.schemafy.api.erd.controller.dto.response.TableSnapshotResponse;
 import com.schemafy.api.erd.service.SchemaDdlExportOrchestrator;
 import com.schemafy.api.erd.service.SchemaMermaidExportOrchestrator;
 import com.schemafy.api.erd.service.SchemaSnapshotOrchestrator;
+import com.schemafy.api.erd.service.SchemaViewportOrchestrator;
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlCommand;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlResult;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlUseCase;
+import com.schemafy.core.erd.diff.application.port.in.GetSchemaDiffQuery;
+import com.schemafy.core.erd.diff.application.port.in.GetSchemaDiffUseCase;
+import com.schemafy.core.erd.diff.application.port.in.SchemaDiffResult;
+import com.schemafy.core.erd.diff.domain.SchemaChange;
+import com.schemafy.core.erd.diff.domain.SchemaChangeType;
+import com.schemafy.core.erd.diff.domain.SchemaElementType;
 import com.schemafy.core.erd.schema.application.port.in.ChangeSchemaNameCommand;
 import com.schemafy.core.erd.schema.application.port.in.ChangeSchemaNameUseCase;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaCommand;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaResult;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaUseCase;
 import com.schemafy.core.erd.schema.application.port.in.CreateSchemaCommand;
 import com.schemafy.core.erd.schema.application.port.in.CreateSchemaResult;
 import com.schemafy.core.erd.schema.application.port.in.CreateSchemaUseCase;
@@ -41,6 +61,7 @@ import com.schemafy.core.erd.schema.application.port.in.GetSchemaWithRevisionUse
 import com.schemafy.core.erd.schema.application.port.in.GetSchemasByProjectIdQuery;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemasByProjectIdUseCase;
 import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.viewport.application.port.in.GetSchemaViewportQuery;
 import com.schemafy.core.project.domain.exception.ProjectErrorCode;
 
 import reactor.core.publisher.Flux;
@@ -97,9 +118,21 @@ class SchemaControllerTest {
   @MockitoBean
   private DeleteSchemaUseCase deleteSchemaUseCase;
 
+  @MockitoBean
+  private ImportSchemaDdlUseCase importSchemaDdlUseCase;
+
+  @MockitoBean
+  private CloneSchemaUseCase cloneSchemaUseCase;
+
+  @MockitoBean
+  private GetSchemaDiffUseCase getSchemaDiffUseCase;
+
   @MockitoBean
   private SchemaSnapshotOrchestrator schemaSnapshotOrchestrator;
 
+  @MockitoBean
+  private SchemaViewportOrchestrator schemaViewportOrchestrator;
+
   @MockitoBean
   private SchemaDdlExportOrchestrator schemaDdlExportOrchestrator;
 
@@ -199,6 +232,166 @@ class SchemaControllerTest {
         .jsonPath("$.reason").isEqualTo(ProjectErrorCode.NOT_FOUND.code());
   }
 
+  @Test
+  @DisplayName("DDL 스크립트로 스키마 가져오기 API 문서화")
+  void importSchemaDdl() throws Exception {
+    ImportSchemaDdlRequest request = new ImportSchemaDdlRequest(
+        "06D6VZBWHSDJBBG0H7D156YZ98",
+        "imported_schema",
+        "utf8mb4",
+        "utf8mb4_general_ci",
+        "CREATE TABLE `users` (`id` BIGINT NOT NULL, PRIMARY KEY (`id`));");
+
+    ImportSchemaDdlResult result = new ImportSchemaDdlResult(
+        "06D6W1GAHD51T5NJPK29Q6BCR8",
+        "06D6VZBWHSDJBBG0H7D156YZ98",
+        "imported_schema",
+        "utf8mb4",
+        "utf8mb4_general_ci",
+        1,
+        List.of("Ignored INSERT statement"));
+
+    given(importSchemaDdlUseCase.importSchemaDdl(any(ImportSchemaDdlCommand.class)))
+        .willReturn(Mono.just(
+            MutationResult.of(result, Set.of("06D6W2ZHHN3QFKDT7HKEF2T8Q4"))
+                .withOperation(committedOperation())));
+
+    webTestClient.post()
+        .uri(API_BASE_PATH + "/schemas/imports/ddl")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(objectMapper.writeValueAsString(request))
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.data.id").isEqualTo("06D6W1GAHD51T5NJPK29Q6BCR8")
+        .jsonPath("$.data.tableCount").isEqualTo(1)
+        .jsonPath("$.data.warnings[0]").isEqualTo("Ignored INSERT statement")
+        .jsonPath("$.affectedTableIds[0]").isEqualTo("06D6W2ZHHN3QFKDT7HKEF2T8Q4")
+        .jsonPath("$.operation.opId").isEqualTo(OP_ID)
+        .consumeWith(document("schema-import-ddl",
+            requestHeaders(
+                headerWithName("Content-Type")
+                    .description("요청 본문 타입 (application/json)"),
+                headerWithName("Accept")
+                    .description("응답 포맷 (application/json)")),
+            requestFields(
+                fieldWithPath("projectId").description("프로젝트 ID"),
+                fieldWithPath("name").description("생성할 스키마 이름"),
+                fieldWithPath("charset").description("문자셋 (선택)").optional(),
+                fieldWithPath("collation").description("콜레이션 (선택)").optional(),
+                fieldWithPath("ddl").description("가져올 DDL 스크립트")),
+            responseHeaders(
+                headerWithName("Content-Type")
+                    .description("응답 컨텐츠 타입")),
+            responseFields(
+                fieldWithPath("data").description("가져온 스키마 정보"),
+                fieldWithPath("data.id").description("스키마 ID"),
+                fieldWithPath("data.projectId").description("프로젝트 ID"),
+                fieldWithPath("data.name").description("스키마 이름"),
+                fieldWithPath("data.charset").description("문자셋").optional(),
+                fieldWithPath("data.collation").description("콜레이션").optional(),
+                fieldWithPath("data.tableCount").description("생성된 테이블 수"),
+                fieldWithPath("data.warnings").description("가져오는 중 무시된 구문 목록"),
+                fieldWithPath("affectedTableIds").description("영향받은 테이블 ID 목록"),
+                fieldWithPath("operation").type(JsonFieldType.OBJECT)
+                    .description("커밋된 ERD operation 메타데이터"),
+                fieldWithPath("operation.opId").description("커밋된 operation ID"),
+                fieldWithPath("operation.clientOperationId")
+                    .description("클라이언트가 보낸 operation ID"),
+                fieldWithPath("operation.committedRevision")
+                    .description("커밋 후 schema revision"),
+                fieldWithPath("operation.derivationKind")
+                    .description("operation derivation kind"))));
+  }
+
+  @Test
+  @DisplayName("DDL 스크립트 없이 스키마 가져오기 요청 시 400을 반환한다")
+  void importSchemaDdlRejectsBlankDdl() throws Exception {
+    ImportSchemaDdlRequest request = new ImportSchemaDdlRequest(
+        "06D6VZBWHSDJBBG0H7D156YZ98",
+        "imported_schema",
+        null,
+        null,
+        " ");
+
+    webTestClient.post()
+        .uri(API_BASE_PATH + "/schemas/imports/ddl")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(objectMapper.writeValueAsString(request))
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+  @Test
+  @DisplayName("스키마 복제 API 문서화")
+  void cloneSchema() throws Exception {
+    String sourceSchemaId = "06D6W1GAHD51T5NJPK29Q6BCR8";
+    CloneSchemaRequest request = new CloneSchemaRequest("what_if_schema");
+
+    CloneSchemaResult result = new CloneSchemaResult(
+        "06D6W4B2Q8M3N1P5R7T9V0X2Z4",
+        sourceSchemaId,
+        "06D6VZBWHSDJBBG0H7D156YZ98",
+        "what_if_schema",
+        "utf8mb4",
+        "utf8mb4_general_ci",
+        12);
+
+    given(cloneSchemaUseCase.cloneSchema(any(CloneSchemaCommand.class)))
+        .willReturn(Mono.just(
+            MutationResult.empty(result).withOperation(committedOperation())));
+
+    webTestClient.post()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/clones", sourceSchemaId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(objectMapper.writeValueAsString(request))
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.data.id").isEqualTo("06D6W4B2Q8M3N1P5R7T9V0X2Z4")
+        .jsonPath("$.data.sourceSchemaId").isEqualTo(sourceSchemaId)
+        .jsonPath("$.data.tableCount").isEqualTo(12)
+        .jsonPath("$.operation.opId").isEqualTo(OP_ID)
+        .consumeWith(document("schema-clone",
+            pathParameters(
+                parameterWithName("schemaId").description("복제할 원본 스키마 ID")),
+            requestHeaders(
+                headerWithName("Content-Type")
+                    .description("요청 본문 타입 (application/json)"),
+                headerWithName("Accept")
+                    .description("응답 포맷 (application/json)")),
+            requestFields(
+                fieldWithPath("name").description("생성할 스키마 이름")),
+            responseHeaders(
+                headerWithName("Content-Type")
+                    .description("응답 컨텐츠 타입")),
+            responseFields(
+                fieldWithPath("data").description("복제된 스키마 정보"),
+                fieldWithPath("data.id").description("새 스키마 ID"),
+                fieldWithPath("data.sourceSchemaId").description("원본 스키마 ID"),
+                fieldWithPath("data.projectId").description("프로젝트 ID"),
+                fieldWithPath("data.name").description("스키마 이름"),
+                fieldWithPath("data.charset").description("문자셋"),
+                fieldWithPath("data.collation").description("콜레이션"),
+                fieldWithPath("data.tableCount").description("복제된 테이블 수"),
+                fieldWithPath("affectedTableIds").description("영향받은 테이블 ID 목록"),
+                fieldWithPath("operation").type(JsonFieldType.OBJECT)
+                    .description("커밋된 ERD operation 메타데이터"),
+                fieldWithPath("operation.opId").description("커밋된 operation ID"),
+                fieldWithPath("operation.clientOperationId")
+                    .description("클라이언트가 보낸 operation ID"),
+                fieldWithPath("operation.committedRevision")
+                    .description("커밋 후 schema revision"),
+                fieldWithPath("operation.derivationKind")
+                    .description("operation derivation kind"))));
+
+    then(cloneSchemaUseCase).should()
+        .cloneSchema(new CloneSchemaCommand(sourceSchemaId, "what_if_schema"));
+  }
+
   @Test
   @DisplayName("스키마 조회 API 문서화")
   void getSchema() throws Exception {
@@ -288,6 +481,68 @@ class SchemaControllerTest {
                     .description("테이블 ID keyed snapshot map. 각 value 구조는 table snapshot 응답과 동일"))));
   }
 
+  @Test
+  @DisplayName("스키마 아웃라인 조회 API 문서화")
+  void getSchemaOutline() {
+    String schemaId = "06D6W1GAHD51T5NJPK29Q6BCR8";
+    SchemaOutlineResponse response = new SchemaOutlineResponse(
+        42L,
+        java.util.List.of(new OutlineItemResponse(
+            "06D6W2BAHD51T5NJPK29Q6BCR9", "users", 120, 80, 320, 112)),
+        java.util.List.of());
+
+    given(schemaViewportOrchestrator.getSchemaOutline(
+        any(GetSchemaViewportQuery.class)))
+        .willReturn(Mono.just(response));
+
+    webTestClient.get()
+        .uri(API_BASE_PATH
+            + "/schemas/{schemaId}/outline?x=0&y=0&width=1920&height=1080",
+            schemaId)
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.currentRevision").isEqualTo(42)
+        .jsonPath("$.tables[0].name").isEqualTo("users")
+        .consumeWith(document("schema-outline-get",
+            pathParameters(
+                parameterWithName("schemaId")
+                    .description("조회할 스키마 ID")),
+            queryParameters(
+                parameterWithName("x").description("조회 영역 좌상단 x (생략 시 전체)").optional(),
+                parameterWithName("y").description("조회 영역 좌상단 y (생략 시 전체)").optional(),
+                parameterWithName("width").description("조회 영역 너비").optional(),
+                parameterWithName("height").description("조회 영역 높이").optional()),
+            requestHeaders(
+                headerWithName("Accept")
+                    .description("응답 포맷 (application/json)")),
+            responseHeaders(
+                headerWithName("Content-Type")
+                    .description("응답 컨텐츠 타입")),
+            responseFields(
+                fieldWithPath("currentRevision").description("조회 기준 schema revision"),
+                fieldWithPath("tables[].id").description("테이블 ID"),
+                fieldWithPath("tables[].name").description("테이블 이름"),
+                fieldWithPath("tables[].x").description("캔버스 x 좌표"),
+                fieldWithPath("tables[].y").description("캔버스 y 좌표"),
+                fieldWithPath("tables[].width").description("추정 너비"),
+                fieldWithPath("tables[].height").description("컬럼 수 기반 추정 높이"),
+                fieldWithPath("memos").type(JsonFieldType.ARRAY)
+                    .description("영역 내 메모 목록 (테이블과 동일한 구조)"))));
+  }
+
+  @Test
+  @DisplayName("스키마 아웃라인 조회 시 영역 파라미터가 일부만 있으면 400을 반환한다")
+  void getSchemaOutlineWithPartialArea() {
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/outline?x=0&y=0",
+            "06D6W1GAHD51T5NJPK29Q6BCR8")
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
   @Test
   @DisplayName("스키마 DDL export API 문서화")
   void exportSchemaDdl() {
@@ -401,6 +656,117 @@ class SchemaControllerTest {
                     .description("생성된 Mermaid ER diagram 문자열"))));
   }
 
+  @Test
+  @DisplayName("스키마 비교 API 문서화")
+  void getSchemaDiff() {
+    String baseSchemaId = "06D6W1GAHD51T5NJPK29Q6BCR8";
+    String schemaId = "06D6W4B2Q8M3N1P5R7T9V0X2Z4";
+    SchemaDiffResult result = new SchemaDiffResult(
+        baseSchemaId,
+        41L,
+        schemaId,
+        3L,
+        List.of(
+            new SchemaChange(SchemaElementType.COLUMN, SchemaChangeType.MODIFIED,
+                "06D6W1GAHD51T5NJPK29Q6BCC1", "06D6W4B2Q8M3N1P60000000001",
+                "users", "email", List.of("typeArguments")),
+            new SchemaChange(SchemaElementType.COLUMN, SchemaChangeType.ADDED,
+                null, "06D6W4B2Q8M3N1P60000000002",
+                "users", "nickname", List.of())),
+        """
+            -- Schemafy MySQL Migration
+            -- From: commerce
+            -- To: commerce_what_if
+
+            ALTER TABLE `users` CHANGE COLUMN `email` `email` VARCHAR(320) NOT NULL;
+            ALTER TABLE `users` ADD COLUMN `nickname` VARCHAR(50) AFTER `email`;
+            """.trim());
+
+    given(getSchemaDiffUseCase.getSchemaDiff(new GetSchemaDiffQuery(baseSchemaId, schemaId)))
+        .willReturn(Mono.just(result));
+
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/diff?baseSchemaId={baseSchemaId}",
+            schemaId, baseSchemaId)
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.baseSchemaId").isEqualTo(baseSchemaId)
+        .jsonPath("$.currentRevision").isEqualTo(3)
+        .jsonPath("$.changes[0].changedFields[0]").isEqualTo("typeArguments")
+        .jsonPath("$.changes[1].changeType").isEqualTo("ADDED")
+        .jsonPath("$.migrationDdl").value(org.hamcrest.Matchers.containsString(
+            "ADD COLUMN `nickname`"))
+        .consumeWith(document("schema-diff",
+            pathParameters(
+                parameterWithName("schemaId")
+                    .description("비교 대상 스키마 ID")),
+            queryParameters(
+                parameterWithName("baseSchemaId")
+                    .description("비교 기준 스키마 ID"),
+                parameterWithName("baseRevision").optional()
+                    .description("기준 스키마의 비교 revision. 생략하면 현재 revision"),
+                parameterWithName("revision").optional()
+                    .description("대상 스키마의 비교 revision. 생략하면 현재 revision")),
+            requestHeaders(
+                headerWithName("Accept")
+                    .description("응답 포맷 (application/json)")),
+            responseHeaders(
+                headerWithName("Content-Type")
+                    .description("응답 컨텐츠 타입")),
+            responseFields(
+                fieldWithPath("baseSchemaId").description("비교 기준 스키마 ID"),
+                fieldWithPath("baseRevision").description("비교에 사용한 기준 스키마 revision"),
+                fieldWithPath("schemaId").description("비교 대상 스키마 ID"),
+                fieldWithPath("currentRevision").description("비교에 사용한 대상 스키마 revision"),
+                fieldWithPath("changes[].elementType")
+                    .description("변경된 요소 종류 (TABLE, COLUMN, CONSTRAINT, INDEX, RELATIONSHIP)"),
+                fieldWithPath("changes[].changeType")
+                    .description("변경 종류 (ADDED, REMOVED, MODIFIED)"),
+                fieldWithPath("changes[].baseId").optional()
+                    .description("기준 스키마의 요소 ID. 추가된 요소는 null"),
+                fieldWithPath("changes[].targetId").optional()
+                    .description("대상 스키마의 요소 ID. 삭제된 요소는 null"),
+                fieldWithPath("changes[].tableName").description("요소가 속한 테이블 이름"),
+                fieldWithPath("changes[].name").description("요소 이름"),
+                fieldWithPath("changes[].changedFields")
+                    .description("MODIFIED일 때 바뀐 속성 목록. 컬럼 순서 변경은 position"),
+                fieldWithPath("migrationDdl")
+                    .description("기준 스키마를 대상 스키마로 바꾸는 migration DDL"))));
+  }
+
+  @Test
+  @DisplayName("스키마 비교 API는 revision query parameter를 전달한다")
+  void getSchemaDiffBetweenRevisions() {
+    String schemaId = "06D6W4B2Q8M3N1P5R7T9V0X2Z4";
+    SchemaDiffResult result = new SchemaDiffResult(schemaId, 2L, schemaId, 5L, List.of(), "");
+    given(getSchemaDiffUseCase.getSchemaDiff(new GetSchemaDiffQuery(schemaId, 2L, schemaId, 5L)))
+        .willReturn(Mono.just(result));
+
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/diff?baseSchemaId={schemaId}&baseRevision=2&revision=5",
+            schemaId, schemaId)
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.baseRevision").isEqualTo(2)
+        .jsonPath("$.currentRevision").isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("스키마 비교 API는 baseSchemaId query parameter를 요구한다")
+  void getSchemaDiffRequiresBaseSchemaId() {
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/schemas/{schemaId}/diff", "06D6W4B2Q8M3N1P5R7T9V0X2Z4")
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isBadRequest();
+
+    then(getSchemaDiffUseCase).shouldHaveNoInteractions();
+  }
+
   @Test
   @DisplayName("프로젝트별 스키마 목록 조회 API 문서화")
   void getSchemasByProjectId() throws Exception {
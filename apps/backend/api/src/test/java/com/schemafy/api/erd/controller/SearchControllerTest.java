@@ -0,0 +1,123 @@
+package com.schemafy.api.erd.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.api.common.constant.ApiPath;
+import com.schemafy.api.common.security.WithMockCustomUser;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectQuery;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectUseCase;
+import com.schemafy.core.erd.search.domain.SearchField;
+import com.schemafy.core.erd.search.domain.SearchHit;
+import com.schemafy.core.erd.search.domain.SearchHitType;
+
+import reactor.core.publisher.Mono;
+
+import static com.epages.restdocs.apispec.WebTestClientRestDocumentationWrapper.document;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureWebTestClient
+@AutoConfigureRestDocs
+@DisplayName("SearchController 통합 테스트")
+@WithMockCustomUser
+class SearchControllerTest {
+
+  private static final String PROJECT_ID = "06D6VZBWHSDJBBG0H7D156YZ98";
+  private static final String SCHEMA_ID = "06D6W1GAHD51T5NJPK29Q6BCR8";
+  private static final String API_BASE_PATH = ApiPath.API
+      .replace("{version}", "v1.0");
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @MockitoBean
+  private SearchProjectUseCase searchProjectUseCase;
+
+  @Test
+  @DisplayName("프로젝트 검색 API 문서화")
+  void searchProject() {
+    given(searchProjectUseCase.searchProject(argThat(query -> query != null
+        && query.keyword().equals("customer")
+        && query.limit() == SearchProjectQuery.DEFAULT_LIMIT)))
+        .willReturn(Mono.just(List.of(
+            new SearchHit(SearchHitType.COLUMN, "06D6W2BAHD51T5NJPK29Q6BCS0", SCHEMA_ID,
+                "06D6W2BAHD51T5NJPK29Q6BCR9", null, "orders.customer_id", SearchField.NAME,
+                "customer_id"),
+            new SearchHit(SearchHitType.MEMO_COMMENT, "06D6W2BAHD51T5NJPK29Q6BCS2", SCHEMA_ID,
+                null, "06D6W2BAHD51T5NJPK29Q6BCS1", null, SearchField.BODY,
+                "customer_id should be indexed"))));
+
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/projects/{projectId}/search?q=customer", PROJECT_ID)
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.hits[0].type").isEqualTo("COLUMN")
+        .jsonPath("$.hits[0].label").isEqualTo("orders.customer_id")
+        .jsonPath("$.hits[1].memoId").isEqualTo("06D6W2BAHD51T5NJPK29Q6BCS1")
+        .consumeWith(document("project-search",
+            pathParameters(
+                parameterWithName("projectId")
+                    .description("검색할 프로젝트 ID")),
+            queryParameters(
+                parameterWithName("q").description("검색어 (공백으로 구분된 단어를 모두 포함)"),
+                parameterWithName("limit").description("최대 결과 수 (기본 20, 최대 100)").optional()),
+            requestHeaders(
+                headerWithName("Accept")
+                    .description("응답 포맷 (application/json)")),
+            responseHeaders(
+                headerWithName("Content-Type")
+                    .description("응답 컨텐츠 타입")),
+            responseFields(
+                fieldWithPath("hits[].type").description("결과 종류 (TABLE, COLUMN, MEMO_COMMENT)"),
+                fieldWithPath("hits[].id").description("테이블, 컬럼 또는 메모 댓글 ID"),
+                fieldWithPath("hits[].schemaId").description("결과가 속한 스키마 ID"),
+                fieldWithPath("hits[].tableId").type(JsonFieldType.STRING)
+                    .description("결과가 속한 테이블 ID (메모 댓글은 null)").optional(),
+                fieldWithPath("hits[].memoId").type(JsonFieldType.STRING)
+                    .description("결과가 속한 메모 ID (테이블, 컬럼은 null)").optional(),
+                fieldWithPath("hits[].label").type(JsonFieldType.STRING)
+                    .description("표시 이름 (컬럼은 table.column)").optional(),
+                fieldWithPath("hits[].field").description("일치한 필드 (NAME, DATA_TYPE, COMMENT, BODY)"),
+                fieldWithPath("hits[].text").description("일치한 필드의 원문"))));
+  }
+
+  @Test
+  @DisplayName("결과 수 제한이 최대값을 넘으면 400을 반환한다")
+  void searchProjectWithTooLargeLimit() {
+    webTestClient.get()
+        .uri(API_BASE_PATH + "/projects/{projectId}/search?q=customer&limit=101", PROJECT_ID)
+        .header("Accept", "application/json")
+        .exchange()
+        .expectStatus().isBadRequest();
+
+    then(searchProjectUseCase).should(never()).searchProject(any());
+  }
+
+}
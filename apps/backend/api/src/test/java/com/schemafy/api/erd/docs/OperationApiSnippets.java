@@ -1,12 +1,16 @@
 package com.schemafy.api.erd.docs;
 
 import org.springframework.restdocs.headers.HeaderDescriptor;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.restdocs.snippet.Snippet;
 
 import com.schemafy.api.collaboration.constant.CollaborationConstants;
 import com.schemafy.api.common.docs.RestDocsSnippets;
 
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 
@@ -60,4 +64,79 @@ public class OperationApiSnippets extends RestDocsSnippets {
     return createResponseFieldsSnippet(mutationResponseFieldsWithNullData());
   }
 
+  public static Snippet applyMutationBatchPathParameters() {
+    return pathParameters(
+        parameterWithName("schemaId")
+            .description("batch를 적용할 스키마 ID"));
+  }
+
+  public static Snippet applyMutationBatchRequestHeaders() {
+    HeaderDescriptor[] operationHeaders = operationRequestHeaders();
+    HeaderDescriptor[] headers = new HeaderDescriptor[operationHeaders.length + 1];
+    headers[0] = headerWithName("Content-Type").description("요청 본문 타입 (application/json)");
+    System.arraycopy(operationHeaders, 0, headers, 1, operationHeaders.length);
+    return createRequestHeadersSnippet(headers);
+  }
+
+  public static Snippet applyMutationBatchRequest() {
+    return requestFields(
+        fieldWithPath("mutations").type(JsonFieldType.ARRAY)
+            .description("순서대로 적용할 mutation 목록 (최대 200개)"),
+        fieldWithPath("mutations[].ref").type(JsonFieldType.STRING)
+            .description("이후 mutation의 *Id 필드에서 \"$ref\" 형태로 참조할 이름").optional(),
+        fieldWithPath("mutations[].type").type(JsonFieldType.STRING)
+            .description("operation 타입 (테이블 하위 mutation만 허용)"),
+        subsectionWithPath("mutations[].payload")
+            .description("operation 타입에 해당하는 command 필드 (단건 API 요청 본문과 같은 형태)"));
+  }
+
+  public static Snippet applyMutationBatchResponseHeaders() {
+    return createResponseHeadersSnippet(commonResponseHeaders());
+  }
+
+  public static Snippet applyMutationBatchResponse() {
+    return createResponseFieldsSnippet(mutationResponseFields(
+        fieldWithPath("data.schemaId").type(JsonFieldType.STRING)
+            .description("스키마 ID"),
+        fieldWithPath("data.mutations").type(JsonFieldType.ARRAY)
+            .description("요청 순서대로의 mutation 결과"),
+        fieldWithPath("data.mutations[].ref").type(JsonFieldType.STRING)
+            .description("요청에 지정한 ref").optional(),
+        fieldWithPath("data.mutations[].type").type(JsonFieldType.STRING)
+            .description("operation 타입"),
+        fieldWithPath("data.mutations[].createdId").type(JsonFieldType.STRING)
+            .description("생성된 요소 ID (생성 mutation인 경우)").optional()));
+  }
+
+  public static Snippet getSchemaAtRevisionPathParameters() {
+    return pathParameters(
+        parameterWithName("schemaId")
+            .description("스키마 ID"),
+        parameterWithName("revision")
+            .description("조회할 schema revision (0 이상, 현재 revision 이하)"));
+  }
+
+  public static Snippet getSchemaAtRevisionRequestHeaders() {
+    return createRequestHeadersSnippet(
+        headerWithName("Accept").description("응답 포맷").optional());
+  }
+
+  public static Snippet getSchemaAtRevisionResponseHeaders() {
+    return createResponseHeadersSnippet(commonResponseHeaders());
+  }
+
+  public static Snippet getSchemaAtRevisionResponse() {
+    return createResponseFieldsSnippet(
+        fieldWithPath("schemaId").type(JsonFieldType.STRING)
+            .description("스키마 ID"),
+        fieldWithPath("revision").type(JsonFieldType.NUMBER)
+            .description("조회한 schema revision"),
+        fieldWithPath("baseRevision").type(JsonFieldType.NUMBER)
+            .description("되감기를 시작한 checkpoint 또는 현재 구조의 revision"),
+        fieldWithPath("rewoundOperationCount").type(JsonFieldType.NUMBER)
+            .description("baseRevision에서 revision까지 되감은 operation 수"),
+        subsectionWithPath("structure").type(JsonFieldType.OBJECT)
+            .description("해당 revision의 테이블, 컬럼, 제약조건, 인덱스, 관계 구조"));
+  }
+
 }
@@ -2,6 +2,7 @@ package com.schemafy.api.erd.service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,11 +31,9 @@ import com.schemafy.core.erd.memo.domain.Memo;
 import com.schemafy.core.erd.memo.domain.MemoComment;
 import com.schemafy.core.erd.memo.domain.MemoDetail;
 import com.schemafy.core.erd.memo.domain.exception.MemoErrorCode;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsUseCase;
-import com.schemafy.core.user.domain.User;
-import com.schemafy.core.user.domain.UserStatus;
+import com.schemafy.core.user.application.port.in.GetUserSummariesUseCase;
+import com.schemafy.core.user.domain.UserSummary;
 
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -71,7 +70,7 @@ class MemoOrchestratorTest {
   UpdateMemoCommentUseCase updateMemoCommentUseCase;
 
   @Mock
-  GetUsersByIdsUseCase getUsersByIdsUseCase;
+  GetUserSummariesUseCase getUserSummariesUseCase;
 
   MemoOrchestrator sut;
 
@@ -87,7 +86,7 @@ class MemoOrchestratorTest {
         createMemoCommentUseCase,
         getMemoCommentsUseCase,
         updateMemoCommentUseCase,
-        getUsersByIdsUseCase,
+        getUserSummariesUseCase,
         new MemoApiCommandMapper(),
         new MemoApiResponseMapper(jsonObjectMetadataConverter),
         jsonCodec);
@@ -116,17 +115,12 @@ class MemoOrchestratorTest {
     when(getMemoUseCase.getMemo(any()))
         .thenReturn(Mono.just(new MemoDetail(memo, List.of(comment))));
 
-    User user = new User(
+    UserSummary user = new UserSummary(
         "author-1",
         "author-1@example.com",
-        "작성자",
-        null,
-        UserStatus.ACTIVE,
-        null,
-        null,
-        null);
-    when(getUsersByIdsUseCase.getUsersByIds(any()))
-        .thenReturn(Flux.just(user));
+        "작성자");
+    when(getUserSummariesUseCase.getUserSummaries(any()))
+        .thenReturn(Mono.just(Map.of(user.id(), user)));
 
     StepVerifier.create(sut.getMemo("memo-1"))
         .assertNext(response -> {
@@ -157,17 +151,12 @@ class MemoOrchestratorTest {
     when(updateMemoPositionUseCase.updateMemoPosition(any()))
         .thenReturn(Mono.just(updated));
 
-    User user = new User(
+    UserSummary user = new UserSummary(
         "author-1",
         "author-1@example.com",
-        "작성자",
-        null,
-        UserStatus.ACTIVE,
-        null,
-        null,
-        null);
-    when(getUsersByIdsUseCase.getUsersByIds(any()))
-        .thenReturn(Flux.just(user));
+        "작성자");
+    when(getUserSummariesUseCase.getUserSummaries(any()))
+        .thenReturn(Mono.just(Map.of(user.id(), user)));
 
     StepVerifier.create(sut.updateMemo(
         "memo-1",
@@ -197,8 +186,8 @@ class MemoOrchestratorTest {
 
     when(updateMemoPositionUseCase.updateMemoPosition(any()))
         .thenReturn(Mono.just(updated));
-    when(getUsersByIdsUseCase.getUsersByIds(any()))
-        .thenReturn(Flux.empty());
+    when(getUserSummariesUseCase.getUserSummaries(any()))
+        .thenReturn(Mono.just(Map.of()));
 
     StepVerifier.create(sut.updateMemo(
         "memo-1",
@@ -2,6 +2,10 @@ package com.schemafy.api.erd.service;
 
 import java.util.List;
 
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +47,9 @@ import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,10 +80,23 @@ class TableSnapshotOrchestratorTest {
   @Mock
   GetIndexColumnsByIndexIdUseCase getIndexColumnsByIndexIdUseCase;
 
+  @Mock
+  ReactiveTransactionManager transactionManager;
+
+  @Mock
+  ReactiveTransaction transaction;
+
   TableSnapshotOrchestrator sut;
 
   @BeforeEach
   void setUp() {
+    when(transactionManager.getReactiveTransaction(any()))
+        .thenReturn(Mono.just(transaction));
+    lenient().when(transactionManager.commit(transaction))
+        .thenReturn(Mono.empty());
+    lenient().when(transactionManager.rollback(transaction))
+        .thenReturn(Mono.empty());
+
     JsonCodec jsonCodec = new JsonCodec(new ObjectMapper()
         .findAndRegisterModules());
     JsonObjectMetadataConverter jsonObjectMetadataConverter = new JsonObjectMetadataConverter(jsonCodec);
@@ -90,7 +110,8 @@ class TableSnapshotOrchestratorTest {
         getIndexesByTableIdUseCase,
         getIndexColumnsByIndexIdUseCase,
         new TableApiResponseMapper(jsonObjectMetadataConverter),
-        new RelationshipApiResponseMapper(jsonObjectMetadataConverter));
+        new RelationshipApiResponseMapper(jsonObjectMetadataConverter),
+        transactionManager);
   }
 
   @Test
@@ -157,6 +178,9 @@ class TableSnapshotOrchestratorTest {
               .containsExactly("ic1", "ic2");
         })
         .verifyComplete();
+
+    verify(transactionManager).getReactiveTransaction(
+        argThat(TransactionDefinition::isReadOnly));
   }
 
   @Test
@@ -271,6 +271,47 @@ class ProjectControllerTest extends ProjectHttpTestSupport {
         .jsonPath("$.totalElements").isEqualTo(0);
   }
 
+  @Test
+  @DisplayName("공유 프로젝트 커서 목록 조회는 nextCursorId로 다음 페이지를 이어서 조회한다")
+  void getMySharedProjectsByCursorSuccess() {
+    Workspace sharedWorkspace = saveWorkspace("Shared Workspace", "Description");
+    addWorkspaceMember(sharedWorkspace.getId(), testUserId, WorkspaceRole.ADMIN);
+
+    Project sharedProject = saveProject(sharedWorkspace.getId(), "Shared Project", "Description");
+    Project newerSharedProject = saveProject(sharedWorkspace.getId(), "Newer Shared Project", "Description");
+    addProjectMember(sharedProject.getId(), testUser2Id, ProjectRole.VIEWER);
+    addProjectMember(newerSharedProject.getId(), testUser2Id, ProjectRole.EDITOR);
+    boolean newerFirst = newerSharedProject.getId().compareTo(sharedProject.getId()) > 0;
+    Project first = newerFirst ? newerSharedProject : sharedProject;
+    Project second = newerFirst ? sharedProject : newerSharedProject;
+
+    webTestClient.get()
+        .uri(ApiPath.API.replace("{version}", "v1.0")
+            + "/projects/shared/me/cursor?size=1")
+        .header("Authorization", "Bearer " + accessToken2)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.content.length()").isEqualTo(1)
+        .jsonPath("$.content[0].id").isEqualTo(first.getId())
+        .jsonPath("$.hasNext").isEqualTo(true)
+        .jsonPath("$.nextCursorId").isEqualTo(first.getId())
+        .jsonPath("$.totalElements").doesNotExist();
+
+    webTestClient.get()
+        .uri(ApiPath.API.replace("{version}", "v1.0")
+            + "/projects/shared/me/cursor?size=1&cursorId={cursorId}",
+            first.getId())
+        .header("Authorization", "Bearer " + accessToken2)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.content.length()").isEqualTo(1)
+        .jsonPath("$.content[0].id").isEqualTo(second.getId())
+        .jsonPath("$.hasNext").isEqualTo(false)
+        .jsonPath("$.nextCursorId").value(value -> assertThat(value).isNull());
+  }
+
   @DisplayName("공유 프로젝트 목록 조회는 잘못된 pagination 쿼리에 대해 400 Bad Request를 반환한다")
   @ParameterizedTest(name = "공유 프로젝트 목록 조회 실패 쿼리: {0}")
   @ValueSource(strings = {
@@ -15,7 +15,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.schemafy.api.testsupport.project.ProjectHttpTestSupport;
-import com.schemafy.core.project.adapter.out.persistence.ShareLinkRepository;
+import com.schemafy.core.project.application.port.out.ShareLinkAccessCounterPort;
 import com.schemafy.core.project.domain.Project;
 import com.schemafy.core.project.domain.ShareLink;
 import com.schemafy.core.project.domain.Workspace;
@@ -24,6 +24,7 @@ import com.schemafy.core.user.domain.User;
 
 import reactor.core.publisher.Mono;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 
@@ -40,7 +41,7 @@ class PublicShareLinkControllerResilienceTest extends ProjectHttpTestSupport {
   private WebTestClient webTestClient;
 
   @MockitoSpyBean
-  private ShareLinkRepository shareLinkRepository;
+  private ShareLinkAccessCounterPort shareLinkAccessCounterPort;
 
   private User testUser;
   private Workspace testWorkspace;
@@ -69,15 +70,15 @@ class PublicShareLinkControllerResilienceTest extends ProjectHttpTestSupport {
   }
 
   @Test
-  @DisplayName("incrementAccessCount가 실패해도 프로젝트 조회는 성공한다")
-  void accessByLink_IncrementAccessCountFailure_StillSucceeds() {
+  @DisplayName("접근 횟수 기록이 실패해도 프로젝트 조회는 성공한다")
+  void accessByLink_RecordAccessFailure_StillSucceeds() {
     String code = generateLinkCode();
     createShareLink(code);
 
-    // incrementAccessCount만 실패하도록 설정
-    doReturn(Mono.error(new RuntimeException("DB write failed")))
-        .when(shareLinkRepository)
-        .incrementAccessCount(anyString());
+    // 접근 횟수 기록만 실패하도록 설정
+    doReturn(Mono.error(new RuntimeException("Counter write failed")))
+        .when(shareLinkAccessCounterPort)
+        .record(anyString(), any());
 
     // 접근은 성공해야 함. accessCount는 증가하지 않았지만, 응답은 성공
     webTestClient.get()
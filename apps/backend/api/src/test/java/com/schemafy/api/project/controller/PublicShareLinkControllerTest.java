@@ -18,8 +18,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.schemafy.api.RestDocsConfiguration;
+import com.schemafy.api.common.constant.ApiPath;
 import com.schemafy.api.testsupport.project.ProjectHttpTestSupport;
+import com.schemafy.core.project.application.port.in.FlushShareLinkAccessUseCase;
 import com.schemafy.core.project.domain.Project;
+import com.schemafy.core.project.domain.ProjectRole;
 import com.schemafy.core.project.domain.ShareLink;
 import com.schemafy.core.project.domain.Workspace;
 import com.schemafy.core.project.domain.WorkspaceRole;
@@ -45,6 +48,9 @@ class PublicShareLinkControllerTest extends ProjectHttpTestSupport {
   @Autowired
   private WebTestClient webTestClient;
 
+  @Autowired
+  private FlushShareLinkAccessUseCase flushShareLinkAccessUseCase;
+
   private User testUser;
   private Workspace testWorkspace;
   private Project testProject;
@@ -179,7 +185,12 @@ class PublicShareLinkControllerTest extends ProjectHttpTestSupport {
     webTestClient.get().uri(PUBLIC_API_PATH + "/" + code).exchange()
         .expectStatus().isOk();
 
-    // Check access count increased (no need to wait - then() blocks until complete)
+    ShareLink buffered = shareLinkRepository.findById(shareLink.getId()).block();
+    assertThat(buffered).isNotNull();
+    assertThat(buffered.getAccessCount()).isZero();
+
+    flushShareLinkAccessUseCase.flushAccessCounts().block();
+
     ShareLink updated = shareLinkRepository.findById(shareLink.getId()).block();
     assertThat(updated).isNotNull();
     assertThat(updated.getAccessCount()).isEqualTo(1L);
@@ -195,10 +206,35 @@ class PublicShareLinkControllerTest extends ProjectHttpTestSupport {
       webTestClient.get().uri(PUBLIC_API_PATH + "/" + code).exchange()
           .expectStatus().isOk();
     }
+    flushShareLinkAccessUseCase.flushAccessCounts().block();
 
     ShareLink updated = shareLinkRepository.findById(shareLink.getId()).block();
     assertThat(updated).isNotNull();
     assertThat(updated.getAccessCount()).isEqualTo(3L);
+    assertThat(updated.getLastAccessedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("폐기된 공유 링크는 캐시된 이후에도 즉시 접근이 차단된다")
+  void accessByLink_RevokedAfterCached() {
+    String code = generateLinkCode();
+    ShareLink shareLink = createShareLink(code, null);
+    addProjectMember(testProject.getId(), testUser.id(), ProjectRole.ADMIN);
+
+    webTestClient.get().uri(PUBLIC_API_PATH + "/" + code).exchange()
+        .expectStatus().isOk();
+
+    webTestClient.patch()
+        .uri(ApiPath.API.replace("{version}", "v1.0")
+            + "/projects/{projectId}/share-links/{shareLinkId}/revoke",
+            testProject.getId(), shareLink.getId())
+        .header("Authorization", "Bearer " + accessToken)
+        .exchange()
+        .expectStatus().isOk();
+
+    webTestClient.get().uri(PUBLIC_API_PATH + "/" + code).exchange()
+        .expectStatus().isBadRequest().expectBody()
+        .jsonPath("$.reason").isEqualTo(ShareLinkErrorCode.INVALID_LINK.code());
   }
 
   @Test
@@ -1,6 +1,7 @@
 package com.schemafy.api.project.orchestrator;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,13 +20,11 @@ import com.schemafy.core.project.application.port.in.UpdateProjectMemberRoleUseC
 import com.schemafy.core.project.domain.ProjectMember;
 import com.schemafy.core.project.domain.ProjectRole;
 import com.schemafy.core.ulid.application.service.UlidGenerator;
-import com.schemafy.core.user.application.port.in.GetUserByIdUseCase;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsQuery;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsUseCase;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.application.port.in.GetUserSummariesQuery;
+import com.schemafy.core.user.application.port.in.GetUserSummariesUseCase;
+import com.schemafy.core.user.domain.UserSummary;
 import com.schemafy.core.user.domain.exception.UserErrorCode;
 
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -47,10 +46,7 @@ class ProjectMemberOrchestratorTest {
   private AcceptProjectInvitationUseCase acceptProjectInvitationUseCase;
 
   @Mock
-  private GetUserByIdUseCase getUserByIdUseCase;
-
-  @Mock
-  private GetUsersByIdsUseCase getUsersByIdsUseCase;
+  private GetUserSummariesUseCase getUserSummariesUseCase;
 
   @InjectMocks
   private ProjectMemberOrchestrator orchestrator;
@@ -62,14 +58,13 @@ class ProjectMemberOrchestratorTest {
         "project-1", "user-1", ProjectRole.ADMIN);
     ProjectMember member2 = ProjectMember.create(UlidGenerator.generate(),
         "project-1", "user-2", ProjectRole.VIEWER);
-    User user1 = User.signUp("user-1", "user-1@test.com", "User 1",
-        "encoded");
+    UserSummary user1 = new UserSummary("user-1", "user-1@test.com", "User 1");
 
     when(getProjectMembersUseCase.getProjectMembers(any()))
         .thenReturn(Mono.just(PageResult.of(
             List.of(member1, member2), 0, 10, 2)));
-    when(getUsersByIdsUseCase.getUsersByIds(any(GetUsersByIdsQuery.class)))
-        .thenReturn(Flux.just(user1));
+    when(getUserSummariesUseCase.getUserSummaries(any(GetUserSummariesQuery.class)))
+        .thenReturn(Mono.just(Map.of(user1.id(), user1)));
 
     StepVerifier.create(orchestrator.getMembers(new GetProjectMembersQuery(
         "project-1", "requester-1", 0, 10)))
@@ -82,14 +77,13 @@ class ProjectMemberOrchestratorTest {
   void acceptInvitation_hydratesMember() {
     ProjectMember member = ProjectMember.create(UlidGenerator.generate(),
         "project-1", "user-1", ProjectRole.EDITOR);
-    User user = User.signUp("user-1", "user-1@test.com", "User 1",
-        "encoded");
+    UserSummary user = new UserSummary("user-1", "user-1@test.com", "User 1");
 
     when(acceptProjectInvitationUseCase.acceptProjectInvitation(
         any(AcceptProjectInvitationCommand.class)))
         .thenReturn(Mono.just(member));
-    when(getUserByIdUseCase.getUserById(any()))
-        .thenReturn(Mono.just(user));
+    when(getUserSummariesUseCase.getUserSummaries(any(GetUserSummariesQuery.class)))
+        .thenReturn(Mono.just(Map.of(user.id(), user)));
 
     StepVerifier.create(orchestrator.acceptInvitation(
         new AcceptProjectInvitationCommand("invitation-1", "user-1")))
@@ -1,6 +1,7 @@
 package com.schemafy.api.project.orchestrator;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,13 +22,11 @@ import com.schemafy.core.project.application.port.in.UpdateWorkspaceMemberRoleUs
 import com.schemafy.core.project.domain.WorkspaceMember;
 import com.schemafy.core.project.domain.WorkspaceRole;
 import com.schemafy.core.ulid.application.service.UlidGenerator;
-import com.schemafy.core.user.application.port.in.GetUserByIdUseCase;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsQuery;
-import com.schemafy.core.user.application.port.in.GetUsersByIdsUseCase;
-import com.schemafy.core.user.domain.User;
+import com.schemafy.core.user.application.port.in.GetUserSummariesQuery;
+import com.schemafy.core.user.application.port.in.GetUserSummariesUseCase;
+import com.schemafy.core.user.domain.UserSummary;
 import com.schemafy.core.user.domain.exception.UserErrorCode;
 
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -52,10 +51,7 @@ class WorkspaceMemberOrchestratorTest {
   private AcceptWorkspaceInvitationUseCase acceptWorkspaceInvitationUseCase;
 
   @Mock
-  private GetUserByIdUseCase getUserByIdUseCase;
-
-  @Mock
-  private GetUsersByIdsUseCase getUsersByIdsUseCase;
+  private GetUserSummariesUseCase getUserSummariesUseCase;
 
   @InjectMocks
   private WorkspaceMemberOrchestrator orchestrator;
@@ -65,14 +61,13 @@ class WorkspaceMemberOrchestratorTest {
   void getMembers_hydratesUsers() {
     WorkspaceMember member = WorkspaceMember.create(UlidGenerator.generate(),
         "workspace-1", "user-1", WorkspaceRole.ADMIN);
-    User user = User.signUp("user-1", "user-1@test.com", "User 1",
-        "encoded");
+    UserSummary user = new UserSummary("user-1", "user-1@test.com", "User 1");
 
     when(getWorkspaceMembersUseCase.getWorkspaceMembers(any()))
         .thenReturn(Mono.just(PageResult.of(
             List.of(member), 0, 10, 1)));
-    when(getUsersByIdsUseCase.getUsersByIds(any(GetUsersByIdsQuery.class)))
-        .thenReturn(Flux.just(user));
+    when(getUserSummariesUseCase.getUserSummaries(any(GetUserSummariesQuery.class)))
+        .thenReturn(Mono.just(Map.of(user.id(), user)));
 
     StepVerifier.create(orchestrator.getMembers(new GetWorkspaceMembersQuery(
         "workspace-1", "requester-1", 0, 10)))
@@ -92,14 +87,13 @@ class WorkspaceMemberOrchestratorTest {
         "workspace-1", "user-1", WorkspaceRole.ADMIN);
     WorkspaceMember member2 = WorkspaceMember.create(UlidGenerator.generate(),
         "workspace-1", "user-2", WorkspaceRole.MEMBER);
-    User user1 = User.signUp("user-1", "user-1@test.com", "User 1",
-        "encoded");
+    UserSummary user1 = new UserSummary("user-1", "user-1@test.com", "User 1");
 
     when(getWorkspaceMembersUseCase.getWorkspaceMembers(any()))
         .thenReturn(Mono.just(PageResult.of(
             List.of(member1, member2), 0, 10, 2)));
-    when(getUsersByIdsUseCase.getUsersByIds(any(GetUsersByIdsQuery.class)))
-        .thenReturn(Flux.just(user1));
+    when(getUserSummariesUseCase.getUserSummaries(any(GetUserSummariesQuery.class)))
+        .thenReturn(Mono.just(Map.of(user1.id(), user1)));
 
     StepVerifier.create(orchestrator.getMembers(new GetWorkspaceMembersQuery(
         "workspace-1", "requester-1", 0, 10)))
@@ -112,14 +106,13 @@ class WorkspaceMemberOrchestratorTest {
   void acceptInvitation_hydratesMember() {
     WorkspaceMember member = WorkspaceMember.create(UlidGenerator.generate(),
         "workspace-1", "user-1", WorkspaceRole.MEMBER);
-    User user = User.signUp("user-1", "user-1@test.com", "User 1",
-        "encoded");
+    UserSummary user = new UserSummary("user-1", "user-1@test.com", "User 1");
 
     when(acceptWorkspaceInvitationUseCase.acceptWorkspaceInvitation(
         any(AcceptWorkspaceInvitationCommand.class)))
         .thenReturn(Mono.just(member));
-    when(getUserByIdUseCase.getUserById(any()))
-        .thenReturn(Mono.just(user));
+    when(getUserSummariesUseCase.getUserSummaries(any(GetUserSummariesQuery.class)))
+        .thenReturn(Mono.just(Map.of(user.id(), user)));
 
     StepVerifier.create(orchestrator.acceptInvitation(
         new AcceptWorkspaceInvitationCommand("invitation-1", "user-1")))
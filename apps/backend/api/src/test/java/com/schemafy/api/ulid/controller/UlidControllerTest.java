@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import com.schemafy.api.common.config.TestSecurityConfig;
 import com.schemafy.api.common.constant.ApiPath;
 import com.schemafy.api.common.security.jwt.JwtProvider;
+import com.schemafy.api.common.security.jwt.VerifiedJwtCache;
 import com.schemafy.api.common.security.jwt.WebExchangeErrorWriter;
 import com.schemafy.core.ulid.application.port.in.GenerateUlidUseCase;
 
@@ -38,6 +39,9 @@ class UlidControllerTest {
   @MockitoBean
   JwtProvider jwtProvider;
 
+  @MockitoBean
+  VerifiedJwtCache verifiedJwtCache;
+
   @Autowired
   private WebTestClient webTestClient;
 
@@ -2,13 +2,6 @@ package com.schemafy.api.user.adapter.out;
 
 import java.time.Instant;
 
-import jakarta.mail.BodyPart;
-import jakarta.mail.Multipart;
-import jakarta.mail.internet.MimeMessage;
-
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
-
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,11 +9,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.schemafy.api.user.config.AuthMailProperties;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.mail.application.port.in.EnqueueMailCommand;
+import com.schemafy.core.mail.application.port.in.EnqueueMailUseCase;
+import com.schemafy.core.user.domain.exception.UserErrorCode;
 
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -29,54 +27,49 @@ import static org.mockito.Mockito.verify;
 class EmailVerificationMailAdapterTest {
 
   @Mock
-  JavaMailSender mailSender;
+  EnqueueMailUseCase enqueueMailUseCase;
 
   @Test
-  @DisplayName("HTML과 텍스트 본문을 포함한 인증 메일을 발송한다")
-  void sendVerificationCode_sendsMultipartEmail() throws Exception {
-    MimeMessage mimeMessage = new JavaMailSenderImpl().createMimeMessage();
-    given(mailSender.createMimeMessage()).willReturn(mimeMessage);
-    AuthMailProperties authMailProperties = new AuthMailProperties();
-    authMailProperties.setFrom("no-reply@schemafy.com");
-    EmailVerificationMailAdapter sut = new EmailVerificationMailAdapter(
-        mailSender,
-        authMailProperties);
+  @DisplayName("HTML과 텍스트 본문을 포함한 인증 메일을 outbox에 적재한다")
+  void sendVerificationCode_enqueuesMultipartEmail() {
+    given(enqueueMailUseCase.enqueueMail(any())).willReturn(Mono.empty());
+    EmailVerificationMailAdapter sut = new EmailVerificationMailAdapter(enqueueMailUseCase);
+    Instant expiresAt = Instant.now().plusSeconds(60);
 
     StepVerifier.create(sut.sendVerificationCode(
         "user@example.com",
         "123456",
-        Instant.now().plusSeconds(60)))
+        expiresAt))
         .verifyComplete();
 
-    ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(
-        MimeMessage.class);
-    verify(mailSender).send(messageCaptor.capture());
-    MimeMessage sentMessage = messageCaptor.getValue();
+    ArgumentCaptor<EnqueueMailCommand> commandCaptor = ArgumentCaptor.forClass(
+        EnqueueMailCommand.class);
+    verify(enqueueMailUseCase).enqueueMail(commandCaptor.capture());
+    EnqueueMailCommand command = commandCaptor.getValue();
 
-    assertThat(sentMessage.getSubject()).isEqualTo(
-        EmailVerificationMailTemplate.SUBJECT);
-    assertThat(sentMessage.getAllRecipients()[0].toString())
-        .isEqualTo("user@example.com");
-    assertThat(sentMessage.getFrom()[0].toString())
-        .isEqualTo("no-reply@schemafy.com");
-    assertThat(messageText(sentMessage))
-        .contains("123456");
+    assertThat(command.recipient()).isEqualTo("user@example.com");
+    assertThat(command.subject()).isEqualTo(EmailVerificationMailTemplate.SUBJECT);
+    assertThat(command.textBody()).contains("123456");
+    assertThat(command.htmlBody()).contains("123456");
+    assertThat(command.expiresAt()).isEqualTo(expiresAt);
   }
 
-  private String messageText(MimeMessage message) throws Exception {
-    return contentText(message.getContent());
-  }
+  @Test
+  @DisplayName("outbox 적재에 실패하면 메일 발송 실패로 변환한다")
+  void sendVerificationCode_mapsEnqueueFailure() {
+    given(enqueueMailUseCase.enqueueMail(any()))
+        .willReturn(Mono.error(new IllegalStateException("connection refused")));
+    EmailVerificationMailAdapter sut = new EmailVerificationMailAdapter(enqueueMailUseCase);
 
-  private String contentText(Object content) throws Exception {
-    if (content instanceof Multipart multipart) {
-      StringBuilder builder = new StringBuilder();
-      for (int index = 0; index < multipart.getCount(); index++) {
-        BodyPart bodyPart = multipart.getBodyPart(index);
-        builder.append(contentText(bodyPart.getContent())).append('\n');
-      }
-      return builder.toString();
-    }
-    return String.valueOf(content);
+    StepVerifier.create(sut.sendVerificationCode(
+        "user@example.com",
+        "123456",
+        Instant.now().plusSeconds(60)))
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOfSatisfying(DomainException.class,
+                domainException -> assertThat(domainException.getErrorCode())
+                    .isEqualTo(UserErrorCode.EMAIL_DELIVERY_FAILED)))
+        .verify();
   }
 
 }
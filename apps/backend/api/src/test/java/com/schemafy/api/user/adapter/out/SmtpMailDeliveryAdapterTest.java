@@ -0,0 +1,98 @@
+package com.schemafy.api.user.adapter.out;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import jakarta.mail.internet.MimeMessage;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.schemafy.api.user.config.AuthMailProperties;
+import com.schemafy.api.user.scheduler.MailOutboxProperties;
+import com.schemafy.core.mail.domain.MailDeliveryResult;
+import com.schemafy.core.mail.domain.MailDeliveryStatus;
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("SmtpMailDeliveryAdapter")
+class SmtpMailDeliveryAdapterTest {
+
+  @RegisterExtension
+  static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  private SmtpMailDeliveryAdapter sut;
+
+  @BeforeEach
+  void setUp() {
+    JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+    mailSender.setPort(ServerSetupTest.SMTP.getPort());
+    AuthMailProperties authMailProperties = new AuthMailProperties();
+    authMailProperties.setFrom("no-reply@schemafy.com");
+    sut = new SmtpMailDeliveryAdapter(
+        mailSender,
+        authMailProperties,
+        new MailOutboxProperties(),
+        Clock.systemUTC());
+  }
+
+  @Test
+  @DisplayName("한 배치의 메일을 하나의 SMTP 연결로 보내고 연결을 재사용하도록 남겨둔다")
+  void deliversBatchOverPooledTransport() throws Exception {
+    List<OutboxMail> mails = List.of(
+        mail("mail-1", "first@example.com"),
+        mail("mail-2", "second@example.org"));
+
+    StepVerifier.create(sut.deliverMails(mails))
+        .assertNext(results -> assertThat(results)
+            .extracting(MailDeliveryResult::status)
+            .containsOnly(MailDeliveryStatus.DELIVERED))
+        .verifyComplete();
+    assertThat(sut.idleTransportCount()).isEqualTo(1);
+
+    StepVerifier.create(sut.deliverMails(List.of(mail("mail-3", "third@example.com"))))
+        .assertNext(results -> assertThat(results).extracting(MailDeliveryResult::status)
+            .containsExactly(MailDeliveryStatus.DELIVERED))
+        .verifyComplete();
+    assertThat(sut.idleTransportCount()).isEqualTo(1);
+
+    MimeMessage[] received = greenMail.getReceivedMessages();
+    assertThat(received).hasSize(3);
+    assertThat(received[0].getSubject()).isEqualTo("Your code");
+    assertThat(received[0].getFrom()[0].toString()).isEqualTo("no-reply@schemafy.com");
+  }
+
+  @Test
+  @DisplayName("주소 형식이 잘못된 메일은 재시도하지 않도록 거절로 분류한다")
+  void rejectsMalformedRecipient() {
+    StepVerifier.create(sut.deliverMails(List.of(
+        mail("mail-1", "not an address"),
+        mail("mail-2", "valid@example.com"))))
+        .assertNext(results -> assertThat(results)
+            .extracting(MailDeliveryResult::mailId, MailDeliveryResult::status)
+            .containsExactly(
+                tuple("mail-1", MailDeliveryStatus.REJECTED),
+                tuple("mail-2", MailDeliveryStatus.DELIVERED)))
+        .verifyComplete();
+
+    assertThat(greenMail.getReceivedMessages()).hasSize(1);
+  }
+
+  private static OutboxMail mail(String id, String recipient) {
+    return OutboxMail.enqueue(id, recipient, "Your code", "code: 123456",
+        "<p>code: 123456</p>", null, Instant.now());
+  }
+
+}
@@ -19,6 +19,7 @@ import com.schemafy.api.common.constant.ApiPath;
 import com.schemafy.api.common.security.jwt.JwtProperties;
 import com.schemafy.api.common.security.jwt.JwtProvider;
 import com.schemafy.api.common.security.jwt.JwtTokenIssuer;
+import com.schemafy.api.common.security.jwt.VerifiedJwtCache;
 import com.schemafy.api.common.security.jwt.WebExchangeErrorWriter;
 import com.schemafy.api.user.oauth.GitHubOAuthProperties;
 import com.schemafy.api.user.oauth.GitHubOAuthService;
@@ -66,6 +67,9 @@ class OAuthControllerTest {
   @MockitoBean
   private JwtProvider jwtProvider;
 
+  @MockitoBean
+  private VerifiedJwtCache verifiedJwtCache;
+
   @MockitoBean
   private WebExchangeErrorWriter webExchangeErrorWriter;
 
@@ -0,0 +1,215 @@
+package com.schemafy.api.collaboration.service;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactivestreams.Publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.api.collaboration.dto.BroadcastMessage;
+import com.schemafy.api.collaboration.dto.CollaborationPayload;
+import com.schemafy.api.collaboration.protocol.CollaborationWireFormat;
+import com.schemafy.api.collaboration.security.WebSocketAuthInfo;
+import com.schemafy.core.collaboration.dto.CursorPosition;
+import com.schemafy.core.collaboration.dto.event.CollaborationOutbound;
+import com.schemafy.core.collaboration.dto.event.CollaborationOutboundFactory;
+import com.schemafy.core.collaboration.dto.event.CursorEvent;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
+import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * One Redis event fanned out to the sessions of a project, from serialization
+ * to the frames handed to each socket. {@code perSessionTextFrames} is the
+ * former path that encoded the JSON string once per session and does not
+ * depend on {@code wireFormat}. Bytes written per broadcast are reported as
+ * the {@code bytesPerBroadcast} secondary result of each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollaborationBroadcastBenchmark {
+
+  private static final String PROJECT_ID = "project-1";
+  private static final int FAN_OUT = 50;
+
+  @Param({ "JSON", "CBOR" })
+  CollaborationWireFormat wireFormat;
+
+  @Param({ "CURSOR", "ERD_MUTATED" })
+  String eventType;
+
+  private final JsonCodec jsonCodec = new JsonCodec(new ObjectMapper().findAndRegisterModules());
+  private final SessionRegistry sessionRegistry = new SessionRegistry();
+  private final List<WebSocketSession> sessions = new ArrayList<>();
+  private CollaborationOutbound event;
+  private long writtenBytes;
+
+  @Setup
+  public void setUp() {
+    event = "CURSOR".equals(eventType)
+        ? CollaborationOutboundFactory.cursor("session-0", new CursorEvent.UserInfo("user-0", "tester"),
+            new CursorPosition(412.5, 188.0))
+        : CollaborationOutboundFactory.erdMutated("session-0", "06D6W1GAHD51T5NJPK29Q6BCR8",
+            Set.of("06D6W1GAHD51T5NJPK29Q6BCR9", "06D6W1GAHD51T5NJPK29Q6BCRA"),
+            new CommittedErdOperation("06D6W1GAHD51T5NJPK29Q6BCRB", "client-op-1", 1024L,
+                ErdOperationDerivationKind.ORIGINAL));
+    for (int i = 0; i < FAN_OUT; i++) {
+      WebSocketSession session = new BenchmarkSession("session-" + i, wireFormat);
+      sessions.add(session);
+      sessionRegistry.addSession(PROJECT_ID, session.getId(), session, WebSocketAuthInfo.of("user-" + i, "tester"))
+          .outboundFlux()
+          .subscribe(this::write);
+    }
+  }
+
+  @Benchmark
+  public long broadcast(WrittenBytes counters) {
+    long before = writtenBytes;
+    CollaborationPayload payload = CollaborationPayload.of(jsonCodec.toJson(event));
+    sessionRegistry.broadcast(BroadcastMessage.of(PROJECT_ID, null, payload));
+    counters.record(writtenBytes - before);
+    return writtenBytes;
+  }
+
+  @Benchmark
+  public long perSessionTextFrames(WrittenBytes counters) {
+    long before = writtenBytes;
+    String json = jsonCodec.toJson(event);
+    for (WebSocketSession session : sessions) {
+      write(session.textMessage(json));
+    }
+    counters.record(writtenBytes - before);
+    return writtenBytes;
+  }
+
+  private void write(WebSocketMessage message) {
+    writtenBytes += message.getPayload().readableByteCount();
+  }
+
+  /** Frame bytes handed to the sockets, averaged over the broadcasts of one iteration. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class WrittenBytes {
+
+    private long bytes;
+    private long broadcasts;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+      broadcasts = 0;
+    }
+
+    public double bytesPerBroadcast() {
+      return broadcasts == 0 ? 0 : (double) bytes / broadcasts;
+    }
+
+    void record(long written) {
+      bytes += written;
+      broadcasts++;
+    }
+
+  }
+
+  private static final class BenchmarkSession implements WebSocketSession {
+
+    private final String id;
+    private final HandshakeInfo handshakeInfo;
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private BenchmarkSession(String id, CollaborationWireFormat wireFormat) {
+      this.id = id;
+      this.handshakeInfo = new HandshakeInfo(URI.create("ws://localhost/ws/collaboration?projectId=" + PROJECT_ID),
+          HttpHeaders.EMPTY, Mono.empty(), wireFormat.getSubProtocol());
+    }
+
+    @Override
+    public String getId() { return id; }
+
+    @Override
+    public HandshakeInfo getHandshakeInfo() { return handshakeInfo; }
+
+    @Override
+    public DataBufferFactory bufferFactory() {
+      return bufferFactory;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() { return Map.of(); }
+
+    @Override
+    public Flux<WebSocketMessage> receive() {
+      return Flux.never();
+    }
+
+    @Override
+    public Mono<Void> send(Publisher<WebSocketMessage> messages) {
+      return Flux.from(messages).then();
+    }
+
+    @Override
+    public boolean isOpen() { return true; }
+
+    @Override
+    public Mono<Void> close(CloseStatus status) {
+      return Mono.empty();
+    }
+
+    @Override
+    public Mono<CloseStatus> closeStatus() {
+      return Mono.never();
+    }
+
+    @Override
+    public WebSocketMessage textMessage(String payload) {
+      return new WebSocketMessage(WebSocketMessage.Type.TEXT,
+          bufferFactory.wrap(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public WebSocketMessage binaryMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+      return new WebSocketMessage(WebSocketMessage.Type.BINARY, payloadFactory.apply(bufferFactory));
+    }
+
+    @Override
+    public WebSocketMessage pingMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+      return new WebSocketMessage(WebSocketMessage.Type.PING, payloadFactory.apply(bufferFactory));
+    }
+
+    @Override
+    public WebSocketMessage pongMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+      return new WebSocketMessage(WebSocketMessage.Type.PONG, payloadFactory.apply(bufferFactory));
+    }
+
+  }
+
+}
@@ -0,0 +1,80 @@
+package com.schemafy.api.common.security.hmac;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Body hashing as done by {@link HmacVerificationFilter}. Run with {@code -PjmhProfilers=gc} to
+ * compare the allocation rate of the incremental digest against joining and copying the body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HmacBodyDigestBenchmark {
+
+  private static final int CHUNK_SIZE = 8 * 1024;
+
+  @Param({ "1024", "65536", "1048576" })
+  int bodySize;
+
+  private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+  private List<byte[]> chunks;
+
+  @Setup
+  public void setUp() {
+    byte[] body = new byte[bodySize];
+    ThreadLocalRandom.current().nextBytes(body);
+    chunks = new ArrayList<>();
+    for (int offset = 0; offset < bodySize; offset += CHUNK_SIZE) {
+      int length = Math.min(CHUNK_SIZE, bodySize - offset);
+      byte[] chunk = new byte[length];
+      System.arraycopy(body, offset, chunk, 0, length);
+      chunks.add(chunk);
+    }
+  }
+
+  @Benchmark
+  public String incrementalDigest() {
+    MessageDigest digest = HmacUtil.newBodyDigest();
+    for (DataBuffer buffer : body().collectList().block()) {
+      try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+        while (iterator.hasNext()) {
+          digest.update(iterator.next());
+        }
+      }
+    }
+    return HmacUtil.completeBodyHash(digest);
+  }
+
+  @Benchmark
+  public String joinAndCopy() {
+    DataBuffer joined = DataBufferUtils.join(body()).block();
+    byte[] bytes = new byte[joined.readableByteCount()];
+    joined.read(bytes);
+    DataBufferUtils.release(joined);
+    return HmacUtil.computeBodyHash(bytes);
+  }
+
+  private Flux<DataBuffer> body() {
+    return Flux.fromIterable(chunks).map(bufferFactory::wrap);
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.schemafy.api.common.security.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+  private static final String USER_ID = "01HZX3Y8M6E0S3G6B8T2N4K5QW";
+
+  private JwtProvider jwtProvider;
+  private VerifiedJwtCache verifiedJwtCache;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtProvider = new JwtProvider(new JwtProperties());
+    verifiedJwtCache = new VerifiedJwtCache(jwtProvider, Clock.systemUTC(), 50_000,
+        Duration.ofMinutes(10));
+    token = jwtProvider.generateAccessToken(USER_ID, Map.of("name", "bench"),
+        System.currentTimeMillis());
+  }
+
+  /** The per-request cost before verification was consolidated: one parse per extracted value. */
+  @Benchmark
+  public void parsePerClaim(Blackhole blackhole) {
+    blackhole.consume(jwtProvider.extractUserId(token));
+    blackhole.consume(jwtProvider.getTokenType(token));
+    blackhole.consume(jwtProvider.validateToken(token, USER_ID));
+  }
+
+  @Benchmark
+  public boolean verifyOnce() {
+    return jwtProvider.isTrusted(jwtProvider.verify(token));
+  }
+
+  @Benchmark
+  public boolean verifyCached() {
+    return jwtProvider.isTrusted(verifiedJwtCache.verify(token));
+  }
+
+}
@@ -0,0 +1,45 @@
+package com.schemafy.benchmarks.fixture;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.vendor.domain.datatype.DatatypePolicy;
+
+/** The MySQL datatype policy as seeded into {@code db_vendors}, so benchmarks run against production data. */
+public final class SeedDatatypePolicy {
+
+  private static final String SEED_RESOURCE = "ddl/mariadb/db_vendors_data.sql";
+  private static final Pattern DATATYPE_POLICY_LITERAL = Pattern.compile(
+      "(?s)'8\\.0',\\s*'(\\{.*?\\})',\\s*'\\{\\s*\"schemaVersion\"");
+
+  private SeedDatatypePolicy() {}
+
+  public static DatatypePolicy mysql() {
+    return new JsonCodec(new ObjectMapper().findAndRegisterModules())
+        .fromJson(mysqlJson(), DatatypePolicy.class);
+  }
+
+  public static String mysqlJson() {
+    String sql;
+    try (InputStream input = SeedDatatypePolicy.class.getClassLoader().getResourceAsStream(SEED_RESOURCE)) {
+      if (input == null) {
+        throw new IllegalStateException("Missing seed resource: " + SEED_RESOURCE);
+      }
+      sql = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Matcher matcher = DATATYPE_POLICY_LITERAL.matcher(sql);
+    if (!matcher.find()) {
+      throw new IllegalStateException("Datatype policy SQL literal not found: " + SEED_RESOURCE);
+    }
+    return matcher.group(1).replace("''", "'");
+  }
+
+}
@@ -0,0 +1,265 @@
+package com.schemafy.benchmarks.fixture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.schemafy.core.erd.column.domain.ColumnTypeArguments;
+import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Column;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Constraint;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.ConstraintColumn;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.ConstraintSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Index;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.IndexColumn;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.IndexSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Relationship;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.RelationshipColumn;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.RelationshipSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.SchemaSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Table;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.TableSnapshot;
+import com.schemafy.core.erd.index.domain.type.IndexType;
+import com.schemafy.core.erd.index.domain.type.SortDirection;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ConstraintColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.IndexColumnSnapshot;
+import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+import com.schemafy.core.erd.operation.domain.ErdOperationLifecycleState;
+import com.schemafy.core.erd.operation.domain.ErdOperationLog;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.relationship.domain.type.Cardinality;
+import com.schemafy.core.erd.relationship.domain.type.RelationshipKind;
+
+/**
+ * Deterministic synthetic schemas for the benchmarks. Every table has a surrogate key, a handful of
+ * typed columns and on average {@code relationshipDensity} foreign keys to earlier tables, so the
+ * relationship graph is acyclic and the cycle check always has to walk all of it.
+ */
+public final class SyntheticSchema {
+
+  public static final String SCHEMA_ID = "schema-bench";
+  public static final String PROJECT_ID = "project-bench";
+
+  private static final String CHARSET = "utf8mb4";
+  private static final String COLLATION = "utf8mb4_unicode_ci";
+  private static final double IDENTIFYING_RATIO = 0.25;
+  private static final long SEED = 42L;
+
+  private SyntheticSchema() {}
+
+  public static SchemaExportSnapshot exportSnapshot(int tableCount, double relationshipDensity) {
+    Random random = new Random(SEED);
+    List<TableSnapshot> tables = new ArrayList<>(tableCount);
+    for (int i = 0; i < tableCount; i++) {
+      tables.add(table(i, parentsOf(i, relationshipDensity, random), random));
+    }
+    return new SchemaExportSnapshot(
+        new SchemaSnapshot(SCHEMA_ID, "mysql", "bench", CHARSET, COLLATION),
+        tables);
+  }
+
+  public static StructuralSnapshot structuralSnapshot(SchemaExportSnapshot snapshot) {
+    List<StructuralSnapshot.TableSnapshot> tables = new ArrayList<>();
+    List<ColumnSnapshot> columns = new ArrayList<>();
+    List<StructuralSnapshot.ConstraintSnapshot> constraints = new ArrayList<>();
+    List<ConstraintColumnSnapshot> constraintColumns = new ArrayList<>();
+    List<StructuralSnapshot.IndexSnapshot> indexes = new ArrayList<>();
+    List<IndexColumnSnapshot> indexColumns = new ArrayList<>();
+    List<StructuralSnapshot.RelationshipSnapshot> relationships = new ArrayList<>();
+    List<StructuralSnapshot.RelationshipColumnSnapshot> relationshipColumns = new ArrayList<>();
+
+    for (TableSnapshot tableSnapshot : snapshot.tables()) {
+      Table table = tableSnapshot.table();
+      tables.add(new StructuralSnapshot.TableSnapshot(
+          table.id(), table.schemaId(), table.name(), table.charset(), table.collation(), null));
+      for (Column column : tableSnapshot.columns()) {
+        columns.add(new ColumnSnapshot(column.id(), column.tableId(), column.name(), column.dataType(),
+            column.typeArguments(), column.seqNo(), column.autoIncrement(), column.charset(),
+            column.collation(), column.comment()));
+      }
+      for (ConstraintSnapshot constraintSnapshot : tableSnapshot.constraints()) {
+        Constraint constraint = constraintSnapshot.constraint();
+        constraints.add(new StructuralSnapshot.ConstraintSnapshot(constraint.id(), constraint.tableId(),
+            constraint.name(), constraint.kind(), constraint.checkExpr(), constraint.defaultExpr()));
+        for (ConstraintColumn column : constraintSnapshot.columns()) {
+          constraintColumns.add(new ConstraintColumnSnapshot(
+              column.id(), column.constraintId(), column.columnId(), column.seqNo()));
+        }
+      }
+      for (IndexSnapshot indexSnapshot : tableSnapshot.indexes()) {
+        Index index = indexSnapshot.index();
+        indexes.add(new StructuralSnapshot.IndexSnapshot(index.id(), index.tableId(), index.name(), index.type()));
+        for (IndexColumn column : indexSnapshot.columns()) {
+          indexColumns.add(new IndexColumnSnapshot(
+              column.id(), column.indexId(), column.columnId(), column.seqNo(), column.sortDirection()));
+        }
+      }
+      for (RelationshipSnapshot relationshipSnapshot : tableSnapshot.relationships()) {
+        Relationship relationship = relationshipSnapshot.relationship();
+        relationships.add(new StructuralSnapshot.RelationshipSnapshot(relationship.id(),
+            relationship.pkTableId(), relationship.fkTableId(), relationship.name(), relationship.kind(),
+            relationship.cardinality(), null));
+        for (RelationshipColumn column : relationshipSnapshot.columns()) {
+          relationshipColumns.add(new StructuralSnapshot.RelationshipColumnSnapshot(
+              column.id(), column.relationshipId(), column.pkColumnId(), column.fkColumnId(), column.seqNo()));
+        }
+      }
+    }
+    return new StructuralSnapshot(SCHEMA_ID, tables, columns, constraints, constraintColumns,
+        indexes, indexColumns, relationships, relationshipColumns);
+  }
+
+  public static List<com.schemafy.core.erd.relationship.domain.Relationship> relationships(
+      SchemaExportSnapshot snapshot) {
+    List<com.schemafy.core.erd.relationship.domain.Relationship> relationships = new ArrayList<>();
+    for (TableSnapshot tableSnapshot : snapshot.tables()) {
+      for (RelationshipSnapshot relationshipSnapshot : tableSnapshot.relationships()) {
+        Relationship relationship = relationshipSnapshot.relationship();
+        relationships.add(new com.schemafy.core.erd.relationship.domain.Relationship(
+            relationship.id(), relationship.pkTableId(), relationship.fkTableId(), relationship.name(),
+            relationship.kind(), relationship.cardinality(), null));
+      }
+    }
+    return relationships;
+  }
+
+  public static List<String> dataTypes(SchemaExportSnapshot snapshot) {
+    List<String> dataTypes = new ArrayList<>();
+    for (TableSnapshot tableSnapshot : snapshot.tables()) {
+      for (Column column : tableSnapshot.columns()) {
+        dataTypes.add(column.dataType());
+      }
+    }
+    return dataTypes;
+  }
+
+  /**
+   * A linear undo/redo history of {@code size} committed operations. Roughly one in six operations
+   * undoes the current undo candidate and one in twenty redoes the current redo candidate, which is
+   * the shape the eligibility check replays on every undo or redo request.
+   */
+  public static List<ErdOperationLog> operationHistory(int size) {
+    Random random = new Random(SEED);
+    List<ErdOperationLog> operations = new ArrayList<>(size);
+    Deque<String> undoStack = new ArrayDeque<>();
+    Deque<String> redoStack = new ArrayDeque<>();
+    for (int revision = 1; revision <= size; revision++) {
+      String opId = "op-%07d".formatted(revision);
+      double roll = random.nextDouble();
+      if (roll < 0.15 && undoStack.size() > 1) {
+        String rootOpId = undoStack.pop();
+        redoStack.push(rootOpId);
+        operations.add(operation(opId, revision, ErdOperationDerivationKind.UNDO, rootOpId));
+      } else if (roll < 0.20 && !redoStack.isEmpty()) {
+        String rootOpId = redoStack.pop();
+        undoStack.push(rootOpId);
+        operations.add(operation(opId, revision, ErdOperationDerivationKind.REDO, rootOpId));
+      } else {
+        undoStack.push(opId);
+        redoStack.clear();
+        operations.add(operation(opId, revision, ErdOperationDerivationKind.ORIGINAL, null));
+      }
+    }
+    return operations;
+  }
+
+  private static Set<Integer> parentsOf(int tableIndex, double relationshipDensity, Random random) {
+    int whole = (int) relationshipDensity;
+    int count = whole + (random.nextDouble() < relationshipDensity - whole ? 1 : 0);
+    count = Math.min(count, tableIndex);
+    Set<Integer> parents = new LinkedHashSet<>();
+    while (parents.size() < count) {
+      parents.add(random.nextInt(tableIndex));
+    }
+    return parents;
+  }
+
+  private static TableSnapshot table(int index, Set<Integer> parents, Random random) {
+    String tableId = tableId(index);
+    String idColumnId = tableId + "-id";
+    List<Column> columns = new ArrayList<>();
+    columns.add(new Column(idColumnId, tableId, "id", "BIGINT", null, 0, true, null, null, null));
+    columns.add(new Column(tableId + "-name", tableId, "name", "VARCHAR",
+        new ColumnTypeArguments(255, null, null), 1, false, null, null, null));
+    columns.add(new Column(tableId + "-status", tableId, "status", "ENUM",
+        new ColumnTypeArguments(null, null, null, List.of("ACTIVE", "INACTIVE", "ARCHIVED")),
+        2, false, CHARSET, COLLATION, "lifecycle status"));
+    columns.add(new Column(tableId + "-amount", tableId, "amount", "DECIMAL",
+        new ColumnTypeArguments(null, 12, 2), 3, false, null, null, null));
+    columns.add(new Column(tableId + "-note", tableId, "note", "TEXT", null, 4, false, null, null,
+        "free-form note"));
+
+    List<ConstraintSnapshot> constraints = new ArrayList<>();
+    constraints.add(constraint(tableId + "-pk", tableId, "PRIMARY", ConstraintKind.PRIMARY_KEY, null,
+        idColumnId));
+    constraints.add(constraint(tableId + "-nn-name", tableId, "nn_" + tableName(index) + "_name",
+        ConstraintKind.NOT_NULL, null, tableId + "-name"));
+    constraints.add(constraint(tableId + "-df-status", tableId, "df_" + tableName(index) + "_status",
+        ConstraintKind.DEFAULT, "'ACTIVE'", tableId + "-status"));
+    if (index % 2 == 0) {
+      constraints.add(constraint(tableId + "-uk-name", tableId, "uk_" + tableName(index) + "_name",
+          ConstraintKind.UNIQUE, null, tableId + "-name"));
+    }
+
+    List<RelationshipSnapshot> relationships = new ArrayList<>();
+    List<IndexSnapshot> indexes = new ArrayList<>();
+    int seqNo = columns.size();
+    for (int parent : parents) {
+      String parentId = tableId(parent);
+      String fkColumnId = tableId + "-fk-" + parent;
+      String fkColumnName = tableName(parent) + "_id";
+      columns.add(new Column(fkColumnId, tableId, fkColumnName, "BIGINT", null, seqNo++, false, null,
+          null, null));
+
+      String relationshipId = tableId + "-rel-" + parent;
+      RelationshipKind kind = random.nextDouble() < IDENTIFYING_RATIO
+          ? RelationshipKind.IDENTIFYING
+          : RelationshipKind.NON_IDENTIFYING;
+      relationships.add(new RelationshipSnapshot(
+          new Relationship(relationshipId, parentId, tableId,
+              "fk_" + tableName(index) + "_" + tableName(parent), kind, Cardinality.ONE_TO_MANY,
+              "CASCADE", "NO ACTION"),
+          List.of(new RelationshipColumn(relationshipId + "-col", relationshipId, parentId + "-id",
+              fkColumnId, 0))));
+
+      String indexId = tableId + "-idx-" + parent;
+      indexes.add(new IndexSnapshot(
+          new Index(indexId, tableId, "idx_" + tableName(index) + "_" + fkColumnName, IndexType.BTREE),
+          List.of(new IndexColumn(indexId + "-col", indexId, fkColumnId, 0, SortDirection.ASC))));
+    }
+
+    return new TableSnapshot(
+        new Table(tableId, SCHEMA_ID, tableName(index), CHARSET, COLLATION),
+        columns, constraints, relationships, indexes);
+  }
+
+  private static ConstraintSnapshot constraint(String id, String tableId, String name,
+      ConstraintKind kind, String defaultExpr, String columnId) {
+    return new ConstraintSnapshot(
+        new Constraint(id, tableId, name, kind, null, defaultExpr),
+        List.of(new ConstraintColumn(id + "-col", id, columnId, 0)));
+  }
+
+  private static ErdOperationLog operation(String opId, long revision,
+      ErdOperationDerivationKind derivationKind, String derivedFromOpId) {
+    return new ErdOperationLog(opId, PROJECT_ID, SCHEMA_ID, ErdOperationType.CHANGE_COLUMN_NAME,
+        revision, revision - 1, null, null, "user-bench", derivationKind, derivedFromOpId,
+        ErdOperationLifecycleState.COMMITTED, "{}", "{}", "[]");
+  }
+
+  public static String tableId(int index) {
+    return "table-%05d".formatted(index);
+  }
+
+  private static String tableName(int index) {
+    return "t%05d".formatted(index);
+  }
+
+}
@@ -0,0 +1,45 @@
+package com.schemafy.core.erd.ddl.domain.mysql;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.schemafy.benchmarks.fixture.SeedDatatypePolicy;
+import com.schemafy.benchmarks.fixture.SyntheticSchema;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot;
+import com.schemafy.core.erd.vendor.domain.datatype.DatatypePolicy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MySqlDdlGeneratorBenchmark {
+
+  @Param({ "10", "100", "1000", "5000" })
+  int tableCount;
+
+  @Param({ "0.5", "1.5", "3.0" })
+  double relationshipDensity;
+
+  private final MySqlDdlGenerator generator = new MySqlDdlGenerator();
+  private SchemaExportSnapshot snapshot;
+  private DatatypePolicy policy;
+
+  @Setup
+  public void setUp() {
+    snapshot = SyntheticSchema.exportSnapshot(tableCount, relationshipDensity);
+    policy = SeedDatatypePolicy.mysql();
+  }
+
+  @Benchmark
+  public String generate() {
+    return generator.generate(snapshot, policy);
+  }
+
+}
@@ -0,0 +1,42 @@
+package com.schemafy.core.erd.mermaid.application.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.schemafy.benchmarks.fixture.SyntheticSchema;
+import com.schemafy.core.erd.mermaid.application.port.in.GenerateSchemaMermaidCommand;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenerateSchemaMermaidBenchmark {
+
+  @Param({ "10", "100", "1000", "5000" })
+  int tableCount;
+
+  @Param({ "0.5", "1.5", "3.0" })
+  double relationshipDensity;
+
+  private final GenerateSchemaMermaidService service = new GenerateSchemaMermaidService();
+  private GenerateSchemaMermaidCommand command;
+
+  @Setup
+  public void setUp() {
+    command = new GenerateSchemaMermaidCommand(
+        SyntheticSchema.exportSnapshot(tableCount, relationshipDensity));
+  }
+
+  @Benchmark
+  public String generateSchemaMermaid() {
+    return service.generateSchemaMermaid(command).block();
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.schemafy.core.erd.operation.application.inverse;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.benchmarks.fixture.SyntheticSchema;
+import com.schemafy.core.common.json.JsonCodec;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StructuralSnapshotJsonBenchmark {
+
+  @Param({ "10", "100", "1000", "5000" })
+  int tableCount;
+
+  @Param({ "1.5" })
+  double relationshipDensity;
+
+  private final JsonCodec jsonCodec = new JsonCodec(new ObjectMapper().findAndRegisterModules());
+  private StructuralSnapshot snapshot;
+  private String json;
+
+  @Setup
+  public void setUp() {
+    snapshot = SyntheticSchema.structuralSnapshot(
+        SyntheticSchema.exportSnapshot(tableCount, relationshipDensity));
+    json = jsonCodec.toJson(snapshot);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return jsonCodec.toJson(snapshot);
+  }
+
+  @Benchmark
+  public StructuralSnapshot deserialize() {
+    return jsonCodec.fromJson(json, StructuralSnapshot.class);
+  }
+
+  @Benchmark
+  public StructuralSnapshot roundTrip() {
+    return jsonCodec.fromJson(jsonCodec.toJson(snapshot), StructuralSnapshot.class);
+  }
+
+}
@@ -0,0 +1,67 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.schemafy.benchmarks.fixture.SyntheticSchema;
+import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+import com.schemafy.core.erd.operation.domain.ErdOperationLog;
+
+import reactor.core.publisher.Mono;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UndoRedoEligibilityBenchmark {
+
+  @Param({ "100", "1000", "10000", "100000" })
+  int historySize;
+
+  private DefaultUndoRedoEligibilityService service;
+  private String undoTargetOpId;
+
+  @Setup
+  public void setUp() {
+    List<ErdOperationLog> history = SyntheticSchema.operationHistory(historySize);
+    Map<String, ErdOperationLog> byId = history.stream()
+        .collect(Collectors.toMap(ErdOperationLog::opId, Function.identity()));
+    service = new DefaultUndoRedoEligibilityService(
+        opId -> Mono.justOrEmpty(byId.get(opId)),
+        schemaId -> Mono.just(history));
+    undoTargetOpId = currentUndoCandidate(history);
+  }
+
+  @Benchmark
+  public ResolvedUndoRedoEligibility replayForUndo() {
+    return service.resolve(UndoRedoAction.UNDO, undoTargetOpId).block();
+  }
+
+  private static String currentUndoCandidate(List<ErdOperationLog> history) {
+    Deque<String> undoStack = new ArrayDeque<>();
+    for (ErdOperationLog operation : history) {
+      if (operation.derivationKind() == ErdOperationDerivationKind.ORIGINAL) {
+        undoStack.push(operation.opId());
+      } else if (operation.derivationKind() == ErdOperationDerivationKind.UNDO) {
+        undoStack.pop();
+      } else {
+        undoStack.push(operation.derivedFromOpId());
+      }
+    }
+    return undoStack.peek();
+  }
+
+}
@@ -0,0 +1,60 @@
+package com.schemafy.core.erd.relationship.domain.validator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.schemafy.benchmarks.fixture.SyntheticSchema;
+import com.schemafy.core.erd.relationship.domain.Relationship;
+import com.schemafy.core.erd.relationship.domain.type.Cardinality;
+import com.schemafy.core.erd.relationship.domain.type.RelationshipKind;
+import com.schemafy.core.erd.relationship.domain.validator.RelationshipValidator.IdentifyingCycle;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdentifyingCycleBenchmark {
+
+  @Param({ "10", "100", "1000", "5000" })
+  int tableCount;
+
+  @Param({ "0.5", "1.5", "3.0" })
+  double relationshipDensity;
+
+  private List<Relationship> relationships;
+  private Relationship acyclicRelationship;
+  private Relationship cyclicRelationship;
+
+  @Setup
+  public void setUp() {
+    relationships = SyntheticSchema.relationships(
+        SyntheticSchema.exportSnapshot(tableCount, relationshipDensity));
+    String first = SyntheticSchema.tableId(0);
+    String last = SyntheticSchema.tableId(tableCount - 1);
+    // Tables only reference earlier tables, so a new edge from the last table is never a cycle,
+    // while the reverse edge closes one whenever an identifying path exists.
+    acyclicRelationship = new Relationship("rel-new", first, last, "fk_new",
+        RelationshipKind.IDENTIFYING, Cardinality.ONE_TO_MANY, null);
+    cyclicRelationship = new Relationship("rel-new", last, first, "fk_new",
+        RelationshipKind.IDENTIFYING, Cardinality.ONE_TO_MANY, null);
+  }
+
+  @Benchmark
+  public IdentifyingCycle acyclicInsert() {
+    return RelationshipValidator.detectIdentifyingCycle(relationships, null, acyclicRelationship);
+  }
+
+  @Benchmark
+  public IdentifyingCycle reverseInsert() {
+    return RelationshipValidator.detectIdentifyingCycle(relationships, null, cyclicRelationship);
+  }
+
+}
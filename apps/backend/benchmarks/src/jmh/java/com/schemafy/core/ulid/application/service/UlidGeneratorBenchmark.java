@@ -0,0 +1,26 @@
+package com.schemafy.core.ulid.application.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UlidGeneratorBenchmark {
+
+  @Benchmark
+  public String generate() {
+    return UlidGenerator.generate();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String generateContended() {
+    return UlidGenerator.generate();
+  }
+
+}
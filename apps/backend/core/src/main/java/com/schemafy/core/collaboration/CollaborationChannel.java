@@ -5,6 +5,7 @@ public final class CollaborationChannel {
   public static final String PATTERN = "collaboration:*";
 
   private static final String PREFIX = "collaboration:";
+  private static final String STREAM_PREFIX = "collaboration:stream:";
 
   private CollaborationChannel() {}
 
@@ -12,6 +13,17 @@ public final class CollaborationChannel {
     return PREFIX + projectId;
   }
 
+  public static String streamFor(String projectId) {
+    return STREAM_PREFIX + projectId;
+  }
+
+  public static String extractStreamProjectId(String streamKey) {
+    if (streamKey != null && streamKey.startsWith(STREAM_PREFIX)) {
+      return streamKey.substring(STREAM_PREFIX.length());
+    }
+    return streamKey;
+  }
+
   public static String extractProjectId(String channel) {
     if (channel != null && channel.startsWith(PREFIX)) {
       return channel.substring(PREFIX.length());
@@ -0,0 +1,9 @@
+package com.schemafy.core.collaboration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CollaborationEventBusProperties.class)
+public class CollaborationEventBusConfig {
+}
@@ -0,0 +1,36 @@
+package com.schemafy.core.collaboration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "collaboration.event-bus")
+public class CollaborationEventBusProperties {
+
+  /**
+   * {@code streams} carries durable events over per-project Redis Streams so a node resumes from its last
+   * acknowledged event after losing Redis. Resuming across restarts needs a fixed {@code erd.writer.node-id}.
+   */
+  private Transport transport = Transport.PUBSUB;
+
+  /** Approximate number of events kept per project stream. */
+  private long maxLength = 10_000;
+
+  /** Events older than this are trimmed, and a project stream without new events expires after it. */
+  private Duration maxAge = Duration.ofMinutes(10);
+
+  private int readCount = 100;
+
+  private Duration blockTimeout = Duration.ofSeconds(1);
+
+  public enum Transport {
+    PUBSUB,
+    STREAMS
+  }
+
+}
@@ -5,22 +5,24 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum CollaborationEventType {
 
-  SESSION_READY("SESSION_READY", true),
-  JOIN("JOIN", false),
-  LEAVE("LEAVE", false),
-  CURSOR("CURSOR", false),
-  TABLE_POSITION_PREVIEW("TABLE_POSITION_PREVIEW", false),
-  RELATIONSHIP_EXTRA_PREVIEW("RELATIONSHIP_EXTRA_PREVIEW", false),
-  SCHEMA_FOCUS("SCHEMA_FOCUS", false),
-  CHAT("CHAT", true),
-  ERD_MUTATED("ERD_MUTATED", false);
+  SESSION_READY("SESSION_READY", true, false),
+  JOIN("JOIN", false, false),
+  LEAVE("LEAVE", false, false),
+  CURSOR("CURSOR", false, false),
+  TABLE_POSITION_PREVIEW("TABLE_POSITION_PREVIEW", false, false),
+  RELATIONSHIP_EXTRA_PREVIEW("RELATIONSHIP_EXTRA_PREVIEW", false, false),
+  SCHEMA_FOCUS("SCHEMA_FOCUS", false, false),
+  CHAT("CHAT", true, true),
+  ERD_MUTATED("ERD_MUTATED", false, true);
 
   private final String value;
   private final boolean includeSender;
+  private final boolean durable;
 
-  CollaborationEventType(String value, boolean includeSender) {
+  CollaborationEventType(String value, boolean includeSender, boolean durable) {
     this.value = value;
     this.includeSender = includeSender;
+    this.durable = durable;
   }
 
   @JsonValue
@@ -30,6 +32,9 @@ public enum CollaborationEventType {
     return includeSender;
   }
 
+  /** Whether a node that missed the event would leave its clients out of date, as opposed to transient presence. */
+  public boolean isDurable() { return durable; }
+
   @JsonCreator
   public static CollaborationEventType fromValue(String value) {
     if (value == null) {
@@ -1,5 +1,6 @@
 package com.schemafy.core.collaboration.dto.event;
 
+import java.time.Instant;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -16,13 +17,16 @@ public final class ErdMutatedEvent {
       String schemaId,
       Set<String> affectedTableIds,
       CommittedErdOperation operation,
-      long timestamp) implements CollaborationOutbound {
+      long timestamp,
+      Long committedAt) implements CollaborationOutbound {
 
     public static Outbound of(String sessionId, String schemaId,
         Set<String> affectedTableIds,
         CommittedErdOperation operation) {
+      Instant operationCommittedAt = operation == null ? null : operation.committedAt();
       return new Outbound(sessionId, schemaId, affectedTableIds,
-          operation, System.currentTimeMillis());
+          operation, System.currentTimeMillis(),
+          operationCommittedAt == null ? null : operationCommittedAt.toEpochMilli());
     }
 
     @Override
@@ -1,10 +1,12 @@
 package com.schemafy.core.collaboration.service;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import com.schemafy.core.collaboration.CollaborationChannel;
 import com.schemafy.core.collaboration.dto.event.CollaborationOutbound;
+import com.schemafy.core.collaboration.stream.CollaborationEventStream;
 import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
 import com.schemafy.core.common.json.JsonCodec;
 
@@ -20,13 +22,11 @@ public class CollaborationEventPublisher {
 
   private final ReactiveStringRedisTemplate redisTemplate;
   private final JsonCodec jsonCodec;
+  private final ObjectProvider<CollaborationEventStream> eventStreamProvider;
 
   public Mono<Void> publish(String projectId, CollaborationOutbound event) {
-    String channelName = CollaborationChannel.forProject(projectId);
-
     return serializeToJson(event)
-        .flatMap(eventJson -> redisTemplate.convertAndSend(channelName,
-            eventJson))
+        .flatMap(eventJson -> send(projectId, event, eventJson))
         .doOnError(e -> log.warn(
             "[CollaborationEventPublisher] Failed to publish event: type={}, sessionId={}, error={}",
             event.type(), event.sessionId(), e.getMessage()))
@@ -34,6 +34,15 @@ public class CollaborationEventPublisher {
         .then();
   }
 
+  // Transient events stay on pub/sub even with streams, a missed cursor or preview is superseded by the next one.
+  private Mono<?> send(String projectId, CollaborationOutbound event, String eventJson) {
+    CollaborationEventStream eventStream = eventStreamProvider.getIfAvailable();
+    if (eventStream != null && event.type() != null && event.type().isDurable()) {
+      return eventStream.append(projectId, eventJson);
+    }
+    return redisTemplate.convertAndSend(CollaborationChannel.forProject(projectId), eventJson);
+  }
+
   private Mono<String> serializeToJson(Object object) {
     return Mono.fromCallable(() -> jsonCodec.toJson(object))
         .onErrorMap(IllegalArgumentException.class,
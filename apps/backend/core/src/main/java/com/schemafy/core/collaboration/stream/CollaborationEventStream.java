@@ -0,0 +1,39 @@
+package com.schemafy.core.collaboration.stream;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Append-only event log per project. Each node reads through its own group,
+ * which remembers the last event handed to the node and the events it has not
+ * acknowledged yet, so a node that loses the connection picks up where it left
+ * off instead of dropping what was published in between.
+ */
+public interface CollaborationEventStream {
+
+  Mono<String> append(String projectId, String payload);
+
+  /**
+   * Creates the group at the first event at or after {@code sinceMillis}, keeping an existing group as it is,
+   * and keeps the stream from expiring for another max age.
+   */
+  Mono<Void> join(String projectId, String group, long sinceMillis);
+
+  Mono<Void> leave(String projectId, String group);
+
+  /**
+   * Events not yet handed to the group, waiting up to {@code block} when there are none. Fails with
+   * {@code NOGROUP} when the stream or the group of one of the projects is gone.
+   */
+  Flux<CollaborationStreamRecord> readNew(Collection<String> projectIds, String group, int count,
+      Duration block);
+
+  /** Events handed to the group earlier but never acknowledged. */
+  Flux<CollaborationStreamRecord> readPending(Collection<String> projectIds, String group, int count);
+
+  Mono<Void> acknowledge(String projectId, String group, String recordId);
+
+}
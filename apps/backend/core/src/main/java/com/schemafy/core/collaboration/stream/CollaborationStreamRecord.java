@@ -0,0 +1,8 @@
+package com.schemafy.core.collaboration.stream;
+
+/** An event read from a project stream. {@code payload} is null when the entry was trimmed before it was read. */
+public record CollaborationStreamRecord(
+    String projectId,
+    String id,
+    String payload) {
+}
@@ -0,0 +1,44 @@
+package com.schemafy.core.collaboration.stream;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+final class CollaborationStreamRedisScripts {
+
+  static final RedisScript<String> APPEND = RedisScript.of("""
+      local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[2], '*', 'payload', ARGV[1])
+      redis.call('XTRIM', KEYS[1], 'MINID', '~', ARGV[3])
+      redis.call('PEXPIRE', KEYS[1], ARGV[4])
+      return id
+      """, String.class);
+
+  static final RedisScript<Long> JOIN_GROUP = RedisScript.of("""
+      local created = 0
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('XGROUP', 'CREATE', KEYS[1], ARGV[1], ARGV[2], 'MKSTREAM')
+        created = 1
+      else
+        created = 1
+        for _, group in ipairs(redis.call('XINFO', 'GROUPS', KEYS[1])) do
+          if group[2] == ARGV[1] then
+            created = 0
+            break
+          end
+        end
+        if created == 1 then
+          redis.call('XGROUP', 'CREATE', KEYS[1], ARGV[1], ARGV[2])
+        end
+      end
+      redis.call('PEXPIRE', KEYS[1], ARGV[3])
+      return created
+      """, Long.class);
+
+  static final RedisScript<Long> LEAVE_GROUP = RedisScript.of("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return 0
+      end
+      return redis.call('XGROUP', 'DESTROY', KEYS[1], ARGV[1])
+      """, Long.class);
+
+  private CollaborationStreamRedisScripts() {}
+
+}
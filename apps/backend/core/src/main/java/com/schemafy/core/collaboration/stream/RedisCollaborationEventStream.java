@@ -0,0 +1,115 @@
+package com.schemafy.core.collaboration.stream;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.collaboration.CollaborationChannel;
+import com.schemafy.core.collaboration.CollaborationEventBusProperties;
+import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Project streams on Redis. Appends trim by length and age, and appends and
+ * joins push the key expiry forward, so a stream that no node reads and no one
+ * writes disappears with its groups. The consumer name is the group name, one
+ * consumer per node. Blocking reads run on a dedicated connection of the
+ * Lettuce reactive connection.
+ */
+@Component
+@ConditionalOnRedisEnabled
+@ConditionalOnProperty(name = "collaboration.event-bus.transport", havingValue = "streams")
+@RequiredArgsConstructor
+public class RedisCollaborationEventStream implements CollaborationEventStream {
+
+  static final String PAYLOAD_FIELD = "payload";
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final CollaborationEventBusProperties properties;
+  private final Clock clock;
+
+  @Override
+  public Mono<String> append(String projectId, String payload) {
+    Duration maxAge = properties.getMaxAge();
+    return redisTemplate.execute(
+        CollaborationStreamRedisScripts.APPEND,
+        List.of(CollaborationChannel.streamFor(projectId)),
+        List.of(payload,
+            Long.toString(properties.getMaxLength()),
+            Long.toString(clock.millis() - maxAge.toMillis()),
+            Long.toString(maxAge.toMillis())))
+        .next();
+  }
+
+  @Override
+  public Mono<Void> join(String projectId, String group, long sinceMillis) {
+    return redisTemplate.execute(
+        CollaborationStreamRedisScripts.JOIN_GROUP,
+        List.of(CollaborationChannel.streamFor(projectId)),
+        List.of(group, sinceMillis + "-0", Long.toString(properties.getMaxAge().toMillis())))
+        .then();
+  }
+
+  @Override
+  public Mono<Void> leave(String projectId, String group) {
+    return redisTemplate.execute(
+        CollaborationStreamRedisScripts.LEAVE_GROUP,
+        List.of(CollaborationChannel.streamFor(projectId)),
+        List.of(group))
+        .then();
+  }
+
+  @Override
+  public Flux<CollaborationStreamRecord> readNew(Collection<String> projectIds, String group, int count,
+      Duration block) {
+    StreamReadOptions options = StreamReadOptions.empty().count(count);
+    if (!block.isZero()) {
+      options = options.block(block);
+    }
+    return read(projectIds, group, options, ReadOffset.lastConsumed());
+  }
+
+  @Override
+  public Flux<CollaborationStreamRecord> readPending(Collection<String> projectIds, String group, int count) {
+    return read(projectIds, group, StreamReadOptions.empty().count(count), ReadOffset.from("0"));
+  }
+
+  @Override
+  public Mono<Void> acknowledge(String projectId, String group, String recordId) {
+    return redisTemplate.opsForStream()
+        .acknowledge(CollaborationChannel.streamFor(projectId), group, recordId)
+        .then();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Flux<CollaborationStreamRecord> read(Collection<String> projectIds, String group,
+      StreamReadOptions options, ReadOffset offset) {
+    StreamOffset<String>[] streams = projectIds.stream()
+        .map(projectId -> StreamOffset.create(CollaborationChannel.streamFor(projectId), offset))
+        .toArray(StreamOffset[]::new);
+    return redisTemplate.<String, String>opsForStream()
+        .read(Consumer.from(group, group), options, streams)
+        .map(RedisCollaborationEventStream::toRecord);
+  }
+
+  private static CollaborationStreamRecord toRecord(MapRecord<String, String, String> record) {
+    return new CollaborationStreamRecord(
+        CollaborationChannel.extractStreamProjectId(record.getStream()),
+        record.getId().getValue(),
+        record.getValue().get(PAYLOAD_FIELD));
+  }
+
+}
@@ -0,0 +1,106 @@
+package com.schemafy.core.common.r2dbc;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * Replaces the auto-configured pool with a primary and a replica pool behind a
+ * routing factory. Both pools are beans, so the actuator publishes
+ * {@code r2dbc.pool.*} for each of them tagged {@code name=primary} and
+ * {@code name=replica}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "database.read-replica.enabled", havingValue = "true")
+@EnableConfigurationProperties({ ReadReplicaProperties.class, R2dbcProperties.class })
+public class ReadReplicaConfig {
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionPool primaryConnectionFactory(R2dbcProperties r2dbcProperties) {
+    return connectionPool("primary", r2dbcProperties.getUrl(), r2dbcProperties.getUsername(),
+        r2dbcProperties.getPassword(), r2dbcProperties.getPool());
+  }
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionPool replicaConnectionFactory(ReadReplicaProperties readReplicaProperties) {
+    if (!StringUtils.hasText(readReplicaProperties.getUrl())) {
+      throw new IllegalStateException("database.read-replica.url is required when the read replica is enabled");
+    }
+    return connectionPool("replica", readReplicaProperties.getUrl(), readReplicaProperties.getUsername(),
+        readReplicaProperties.getPassword(), readReplicaProperties.getPool());
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  ReplicaLagGuard replicaLagGuard(
+      @Qualifier("primaryConnectionFactory") ConnectionPool primaryConnectionFactory,
+      @Qualifier("replicaConnectionFactory") ConnectionPool replicaConnectionFactory,
+      ReadReplicaProperties readReplicaProperties,
+      Clock clock) {
+    return new ReplicaLagGuard(
+        DatabaseClient.create(primaryConnectionFactory),
+        DatabaseClient.create(replicaConnectionFactory),
+        readReplicaProperties.getMaxLag(),
+        readReplicaProperties.getLagCheckInterval(),
+        clock);
+  }
+
+  @Bean
+  @Primary
+  public ConnectionFactory connectionFactory(
+      @Qualifier("primaryConnectionFactory") ConnectionPool primaryConnectionFactory,
+      @Qualifier("replicaConnectionFactory") ConnectionPool replicaConnectionFactory,
+      ReplicaLagGuard replicaLagGuard,
+      ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    return new ReadRoutingConnectionFactory(primaryConnectionFactory, replicaConnectionFactory, replicaLagGuard,
+        meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  static ConnectionPool connectionPool(
+      String name,
+      String url,
+      String username,
+      String password,
+      R2dbcProperties.Pool pool) {
+    ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+    if (StringUtils.hasText(username)) {
+      options.option(ConnectionFactoryOptions.USER, username);
+    }
+    if (password != null) {
+      options.option(ConnectionFactoryOptions.PASSWORD, password);
+    }
+    ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+    ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory)
+        .name(name);
+    PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+    map.from(pool.getInitialSize()).to(builder::initialSize);
+    map.from(pool.getMaxSize()).to(builder::maxSize);
+    map.from(pool.getMinIdle()).to(builder::minIdle);
+    map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+    map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+    map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+    map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+    map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
+    map.from(pool.getValidationQuery()).whenHasText().to(builder::validationQuery);
+    map.from(pool.getValidationDepth()).to(builder::validationDepth);
+    return new ConnectionPool(builder.build());
+  }
+
+}
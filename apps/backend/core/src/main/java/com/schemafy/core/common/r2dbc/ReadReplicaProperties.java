@@ -0,0 +1,34 @@
+package com.schemafy.core.common.r2dbc;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "database.read-replica")
+public class ReadReplicaProperties {
+
+  private boolean enabled = false;
+
+  private String url;
+
+  private String username;
+
+  private String password;
+
+  /** Pool settings of the replica, bound like {@code spring.r2dbc.pool}. */
+  @NestedConfigurationProperty
+  private R2dbcProperties.Pool pool = new R2dbcProperties.Pool();
+
+  /** How far the replica's heartbeat may trail the current time before reads go back to the primary. */
+  private Duration maxLag = Duration.ofSeconds(5);
+
+  private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+}
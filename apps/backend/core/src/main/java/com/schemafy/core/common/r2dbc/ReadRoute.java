@@ -0,0 +1,13 @@
+package com.schemafy.core.common.r2dbc;
+
+import java.util.Locale;
+
+public enum ReadRoute {
+  PRIMARY,
+  REPLICA;
+
+  String tag() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+
+}
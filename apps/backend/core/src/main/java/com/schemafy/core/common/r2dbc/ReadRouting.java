@@ -0,0 +1,29 @@
+package com.schemafy.core.common.r2dbc;
+
+import java.util.function.Function;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Marks reactive chains whose connections may come from the read replica.
+ * Only connections acquired inside the marked chain are affected; a chain that
+ * joins a transaction keeps the connection the transaction started with, so
+ * marking work that writes is a mistake the router does not catch.
+ */
+public final class ReadRouting {
+
+  private static final Object ROUTE_CONTEXT_KEY = new Object();
+
+  private ReadRouting() {}
+
+  public static Function<Context, Context> preferReplica() {
+    return context -> context.put(ROUTE_CONTEXT_KEY, ReadRoute.REPLICA);
+  }
+
+  public static ReadRoute requested(ContextView contextView) {
+    Object typedValue = contextView.getOrDefault(ROUTE_CONTEXT_KEY, null);
+    return typedValue instanceof ReadRoute route ? route : ReadRoute.PRIMARY;
+  }
+
+}
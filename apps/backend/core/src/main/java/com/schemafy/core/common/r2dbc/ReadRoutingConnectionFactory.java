@@ -0,0 +1,46 @@
+package com.schemafy.core.common.r2dbc;
+
+import java.util.Map;
+
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/** Hands out replica connections to chains marked by {@link ReadRouting}, unless the replica lags too far. */
+class ReadRoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+  static final String ROUTED_READS = "r2dbc.routing.reads";
+
+  private final ReplicaLagGuard replicaLagGuard;
+  private final MeterRegistry meterRegistry;
+
+  ReadRoutingConnectionFactory(
+      ConnectionFactory primary,
+      ConnectionFactory replica,
+      ReplicaLagGuard replicaLagGuard,
+      MeterRegistry meterRegistry) {
+    this.replicaLagGuard = replicaLagGuard;
+    this.meterRegistry = meterRegistry;
+    setTargetConnectionFactories(Map.of(ReadRoute.PRIMARY, primary, ReadRoute.REPLICA, replica));
+    setDefaultTargetConnectionFactory(primary);
+    setLenientFallback(false);
+  }
+
+  @Override
+  protected Mono<Object> determineCurrentLookupKey() {
+    return Mono.deferContextual(contextView -> {
+      if (ReadRouting.requested(contextView) != ReadRoute.REPLICA) {
+        return Mono.just(ReadRoute.PRIMARY);
+      }
+      return replicaLagGuard.isReplicaUsable()
+          .map(usable -> {
+            ReadRoute route = usable ? ReadRoute.REPLICA : ReadRoute.PRIMARY;
+            meterRegistry.counter(ROUTED_READS, "route", route.tag()).increment();
+            return route;
+          });
+    });
+  }
+
+}
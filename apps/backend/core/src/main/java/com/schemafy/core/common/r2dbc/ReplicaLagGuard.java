@@ -0,0 +1,129 @@
+package com.schemafy.core.common.r2dbc;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Measures replica lag in time through a heartbeat row. Every node stamps the
+ * row on the primary each {@code checkInterval}, and the lag is how far the
+ * replica's copy of the row trails the current time. Both sides are primary
+ * key lookups, so the check costs the same however many schemas there are,
+ * and a replica that stopped applying changes fails it even when nothing is
+ * being written.
+ *
+ * <p>Connection acquisition only waits for the very first check. After that it
+ * gets the last answer right away, and an answer older than
+ * {@code checkInterval} starts a refresh in the background. At most one check
+ * runs at a time and every caller that needs it shares it.
+ */
+@Slf4j
+class ReplicaLagGuard {
+
+  static final String WRITE_HEARTBEAT_SQL = """
+      INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, :beatAt)
+      ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)
+      """;
+  static final String READ_HEARTBEAT_SQL = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+
+  private final DatabaseClient primaryClient;
+  private final DatabaseClient replicaClient;
+  private final Duration maxLag;
+  private final Duration checkInterval;
+  private final Clock clock;
+  private final AtomicReference<Mono<Boolean>> inFlight = new AtomicReference<>();
+  private volatile LagCheck lastCheck;
+  private Disposable heartbeatTask;
+
+  ReplicaLagGuard(
+      DatabaseClient primaryClient,
+      DatabaseClient replicaClient,
+      Duration maxLag,
+      Duration checkInterval,
+      Clock clock) {
+    this.primaryClient = primaryClient;
+    this.replicaClient = replicaClient;
+    this.maxLag = maxLag;
+    this.checkInterval = checkInterval;
+    this.clock = clock;
+  }
+
+  void start() {
+    heartbeatTask = Flux.interval(Duration.ZERO, checkInterval)
+        .onBackpressureDrop()
+        .concatMap(tick -> writeHeartbeat()
+            .onErrorResume(error -> {
+              log.warn("Replica heartbeat write failed: {}", error.getMessage());
+              return Mono.empty();
+            }))
+        .subscribe();
+  }
+
+  void stop() {
+    if (heartbeatTask != null && !heartbeatTask.isDisposed()) {
+      heartbeatTask.dispose();
+    }
+  }
+
+  Mono<Void> writeHeartbeat() {
+    return primaryClient.sql(WRITE_HEARTBEAT_SQL)
+        .bind("beatAt", clock.millis())
+        .then();
+  }
+
+  Mono<Boolean> isReplicaUsable() {
+    LagCheck check = lastCheck;
+    if (check == null) {
+      return refresh();
+    }
+    if (!clock.instant().isBefore(check.checkedAt().plus(checkInterval))) {
+      refresh();
+    }
+    return Mono.just(check.usable());
+  }
+
+  private Mono<Boolean> refresh() {
+    while (true) {
+      Mono<Boolean> running = inFlight.get();
+      if (running != null) {
+        return running;
+      }
+      Sinks.One<Boolean> result = Sinks.one();
+      Mono<Boolean> shared = result.asMono();
+      if (inFlight.compareAndSet(null, shared)) {
+        measure().subscribe(usable -> {
+          lastCheck = new LagCheck(usable, clock.instant());
+          inFlight.set(null);
+          result.tryEmitValue(usable);
+        });
+        return shared;
+      }
+    }
+  }
+
+  // The heartbeat is at most one interval old on the primary, so the measured lag overstates the real one by that much.
+  private Mono<Boolean> measure() {
+    return replicaClient.sql(READ_HEARTBEAT_SQL)
+        .map(row -> row.get(0, Number.class))
+        .one()
+        .map(beatAt -> Duration.ofMillis(clock.millis() - beatAt.longValue()).compareTo(maxLag) <= 0)
+        .onErrorResume(error -> {
+          log.warn("Replica lag check failed, reading from primary", error);
+          return Mono.just(false);
+        })
+        .defaultIfEmpty(false);
+  }
+
+  private record LagCheck(boolean usable, Instant checkedAt) {
+  }
+
+}
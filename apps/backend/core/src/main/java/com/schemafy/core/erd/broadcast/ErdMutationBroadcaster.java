@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import com.schemafy.core.collaboration.dto.event.CollaborationOutboundFactory;
 import com.schemafy.core.collaboration.service.CollaborationEventPublisher;
 import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
+import com.schemafy.core.erd.operation.ErdMutationMetrics;
 import com.schemafy.core.erd.operation.ErdOperationContexts;
 import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
 import com.schemafy.core.erd.schema.application.port.out.GetSchemaByIdPort;
@@ -25,6 +26,7 @@ public class ErdMutationBroadcaster {
   private final GetTableByIdPort getTableByIdPort;
   private final GetSchemaByIdPort getSchemaByIdPort;
   private final CollaborationEventPublisher eventPublisher;
+  private final ErdMutationMetrics erdMutationMetrics;
 
   public record ResolvedContext(String projectId, String schemaId) {
   }
@@ -103,9 +105,10 @@ public class ErdMutationBroadcaster {
     return Mono.deferContextual(reactorCtx -> {
       String sessionId = ErdOperationContexts.metadata(reactorCtx)
           .sessionId();
-      return eventPublisher.publish(ctx.projectId(),
-          CollaborationOutboundFactory.erdMutated(sessionId,
-              ctx.schemaId(), affectedTableIds, operation));
+      return erdMutationMetrics.timeBroadcast(operation.derivationKind(),
+          eventPublisher.publish(ctx.projectId(),
+              CollaborationOutboundFactory.erdMutated(sessionId,
+                  ctx.schemaId(), affectedTableIds, operation)));
     });
   }
 
@@ -14,10 +14,12 @@ import com.schemafy.core.erd.column.application.port.out.ChangeColumnNamePort;
 import com.schemafy.core.erd.column.application.port.out.ChangeColumnPositionPort;
 import com.schemafy.core.erd.column.application.port.out.ChangeColumnTypePort;
 import com.schemafy.core.erd.column.application.port.out.CreateColumnPort;
+import com.schemafy.core.erd.column.application.port.out.CreateColumnsPort;
 import com.schemafy.core.erd.column.application.port.out.DeleteColumnPort;
 import com.schemafy.core.erd.column.application.port.out.DeleteColumnsByTableIdPort;
 import com.schemafy.core.erd.column.application.port.out.GetColumnByIdPort;
 import com.schemafy.core.erd.column.application.port.out.GetColumnsByTableIdPort;
+import com.schemafy.core.erd.column.application.port.out.GetColumnsBySchemaIdPort;
 import com.schemafy.core.erd.column.application.port.out.RestoreColumnPort;
 import com.schemafy.core.erd.column.domain.Column;
 import com.schemafy.core.erd.column.domain.ColumnTypeArguments;
@@ -30,8 +32,10 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 class ColumnPersistenceAdapter implements
     CreateColumnPort,
+    CreateColumnsPort,
     GetColumnByIdPort,
     GetColumnsByTableIdPort,
+    GetColumnsBySchemaIdPort,
     ChangeColumnNamePort,
     ChangeColumnTypePort,
     ChangeColumnMetaPort,
@@ -50,6 +54,14 @@ class ColumnPersistenceAdapter implements
         .map(columnMapper::toDomain);
   }
 
+  @Override
+  public Mono<Void> createColumns(List<Column> columns) {
+    return columnRepository.saveAll(columns.stream()
+        .map(columnMapper::toEntity)
+        .toList())
+        .then();
+  }
+
   @Override
   public Mono<Column> findColumnById(String columnId) {
     return columnRepository.findById(columnId)
@@ -63,6 +75,13 @@ class ColumnPersistenceAdapter implements
         .collectList();
   }
 
+  @Override
+  public Mono<List<Column>> findColumnsBySchemaId(String schemaId) {
+    return columnRepository.findBySchemaId(schemaId)
+        .map(columnMapper::toDomain)
+        .collectList();
+  }
+
   @Override
   public Mono<Void> changeColumnName(String columnId, String newName) {
     return findColumnOrError(columnId)
@@ -1,5 +1,6 @@
 package com.schemafy.core.erd.column.adapter.out.persistence;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import reactor.core.publisher.Flux;
@@ -11,4 +12,12 @@ interface ColumnRepository extends ReactiveCrudRepository<ColumnEntity, String>
 
   Mono<Void> deleteByTableId(String tableId);
 
+  @Query("""
+      SELECT c.* FROM db_columns c
+      JOIN db_tables t ON t.id = c.table_id
+      WHERE t.schema_id = :schemaId
+      ORDER BY c.table_id, c.seq_no
+      """)
+  Flux<ColumnEntity> findBySchemaId(String schemaId);
+
 }
@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.column.application.port.out;
+
+import java.util.List;
+
+import com.schemafy.core.erd.column.domain.Column;
+
+import reactor.core.publisher.Mono;
+
+public interface GetColumnsBySchemaIdPort {
+
+  Mono<List<Column>> findColumnsBySchemaId(String schemaId);
+
+}
@@ -9,7 +9,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -49,7 +48,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 public class ChangeColumnMetaService implements ChangeColumnMetaUseCase {
 
   private final ChangeColumnMetaPort changeColumnMetaPort;
-  private final TransactionalOperator transactionalOperator;
   private final GetColumnByIdPort getColumnByIdPort;
   private final GetColumnsByTableIdPort getColumnsByTableIdPort;
   private final GetConstraintColumnsByColumnIdPort getConstraintColumnsByColumnIdPort;
@@ -125,8 +123,7 @@ public class ChangeColumnMetaService implements ChangeColumnMetaUseCase {
                                   });
                             }));
                   });
-            }))
-        .as(transactionalOperator::transactional);
+            }));
   }
 
   private Mono<Void> rejectIfForeignKeyColumn(String columnId) {
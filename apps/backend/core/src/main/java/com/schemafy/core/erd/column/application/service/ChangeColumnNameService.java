@@ -4,7 +4,6 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -50,7 +49,6 @@ public class ChangeColumnNameService implements ChangeColumnNameUseCase {
   private final GetTableByIdPort getTableByIdPort;
   private final GetSchemaByIdPort getSchemaByIdPort;
   private final GetProjectDbVendorUseCase getProjectDbVendorUseCase;
-  private final TransactionalOperator transactionalOperator;
   private ErdMutationCoordinator erdMutationCoordinator = ErdMutationCoordinator.noop();
 
   @Autowired
@@ -94,7 +92,7 @@ public class ChangeColumnNameService implements ChangeColumnNameUseCase {
                               }));
                     }));
           });
-    }).as(transactionalOperator::transactional);
+    });
   }
 
   private Mono<Tuple3<Table, Schema, List<Column>>> fetchTableSchemaAndColumns(Column column) {
@@ -5,7 +5,6 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -37,7 +36,6 @@ public class ChangeColumnPositionService implements ChangeColumnPositionUseCase
   private final ChangeColumnPositionPort changeColumnPositionPort;
   private final GetColumnByIdPort getColumnByIdPort;
   private final GetColumnsByTableIdPort getColumnsByTableIdPort;
-  private final TransactionalOperator transactionalOperator;
   private ErdMutationCoordinator erdMutationCoordinator = ErdMutationCoordinator.noop();
 
   @Autowired
@@ -80,8 +78,7 @@ public class ChangeColumnPositionService implements ChangeColumnPositionUseCase
                                         Column::id,
                                         Column::seqNo))));
                       }));
-            }))
-        .as(transactionalOperator::transactional);
+            }));
   }
 
   private int resolveCurrentPosition(Column targetColumn, List<Column> columns) {
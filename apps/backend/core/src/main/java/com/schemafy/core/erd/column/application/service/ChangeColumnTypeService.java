@@ -9,7 +9,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -58,7 +57,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 public class ChangeColumnTypeService implements ChangeColumnTypeUseCase {
 
   private final ChangeColumnTypePort changeColumnTypePort;
-  private final TransactionalOperator transactionalOperator;
   private final ChangeColumnMetaPort changeColumnMetaPort;
   private final GetColumnByIdPort getColumnByIdPort;
   private final GetColumnsByTableIdPort getColumnsByTableIdPort;
@@ -139,8 +137,7 @@ public class ChangeColumnTypeService implements ChangeColumnTypeUseCase {
                                   });
                             }));
                   });
-            }))
-        .as(transactionalOperator::transactional);
+            }));
   }
 
   private Mono<Void> applyChange(
@@ -4,7 +4,6 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -53,7 +52,6 @@ public class CreateColumnService implements CreateColumnUseCase {
   private final GetSchemaByIdPort getSchemaByIdPort;
   private final GetProjectDbVendorUseCase getProjectDbVendorUseCase;
   private final GetColumnsByTableIdPort getColumnsByTableIdPort;
-  private final TransactionalOperator transactionalOperator;
   private final StructuralSnapshotService structuralSnapshotService;
   private ErdMutationCoordinator erdMutationCoordinator = ErdMutationCoordinator.noop();
 
@@ -91,8 +89,7 @@ public class CreateColumnService implements CreateColumnUseCase {
                         result.result().columnId(),
                         beforeSnapshot,
                         afterSnapshot,
-                        result.sortedAffectedTableIds()))))))
-        .as(transactionalOperator::transactional);
+                        result.sortedAffectedTableIds()))))));
   }
 
   private Mono<Tuple2<Schema, List<Column>>> fetchSchemaAndColumns(Table table) {
@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -59,7 +58,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = COLUMN, id = "columnId"))
 public class DeleteColumnService implements DeleteColumnUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteColumnPort deleteColumnPort;
   private final GetColumnByIdPort getColumnByIdPort;
 
@@ -94,8 +92,7 @@ public class DeleteColumnService implements DeleteColumnUseCase {
   public Mono<MutationResult<Void>> deleteColumn(DeleteColumnCommand command) {
     return Mono.deferContextual(contextView -> ErdOperationContexts.isNestedMutationSuppressed(contextView)
         ? deleteColumnWithoutInverse(command)
-        : deleteColumnWithInverse(command))
-        .as(transactionalOperator::transactional);
+        : deleteColumnWithInverse(command));
   }
 
   private Mono<MutationResult<Void>> deleteColumnWithInverse(DeleteColumnCommand command) {
@@ -9,12 +9,14 @@ import com.schemafy.core.common.PersistenceAdapter;
 import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.erd.constraint.application.port.out.ChangeConstraintColumnPositionPort;
 import com.schemafy.core.erd.constraint.application.port.out.CreateConstraintColumnPort;
+import com.schemafy.core.erd.constraint.application.port.out.CreateConstraintColumnsPort;
 import com.schemafy.core.erd.constraint.application.port.out.DeleteConstraintColumnPort;
 import com.schemafy.core.erd.constraint.application.port.out.DeleteConstraintColumnsByColumnIdPort;
 import com.schemafy.core.erd.constraint.application.port.out.DeleteConstraintColumnsByConstraintIdPort;
 import com.schemafy.core.erd.constraint.application.port.out.GetConstraintColumnByIdPort;
 import com.schemafy.core.erd.constraint.application.port.out.GetConstraintColumnsByColumnIdPort;
 import com.schemafy.core.erd.constraint.application.port.out.GetConstraintColumnsByConstraintIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintColumnsBySchemaIdPort;
 import com.schemafy.core.erd.constraint.application.port.out.RestoreConstraintColumnPort;
 import com.schemafy.core.erd.constraint.domain.ConstraintColumn;
 import com.schemafy.core.erd.constraint.domain.exception.ConstraintErrorCode;
@@ -27,9 +29,11 @@ import reactor.core.publisher.Mono;
 class ConstraintColumnPersistenceAdapter implements
     ChangeConstraintColumnPositionPort,
     CreateConstraintColumnPort,
+    CreateConstraintColumnsPort,
     GetConstraintColumnByIdPort,
     GetConstraintColumnsByColumnIdPort,
     GetConstraintColumnsByConstraintIdPort,
+    GetConstraintColumnsBySchemaIdPort,
     RestoreConstraintColumnPort,
     DeleteConstraintColumnPort,
     DeleteConstraintColumnsByConstraintIdPort,
@@ -46,6 +50,14 @@ class ConstraintColumnPersistenceAdapter implements
         .map(constraintColumnMapper::toDomain);
   }
 
+  @Override
+  public Mono<Void> createConstraintColumns(List<ConstraintColumn> constraintColumns) {
+    return constraintColumnRepository.saveAll(constraintColumns.stream()
+        .map(constraintColumnMapper::toEntity)
+        .toList())
+        .then();
+  }
+
   @Override
   public Mono<ConstraintColumn> findConstraintColumnById(String constraintColumnId) {
     return constraintColumnRepository.findById(constraintColumnId)
@@ -59,6 +71,13 @@ class ConstraintColumnPersistenceAdapter implements
         .collectList();
   }
 
+  @Override
+  public Mono<List<ConstraintColumn>> findConstraintColumnsBySchemaId(String schemaId) {
+    return constraintColumnRepository.findBySchemaId(schemaId)
+        .map(constraintColumnMapper::toDomain)
+        .collectList();
+  }
+
   @Override
   public Mono<List<ConstraintColumn>> findConstraintColumnsByColumnId(String columnId) {
     return constraintColumnRepository.findByColumnId(columnId)
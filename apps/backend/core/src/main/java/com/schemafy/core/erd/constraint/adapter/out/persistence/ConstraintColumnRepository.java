@@ -1,5 +1,6 @@
 package com.schemafy.core.erd.constraint.adapter.out.persistence;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import reactor.core.publisher.Flux;
@@ -15,4 +16,13 @@ interface ConstraintColumnRepository extends ReactiveCrudRepository<ConstraintCo
 
   Mono<Void> deleteByColumnId(String columnId);
 
+  @Query("""
+      SELECT cc.* FROM db_constraint_columns cc
+      JOIN db_constraints c ON c.id = cc.constraint_id
+      JOIN db_tables t ON t.id = c.table_id
+      WHERE t.schema_id = :schemaId
+      ORDER BY cc.constraint_id, cc.seq_no
+      """)
+  Flux<ConstraintColumnEntity> findBySchemaId(String schemaId);
+
 }
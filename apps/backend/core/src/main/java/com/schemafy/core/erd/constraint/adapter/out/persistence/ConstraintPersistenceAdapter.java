@@ -11,9 +11,11 @@ import com.schemafy.core.erd.constraint.application.port.out.ChangeConstraintExp
 import com.schemafy.core.erd.constraint.application.port.out.ChangeConstraintNamePort;
 import com.schemafy.core.erd.constraint.application.port.out.ConstraintExistsPort;
 import com.schemafy.core.erd.constraint.application.port.out.CreateConstraintPort;
+import com.schemafy.core.erd.constraint.application.port.out.CreateConstraintsPort;
 import com.schemafy.core.erd.constraint.application.port.out.DeleteConstraintPort;
 import com.schemafy.core.erd.constraint.application.port.out.GetConstraintByIdPort;
 import com.schemafy.core.erd.constraint.application.port.out.GetConstraintsByTableIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintsBySchemaIdPort;
 import com.schemafy.core.erd.constraint.application.port.out.RestoreConstraintPort;
 import com.schemafy.core.erd.constraint.domain.Constraint;
 import com.schemafy.core.erd.constraint.domain.exception.ConstraintErrorCode;
@@ -25,8 +27,10 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 class ConstraintPersistenceAdapter implements
     CreateConstraintPort,
+    CreateConstraintsPort,
     GetConstraintByIdPort,
     GetConstraintsByTableIdPort,
+    GetConstraintsBySchemaIdPort,
     ChangeConstraintNamePort,
     ChangeConstraintExpressionPort,
     RestoreConstraintPort,
@@ -44,6 +48,14 @@ class ConstraintPersistenceAdapter implements
         .map(constraintMapper::toDomain);
   }
 
+  @Override
+  public Mono<Void> createConstraints(List<Constraint> constraints) {
+    return constraintRepository.saveAll(constraints.stream()
+        .map(constraintMapper::toEntity)
+        .toList())
+        .then();
+  }
+
   @Override
   public Mono<Constraint> findConstraintById(String constraintId) {
     return constraintRepository.findById(constraintId)
@@ -57,6 +69,13 @@ class ConstraintPersistenceAdapter implements
         .collectList();
   }
 
+  @Override
+  public Mono<List<Constraint>> findConstraintsBySchemaId(String schemaId) {
+    return constraintRepository.findBySchemaId(schemaId)
+        .map(constraintMapper::toDomain)
+        .collectList();
+  }
+
   @Override
   public Mono<Void> changeConstraintName(String constraintId, String newName) {
     return findConstraintOrError(constraintId)
@@ -36,4 +36,11 @@ interface ConstraintRepository extends ReactiveCrudRepository<ConstraintEntity,
       String name,
       String constraintId);
 
+  @Query("""
+      SELECT c.* FROM db_constraints c
+      JOIN db_tables t ON t.id = c.table_id
+      WHERE t.schema_id = :schemaId
+      """)
+  Flux<ConstraintEntity> findBySchemaId(String schemaId);
+
 }
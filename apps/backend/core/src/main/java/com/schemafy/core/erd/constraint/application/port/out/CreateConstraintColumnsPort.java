@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.constraint.application.port.out;
+
+import java.util.List;
+
+import com.schemafy.core.erd.constraint.domain.ConstraintColumn;
+
+import reactor.core.publisher.Mono;
+
+public interface CreateConstraintColumnsPort {
+
+  Mono<Void> createConstraintColumns(List<ConstraintColumn> constraintColumns);
+
+}
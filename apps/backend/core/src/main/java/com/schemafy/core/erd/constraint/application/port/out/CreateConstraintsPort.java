@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.constraint.application.port.out;
+
+import java.util.List;
+
+import com.schemafy.core.erd.constraint.domain.Constraint;
+
+import reactor.core.publisher.Mono;
+
+public interface CreateConstraintsPort {
+
+  Mono<Void> createConstraints(List<Constraint> constraints);
+
+}
@@ -8,7 +8,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -52,7 +51,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 })
 public class AddConstraintColumnService implements AddConstraintColumnUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final UlidGeneratorPort ulidGeneratorPort;
   private final CreateConstraintColumnPort createConstraintColumnPort;
   private final GetConstraintByIdPort getConstraintByIdPort;
@@ -81,8 +79,7 @@ public class AddConstraintColumnService implements AddConstraintColumnUseCase {
                         result.result().constraintColumnId(),
                         beforeSnapshot,
                         afterSnapshot,
-                        result.sortedAffectedTableIds())))))))
-        .as(transactionalOperator::transactional);
+                        result.sortedAffectedTableIds())))))));
   }
 
   private Mono<MutationResult<AddConstraintColumnResult>> addConstraintColumnWithoutInverse(
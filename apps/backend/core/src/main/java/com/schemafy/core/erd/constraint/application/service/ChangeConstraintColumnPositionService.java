@@ -5,7 +5,6 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -35,7 +34,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = CONSTRAINT_COLUMN, id = "constraintColumnId"))
 public class ChangeConstraintColumnPositionService implements ChangeConstraintColumnPositionUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final ChangeConstraintColumnPositionPort changeConstraintColumnPositionPort;
   private final GetConstraintColumnByIdPort getConstraintColumnByIdPort;
   private final GetConstraintColumnsByConstraintIdPort getConstraintColumnsByConstraintIdPort;
@@ -106,8 +104,7 @@ public class ChangeConstraintColumnPositionService implements ChangeConstraintCo
                                             ConstraintColumn::id,
                                             ConstraintColumn::seqNo))));
                           }));
-                })))
-        .as(transactionalOperator::transactional);
+                })));
   }
 
   private int resolveCurrentPosition(
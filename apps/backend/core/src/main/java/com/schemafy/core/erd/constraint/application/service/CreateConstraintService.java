@@ -9,7 +9,6 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -56,7 +55,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = TABLE, id = "tableId"))
 public class CreateConstraintService implements CreateConstraintUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final UlidGeneratorPort ulidGeneratorPort;
   private final CreateConstraintPort createConstraintPort;
   private final CreateConstraintColumnPort createConstraintColumnPort;
@@ -137,8 +135,7 @@ public class CreateConstraintService implements CreateConstraintUseCase {
                     result.result().constraintId(),
                     beforeSnapshot,
                     afterSnapshot,
-                    result.sortedAffectedTableIds()))))))
-        .as(transactionalOperator::transactional);
+                    result.sortedAffectedTableIds()))))));
   }
 
   private Mono<MutationResult<CreateConstraintResult>> createConstraint(
@@ -6,7 +6,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -38,7 +37,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = CONSTRAINT, id = "constraintId"))
 public class DeleteConstraintService implements DeleteConstraintUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteConstraintPort deleteConstraintPort;
   private final DeleteConstraintColumnsByConstraintIdPort deleteConstraintColumnsPort;
   private final GetConstraintByIdPort getConstraintByIdPort;
@@ -81,8 +79,7 @@ public class DeleteConstraintService implements DeleteConstraintUseCase {
                         constraintId,
                         beforeSnapshot,
                         afterSnapshot,
-                        result.sortedAffectedTableIds()))))))
-        .as(transactionalOperator::transactional);
+                        result.sortedAffectedTableIds()))))));
   }
 
   private Mono<Void> cascadeDeleteFkColumns(
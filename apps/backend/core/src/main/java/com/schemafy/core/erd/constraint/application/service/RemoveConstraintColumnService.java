@@ -7,7 +7,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -41,7 +40,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = CONSTRAINT_COLUMN, id = "constraintColumnId"))
 public class RemoveConstraintColumnService implements RemoveConstraintColumnUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteConstraintColumnPort deleteConstraintColumnPort;
   private final DeleteConstraintPort deleteConstraintPort;
   private final ChangeConstraintColumnPositionPort changeConstraintColumnPositionPort;
@@ -70,8 +68,7 @@ public class RemoveConstraintColumnService implements RemoveConstraintColumnUseC
                           beforeSnapshot,
                           afterSnapshot,
                           result.sortedAffectedTableIds())))));
-        })
-        .as(transactionalOperator::transactional);
+        });
   }
 
   private Mono<MutationResult<Void>> removeConstraintColumnWithoutInverse(RemoveConstraintColumnCommand command) {
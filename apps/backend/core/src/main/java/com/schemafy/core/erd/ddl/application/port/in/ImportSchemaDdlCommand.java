@@ -0,0 +1,10 @@
+package com.schemafy.core.erd.ddl.application.port.in;
+
+public record ImportSchemaDdlCommand(
+    String projectId,
+    String name,
+    String charset,
+    String collation,
+    String ddl) {
+
+}
@@ -0,0 +1,18 @@
+package com.schemafy.core.erd.ddl.application.port.in;
+
+import java.util.List;
+
+public record ImportSchemaDdlResult(
+    String schemaId,
+    String projectId,
+    String name,
+    String charset,
+    String collation,
+    int tableCount,
+    List<String> warnings) {
+
+  public ImportSchemaDdlResult {
+    warnings = List.copyOf(warnings == null ? List.of() : warnings);
+  }
+
+}
@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.ddl.application.port.in;
+
+import com.schemafy.core.common.MutationResult;
+
+import reactor.core.publisher.Mono;
+
+public interface ImportSchemaDdlUseCase {
+
+  Mono<MutationResult<ImportSchemaDdlResult>> importSchemaDdl(ImportSchemaDdlCommand command);
+
+}
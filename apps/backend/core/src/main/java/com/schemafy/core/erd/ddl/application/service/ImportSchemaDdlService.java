@@ -0,0 +1,309 @@
+package com.schemafy.core.erd.ddl.application.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.column.application.port.out.CreateColumnsPort;
+import com.schemafy.core.erd.column.domain.Column;
+import com.schemafy.core.erd.column.domain.validator.ColumnValidator;
+import com.schemafy.core.erd.constraint.application.port.out.CreateConstraintColumnsPort;
+import com.schemafy.core.erd.constraint.application.port.out.CreateConstraintsPort;
+import com.schemafy.core.erd.constraint.domain.Constraint;
+import com.schemafy.core.erd.constraint.domain.ConstraintColumn;
+import com.schemafy.core.erd.constraint.domain.validator.ConstraintValidator;
+import com.schemafy.core.erd.ddl.application.port.in.GenerateSchemaDdlCommand;
+import com.schemafy.core.erd.ddl.application.port.in.GenerateSchemaDdlUseCase;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlCommand;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlResult;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlUseCase;
+import com.schemafy.core.erd.ddl.domain.DdlExportVendor;
+import com.schemafy.core.erd.ddl.domain.DdlImportContext;
+import com.schemafy.core.erd.ddl.domain.DdlParser;
+import com.schemafy.core.erd.ddl.domain.ParsedDdl;
+import com.schemafy.core.erd.ddl.domain.exception.DdlErrorCode;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.ConstraintSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.IndexSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.RelationshipSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.SchemaSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.TableSnapshot;
+import com.schemafy.core.erd.index.application.port.out.CreateIndexColumnsPort;
+import com.schemafy.core.erd.index.application.port.out.CreateIndexesPort;
+import com.schemafy.core.erd.index.domain.Index;
+import com.schemafy.core.erd.index.domain.IndexColumn;
+import com.schemafy.core.erd.index.domain.validator.IndexValidator;
+import com.schemafy.core.erd.operation.application.service.ErdMutationCoordinator;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.relationship.application.port.out.CreateRelationshipColumnsPort;
+import com.schemafy.core.erd.relationship.application.port.out.CreateRelationshipsPort;
+import com.schemafy.core.erd.relationship.domain.Relationship;
+import com.schemafy.core.erd.relationship.domain.RelationshipColumn;
+import com.schemafy.core.erd.relationship.domain.validator.RelationshipValidator;
+import com.schemafy.core.erd.schema.application.port.out.CreateSchemaPort;
+import com.schemafy.core.erd.schema.application.port.out.SchemaExistsPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.table.application.port.out.CreateTablesPort;
+import com.schemafy.core.erd.table.domain.Table;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorQuery;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorUseCase;
+import com.schemafy.core.erd.vendor.domain.DbVendor;
+import com.schemafy.core.erd.vendor.domain.validator.IdentifierValidator;
+import com.schemafy.core.project.application.access.AccessTarget;
+import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.domain.ProjectRole;
+import com.schemafy.core.ulid.application.port.out.UlidGeneratorPort;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.project.application.access.ProjectAccessResourceType.PROJECT;
+
+@Service
+@RequiredArgsConstructor
+@RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = PROJECT, id = "projectId"))
+class ImportSchemaDdlService implements ImportSchemaDdlUseCase {
+
+  // Imported tables are laid out on a grid so the canvas does not open with every table stacked at 0,0.
+  static final int TABLE_GRID_SPACING_X = 360;
+  static final int TABLE_GRID_SPACING_Y = 320;
+
+  private final GetProjectDbVendorUseCase getProjectDbVendorUseCase;
+  private final UlidGeneratorPort ulidGeneratorPort;
+  private final SchemaExistsPort schemaExistsPort;
+  private final List<DdlParser> ddlParsers;
+  private final GenerateSchemaDdlUseCase generateSchemaDdlUseCase;
+  private final CreateSchemaPort createSchemaPort;
+  private final CreateTablesPort createTablesPort;
+  private final CreateColumnsPort createColumnsPort;
+  private final CreateConstraintsPort createConstraintsPort;
+  private final CreateConstraintColumnsPort createConstraintColumnsPort;
+  private final CreateIndexesPort createIndexesPort;
+  private final CreateIndexColumnsPort createIndexColumnsPort;
+  private final CreateRelationshipsPort createRelationshipsPort;
+  private final CreateRelationshipColumnsPort createRelationshipColumnsPort;
+  private final JsonCodec jsonCodec;
+  private ErdMutationCoordinator erdMutationCoordinator = ErdMutationCoordinator.noop();
+
+  @Autowired
+  void setErdMutationCoordinator(ErdMutationCoordinator erdMutationCoordinator) {
+    this.erdMutationCoordinator = erdMutationCoordinator;
+  }
+
+  @Override
+  public Mono<MutationResult<ImportSchemaDdlResult>> importSchemaDdl(ImportSchemaDdlCommand command) {
+    return erdMutationCoordinator.coordinate(ErdOperationType.IMPORT_SCHEMA_DDL, command,
+        () -> getProjectDbVendorUseCase
+            .getProjectDbVendor(new GetProjectDbVendorQuery(command.projectId()))
+            .flatMap(dbVendor -> {
+              IdentifierValidator.validateLength(
+                  dbVendor.capabilities().identifiers(),
+                  command.name(),
+                  SchemaErrorCode.INVALID_VALUE,
+                  "Schema name");
+              DdlExportVendor vendor = DdlExportVendor.of(dbVendor.name());
+              DdlParser parser = resolveParser(vendor);
+              return schemaExistsPort
+                  .existsActiveByProjectIdAndName(command.projectId(), command.name())
+                  .flatMap(exists -> {
+                    if (exists) {
+                      return Mono.error(new DomainException(SchemaErrorCode.NAME_DUPLICATE,
+                          "Schema name '%s' already exists in project".formatted(command.name())));
+                    }
+
+                    return Mono.fromCallable(() -> parse(command, dbVendor, parser))
+                        .flatMap(imported -> generateSchemaDdlUseCase
+                            .generateSchemaDdl(new GenerateSchemaDdlCommand(
+                                imported.snapshot(),
+                                vendor,
+                                dbVendor.datatypeMappings(),
+                                dbVendor.capabilities().indexes(),
+                                dbVendor.capabilities().identifiers()))
+                            .then(Mono.defer(() -> persist(imported))));
+                  });
+            }));
+  }
+
+  private DdlParser resolveParser(DdlExportVendor vendor) {
+    return ddlParsers.stream()
+        .filter(parser -> parser.exportVendor().equals(vendor))
+        .findFirst()
+        .orElseThrow(() -> new DomainException(DdlErrorCode.UNSUPPORTED_VENDOR,
+            "Unsupported DDL import DB vendor: " + vendor.value()));
+  }
+
+  private ImportedSchema parse(ImportSchemaDdlCommand command, DbVendor dbVendor, DdlParser parser) {
+    Schema schema = Schema.create(
+        ulidGeneratorPort.generate(),
+        command.projectId(),
+        dbVendor.name(),
+        command.name(),
+        command.charset(),
+        command.collation());
+    ParsedDdl parsed = parser.parse(command.ddl(), new DdlImportContext(
+        schema.id(),
+        schema.charset(),
+        schema.collation(),
+        dbVendor.datatypeMappings(),
+        dbVendor.capabilities().identifiers(),
+        ulidGeneratorPort::generate));
+
+    ImportedSchema imported = toImportedSchema(schema, dbVendor.name(), parsed);
+    imported.validate(dbVendor.name());
+    return imported;
+  }
+
+  private Mono<MutationResult<ImportSchemaDdlResult>> persist(ImportedSchema imported) {
+    Schema schema = imported.schema();
+    return createSchemaPort.createSchema(schema)
+        .then(createTablesPort.createTables(imported.tables()))
+        .then(createColumnsPort.createColumns(imported.columns()))
+        .then(createConstraintsPort.createConstraints(imported.constraints()))
+        .then(createConstraintColumnsPort.createConstraintColumns(imported.constraintColumns()))
+        .then(createIndexesPort.createIndexes(imported.indexes()))
+        .then(createIndexColumnsPort.createIndexColumns(imported.indexColumns()))
+        .then(createRelationshipsPort.createRelationships(imported.relationships()))
+        .then(createRelationshipColumnsPort.createRelationshipColumns(imported.relationshipColumns()))
+        .then(Mono.fromSupplier(() -> MutationResult.of(
+            new ImportSchemaDdlResult(
+                schema.id(),
+                schema.projectId(),
+                schema.name(),
+                schema.charset(),
+                schema.collation(),
+                imported.tables().size(),
+                imported.warnings()),
+            imported.tableIds())));
+  }
+
+  private ImportedSchema toImportedSchema(Schema schema, String dbVendorName, ParsedDdl parsed) {
+    SchemaExportSnapshot snapshot = new SchemaExportSnapshot(
+        new SchemaSnapshot(schema.id(), dbVendorName, schema.name(), schema.charset(),
+            schema.collation()),
+        parsed.tables());
+
+    List<Table> tables = new ArrayList<>();
+    List<Column> columns = new ArrayList<>();
+    List<Constraint> constraints = new ArrayList<>();
+    List<ConstraintColumn> constraintColumns = new ArrayList<>();
+    List<Index> indexes = new ArrayList<>();
+    List<IndexColumn> indexColumns = new ArrayList<>();
+    List<Relationship> relationships = new ArrayList<>();
+    List<RelationshipColumn> relationshipColumns = new ArrayList<>();
+
+    int tableCount = parsed.tables().size();
+    for (TableSnapshot tableSnapshot : parsed.tables()) {
+      var table = tableSnapshot.table();
+      tables.add(new Table(
+          table.id(),
+          table.schemaId(),
+          table.name(),
+          table.charset(),
+          table.collation(),
+          tableExtra(tables.size(), tableCount)));
+      tableSnapshot.columns().forEach(column -> columns.add(new Column(
+          column.id(),
+          column.tableId(),
+          column.name(),
+          column.dataType(),
+          column.typeArguments(),
+          column.seqNo(),
+          column.autoIncrement(),
+          column.charset(),
+          column.collation(),
+          column.comment())));
+      for (ConstraintSnapshot constraint : tableSnapshot.constraints()) {
+        var value = constraint.constraint();
+        constraints.add(new Constraint(value.id(), value.tableId(), value.name(), value.kind(),
+            value.checkExpr(), value.defaultExpr()));
+        constraint.columns().forEach(column -> constraintColumns.add(new ConstraintColumn(
+            column.id(), column.constraintId(), column.columnId(), column.seqNo())));
+      }
+      for (IndexSnapshot index : tableSnapshot.indexes()) {
+        var value = index.index();
+        indexes.add(new Index(value.id(), value.tableId(), value.name(), value.type()));
+        index.columns().forEach(column -> indexColumns.add(new IndexColumn(
+            column.id(), column.indexId(), column.columnId(), column.seqNo(), column.sortDirection())));
+      }
+      for (RelationshipSnapshot relationship : tableSnapshot.relationships()) {
+        var value = relationship.relationship();
+        relationships.add(new Relationship(value.id(), value.pkTableId(), value.fkTableId(), value.name(),
+            value.kind(), value.cardinality(), relationshipExtra(value)));
+        relationship.columns().forEach(column -> relationshipColumns.add(new RelationshipColumn(
+            column.id(), column.relationshipId(), column.pkColumnId(), column.fkColumnId(),
+            column.seqNo())));
+      }
+    }
+
+    return new ImportedSchema(schema, snapshot, parsed.warnings(), tables, columns, constraints,
+        constraintColumns, indexes, indexColumns, relationships, relationshipColumns);
+  }
+
+  private String tableExtra(int position, int tableCount) {
+    int columns = (int) Math.ceil(Math.sqrt(tableCount));
+    Map<String, Object> point = new LinkedHashMap<>();
+    point.put("x", (position % columns) * TABLE_GRID_SPACING_X);
+    point.put("y", (position / columns) * TABLE_GRID_SPACING_Y);
+    return jsonCodec.toJson(Map.of("position", point));
+  }
+
+  private String relationshipExtra(SchemaExportSnapshot.Relationship relationship) {
+    Map<String, Object> extra = new LinkedHashMap<>();
+    if (relationship.onDelete() != null) {
+      extra.put("onDelete", relationship.onDelete());
+    }
+    if (relationship.onUpdate() != null) {
+      extra.put("onUpdate", relationship.onUpdate());
+    }
+    return extra.isEmpty() ? null : jsonCodec.toJson(extra);
+  }
+
+  private record ImportedSchema(
+      Schema schema,
+      SchemaExportSnapshot snapshot,
+      List<String> warnings,
+      List<Table> tables,
+      List<Column> columns,
+      List<Constraint> constraints,
+      List<ConstraintColumn> constraintColumns,
+      List<Index> indexes,
+      List<IndexColumn> indexColumns,
+      List<Relationship> relationships,
+      List<RelationshipColumn> relationshipColumns) {
+
+    // The same rules the per-entity create services apply, run once over the whole import.
+    private void validate(String dbVendorName) {
+      Map<String, List<Column>> columnsByTable = new LinkedHashMap<>();
+      for (Column column : columns) {
+        ColumnValidator.validateName(column.name());
+        ColumnValidator.validateReservedKeyword(dbVendorName, column.name());
+        List<Column> tableColumns = columnsByTable.computeIfAbsent(column.tableId(),
+            ignored -> new ArrayList<>());
+        ColumnValidator.validateAutoIncrementUniqueness(column.autoIncrement(), tableColumns, null);
+        tableColumns.add(column);
+      }
+      constraints.forEach(constraint -> ConstraintValidator.validateName(constraint.name()));
+      indexes.forEach(index -> IndexValidator.validateName(index.name()));
+      relationships.forEach(relationship -> RelationshipValidator.validateName(relationship.name()));
+      RelationshipValidator.validateIdentifyingCycle(relationships, null, null);
+    }
+
+    private Set<String> tableIds() {
+      Set<String> tableIds = new LinkedHashSet<>(tables.size());
+      tables.forEach(table -> tableIds.add(table.id()));
+      return tableIds;
+    }
+
+  }
+
+}
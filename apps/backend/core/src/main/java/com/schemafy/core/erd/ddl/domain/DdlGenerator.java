@@ -1,5 +1,8 @@
 package com.schemafy.core.erd.ddl.domain;
 
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.ddl.domain.exception.DdlErrorCode;
+import com.schemafy.core.erd.diff.domain.SchemaDiff;
 import com.schemafy.core.erd.export.domain.SchemaExportSnapshot;
 import com.schemafy.core.erd.vendor.domain.datatype.DatatypePolicy;
 
@@ -9,4 +12,13 @@ public interface DdlGenerator {
 
   String generate(SchemaExportSnapshot snapshot, DatatypePolicy datatypePolicy);
 
+  default String generateMigration(
+      SchemaExportSnapshot base,
+      SchemaExportSnapshot target,
+      SchemaDiff diff,
+      DatatypePolicy datatypePolicy) {
+    throw new DomainException(DdlErrorCode.UNSUPPORTED_VENDOR,
+        "Migration DDL is not supported for target DB vendor: " + exportVendor().value());
+  }
+
 }
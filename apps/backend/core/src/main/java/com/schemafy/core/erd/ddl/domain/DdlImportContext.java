@@ -0,0 +1,15 @@
+package com.schemafy.core.erd.ddl.domain;
+
+import java.util.function.Supplier;
+
+import com.schemafy.core.erd.vendor.domain.IdentifierCapabilities;
+import com.schemafy.core.erd.vendor.domain.datatype.DatatypePolicy;
+
+public record DdlImportContext(
+    String schemaId,
+    String defaultCharset,
+    String defaultCollation,
+    DatatypePolicy datatypePolicy,
+    IdentifierCapabilities identifierCapabilities,
+    Supplier<String> idGenerator) {
+}
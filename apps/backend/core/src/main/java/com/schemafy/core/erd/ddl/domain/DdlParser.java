@@ -0,0 +1,9 @@
+package com.schemafy.core.erd.ddl.domain;
+
+public interface DdlParser {
+
+  DdlExportVendor exportVendor();
+
+  ParsedDdl parse(String ddl, DdlImportContext context);
+
+}
@@ -0,0 +1,16 @@
+package com.schemafy.core.erd.ddl.domain;
+
+import java.util.List;
+
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.TableSnapshot;
+
+public record ParsedDdl(
+    List<TableSnapshot> tables,
+    List<String> warnings) {
+
+  public ParsedDdl {
+    tables = List.copyOf(tables == null ? List.of() : tables);
+    warnings = List.copyOf(warnings == null ? List.of() : warnings);
+  }
+
+}
@@ -21,6 +21,10 @@ import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
 import com.schemafy.core.erd.ddl.domain.DdlExportVendor;
 import com.schemafy.core.erd.ddl.domain.DdlGenerator;
 import com.schemafy.core.erd.ddl.domain.exception.DdlErrorCode;
+import com.schemafy.core.erd.diff.domain.SchemaChange;
+import com.schemafy.core.erd.diff.domain.SchemaDiff;
+import com.schemafy.core.erd.diff.domain.SchemaElementType;
+import com.schemafy.core.erd.diff.domain.StructuralSnapshotDiffer;
 import com.schemafy.core.erd.export.domain.SchemaExportSnapshot;
 import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Column;
 import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Constraint;
@@ -45,7 +49,7 @@ public class MySqlDdlGenerator implements DdlGenerator {
   private static final int MAX_COLUMN_COMMENT_LENGTH = 1024;
 
   // MySQL parses SET DEFAULT, but InnoDB rejects it for foreign keys.
-  private static final Set<String> VALID_REFERENTIAL_ACTIONS = Set.of(
+  static final Set<String> VALID_REFERENTIAL_ACTIONS = Set.of(
       "CASCADE", "SET NULL", "RESTRICT", "NO ACTION");
 
   // This generator always emits ENGINE=InnoDB. HASH is not a valid InnoDB
@@ -443,6 +447,274 @@ public class MySqlDdlGenerator implements DdlGenerator {
     return ddl.toString();
   }
 
+  @Override
+  public String generateMigration(
+      SchemaExportSnapshot base,
+      SchemaExportSnapshot target,
+      SchemaDiff diff,
+      DatatypePolicy datatypePolicy) {
+    requireSnapshot(base);
+    requireSnapshot(target);
+    requireMysqlCompatible(base.schema().dbVendorName());
+    requireMysqlCompatible(target.schema().dbVendorName());
+    requireDatatypePolicy(datatypePolicy);
+    if (diff == null) {
+      throw invalid("Schema diff must not be null");
+    }
+
+    MigrationContext migration = MigrationContext.from(
+        normalizeTables(base.tables()),
+        normalizeTables(target.tables()),
+        diff,
+        datatypePolicy);
+
+    // Keys go before the tables and columns they depend on, and come back after them.
+    List<String> statements = new ArrayList<>();
+    statements.addAll(dropForeignKeyStatements(migration));
+    statements.addAll(dropKeyStatements(migration));
+    statements.addAll(dropTableStatements(migration));
+    statements.addAll(renameTableStatements(migration));
+    migration.addedTables().forEach(table -> statements.add(generateCreateTable(table, migration.target())));
+    statements.addAll(alterTableStatements(migration));
+    statements.addAll(addKeyStatements(migration));
+    statements.addAll(addForeignKeyStatements(migration));
+
+    StringBuilder ddl = new StringBuilder();
+    ddl.append("-- Schemafy MySQL Migration\n")
+        .append("-- From: ").append(escapeComment(base.schema().name())).append("\n")
+        .append("-- To: ").append(escapeComment(target.schema().name())).append("\n\n");
+    if (statements.isEmpty()) {
+      ddl.append("-- No structural changes");
+    } else {
+      ddl.append(String.join("\n", statements));
+    }
+    return ddl.toString();
+  }
+
+  private List<String> dropForeignKeyStatements(MigrationContext migration) {
+    List<String> statements = new ArrayList<>();
+    for (TableSnapshot baseTable : migration.baseTables()) {
+      Table table = baseTable.table();
+      baseTable.relationships().stream()
+          .map(MySqlDdlGenerator::requireRelationship)
+          .filter(relationship -> table.id().equals(relationship.relationship().fkTableId()))
+          .filter(relationship -> !sameForeignKey(relationship, migration))
+          .sorted(comparingNullableStrings(
+              relationship -> relationship.relationship().name(),
+              relationship -> relationship.relationship().id()))
+          .forEach(relationship -> statements.add("ALTER TABLE " + quoteIdentifier(table.name())
+              + " DROP FOREIGN KEY " + quoteIdentifier(relationship.relationship().name()) + ";"));
+    }
+    return statements;
+  }
+
+  private List<String> dropKeyStatements(MigrationContext migration) {
+    List<String> statements = new ArrayList<>();
+    for (TableSnapshot baseTable : migration.baseTables()) {
+      TableSnapshot targetTable = migration.targetTableOf(baseTable);
+      if (targetTable == null) {
+        continue;
+      }
+      String alterTable = "ALTER TABLE " + quoteIdentifier(baseTable.table().name());
+      Optional<String> basePrimaryKey = primaryKeyClause(baseTable, migration.base());
+      if (basePrimaryKey.isPresent()
+          && !basePrimaryKey.equals(primaryKeyClause(targetTable, migration.target()))) {
+        statements.add(alterTable + " DROP PRIMARY KEY;");
+      }
+      for (ConstraintSnapshot constraint : constraintsOf(baseTable, ConstraintKind.UNIQUE)) {
+        if (!sameUniqueKey(baseTable, constraint, migration)) {
+          statements.add(alterTable + " DROP INDEX "
+              + quoteIdentifier(constraint.constraint().name()) + ";");
+        }
+      }
+      for (IndexSnapshot index : baseTable.indexes()) {
+        if (!sameIndex(baseTable, requireIndex(index), migration)) {
+          statements.add(alterTable + " DROP INDEX " + quoteIdentifier(index.index().name()) + ";");
+        }
+      }
+      for (ConstraintSnapshot constraint : constraintsOf(baseTable, ConstraintKind.CHECK)) {
+        if (hasText(constraint.constraint().name()) && !sameCheck(constraint, migration)) {
+          statements.add(alterTable + " DROP CHECK "
+              + quoteIdentifier(constraint.constraint().name()) + ";");
+        }
+      }
+    }
+    return statements;
+  }
+
+  private List<String> dropTableStatements(MigrationContext migration) {
+    return migration.baseTables().stream()
+        .filter(table -> migration.targetTableOf(table) == null)
+        .map(table -> "DROP TABLE " + quoteIdentifier(table.table().name()) + ";")
+        .toList();
+  }
+
+  private List<String> renameTableStatements(MigrationContext migration) {
+    List<String> statements = new ArrayList<>();
+    for (TableSnapshot baseTable : migration.baseTables()) {
+      TableSnapshot targetTable = migration.targetTableOf(baseTable);
+      if (targetTable != null && !baseTable.table().name().equals(targetTable.table().name())) {
+        statements.add("RENAME TABLE " + quoteIdentifier(baseTable.table().name())
+            + " TO " + quoteIdentifier(targetTable.table().name()) + ";");
+      }
+    }
+    return statements;
+  }
+
+  private List<String> alterTableStatements(MigrationContext migration) {
+    List<String> statements = new ArrayList<>();
+    for (TableSnapshot targetTable : migration.targetTables()) {
+      TableSnapshot baseTable = migration.baseTableOf(targetTable);
+      if (baseTable == null) {
+        continue;
+      }
+      String alterTable = "ALTER TABLE " + quoteIdentifier(targetTable.table().name());
+      String targetOptions = tableOptions(targetTable.table());
+      if (!tableOptions(baseTable.table()).equals(targetOptions)) {
+        statements.add(alterTable + targetOptions + ";");
+      }
+      statements.addAll(columnStatements(alterTable, baseTable, targetTable, migration));
+
+      Optional<String> targetPrimaryKey = primaryKeyClause(targetTable, migration.target());
+      if (targetPrimaryKey.isPresent()
+          && !targetPrimaryKey.equals(primaryKeyClause(baseTable, migration.base()))) {
+        statements.add(alterTable + " ADD " + targetPrimaryKey.get().strip() + ";");
+      }
+      for (ConstraintSnapshot constraint : constraintsOf(targetTable, ConstraintKind.CHECK)) {
+        ConstraintSnapshot baseConstraint = migration.baseConstraintOf(constraint);
+        if (baseConstraint == null || !sameCheck(baseConstraint, migration)) {
+          statements.add(alterTable + " ADD " + checkClause(constraint).strip() + ";");
+        }
+      }
+    }
+    return statements;
+  }
+
+  private List<String> columnStatements(String alterTable,
+      TableSnapshot baseTable,
+      TableSnapshot targetTable,
+      MigrationContext migration) {
+    List<String> statements = new ArrayList<>();
+    for (Column column : sortColumns(baseTable.columns())) {
+      if (migration.targetIdOf(column.id()) == null) {
+        statements.add(alterTable + " DROP COLUMN " + quoteIdentifier(column.name()) + ";");
+      }
+    }
+
+    ColumnRules baseRules = ColumnRules.from(baseTable, migration.base());
+    ColumnRules targetRules = ColumnRules.from(targetTable, migration.target());
+    String position = " FIRST";
+    for (Column column : sortColumns(targetTable.columns())) {
+      String definition = generateColumnDefinition(column, targetRules, migration.target()).strip();
+      Column baseColumn = migration.baseColumnOf(column);
+      if (baseColumn == null) {
+        statements.add(alterTable + " ADD COLUMN " + definition + position + ";");
+      } else {
+        boolean moved = migration.movedColumnIds().contains(column.id());
+        String baseDefinition = generateColumnDefinition(baseColumn, baseRules, migration.base()).strip();
+        if (moved || !baseDefinition.equals(definition)) {
+          statements.add(alterTable + " CHANGE COLUMN " + quoteIdentifier(baseColumn.name())
+              + " " + definition + (moved ? position : "") + ";");
+        }
+      }
+      position = " AFTER " + quoteIdentifier(column.name());
+    }
+    return statements;
+  }
+
+  private List<String> addKeyStatements(MigrationContext migration) {
+    List<String> statements = new ArrayList<>();
+    for (TableSnapshot targetTable : migration.targetTables()) {
+      for (ConstraintSnapshot constraint : constraintsOf(targetTable, ConstraintKind.UNIQUE)) {
+        ConstraintSnapshot baseConstraint = migration.baseConstraintOf(constraint);
+        TableSnapshot baseTable = migration.baseTableOf(targetTable);
+        if (baseConstraint == null || baseTable == null
+            || !sameUniqueKey(baseTable, baseConstraint, migration)) {
+          statements.add(uniqueKeyStatement(targetTable, constraint, migration.target()));
+        }
+      }
+      for (IndexSnapshot index : targetTable.indexes()) {
+        IndexSnapshot baseIndex = migration.baseIndexOf(requireIndex(index));
+        TableSnapshot baseTable = migration.baseTableOf(targetTable);
+        if (baseIndex == null || baseTable == null || !sameIndex(baseTable, baseIndex, migration)) {
+          statements.add(indexStatement(targetTable, index, migration.target()));
+        }
+      }
+    }
+    return statements;
+  }
+
+  private List<String> addForeignKeyStatements(MigrationContext migration) {
+    List<String> statements = new ArrayList<>();
+    for (TableSnapshot targetTable : migration.targetTables()) {
+      Table table = targetTable.table();
+      targetTable.relationships().stream()
+          .map(MySqlDdlGenerator::requireRelationship)
+          .filter(relationship -> table.id().equals(relationship.relationship().fkTableId()))
+          .filter(relationship -> {
+            RelationshipSnapshot baseRelationship = migration.baseRelationshipOf(relationship);
+            return baseRelationship == null || !sameForeignKey(baseRelationship, migration);
+          })
+          .sorted(comparingNullableStrings(
+              relationship -> relationship.relationship().name(),
+              relationship -> relationship.relationship().id()))
+          .forEach(relationship -> statements.add(foreignKeyStatement(table, relationship, migration.target())));
+    }
+    return statements;
+  }
+
+  // Table names are left out of the comparison so a rename alone keeps the table's keys in place.
+  private boolean sameForeignKey(RelationshipSnapshot baseRelationship, MigrationContext migration) {
+    RelationshipSnapshot targetRelationship = migration.targetRelationshipOf(baseRelationship);
+    if (targetRelationship == null) {
+      return false;
+    }
+    Table baseTable = migration.base().tableById().get(baseRelationship.relationship().fkTableId());
+    Table targetTable = migration.target().tableById().get(targetRelationship.relationship().fkTableId());
+    if (baseTable == null || targetTable == null
+        || !targetTable.id().equals(migration.targetIdOf(baseTable.id()))) {
+      return false;
+    }
+    return withoutTable(foreignKeyStatement(baseTable, baseRelationship, migration.base()), baseTable)
+        .equals(withoutTable(foreignKeyStatement(targetTable, targetRelationship, migration.target()),
+            targetTable));
+  }
+
+  private boolean sameUniqueKey(TableSnapshot baseTable, ConstraintSnapshot baseConstraint,
+      MigrationContext migration) {
+    ConstraintSnapshot targetConstraint = migration.targetConstraintOf(baseConstraint);
+    TableSnapshot targetTable = migration.targetTableOf(baseTable);
+    if (targetConstraint == null || targetTable == null
+        || targetConstraint.constraint().kind() != ConstraintKind.UNIQUE) {
+      return false;
+    }
+    return withoutTable(uniqueKeyStatement(baseTable, baseConstraint, migration.base()), baseTable.table())
+        .equals(withoutTable(uniqueKeyStatement(targetTable, targetConstraint, migration.target()),
+            targetTable.table()));
+  }
+
+  private boolean sameIndex(TableSnapshot baseTable, IndexSnapshot baseIndex, MigrationContext migration) {
+    IndexSnapshot targetIndex = migration.targetIndexOf(baseIndex);
+    TableSnapshot targetTable = migration.targetTableOf(baseTable);
+    if (targetIndex == null || targetTable == null) {
+      return false;
+    }
+    return withoutTable(indexStatement(baseTable, baseIndex, migration.base()), baseTable.table())
+        .equals(withoutTable(indexStatement(targetTable, targetIndex, migration.target()),
+            targetTable.table()));
+  }
+
+  private boolean sameCheck(ConstraintSnapshot baseConstraint, MigrationContext migration) {
+    ConstraintSnapshot targetConstraint = migration.targetConstraintOf(baseConstraint);
+    return targetConstraint != null
+        && targetConstraint.constraint().kind() == ConstraintKind.CHECK
+        && checkClause(baseConstraint).equals(checkClause(targetConstraint));
+  }
+
+  private static String withoutTable(String statement, Table table) {
+    return statement.substring(("ALTER TABLE " + quoteIdentifier(table.name())).length());
+  }
+
   private static void validateColumnDefinition(
       Column column,
       ColumnRules columnRules) {
@@ -1151,4 +1423,116 @@ public class MySqlDdlGenerator implements DdlGenerator {
 
   }
 
+  private record MigrationContext(
+      List<TableSnapshot> baseTables,
+      List<TableSnapshot> targetTables,
+      DdlContext base,
+      DdlContext target,
+      ElementIndex baseElements,
+      ElementIndex targetElements,
+      Map<String, String> baseIdsByTargetId,
+      Map<String, String> targetIdsByBaseId,
+      Set<String> movedColumnIds) {
+
+    private static MigrationContext from(
+        List<TableSnapshot> baseTables,
+        List<TableSnapshot> targetTables,
+        SchemaDiff diff,
+        DatatypePolicy datatypePolicy) {
+      Map<String, String> targetIdsByBaseId = new HashMap<>();
+      diff.baseIdsByTargetId().forEach((targetId, baseId) -> targetIdsByBaseId.put(baseId, targetId));
+      Set<String> movedColumnIds = diff.changes().stream()
+          .filter(change -> change.elementType() == SchemaElementType.COLUMN)
+          .filter(change -> change.hasChanged(StructuralSnapshotDiffer.POSITION))
+          .map(SchemaChange::targetId)
+          .collect(Collectors.toUnmodifiableSet());
+      return new MigrationContext(
+          baseTables,
+          targetTables,
+          DdlContext.from(baseTables, datatypePolicy),
+          DdlContext.from(targetTables, datatypePolicy),
+          ElementIndex.from(baseTables),
+          ElementIndex.from(targetTables),
+          diff.baseIdsByTargetId(),
+          Map.copyOf(targetIdsByBaseId),
+          movedColumnIds);
+    }
+
+    private List<TableSnapshot> addedTables() {
+      return targetTables.stream()
+          .filter(table -> baseTableOf(table) == null)
+          .toList();
+    }
+
+    private String baseIdOf(String targetId) {
+      return targetId == null ? null : baseIdsByTargetId.get(targetId);
+    }
+
+    private String targetIdOf(String baseId) {
+      return baseId == null ? null : targetIdsByBaseId.get(baseId);
+    }
+
+    private TableSnapshot baseTableOf(TableSnapshot targetTable) {
+      return lookup(base.tableSnapshotById(), baseIdOf(targetTable.table().id()));
+    }
+
+    private TableSnapshot targetTableOf(TableSnapshot baseTable) {
+      return lookup(target.tableSnapshotById(), targetIdOf(baseTable.table().id()));
+    }
+
+    private Column baseColumnOf(Column targetColumn) {
+      return lookup(base.columnById(), baseIdOf(targetColumn.id()));
+    }
+
+    private ConstraintSnapshot baseConstraintOf(ConstraintSnapshot targetConstraint) {
+      return lookup(baseElements.constraints(), baseIdOf(targetConstraint.constraint().id()));
+    }
+
+    private ConstraintSnapshot targetConstraintOf(ConstraintSnapshot baseConstraint) {
+      return lookup(targetElements.constraints(), targetIdOf(baseConstraint.constraint().id()));
+    }
+
+    private IndexSnapshot baseIndexOf(IndexSnapshot targetIndex) {
+      return lookup(baseElements.indexes(), baseIdOf(targetIndex.index().id()));
+    }
+
+    private IndexSnapshot targetIndexOf(IndexSnapshot baseIndex) {
+      return lookup(targetElements.indexes(), targetIdOf(baseIndex.index().id()));
+    }
+
+    private RelationshipSnapshot baseRelationshipOf(RelationshipSnapshot targetRelationship) {
+      return lookup(baseElements.relationships(), baseIdOf(targetRelationship.relationship().id()));
+    }
+
+    private RelationshipSnapshot targetRelationshipOf(RelationshipSnapshot baseRelationship) {
+      return lookup(targetElements.relationships(), targetIdOf(baseRelationship.relationship().id()));
+    }
+
+    private static <T> T lookup(Map<String, T> values, String id) {
+      return id == null ? null : values.get(id);
+    }
+
+  }
+
+  private record ElementIndex(
+      Map<String, ConstraintSnapshot> constraints,
+      Map<String, IndexSnapshot> indexes,
+      Map<String, RelationshipSnapshot> relationships) {
+
+    private static ElementIndex from(List<TableSnapshot> tables) {
+      Map<String, ConstraintSnapshot> constraints = new HashMap<>();
+      Map<String, IndexSnapshot> indexes = new HashMap<>();
+      Map<String, RelationshipSnapshot> relationships = new HashMap<>();
+      for (TableSnapshot table : tables) {
+        table.constraints().forEach(constraint -> constraints.put(
+            requireConstraint(constraint).id(), constraint));
+        table.indexes().forEach(index -> indexes.put(requireIndex(index).index().id(), index));
+        table.relationships().forEach(relationship -> relationships.putIfAbsent(
+            requireRelationship(relationship).relationship().id(), relationship));
+      }
+      return new ElementIndex(constraints, indexes, relationships);
+    }
+
+  }
+
 }
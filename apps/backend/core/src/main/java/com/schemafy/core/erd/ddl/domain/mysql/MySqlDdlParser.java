@@ -0,0 +1,1335 @@
+package com.schemafy.core.erd.ddl.domain.mysql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.column.domain.ColumnTypeArguments;
+import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
+import com.schemafy.core.erd.ddl.domain.DdlExportVendor;
+import com.schemafy.core.erd.ddl.domain.DdlImportContext;
+import com.schemafy.core.erd.ddl.domain.DdlParser;
+import com.schemafy.core.erd.ddl.domain.ParsedDdl;
+import com.schemafy.core.erd.ddl.domain.exception.DdlErrorCode;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Column;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Constraint;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.ConstraintColumn;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.ConstraintSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Index;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.IndexColumn;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.IndexSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Relationship;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.RelationshipColumn;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.RelationshipSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Table;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.TableSnapshot;
+import com.schemafy.core.erd.index.domain.type.IndexType;
+import com.schemafy.core.erd.index.domain.type.SortDirection;
+import com.schemafy.core.erd.relationship.domain.type.Cardinality;
+import com.schemafy.core.erd.relationship.domain.type.RelationshipKind;
+import com.schemafy.core.erd.vendor.domain.IdentifierCapabilities;
+import com.schemafy.core.erd.vendor.domain.datatype.DatatypeDefinition;
+import com.schemafy.core.erd.vendor.domain.datatype.DatatypeParameter;
+import com.schemafy.core.erd.vendor.domain.datatype.DatatypeParameterName;
+import com.schemafy.core.erd.vendor.domain.datatype.DatatypePolicy;
+
+/**
+ * Reads the subset of MySQL DDL that {@link MySqlDdlGenerator} emits, plus the
+ * usual mysqldump/phpMyAdmin noise around it, back into export snapshots.
+ */
+@Component
+public class MySqlDdlParser implements DdlParser {
+
+  // Session and data statements that commonly surround a dump and carry no schema structure.
+  private static final Set<String> IGNORED_STATEMENTS = Set.of(
+      "SET", "USE", "DROP", "LOCK", "UNLOCK", "START", "BEGIN", "COMMIT",
+      "ROLLBACK");
+
+  private static final Set<String> DATA_STATEMENTS = Set.of(
+      "INSERT", "REPLACE", "UPDATE", "DELETE");
+
+  private static final Set<String> TABLE_CONSTRAINT_KEYWORDS = Set.of(
+      "CONSTRAINT", "PRIMARY", "UNIQUE", "FOREIGN", "CHECK", "KEY", "INDEX",
+      "FULLTEXT", "SPATIAL");
+
+  @Override
+  public DdlExportVendor exportVendor() {
+    return DdlExportVendor.MYSQL;
+  }
+
+  @Override
+  public ParsedDdl parse(String ddl, DdlImportContext context) {
+    if (ddl == null || ddl.isBlank()) {
+      throw invalid("DDL script must not be blank");
+    }
+    if (context == null || context.datatypePolicy() == null
+        || context.identifierCapabilities() == null
+        || context.idGenerator() == null) {
+      throw invalid("DDL import context must not be null");
+    }
+
+    ImportState state = new ImportState(context);
+    for (Cursor statement : Tokenizer.statements(ddl)) {
+      parseStatement(statement, state);
+    }
+    if (state.tables.isEmpty()) {
+      throw invalid("DDL script does not contain any CREATE TABLE statement");
+    }
+    return new Assembler(state).assemble();
+  }
+
+  private void parseStatement(Cursor cursor, ImportState state) {
+    if (cursor.acceptWord("CREATE")) {
+      parseCreate(cursor, state);
+    } else if (cursor.acceptWord("ALTER")) {
+      cursor.expectWord("TABLE");
+      parseAlterTable(cursor, state);
+    } else {
+      String keyword = cursor.peekKeyword();
+      if (DATA_STATEMENTS.contains(keyword)) {
+        state.warn("Data manipulation statements were skipped");
+        return;
+      }
+      if (!IGNORED_STATEMENTS.contains(keyword)) {
+        throw invalid("Unsupported DDL statement near '%s'".formatted(cursor.preview()));
+      }
+      return;
+    }
+    cursor.expectEnd();
+  }
+
+  private void parseCreate(Cursor cursor, ImportState state) {
+    if (cursor.acceptWord("TABLE")) {
+      parseCreateTable(cursor, state);
+      return;
+    }
+    if (cursor.peekWord("DATABASE") || cursor.peekWord("SCHEMA")) {
+      cursor.skipRest();
+      return;
+    }
+    if (cursor.peekWord("TEMPORARY")) {
+      throw invalid("Temporary tables cannot be imported");
+    }
+    if (cursor.peekWord("UNIQUE") || cursor.peekWord("FULLTEXT")
+        || cursor.peekWord("SPATIAL") || cursor.peekWord("INDEX")) {
+      parseCreateIndex(cursor, state);
+      return;
+    }
+    throw invalid("Unsupported DDL statement near 'CREATE %s'".formatted(cursor.preview()));
+  }
+
+  private void parseCreateTable(Cursor cursor, ImportState state) {
+    boolean ifNotExists = cursor.acceptWords("IF", "NOT", "EXISTS");
+    String name = cursor.qualifiedIdentifier("Table name");
+    if (state.tables.containsKey(key(name))) {
+      if (!ifNotExists) {
+        throw invalid("Table '%s' is declared more than once".formatted(name));
+      }
+      state.warn("Repeated CREATE TABLE IF NOT EXISTS statements were skipped");
+      cursor.skipRest();
+      return;
+    }
+    if (!cursor.peekSymbol('(')) {
+      throw invalid("CREATE TABLE '%s' must declare its columns".formatted(name));
+    }
+
+    TableDraft table = new TableDraft(state.nextId(), name);
+    state.tables.put(key(name), table);
+
+    cursor.expectSymbol('(');
+    do {
+      parseTableElement(cursor, table, state);
+    } while (cursor.acceptSymbol(','));
+    cursor.expectSymbol(')');
+    parseTableOptions(cursor, table, state);
+  }
+
+  private void parseTableElement(Cursor cursor, TableDraft table,
+      ImportState state) {
+    if (TABLE_CONSTRAINT_KEYWORDS.contains(cursor.peekKeyword())) {
+      parseTableConstraint(cursor, table, state);
+    } else {
+      table.addColumn(parseColumnDefinition(cursor, table, state));
+    }
+  }
+
+  private void parseTableConstraint(Cursor cursor, TableDraft table,
+      ImportState state) {
+    String constraintName = null;
+    if (cursor.acceptWord("CONSTRAINT")) {
+      if (!cursor.peekWord("PRIMARY") && !cursor.peekWord("UNIQUE")
+          && !cursor.peekWord("FOREIGN") && !cursor.peekWord("CHECK")) {
+        constraintName = cursor.identifier("Constraint name");
+      }
+    }
+
+    if (cursor.acceptWords("PRIMARY", "KEY")) {
+      skipIndexType(cursor, state);
+      table.setPrimaryKey(keyPartNames(cursor, state));
+      skipIndexOptions(cursor, state);
+    } else if (cursor.acceptWord("UNIQUE")) {
+      if (!cursor.acceptWord("KEY")) {
+        cursor.acceptWord("INDEX");
+      }
+      String name = optionalIndexName(cursor);
+      skipIndexType(cursor, state);
+      List<String> columns = keyPartNames(cursor, state);
+      skipIndexOptions(cursor, state);
+      table.uniqueKeys.add(new KeyDraft(name != null ? name : constraintName, columns));
+    } else if (cursor.acceptWords("FOREIGN", "KEY")) {
+      String name = optionalIndexName(cursor);
+      List<String> columns = columnNames(cursor);
+      table.foreignKeys.add(parseReferences(cursor,
+          constraintName != null ? constraintName : name, columns));
+    } else if (cursor.acceptWord("CHECK")) {
+      table.checks.add(new CheckDraft(constraintName, parseCheckExpression(cursor)));
+    } else if (constraintName != null) {
+      throw invalid("Unsupported constraint definition near '%s'".formatted(cursor.preview()));
+    } else if (cursor.acceptWord("KEY") || cursor.acceptWord("INDEX")) {
+      parseIndex(cursor, table, IndexType.BTREE, state);
+    } else if (cursor.acceptWord("FULLTEXT") || cursor.acceptWord("SPATIAL")) {
+      IndexType type = IndexType.valueOf(cursor.previous().text().toUpperCase(Locale.ROOT));
+      if (!cursor.acceptWord("KEY")) {
+        cursor.acceptWord("INDEX");
+      }
+      parseIndex(cursor, table, type, state);
+    } else {
+      throw invalid("Unsupported table definition near '%s'".formatted(cursor.preview()));
+    }
+  }
+
+  private void parseIndex(Cursor cursor, TableDraft table, IndexType type,
+      ImportState state) {
+    String name = optionalIndexName(cursor);
+    if (skipIndexType(cursor, state) && type != IndexType.BTREE) {
+      throw invalid("USING is only allowed for BTREE indexes");
+    }
+    List<KeyPart> parts = keyParts(cursor, state);
+    skipIndexOptions(cursor, state);
+    table.indexes.add(new IndexDraft(name, type, parts));
+  }
+
+  private ColumnDraft parseColumnDefinition(Cursor cursor, TableDraft table,
+      ImportState state) {
+    ColumnDraft column = new ColumnDraft(state.nextId(), cursor.identifier("Column name"));
+    parseDataType(cursor, column, state);
+
+    while (!cursor.atEnd() && !cursor.peekSymbol(',') && !cursor.peekSymbol(')')) {
+      if (cursor.acceptWords("NOT", "NULL")) {
+        column.notNull = true;
+      } else if (cursor.acceptWord("NULL")) {
+        column.notNull = false;
+      } else if (cursor.acceptWord("DEFAULT")) {
+        column.defaultExpr = parseValueExpression(cursor);
+      } else if (cursor.acceptWord("AUTO_INCREMENT")) {
+        column.autoIncrement = true;
+      } else if (cursor.acceptWords("PRIMARY", "KEY") || cursor.acceptWord("KEY")) {
+        table.setPrimaryKey(List.of(column.name));
+      } else if (cursor.acceptWord("UNIQUE")) {
+        cursor.acceptWord("KEY");
+        table.uniqueKeys.add(new KeyDraft(null, List.of(column.name)));
+      } else if (cursor.acceptWord("COMMENT")) {
+        column.comment = cursor.string("Column comment");
+      } else if (cursor.acceptWords("CHARACTER", "SET") || cursor.acceptWord("CHARSET")) {
+        column.charset = cursor.identifier("Column charset");
+      } else if (cursor.acceptWord("COLLATE")) {
+        column.collation = cursor.identifier("Column collation");
+      } else if (cursor.acceptWords("ON", "UPDATE")) {
+        parseValueExpression(cursor);
+        state.warn("ON UPDATE column clauses were ignored");
+      } else if (cursor.acceptWord("CONSTRAINT")) {
+        String name = cursor.peekWord("CHECK") ? null : cursor.identifier("Constraint name");
+        cursor.expectWord("CHECK");
+        table.checks.add(new CheckDraft(name, parseCheckExpression(cursor)));
+      } else if (cursor.acceptWord("CHECK")) {
+        table.checks.add(new CheckDraft(null, parseCheckExpression(cursor)));
+      } else if (cursor.acceptWord("REFERENCES")) {
+        // MySQL parses and then discards inline REFERENCES, so the import does too.
+        cursor.qualifiedIdentifier("Referenced table");
+        columnNames(cursor);
+        parseReferentialActions(cursor);
+        state.warn("Inline column REFERENCES clauses were ignored, as MySQL does");
+      } else if (cursor.peekWord("GENERATED") || cursor.peekWord("AS")) {
+        throw invalid("Generated column '%s' cannot be imported".formatted(column.name));
+      } else if (cursor.acceptWord("VISIBLE") || cursor.acceptWord("INVISIBLE")) {
+        state.warn("Column visibility attributes were ignored");
+      } else if (cursor.acceptWord("COLUMN_FORMAT") || cursor.acceptWord("STORAGE")
+          || cursor.acceptWord("SRID")) {
+        cursor.next();
+      } else {
+        throw invalid("Unexpected column attribute near '%s'".formatted(cursor.preview()));
+      }
+    }
+    return column;
+  }
+
+  private void parseDataType(Cursor cursor, ColumnDraft column,
+      ImportState state) {
+    DatatypePolicy policy = state.context.datatypePolicy();
+    Token typeToken = cursor.next();
+    if (typeToken.type() != TokenType.WORD) {
+      throw invalid("Data type is required for column '%s'".formatted(column.name));
+    }
+    String typeName = typeToken.text().toUpperCase(Locale.ROOT);
+    if (cursor.peek().type() == TokenType.WORD) {
+      String compound = typeName + " " + cursor.peek().text().toUpperCase(Locale.ROOT);
+      if (policy.find(compound).isPresent()) {
+        cursor.next();
+        typeName = compound;
+      }
+    }
+    String resolvedTypeName = typeName;
+    DatatypeDefinition datatype = policy.find(typeName)
+        .orElseThrow(() -> invalid("Unsupported data type '%s' for column '%s'"
+            .formatted(resolvedTypeName, column.name)));
+
+    List<Token> arguments = cursor.peekSymbol('(') ? typeArguments(cursor) : List.of();
+    column.dataType = datatype.sqlType();
+    column.typeArguments = toTypeArguments(datatype, arguments, column, state);
+
+    while (cursor.acceptWord("UNSIGNED") || cursor.acceptWord("SIGNED")
+        || cursor.acceptWord("ZEROFILL") || cursor.acceptWord("BINARY")) {
+      if (!"SIGNED".equalsIgnoreCase(cursor.previous().text())) {
+        state.warn("UNSIGNED, ZEROFILL and BINARY type modifiers were dropped");
+      }
+    }
+  }
+
+  private static List<Token> typeArguments(Cursor cursor) {
+    List<Token> arguments = new ArrayList<>();
+    cursor.expectSymbol('(');
+    do {
+      Token argument = cursor.next();
+      if (argument.type() != TokenType.NUMBER && argument.type() != TokenType.STRING) {
+        throw invalid("Invalid data type argument near '%s'".formatted(argument.text()));
+      }
+      arguments.add(argument);
+    } while (cursor.acceptSymbol(','));
+    cursor.expectSymbol(')');
+    return arguments;
+  }
+
+  private static ColumnTypeArguments toTypeArguments(
+      DatatypeDefinition datatype,
+      List<Token> arguments,
+      ColumnDraft column,
+      ImportState state) {
+    if (arguments.isEmpty()) {
+      return null;
+    }
+    List<DatatypeParameter> parameters = datatype.parameters().stream()
+        .sorted(Comparator.comparingInt(DatatypeParameter::order))
+        .toList();
+
+    if (parameters.stream().anyMatch(parameter -> parameter.name() == DatatypeParameterName.VALUES)) {
+      List<String> values = new ArrayList<>(arguments.size());
+      for (Token argument : arguments) {
+        if (argument.type() != TokenType.STRING) {
+          throw invalid("%s values of column '%s' must be string literals"
+              .formatted(datatype.sqlType(), column.name));
+        }
+        values.add(argument.text());
+      }
+      return ColumnTypeArguments.from(null, null, null, values);
+    }
+
+    if (parameters.isEmpty()) {
+      state.warn("Type arguments without a matching datatype parameter, such as integer display widths, were dropped");
+      return null;
+    }
+    if (arguments.size() > parameters.size()) {
+      throw invalid("Too many arguments for %s column '%s'".formatted(datatype.sqlType(), column.name));
+    }
+
+    Integer length = null;
+    Integer precision = null;
+    Integer scale = null;
+    for (int i = 0; i < arguments.size(); i++) {
+      Integer value = integerArgument(arguments.get(i), column);
+      switch (parameters.get(i).name()) {
+      case LENGTH -> length = value;
+      case PRECISION -> precision = value;
+      case SCALE -> scale = value;
+      case VALUES -> throw new IllegalStateException("VALUES parameter is handled above");
+      }
+    }
+    return ColumnTypeArguments.from(length, precision, scale);
+  }
+
+  private static Integer integerArgument(Token argument, ColumnDraft column) {
+    try {
+      return Integer.valueOf(argument.text());
+    } catch (NumberFormatException e) {
+      throw invalid("Invalid numeric data type argument '%s' for column '%s'"
+          .formatted(argument.text(), column.name));
+    }
+  }
+
+  private void parseTableOptions(Cursor cursor, TableDraft table,
+      ImportState state) {
+    while (!cursor.atEnd()) {
+      cursor.acceptSymbol(',');
+      cursor.acceptWord("DEFAULT");
+      if (cursor.acceptWords("CHARACTER", "SET") || cursor.acceptWord("CHARSET")) {
+        cursor.acceptSymbol('=');
+        table.charset = cursor.identifier("Table charset");
+      } else if (cursor.acceptWord("COLLATE")) {
+        cursor.acceptSymbol('=');
+        table.collation = cursor.identifier("Table collation");
+      } else if (cursor.acceptWord("COMMENT")) {
+        cursor.acceptSymbol('=');
+        cursor.string("Table comment");
+        state.warn("Table comments were ignored");
+      } else if (cursor.peekWord("PARTITION")) {
+        state.warn("Partitioning clauses were ignored");
+        cursor.skipRest();
+      } else if (cursor.peekWord("AS") || cursor.peekWord("SELECT")
+          || cursor.peekWord("LIKE") || cursor.peekWord("IGNORE")
+          || cursor.peekWord("REPLACE")) {
+        throw invalid("CREATE TABLE '%s' must declare its columns".formatted(table.name));
+      } else {
+        skipTableOption(cursor);
+      }
+    }
+  }
+
+  private static void skipTableOption(Cursor cursor) {
+    Token option = cursor.next();
+    if (option.type() != TokenType.WORD) {
+      throw invalid("Unexpected table option near '%s'".formatted(option.text()));
+    }
+    if (cursor.peek().type() == TokenType.WORD && cursor.peekSymbol(1, '=')) {
+      cursor.next();
+    }
+    cursor.acceptSymbol('=');
+    if (cursor.peekSymbol('(')) {
+      cursor.skipParenthesized();
+    } else {
+      cursor.next();
+    }
+  }
+
+  private void parseAlterTable(Cursor cursor, ImportState state) {
+    String name = cursor.qualifiedIdentifier("Table name");
+    TableDraft table = state.requireTable(name);
+    do {
+      if (cursor.acceptWord("ADD")) {
+        if (cursor.acceptWord("COLUMN")) {
+          table.addColumn(parseColumnDefinition(cursor, table, state));
+        } else {
+          parseTableElement(cursor, table, state);
+        }
+      } else if (cursor.acceptWord("MODIFY")) {
+        cursor.acceptWord("COLUMN");
+        ColumnDraft column = parseColumnDefinition(cursor, table, state);
+        table.replaceColumn(column.name, column);
+      } else if (cursor.acceptWord("CHANGE")) {
+        cursor.acceptWord("COLUMN");
+        String oldName = cursor.identifier("Column name");
+        table.replaceColumn(oldName, parseColumnDefinition(cursor, table, state));
+      } else if (cursor.peekWord("AUTO_INCREMENT") || cursor.peekWord("ENGINE")
+          || cursor.peekWord("ROW_FORMAT")) {
+        skipTableOption(cursor);
+      } else {
+        throw invalid("Unsupported ALTER TABLE clause near '%s'".formatted(cursor.preview()));
+      }
+    } while (cursor.acceptSymbol(','));
+  }
+
+  private void parseCreateIndex(Cursor cursor, ImportState state) {
+    boolean unique = cursor.acceptWord("UNIQUE");
+    IndexType type = IndexType.BTREE;
+    if (!unique && (cursor.acceptWord("FULLTEXT") || cursor.acceptWord("SPATIAL"))) {
+      type = IndexType.valueOf(cursor.previous().text().toUpperCase(Locale.ROOT));
+    }
+    cursor.expectWord("INDEX");
+    String name = cursor.identifier("Index name");
+    boolean usingClause = skipIndexType(cursor, state);
+    cursor.expectWord("ON");
+    TableDraft table = state.requireTable(cursor.qualifiedIdentifier("Table name"));
+    if (unique) {
+      table.uniqueKeys.add(new KeyDraft(name, keyPartNames(cursor, state)));
+      skipIndexOptions(cursor, state);
+      return;
+    }
+    if (usingClause && type != IndexType.BTREE) {
+      throw invalid("USING is only allowed for BTREE indexes");
+    }
+    List<KeyPart> parts = keyParts(cursor, state);
+    skipIndexOptions(cursor, state);
+    table.indexes.add(new IndexDraft(name, type, parts));
+  }
+
+  private ForeignKeyDraft parseReferences(Cursor cursor, String name,
+      List<String> columns) {
+    cursor.expectWord("REFERENCES");
+    String referencedTable = cursor.qualifiedIdentifier("Referenced table");
+    List<String> referencedColumns = columnNames(cursor);
+    if (columns.size() != referencedColumns.size()) {
+      throw invalid("Foreign key '%s' must reference as many columns as it declares"
+          .formatted(name == null ? referencedTable : name));
+    }
+    String[] actions = parseReferentialActions(cursor);
+    return new ForeignKeyDraft(name, columns, referencedTable, referencedColumns,
+        actions[0], actions[1]);
+  }
+
+  private static String[] parseReferentialActions(Cursor cursor) {
+    String[] actions = new String[2];
+    while (true) {
+      if (cursor.acceptWord("MATCH")) {
+        cursor.next();
+      } else if (cursor.acceptWords("ON", "DELETE")) {
+        actions[0] = referentialAction(cursor);
+      } else if (cursor.acceptWords("ON", "UPDATE")) {
+        actions[1] = referentialAction(cursor);
+      } else {
+        return actions;
+      }
+    }
+  }
+
+  private static String referentialAction(Cursor cursor) {
+    String action;
+    if (cursor.acceptWords("SET", "NULL")) {
+      action = "SET NULL";
+    } else if (cursor.acceptWords("SET", "DEFAULT")) {
+      action = "SET DEFAULT";
+    } else if (cursor.acceptWords("NO", "ACTION")) {
+      action = "NO ACTION";
+    } else {
+      action = cursor.next().text().toUpperCase(Locale.ROOT);
+    }
+    if (!MySqlDdlGenerator.VALID_REFERENTIAL_ACTIONS.contains(action)) {
+      throw invalid("Unsupported referential action: " + action);
+    }
+    return action;
+  }
+
+  private static String parseCheckExpression(Cursor cursor) {
+    String expression = cursor.parenthesizedText();
+    if (cursor.acceptWords("NOT", "ENFORCED")) {
+      throw invalid("NOT ENFORCED check constraints cannot be imported");
+    }
+    cursor.acceptWord("ENFORCED");
+    return expression;
+  }
+
+  // Returns the raw source of a DEFAULT/ON UPDATE value, or null for DEFAULT NULL.
+  private static String parseValueExpression(Cursor cursor) {
+    Token first = cursor.peek();
+    if (first.type() == TokenType.WORD && "NULL".equalsIgnoreCase(first.text())) {
+      cursor.next();
+      return null;
+    }
+    if (first.type() == TokenType.SYMBOL && first.text().equals("(")) {
+      Token last = cursor.skipParenthesized();
+      return cursor.source(first, last);
+    }
+    Token last = cursor.next();
+    if (last.type() == TokenType.SYMBOL && (last.text().equals("-") || last.text().equals("+"))) {
+      last = cursor.next();
+    } else if (last.type() == TokenType.WORD) {
+      Token next = cursor.peek();
+      if (next.type() == TokenType.STRING && next.start() == last.end()) {
+        // Literal prefixes such as b'1', x'ff' and _utf8mb4'text'.
+        last = cursor.next();
+      } else if (cursor.peekSymbol('(')) {
+        last = cursor.skipParenthesized();
+      }
+    } else if (last.type() == TokenType.SYMBOL) {
+      throw invalid("Invalid default value near '%s'".formatted(last.text()));
+    }
+    return cursor.source(first, last);
+  }
+
+  private static String optionalIndexName(Cursor cursor) {
+    if (cursor.peekSymbol('(') || cursor.peekWord("USING")) {
+      return null;
+    }
+    return cursor.identifier("Index name");
+  }
+
+  // InnoDB builds BTREE for every key, so USING BTREE/HASH carries no information to import.
+  private static boolean skipIndexType(Cursor cursor, ImportState state) {
+    if (!cursor.acceptWord("USING")) {
+      return false;
+    }
+    if (cursor.acceptWord("HASH")) {
+      state.warn("USING HASH was imported as BTREE, as InnoDB does");
+    } else {
+      cursor.expectWord("BTREE");
+    }
+    return true;
+  }
+
+  private static void skipIndexOptions(Cursor cursor, ImportState state) {
+    while (!cursor.atEnd() && !cursor.peekSymbol(',') && !cursor.peekSymbol(')')) {
+      if (skipIndexType(cursor, state)) {
+        continue;
+      }
+      if (cursor.acceptWord("COMMENT")) {
+        cursor.string("Index comment");
+        state.warn("Index comments were ignored");
+      } else if (cursor.acceptWord("VISIBLE") || cursor.acceptWord("INVISIBLE")) {
+        state.warn("Index visibility attributes were ignored");
+      } else if (cursor.acceptWord("KEY_BLOCK_SIZE")) {
+        cursor.acceptSymbol('=');
+        cursor.next();
+      } else if (cursor.acceptWords("WITH", "PARSER")) {
+        cursor.next();
+      } else {
+        throw invalid("Unexpected index option near '%s'".formatted(cursor.preview()));
+      }
+    }
+  }
+
+  private static List<String> keyPartNames(Cursor cursor, ImportState state) {
+    return keyParts(cursor, state).stream()
+        .map(KeyPart::columnName)
+        .toList();
+  }
+
+  private static List<KeyPart> keyParts(Cursor cursor, ImportState state) {
+    List<KeyPart> parts = new ArrayList<>();
+    cursor.expectSymbol('(');
+    do {
+      if (cursor.peekSymbol('(')) {
+        throw invalid("Functional key parts cannot be imported");
+      }
+      String columnName = cursor.identifier("Key column name");
+      if (cursor.acceptSymbol('(')) {
+        cursor.next();
+        cursor.expectSymbol(')');
+        state.warn("Index prefix lengths were dropped");
+      }
+      SortDirection direction = SortDirection.ASC;
+      if (cursor.acceptWord("DESC")) {
+        direction = SortDirection.DESC;
+      } else {
+        cursor.acceptWord("ASC");
+      }
+      parts.add(new KeyPart(columnName, direction));
+    } while (cursor.acceptSymbol(','));
+    cursor.expectSymbol(')');
+    return parts;
+  }
+
+  private static List<String> columnNames(Cursor cursor) {
+    List<String> names = new ArrayList<>();
+    cursor.expectSymbol('(');
+    do {
+      names.add(cursor.identifier("Column name"));
+    } while (cursor.acceptSymbol(','));
+    cursor.expectSymbol(')');
+    return names;
+  }
+
+  private static String key(String identifier) {
+    return identifier.toLowerCase(Locale.ROOT);
+  }
+
+  private static DomainException invalid(String message) {
+    return new DomainException(DdlErrorCode.INVALID_VALUE, message);
+  }
+
+  private static final class Assembler {
+
+    private final ImportState state;
+    private final DdlImportContext context;
+    private final NameScope constraintNames;
+
+    private Assembler(ImportState state) {
+      this.state = state;
+      this.context = state.context;
+      this.constraintNames = new NameScope(context.identifierCapabilities());
+    }
+
+    private ParsedDdl assemble() {
+      List<TableSnapshot> tables = new ArrayList<>(state.tables.size());
+      for (TableDraft table : state.tables.values()) {
+        tables.add(assembleTable(table));
+      }
+      return new ParsedDdl(tables, List.copyOf(state.warnings));
+    }
+
+    private TableSnapshot assembleTable(TableDraft draft) {
+      Table table = new Table(
+          draft.id,
+          context.schemaId(),
+          draft.name,
+          draft.charset != null ? draft.charset : context.defaultCharset(),
+          draft.collation != null ? draft.collation : context.defaultCollation());
+
+      List<Column> columns = new ArrayList<>(draft.columns.size());
+      int seqNo = 0;
+      for (ColumnDraft column : draft.columns.values()) {
+        columns.add(new Column(
+            column.id,
+            draft.id,
+            column.name,
+            column.dataType,
+            column.typeArguments,
+            seqNo++,
+            column.autoIncrement,
+            column.charset,
+            column.collation,
+            column.comment));
+      }
+
+      return new TableSnapshot(
+          table,
+          columns,
+          assembleConstraints(draft),
+          assembleRelationships(draft),
+          assembleIndexes(draft));
+    }
+
+    private List<ConstraintSnapshot> assembleConstraints(TableDraft table) {
+      List<ConstraintSnapshot> constraints = new ArrayList<>();
+      List<String> primaryKey = table.primaryKey == null
+          ? List.of()
+          : table.columnIds(table.primaryKey);
+      if (!primaryKey.isEmpty()) {
+        constraints.add(constraint(table, null, ConstraintKind.PRIMARY_KEY,
+            null, null, primaryKey));
+      }
+
+      for (ColumnDraft column : table.columns.values()) {
+        if (column.notNull && !primaryKey.contains(column.id)) {
+          constraints.add(constraint(table, null, ConstraintKind.NOT_NULL,
+              null, null, List.of(column.id)));
+        }
+      }
+      for (ColumnDraft column : table.columns.values()) {
+        if (column.defaultExpr != null) {
+          constraints.add(constraint(table, null, ConstraintKind.DEFAULT,
+              null, column.defaultExpr, List.of(column.id)));
+        }
+      }
+
+      Set<List<String>> uniqueDefinitions = new HashSet<>();
+      for (KeyDraft uniqueKey : table.uniqueKeys) {
+        List<String> columnIds = table.columnIds(uniqueKey.columnNames());
+        if (columnIds.equals(primaryKey) || !uniqueDefinitions.add(columnIds)) {
+          state.warn("Unique keys that repeat the primary key or another unique key were skipped");
+          continue;
+        }
+        constraints.add(constraint(table, uniqueKey.name(), ConstraintKind.UNIQUE,
+            null, null, columnIds));
+      }
+
+      for (CheckDraft check : table.checks) {
+        constraints.add(constraint(table, check.name(), ConstraintKind.CHECK,
+            check.expression(), null, List.of()));
+      }
+      return constraints;
+    }
+
+    private ConstraintSnapshot constraint(
+        TableDraft table,
+        String name,
+        ConstraintKind kind,
+        String checkExpr,
+        String defaultExpr,
+        List<String> columnIds) {
+      String constraintId = context.idGenerator().get();
+      String resolvedName = constraintNames.claim(
+          name != null ? name : constraintPrefix(kind) + table.name,
+          name != null, state);
+      List<ConstraintColumn> columns = new ArrayList<>(columnIds.size());
+      for (int i = 0; i < columnIds.size(); i++) {
+        columns.add(new ConstraintColumn(
+            context.idGenerator().get(),
+            constraintId,
+            columnIds.get(i),
+            i));
+      }
+      return new ConstraintSnapshot(
+          new Constraint(constraintId, table.id, resolvedName, kind, checkExpr, defaultExpr),
+          columns);
+    }
+
+    private List<IndexSnapshot> assembleIndexes(TableDraft table) {
+      NameScope indexNames = new NameScope(context.identifierCapabilities());
+      Set<String> definitions = new HashSet<>();
+      List<IndexSnapshot> indexes = new ArrayList<>(table.indexes.size());
+      for (IndexDraft draft : table.indexes) {
+        List<String> columnIds = table.columnIds(draft.parts().stream()
+            .map(KeyPart::columnName)
+            .toList());
+        String definition = draft.type() + ":" + columnIds + ":" + draft.parts().stream()
+            .map(KeyPart::direction)
+            .toList();
+        if (!definitions.add(definition)) {
+          state.warn("Indexes that repeat another index on the same columns were skipped");
+          continue;
+        }
+
+        String indexId = context.idGenerator().get();
+        String name = indexNames.claim(
+            draft.name() != null ? draft.name() : "idx_" + table.name,
+            draft.name() != null, state);
+        List<IndexColumn> columns = new ArrayList<>(columnIds.size());
+        for (int i = 0; i < columnIds.size(); i++) {
+          columns.add(new IndexColumn(
+              context.idGenerator().get(),
+              indexId,
+              columnIds.get(i),
+              i,
+              draft.parts().get(i).direction()));
+        }
+        indexes.add(new IndexSnapshot(new Index(indexId, table.id, name, draft.type()), columns));
+      }
+      return indexes;
+    }
+
+    private List<RelationshipSnapshot> assembleRelationships(TableDraft table) {
+      NameScope relationshipNames = new NameScope(context.identifierCapabilities());
+      List<RelationshipSnapshot> relationships = new ArrayList<>(table.foreignKeys.size());
+      Set<String> primaryKey = table.primaryKey == null
+          ? Set.of()
+          : new HashSet<>(table.columnIds(table.primaryKey));
+
+      for (ForeignKeyDraft foreignKey : table.foreignKeys) {
+        TableDraft pkTable = state.tables.get(key(foreignKey.referencedTable()));
+        if (pkTable == null) {
+          throw new DomainException(DdlErrorCode.TABLE_NOT_FOUND,
+              "Referenced table '%s' not found".formatted(foreignKey.referencedTable()));
+        }
+        List<String> fkColumnIds = table.columnIds(foreignKey.columnNames());
+        List<String> pkColumnIds = pkTable.columnIds(foreignKey.referencedColumnNames());
+
+        String relationshipId = context.idGenerator().get();
+        String name = relationshipNames.claim(
+            foreignKey.name() != null
+                ? foreignKey.name()
+                : "rel_" + table.name + "_to_" + pkTable.name,
+            foreignKey.name() != null, state);
+        List<RelationshipColumn> columns = new ArrayList<>(fkColumnIds.size());
+        for (int i = 0; i < fkColumnIds.size(); i++) {
+          columns.add(new RelationshipColumn(
+              context.idGenerator().get(),
+              relationshipId,
+              pkColumnIds.get(i),
+              fkColumnIds.get(i),
+              i));
+        }
+
+        RelationshipKind kind = primaryKey.containsAll(fkColumnIds)
+            ? RelationshipKind.IDENTIFYING
+            : RelationshipKind.NON_IDENTIFYING;
+        relationships.add(new RelationshipSnapshot(
+            new Relationship(
+                relationshipId,
+                pkTable.id,
+                table.id,
+                name,
+                kind,
+                cardinality(table, fkColumnIds),
+                foreignKey.onDelete(),
+                foreignKey.onUpdate()),
+            columns));
+      }
+      return relationships;
+    }
+
+    private static Cardinality cardinality(TableDraft table, List<String> fkColumnIds) {
+      Set<String> fkColumns = new HashSet<>(fkColumnIds);
+      if (table.primaryKey != null && fkColumns.equals(new HashSet<>(table.columnIds(table.primaryKey)))) {
+        return Cardinality.ONE_TO_ONE;
+      }
+      for (KeyDraft uniqueKey : table.uniqueKeys) {
+        if (fkColumns.equals(new HashSet<>(table.columnIds(uniqueKey.columnNames())))) {
+          return Cardinality.ONE_TO_ONE;
+        }
+      }
+      return Cardinality.ONE_TO_MANY;
+    }
+
+    private static String constraintPrefix(ConstraintKind kind) {
+      return switch (kind) {
+      case PRIMARY_KEY -> "pk_";
+      case UNIQUE -> "uq_";
+      case CHECK -> "ck_";
+      case DEFAULT -> "df_";
+      case NOT_NULL -> "nn_";
+      };
+    }
+
+  }
+
+  private static final class NameScope {
+
+    private final IdentifierCapabilities identifierCapabilities;
+    private final Set<String> names = new HashSet<>();
+
+    private NameScope(IdentifierCapabilities identifierCapabilities) {
+      this.identifierCapabilities = identifierCapabilities;
+    }
+
+    private String claim(String baseName, boolean explicit, ImportState state) {
+      for (int suffix = 0;; suffix++) {
+        String candidate = suffix == 0 && explicit
+            ? baseName
+            : identifierCapabilities.fitGeneratedName(baseName, suffix == 0 ? "" : "_" + suffix);
+        if (names.add(key(candidate))) {
+          if (suffix > 0 && explicit) {
+            state.warn("Duplicate constraint, index or foreign key names were given numeric suffixes");
+          }
+          return candidate;
+        }
+      }
+    }
+
+  }
+
+  private static final class ImportState {
+
+    private final DdlImportContext context;
+    private final Map<String, TableDraft> tables = new LinkedHashMap<>();
+    private final Set<String> warnings = new LinkedHashSet<>();
+
+    private ImportState(DdlImportContext context) {
+      this.context = context;
+    }
+
+    private String nextId() {
+      return context.idGenerator().get();
+    }
+
+    private void warn(String warning) {
+      warnings.add(warning);
+    }
+
+    private TableDraft requireTable(String name) {
+      TableDraft table = tables.get(key(name));
+      if (table == null) {
+        throw new DomainException(DdlErrorCode.TABLE_NOT_FOUND,
+            "Table '%s' must be created before it is altered".formatted(name));
+      }
+      return table;
+    }
+
+  }
+
+  private static final class TableDraft {
+
+    private final String id;
+    private final String name;
+    private final Map<String, ColumnDraft> columns = new LinkedHashMap<>();
+    private final List<KeyDraft> uniqueKeys = new ArrayList<>();
+    private final List<IndexDraft> indexes = new ArrayList<>();
+    private final List<CheckDraft> checks = new ArrayList<>();
+    private final List<ForeignKeyDraft> foreignKeys = new ArrayList<>();
+    private List<String> primaryKey;
+    private String charset;
+    private String collation;
+
+    private TableDraft(String id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    private void addColumn(ColumnDraft column) {
+      if (columns.putIfAbsent(key(column.name), column) != null) {
+        throw invalid("Column '%s' is declared more than once in table '%s'"
+            .formatted(column.name, name));
+      }
+    }
+
+    private void replaceColumn(String oldName, ColumnDraft column) {
+      ColumnDraft existing = columns.get(key(oldName));
+      if (existing == null) {
+        throw new DomainException(DdlErrorCode.COLUMN_NOT_FOUND,
+            "Column '%s' not found in table '%s'".formatted(oldName, name));
+      }
+      column.id = existing.id;
+      Map<String, ColumnDraft> replaced = new LinkedHashMap<>();
+      for (Map.Entry<String, ColumnDraft> entry : columns.entrySet()) {
+        if (entry.getValue() == existing) {
+          replaced.put(key(column.name), column);
+        } else if (replaced.putIfAbsent(entry.getKey(), entry.getValue()) != null) {
+          throw invalid("Column '%s' is declared more than once in table '%s'"
+              .formatted(column.name, name));
+        }
+      }
+      columns.clear();
+      columns.putAll(replaced);
+    }
+
+    private void setPrimaryKey(List<String> columnNames) {
+      if (primaryKey != null) {
+        throw invalid("Table '%s' declares more than one primary key".formatted(name));
+      }
+      primaryKey = List.copyOf(columnNames);
+    }
+
+    private List<String> columnIds(List<String> columnNames) {
+      List<String> ids = new ArrayList<>(columnNames.size());
+      for (String columnName : columnNames) {
+        ColumnDraft column = columns.get(key(columnName));
+        if (column == null) {
+          throw new DomainException(DdlErrorCode.COLUMN_NOT_FOUND,
+              "Column '%s' not found in table '%s'".formatted(columnName, name));
+        }
+        ids.add(column.id);
+      }
+      return ids;
+    }
+
+  }
+
+  private static final class ColumnDraft {
+
+    private String id;
+    private final String name;
+    private String dataType;
+    private ColumnTypeArguments typeArguments;
+    private boolean notNull;
+    private String defaultExpr;
+    private boolean autoIncrement;
+    private String charset;
+    private String collation;
+    private String comment;
+
+    private ColumnDraft(String id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+  }
+
+  private record KeyPart(String columnName, SortDirection direction) {
+  }
+
+  private record KeyDraft(String name, List<String> columnNames) {
+  }
+
+  private record IndexDraft(String name, IndexType type, List<KeyPart> parts) {
+  }
+
+  private record CheckDraft(String name, String expression) {
+  }
+
+  private record ForeignKeyDraft(
+      String name,
+      List<String> columnNames,
+      String referencedTable,
+      List<String> referencedColumnNames,
+      String onDelete,
+      String onUpdate) {
+  }
+
+  private enum TokenType {
+    WORD, QUOTED_IDENTIFIER, STRING, NUMBER, SYMBOL, END
+  }
+
+  private record Token(TokenType type, String text, int start, int end) {
+  }
+
+  private static final class Tokenizer {
+
+    private final String source;
+    private int position;
+
+    private Tokenizer(String source) {
+      this.source = source;
+    }
+
+    private static List<Cursor> statements(String source) {
+      Tokenizer tokenizer = new Tokenizer(source);
+      List<Cursor> statements = new ArrayList<>();
+      List<Token> current = new ArrayList<>();
+      for (Token token = tokenizer.next(); token.type() != TokenType.END; token = tokenizer.next()) {
+        if (token.type() == TokenType.SYMBOL && token.text().equals(";")) {
+          if (!current.isEmpty()) {
+            statements.add(new Cursor(source, current));
+            current = new ArrayList<>();
+          }
+        } else {
+          current.add(token);
+        }
+      }
+      if (!current.isEmpty()) {
+        statements.add(new Cursor(source, current));
+      }
+      return statements;
+    }
+
+    private Token next() {
+      skipWhitespaceAndComments();
+      if (position >= source.length()) {
+        return new Token(TokenType.END, "", position, position);
+      }
+      int start = position;
+      char c = source.charAt(position);
+      if (c == '`') {
+        return new Token(TokenType.QUOTED_IDENTIFIER, quoted('`'), start, position);
+      }
+      if (c == '\'' || c == '"') {
+        return new Token(TokenType.STRING, quoted(c), start, position);
+      }
+      if (Character.isDigit(c)) {
+        while (position < source.length()
+            && (Character.isDigit(source.charAt(position)) || source.charAt(position) == '.')) {
+          position++;
+        }
+        return new Token(TokenType.NUMBER, source.substring(start, position), start, position);
+      }
+      if (isWordCharacter(c)) {
+        while (position < source.length() && isWordCharacter(source.charAt(position))) {
+          position++;
+        }
+        return new Token(TokenType.WORD, source.substring(start, position), start, position);
+      }
+      position++;
+      return new Token(TokenType.SYMBOL, String.valueOf(c), start, position);
+    }
+
+    private void skipWhitespaceAndComments() {
+      while (position < source.length()) {
+        char c = source.charAt(position);
+        if (Character.isWhitespace(c)) {
+          position++;
+        } else if (c == '#' || source.startsWith("--", position)) {
+          int newline = source.indexOf('\n', position);
+          position = newline < 0 ? source.length() : newline + 1;
+        } else if (source.startsWith("/*", position)) {
+          // Version comments (/*!40101 ... */) only hold session settings in dumps, so they are skipped too.
+          int close = source.indexOf("*/", position + 2);
+          if (close < 0) {
+            throw invalid("Unterminated comment in DDL script");
+          }
+          position = close + 2;
+        } else {
+          return;
+        }
+      }
+    }
+
+    private String quoted(char quote) {
+      StringBuilder value = new StringBuilder();
+      position++;
+      while (position < source.length()) {
+        char c = source.charAt(position++);
+        if (c == quote) {
+          if (position < source.length() && source.charAt(position) == quote) {
+            value.append(quote);
+            position++;
+            continue;
+          }
+          return value.toString();
+        }
+        if (c == '\\' && quote != '`' && position < source.length()) {
+          value.append(unescape(source.charAt(position++)));
+          continue;
+        }
+        value.append(c);
+      }
+      throw invalid("Unterminated quoted value in DDL script");
+    }
+
+    private static char unescape(char c) {
+      return switch (c) {
+      case '0' -> '\0';
+      case 'b' -> '\b';
+      case 'n' -> '\n';
+      case 'r' -> '\r';
+      case 't' -> '\t';
+      case 'Z' -> (char) 26;
+      default -> c;
+      };
+    }
+
+    private static boolean isWordCharacter(char c) {
+      return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+  }
+
+  private static final class Cursor {
+
+    private final String source;
+    private final List<Token> tokens;
+    private final Token end;
+    private int position;
+
+    private Cursor(String source, List<Token> tokens) {
+      this.source = source;
+      this.tokens = tokens;
+      int endOffset = tokens.getLast().end();
+      this.end = new Token(TokenType.END, "", endOffset, endOffset);
+    }
+
+    private boolean atEnd() {
+      return position >= tokens.size();
+    }
+
+    private Token peek() {
+      return peek(0);
+    }
+
+    private Token peek(int offset) {
+      int index = position + offset;
+      return index < tokens.size() ? tokens.get(index) : end;
+    }
+
+    private Token previous() {
+      return tokens.get(position - 1);
+    }
+
+    private Token next() {
+      if (atEnd()) {
+        throw invalid("Unexpected end of DDL statement");
+      }
+      return tokens.get(position++);
+    }
+
+    private String peekKeyword() {
+      Token token = peek();
+      return token.type() == TokenType.WORD ? token.text().toUpperCase(Locale.ROOT) : "";
+    }
+
+    private boolean peekWord(String word) {
+      return peekWord(0, word);
+    }
+
+    private boolean peekWord(int offset, String word) {
+      Token token = peek(offset);
+      return token.type() == TokenType.WORD && token.text().equalsIgnoreCase(word);
+    }
+
+    private boolean acceptWord(String word) {
+      if (!peekWord(word)) {
+        return false;
+      }
+      position++;
+      return true;
+    }
+
+    private boolean acceptWords(String... words) {
+      for (int i = 0; i < words.length; i++) {
+        if (!peekWord(i, words[i])) {
+          return false;
+        }
+      }
+      position += words.length;
+      return true;
+    }
+
+    private void expectWord(String word) {
+      if (!acceptWord(word)) {
+        throw invalid("Expected %s near '%s'".formatted(word, preview()));
+      }
+    }
+
+    private boolean peekSymbol(char symbol) {
+      return peekSymbol(0, symbol);
+    }
+
+    private boolean peekSymbol(int offset, char symbol) {
+      Token token = peek(offset);
+      return token.type() == TokenType.SYMBOL && token.text().charAt(0) == symbol;
+    }
+
+    private boolean acceptSymbol(char symbol) {
+      if (!peekSymbol(symbol)) {
+        return false;
+      }
+      position++;
+      return true;
+    }
+
+    private void expectSymbol(char symbol) {
+      if (!acceptSymbol(symbol)) {
+        throw invalid("Expected '%s' near '%s'".formatted(symbol, preview()));
+      }
+    }
+
+    private void expectEnd() {
+      if (!atEnd()) {
+        throw invalid("Unexpected token near '%s'".formatted(preview()));
+      }
+    }
+
+    private void skipRest() {
+      position = tokens.size();
+    }
+
+    private String identifier(String subject) {
+      Token token = peek();
+      if (token.type() != TokenType.WORD && token.type() != TokenType.QUOTED_IDENTIFIER) {
+        throw invalid("%s is required near '%s'".formatted(subject, preview()));
+      }
+      position++;
+      return token.text();
+    }
+
+    // Database qualifiers are dropped because the import always targets the new schema.
+    private String qualifiedIdentifier(String subject) {
+      String identifier = identifier(subject);
+      while (acceptSymbol('.')) {
+        identifier = identifier(subject);
+      }
+      return identifier;
+    }
+
+    private String string(String subject) {
+      Token token = next();
+      if (token.type() != TokenType.STRING) {
+        throw invalid("%s must be a string literal".formatted(subject));
+      }
+      return token.text();
+    }
+
+    private Token skipParenthesized() {
+      expectSymbol('(');
+      int depth = 1;
+      while (true) {
+        Token token = next();
+        if (token.type() == TokenType.SYMBOL) {
+          if (token.text().equals("(")) {
+            depth++;
+          } else if (token.text().equals(")") && --depth == 0) {
+            return token;
+          }
+        }
+      }
+    }
+
+    private String parenthesizedText() {
+      Token open = peek();
+      Token close = skipParenthesized();
+      String text = source.substring(open.end(), close.start()).strip();
+      if (text.isEmpty()) {
+        throw invalid("Expression must not be empty");
+      }
+      return text;
+    }
+
+    private String source(Token first, Token last) {
+      return source.substring(first.start(), last.end());
+    }
+
+    private String preview() {
+      if (atEnd()) {
+        return "<end of statement>";
+      }
+      Token token = peek();
+      int stop = Math.min(source.length(), token.start() + 40);
+      return source.substring(token.start(), stop).replaceAll("\\s+", " ");
+    }
+
+  }
+
+}
@@ -0,0 +1,52 @@
+package com.schemafy.core.erd.diff.adapter.out.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schemafy.core.erd.diff.application.port.in.SchemaDiffResult;
+import com.schemafy.core.erd.diff.application.port.out.SchemaDiffCachePort;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class CaffeineSchemaDiffCacheAdapter implements SchemaDiffCachePort {
+
+  // Revisions only move forward, so a diff keyed by both revisions never goes stale.
+  private final Cache<DiffKey, SchemaDiffResult> cache;
+
+  public CaffeineSchemaDiffCacheAdapter(
+      @Value("${erd.diff.cache.ttl:30m}") Duration ttl,
+      @Value("${erd.diff.cache.maximum-chars:20000000}") long maximumChars) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maximumChars)
+        .<DiffKey, SchemaDiffResult>weigher((key, result) -> result.migrationDdl().length()
+            + result.changes().size() * 64)
+        .expireAfterAccess(ttl)
+        .build();
+  }
+
+  @Override
+  public Mono<SchemaDiffResult> get(String baseSchemaId, long baseRevision, String schemaId, long revision) {
+    return Mono.fromSupplier(() -> cache.getIfPresent(
+        new DiffKey(baseSchemaId, baseRevision, schemaId, revision)));
+  }
+
+  @Override
+  public Mono<Void> put(SchemaDiffResult result) {
+    return Mono.fromRunnable(() -> cache.put(
+        new DiffKey(result.baseSchemaId(), result.baseRevision(), result.schemaId(), result.currentRevision()),
+        result));
+  }
+
+  private record DiffKey(
+      String baseSchemaId,
+      long baseRevision,
+      String schemaId,
+      long revision) {
+  }
+
+}
@@ -0,0 +1,32 @@
+package com.schemafy.core.erd.diff.application.port.in;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+
+/** A side without a revision is compared at its current revision. */
+public record GetSchemaDiffQuery(
+    String baseSchemaId,
+    Long baseRevision,
+    String schemaId,
+    Long revision) {
+
+  public GetSchemaDiffQuery {
+    if (baseSchemaId == null || baseSchemaId.isBlank()) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE, "baseSchemaId must not be blank");
+    }
+    if (schemaId == null || schemaId.isBlank()) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE, "schemaId must not be blank");
+    }
+    if (baseRevision != null && baseRevision < 0) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE, "baseRevision must not be negative");
+    }
+    if (revision != null && revision < 0) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE, "revision must not be negative");
+    }
+  }
+
+  public GetSchemaDiffQuery(String baseSchemaId, String schemaId) {
+    this(baseSchemaId, null, schemaId, null);
+  }
+
+}
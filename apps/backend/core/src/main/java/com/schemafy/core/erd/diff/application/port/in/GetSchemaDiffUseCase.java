@@ -0,0 +1,9 @@
+package com.schemafy.core.erd.diff.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface GetSchemaDiffUseCase {
+
+  Mono<SchemaDiffResult> getSchemaDiff(GetSchemaDiffQuery query);
+
+}
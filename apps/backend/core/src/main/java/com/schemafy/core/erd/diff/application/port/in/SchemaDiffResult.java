@@ -0,0 +1,19 @@
+package com.schemafy.core.erd.diff.application.port.in;
+
+import java.util.List;
+
+import com.schemafy.core.erd.diff.domain.SchemaChange;
+
+public record SchemaDiffResult(
+    String baseSchemaId,
+    long baseRevision,
+    String schemaId,
+    long currentRevision,
+    List<SchemaChange> changes,
+    String migrationDdl) {
+
+  public SchemaDiffResult {
+    changes = List.copyOf(changes == null ? List.of() : changes);
+  }
+
+}
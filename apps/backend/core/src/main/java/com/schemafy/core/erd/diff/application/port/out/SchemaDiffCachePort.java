@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.diff.application.port.out;
+
+import com.schemafy.core.erd.diff.application.port.in.SchemaDiffResult;
+
+import reactor.core.publisher.Mono;
+
+public interface SchemaDiffCachePort {
+
+  Mono<SchemaDiffResult> get(String baseSchemaId, long baseRevision, String schemaId, long revision);
+
+  Mono<Void> put(SchemaDiffResult result);
+
+}
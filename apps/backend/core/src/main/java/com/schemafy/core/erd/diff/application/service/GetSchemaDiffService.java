@@ -0,0 +1,230 @@
+package com.schemafy.core.erd.diff.application.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.column.application.port.out.GetColumnsBySchemaIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintColumnsBySchemaIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintsBySchemaIdPort;
+import com.schemafy.core.erd.ddl.domain.DdlExportVendor;
+import com.schemafy.core.erd.ddl.domain.DdlGenerator;
+import com.schemafy.core.erd.ddl.domain.exception.DdlErrorCode;
+import com.schemafy.core.erd.diff.application.port.in.GetSchemaDiffQuery;
+import com.schemafy.core.erd.diff.application.port.in.GetSchemaDiffUseCase;
+import com.schemafy.core.erd.diff.application.port.in.SchemaDiffResult;
+import com.schemafy.core.erd.diff.application.port.out.SchemaDiffCachePort;
+import com.schemafy.core.erd.diff.domain.SchemaDiff;
+import com.schemafy.core.erd.diff.domain.StructuralSnapshotDiffer;
+import com.schemafy.core.erd.index.application.port.out.GetIndexColumnsBySchemaIdPort;
+import com.schemafy.core.erd.index.application.port.out.GetIndexesBySchemaIdPort;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionQuery;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionUseCase;
+import com.schemafy.core.erd.operation.application.port.in.SchemaAtRevisionResult;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipColumnsBySchemaIdPort;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipsBySchemaIdPort;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemaByIdPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.table.application.port.out.GetTablesBySchemaIdPort;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorQuery;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorUseCase;
+import com.schemafy.core.erd.vendor.domain.DbVendor;
+import com.schemafy.core.project.application.access.AccessTarget;
+import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.domain.ProjectRole;
+
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.project.application.access.ProjectAccessResourceType.SCHEMA;
+
+/**
+ * Compares two schemas, or two revisions of one schema. A side without a
+ * revision is read live, and a side with one is rebuilt through
+ * {@link GetSchemaAtRevisionUseCase}. Revisions and structures are read in
+ * one read-only transaction, so a live side matches the revision it is
+ * cached under.
+ */
+@Service
+@RequireProjectAccess(role = ProjectRole.VIEWER, targets = {
+  @AccessTarget(value = SCHEMA, id = "baseSchemaId"),
+  @AccessTarget(value = SCHEMA, id = "schemaId")
+})
+class GetSchemaDiffService implements GetSchemaDiffUseCase {
+
+  private final GetSchemaByIdPort getSchemaByIdPort;
+  private final FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+  private final GetProjectDbVendorUseCase getProjectDbVendorUseCase;
+  private final GetTablesBySchemaIdPort getTablesBySchemaIdPort;
+  private final GetColumnsBySchemaIdPort getColumnsBySchemaIdPort;
+  private final GetIndexesBySchemaIdPort getIndexesBySchemaIdPort;
+  private final GetIndexColumnsBySchemaIdPort getIndexColumnsBySchemaIdPort;
+  private final GetConstraintsBySchemaIdPort getConstraintsBySchemaIdPort;
+  private final GetConstraintColumnsBySchemaIdPort getConstraintColumnsBySchemaIdPort;
+  private final GetRelationshipsBySchemaIdPort getRelationshipsBySchemaIdPort;
+  private final GetRelationshipColumnsBySchemaIdPort getRelationshipColumnsBySchemaIdPort;
+  private final List<DdlGenerator> ddlGenerators;
+  private final StructuralExportSnapshotMapper structuralExportSnapshotMapper;
+  private final SchemaDiffCachePort schemaDiffCachePort;
+  private final GetSchemaAtRevisionUseCase getSchemaAtRevisionUseCase;
+  private final TransactionalOperator transactionalOperator;
+
+  GetSchemaDiffService(
+      GetSchemaByIdPort getSchemaByIdPort,
+      FindSchemaCollaborationStatePort findSchemaCollaborationStatePort,
+      GetProjectDbVendorUseCase getProjectDbVendorUseCase,
+      GetTablesBySchemaIdPort getTablesBySchemaIdPort,
+      GetColumnsBySchemaIdPort getColumnsBySchemaIdPort,
+      GetIndexesBySchemaIdPort getIndexesBySchemaIdPort,
+      GetIndexColumnsBySchemaIdPort getIndexColumnsBySchemaIdPort,
+      GetConstraintsBySchemaIdPort getConstraintsBySchemaIdPort,
+      GetConstraintColumnsBySchemaIdPort getConstraintColumnsBySchemaIdPort,
+      GetRelationshipsBySchemaIdPort getRelationshipsBySchemaIdPort,
+      GetRelationshipColumnsBySchemaIdPort getRelationshipColumnsBySchemaIdPort,
+      List<DdlGenerator> ddlGenerators,
+      StructuralExportSnapshotMapper structuralExportSnapshotMapper,
+      SchemaDiffCachePort schemaDiffCachePort,
+      GetSchemaAtRevisionUseCase getSchemaAtRevisionUseCase,
+      ReactiveTransactionManager transactionManager) {
+    this.getSchemaByIdPort = getSchemaByIdPort;
+    this.findSchemaCollaborationStatePort = findSchemaCollaborationStatePort;
+    this.getProjectDbVendorUseCase = getProjectDbVendorUseCase;
+    this.getTablesBySchemaIdPort = getTablesBySchemaIdPort;
+    this.getColumnsBySchemaIdPort = getColumnsBySchemaIdPort;
+    this.getIndexesBySchemaIdPort = getIndexesBySchemaIdPort;
+    this.getIndexColumnsBySchemaIdPort = getIndexColumnsBySchemaIdPort;
+    this.getConstraintsBySchemaIdPort = getConstraintsBySchemaIdPort;
+    this.getConstraintColumnsBySchemaIdPort = getConstraintColumnsBySchemaIdPort;
+    this.getRelationshipsBySchemaIdPort = getRelationshipsBySchemaIdPort;
+    this.getRelationshipColumnsBySchemaIdPort = getRelationshipColumnsBySchemaIdPort;
+    this.ddlGenerators = ddlGenerators;
+    this.structuralExportSnapshotMapper = structuralExportSnapshotMapper;
+    this.schemaDiffCachePort = schemaDiffCachePort;
+    this.getSchemaAtRevisionUseCase = getSchemaAtRevisionUseCase;
+    this.transactionalOperator = createReadTransactionalOperator(
+        transactionManager);
+  }
+
+  @Override
+  public Mono<SchemaDiffResult> getSchemaDiff(GetSchemaDiffQuery query) {
+    return Mono.defer(() -> Mono.zip(
+        findRevisioned(query.baseSchemaId(), query.baseRevision()),
+        findRevisioned(query.schemaId(), query.revision()))
+        .flatMap(schemas -> {
+          RevisionedSchema base = schemas.getT1();
+          RevisionedSchema target = schemas.getT2();
+          return schemaDiffCachePort
+              .get(base.schema().id(), base.revision(), target.schema().id(), target.revision())
+              .switchIfEmpty(Mono.defer(() -> buildDiff(base, target)
+                  .flatMap(result -> schemaDiffCachePort.put(result)
+                      .thenReturn(result))));
+        }))
+        .as(transactionalOperator::transactional);
+  }
+
+  private Mono<RevisionedSchema> findRevisioned(String schemaId, Long revision) {
+    return getSchemaByIdPort.findSchemaById(schemaId)
+        .switchIfEmpty(Mono.error(
+            new DomainException(SchemaErrorCode.NOT_FOUND, "Schema not found: " + schemaId)))
+        .flatMap(schema -> revision != null
+            ? Mono.just(new RevisionedSchema(schema, revision, true))
+            : findSchemaCollaborationStatePort.findBySchemaId(schemaId)
+                .map(SchemaCollaborationState::currentRevision)
+                .defaultIfEmpty(0L)
+                .map(currentRevision -> new RevisionedSchema(schema, currentRevision, false)));
+  }
+
+  private Mono<SchemaDiffResult> buildDiff(RevisionedSchema base, RevisionedSchema target) {
+    return Mono.zip(
+        loadSnapshot(base),
+        loadSnapshot(target),
+        getProjectDbVendor(base.schema()),
+        getProjectDbVendor(target.schema()))
+        .map(parts -> {
+          DbVendor vendor = parts.getT3();
+          if (!vendor.name().equalsIgnoreCase(parts.getT4().name())) {
+            throw new DomainException(DdlErrorCode.UNSUPPORTED_VENDOR,
+                "Cannot compare schemas of different DB vendors: %s and %s"
+                    .formatted(vendor.name(), parts.getT4().name()));
+          }
+          DdlGenerator generator = resolveGenerator(DdlExportVendor.of(vendor.name()));
+          SchemaDiff diff = StructuralSnapshotDiffer.diff(parts.getT1(), parts.getT2());
+          String migrationDdl = generator.generateMigration(
+              structuralExportSnapshotMapper.toExportSnapshot(base.schema(), vendor.name(), parts.getT1()),
+              structuralExportSnapshotMapper.toExportSnapshot(target.schema(), vendor.name(), parts.getT2()),
+              diff,
+              vendor.datatypeMappings());
+          return new SchemaDiffResult(
+              base.schema().id(),
+              base.revision(),
+              target.schema().id(),
+              target.revision(),
+              diff.changes(),
+              migrationDdl);
+        });
+  }
+
+  private Mono<StructuralSnapshot> loadSnapshot(RevisionedSchema side) {
+    if (!side.historical()) {
+      return loadSnapshot(side.schema().id());
+    }
+    return getSchemaAtRevisionUseCase
+        .getSchemaAtRevision(new GetSchemaAtRevisionQuery(side.schema().id(), side.revision()))
+        .map(SchemaAtRevisionResult::structure);
+  }
+
+  private Mono<StructuralSnapshot> loadSnapshot(String schemaId) {
+    return Mono.zip(
+        getTablesBySchemaIdPort.findTablesBySchemaId(schemaId).collectList(),
+        getColumnsBySchemaIdPort.findColumnsBySchemaId(schemaId),
+        getIndexesBySchemaIdPort.findIndexesBySchemaId(schemaId),
+        getIndexColumnsBySchemaIdPort.findIndexColumnsBySchemaId(schemaId),
+        getConstraintsBySchemaIdPort.findConstraintsBySchemaId(schemaId),
+        getConstraintColumnsBySchemaIdPort.findConstraintColumnsBySchemaId(schemaId),
+        getRelationshipsBySchemaIdPort.findRelationshipsBySchemaId(schemaId),
+        getRelationshipColumnsBySchemaIdPort.findRelationshipColumnsBySchemaId(schemaId))
+        .map(parts -> new StructuralSnapshot(
+            schemaId,
+            parts.getT1().stream().map(StructuralSnapshot.TableSnapshot::from).toList(),
+            parts.getT2().stream().map(StructuralSnapshot.ColumnSnapshot::from).toList(),
+            parts.getT5().stream().map(StructuralSnapshot.ConstraintSnapshot::from).toList(),
+            parts.getT6().stream().map(StructuralSnapshot.ConstraintColumnSnapshot::from).toList(),
+            parts.getT3().stream().map(StructuralSnapshot.IndexSnapshot::from).toList(),
+            parts.getT4().stream().map(StructuralSnapshot.IndexColumnSnapshot::from).toList(),
+            parts.getT7().stream().map(StructuralSnapshot.RelationshipSnapshot::from).toList(),
+            parts.getT8().stream().map(StructuralSnapshot.RelationshipColumnSnapshot::from).toList()));
+  }
+
+  private Mono<DbVendor> getProjectDbVendor(Schema schema) {
+    return getProjectDbVendorUseCase.getProjectDbVendor(new GetProjectDbVendorQuery(schema.projectId()));
+  }
+
+  private DdlGenerator resolveGenerator(DdlExportVendor vendor) {
+    return ddlGenerators.stream()
+        .filter(generator -> generator.exportVendor().equals(vendor))
+        .findFirst()
+        .orElseThrow(() -> new DomainException(DdlErrorCode.UNSUPPORTED_VENDOR,
+            "Unsupported migration DDL DB vendor: " + vendor.value()));
+  }
+
+  private static TransactionalOperator createReadTransactionalOperator(
+      ReactiveTransactionManager transactionManager) {
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+    definition.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    definition.setName("schemaDiffRead");
+    return TransactionalOperator.create(transactionManager, definition);
+  }
+
+  private record RevisionedSchema(Schema schema, long revision, boolean historical) {
+  }
+
+}
@@ -0,0 +1,133 @@
+package com.schemafy.core.erd.diff.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.relationship.domain.exception.RelationshipErrorCode;
+import com.schemafy.core.erd.schema.domain.Schema;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+class StructuralExportSnapshotMapper {
+
+  private final JsonCodec jsonCodec;
+
+  SchemaExportSnapshot toExportSnapshot(Schema schema, String dbVendorName, StructuralSnapshot snapshot) {
+    Map<String, List<SchemaExportSnapshot.ConstraintColumn>> constraintColumns = group(
+        snapshot.constraintColumns(),
+        StructuralSnapshot.ConstraintColumnSnapshot::constraintId,
+        column -> new SchemaExportSnapshot.ConstraintColumn(
+            column.id(), column.constraintId(), column.columnId(), column.seqNo()));
+    Map<String, List<SchemaExportSnapshot.IndexColumn>> indexColumns = group(
+        snapshot.indexColumns(),
+        StructuralSnapshot.IndexColumnSnapshot::indexId,
+        column -> new SchemaExportSnapshot.IndexColumn(
+            column.id(), column.indexId(), column.columnId(), column.seqNo(), column.sortDirection()));
+    Map<String, List<SchemaExportSnapshot.RelationshipColumn>> relationshipColumns = group(
+        snapshot.relationshipColumns(),
+        StructuralSnapshot.RelationshipColumnSnapshot::relationshipId,
+        column -> new SchemaExportSnapshot.RelationshipColumn(
+            column.id(), column.relationshipId(), column.pkColumnId(), column.fkColumnId(), column.seqNo()));
+
+    Map<String, List<SchemaExportSnapshot.Column>> columns = group(
+        snapshot.columns(),
+        StructuralSnapshot.ColumnSnapshot::tableId,
+        column -> new SchemaExportSnapshot.Column(
+            column.id(),
+            column.tableId(),
+            column.name(),
+            column.dataType(),
+            column.typeArguments(),
+            column.seqNo(),
+            column.autoIncrement(),
+            column.charset(),
+            column.collation(),
+            column.comment()));
+    Map<String, List<SchemaExportSnapshot.ConstraintSnapshot>> constraints = group(
+        snapshot.constraints(),
+        StructuralSnapshot.ConstraintSnapshot::tableId,
+        constraint -> new SchemaExportSnapshot.ConstraintSnapshot(
+            new SchemaExportSnapshot.Constraint(
+                constraint.id(),
+                constraint.tableId(),
+                constraint.name(),
+                constraint.kind(),
+                constraint.checkExpr(),
+                constraint.defaultExpr()),
+            constraintColumns.get(constraint.id())));
+    Map<String, List<SchemaExportSnapshot.IndexSnapshot>> indexes = group(
+        snapshot.indexes(),
+        StructuralSnapshot.IndexSnapshot::tableId,
+        index -> new SchemaExportSnapshot.IndexSnapshot(
+            new SchemaExportSnapshot.Index(index.id(), index.tableId(), index.name(), index.type()),
+            indexColumns.get(index.id())));
+    Map<String, List<SchemaExportSnapshot.RelationshipSnapshot>> relationships = group(
+        snapshot.relationships(),
+        StructuralSnapshot.RelationshipSnapshot::fkTableId,
+        relationship -> new SchemaExportSnapshot.RelationshipSnapshot(
+            toRelationship(relationship),
+            relationshipColumns.get(relationship.id())));
+
+    List<SchemaExportSnapshot.TableSnapshot> tables = new ArrayList<>();
+    for (StructuralSnapshot.TableSnapshot table : snapshot.tables()) {
+      tables.add(new SchemaExportSnapshot.TableSnapshot(
+          new SchemaExportSnapshot.Table(
+              table.id(), table.schemaId(), table.name(), table.charset(), table.collation()),
+          columns.get(table.id()),
+          constraints.get(table.id()),
+          relationships.get(table.id()),
+          indexes.get(table.id())));
+    }
+
+    return new SchemaExportSnapshot(
+        new SchemaExportSnapshot.SchemaSnapshot(
+            schema.id(), dbVendorName, schema.name(), schema.charset(), schema.collation()),
+        tables);
+  }
+
+  private SchemaExportSnapshot.Relationship toRelationship(StructuralSnapshot.RelationshipSnapshot relationship) {
+    JsonNode extra = jsonCodec.fromPersistedJson(relationship.extra(), JsonNode.class);
+    return new SchemaExportSnapshot.Relationship(
+        relationship.id(),
+        relationship.pkTableId(),
+        relationship.fkTableId(),
+        relationship.name(),
+        relationship.kind(),
+        relationship.cardinality(),
+        textExtra(extra, "onDelete"),
+        textExtra(extra, "onUpdate"));
+  }
+
+  private static String textExtra(JsonNode extra, String fieldName) {
+    if (extra == null || !extra.hasNonNull(fieldName)) {
+      return null;
+    }
+    JsonNode value = extra.get(fieldName);
+    if (!value.isTextual()) {
+      throw new DomainException(RelationshipErrorCode.INVALID_VALUE,
+          "Relationship extra '%s' must be a string".formatted(fieldName));
+    }
+    return value.asText();
+  }
+
+  private static <T, R> Map<String, List<R>> group(List<T> items, Function<T, String> key, Function<T, R> mapper) {
+    Map<String, List<R>> grouped = new HashMap<>();
+    for (T item : items) {
+      grouped.computeIfAbsent(key.apply(item), ignored -> new ArrayList<>()).add(mapper.apply(item));
+    }
+    return grouped;
+  }
+
+}
@@ -0,0 +1,22 @@
+package com.schemafy.core.erd.diff.domain;
+
+import java.util.List;
+
+public record SchemaChange(
+    SchemaElementType elementType,
+    SchemaChangeType changeType,
+    String baseId,
+    String targetId,
+    String tableName,
+    String name,
+    List<String> changedFields) {
+
+  public SchemaChange {
+    changedFields = List.copyOf(changedFields == null ? List.of() : changedFields);
+  }
+
+  public boolean hasChanged(String field) {
+    return changedFields.contains(field);
+  }
+
+}
@@ -0,0 +1,7 @@
+package com.schemafy.core.erd.diff.domain;
+
+public enum SchemaChangeType {
+  ADDED,
+  REMOVED,
+  MODIFIED
+}
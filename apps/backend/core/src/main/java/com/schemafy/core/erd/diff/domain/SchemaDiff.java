@@ -0,0 +1,19 @@
+package com.schemafy.core.erd.diff.domain;
+
+import java.util.List;
+import java.util.Map;
+
+public record SchemaDiff(
+    List<SchemaChange> changes,
+    Map<String, String> baseIdsByTargetId) {
+
+  public SchemaDiff {
+    changes = List.copyOf(changes == null ? List.of() : changes);
+    baseIdsByTargetId = Map.copyOf(baseIdsByTargetId == null ? Map.of() : baseIdsByTargetId);
+  }
+
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+
+}
@@ -0,0 +1,9 @@
+package com.schemafy.core.erd.diff.domain;
+
+public enum SchemaElementType {
+  TABLE,
+  COLUMN,
+  CONSTRAINT,
+  INDEX,
+  RELATIONSHIP
+}
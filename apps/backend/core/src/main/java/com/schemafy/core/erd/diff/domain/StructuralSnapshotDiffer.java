@@ -0,0 +1,363 @@
+package com.schemafy.core.erd.diff.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ConstraintColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ConstraintSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.IndexColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.IndexSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.RelationshipColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.RelationshipSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.TableSnapshot;
+
+/**
+ * Compares two structural snapshots element by element. Elements are matched by id first and then by
+ * name within their matched parent, so revisions of one schema and two unrelated schemas diff the same
+ * way. Every lookup is hash based; only column reordering costs n log n per table.
+ */
+public final class StructuralSnapshotDiffer {
+
+  public static final String POSITION = "position";
+
+  private static final Comparator<SchemaChange> CHANGE_ORDER = Comparator
+      .comparing(SchemaChange::elementType)
+      .thenComparing(change -> nullToEmpty(change.tableName()), String.CASE_INSENSITIVE_ORDER)
+      .thenComparing(change -> nullToEmpty(change.name()), String.CASE_INSENSITIVE_ORDER)
+      .thenComparing(SchemaChange::changeType);
+
+  private StructuralSnapshotDiffer() {
+  }
+
+  public static SchemaDiff diff(StructuralSnapshot base, StructuralSnapshot target) {
+    return new DiffRun(base, target).run();
+  }
+
+  private static final class DiffRun {
+
+    private final StructuralSnapshot base;
+    private final StructuralSnapshot target;
+    private final Map<String, String> baseTableNames = new HashMap<>();
+    private final Map<String, String> targetTableNames = new HashMap<>();
+    private final Map<String, String> baseIdsByTargetId = new HashMap<>();
+    private final List<SchemaChange> changes = new ArrayList<>();
+
+    private DiffRun(StructuralSnapshot base, StructuralSnapshot target) {
+      this.base = base;
+      this.target = target;
+    }
+
+    private SchemaDiff run() {
+      base.tables().forEach(table -> baseTableNames.put(table.id(), table.name()));
+      target.tables().forEach(table -> targetTableNames.put(table.id(), table.name()));
+
+      diffTables();
+      diffColumns();
+      diffConstraints();
+      diffIndexes();
+      diffRelationships();
+
+      changes.sort(CHANGE_ORDER);
+      return new SchemaDiff(changes, baseIdsByTargetId);
+    }
+
+    private void diffTables() {
+      List<Match<TableSnapshot>> matches = match(SchemaElementType.TABLE, base.tables(), target.tables(),
+          new ElementView<>(TableSnapshot::id, table -> null, TableSnapshot::name));
+      for (Match<TableSnapshot> match : matches) {
+        TableSnapshot left = match.base();
+        TableSnapshot right = match.target();
+        List<String> fields = new ArrayList<>();
+        compare(fields, "name", left.name(), right.name());
+        compare(fields, "charset", left.charset(), right.charset());
+        compare(fields, "collation", left.collation(), right.collation());
+        modified(SchemaElementType.TABLE, left.id(), right.id(), right.name(), right.name(), fields);
+      }
+    }
+
+    private void diffColumns() {
+      List<Match<ColumnSnapshot>> matches = match(SchemaElementType.COLUMN, base.columns(), target.columns(),
+          new ElementView<>(ColumnSnapshot::id, ColumnSnapshot::tableId, ColumnSnapshot::name));
+      Set<String> movedTargetIds = movedColumns(matches);
+      for (Match<ColumnSnapshot> match : matches) {
+        ColumnSnapshot left = match.base();
+        ColumnSnapshot right = match.target();
+        List<String> fields = new ArrayList<>();
+        compare(fields, "name", left.name(), right.name());
+        compare(fields, "dataType", left.dataType(), right.dataType());
+        compare(fields, "typeArguments", left.typeArguments(), right.typeArguments());
+        compare(fields, "autoIncrement", left.autoIncrement(), right.autoIncrement());
+        compare(fields, "charset", left.charset(), right.charset());
+        compare(fields, "collation", left.collation(), right.collation());
+        compare(fields, "comment", left.comment(), right.comment());
+        if (movedTargetIds.contains(right.id())) {
+          fields.add(POSITION);
+        }
+        modified(SchemaElementType.COLUMN, left.id(), right.id(),
+            targetTableNames.get(right.tableId()), right.name(), fields);
+      }
+    }
+
+    private void diffConstraints() {
+      List<Match<ConstraintSnapshot>> matches = match(
+          SchemaElementType.CONSTRAINT, base.constraints(), target.constraints(),
+          new ElementView<>(ConstraintSnapshot::id, ConstraintSnapshot::tableId, ConstraintSnapshot::name));
+      Map<String, List<String>> baseColumns = orderedChildren(base.constraintColumns(),
+          ConstraintColumnSnapshot::constraintId, ConstraintColumnSnapshot::seqNo,
+          ConstraintColumnSnapshot::columnId);
+      Map<String, List<String>> targetColumns = orderedChildren(target.constraintColumns(),
+          ConstraintColumnSnapshot::constraintId, ConstraintColumnSnapshot::seqNo,
+          column -> toBaseId(column.columnId()));
+      for (Match<ConstraintSnapshot> match : matches) {
+        ConstraintSnapshot left = match.base();
+        ConstraintSnapshot right = match.target();
+        List<String> fields = new ArrayList<>();
+        compare(fields, "name", left.name(), right.name());
+        compare(fields, "kind", left.kind(), right.kind());
+        compare(fields, "checkExpr", left.checkExpr(), right.checkExpr());
+        compare(fields, "defaultExpr", left.defaultExpr(), right.defaultExpr());
+        compare(fields, "columns", baseColumns.get(left.id()), targetColumns.get(right.id()));
+        modified(SchemaElementType.CONSTRAINT, left.id(), right.id(),
+            targetTableNames.get(right.tableId()), right.name(), fields);
+      }
+    }
+
+    private void diffIndexes() {
+      List<Match<IndexSnapshot>> matches = match(SchemaElementType.INDEX, base.indexes(), target.indexes(),
+          new ElementView<>(IndexSnapshot::id, IndexSnapshot::tableId, IndexSnapshot::name));
+      Map<String, List<String>> baseColumns = orderedChildren(base.indexColumns(),
+          IndexColumnSnapshot::indexId, IndexColumnSnapshot::seqNo,
+          column -> column.columnId() + " " + column.sortDirection());
+      Map<String, List<String>> targetColumns = orderedChildren(target.indexColumns(),
+          IndexColumnSnapshot::indexId, IndexColumnSnapshot::seqNo,
+          column -> toBaseId(column.columnId()) + " " + column.sortDirection());
+      for (Match<IndexSnapshot> match : matches) {
+        IndexSnapshot left = match.base();
+        IndexSnapshot right = match.target();
+        List<String> fields = new ArrayList<>();
+        compare(fields, "name", left.name(), right.name());
+        compare(fields, "type", left.type(), right.type());
+        compare(fields, "columns", baseColumns.get(left.id()), targetColumns.get(right.id()));
+        modified(SchemaElementType.INDEX, left.id(), right.id(),
+            targetTableNames.get(right.tableId()), right.name(), fields);
+      }
+    }
+
+    private void diffRelationships() {
+      List<Match<RelationshipSnapshot>> matches = match(
+          SchemaElementType.RELATIONSHIP, base.relationships(), target.relationships(),
+          new ElementView<>(RelationshipSnapshot::id, RelationshipSnapshot::fkTableId, RelationshipSnapshot::name));
+      Map<String, List<String>> baseColumns = orderedChildren(base.relationshipColumns(),
+          RelationshipColumnSnapshot::relationshipId, RelationshipColumnSnapshot::seqNo,
+          column -> column.fkColumnId() + ">" + column.pkColumnId());
+      Map<String, List<String>> targetColumns = orderedChildren(target.relationshipColumns(),
+          RelationshipColumnSnapshot::relationshipId, RelationshipColumnSnapshot::seqNo,
+          column -> toBaseId(column.fkColumnId()) + ">" + toBaseId(column.pkColumnId()));
+      for (Match<RelationshipSnapshot> match : matches) {
+        RelationshipSnapshot left = match.base();
+        RelationshipSnapshot right = match.target();
+        List<String> fields = new ArrayList<>();
+        compare(fields, "name", left.name(), right.name());
+        compare(fields, "pkTableId", left.pkTableId(), toBaseId(right.pkTableId()));
+        compare(fields, "kind", left.kind(), right.kind());
+        compare(fields, "cardinality", left.cardinality(), right.cardinality());
+        compare(fields, "extra", left.extra(), right.extra());
+        compare(fields, "columns", baseColumns.get(left.id()), targetColumns.get(right.id()));
+        modified(SchemaElementType.RELATIONSHIP, left.id(), right.id(),
+            targetTableNames.get(right.fkTableId()), right.name(), fields);
+      }
+    }
+
+    private <T> List<Match<T>> match(
+        SchemaElementType elementType,
+        List<T> baseItems,
+        List<T> targetItems,
+        ElementView<T> view) {
+      Map<String, T> baseById = new HashMap<>();
+      Map<String, T> baseByName = new HashMap<>();
+      for (T item : baseItems) {
+        baseById.put(view.id().apply(item), item);
+        baseByName.putIfAbsent(nameKey(view.parentId().apply(item), view.name().apply(item)), item);
+      }
+
+      Set<String> matchedBaseIds = new HashSet<>();
+      List<Match<T>> matches = new ArrayList<>();
+      List<T> unmatched = new ArrayList<>();
+      for (T item : targetItems) {
+        T candidate = baseById.get(view.id().apply(item));
+        if (candidate == null) {
+          unmatched.add(item);
+          continue;
+        }
+        matchedBaseIds.add(view.id().apply(candidate));
+        matches.add(link(candidate, item, view));
+      }
+
+      for (T item : unmatched) {
+        String parentId = view.parentId().apply(item);
+        String baseParentId = parentId == null ? null : baseIdsByTargetId.get(parentId);
+        T candidate = parentId != null && baseParentId == null
+            ? null
+            : baseByName.get(nameKey(baseParentId, view.name().apply(item)));
+        if (candidate != null && matchedBaseIds.add(view.id().apply(candidate))) {
+          matches.add(link(candidate, item, view));
+          continue;
+        }
+        changes.add(new SchemaChange(elementType, SchemaChangeType.ADDED, null, view.id().apply(item),
+            tableName(targetTableNames, parentId, view.name().apply(item)), view.name().apply(item), List.of()));
+      }
+
+      for (T item : baseItems) {
+        if (!matchedBaseIds.contains(view.id().apply(item))) {
+          String parentId = view.parentId().apply(item);
+          changes.add(new SchemaChange(elementType, SchemaChangeType.REMOVED, view.id().apply(item), null,
+              tableName(baseTableNames, parentId, view.name().apply(item)), view.name().apply(item), List.of()));
+        }
+      }
+      return matches;
+    }
+
+    private <T> Match<T> link(T baseItem, T targetItem, ElementView<T> view) {
+      baseIdsByTargetId.put(view.id().apply(targetItem), view.id().apply(baseItem));
+      return new Match<>(baseItem, targetItem);
+    }
+
+    // Columns outside the longest run that keeps its base order are the ones that moved.
+    private Set<String> movedColumns(List<Match<ColumnSnapshot>> matches) {
+      Map<String, Integer> baseRanks = new HashMap<>();
+      Map<String, List<ColumnSnapshot>> baseByTable = group(base.columns(), ColumnSnapshot::tableId);
+      for (List<ColumnSnapshot> columns : baseByTable.values()) {
+        columns.sort(Comparator.comparingInt(ColumnSnapshot::seqNo).thenComparing(ColumnSnapshot::id));
+        for (int i = 0; i < columns.size(); i++) {
+          baseRanks.put(columns.get(i).id(), i);
+        }
+      }
+
+      Map<String, List<Match<ColumnSnapshot>>> matchesByTable = group(matches, match -> match.target().tableId());
+      Set<String> moved = new HashSet<>();
+      for (List<Match<ColumnSnapshot>> tableMatches : matchesByTable.values()) {
+        tableMatches.sort(Comparator.comparingInt((Match<ColumnSnapshot> match) -> match.target().seqNo())
+            .thenComparing(match -> match.target().id()));
+        int[] ranks = tableMatches.stream()
+            .mapToInt(match -> baseRanks.get(match.base().id()))
+            .toArray();
+        boolean[] kept = longestIncreasingRun(ranks);
+        for (int i = 0; i < kept.length; i++) {
+          if (!kept[i]) {
+            moved.add(tableMatches.get(i).target().id());
+          }
+        }
+      }
+      return moved;
+    }
+
+    private <T> Map<String, List<String>> orderedChildren(
+        List<T> children,
+        Function<T, String> parentId,
+        ToIntFunction<T> seqNo,
+        Function<T, String> value) {
+      Map<String, List<T>> grouped = group(children, parentId);
+      Map<String, List<String>> values = new HashMap<>();
+      grouped.forEach((key, items) -> {
+        items.sort(Comparator.comparingInt(seqNo));
+        values.put(key, items.stream().map(value).toList());
+      });
+      return values;
+    }
+
+    private String toBaseId(String targetId) {
+      String baseId = baseIdsByTargetId.get(targetId);
+      return baseId == null ? "+" + targetId : baseId;
+    }
+
+    private void modified(
+        SchemaElementType elementType,
+        String baseId,
+        String targetId,
+        String tableName,
+        String name,
+        List<String> fields) {
+      if (!fields.isEmpty()) {
+        changes.add(new SchemaChange(elementType, SchemaChangeType.MODIFIED, baseId, targetId,
+            tableName, name, fields));
+      }
+    }
+
+  }
+
+  static boolean[] longestIncreasingRun(int[] values) {
+    int[] tails = new int[values.length];
+    int[] previous = new int[values.length];
+    int length = 0;
+    for (int i = 0; i < values.length; i++) {
+      int low = 0;
+      int high = length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (values[tails[mid]] < values[i]) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      previous[i] = low > 0 ? tails[low - 1] : -1;
+      tails[low] = i;
+      if (low == length) {
+        length++;
+      }
+    }
+
+    boolean[] kept = new boolean[values.length];
+    for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+      kept[i] = true;
+    }
+    return kept;
+  }
+
+  private static void compare(List<String> fields, String field, Object left, Object right) {
+    if (!Objects.equals(left, right)) {
+      fields.add(field);
+    }
+  }
+
+  private static <T> Map<String, List<T>> group(List<T> items, Function<T, String> key) {
+    Map<String, List<T>> grouped = new HashMap<>();
+    for (T item : items) {
+      grouped.computeIfAbsent(key.apply(item), ignored -> new ArrayList<>()).add(item);
+    }
+    return grouped;
+  }
+
+  private static String nameKey(String parentId, String name) {
+    return nullToEmpty(parentId) + '\u0000' + nullToEmpty(name).toLowerCase(Locale.ROOT);
+  }
+
+  private static String tableName(Map<String, String> tableNames, String parentId, String name) {
+    return parentId == null ? name : tableNames.get(parentId);
+  }
+
+  private static String nullToEmpty(String value) {
+    return value == null ? "" : value;
+  }
+
+  private record ElementView<T>(
+      Function<T, String> id,
+      Function<T, String> parentId,
+      Function<T, String> name) {
+  }
+
+  private record Match<T>(T base, T target) {
+  }
+
+}
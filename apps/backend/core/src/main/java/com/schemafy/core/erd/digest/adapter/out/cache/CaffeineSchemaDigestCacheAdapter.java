@@ -0,0 +1,48 @@
+package com.schemafy.core.erd.digest.adapter.out.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schemafy.core.erd.digest.application.port.in.SchemaDigest;
+import com.schemafy.core.erd.digest.application.port.out.SchemaDigestCachePort;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class CaffeineSchemaDigestCacheAdapter implements SchemaDigestCachePort {
+
+  // Only the latest revision per schema is kept; older revisions can never be served again.
+  private final Cache<String, SchemaDigest> cache;
+
+  public CaffeineSchemaDigestCacheAdapter(
+      @Value("${erd.digest.cache.ttl:30m}") Duration ttl,
+      @Value("${erd.digest.cache.maximum-chars:20000000}") long maximumChars) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maximumChars)
+        .<String, SchemaDigest>weigher((schemaId, digest) -> digest.content().length())
+        .expireAfterAccess(ttl)
+        .build();
+  }
+
+  @Override
+  public Mono<SchemaDigest> get(String schemaId, long revision) {
+    return Mono.fromSupplier(() -> {
+      SchemaDigest cached = cache.getIfPresent(schemaId);
+      if (cached == null || cached.currentRevision() != revision) {
+        return null;
+      }
+      return cached;
+    });
+  }
+
+  @Override
+  public Mono<Void> put(SchemaDigest digest) {
+    return Mono.fromRunnable(() -> cache.asMap().merge(digest.schemaId(), digest,
+        (current, next) -> next.currentRevision() >= current.currentRevision() ? next : current));
+  }
+
+}
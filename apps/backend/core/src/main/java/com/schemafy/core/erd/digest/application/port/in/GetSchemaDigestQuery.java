@@ -0,0 +1,14 @@
+package com.schemafy.core.erd.digest.application.port.in;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+
+public record GetSchemaDigestQuery(String schemaId) {
+
+  public GetSchemaDigestQuery {
+    if (schemaId == null || schemaId.isBlank()) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE, "schemaId must not be blank");
+    }
+  }
+
+}
@@ -0,0 +1,9 @@
+package com.schemafy.core.erd.digest.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface GetSchemaDigestUseCase {
+
+  Mono<SchemaDigest> getSchemaDigest(GetSchemaDigestQuery query);
+
+}
@@ -0,0 +1,7 @@
+package com.schemafy.core.erd.digest.application.port.in;
+
+public record SchemaDigest(
+    String schemaId,
+    long currentRevision,
+    String content) {
+}
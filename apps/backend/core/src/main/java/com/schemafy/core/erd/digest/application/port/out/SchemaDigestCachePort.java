@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.digest.application.port.out;
+
+import com.schemafy.core.erd.digest.application.port.in.SchemaDigest;
+
+import reactor.core.publisher.Mono;
+
+public interface SchemaDigestCachePort {
+
+  Mono<SchemaDigest> get(String schemaId, long revision);
+
+  Mono<Void> put(SchemaDigest digest);
+
+}
@@ -0,0 +1,139 @@
+package com.schemafy.core.erd.digest.application.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.column.application.port.out.GetColumnsBySchemaIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintColumnsBySchemaIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintsBySchemaIdPort;
+import com.schemafy.core.erd.digest.application.port.in.GetSchemaDigestQuery;
+import com.schemafy.core.erd.digest.application.port.in.GetSchemaDigestUseCase;
+import com.schemafy.core.erd.digest.application.port.in.SchemaDigest;
+import com.schemafy.core.erd.digest.application.port.out.SchemaDigestCachePort;
+import com.schemafy.core.erd.digest.domain.SchemaDigestRenderer;
+import com.schemafy.core.erd.digest.domain.SchemaStructure;
+import com.schemafy.core.erd.index.application.port.out.GetIndexColumnsBySchemaIdPort;
+import com.schemafy.core.erd.index.application.port.out.GetIndexesBySchemaIdPort;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipColumnsBySchemaIdPort;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipsBySchemaIdPort;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemaByIdPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.table.application.port.out.GetTablesBySchemaIdPort;
+import com.schemafy.core.project.application.access.AccessTarget;
+import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.domain.ProjectRole;
+
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.project.application.access.ProjectAccessResourceType.SCHEMA;
+
+/**
+ * Renders the whole-schema digest. The revision and every part of the
+ * structure are read in one read-only transaction, so a cached digest always
+ * matches the revision it is cached under.
+ */
+@Service
+@RequireProjectAccess(role = ProjectRole.VIEWER, target = @AccessTarget(value = SCHEMA, id = "schemaId"))
+class GetSchemaDigestService implements GetSchemaDigestUseCase {
+
+  private final GetSchemaByIdPort getSchemaByIdPort;
+  private final FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+  private final GetTablesBySchemaIdPort getTablesBySchemaIdPort;
+  private final GetColumnsBySchemaIdPort getColumnsBySchemaIdPort;
+  private final GetIndexesBySchemaIdPort getIndexesBySchemaIdPort;
+  private final GetIndexColumnsBySchemaIdPort getIndexColumnsBySchemaIdPort;
+  private final GetConstraintsBySchemaIdPort getConstraintsBySchemaIdPort;
+  private final GetConstraintColumnsBySchemaIdPort getConstraintColumnsBySchemaIdPort;
+  private final GetRelationshipsBySchemaIdPort getRelationshipsBySchemaIdPort;
+  private final GetRelationshipColumnsBySchemaIdPort getRelationshipColumnsBySchemaIdPort;
+  private final SchemaDigestCachePort schemaDigestCachePort;
+  private final TransactionalOperator transactionalOperator;
+
+  GetSchemaDigestService(
+      GetSchemaByIdPort getSchemaByIdPort,
+      FindSchemaCollaborationStatePort findSchemaCollaborationStatePort,
+      GetTablesBySchemaIdPort getTablesBySchemaIdPort,
+      GetColumnsBySchemaIdPort getColumnsBySchemaIdPort,
+      GetIndexesBySchemaIdPort getIndexesBySchemaIdPort,
+      GetIndexColumnsBySchemaIdPort getIndexColumnsBySchemaIdPort,
+      GetConstraintsBySchemaIdPort getConstraintsBySchemaIdPort,
+      GetConstraintColumnsBySchemaIdPort getConstraintColumnsBySchemaIdPort,
+      GetRelationshipsBySchemaIdPort getRelationshipsBySchemaIdPort,
+      GetRelationshipColumnsBySchemaIdPort getRelationshipColumnsBySchemaIdPort,
+      SchemaDigestCachePort schemaDigestCachePort,
+      ReactiveTransactionManager transactionManager) {
+    this.getSchemaByIdPort = getSchemaByIdPort;
+    this.findSchemaCollaborationStatePort = findSchemaCollaborationStatePort;
+    this.getTablesBySchemaIdPort = getTablesBySchemaIdPort;
+    this.getColumnsBySchemaIdPort = getColumnsBySchemaIdPort;
+    this.getIndexesBySchemaIdPort = getIndexesBySchemaIdPort;
+    this.getIndexColumnsBySchemaIdPort = getIndexColumnsBySchemaIdPort;
+    this.getConstraintsBySchemaIdPort = getConstraintsBySchemaIdPort;
+    this.getConstraintColumnsBySchemaIdPort = getConstraintColumnsBySchemaIdPort;
+    this.getRelationshipsBySchemaIdPort = getRelationshipsBySchemaIdPort;
+    this.getRelationshipColumnsBySchemaIdPort = getRelationshipColumnsBySchemaIdPort;
+    this.schemaDigestCachePort = schemaDigestCachePort;
+    this.transactionalOperator = createReadTransactionalOperator(
+        transactionManager);
+  }
+
+  @Override
+  public Mono<SchemaDigest> getSchemaDigest(GetSchemaDigestQuery query) {
+    String schemaId = query.schemaId();
+    return Mono.defer(() -> getSchemaByIdPort.findSchemaById(schemaId)
+        .switchIfEmpty(Mono.error(
+            new DomainException(SchemaErrorCode.NOT_FOUND, "Schema not found: " + schemaId)))
+        .flatMap(schema -> findSchemaCollaborationStatePort.findBySchemaId(schemaId)
+            .map(SchemaCollaborationState::currentRevision)
+            .defaultIfEmpty(0L)
+            .flatMap(revision -> schemaDigestCachePort.get(schemaId, revision)
+                .switchIfEmpty(Mono.defer(() -> buildDigest(schema, revision)
+                    .flatMap(digest -> schemaDigestCachePort.put(digest)
+                        .thenReturn(digest)))))))
+        .as(transactionalOperator::transactional);
+  }
+
+  private Mono<SchemaDigest> buildDigest(Schema schema, long revision) {
+    String schemaId = schema.id();
+    return Mono.zip(
+        getTablesBySchemaIdPort.findTablesBySchemaId(schemaId).collectList(),
+        getColumnsBySchemaIdPort.findColumnsBySchemaId(schemaId),
+        getIndexesBySchemaIdPort.findIndexesBySchemaId(schemaId),
+        getIndexColumnsBySchemaIdPort.findIndexColumnsBySchemaId(schemaId),
+        getConstraintsBySchemaIdPort.findConstraintsBySchemaId(schemaId),
+        getConstraintColumnsBySchemaIdPort.findConstraintColumnsBySchemaId(schemaId),
+        getRelationshipsBySchemaIdPort.findRelationshipsBySchemaId(schemaId),
+        getRelationshipColumnsBySchemaIdPort.findRelationshipColumnsBySchemaId(schemaId))
+        .map(parts -> new SchemaStructure(
+            schema,
+            parts.getT1(),
+            parts.getT2(),
+            parts.getT3(),
+            parts.getT4(),
+            parts.getT5(),
+            parts.getT6(),
+            parts.getT7(),
+            parts.getT8()))
+        .map(structure -> new SchemaDigest(
+            schemaId,
+            revision,
+            SchemaDigestRenderer.render(structure, revision)));
+  }
+
+  private static TransactionalOperator createReadTransactionalOperator(
+      ReactiveTransactionManager transactionManager) {
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+    definition.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    definition.setName("schemaDigestRead");
+    return TransactionalOperator.create(transactionManager, definition);
+  }
+
+}
@@ -0,0 +1,250 @@
+package com.schemafy.core.erd.digest.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.schemafy.core.erd.column.domain.Column;
+import com.schemafy.core.erd.column.domain.ColumnTypeArguments;
+import com.schemafy.core.erd.constraint.domain.Constraint;
+import com.schemafy.core.erd.constraint.domain.ConstraintColumn;
+import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
+import com.schemafy.core.erd.index.domain.Index;
+import com.schemafy.core.erd.index.domain.IndexColumn;
+import com.schemafy.core.erd.index.domain.type.SortDirection;
+import com.schemafy.core.erd.relationship.domain.Relationship;
+import com.schemafy.core.erd.relationship.domain.RelationshipColumn;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.table.domain.Table;
+
+/**
+ * Renders a whole schema as compact DDL-like text. One line per column, key,
+ * index and foreign key keeps the output dense enough to be read in a single
+ * MCP call.
+ */
+public final class SchemaDigestRenderer {
+
+  static final String LEGEND = "# NN=not null, AI=auto increment, PK/UQ/CK/DF/IX/FK=primary key/unique/check/default/index/foreign key";
+
+  private SchemaDigestRenderer() {}
+
+  public static String render(SchemaStructure structure, long revision) {
+    Schema schema = structure.schema();
+    Map<String, Column> columnsById = indexBy(structure.columns(), Column::id);
+    Map<String, Table> tablesById = indexBy(structure.tables(), Table::id);
+    Map<String, List<Column>> columnsByTable = groupBy(structure.columns(), Column::tableId,
+        Comparator.comparingInt(Column::seqNo));
+    Map<String, List<IndexColumn>> indexColumns = groupBy(structure.indexColumns(), IndexColumn::indexId,
+        Comparator.comparingInt(IndexColumn::seqNo));
+    Map<String, List<ConstraintColumn>> constraintColumns = groupBy(structure.constraintColumns(),
+        ConstraintColumn::constraintId, Comparator.comparingInt(ConstraintColumn::seqNo));
+    Map<String, List<RelationshipColumn>> relationshipColumns = groupBy(structure.relationshipColumns(),
+        RelationshipColumn::relationshipId, Comparator.comparingInt(RelationshipColumn::seqNo));
+    Map<String, List<Index>> indexesByTable = groupBy(structure.indexes(), Index::tableId,
+        Comparator.comparing(Index::name));
+    Map<String, List<Constraint>> constraintsByTable = groupBy(structure.constraints(), Constraint::tableId,
+        Comparator.comparing(Constraint::kind).thenComparing(Constraint::name));
+    Map<String, List<Relationship>> relationshipsByTable = groupBy(structure.relationships(),
+        Relationship::fkTableId, Comparator.comparing(Relationship::name));
+
+    StringBuilder out = new StringBuilder(256 + structure.columns().size() * 48);
+    out.append("schema ").append(schema.name())
+        .append(" id=").append(schema.id())
+        .append(" charset=").append(schema.charset())
+        .append(" collation=").append(schema.collation())
+        .append(" revision=").append(revision)
+        .append('\n')
+        .append(LEGEND).append('\n');
+
+    List<Table> tables = new ArrayList<>(structure.tables());
+    tables.sort(Comparator.comparing(Table::name));
+    for (Table table : tables) {
+      Map<String, List<String>> inlineByColumn = new HashMap<>();
+      List<String> tableLines = new ArrayList<>();
+      for (Constraint constraint : constraintsByTable.getOrDefault(table.id(), List.of())) {
+        List<ConstraintColumn> members = constraintColumns.getOrDefault(constraint.id(), List.of());
+        String inline = inlineConstraint(constraint, members);
+        if (inline != null) {
+          inlineByColumn.computeIfAbsent(members.get(0).columnId(), key -> new ArrayList<>()).add(inline);
+        } else {
+          tableLines.add(constraintLine(constraint, members, columnsById));
+        }
+      }
+
+      out.append('\n').append("table ").append(table.name()).append(" id=").append(table.id());
+      appendIfDifferent(out, "charset", table.charset(), schema.charset());
+      appendIfDifferent(out, "collation", table.collation(), schema.collation());
+      out.append('\n');
+      for (Column column : columnsByTable.getOrDefault(table.id(), List.of())) {
+        appendColumn(out, table, column, inlineByColumn.getOrDefault(column.id(), List.of()));
+      }
+      for (String line : tableLines) {
+        out.append("  ").append(line).append('\n');
+      }
+      for (Index index : indexesByTable.getOrDefault(table.id(), List.of())) {
+        out.append("  IX ").append(index.name()).append(' ').append(index.type()).append(" (");
+        List<IndexColumn> members = indexColumns.getOrDefault(index.id(), List.of());
+        for (int i = 0; i < members.size(); i++) {
+          IndexColumn member = members.get(i);
+          if (i > 0) {
+            out.append(", ");
+          }
+          out.append(columnName(columnsById, member.columnId()));
+          if (member.sortDirection() == SortDirection.DESC) {
+            out.append(" DESC");
+          }
+        }
+        out.append(")\n");
+      }
+      for (Relationship relationship : relationshipsByTable.getOrDefault(table.id(), List.of())) {
+        List<RelationshipColumn> members = relationshipColumns.getOrDefault(relationship.id(), List.of());
+        Table pkTable = tablesById.get(relationship.pkTableId());
+        out.append("  FK ").append(relationship.name()).append(" (")
+            .append(joinColumns(members, RelationshipColumn::fkColumnId, columnsById))
+            .append(") -> ")
+            .append(pkTable == null ? relationship.pkTableId() : pkTable.name())
+            .append(" (")
+            .append(joinColumns(members, RelationshipColumn::pkColumnId, columnsById))
+            .append(") ")
+            .append(relationship.kind())
+            .append(' ')
+            .append(relationship.cardinality())
+            .append('\n');
+      }
+    }
+    return out.toString();
+  }
+
+  private static void appendColumn(StringBuilder out, Table table, Column column, List<String> inline) {
+    out.append("  ").append(column.name()).append(' ').append(column.dataType());
+    appendTypeArguments(out, column.typeArguments());
+    for (String flag : inline) {
+      out.append(' ').append(flag);
+    }
+    if (column.autoIncrement()) {
+      out.append(" AI");
+    }
+    appendIfDifferent(out, "charset", column.charset(), table.charset());
+    appendIfDifferent(out, "collation", column.collation(), table.collation());
+    if (column.comment() != null && !column.comment().isBlank()) {
+      out.append(" -- ").append(singleLine(column.comment()));
+    }
+    out.append('\n');
+  }
+
+  private static void appendTypeArguments(StringBuilder out, ColumnTypeArguments arguments) {
+    if (arguments == null || arguments.isEmpty()) {
+      return;
+    }
+    if (arguments.hasLength()) {
+      out.append('(').append(arguments.length()).append(')');
+    } else if (arguments.hasValues()) {
+      out.append('(');
+      List<String> values = arguments.values();
+      for (int i = 0; i < values.size(); i++) {
+        if (i > 0) {
+          out.append(',');
+        }
+        out.append('\'').append(values.get(i).replace("'", "''")).append('\'');
+      }
+      out.append(')');
+    } else if (arguments.precision() != null) {
+      out.append('(').append(arguments.precision());
+      if (arguments.scale() != null) {
+        out.append(',').append(arguments.scale());
+      }
+      out.append(')');
+    }
+  }
+
+  private static String inlineConstraint(Constraint constraint, List<ConstraintColumn> members) {
+    if (members.size() != 1) {
+      return null;
+    }
+    return switch (constraint.kind()) {
+    case NOT_NULL -> "NN";
+    case DEFAULT -> constraint.defaultExpr() == null ? null : "DF " + singleLine(constraint.defaultExpr());
+    default -> null;
+    };
+  }
+
+  private static String constraintLine(
+      Constraint constraint,
+      List<ConstraintColumn> members,
+      Map<String, Column> columnsById) {
+    StringBuilder line = new StringBuilder()
+        .append(abbreviation(constraint.kind()))
+        .append(' ')
+        .append(constraint.name())
+        .append(" (")
+        .append(joinColumns(members, ConstraintColumn::columnId, columnsById))
+        .append(')');
+    if (constraint.checkExpr() != null) {
+      line.append(' ').append(singleLine(constraint.checkExpr()));
+    }
+    if (constraint.defaultExpr() != null) {
+      line.append(' ').append(singleLine(constraint.defaultExpr()));
+    }
+    return line.toString();
+  }
+
+  private static String abbreviation(ConstraintKind kind) {
+    return switch (kind) {
+    case PRIMARY_KEY -> "PK";
+    case UNIQUE -> "UQ";
+    case CHECK -> "CK";
+    case DEFAULT -> "DF";
+    case NOT_NULL -> "NN";
+    };
+  }
+
+  private static <T> String joinColumns(
+      List<T> members,
+      Function<T, String> columnId,
+      Map<String, Column> columnsById) {
+    return members.stream()
+        .map(member -> columnName(columnsById, columnId.apply(member)))
+        .collect(Collectors.joining(", "));
+  }
+
+  private static String columnName(Map<String, Column> columnsById, String columnId) {
+    Column column = columnsById.get(columnId);
+    return column == null ? columnId : column.name();
+  }
+
+  private static void appendIfDifferent(StringBuilder out, String key, String value, String inherited) {
+    if (value != null && !value.isBlank() && !Objects.equals(value, inherited)) {
+      out.append(' ').append(key).append('=').append(value);
+    }
+  }
+
+  private static String singleLine(String value) {
+    return value.replace('\n', ' ').replace('\r', ' ');
+  }
+
+  private static <T> Map<String, T> indexBy(List<T> values, Function<T, String> key) {
+    Map<String, T> result = new HashMap<>(values.size() * 2);
+    for (T value : values) {
+      result.put(key.apply(value), value);
+    }
+    return result;
+  }
+
+  private static <T> Map<String, List<T>> groupBy(
+      List<T> values,
+      Function<T, String> key,
+      Comparator<T> order) {
+    Map<String, List<T>> result = new HashMap<>();
+    for (T value : values) {
+      result.computeIfAbsent(key.apply(value), ignored -> new ArrayList<>()).add(value);
+    }
+    result.values().forEach(group -> group.sort(order));
+    return result;
+  }
+
+}
@@ -0,0 +1,37 @@
+package com.schemafy.core.erd.digest.domain;
+
+import java.util.List;
+
+import com.schemafy.core.erd.column.domain.Column;
+import com.schemafy.core.erd.constraint.domain.Constraint;
+import com.schemafy.core.erd.constraint.domain.ConstraintColumn;
+import com.schemafy.core.erd.index.domain.Index;
+import com.schemafy.core.erd.index.domain.IndexColumn;
+import com.schemafy.core.erd.relationship.domain.Relationship;
+import com.schemafy.core.erd.relationship.domain.RelationshipColumn;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.table.domain.Table;
+
+public record SchemaStructure(
+    Schema schema,
+    List<Table> tables,
+    List<Column> columns,
+    List<Index> indexes,
+    List<IndexColumn> indexColumns,
+    List<Constraint> constraints,
+    List<ConstraintColumn> constraintColumns,
+    List<Relationship> relationships,
+    List<RelationshipColumn> relationshipColumns) {
+
+  public SchemaStructure {
+    tables = List.copyOf(tables);
+    columns = List.copyOf(columns);
+    indexes = List.copyOf(indexes);
+    indexColumns = List.copyOf(indexColumns);
+    constraints = List.copyOf(constraints);
+    constraintColumns = List.copyOf(constraintColumns);
+    relationships = List.copyOf(relationships);
+    relationshipColumns = List.copyOf(relationshipColumns);
+  }
+
+}
@@ -12,12 +12,14 @@ import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.erd.index.application.port.out.ChangeIndexColumnPositionPort;
 import com.schemafy.core.erd.index.application.port.out.ChangeIndexColumnSortDirectionPort;
 import com.schemafy.core.erd.index.application.port.out.CreateIndexColumnPort;
+import com.schemafy.core.erd.index.application.port.out.CreateIndexColumnsPort;
 import com.schemafy.core.erd.index.application.port.out.DeleteIndexColumnPort;
 import com.schemafy.core.erd.index.application.port.out.DeleteIndexColumnsByColumnIdPort;
 import com.schemafy.core.erd.index.application.port.out.DeleteIndexColumnsByIndexIdPort;
 import com.schemafy.core.erd.index.application.port.out.GetIndexColumnByIdPort;
 import com.schemafy.core.erd.index.application.port.out.GetIndexColumnsByColumnIdPort;
 import com.schemafy.core.erd.index.application.port.out.GetIndexColumnsByIndexIdPort;
+import com.schemafy.core.erd.index.application.port.out.GetIndexColumnsBySchemaIdPort;
 import com.schemafy.core.erd.index.application.port.out.RestoreIndexColumnPort;
 import com.schemafy.core.erd.index.domain.IndexColumn;
 import com.schemafy.core.erd.index.domain.exception.IndexErrorCode;
@@ -32,9 +34,11 @@ class IndexColumnPersistenceAdapter implements
     ChangeIndexColumnPositionPort,
     ChangeIndexColumnSortDirectionPort,
     CreateIndexColumnPort,
+    CreateIndexColumnsPort,
     GetIndexColumnByIdPort,
     GetIndexColumnsByColumnIdPort,
     GetIndexColumnsByIndexIdPort,
+    GetIndexColumnsBySchemaIdPort,
     RestoreIndexColumnPort,
     DeleteIndexColumnPort,
     DeleteIndexColumnsByIndexIdPort,
@@ -50,6 +54,14 @@ class IndexColumnPersistenceAdapter implements
         .map(indexColumnMapper::toDomain);
   }
 
+  @Override
+  public Mono<Void> createIndexColumns(List<IndexColumn> indexColumns) {
+    return indexColumnRepository.saveAll(indexColumns.stream()
+        .map(indexColumnMapper::toEntity)
+        .toList())
+        .then();
+  }
+
   @Override
   public Mono<IndexColumn> findIndexColumnById(String indexColumnId) {
     return indexColumnRepository.findById(indexColumnId)
@@ -63,6 +75,13 @@ class IndexColumnPersistenceAdapter implements
         .collectList();
   }
 
+  @Override
+  public Mono<List<IndexColumn>> findIndexColumnsBySchemaId(String schemaId) {
+    return indexColumnRepository.findBySchemaId(schemaId)
+        .map(indexColumnMapper::toDomain)
+        .collectList();
+  }
+
   @Override
   public Mono<List<IndexColumn>> findIndexColumnsByColumnId(String columnId) {
     return indexColumnRepository.findByColumnId(columnId)
@@ -1,5 +1,6 @@
 package com.schemafy.core.erd.index.adapter.out.persistence;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import reactor.core.publisher.Flux;
@@ -15,4 +16,13 @@ interface IndexColumnRepository extends ReactiveCrudRepository<IndexColumnEntity
 
   Mono<Void> deleteByColumnId(String columnId);
 
+  @Query("""
+      SELECT ic.* FROM db_index_columns ic
+      JOIN db_indexes i ON i.id = ic.index_id
+      JOIN db_tables t ON t.id = i.table_id
+      WHERE t.schema_id = :schemaId
+      ORDER BY ic.index_id, ic.seq_no
+      """)
+  Flux<IndexColumnEntity> findBySchemaId(String schemaId);
+
 }
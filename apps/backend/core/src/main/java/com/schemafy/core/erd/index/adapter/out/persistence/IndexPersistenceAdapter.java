@@ -10,9 +10,11 @@ import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.erd.index.application.port.out.ChangeIndexNamePort;
 import com.schemafy.core.erd.index.application.port.out.ChangeIndexTypePort;
 import com.schemafy.core.erd.index.application.port.out.CreateIndexPort;
+import com.schemafy.core.erd.index.application.port.out.CreateIndexesPort;
 import com.schemafy.core.erd.index.application.port.out.DeleteIndexPort;
 import com.schemafy.core.erd.index.application.port.out.GetIndexByIdPort;
 import com.schemafy.core.erd.index.application.port.out.GetIndexesByTableIdPort;
+import com.schemafy.core.erd.index.application.port.out.GetIndexesBySchemaIdPort;
 import com.schemafy.core.erd.index.application.port.out.IndexExistsPort;
 import com.schemafy.core.erd.index.application.port.out.RestoreIndexPort;
 import com.schemafy.core.erd.index.domain.Index;
@@ -26,8 +28,10 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 class IndexPersistenceAdapter implements
     CreateIndexPort,
+    CreateIndexesPort,
     GetIndexByIdPort,
     GetIndexesByTableIdPort,
+    GetIndexesBySchemaIdPort,
     ChangeIndexNamePort,
     ChangeIndexTypePort,
     RestoreIndexPort,
@@ -45,6 +49,14 @@ class IndexPersistenceAdapter implements
         .map(indexMapper::toDomain);
   }
 
+  @Override
+  public Mono<Void> createIndexes(List<Index> indexes) {
+    return indexRepository.saveAll(indexes.stream()
+        .map(indexMapper::toEntity)
+        .toList())
+        .then();
+  }
+
   @Override
   public Mono<Index> findIndexById(String indexId) {
     return indexRepository.findById(indexId)
@@ -58,6 +70,13 @@ class IndexPersistenceAdapter implements
         .collectList();
   }
 
+  @Override
+  public Mono<List<Index>> findIndexesBySchemaId(String schemaId) {
+    return indexRepository.findBySchemaId(schemaId)
+        .map(indexMapper::toDomain)
+        .collectList();
+  }
+
   @Override
   public Mono<Void> changeIndexName(String indexId, String newName) {
     return findIndexOrError(indexId)
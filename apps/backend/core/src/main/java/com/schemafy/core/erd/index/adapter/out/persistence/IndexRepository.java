@@ -34,4 +34,11 @@ interface IndexRepository extends ReactiveCrudRepository<IndexEntity, String> {
       String name,
       String indexId);
 
+  @Query("""
+      SELECT i.* FROM db_indexes i
+      JOIN db_tables t ON t.id = i.table_id
+      WHERE t.schema_id = :schemaId
+      """)
+  Flux<IndexEntity> findBySchemaId(String schemaId);
+
 }
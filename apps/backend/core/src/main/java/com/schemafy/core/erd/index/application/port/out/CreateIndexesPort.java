@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.index.application.port.out;
+
+import java.util.List;
+
+import com.schemafy.core.erd.index.domain.Index;
+
+import reactor.core.publisher.Mono;
+
+public interface CreateIndexesPort {
+
+  Mono<Void> createIndexes(List<Index> indexes);
+
+}
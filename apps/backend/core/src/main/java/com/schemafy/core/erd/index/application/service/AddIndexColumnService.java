@@ -6,7 +6,6 @@ import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -47,7 +46,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
   @AccessTarget(value = COLUMN, id = "columnId") })
 public class AddIndexColumnService implements AddIndexColumnUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final UlidGeneratorPort ulidGeneratorPort;
   private final CreateIndexColumnPort createIndexColumnPort;
   private final GetIndexByIdPort getIndexByIdPort;
@@ -76,8 +74,7 @@ public class AddIndexColumnService implements AddIndexColumnUseCase {
                           beforeSnapshot,
                           afterSnapshot,
                           result.sortedAffectedTableIds())))));
-        })
-        .as(transactionalOperator::transactional);
+        });
   }
 
   private Mono<MutationResult<AddIndexColumnResult>> addIndexColumnWithoutInverse(AddIndexColumnCommand command) {
@@ -5,7 +5,6 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -35,7 +34,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = INDEX_COLUMN, id = "indexColumnId"))
 public class ChangeIndexColumnPositionService implements ChangeIndexColumnPositionUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final ChangeIndexColumnPositionPort changeIndexColumnPositionPort;
   private final GetIndexColumnByIdPort getIndexColumnByIdPort;
   private final GetIndexColumnsByIndexIdPort getIndexColumnsByIndexIdPort;
@@ -89,8 +87,7 @@ public class ChangeIndexColumnPositionService implements ChangeIndexColumnPositi
                                             IndexColumn::id,
                                             IndexColumn::seqNo))));
                           }));
-                })))
-        .as(transactionalOperator::transactional);
+                })));
   }
 
   private int resolveCurrentPosition(
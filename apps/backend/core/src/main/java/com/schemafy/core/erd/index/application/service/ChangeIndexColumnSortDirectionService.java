@@ -6,7 +6,6 @@ import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -41,7 +40,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 public class ChangeIndexColumnSortDirectionService
     implements ChangeIndexColumnSortDirectionUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final ChangeIndexColumnSortDirectionPort changeIndexColumnSortDirectionPort;
   private final GetIndexColumnByIdPort getIndexColumnByIdPort;
   private final GetIndexByIdPort getIndexByIdPort;
@@ -101,8 +99,7 @@ public class ChangeIndexColumnSortDirectionService
                                             lockedIndexColumn.id(),
                                             lockedIndexColumn.sortDirection())));
                               })));
-                })))
-        .as(transactionalOperator::transactional);
+                })));
   }
 
   private Mono<Void> validateSortDirectionChange(
@@ -8,7 +8,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -54,7 +53,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = TABLE, id = "tableId"))
 public class CreateIndexService implements CreateIndexUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final UlidGeneratorPort ulidGeneratorPort;
   private final CreateIndexPort createIndexPort;
   private final CreateIndexColumnPort createIndexColumnPort;
@@ -127,8 +125,7 @@ public class CreateIndexService implements CreateIndexUseCase {
                     result.result().indexId(),
                     beforeSnapshot,
                     afterSnapshot,
-                    result.sortedAffectedTableIds()))))))
-        .as(transactionalOperator::transactional);
+                    result.sortedAffectedTableIds()))))));
   }
 
   private Mono<CreateIndexResult> validateAndCreate(
@@ -2,7 +2,6 @@ package com.schemafy.core.erd.index.application.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -30,7 +29,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = INDEX, id = "indexId"))
 public class DeleteIndexService implements DeleteIndexUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteIndexPort deleteIndexPort;
   private final DeleteIndexColumnsByIndexIdPort deleteIndexColumnsPort;
   private final GetIndexByIdPort getIndexByIdPort;
@@ -58,8 +56,7 @@ public class DeleteIndexService implements DeleteIndexUseCase {
                     indexId,
                     beforeSnapshot,
                     afterSnapshot,
-                    result.sortedAffectedTableIds()))))))
-        .as(transactionalOperator::transactional);
+                    result.sortedAffectedTableIds()))))));
   }
 
 }
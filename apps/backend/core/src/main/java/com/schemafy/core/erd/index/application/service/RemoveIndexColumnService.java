@@ -5,7 +5,6 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -37,7 +36,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = INDEX_COLUMN, id = "indexColumnId"))
 public class RemoveIndexColumnService implements RemoveIndexColumnUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteIndexColumnPort deleteIndexColumnPort;
   private final DeleteIndexPort deleteIndexPort;
   private final ChangeIndexColumnPositionPort changeIndexColumnPositionPort;
@@ -65,8 +63,7 @@ public class RemoveIndexColumnService implements RemoveIndexColumnUseCase {
                           beforeSnapshot,
                           afterSnapshot,
                           result.sortedAffectedTableIds())))));
-        })
-        .as(transactionalOperator::transactional);
+        });
   }
 
   private Mono<MutationResult<Void>> removeIndexColumnWithoutInverse(RemoveIndexColumnCommand command) {
@@ -7,9 +7,12 @@ import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.erd.memo.application.port.out.ChangeMemoCommentBodyPort;
 import com.schemafy.core.erd.memo.application.port.out.CreateMemoCommentPort;
 import com.schemafy.core.erd.memo.application.port.out.GetMemoCommentByIdPort;
+import com.schemafy.core.erd.memo.application.port.out.GetMemoCommentVersionPort;
 import com.schemafy.core.erd.memo.application.port.out.GetMemoCommentsByMemoIdPort;
+import com.schemafy.core.erd.memo.application.port.out.GetMemoCommentsBySchemaIdPort;
 import com.schemafy.core.erd.memo.application.port.out.SoftDeleteMemoCommentPort;
 import com.schemafy.core.erd.memo.domain.MemoComment;
+import com.schemafy.core.erd.memo.domain.MemoCommentVersion;
 import com.schemafy.core.erd.memo.domain.exception.MemoErrorCode;
 
 import lombok.RequiredArgsConstructor;
@@ -22,6 +25,8 @@ class MemoCommentPersistenceAdapter implements
     CreateMemoCommentPort,
     GetMemoCommentByIdPort,
     GetMemoCommentsByMemoIdPort,
+    GetMemoCommentsBySchemaIdPort,
+    GetMemoCommentVersionPort,
     ChangeMemoCommentBodyPort,
     SoftDeleteMemoCommentPort {
 
@@ -47,6 +52,17 @@ class MemoCommentPersistenceAdapter implements
         .map(memoCommentMapper::toDomain);
   }
 
+  @Override
+  public Flux<MemoComment> findMemoCommentsBySchemaId(String schemaId) {
+    return memoCommentRepository.findActiveBySchemaId(schemaId)
+        .map(memoCommentMapper::toDomain);
+  }
+
+  @Override
+  public Mono<MemoCommentVersion> findMemoCommentVersion(String schemaId) {
+    return memoCommentRepository.findVersionBySchemaId(schemaId);
+  }
+
   @Override
   public Mono<Void> changeMemoCommentBody(String commentId, String body) {
     return findMemoCommentOrError(commentId)
@@ -1,7 +1,10 @@
 package com.schemafy.core.erd.memo.adapter.out.persistence;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
+import com.schemafy.core.erd.memo.domain.MemoCommentVersion;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -13,4 +16,26 @@ interface MemoCommentRepository
   Flux<MemoCommentEntity> findByMemoIdAndDeletedAtIsNullOrderByIdAsc(
       String memoId);
 
+  @Query("""
+      SELECT c.* FROM memo_comments c
+      JOIN memos m ON m.id = c.memo_id
+      WHERE m.schema_id = :schemaId
+        AND m.deleted_at IS NULL
+        AND c.deleted_at IS NULL
+      ORDER BY c.id
+      """)
+  Flux<MemoCommentEntity> findActiveBySchemaId(String schemaId);
+
+  @Query("""
+      SELECT
+        COUNT(*) AS comment_count,
+        MAX(c.updated_at) AS last_updated_at
+      FROM memo_comments c
+      JOIN memos m ON m.id = c.memo_id
+      WHERE m.schema_id = :schemaId
+        AND m.deleted_at IS NULL
+        AND c.deleted_at IS NULL
+      """)
+  Mono<MemoCommentVersion> findVersionBySchemaId(String schemaId);
+
 }
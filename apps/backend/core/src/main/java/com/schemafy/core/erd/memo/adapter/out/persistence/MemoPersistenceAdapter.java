@@ -7,9 +7,11 @@ import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.erd.memo.application.port.out.ChangeMemoPositionPort;
 import com.schemafy.core.erd.memo.application.port.out.CreateMemoPort;
 import com.schemafy.core.erd.memo.application.port.out.GetMemoByIdPort;
+import com.schemafy.core.erd.memo.application.port.out.GetMemoLayoutVersionPort;
 import com.schemafy.core.erd.memo.application.port.out.GetMemosBySchemaIdPort;
 import com.schemafy.core.erd.memo.application.port.out.SoftDeleteMemoPort;
 import com.schemafy.core.erd.memo.domain.Memo;
+import com.schemafy.core.erd.memo.domain.MemoLayoutVersion;
 import com.schemafy.core.erd.memo.domain.exception.MemoErrorCode;
 
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ class MemoPersistenceAdapter implements
     CreateMemoPort,
     GetMemoByIdPort,
     GetMemosBySchemaIdPort,
+    GetMemoLayoutVersionPort,
     ChangeMemoPositionPort,
     SoftDeleteMemoPort {
 
@@ -46,6 +49,11 @@ class MemoPersistenceAdapter implements
         .map(memoMapper::toDomain);
   }
 
+  @Override
+  public Mono<MemoLayoutVersion> findMemoLayoutVersion(String schemaId) {
+    return memoRepository.findLayoutVersionBySchemaId(schemaId);
+  }
+
   @Override
   public Mono<Void> changeMemoPosition(String memoId, String positions) {
     return findMemoOrError(memoId)
@@ -1,7 +1,10 @@
 package com.schemafy.core.erd.memo.adapter.out.persistence;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
+import com.schemafy.core.erd.memo.domain.MemoLayoutVersion;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -11,4 +14,14 @@ interface MemoRepository extends ReactiveCrudRepository<MemoEntity, String> {
 
   Flux<MemoEntity> findBySchemaIdAndDeletedAtIsNull(String schemaId);
 
+  @Query("""
+      SELECT
+        COUNT(*) AS memo_count,
+        MAX(updated_at) AS last_updated_at
+      FROM memos
+      WHERE schema_id = :schemaId
+        AND deleted_at IS NULL
+      """)
+  Mono<MemoLayoutVersion> findLayoutVersionBySchemaId(String schemaId);
+
 }
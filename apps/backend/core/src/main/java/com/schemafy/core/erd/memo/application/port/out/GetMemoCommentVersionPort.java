@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.memo.application.port.out;
+
+import com.schemafy.core.erd.memo.domain.MemoCommentVersion;
+
+import reactor.core.publisher.Mono;
+
+public interface GetMemoCommentVersionPort {
+
+  Mono<MemoCommentVersion> findMemoCommentVersion(String schemaId);
+
+}
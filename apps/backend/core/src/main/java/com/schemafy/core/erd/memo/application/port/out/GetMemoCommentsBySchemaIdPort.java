@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.memo.application.port.out;
+
+import com.schemafy.core.erd.memo.domain.MemoComment;
+
+import reactor.core.publisher.Flux;
+
+public interface GetMemoCommentsBySchemaIdPort {
+
+  Flux<MemoComment> findMemoCommentsBySchemaId(String schemaId);
+
+}
@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.memo.application.port.out;
+
+import com.schemafy.core.erd.memo.domain.MemoLayoutVersion;
+
+import reactor.core.publisher.Mono;
+
+public interface GetMemoLayoutVersionPort {
+
+  Mono<MemoLayoutVersion> findMemoLayoutVersion(String schemaId);
+
+}
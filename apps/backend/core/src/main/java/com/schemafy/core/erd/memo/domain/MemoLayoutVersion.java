@@ -0,0 +1,8 @@
+package com.schemafy.core.erd.memo.domain;
+
+import java.time.Instant;
+
+public record MemoLayoutVersion(
+    long memoCount,
+    Instant lastUpdatedAt) {
+}
@@ -0,0 +1,174 @@
+package com.schemafy.core.erd.operation;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Meters of the ERD mutation pipeline, from the schema state row lock to the
+ * WebSocket delivery of the resulting {@code ERD_MUTATED} event. Schemas are
+ * tagged by a revision tier rather than by id to keep the tag cardinality
+ * bounded.
+ */
+@Component
+public class ErdMutationMetrics {
+
+  static final String MUTATION = "erd.mutation";
+  static final String LOCK_WAIT = "erd.mutation.lock.wait";
+  static final String LOCK_HOLD = "erd.mutation.lock.hold";
+  static final String BODY = "erd.mutation.body";
+  static final String OPERATION_LOG_APPEND = "erd.mutation.oplog.append";
+  static final String BROADCAST = "erd.mutation.broadcast";
+  static final String DELIVERY = "erd.mutation.delivery";
+  static final String STALE_DERIVED = "erd.mutation.stale.derived";
+  static final String OPTIMISTIC_RETRY = "erd.mutation.optimistic.retry";
+
+  static final long MEDIUM_TIER_REVISION = 1_000L;
+  static final long LARGE_TIER_REVISION = 100_000L;
+
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public ErdMutationMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+    this(meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public ErdMutationMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public MutationSample start(ErdOperationType operationType) {
+    return new MutationSample(operationType);
+  }
+
+  public <T> Mono<T> timeBody(ErdOperationType operationType, Mono<T> body) {
+    return time(BODY, operationType.name(), body);
+  }
+
+  public <T> Mono<T> timeOperationLogAppend(ErdOperationType operationType, Mono<T> append) {
+    return time(OPERATION_LOG_APPEND, operationType.name(), append);
+  }
+
+  public <T> Mono<T> timeBroadcast(ErdOperationDerivationKind derivationKind, Mono<T> publish) {
+    return Mono.defer(() -> {
+      long startedAt = System.nanoTime();
+      return publish.doFinally(signal -> timer(BROADCAST, "derivation", tagOf(derivationKind))
+          .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+    });
+  }
+
+  /**
+   * Records the commit-to-delivered latency of an {@code ERD_MUTATED} event.
+   * Uses wall-clock time because the event may have been committed on another
+   * instance.
+   */
+  public void recordDelivery(Long committedAtEpochMillis) {
+    if (committedAtEpochMillis == null) {
+      return;
+    }
+    long elapsed = Math.max(0L, System.currentTimeMillis() - committedAtEpochMillis);
+    timer(DELIVERY).record(Duration.ofMillis(elapsed));
+  }
+
+  public void recordStaleDerived(ErdOperationDerivationKind derivationKind) {
+    Counter.builder(STALE_DERIVED)
+        .tag("derivation", tagOf(derivationKind))
+        .register(meterRegistry)
+        .increment();
+  }
+
+  public void recordOptimisticRetry(ErdOperationType operationType) {
+    Counter.builder(OPTIMISTIC_RETRY)
+        .tag("operation", operationType.name())
+        .register(meterRegistry)
+        .increment();
+  }
+
+  static String tierOf(long revision) {
+    if (revision >= LARGE_TIER_REVISION) {
+      return "large";
+    }
+    return revision >= MEDIUM_TIER_REVISION ? "medium" : "small";
+  }
+
+  private <T> Mono<T> time(String name, String operation, Mono<T> source) {
+    return Mono.defer(() -> {
+      long startedAt = System.nanoTime();
+      return source.doFinally(signal -> timer(name, "operation", operation)
+          .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+    });
+  }
+
+  private Timer timer(String name, String... tags) {
+    return Timer.builder(name)
+        .tags(tags)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private static String tagOf(ErdOperationDerivationKind derivationKind) {
+    return derivationKind == null ? "none" : derivationKind.name();
+  }
+
+  /**
+   * Timing state of one top-level mutation. The lock is held from the moment
+   * the schema state row is returned until the surrounding transaction ends.
+   */
+  public final class MutationSample {
+
+    private final ErdOperationType operationType;
+    private final long startedAt = System.nanoTime();
+    private volatile long lockRequestedAt;
+    private volatile long lockAcquiredAt;
+    private volatile String tier = "none";
+
+    private MutationSample(ErdOperationType operationType) {
+      this.operationType = operationType;
+    }
+
+    public void lockRequested() {
+      lockRequestedAt = System.nanoTime();
+    }
+
+    public void lockAcquired(SchemaCollaborationState state) {
+      lockAcquiredAt = System.nanoTime();
+      tier = tierOf(state.currentRevision());
+      timer(LOCK_WAIT, "operation", operationType.name(), "tier", tier)
+          .record(lockAcquiredAt - lockRequestedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void finish(SignalType signal) {
+      long finishedAt = System.nanoTime();
+      if (lockAcquiredAt != 0L) {
+        timer(LOCK_HOLD, "operation", operationType.name(), "tier", tier)
+            .record(finishedAt - lockAcquiredAt, TimeUnit.NANOSECONDS);
+      }
+      timer(MUTATION, "operation", operationType.name(), "outcome", outcomeOf(signal))
+          .record(finishedAt - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private String outcomeOf(SignalType signal) {
+      return switch (signal) {
+        case ON_ERROR -> "error";
+        case CANCEL -> "cancelled";
+        default -> "success";
+      };
+    }
+
+  }
+
+}
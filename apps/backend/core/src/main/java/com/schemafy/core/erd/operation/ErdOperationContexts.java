@@ -12,6 +12,7 @@ public final class ErdOperationContexts {
 
   private static final Object METADATA_CONTEXT_KEY = new Object();
   private static final Object SUPPRESS_NESTED_MUTATION_CONTEXT_KEY = new Object();
+  private static final Object FORWARDED_FROM_PEER_CONTEXT_KEY = new Object();
 
   private ErdOperationContexts() {}
 
@@ -54,6 +55,15 @@ public final class ErdOperationContexts {
     return typedValue instanceof Boolean suppressed && suppressed;
   }
 
+  public static Function<Context, Context> forwardedFromPeer() {
+    return context -> context.put(FORWARDED_FROM_PEER_CONTEXT_KEY, true);
+  }
+
+  public static boolean isForwardedFromPeer(ContextView contextView) {
+    Object typedValue = contextView.getOrDefault(FORWARDED_FROM_PEER_CONTEXT_KEY, null);
+    return typedValue instanceof Boolean forwarded && forwarded;
+  }
+
   private static Function<Context, Context> updateMetadata(
       UnaryOperator<ErdOperationMetadata> updater) {
     return context -> context.put(METADATA_CONTEXT_KEY, updater.apply(metadata(context)));
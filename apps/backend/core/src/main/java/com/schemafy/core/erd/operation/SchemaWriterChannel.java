@@ -0,0 +1,22 @@
+package com.schemafy.core.erd.operation;
+
+public final class SchemaWriterChannel {
+
+  private static final String REQUEST_PREFIX = "erd-writer:requests:";
+  private static final String REPLY_PREFIX = "erd-writer:replies:";
+
+  private SchemaWriterChannel() {}
+
+  public static String requestsFor(String nodeId) {
+    return REQUEST_PREFIX + nodeId;
+  }
+
+  public static String repliesFor(String nodeId) {
+    return REPLY_PREFIX + nodeId;
+  }
+
+  public static boolean isReplyChannel(String channel) {
+    return channel != null && channel.startsWith(REPLY_PREFIX);
+  }
+
+}
@@ -0,0 +1,24 @@
+package com.schemafy.core.erd.operation;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/** Identity of this process in the schema writer lease. Defaults to a random id per start, so a restarted node
+ * never inherits the leases of its previous run. */
+@Component
+public class SchemaWriterNode {
+
+  private final String id;
+
+  public SchemaWriterNode(@Value("${erd.writer.node-id:}") String id) {
+    this.id = StringUtils.hasText(id) ? id : UUID.randomUUID().toString();
+  }
+
+  public String id() {
+    return id;
+  }
+
+}
@@ -0,0 +1,21 @@
+package com.schemafy.core.erd.operation.adapter.out.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.erd.operation.application.port.out.SchemaWriterLeasePort;
+
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalSchemaWriterLeaseAdapter implements SchemaWriterLeasePort {
+
+  @Override
+  public Mono<String> acquireOrFindOwner(String schemaId, String nodeId, Duration ttl) {
+    return Mono.just(nodeId);
+  }
+
+}
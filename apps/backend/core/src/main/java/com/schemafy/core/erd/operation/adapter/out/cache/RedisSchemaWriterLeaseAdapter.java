@@ -0,0 +1,33 @@
+package com.schemafy.core.erd.operation.adapter.out.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
+import com.schemafy.core.erd.operation.application.port.out.SchemaWriterLeasePort;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnRedisEnabled
+@RequiredArgsConstructor
+public class RedisSchemaWriterLeaseAdapter implements SchemaWriterLeasePort {
+
+  static final String KEY_PREFIX = "erd:schema-writer:";
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+
+  @Override
+  public Mono<String> acquireOrFindOwner(String schemaId, String nodeId, Duration ttl) {
+    return redisTemplate.execute(
+        SchemaWriterLeaseRedisScripts.ACQUIRE_OR_FIND_OWNER,
+        List.of(KEY_PREFIX + schemaId),
+        List.of(nodeId, Long.toString(ttl.toMillis())))
+        .next();
+  }
+
+}
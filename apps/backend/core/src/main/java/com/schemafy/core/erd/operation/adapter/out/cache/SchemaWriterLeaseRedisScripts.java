@@ -0,0 +1,21 @@
+package com.schemafy.core.erd.operation.adapter.out.cache;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+final class SchemaWriterLeaseRedisScripts {
+
+  static final RedisScript<String> ACQUIRE_OR_FIND_OWNER = RedisScript.of("""
+      local owner = redis.call('GET', KEYS[1])
+      if not owner then
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+        return ARGV[1]
+      end
+      if owner == ARGV[1] then
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      end
+      return owner
+      """, String.class);
+
+  private SchemaWriterLeaseRedisScripts() {}
+
+}
@@ -1,5 +1,6 @@
 package com.schemafy.core.erd.operation.adapter.out.persistence;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import reactor.core.publisher.Flux;
@@ -8,4 +9,22 @@ interface ErdOperationLogRepository extends ReactiveCrudRepository<ErdOperationL
 
   Flux<ErdOperationLogEntity> findAllBySchemaIdOrderByCommittedRevisionAsc(String schemaId);
 
+  @Query("""
+      SELECT *
+      FROM erd_operation_log
+      WHERE schema_id = :schemaId
+        AND committed_revision > :committedRevision
+      ORDER BY committed_revision ASC
+      LIMIT :limit
+      """)
+  Flux<ErdOperationLogEntity> findBySchemaIdAfterRevisionLimit(
+      String schemaId,
+      long committedRevision,
+      int limit);
+
+  Flux<ErdOperationLogEntity> findAllBySchemaIdAndCommittedRevisionBetweenOrderByCommittedRevisionDesc(
+      String schemaId,
+      long fromRevision,
+      long toRevision);
+
 }
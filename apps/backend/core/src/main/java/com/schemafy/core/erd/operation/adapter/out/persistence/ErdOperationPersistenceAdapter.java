@@ -6,7 +6,9 @@ import com.schemafy.core.common.PersistenceAdapter;
 import com.schemafy.core.erd.operation.application.port.out.AppendErdOperationLogPort;
 import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
 import com.schemafy.core.erd.operation.application.port.out.GetErdOperationByIdPort;
+import com.schemafy.core.erd.operation.application.port.out.GetErdOperationsAfterRevisionPort;
 import com.schemafy.core.erd.operation.application.port.out.GetErdOperationsBySchemaIdPort;
+import com.schemafy.core.erd.operation.application.port.out.GetErdOperationsInRevisionRangePort;
 import com.schemafy.core.erd.operation.application.port.out.IncrementSchemaCollaborationRevisionPort;
 import com.schemafy.core.erd.operation.application.port.out.SaveSchemaCollaborationStatePort;
 import com.schemafy.core.erd.operation.domain.ErdOperationLog;
@@ -21,6 +23,8 @@ class ErdOperationPersistenceAdapter implements
     FindSchemaCollaborationStatePort,
     GetErdOperationByIdPort,
     GetErdOperationsBySchemaIdPort,
+    GetErdOperationsAfterRevisionPort,
+    GetErdOperationsInRevisionRangePort,
     IncrementSchemaCollaborationRevisionPort,
     SaveSchemaCollaborationStatePort,
     AppendErdOperationLogPort {
@@ -63,6 +67,34 @@ class ErdOperationPersistenceAdapter implements
         .collectList();
   }
 
+  @Override
+  public Mono<List<ErdOperationLog>> findOperationsBySchemaIdAfterRevision(
+      String schemaId,
+      long revision,
+      int limit) {
+    return erdOperationLogRepository
+        .findBySchemaIdAfterRevisionLimit(schemaId, revision, limit)
+        .map(erdOperationLogMapper::toDomain)
+        .collectList();
+  }
+
+  @Override
+  public Mono<List<ErdOperationLog>> findOperationsBySchemaIdInRevisionRangeDesc(
+      String schemaId,
+      long afterRevision,
+      long toRevision) {
+    if (toRevision <= afterRevision) {
+      return Mono.just(List.of());
+    }
+    return erdOperationLogRepository
+        .findAllBySchemaIdAndCommittedRevisionBetweenOrderByCommittedRevisionDesc(
+            schemaId,
+            afterRevision + 1,
+            toRevision)
+        .map(erdOperationLogMapper::toDomain)
+        .collectList();
+  }
+
   @Override
   public Mono<SchemaCollaborationState> increment(String schemaId) {
     return schemaCollaborationStateRepository.incrementRevision(schemaId)
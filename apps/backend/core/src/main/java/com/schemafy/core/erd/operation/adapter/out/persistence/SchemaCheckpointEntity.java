@@ -0,0 +1,55 @@
+package com.schemafy.core.erd.operation.adapter.out.persistence;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table("erd_schema_checkpoint")
+public class SchemaCheckpointEntity implements Persistable<String> {
+
+  @Id
+  @Column("checkpoint_id")
+  private String checkpointId;
+
+  @Column("schema_id")
+  private String schemaId;
+
+  @Column("revision")
+  private Long revision;
+
+  @Column("snapshot_json")
+  private String snapshotJson;
+
+  @CreatedDate
+  private Instant createdAt;
+
+  SchemaCheckpointEntity(
+      String checkpointId,
+      String schemaId,
+      Long revision,
+      String snapshotJson) {
+    this.checkpointId = checkpointId;
+    this.schemaId = schemaId;
+    this.revision = revision;
+    this.snapshotJson = snapshotJson;
+  }
+
+  @Override
+  public String getId() { return checkpointId; }
+
+  @Override
+  public boolean isNew() { return createdAt == null; }
+
+}
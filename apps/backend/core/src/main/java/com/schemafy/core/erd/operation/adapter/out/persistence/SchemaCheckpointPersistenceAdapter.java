@@ -0,0 +1,53 @@
+package com.schemafy.core.erd.operation.adapter.out.persistence;
+
+import com.schemafy.core.common.PersistenceAdapter;
+import com.schemafy.core.erd.operation.application.port.out.AppendSchemaCheckpointPort;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCheckpointPort;
+import com.schemafy.core.erd.operation.application.port.out.PruneSchemaCheckpointsPort;
+import com.schemafy.core.erd.operation.domain.SchemaCheckpoint;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@PersistenceAdapter
+@RequiredArgsConstructor
+class SchemaCheckpointPersistenceAdapter implements
+    AppendSchemaCheckpointPort,
+    FindSchemaCheckpointPort,
+    PruneSchemaCheckpointsPort {
+
+  private final SchemaCheckpointRepository schemaCheckpointRepository;
+
+  @Override
+  public Mono<SchemaCheckpoint> append(SchemaCheckpoint schemaCheckpoint) {
+    return schemaCheckpointRepository.save(new SchemaCheckpointEntity(
+        schemaCheckpoint.checkpointId(),
+        schemaCheckpoint.schemaId(),
+        schemaCheckpoint.revision(),
+        schemaCheckpoint.snapshotJson()))
+        .map(this::toDomain);
+  }
+
+  @Override
+  public Mono<SchemaCheckpoint> findEarliestAtOrAfterRevision(String schemaId, long revision) {
+    return schemaCheckpointRepository
+        .findFirstBySchemaIdAndRevisionGreaterThanEqualOrderByRevisionAsc(schemaId, revision)
+        .map(this::toDomain);
+  }
+
+  @Override
+  public Mono<Long> deleteAllButLatest(String schemaId, int keep) {
+    return schemaCheckpointRepository.findRevisionAtOffsetFromLatest(schemaId, keep)
+        .flatMap(revision -> schemaCheckpointRepository.deleteBySchemaIdUpToRevision(schemaId, revision))
+        .defaultIfEmpty(0L);
+  }
+
+  private SchemaCheckpoint toDomain(SchemaCheckpointEntity entity) {
+    return new SchemaCheckpoint(
+        entity.getCheckpointId(),
+        entity.getSchemaId(),
+        entity.getRevision(),
+        entity.getSnapshotJson());
+  }
+
+}
@@ -0,0 +1,32 @@
+package com.schemafy.core.erd.operation.adapter.out.persistence;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import reactor.core.publisher.Mono;
+
+interface SchemaCheckpointRepository extends ReactiveCrudRepository<SchemaCheckpointEntity, String> {
+
+  Mono<SchemaCheckpointEntity> findFirstBySchemaIdAndRevisionGreaterThanEqualOrderByRevisionAsc(
+      String schemaId,
+      long revision);
+
+  @Query("""
+      SELECT revision
+      FROM erd_schema_checkpoint
+      WHERE schema_id = :schemaId
+      ORDER BY revision DESC
+      LIMIT 1 OFFSET :offset
+      """)
+  Mono<Long> findRevisionAtOffsetFromLatest(String schemaId, int offset);
+
+  @Modifying
+  @Query("""
+      DELETE FROM erd_schema_checkpoint
+      WHERE schema_id = :schemaId
+        AND revision <= :revision
+      """)
+  Mono<Long> deleteBySchemaIdUpToRevision(String schemaId, long revision);
+
+}
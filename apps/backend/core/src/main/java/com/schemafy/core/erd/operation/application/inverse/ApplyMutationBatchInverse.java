@@ -0,0 +1,20 @@
+package com.schemafy.core.erd.operation.application.inverse;
+
+import java.util.List;
+
+public record ApplyMutationBatchInverse(
+    String schemaId,
+    StructuralSnapshot beforeSnapshot,
+    StructuralSnapshot afterSnapshot,
+    List<String> affectedTableIds) implements InversePayload, StructuralOperationInverse {
+
+  public ApplyMutationBatchInverse {
+    affectedTableIds = List.copyOf(affectedTableIds == null ? List.of() : affectedTableIds);
+  }
+
+  @Override
+  public String touchedEntityId() {
+    return schemaId;
+  }
+
+}
@@ -40,7 +40,8 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
   @JsonSubTypes.Type(value = ChangeRelationshipKindInverse.class, name = "CHANGE_RELATIONSHIP_KIND"),
   @JsonSubTypes.Type(value = DeleteRelationshipInverse.class, name = "DELETE_RELATIONSHIP"),
   @JsonSubTypes.Type(value = AddRelationshipColumnInverse.class, name = "ADD_RELATIONSHIP_COLUMN"),
-  @JsonSubTypes.Type(value = RemoveRelationshipColumnInverse.class, name = "REMOVE_RELATIONSHIP_COLUMN")
+  @JsonSubTypes.Type(value = RemoveRelationshipColumnInverse.class, name = "REMOVE_RELATIONSHIP_COLUMN"),
+  @JsonSubTypes.Type(value = ApplyMutationBatchInverse.class, name = "APPLY_MUTATION_BATCH")
 })
 public sealed interface InversePayload permits
     ChangeTableNameInverse,
@@ -78,6 +79,7 @@ public sealed interface InversePayload permits
     ChangeRelationshipKindInverse,
     DeleteRelationshipInverse,
     AddRelationshipColumnInverse,
-    RemoveRelationshipColumnInverse {
+    RemoveRelationshipColumnInverse,
+    ApplyMutationBatchInverse {
 
 }
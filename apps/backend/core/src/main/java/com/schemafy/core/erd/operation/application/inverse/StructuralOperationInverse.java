@@ -19,7 +19,8 @@ public sealed interface StructuralOperationInverse permits
     ChangeRelationshipKindInverse,
     DeleteRelationshipInverse,
     AddRelationshipColumnInverse,
-    RemoveRelationshipColumnInverse {
+    RemoveRelationshipColumnInverse,
+    ApplyMutationBatchInverse {
 
   String schemaId();
 
@@ -0,0 +1,356 @@
+package com.schemafy.core.erd.operation.application.inverse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import com.schemafy.core.erd.column.domain.ColumnTypeArguments;
+import com.schemafy.core.erd.operation.application.inverse.ChangeColumnMetaInverse.FkColumnMetaRevert;
+import com.schemafy.core.erd.operation.application.inverse.ChangeColumnTypeInverse.FkColumnTypeRevert;
+import com.schemafy.core.erd.operation.application.inverse.ChangeTableNameInverse.ConstraintRename;
+import com.schemafy.core.erd.operation.application.inverse.ChangeTableNameInverse.RelationshipRename;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ConstraintColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ConstraintSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.IndexColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.IndexSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.RelationshipColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.RelationshipSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.TableSnapshot;
+
+/** Applies an operation's inverse to an in-memory snapshot, mirroring what the undo handlers
+ * write to the database, so a past revision can be rebuilt without touching live rows. */
+public final class StructuralSnapshotRewinder {
+
+  private StructuralSnapshotRewinder() {}
+
+  public static StructuralSnapshot rewind(StructuralSnapshot snapshot, InversePayload inverse) {
+    if (inverse instanceof StructuralOperationInverse structural) {
+      return structural.beforeSnapshot();
+    }
+    if (inverse instanceof ChangeTableNameInverse tableName) {
+      return rewindTableName(snapshot, tableName);
+    }
+    if (inverse instanceof ChangeTableMetaInverse tableMeta) {
+      return withTables(snapshot, update(snapshot.tables(), TableSnapshot::id, tableMeta.tableId(),
+          table -> new TableSnapshot(table.id(), table.schemaId(), table.name(),
+              metaValue(tableMeta.oldCharset(), table.charset()),
+              metaValue(tableMeta.oldCollation(), table.collation()),
+              table.extra())));
+    }
+    if (inverse instanceof ChangeTableExtraInverse tableExtra) {
+      return withTables(snapshot, update(snapshot.tables(), TableSnapshot::id, tableExtra.tableId(),
+          table -> new TableSnapshot(table.id(), table.schemaId(), table.name(), table.charset(),
+              table.collation(), blankToNull(tableExtra.oldExtra()))));
+    }
+    if (inverse instanceof ChangeColumnNameInverse columnName) {
+      return withColumns(snapshot, update(snapshot.columns(), ColumnSnapshot::id, columnName.columnId(),
+          column -> new ColumnSnapshot(column.id(), column.tableId(), columnName.oldName(), column.dataType(),
+              column.typeArguments(), column.seqNo(), column.autoIncrement(), column.charset(),
+              column.collation(), column.comment())));
+    }
+    if (inverse instanceof ChangeColumnTypeInverse columnType) {
+      return rewindColumnType(snapshot, columnType);
+    }
+    if (inverse instanceof ChangeColumnMetaInverse columnMeta) {
+      return rewindColumnMeta(snapshot, columnMeta);
+    }
+    if (inverse instanceof ChangeColumnPositionInverse columnPosition) {
+      ColumnSnapshot moved = find(snapshot.columns(), ColumnSnapshot::id, columnPosition.columnId());
+      return withColumns(snapshot, restorePositions(
+          snapshot.columns(),
+          column -> column.tableId().equals(moved.tableId()),
+          ColumnSnapshot::id,
+          columnPosition.positions(),
+          (column, seqNo) -> new ColumnSnapshot(column.id(), column.tableId(), column.name(), column.dataType(),
+              column.typeArguments(), seqNo, column.autoIncrement(), column.charset(), column.collation(),
+              column.comment())));
+    }
+    if (inverse instanceof ChangeConstraintNameInverse constraintName) {
+      return withConstraints(snapshot, renameConstraint(
+          snapshot.constraints(), constraintName.constraintId(), constraintName.oldName()));
+    }
+    if (inverse instanceof ChangeConstraintCheckExprInverse checkExpr) {
+      return withConstraints(snapshot, update(snapshot.constraints(), ConstraintSnapshot::id,
+          checkExpr.constraintId(),
+          constraint -> new ConstraintSnapshot(constraint.id(), constraint.tableId(), constraint.name(),
+              constraint.kind(), checkExpr.oldCheckExpr(), constraint.defaultExpr())));
+    }
+    if (inverse instanceof ChangeConstraintDefaultExprInverse defaultExpr) {
+      return withConstraints(snapshot, update(snapshot.constraints(), ConstraintSnapshot::id,
+          defaultExpr.constraintId(),
+          constraint -> new ConstraintSnapshot(constraint.id(), constraint.tableId(), constraint.name(),
+              constraint.kind(), constraint.checkExpr(), defaultExpr.oldDefaultExpr())));
+    }
+    if (inverse instanceof ChangeConstraintColumnPositionInverse columnPosition) {
+      ConstraintColumnSnapshot moved = find(snapshot.constraintColumns(), ConstraintColumnSnapshot::id,
+          columnPosition.constraintColumnId());
+      return withConstraintColumns(snapshot, restorePositions(
+          snapshot.constraintColumns(),
+          column -> column.constraintId().equals(moved.constraintId()),
+          ConstraintColumnSnapshot::id,
+          columnPosition.positions(),
+          (column, seqNo) -> new ConstraintColumnSnapshot(
+              column.id(), column.constraintId(), column.columnId(), seqNo)));
+    }
+    if (inverse instanceof ChangeIndexNameInverse indexName) {
+      return withIndexes(snapshot, update(snapshot.indexes(), IndexSnapshot::id, indexName.indexId(),
+          index -> new IndexSnapshot(index.id(), index.tableId(), indexName.oldName(), index.type())));
+    }
+    if (inverse instanceof ChangeIndexTypeInverse indexType) {
+      return withIndexes(snapshot, update(snapshot.indexes(), IndexSnapshot::id, indexType.indexId(),
+          index -> new IndexSnapshot(index.id(), index.tableId(), index.name(), indexType.oldType())));
+    }
+    if (inverse instanceof ChangeIndexColumnPositionInverse columnPosition) {
+      IndexColumnSnapshot moved = find(snapshot.indexColumns(), IndexColumnSnapshot::id,
+          columnPosition.indexColumnId());
+      return withIndexColumns(snapshot, restorePositions(
+          snapshot.indexColumns(),
+          column -> column.indexId().equals(moved.indexId()),
+          IndexColumnSnapshot::id,
+          columnPosition.positions(),
+          (column, seqNo) -> new IndexColumnSnapshot(
+              column.id(), column.indexId(), column.columnId(), seqNo, column.sortDirection())));
+    }
+    if (inverse instanceof ChangeIndexColumnSortDirectionInverse sortDirection) {
+      return withIndexColumns(snapshot, update(snapshot.indexColumns(), IndexColumnSnapshot::id,
+          sortDirection.indexColumnId(),
+          column -> new IndexColumnSnapshot(column.id(), column.indexId(), column.columnId(), column.seqNo(),
+              sortDirection.oldSortDirection())));
+    }
+    if (inverse instanceof ChangeRelationshipNameInverse relationshipName) {
+      return withRelationships(snapshot, renameRelationship(
+          snapshot.relationships(), relationshipName.relationshipId(), relationshipName.oldName()));
+    }
+    if (inverse instanceof ChangeRelationshipCardinalityInverse cardinality) {
+      return withRelationships(snapshot, update(snapshot.relationships(), RelationshipSnapshot::id,
+          cardinality.relationshipId(),
+          relationship -> new RelationshipSnapshot(relationship.id(), relationship.pkTableId(),
+              relationship.fkTableId(), relationship.name(), relationship.kind(),
+              cardinality.oldCardinality(), relationship.extra())));
+    }
+    if (inverse instanceof ChangeRelationshipExtraInverse relationshipExtra) {
+      return withRelationships(snapshot, update(snapshot.relationships(), RelationshipSnapshot::id,
+          relationshipExtra.relationshipId(),
+          relationship -> new RelationshipSnapshot(relationship.id(), relationship.pkTableId(),
+              relationship.fkTableId(), relationship.name(), relationship.kind(),
+              relationship.cardinality(), relationshipExtra.oldExtra())));
+    }
+    if (inverse instanceof ChangeRelationshipColumnPositionInverse columnPosition) {
+      RelationshipColumnSnapshot moved = find(snapshot.relationshipColumns(), RelationshipColumnSnapshot::id,
+          columnPosition.relationshipColumnId());
+      return withRelationshipColumns(snapshot, restorePositions(
+          snapshot.relationshipColumns(),
+          column -> column.relationshipId().equals(moved.relationshipId()),
+          RelationshipColumnSnapshot::id,
+          columnPosition.positions(),
+          (column, seqNo) -> new RelationshipColumnSnapshot(
+              column.id(), column.relationshipId(), column.pkColumnId(), column.fkColumnId(), seqNo)));
+    }
+    throw new IllegalArgumentException("Unsupported inverse payload: " + inverse.getClass().getName());
+  }
+
+  public static StructuralSnapshot empty(String schemaId) {
+    return new StructuralSnapshot(schemaId, null, null, null, null, null, null, null, null);
+  }
+
+  private static StructuralSnapshot rewindTableName(StructuralSnapshot snapshot, ChangeTableNameInverse inverse) {
+    List<TableSnapshot> tables = update(snapshot.tables(), TableSnapshot::id, inverse.tableId(),
+        table -> new TableSnapshot(table.id(), table.schemaId(), inverse.oldName(), table.charset(),
+            table.collation(), table.extra()));
+    List<ConstraintSnapshot> constraints = snapshot.constraints();
+    for (ConstraintRename rename : inverse.constraintRenames()) {
+      constraints = renameConstraint(constraints, rename.constraintId(), rename.oldName());
+    }
+    List<RelationshipSnapshot> relationships = snapshot.relationships();
+    for (RelationshipRename rename : inverse.relationshipRenames()) {
+      relationships = renameRelationship(relationships, rename.relationshipId(), rename.oldName());
+    }
+    return new StructuralSnapshot(snapshot.schemaId(), tables, snapshot.columns(), constraints,
+        snapshot.constraintColumns(), snapshot.indexes(), snapshot.indexColumns(), relationships,
+        snapshot.relationshipColumns());
+  }
+
+  private static StructuralSnapshot rewindColumnType(StructuralSnapshot snapshot, ChangeColumnTypeInverse inverse) {
+    List<ColumnSnapshot> columns = update(snapshot.columns(), ColumnSnapshot::id, inverse.columnId(),
+        column -> withType(column, inverse.oldDataType(), inverse.oldTypeArguments(), inverse.oldCharset(),
+            inverse.oldCollation()));
+    for (FkColumnTypeRevert revert : inverse.fkRevertList()) {
+      columns = update(columns, ColumnSnapshot::id, revert.columnId(),
+          column -> withType(column, revert.oldDataType(), revert.oldTypeArguments(), revert.oldCharset(),
+              revert.oldCollation()));
+    }
+    return withColumns(snapshot, columns);
+  }
+
+  private static ColumnSnapshot withType(
+      ColumnSnapshot column,
+      String dataType,
+      ColumnTypeArguments typeArguments,
+      String charset,
+      String collation) {
+    return new ColumnSnapshot(column.id(), column.tableId(), column.name(), dataType, typeArguments,
+        column.seqNo(), column.autoIncrement(), blankToNull(charset), blankToNull(collation), column.comment());
+  }
+
+  private static StructuralSnapshot rewindColumnMeta(StructuralSnapshot snapshot, ChangeColumnMetaInverse inverse) {
+    List<ColumnSnapshot> columns = update(snapshot.columns(), ColumnSnapshot::id, inverse.columnId(),
+        column -> new ColumnSnapshot(column.id(), column.tableId(), column.name(), column.dataType(),
+            column.typeArguments(), column.seqNo(),
+            inverse.oldAutoIncrement() == null ? column.autoIncrement() : inverse.oldAutoIncrement(),
+            metaValue(inverse.oldCharset(), column.charset()),
+            metaValue(inverse.oldCollation(), column.collation()),
+            metaValue(inverse.oldComment(), column.comment())));
+    for (FkColumnMetaRevert revert : inverse.fkRevertList()) {
+      columns = update(columns, ColumnSnapshot::id, revert.columnId(),
+          column -> new ColumnSnapshot(column.id(), column.tableId(), column.name(), column.dataType(),
+              column.typeArguments(), column.seqNo(), column.autoIncrement(),
+              metaValue(revert.oldCharset(), column.charset()),
+              metaValue(revert.oldCollation(), column.collation()),
+              column.comment()));
+    }
+    return withColumns(snapshot, columns);
+  }
+
+  private static List<ConstraintSnapshot> renameConstraint(
+      List<ConstraintSnapshot> constraints,
+      String constraintId,
+      String oldName) {
+    return update(constraints, ConstraintSnapshot::id, constraintId,
+        constraint -> new ConstraintSnapshot(constraint.id(), constraint.tableId(), oldName, constraint.kind(),
+            constraint.checkExpr(), constraint.defaultExpr()));
+  }
+
+  private static List<RelationshipSnapshot> renameRelationship(
+      List<RelationshipSnapshot> relationships,
+      String relationshipId,
+      String oldName) {
+    return update(relationships, RelationshipSnapshot::id, relationshipId,
+        relationship -> new RelationshipSnapshot(relationship.id(), relationship.pkTableId(),
+            relationship.fkTableId(), oldName, relationship.kind(), relationship.cardinality(),
+            relationship.extra()));
+  }
+
+  // Same convention as the persistence adapters: null keeps the value, blank clears it.
+  private static String metaValue(String oldValue, String currentValue) {
+    if (oldValue == null) {
+      return currentValue;
+    }
+    return blankToNull(oldValue);
+  }
+
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+
+  private static <T> T find(List<T> items, Function<T, String> idExtractor, String id) {
+    return items.stream()
+        .filter(item -> idExtractor.apply(item).equals(id))
+        .findFirst()
+        .orElseThrow(() -> missingEntity(id));
+  }
+
+  private static <T> List<T> update(
+      List<T> items,
+      Function<T, String> idExtractor,
+      String id,
+      UnaryOperator<T> change) {
+    List<T> updated = new ArrayList<>(items.size());
+    boolean found = false;
+    for (T item : items) {
+      if (idExtractor.apply(item).equals(id)) {
+        updated.add(change.apply(item));
+        found = true;
+      } else {
+        updated.add(item);
+      }
+    }
+    if (!found) {
+      throw missingEntity(id);
+    }
+    return updated;
+  }
+
+  private static <T> List<T> restorePositions(
+      List<T> items,
+      Predicate<T> sibling,
+      Function<T, String> idExtractor,
+      List<ReorderPosition> positions,
+      BiFunction<T, Integer, T> withSeqNo) {
+    List<T> siblings = items.stream().filter(sibling).toList();
+    Map<String, T> restoredById = new HashMap<>();
+    ReorderPositions.restore(siblings, idExtractor, positions, withSeqNo)
+        .forEach(restored -> restoredById.put(idExtractor.apply(restored), restored));
+    return items.stream()
+        .map(item -> restoredById.getOrDefault(idExtractor.apply(item), item))
+        .toList();
+  }
+
+  private static StructuralSnapshot withTables(StructuralSnapshot snapshot, List<TableSnapshot> tables) {
+    return new StructuralSnapshot(snapshot.schemaId(), tables, snapshot.columns(), snapshot.constraints(),
+        snapshot.constraintColumns(), snapshot.indexes(), snapshot.indexColumns(), snapshot.relationships(),
+        snapshot.relationshipColumns());
+  }
+
+  private static StructuralSnapshot withColumns(StructuralSnapshot snapshot, List<ColumnSnapshot> columns) {
+    return new StructuralSnapshot(snapshot.schemaId(), snapshot.tables(), columns, snapshot.constraints(),
+        snapshot.constraintColumns(), snapshot.indexes(), snapshot.indexColumns(), snapshot.relationships(),
+        snapshot.relationshipColumns());
+  }
+
+  private static StructuralSnapshot withConstraints(
+      StructuralSnapshot snapshot,
+      List<ConstraintSnapshot> constraints) {
+    return new StructuralSnapshot(snapshot.schemaId(), snapshot.tables(), snapshot.columns(), constraints,
+        snapshot.constraintColumns(), snapshot.indexes(), snapshot.indexColumns(), snapshot.relationships(),
+        snapshot.relationshipColumns());
+  }
+
+  private static StructuralSnapshot withConstraintColumns(
+      StructuralSnapshot snapshot,
+      List<ConstraintColumnSnapshot> constraintColumns) {
+    return new StructuralSnapshot(snapshot.schemaId(), snapshot.tables(), snapshot.columns(),
+        snapshot.constraints(), constraintColumns, snapshot.indexes(), snapshot.indexColumns(),
+        snapshot.relationships(), snapshot.relationshipColumns());
+  }
+
+  private static StructuralSnapshot withIndexes(StructuralSnapshot snapshot, List<IndexSnapshot> indexes) {
+    return new StructuralSnapshot(snapshot.schemaId(), snapshot.tables(), snapshot.columns(),
+        snapshot.constraints(), snapshot.constraintColumns(), indexes, snapshot.indexColumns(),
+        snapshot.relationships(), snapshot.relationshipColumns());
+  }
+
+  private static StructuralSnapshot withIndexColumns(
+      StructuralSnapshot snapshot,
+      List<IndexColumnSnapshot> indexColumns) {
+    return new StructuralSnapshot(snapshot.schemaId(), snapshot.tables(), snapshot.columns(),
+        snapshot.constraints(), snapshot.constraintColumns(), snapshot.indexes(), indexColumns,
+        snapshot.relationships(), snapshot.relationshipColumns());
+  }
+
+  private static StructuralSnapshot withRelationships(
+      StructuralSnapshot snapshot,
+      List<RelationshipSnapshot> relationships) {
+    return new StructuralSnapshot(snapshot.schemaId(), snapshot.tables(), snapshot.columns(),
+        snapshot.constraints(), snapshot.constraintColumns(), snapshot.indexes(), snapshot.indexColumns(),
+        relationships, snapshot.relationshipColumns());
+  }
+
+  private static StructuralSnapshot withRelationshipColumns(
+      StructuralSnapshot snapshot,
+      List<RelationshipColumnSnapshot> relationshipColumns) {
+    return new StructuralSnapshot(snapshot.schemaId(), snapshot.tables(), snapshot.columns(),
+        snapshot.constraints(), snapshot.constraintColumns(), snapshot.indexes(), snapshot.indexColumns(),
+        snapshot.relationships(), relationshipColumns);
+  }
+
+  private static IllegalStateException missingEntity(String id) {
+    return new IllegalStateException("Snapshot does not contain entity: " + id);
+  }
+
+}
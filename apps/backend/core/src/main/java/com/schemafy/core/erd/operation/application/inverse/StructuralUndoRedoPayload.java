@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.operation.application.inverse;
+
+/** Logged payload of a structural undo/redo. The snapshots stay on the root operation only. */
+public record StructuralUndoRedoPayload(
+    String schemaId,
+    String touchedEntityId,
+    String rootOpId) {
+
+  public static StructuralUndoRedoPayload of(StructuralOperationInverse inverse, String rootOpId) {
+    return new StructuralUndoRedoPayload(inverse.schemaId(), inverse.touchedEntityId(), rootOpId);
+  }
+
+}
@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.operation.application.port.in;
+
+import java.util.List;
+
+public record ApplyErdMutationBatchCommand(
+    String schemaId,
+    List<ErdMutationBatchItem> mutations) {
+
+  public ApplyErdMutationBatchCommand {
+    mutations = mutations == null ? List.of() : List.copyOf(mutations);
+  }
+
+}
@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.operation.application.port.in;
+
+import java.util.List;
+
+public record ApplyErdMutationBatchResult(
+    String schemaId,
+    List<ErdMutationBatchItemResult> mutations) {
+
+  public ApplyErdMutationBatchResult {
+    mutations = mutations == null ? List.of() : List.copyOf(mutations);
+  }
+
+}
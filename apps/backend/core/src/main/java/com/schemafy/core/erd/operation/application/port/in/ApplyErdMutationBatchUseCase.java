@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.operation.application.port.in;
+
+import com.schemafy.core.common.MutationResult;
+
+import reactor.core.publisher.Mono;
+
+public interface ApplyErdMutationBatchUseCase {
+
+  Mono<MutationResult<ApplyErdMutationBatchResult>> applyMutationBatch(ApplyErdMutationBatchCommand command);
+
+}
@@ -0,0 +1,12 @@
+package com.schemafy.core.erd.operation.application.port.in;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+
+/** One step of a batch. {@code payload} has the shape of the command for {@code type}; any {@code *Id}
+ * field may hold {@code "$<ref>"} to point at the entity created by an earlier step with that ref. */
+public record ErdMutationBatchItem(
+    String ref,
+    ErdOperationType type,
+    JsonNode payload) {
+}
@@ -0,0 +1,9 @@
+package com.schemafy.core.erd.operation.application.port.in;
+
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+
+public record ErdMutationBatchItemResult(
+    String ref,
+    ErdOperationType type,
+    String createdId) {
+}
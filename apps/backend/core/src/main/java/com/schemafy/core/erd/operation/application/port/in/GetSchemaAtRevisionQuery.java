@@ -0,0 +1,19 @@
+package com.schemafy.core.erd.operation.application.port.in;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
+
+public record GetSchemaAtRevisionQuery(
+    String schemaId,
+    long revision) {
+
+  public GetSchemaAtRevisionQuery {
+    if (schemaId == null || schemaId.isBlank()) {
+      throw new DomainException(OperationErrorCode.INVALID_VALUE, "schemaId must not be blank");
+    }
+    if (revision < 0) {
+      throw new DomainException(OperationErrorCode.INVALID_VALUE, "revision must not be negative");
+    }
+  }
+
+}
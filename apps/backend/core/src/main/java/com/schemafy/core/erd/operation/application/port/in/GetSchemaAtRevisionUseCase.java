@@ -0,0 +1,9 @@
+package com.schemafy.core.erd.operation.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface GetSchemaAtRevisionUseCase {
+
+  Mono<SchemaAtRevisionResult> getSchemaAtRevision(GetSchemaAtRevisionQuery query);
+
+}
@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.operation.application.port.in;
+
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+
+public record SchemaAtRevisionResult(
+    String schemaId,
+    long revision,
+    long baseRevision,
+    int rewoundOperationCount,
+    StructuralSnapshot structure) {
+}
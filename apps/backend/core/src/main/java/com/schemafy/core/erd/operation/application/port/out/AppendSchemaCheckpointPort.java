@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.operation.application.port.out;
+
+import com.schemafy.core.erd.operation.domain.SchemaCheckpoint;
+
+import reactor.core.publisher.Mono;
+
+public interface AppendSchemaCheckpointPort {
+
+  Mono<SchemaCheckpoint> append(SchemaCheckpoint schemaCheckpoint);
+
+}
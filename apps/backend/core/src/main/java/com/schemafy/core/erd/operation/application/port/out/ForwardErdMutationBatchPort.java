@@ -0,0 +1,18 @@
+package com.schemafy.core.erd.operation.application.port.out;
+
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.erd.operation.ErdOperationMetadata;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+
+import reactor.core.publisher.Mono;
+
+public interface ForwardErdMutationBatchPort {
+
+  /** Completes empty when no process of the owner node received the command, so it is safe to apply locally. */
+  Mono<MutationResult<ApplyErdMutationBatchResult>> forward(
+      String ownerNodeId,
+      ApplyErdMutationBatchCommand command,
+      ErdOperationMetadata metadata);
+
+}
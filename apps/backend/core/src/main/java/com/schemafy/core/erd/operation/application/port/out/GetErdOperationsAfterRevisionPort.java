@@ -0,0 +1,14 @@
+package com.schemafy.core.erd.operation.application.port.out;
+
+import java.util.List;
+
+import com.schemafy.core.erd.operation.domain.ErdOperationLog;
+
+import reactor.core.publisher.Mono;
+
+public interface GetErdOperationsAfterRevisionPort {
+
+  /** Returns at most {@code limit} operations committed after {@code revision}, oldest first. */
+  Mono<List<ErdOperationLog>> findOperationsBySchemaIdAfterRevision(String schemaId, long revision, int limit);
+
+}
@@ -0,0 +1,16 @@
+package com.schemafy.core.erd.operation.application.port.out;
+
+import java.util.List;
+
+import com.schemafy.core.erd.operation.domain.ErdOperationLog;
+
+import reactor.core.publisher.Mono;
+
+public interface GetErdOperationsInRevisionRangePort {
+
+  Mono<List<ErdOperationLog>> findOperationsBySchemaIdInRevisionRangeDesc(
+      String schemaId,
+      long afterRevision,
+      long toRevision);
+
+}
@@ -0,0 +1,9 @@
+package com.schemafy.core.erd.operation.application.port.out;
+
+import reactor.core.publisher.Mono;
+
+public interface PruneSchemaCheckpointsPort {
+
+  Mono<Long> deleteAllButLatest(String schemaId, int keep);
+
+}
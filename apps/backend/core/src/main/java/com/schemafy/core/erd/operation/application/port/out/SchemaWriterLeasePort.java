@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.operation.application.port.out;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+public interface SchemaWriterLeasePort {
+
+  /** Takes or extends the schema's write lease for {@code nodeId} unless another node holds it, and returns the
+   * holder. */
+  Mono<String> acquireOrFindOwner(String schemaId, String nodeId, Duration ttl);
+
+}
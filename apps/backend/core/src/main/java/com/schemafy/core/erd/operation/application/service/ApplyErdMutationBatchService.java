@@ -0,0 +1,246 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.column.application.port.in.CreateColumnResult;
+import com.schemafy.core.erd.constraint.application.port.in.AddConstraintColumnResult;
+import com.schemafy.core.erd.constraint.application.port.in.CreateConstraintResult;
+import com.schemafy.core.erd.index.application.port.in.AddIndexColumnResult;
+import com.schemafy.core.erd.index.application.port.in.CreateIndexResult;
+import com.schemafy.core.erd.operation.ErdOperationContexts;
+import com.schemafy.core.erd.operation.application.inverse.ApplyMutationBatchInverse;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchUseCase;
+import com.schemafy.core.erd.operation.application.port.in.ErdMutationBatchItem;
+import com.schemafy.core.erd.operation.application.port.in.ErdMutationBatchItemResult;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
+import com.schemafy.core.erd.relationship.application.port.in.AddRelationshipColumnResult;
+import com.schemafy.core.erd.relationship.application.port.in.CreateRelationshipResult;
+import com.schemafy.core.erd.table.application.port.in.CreateTableResult;
+import com.schemafy.core.project.application.access.AccessTarget;
+import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.domain.ProjectRole;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.project.application.access.ProjectAccessResourceType.SCHEMA;
+
+/** Runs an ordered list of table-level mutations as one operation: one schema lock, one transaction,
+ * one revision and one op log entry. The individual use cases run as nested mutations, so their own
+ * validation and access checks still apply, and the batch is undone by reconciling to the schema
+ * snapshot taken before the first step. Batches are applied by the node holding the schema's write lease;
+ * other nodes forward them there, where consecutive batches of one schema can share a transaction. */
+@Service
+@RequiredArgsConstructor
+@RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = SCHEMA, id = "schemaId"))
+class ApplyErdMutationBatchService implements ApplyErdMutationBatchUseCase {
+
+  static final int MAX_BATCH_SIZE = 200;
+
+  private static final String REFERENCE_PREFIX = "$";
+
+  private final ErdBatchMutationDispatcher erdBatchMutationDispatcher;
+  private final StructuralSnapshotService structuralSnapshotService;
+  private final SchemaMutationExecutor schemaMutationExecutor;
+  private final SchemaWriterRouter schemaWriterRouter;
+  private ErdMutationCoordinator erdMutationCoordinator = ErdMutationCoordinator.noop();
+
+  @Autowired
+  void setErdMutationCoordinator(ErdMutationCoordinator erdMutationCoordinator) {
+    this.erdMutationCoordinator = erdMutationCoordinator;
+  }
+
+  @Override
+  public Mono<MutationResult<ApplyErdMutationBatchResult>> applyMutationBatch(
+      ApplyErdMutationBatchCommand command) {
+    return Mono.deferContextual(contextView -> {
+      validate(command);
+      if (ErdOperationContexts.isForwardedFromPeer(contextView)) {
+        return schemaWriterRouter.renew(command.schemaId())
+            .then(schemaMutationExecutor.executeGrouped(command.schemaId(), applyLocally(command)));
+      }
+      return schemaWriterRouter.forwardIfRemote(command, ErdOperationContexts.metadata(contextView))
+          .switchIfEmpty(Mono.defer(() -> applyLocally(command)));
+    });
+  }
+
+  private Mono<MutationResult<ApplyErdMutationBatchResult>> applyLocally(ApplyErdMutationBatchCommand command) {
+    return erdMutationCoordinator.coordinate(ErdOperationType.APPLY_MUTATION_BATCH, command,
+        () -> structuralSnapshotService.captureBySchemaId(command.schemaId())
+            .flatMap(beforeSnapshot -> applyInOrder(command.mutations())
+                .flatMap(execution -> structuralSnapshotService.captureBySchemaId(command.schemaId())
+                    .map(afterSnapshot -> toMutationResult(
+                        command.schemaId(), execution, beforeSnapshot, afterSnapshot)))));
+  }
+
+  private static void validate(ApplyErdMutationBatchCommand command) {
+    if (!StringUtils.hasText(command.schemaId())) {
+      throw invalid("Batch schemaId is required");
+    }
+    List<ErdMutationBatchItem> mutations = command.mutations();
+    if (mutations.isEmpty()) {
+      throw invalid("Batch must contain at least one mutation");
+    }
+    if (mutations.size() > MAX_BATCH_SIZE) {
+      throw invalid("Batch must not contain more than %d mutations".formatted(MAX_BATCH_SIZE));
+    }
+
+    Set<String> refs = new HashSet<>();
+    for (ErdMutationBatchItem mutation : mutations) {
+      if (mutation == null || mutation.type() == null) {
+        throw invalid("Batch mutation type is required");
+      }
+      if (!ErdBatchMutationDispatcher.supports(mutation.type())) {
+        throw invalid("Operation cannot be batched: " + mutation.type());
+      }
+      if (mutation.payload() == null || !mutation.payload().isObject()) {
+        throw invalid("Batch mutation payload must be an object: " + mutation.type());
+      }
+      if (mutation.ref() != null && (!StringUtils.hasText(mutation.ref()) || !refs.add(mutation.ref()))) {
+        throw invalid("Batch mutation refs must be unique and non-blank: " + mutation.ref());
+      }
+    }
+  }
+
+  private Mono<BatchExecution> applyInOrder(List<ErdMutationBatchItem> mutations) {
+    BatchExecution execution = new BatchExecution();
+    return Flux.fromIterable(mutations)
+        .concatMap(mutation -> Mono.defer(() -> NestedErdMutations.run(erdBatchMutationDispatcher.dispatch(
+            mutation.type(),
+            execution.resolveReferences(mutation.payload()))))
+            .doOnNext(result -> execution.record(mutation, result)))
+        .then(Mono.fromSupplier(() -> execution));
+  }
+
+  private static MutationResult<ApplyErdMutationBatchResult> toMutationResult(
+      String schemaId,
+      BatchExecution execution,
+      StructuralSnapshot beforeSnapshot,
+      StructuralSnapshot afterSnapshot) {
+    Set<String> schemaTableIds = new HashSet<>();
+    beforeSnapshot.tables().forEach(table -> schemaTableIds.add(table.id()));
+    afterSnapshot.tables().forEach(table -> schemaTableIds.add(table.id()));
+    if (!schemaTableIds.containsAll(execution.affectedTableIds)) {
+      // Only the batch schema is locked, so a step that reached another schema must roll the whole batch back.
+      throw invalid("Batch mutations must stay within schema: " + schemaId);
+    }
+
+    ApplyErdMutationBatchResult result = new ApplyErdMutationBatchResult(schemaId, execution.results);
+    if (!execution.changed) {
+      return MutationResult.noop(result);
+    }
+    List<String> affectedTableIds = List.copyOf(new TreeSet<>(execution.affectedTableIds));
+    return MutationResult.of(result, execution.affectedTableIds)
+        .withInverse(new ApplyMutationBatchInverse(schemaId, beforeSnapshot, afterSnapshot, affectedTableIds));
+  }
+
+  private static String createdId(Object result) {
+    if (result instanceof CreateTableResult created) {
+      return created.tableId();
+    }
+    if (result instanceof CreateColumnResult created) {
+      return created.columnId();
+    }
+    if (result instanceof CreateConstraintResult created) {
+      return created.constraintId();
+    }
+    if (result instanceof AddConstraintColumnResult added) {
+      return added.constraintColumnId();
+    }
+    if (result instanceof CreateIndexResult created) {
+      return created.indexId();
+    }
+    if (result instanceof AddIndexColumnResult added) {
+      return added.indexColumnId();
+    }
+    if (result instanceof CreateRelationshipResult created) {
+      return created.relationshipId();
+    }
+    if (result instanceof AddRelationshipColumnResult added) {
+      return added.relationshipColumnId();
+    }
+    return null;
+  }
+
+  private static DomainException invalid(String message) {
+    return new DomainException(OperationErrorCode.INVALID_VALUE, message);
+  }
+
+  private static final class BatchExecution {
+
+    private final Map<String, String> createdIdsByRef = new HashMap<>();
+    private final List<ErdMutationBatchItemResult> results = new ArrayList<>();
+    private final Set<String> affectedTableIds = new HashSet<>();
+    private boolean changed;
+
+    private void record(ErdMutationBatchItem mutation, MutationResult<?> result) {
+      String createdId = createdId(result.result());
+      if (mutation.ref() != null) {
+        if (createdId == null) {
+          throw invalid("Batch mutation does not create an entity to reference: " + mutation.type());
+        }
+        createdIdsByRef.put(mutation.ref(), createdId);
+      }
+      results.add(new ErdMutationBatchItemResult(mutation.ref(), mutation.type(), createdId));
+      affectedTableIds.addAll(result.affectedTableIds());
+      changed |= !result.noOp();
+    }
+
+    private JsonNode resolveReferences(JsonNode payload) {
+      JsonNode resolved = payload.deepCopy();
+      resolve(resolved);
+      return resolved;
+    }
+
+    private void resolve(JsonNode node) {
+      if (node.isArray()) {
+        node.forEach(this::resolve);
+        return;
+      }
+      if (!(node instanceof ObjectNode object)) {
+        return;
+      }
+      Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        JsonNode value = field.getValue();
+        if (field.getKey().endsWith("Id") && value.isTextual()
+            && value.textValue().startsWith(REFERENCE_PREFIX)) {
+          field.setValue(object.textNode(lookup(value.textValue().substring(REFERENCE_PREFIX.length()))));
+        } else {
+          resolve(value);
+        }
+      }
+    }
+
+    private String lookup(String ref) {
+      String createdId = createdIdsByRef.get(ref);
+      if (createdId == null) {
+        throw invalid("Unknown batch mutation ref: " + ref);
+      }
+      return createdId;
+    }
+
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.column.application.port.in.ChangeColumnMetaCommand;
+import com.schemafy.core.erd.column.application.port.in.ChangeColumnMetaUseCase;
+import com.schemafy.core.erd.column.application.port.in.ChangeColumnNameCommand;
+import com.schemafy.core.erd.column.application.port.in.ChangeColumnNameUseCase;
+import com.schemafy.core.erd.column.application.port.in.ChangeColumnPositionCommand;
+import com.schemafy.core.erd.column.application.port.in.ChangeColumnPositionUseCase;
+import com.schemafy.core.erd.column.application.port.in.ChangeColumnTypeCommand;
+import com.schemafy.core.erd.column.application.port.in.ChangeColumnTypeUseCase;
+import com.schemafy.core.erd.column.application.port.in.CreateColumnCommand;
+import com.schemafy.core.erd.column.application.port.in.CreateColumnUseCase;
+import com.schemafy.core.erd.column.application.port.in.DeleteColumnCommand;
+import com.schemafy.core.erd.column.application.port.in.DeleteColumnUseCase;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readBooleanPatch;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readCommand;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readText;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readTextPatch;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.unsupportedBatchOperation;
+
+@Component
+@RequiredArgsConstructor
+class ColumnBatchMutationDispatcher {
+
+  private final JsonCodec jsonCodec;
+  private final CreateColumnUseCase createColumnUseCase;
+  private final ChangeColumnNameUseCase changeColumnNameUseCase;
+  private final ChangeColumnTypeUseCase changeColumnTypeUseCase;
+  private final ChangeColumnMetaUseCase changeColumnMetaUseCase;
+  private final ChangeColumnPositionUseCase changeColumnPositionUseCase;
+  private final DeleteColumnUseCase deleteColumnUseCase;
+
+  Mono<? extends MutationResult<?>> dispatch(ErdOperationType operationType, JsonNode payload) {
+    return switch (operationType) {
+    case CREATE_COLUMN -> createColumnUseCase.createColumn(
+        readCommand(jsonCodec, payload, CreateColumnCommand.class));
+    case CHANGE_COLUMN_NAME -> changeColumnNameUseCase.changeColumnName(
+        readCommand(jsonCodec, payload, ChangeColumnNameCommand.class));
+    case CHANGE_COLUMN_TYPE -> changeColumnTypeUseCase.changeColumnType(
+        readCommand(jsonCodec, payload, ChangeColumnTypeCommand.class));
+    case CHANGE_COLUMN_META -> changeColumnMetaUseCase.changeColumnMeta(changeColumnMetaCommand(payload));
+    case CHANGE_COLUMN_POSITION -> changeColumnPositionUseCase.changeColumnPosition(
+        readCommand(jsonCodec, payload, ChangeColumnPositionCommand.class));
+    case DELETE_COLUMN -> deleteColumnUseCase.deleteColumn(
+        readCommand(jsonCodec, payload, DeleteColumnCommand.class));
+    default -> throw unsupportedBatchOperation(operationType);
+    };
+  }
+
+  private static ChangeColumnMetaCommand changeColumnMetaCommand(JsonNode payload) {
+    return new ChangeColumnMetaCommand(
+        readText(payload, "columnId"),
+        readBooleanPatch(payload, "autoIncrement"),
+        readTextPatch(payload, "charset"),
+        readTextPatch(payload, "collation"),
+        readTextPatch(payload, "comment"));
+  }
+
+}
@@ -0,0 +1,68 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.constraint.application.port.in.AddConstraintColumnCommand;
+import com.schemafy.core.erd.constraint.application.port.in.AddConstraintColumnUseCase;
+import com.schemafy.core.erd.constraint.application.port.in.ChangeConstraintCheckExprCommand;
+import com.schemafy.core.erd.constraint.application.port.in.ChangeConstraintCheckExprUseCase;
+import com.schemafy.core.erd.constraint.application.port.in.ChangeConstraintColumnPositionCommand;
+import com.schemafy.core.erd.constraint.application.port.in.ChangeConstraintColumnPositionUseCase;
+import com.schemafy.core.erd.constraint.application.port.in.ChangeConstraintDefaultExprCommand;
+import com.schemafy.core.erd.constraint.application.port.in.ChangeConstraintDefaultExprUseCase;
+import com.schemafy.core.erd.constraint.application.port.in.ChangeConstraintNameCommand;
+import com.schemafy.core.erd.constraint.application.port.in.ChangeConstraintNameUseCase;
+import com.schemafy.core.erd.constraint.application.port.in.CreateConstraintCommand;
+import com.schemafy.core.erd.constraint.application.port.in.CreateConstraintUseCase;
+import com.schemafy.core.erd.constraint.application.port.in.DeleteConstraintCommand;
+import com.schemafy.core.erd.constraint.application.port.in.DeleteConstraintUseCase;
+import com.schemafy.core.erd.constraint.application.port.in.RemoveConstraintColumnCommand;
+import com.schemafy.core.erd.constraint.application.port.in.RemoveConstraintColumnUseCase;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readCommand;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.unsupportedBatchOperation;
+
+@Component
+@RequiredArgsConstructor
+class ConstraintBatchMutationDispatcher {
+
+  private final JsonCodec jsonCodec;
+  private final CreateConstraintUseCase createConstraintUseCase;
+  private final ChangeConstraintNameUseCase changeConstraintNameUseCase;
+  private final ChangeConstraintCheckExprUseCase changeConstraintCheckExprUseCase;
+  private final ChangeConstraintDefaultExprUseCase changeConstraintDefaultExprUseCase;
+  private final DeleteConstraintUseCase deleteConstraintUseCase;
+  private final AddConstraintColumnUseCase addConstraintColumnUseCase;
+  private final RemoveConstraintColumnUseCase removeConstraintColumnUseCase;
+  private final ChangeConstraintColumnPositionUseCase changeConstraintColumnPositionUseCase;
+
+  Mono<? extends MutationResult<?>> dispatch(ErdOperationType operationType, JsonNode payload) {
+    return switch (operationType) {
+    case CREATE_CONSTRAINT -> createConstraintUseCase.createConstraint(
+        readCommand(jsonCodec, payload, CreateConstraintCommand.class));
+    case CHANGE_CONSTRAINT_NAME -> changeConstraintNameUseCase.changeConstraintName(
+        readCommand(jsonCodec, payload, ChangeConstraintNameCommand.class));
+    case CHANGE_CONSTRAINT_CHECK_EXPR -> changeConstraintCheckExprUseCase.changeConstraintCheckExpr(
+        readCommand(jsonCodec, payload, ChangeConstraintCheckExprCommand.class));
+    case CHANGE_CONSTRAINT_DEFAULT_EXPR -> changeConstraintDefaultExprUseCase.changeConstraintDefaultExpr(
+        readCommand(jsonCodec, payload, ChangeConstraintDefaultExprCommand.class));
+    case DELETE_CONSTRAINT -> deleteConstraintUseCase.deleteConstraint(
+        readCommand(jsonCodec, payload, DeleteConstraintCommand.class));
+    case ADD_CONSTRAINT_COLUMN -> addConstraintColumnUseCase.addConstraintColumn(
+        readCommand(jsonCodec, payload, AddConstraintColumnCommand.class));
+    case REMOVE_CONSTRAINT_COLUMN -> removeConstraintColumnUseCase.removeConstraintColumn(
+        readCommand(jsonCodec, payload, RemoveConstraintColumnCommand.class));
+    case CHANGE_CONSTRAINT_COLUMN_POSITION -> changeConstraintColumnPositionUseCase.changeConstraintColumnPosition(
+        readCommand(jsonCodec, payload, ChangeConstraintColumnPositionCommand.class));
+    default -> throw unsupportedBatchOperation(operationType);
+    };
+  }
+
+}
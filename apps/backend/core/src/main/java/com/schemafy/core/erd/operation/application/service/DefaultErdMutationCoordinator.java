@@ -1,5 +1,6 @@
 package com.schemafy.core.erd.operation.application.service;
 
+import java.time.Clock;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -11,6 +12,8 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.ErdMutationMetrics;
+import com.schemafy.core.erd.operation.ErdMutationMetrics.MutationSample;
 import com.schemafy.core.erd.operation.ErdOperationContexts;
 import com.schemafy.core.erd.operation.ErdOperationMetadata;
 import com.schemafy.core.erd.operation.application.port.out.AppendErdOperationLogPort;
@@ -39,6 +42,11 @@ class DefaultErdMutationCoordinator implements ErdMutationCoordinator {
   private final AppendErdOperationLogPort appendErdOperationLogPort;
   private final UlidGeneratorPort ulidGeneratorPort;
   private final JsonCodec jsonCodec;
+  private final ErdMutationMetrics erdMutationMetrics;
+  private final SchemaCheckpointRecorder schemaCheckpointRecorder;
+  private final ErdMutationConcurrencyPolicy erdMutationConcurrencyPolicy;
+  private final SchemaMutationExecutor schemaMutationExecutor;
+  private final Clock clock;
 
   @Override
   public <T> Mono<MutationResult<T>> coordinate(
@@ -51,36 +59,65 @@ class DefaultErdMutationCoordinator implements ErdMutationCoordinator {
 
     return Mono.deferContextual(contextView -> {
       if (ErdOperationContexts.isNestedMutationSuppressed(contextView)) {
-        return mutationSupplier.get();
+        return mutationSupplier.get().as(transactionalOperator::transactional);
       }
       ErdOperationMetadata metadata = ErdOperationContexts.metadata(contextView);
+      MutationSample sample = erdMutationMetrics.start(operationType);
 
-      return erdMutationTargetResolver.resolveBefore(operationType, payload)
-          .flatMap(resolvedTarget -> preloadSchemaState(operationType, resolvedTarget)
-              .flatMap(preloadedState -> executeMutationAndCommit(
-                  operationType,
-                  payload,
-                  mutationSupplier,
-                  resolvedTarget,
-                  preloadedState,
-                  metadata))
-              .switchIfEmpty(Mono.defer(() -> executeMutationAndCommit(
-                  operationType,
-                  payload,
-                  mutationSupplier,
-                  resolvedTarget,
-                  null,
-                  metadata))));
-    }).as(transactionalOperator::transactional);
+      // The transaction opens inside the schema slot, so a queued mutation does not hold a connection.
+      // Optimistic mutations skip the slot, since they only conflict on the rows they actually write.
+      boolean optimistic = erdMutationConcurrencyPolicy.isOptimistic(operationType);
+      Mono<MutationResult<T>> attempt = erdMutationTargetResolver.resolveBefore(operationType, payload)
+          .flatMap(resolvedTarget -> schemaMutationExecutor.execute(
+              operationType.createsSchema() || optimistic ? null : resolvedTarget.schemaId(),
+              preloadSchemaState(operationType, resolvedTarget, sample)
+                  .flatMap(preloadedState -> executeMutationAndCommit(
+                      operationType,
+                      payload,
+                      mutationSupplier,
+                      resolvedTarget,
+                      preloadedState,
+                      metadata))
+                  .switchIfEmpty(Mono.defer(() -> executeMutationAndCommit(
+                      operationType,
+                      payload,
+                      mutationSupplier,
+                      resolvedTarget,
+                      null,
+                      metadata)))
+                  .as(transactionalOperator::transactional)));
+      if (optimistic) {
+        attempt = attempt.retryWhen(erdMutationConcurrencyPolicy.conflictRetry(operationType, erdMutationMetrics));
+      }
+      return attempt
+          .map(this::stampCommitTime)
+          .doFinally(sample::finish);
+    });
   }
 
   private Mono<SchemaCollaborationState> preloadSchemaState(
       ErdOperationType operationType,
-      ResolvedErdMutationTarget resolvedTarget) {
-    if (operationType == ErdOperationType.CREATE_SCHEMA) {
+      ResolvedErdMutationTarget resolvedTarget,
+      MutationSample sample) {
+    if (operationType.createsSchema()) {
       return Mono.empty();
     }
-    return loadOrCreateSchemaStateForUpdate(resolvedTarget.schemaId(), resolvedTarget.projectId());
+    if (erdMutationConcurrencyPolicy.isOptimistic(operationType)) {
+      return loadOrCreateSchemaState(resolvedTarget.schemaId(), resolvedTarget.projectId());
+    }
+    return Mono.defer(() -> {
+      sample.lockRequested();
+      return loadOrCreateSchemaStateForUpdate(resolvedTarget.schemaId(), resolvedTarget.projectId());
+    }).doOnNext(sample::lockAcquired);
+  }
+
+  // The transactional operator only emits after the commit, so this is the time the revision became visible.
+  private <T> MutationResult<T> stampCommitTime(MutationResult<T> mutationResult) {
+    CommittedErdOperation operation = mutationResult.operation();
+    if (operation == null) {
+      return mutationResult;
+    }
+    return mutationResult.withOperation(operation.withCommittedAt(clock.instant()));
   }
 
   private <T> Mono<MutationResult<T>> executeMutationAndCommit(
@@ -91,7 +128,7 @@ class DefaultErdMutationCoordinator implements ErdMutationCoordinator {
       SchemaCollaborationState preloadedState,
       ErdOperationMetadata metadata) {
     return validateDerivedMutationRevision(preloadedState, metadata)
-        .then(Mono.defer(mutationSupplier))
+        .then(erdMutationMetrics.timeBody(operationType, Mono.defer(mutationSupplier)))
         .flatMap(mutationResult -> commitOperation(
             operationType,
             payload,
@@ -153,21 +190,28 @@ class DefaultErdMutationCoordinator implements ErdMutationCoordinator {
         mutationResult);
 
     return resolveSchemaState(operationType, resolvedTarget, finalizedTarget, preloadedState)
-        .flatMap(schemaState -> incrementRevision(schemaState.schemaId(), metadata)
-            .flatMap(updatedState -> appendErdOperationLogPort.append(buildOperationLog(
-                operationType,
-                payload,
-                mutationResult,
-                finalizedTarget,
-                updatedState,
-                metadata)))
+        .flatMap(schemaState -> incrementRevision(schemaState, metadata)
+            .flatMap(updatedState -> erdMutationMetrics.timeOperationLogAppend(operationType,
+                appendErdOperationLogPort.append(buildOperationLog(
+                    operationType,
+                    payload,
+                    mutationResult,
+                    finalizedTarget,
+                    updatedState,
+                    metadata))))
+            .flatMap(operationLog -> schemaCheckpointRecorder
+                .recordAfterCommitIfDue(operationLog.schemaId(), operationLog.committedRevision())
+                .thenReturn(operationLog))
             .map(operationLog -> mutationResult.withOperation(
                 CommittedErdOperation.from(operationLog))));
   }
 
+  // Optimistic mutations detect conflicts through the versions of the rows they wrote, so the revision
+  // is bumped in place here rather than compared with the one read when the attempt started.
   private Mono<SchemaCollaborationState> incrementRevision(
-      String schemaId,
+      SchemaCollaborationState schemaState,
       ErdOperationMetadata metadata) {
+    String schemaId = schemaState.schemaId();
     Long expectedRevision = metadata.baseSchemaRevision();
     if (isDerivedMutation(metadata)) {
       if (expectedRevision == null) {
@@ -175,7 +219,7 @@ class DefaultErdMutationCoordinator implements ErdMutationCoordinator {
       }
       return incrementSchemaCollaborationRevisionPort
           .incrementIfCurrentRevision(schemaId, expectedRevision)
-          .switchIfEmpty(Mono.error(staleDerivedOperation(schemaId, metadata)));
+          .switchIfEmpty(Mono.error(() -> staleDerivedOperation(schemaId, metadata)));
     }
     return incrementSchemaCollaborationRevisionPort.increment(schemaId);
   }
@@ -196,6 +240,7 @@ class DefaultErdMutationCoordinator implements ErdMutationCoordinator {
   private DomainException staleDerivedOperation(
       String schemaId,
       ErdOperationMetadata metadata) {
+    erdMutationMetrics.recordStaleDerived(metadata.derivationKind());
     return new DomainException(
         staleDerivedOperationErrorCode(metadata),
         "Schema revision changed during undo/redo: schemaId=" + schemaId);
@@ -209,7 +254,7 @@ class DefaultErdMutationCoordinator implements ErdMutationCoordinator {
     if (preloadedState != null) {
       return Mono.just(preloadedState);
     }
-    if (operationType != ErdOperationType.CREATE_SCHEMA) {
+    if (!operationType.createsSchema()) {
       return Mono.error(new IllegalStateException("Schema collaboration state must be preloaded"));
     }
     return loadOrCreateSchemaState(finalizedTarget.schemaId(), resolvedTarget.projectId());
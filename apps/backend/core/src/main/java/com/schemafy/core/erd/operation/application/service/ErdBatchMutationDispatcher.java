@@ -0,0 +1,54 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.unsupportedBatchOperation;
+
+@Component
+@RequiredArgsConstructor
+class ErdBatchMutationDispatcher {
+
+  private final TableBatchMutationDispatcher tableDispatcher;
+  private final ColumnBatchMutationDispatcher columnDispatcher;
+  private final ConstraintBatchMutationDispatcher constraintDispatcher;
+  private final IndexBatchMutationDispatcher indexDispatcher;
+  private final RelationshipBatchMutationDispatcher relationshipDispatcher;
+
+  // Schema-level operations own their lock and revision lifecycle, so they cannot run inside a batch.
+  static boolean supports(ErdOperationType operationType) {
+    return switch (operationType) {
+    case CREATE_SCHEMA, IMPORT_SCHEMA_DDL, CLONE_SCHEMA, CHANGE_SCHEMA_NAME, DELETE_SCHEMA,
+        APPLY_MUTATION_BATCH -> false;
+    default -> true;
+    };
+  }
+
+  Mono<? extends MutationResult<?>> dispatch(ErdOperationType operationType, JsonNode payload) {
+    return switch (operationType) {
+    case CREATE_SCHEMA, IMPORT_SCHEMA_DDL, CLONE_SCHEMA, CHANGE_SCHEMA_NAME, DELETE_SCHEMA, APPLY_MUTATION_BATCH ->
+      throw unsupportedBatchOperation(operationType);
+    case CREATE_TABLE, CHANGE_TABLE_NAME, CHANGE_TABLE_META, CHANGE_TABLE_EXTRA, DELETE_TABLE ->
+      tableDispatcher.dispatch(operationType, payload);
+    case CREATE_COLUMN, CHANGE_COLUMN_NAME, CHANGE_COLUMN_TYPE, CHANGE_COLUMN_META, CHANGE_COLUMN_POSITION,
+        DELETE_COLUMN -> columnDispatcher.dispatch(operationType, payload);
+    case CREATE_CONSTRAINT, CHANGE_CONSTRAINT_NAME, CHANGE_CONSTRAINT_CHECK_EXPR,
+        CHANGE_CONSTRAINT_DEFAULT_EXPR, DELETE_CONSTRAINT, ADD_CONSTRAINT_COLUMN, REMOVE_CONSTRAINT_COLUMN,
+        CHANGE_CONSTRAINT_COLUMN_POSITION -> constraintDispatcher.dispatch(operationType, payload);
+    case CREATE_INDEX, CHANGE_INDEX_NAME, CHANGE_INDEX_TYPE, DELETE_INDEX, ADD_INDEX_COLUMN, REMOVE_INDEX_COLUMN,
+        CHANGE_INDEX_COLUMN_POSITION, CHANGE_INDEX_COLUMN_SORT_DIRECTION ->
+      indexDispatcher.dispatch(operationType, payload);
+    case CREATE_RELATIONSHIP, CHANGE_RELATIONSHIP_NAME, CHANGE_RELATIONSHIP_KIND,
+        CHANGE_RELATIONSHIP_CARDINALITY, CHANGE_RELATIONSHIP_EXTRA, DELETE_RELATIONSHIP, ADD_RELATIONSHIP_COLUMN,
+        REMOVE_RELATIONSHIP_COLUMN, CHANGE_RELATIONSHIP_COLUMN_POSITION ->
+      relationshipDispatcher.dispatch(operationType, payload);
+    };
+  }
+
+}
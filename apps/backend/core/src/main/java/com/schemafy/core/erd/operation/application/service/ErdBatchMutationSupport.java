@@ -0,0 +1,63 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.common.PatchField;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
+
+final class ErdBatchMutationSupport {
+
+  private ErdBatchMutationSupport() {}
+
+  static <T> T readCommand(JsonCodec jsonCodec, JsonNode payload, Class<T> type) {
+    try {
+      return jsonCodec.fromJson(jsonCodec.toJson(payload), type);
+    } catch (IllegalArgumentException e) {
+      throw invalidPayload(type.getSimpleName());
+    }
+  }
+
+  static String readText(JsonNode payload, String field) {
+    JsonNode value = payload.get(field);
+    if (value == null || value.isNull()) {
+      return null;
+    }
+    if (!value.isTextual()) {
+      throw invalidPayload(field);
+    }
+    return value.textValue();
+  }
+
+  // A missing field leaves the value untouched and an explicit null clears it, matching the PATCH endpoints.
+  static PatchField<String> readTextPatch(JsonNode payload, String field) {
+    if (!payload.has(field)) {
+      return PatchField.absent();
+    }
+    return PatchField.of(readText(payload, field));
+  }
+
+  static PatchField<Boolean> readBooleanPatch(JsonNode payload, String field) {
+    if (!payload.has(field)) {
+      return PatchField.absent();
+    }
+    JsonNode value = payload.get(field);
+    if (value.isNull()) {
+      return PatchField.of(null);
+    }
+    if (!value.isBoolean()) {
+      throw invalidPayload(field);
+    }
+    return PatchField.of(value.booleanValue());
+  }
+
+  static IllegalArgumentException unsupportedBatchOperation(ErdOperationType operationType) {
+    return new IllegalArgumentException("Unsupported batch operation: " + operationType);
+  }
+
+  private static DomainException invalidPayload(String name) {
+    return new DomainException(OperationErrorCode.INVALID_VALUE, "Invalid batch mutation payload: " + name);
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.operation.ErdMutationMetrics;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
+
+import reactor.util.retry.Retry;
+
+/**
+ * Decides whether a mutation skips the schema state row lock. In-place
+ * attribute changes rely on the version columns of the rows they write, so
+ * edits to different entities of one schema commit side by side, and an
+ * attempt is retried from scratch only when one of its own rows was changed
+ * first. Everything that creates, deletes or cascades rows keeps the
+ * pessimistic path.
+ */
+@Component
+class ErdMutationConcurrencyPolicy {
+
+  private final boolean optimisticEnabled;
+  private final int maxAttempts;
+  private final Duration minBackoff;
+
+  ErdMutationConcurrencyPolicy(
+      @Value("${erd.mutation.optimistic.enabled:false}") boolean optimisticEnabled,
+      @Value("${erd.mutation.optimistic.max-attempts:5}") int maxAttempts,
+      @Value("${erd.mutation.optimistic.min-backoff:5ms}") Duration minBackoff) {
+    this.optimisticEnabled = optimisticEnabled;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.minBackoff = minBackoff;
+  }
+
+  boolean isOptimistic(ErdOperationType operationType) {
+    return optimisticEnabled && operationType.updatesInPlace();
+  }
+
+  Retry conflictRetry(ErdOperationType operationType, ErdMutationMetrics erdMutationMetrics) {
+    return Retry.backoff(maxAttempts - 1, minBackoff)
+        .jitter(0.5d)
+        .filter(ConcurrencyFailureException.class::isInstance)
+        .doBeforeRetry(signal -> erdMutationMetrics.recordOptimisticRetry(operationType))
+        .onRetryExhaustedThrow((spec, signal) -> new DomainException(
+            OperationErrorCode.CONCURRENT_MODIFICATION,
+            "Schema changed concurrently %d times in a row: operation=%s"
+                .formatted(signal.totalRetries() + 1, operationType)));
+  }
+
+}
@@ -3,7 +3,9 @@ package com.schemafy.core.erd.operation.application.service;
 import org.springframework.stereotype.Component;
 
 import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlResult;
 import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaResult;
 import com.schemafy.core.erd.schema.application.port.in.CreateSchemaResult;
 
 @Component
@@ -15,8 +17,8 @@ class ErdMutationTargetFinalizer {
       MutationResult<T> mutationResult) {
     String resolvedSchemaId = resolvedTarget.schemaId();
 
-    if (resolvedSchemaId == null && operationType == ErdOperationType.CREATE_SCHEMA) {
-      resolvedSchemaId = resolveCreatedSchemaId(mutationResult);
+    if (resolvedSchemaId == null && operationType.createsSchema()) {
+      resolvedSchemaId = resolveCreatedSchemaId(operationType, mutationResult);
     }
 
     return new FinalizedErdMutationTarget(
@@ -24,7 +26,13 @@ class ErdMutationTargetFinalizer {
         resolvedSchemaId);
   }
 
-  private <T> String resolveCreatedSchemaId(MutationResult<T> mutationResult) {
+  private <T> String resolveCreatedSchemaId(ErdOperationType operationType, MutationResult<T> mutationResult) {
+    if (operationType == ErdOperationType.IMPORT_SCHEMA_DDL) {
+      return requireResult(mutationResult.result(), ImportSchemaDdlResult.class).schemaId();
+    }
+    if (operationType == ErdOperationType.CLONE_SCHEMA) {
+      return requireResult(mutationResult.result(), CloneSchemaResult.class).schemaId();
+    }
     return requireResult(mutationResult.result(), CreateSchemaResult.class).id();
   }
 
@@ -3,6 +3,7 @@ package com.schemafy.core.erd.operation.application.service;
 import java.util.function.Supplier;
 
 import com.schemafy.core.erd.operation.application.inverse.StructuralOperationInverse;
+import com.schemafy.core.erd.operation.application.inverse.StructuralUndoRedoPayload;
 import com.schemafy.core.erd.operation.domain.ErdOperationType;
 
 import reactor.core.publisher.Mono;
@@ -26,6 +27,9 @@ final class ErdMutationTargetResolutionSupport {
     if (payload instanceof StructuralOperationInverse inverse) {
       return targetLookup.resolveBySchemaId(inverse.schemaId(), inverse.touchedEntityId());
     }
+    if (payload instanceof StructuralUndoRedoPayload undoRedoPayload) {
+      return targetLookup.resolveBySchemaId(undoRedoPayload.schemaId(), undoRedoPayload.touchedEntityId());
+    }
     return fallback.get();
   }
 
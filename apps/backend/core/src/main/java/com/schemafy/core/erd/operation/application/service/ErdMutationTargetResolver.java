@@ -20,7 +20,8 @@ class ErdMutationTargetResolver {
 
   Mono<ResolvedErdMutationTarget> resolveBefore(ErdOperationType operationType, Object payload) {
     return switch (operationType) {
-    case CREATE_SCHEMA, CHANGE_SCHEMA_NAME, DELETE_SCHEMA -> schemaTargetResolver.resolve(operationType, payload);
+    case CREATE_SCHEMA, IMPORT_SCHEMA_DDL, CLONE_SCHEMA, CHANGE_SCHEMA_NAME, DELETE_SCHEMA, APPLY_MUTATION_BATCH ->
+      schemaTargetResolver.resolve(operationType, payload);
     case CREATE_TABLE, CHANGE_TABLE_NAME, CHANGE_TABLE_META, CHANGE_TABLE_EXTRA, DELETE_TABLE ->
       tableTargetResolver.resolve(operationType, payload);
     case CREATE_COLUMN, CHANGE_COLUMN_NAME, CHANGE_COLUMN_TYPE, CHANGE_COLUMN_META, CHANGE_COLUMN_POSITION,
@@ -0,0 +1,163 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.util.function.UnaryOperator;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.application.inverse.InversePayload;
+import com.schemafy.core.erd.operation.application.inverse.StructuralOperationInverse;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshotRewinder;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionQuery;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionUseCase;
+import com.schemafy.core.erd.operation.application.port.in.SchemaAtRevisionResult;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCheckpointPort;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.application.port.out.GetErdOperationByIdPort;
+import com.schemafy.core.erd.operation.application.port.out.GetErdOperationsInRevisionRangePort;
+import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+import com.schemafy.core.erd.operation.domain.ErdOperationLog;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
+import com.schemafy.core.project.application.access.AccessTarget;
+import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.domain.ProjectRole;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import static com.schemafy.core.project.application.access.ProjectAccessResourceType.SCHEMA;
+
+/** Rebuilds the structure at a past revision by rewinding inverses from the nearest checkpoint
+ * at or after it, falling back to the live schema. Within the retained checkpoints about one
+ * checkpoint interval is replayed; older revisions rewind from the oldest kept checkpoint. */
+@Service
+@RequiredArgsConstructor
+@RequireProjectAccess(role = ProjectRole.VIEWER, target = @AccessTarget(value = SCHEMA, id = "schemaId"))
+class GetSchemaAtRevisionService implements GetSchemaAtRevisionUseCase {
+
+  private static final int LIVE_CAPTURE_ATTEMPTS = 3;
+
+  private final FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+  private final FindSchemaCheckpointPort findSchemaCheckpointPort;
+  private final GetErdOperationsInRevisionRangePort getErdOperationsInRevisionRangePort;
+  private final GetErdOperationByIdPort getErdOperationByIdPort;
+  private final StructuralSnapshotReader structuralSnapshotReader;
+  private final JsonCodec jsonCodec;
+
+  @Override
+  public Mono<SchemaAtRevisionResult> getSchemaAtRevision(GetSchemaAtRevisionQuery query) {
+    String schemaId = query.schemaId();
+    return currentRevision(schemaId)
+        .flatMap(currentRevision -> {
+          if (query.revision() > currentRevision) {
+            return Mono.error(new DomainException(OperationErrorCode.NOT_FOUND,
+                "Revision %d not found for schema %s".formatted(query.revision(), schemaId)));
+          }
+          return findSchemaCheckpointPort.findEarliestAtOrAfterRevision(schemaId, query.revision())
+              .map(checkpoint -> new Base(
+                  checkpoint.revision(),
+                  jsonCodec.fromPersistedJson(checkpoint.snapshotJson(), StructuralSnapshot.class)))
+              .switchIfEmpty(Mono.defer(() -> captureLive(schemaId)))
+              .flatMap(base -> rewind(schemaId, base, query.revision()));
+        });
+  }
+
+  private Mono<SchemaAtRevisionResult> rewind(String schemaId, Base base, long revision) {
+    return getErdOperationsInRevisionRangePort
+        .findOperationsBySchemaIdInRevisionRangeDesc(schemaId, revision, base.revision())
+        .flatMap(operations -> Flux.fromIterable(operations)
+            .concatMap(this::rewindStep)
+            .reduce(base.snapshot(), (snapshot, step) -> step.apply(snapshot))
+            .map(snapshot -> new SchemaAtRevisionResult(
+                schemaId,
+                revision,
+                base.revision(),
+                operations.size(),
+                snapshot)));
+  }
+
+  private Mono<UnaryOperator<StructuralSnapshot>> rewindStep(ErdOperationLog operation) {
+    if (operation.opType().createsSchema()) {
+      return Mono.just(snapshot -> StructuralSnapshotRewinder.empty(snapshot.schemaId()));
+    }
+    if (StringUtils.hasText(operation.inversePayloadJson())) {
+      InversePayload inverse = jsonCodec.fromPersistedJson(operation.inversePayloadJson(), InversePayload.class);
+      // Older undo rows repeated the root inverse, whose after-state is what the undo started from.
+      if (inverse instanceof StructuralOperationInverse structural
+          && operation.derivationKind() == ErdOperationDerivationKind.UNDO) {
+        return Mono.just(snapshot -> structural.afterSnapshot());
+      }
+      return Mono.just(snapshot -> StructuralSnapshotRewinder.rewind(snapshot, inverse));
+    }
+    if (operation.derivationKind() == ErdOperationDerivationKind.ORIGINAL) {
+      return Mono.just(UnaryOperator.identity());
+    }
+    return findRootOperation(operation)
+        .map(root -> {
+          StructuralOperationInverse structural = requireStructuralInverse(root);
+          StructuralSnapshot before = operation.derivationKind() == ErdOperationDerivationKind.UNDO
+              ? structural.afterSnapshot()
+              : structural.beforeSnapshot();
+          return snapshot -> before;
+        });
+  }
+
+  private Mono<ErdOperationLog> findRootOperation(ErdOperationLog operation) {
+    if (operation.derivationKind() == ErdOperationDerivationKind.ORIGINAL) {
+      return Mono.just(operation);
+    }
+    return getErdOperationByIdPort.findOperationById(operation.derivedFromOpId())
+        .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+            "Derived operation parent is missing: opId=" + operation.opId())))
+        .flatMap(this::findRootOperation);
+  }
+
+  private StructuralOperationInverse requireStructuralInverse(ErdOperationLog root) {
+    if (!StringUtils.hasText(root.inversePayloadJson())) {
+      throw new DomainException(OperationErrorCode.INVERSE_PAYLOAD_MISSING,
+          "Inverse payload is missing for operation: " + root.opId());
+    }
+    InversePayload inverse = jsonCodec.fromPersistedJson(root.inversePayloadJson(), InversePayload.class);
+    if (inverse instanceof StructuralOperationInverse structural) {
+      return structural;
+    }
+    throw new IllegalStateException("Unexpected structural inverse payload type: " + inverse.getClass().getName());
+  }
+
+  // The capture spans several queries, so it only counts when no commit landed in between.
+  private Mono<Base> captureLive(String schemaId) {
+    return currentRevision(schemaId)
+        .flatMap(revision -> structuralSnapshotReader.captureBySchemaId(schemaId)
+            .flatMap(snapshot -> currentRevision(schemaId)
+                .flatMap(revisionAfter -> revisionAfter.equals(revision)
+                    ? Mono.just(new Base(revision, snapshot))
+                    : Mono.error(new RevisionMovedException(schemaId)))))
+        .retryWhen(Retry.max(LIVE_CAPTURE_ATTEMPTS - 1)
+            .filter(RevisionMovedException.class::isInstance)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+  }
+
+  private Mono<Long> currentRevision(String schemaId) {
+    return findSchemaCollaborationStatePort.findBySchemaId(schemaId)
+        .map(SchemaCollaborationState::currentRevision)
+        .defaultIfEmpty(0L);
+  }
+
+  private record Base(long revision, StructuralSnapshot snapshot) {
+  }
+
+  private static final class RevisionMovedException extends IllegalStateException {
+
+    RevisionMovedException(String schemaId) {
+      super("Schema revision moved while capturing: schemaId=" + schemaId);
+    }
+
+  }
+
+}
@@ -0,0 +1,68 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.index.application.port.in.AddIndexColumnCommand;
+import com.schemafy.core.erd.index.application.port.in.AddIndexColumnUseCase;
+import com.schemafy.core.erd.index.application.port.in.ChangeIndexColumnPositionCommand;
+import com.schemafy.core.erd.index.application.port.in.ChangeIndexColumnPositionUseCase;
+import com.schemafy.core.erd.index.application.port.in.ChangeIndexColumnSortDirectionCommand;
+import com.schemafy.core.erd.index.application.port.in.ChangeIndexColumnSortDirectionUseCase;
+import com.schemafy.core.erd.index.application.port.in.ChangeIndexNameCommand;
+import com.schemafy.core.erd.index.application.port.in.ChangeIndexNameUseCase;
+import com.schemafy.core.erd.index.application.port.in.ChangeIndexTypeCommand;
+import com.schemafy.core.erd.index.application.port.in.ChangeIndexTypeUseCase;
+import com.schemafy.core.erd.index.application.port.in.CreateIndexCommand;
+import com.schemafy.core.erd.index.application.port.in.CreateIndexUseCase;
+import com.schemafy.core.erd.index.application.port.in.DeleteIndexCommand;
+import com.schemafy.core.erd.index.application.port.in.DeleteIndexUseCase;
+import com.schemafy.core.erd.index.application.port.in.RemoveIndexColumnCommand;
+import com.schemafy.core.erd.index.application.port.in.RemoveIndexColumnUseCase;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readCommand;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.unsupportedBatchOperation;
+
+@Component
+@RequiredArgsConstructor
+class IndexBatchMutationDispatcher {
+
+  private final JsonCodec jsonCodec;
+  private final CreateIndexUseCase createIndexUseCase;
+  private final ChangeIndexNameUseCase changeIndexNameUseCase;
+  private final ChangeIndexTypeUseCase changeIndexTypeUseCase;
+  private final DeleteIndexUseCase deleteIndexUseCase;
+  private final AddIndexColumnUseCase addIndexColumnUseCase;
+  private final RemoveIndexColumnUseCase removeIndexColumnUseCase;
+  private final ChangeIndexColumnPositionUseCase changeIndexColumnPositionUseCase;
+  private final ChangeIndexColumnSortDirectionUseCase changeIndexColumnSortDirectionUseCase;
+
+  Mono<? extends MutationResult<?>> dispatch(ErdOperationType operationType, JsonNode payload) {
+    return switch (operationType) {
+    case CREATE_INDEX -> createIndexUseCase.createIndex(
+        readCommand(jsonCodec, payload, CreateIndexCommand.class));
+    case CHANGE_INDEX_NAME -> changeIndexNameUseCase.changeIndexName(
+        readCommand(jsonCodec, payload, ChangeIndexNameCommand.class));
+    case CHANGE_INDEX_TYPE -> changeIndexTypeUseCase.changeIndexType(
+        readCommand(jsonCodec, payload, ChangeIndexTypeCommand.class));
+    case DELETE_INDEX -> deleteIndexUseCase.deleteIndex(
+        readCommand(jsonCodec, payload, DeleteIndexCommand.class));
+    case ADD_INDEX_COLUMN -> addIndexColumnUseCase.addIndexColumn(
+        readCommand(jsonCodec, payload, AddIndexColumnCommand.class));
+    case REMOVE_INDEX_COLUMN -> removeIndexColumnUseCase.removeIndexColumn(
+        readCommand(jsonCodec, payload, RemoveIndexColumnCommand.class));
+    case CHANGE_INDEX_COLUMN_POSITION -> changeIndexColumnPositionUseCase.changeIndexColumnPosition(
+        readCommand(jsonCodec, payload, ChangeIndexColumnPositionCommand.class));
+    case CHANGE_INDEX_COLUMN_SORT_DIRECTION -> changeIndexColumnSortDirectionUseCase.changeIndexColumnSortDirection(
+        readCommand(jsonCodec, payload, ChangeIndexColumnSortDirectionCommand.class));
+    default -> throw unsupportedBatchOperation(operationType);
+    };
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.relationship.application.port.in.AddRelationshipColumnCommand;
+import com.schemafy.core.erd.relationship.application.port.in.AddRelationshipColumnUseCase;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipCardinalityCommand;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipCardinalityUseCase;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipColumnPositionCommand;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipColumnPositionUseCase;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipExtraCommand;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipExtraUseCase;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipKindCommand;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipKindUseCase;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipNameCommand;
+import com.schemafy.core.erd.relationship.application.port.in.ChangeRelationshipNameUseCase;
+import com.schemafy.core.erd.relationship.application.port.in.CreateRelationshipCommand;
+import com.schemafy.core.erd.relationship.application.port.in.CreateRelationshipUseCase;
+import com.schemafy.core.erd.relationship.application.port.in.DeleteRelationshipCommand;
+import com.schemafy.core.erd.relationship.application.port.in.DeleteRelationshipUseCase;
+import com.schemafy.core.erd.relationship.application.port.in.RemoveRelationshipColumnCommand;
+import com.schemafy.core.erd.relationship.application.port.in.RemoveRelationshipColumnUseCase;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readCommand;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.unsupportedBatchOperation;
+
+@Component
+@RequiredArgsConstructor
+class RelationshipBatchMutationDispatcher {
+
+  private final JsonCodec jsonCodec;
+  private final CreateRelationshipUseCase createRelationshipUseCase;
+  private final ChangeRelationshipNameUseCase changeRelationshipNameUseCase;
+  private final ChangeRelationshipKindUseCase changeRelationshipKindUseCase;
+  private final ChangeRelationshipCardinalityUseCase changeRelationshipCardinalityUseCase;
+  private final ChangeRelationshipExtraUseCase changeRelationshipExtraUseCase;
+  private final DeleteRelationshipUseCase deleteRelationshipUseCase;
+  private final AddRelationshipColumnUseCase addRelationshipColumnUseCase;
+  private final RemoveRelationshipColumnUseCase removeRelationshipColumnUseCase;
+  private final ChangeRelationshipColumnPositionUseCase changeRelationshipColumnPositionUseCase;
+
+  Mono<? extends MutationResult<?>> dispatch(ErdOperationType operationType, JsonNode payload) {
+    return switch (operationType) {
+    case CREATE_RELATIONSHIP -> createRelationshipUseCase.createRelationship(
+        readCommand(jsonCodec, payload, CreateRelationshipCommand.class));
+    case CHANGE_RELATIONSHIP_NAME -> changeRelationshipNameUseCase.changeRelationshipName(
+        readCommand(jsonCodec, payload, ChangeRelationshipNameCommand.class));
+    case CHANGE_RELATIONSHIP_KIND -> changeRelationshipKindUseCase.changeRelationshipKind(
+        readCommand(jsonCodec, payload, ChangeRelationshipKindCommand.class));
+    case CHANGE_RELATIONSHIP_CARDINALITY -> changeRelationshipCardinalityUseCase.changeRelationshipCardinality(
+        readCommand(jsonCodec, payload, ChangeRelationshipCardinalityCommand.class));
+    case CHANGE_RELATIONSHIP_EXTRA -> changeRelationshipExtraUseCase.changeRelationshipExtra(
+        readCommand(jsonCodec, payload, ChangeRelationshipExtraCommand.class));
+    case DELETE_RELATIONSHIP -> deleteRelationshipUseCase.deleteRelationship(
+        readCommand(jsonCodec, payload, DeleteRelationshipCommand.class));
+    case ADD_RELATIONSHIP_COLUMN -> addRelationshipColumnUseCase.addRelationshipColumn(
+        readCommand(jsonCodec, payload, AddRelationshipColumnCommand.class));
+    case REMOVE_RELATIONSHIP_COLUMN -> removeRelationshipColumnUseCase.removeRelationshipColumn(
+        readCommand(jsonCodec, payload, RemoveRelationshipColumnCommand.class));
+    case CHANGE_RELATIONSHIP_COLUMN_POSITION -> changeRelationshipColumnPositionUseCase.changeRelationshipColumnPosition(
+        readCommand(jsonCodec, payload, ChangeRelationshipColumnPositionCommand.class));
+    default -> throw unsupportedBatchOperation(operationType);
+    };
+  }
+
+}
@@ -0,0 +1,121 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.application.port.out.AppendSchemaCheckpointPort;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.application.port.out.PruneSchemaCheckpointsPort;
+import com.schemafy.core.erd.operation.domain.SchemaCheckpoint;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.ulid.application.port.out.UlidGeneratorPort;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Leaves a structural checkpoint every {@code erd.checkpoint.interval}
+ * revisions. The capture runs after the mutation has committed, in its own
+ * read-only transaction, so writers never wait for it. That transaction reads
+ * the revision together with the structure, and the checkpoint is stored at
+ * that revision, which may be past the one that triggered it. Only the latest
+ * {@code erd.checkpoint.retain} checkpoints of a schema are kept.
+ */
+@Slf4j
+@Component
+class SchemaCheckpointRecorder {
+
+  private final StructuralSnapshotReader structuralSnapshotReader;
+  private final FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+  private final AppendSchemaCheckpointPort appendSchemaCheckpointPort;
+  private final PruneSchemaCheckpointsPort pruneSchemaCheckpointsPort;
+  private final UlidGeneratorPort ulidGeneratorPort;
+  private final JsonCodec jsonCodec;
+  private final TransactionalOperator captureTransactionalOperator;
+  private final long interval;
+  private final int retain;
+
+  SchemaCheckpointRecorder(
+      StructuralSnapshotReader structuralSnapshotReader,
+      FindSchemaCollaborationStatePort findSchemaCollaborationStatePort,
+      AppendSchemaCheckpointPort appendSchemaCheckpointPort,
+      PruneSchemaCheckpointsPort pruneSchemaCheckpointsPort,
+      UlidGeneratorPort ulidGeneratorPort,
+      JsonCodec jsonCodec,
+      ReactiveTransactionManager transactionManager,
+      @Value("${erd.checkpoint.interval:64}") long interval,
+      @Value("${erd.checkpoint.retain:32}") int retain) {
+    this.structuralSnapshotReader = structuralSnapshotReader;
+    this.findSchemaCollaborationStatePort = findSchemaCollaborationStatePort;
+    this.appendSchemaCheckpointPort = appendSchemaCheckpointPort;
+    this.pruneSchemaCheckpointsPort = pruneSchemaCheckpointsPort;
+    this.ulidGeneratorPort = ulidGeneratorPort;
+    this.jsonCodec = jsonCodec;
+    this.captureTransactionalOperator = createReadTransactionalOperator(
+        transactionManager);
+    this.interval = interval;
+    this.retain = Math.max(1, retain);
+  }
+
+  /** Schedules a checkpoint for after the current transaction commits, when the revision is due for one. */
+  Mono<Void> recordAfterCommitIfDue(String schemaId, long revision) {
+    if (interval <= 0 || revision % interval != 0) {
+      return Mono.empty();
+    }
+    return TransactionSynchronizationManager.forCurrentTransaction()
+        .filter(TransactionSynchronizationManager::isSynchronizationActive)
+        .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+          @Override
+          public Mono<Void> afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+              recordInBackground(schemaId);
+            }
+            return Mono.empty();
+          }
+        }))
+        .onErrorResume(NoTransactionException.class, ex -> Mono.empty())
+        .switchIfEmpty(Mono.fromRunnable(() -> recordInBackground(schemaId)))
+        .then();
+  }
+
+  private void recordInBackground(String schemaId) {
+    record(schemaId).subscribe(
+        null,
+        error -> log.warn("Schema checkpoint failed: schemaId={}", schemaId, error));
+  }
+
+  Mono<Void> record(String schemaId) {
+    return Mono.defer(() -> findSchemaCollaborationStatePort.findBySchemaId(schemaId)
+        .map(SchemaCollaborationState::currentRevision)
+        .flatMap(revision -> structuralSnapshotReader.captureBySchemaId(schemaId)
+            .map(snapshot -> new SchemaCheckpoint(
+                ulidGeneratorPort.generate(),
+                schemaId,
+                revision,
+                jsonCodec.toJson(snapshot)))))
+        .as(captureTransactionalOperator::transactional)
+        .flatMap(checkpoint -> appendSchemaCheckpointPort.append(checkpoint)
+            .onErrorResume(DuplicateKeyException.class, ex -> Mono.empty()))
+        .then(Mono.defer(() -> pruneSchemaCheckpointsPort.deleteAllButLatest(schemaId, retain)))
+        .then();
+  }
+
+  private static TransactionalOperator createReadTransactionalOperator(
+      ReactiveTransactionManager transactionManager) {
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+    definition.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    definition.setName("schemaCheckpointCapture");
+    return TransactionalOperator.create(transactionManager, definition);
+  }
+
+}
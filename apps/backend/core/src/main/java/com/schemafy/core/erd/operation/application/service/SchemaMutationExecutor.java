@@ -0,0 +1,217 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.ContextView;
+
+/**
+ * Runs the mutations of one schema one at a time on this node, so they queue
+ * in memory instead of on the schema state row lock. Work opens its own
+ * transaction once it holds the slot, so a queued caller holds no connection.
+ * Work submitted inside a transaction keeps the slot until that transaction has
+ * completed, and work that is already inside the slot of its schema runs
+ * directly.
+ *
+ * <p>Grouped work is submitted without a surrounding transaction. Consecutive
+ * grouped work is committed together, and when the group fails every member
+ * is retried in its own transaction so one bad command does not fail the
+ * others.
+ */
+@Component
+class SchemaMutationExecutor {
+
+  private static final Object HELD_SCHEMA_CONTEXT_KEY = new Object();
+
+  private final TransactionalOperator transactionalOperator;
+  private final int maxGroupSize;
+  private final Map<String, SchemaQueue> queues = new ConcurrentHashMap<>();
+
+  SchemaMutationExecutor(
+      TransactionalOperator transactionalOperator,
+      @Value("${erd.writer.max-group-size:16}") int maxGroupSize) {
+    this.transactionalOperator = transactionalOperator;
+    this.maxGroupSize = Math.max(1, maxGroupSize);
+  }
+
+  <T> Mono<T> execute(String schemaId, Mono<T> work) {
+    return submit(schemaId, work, false);
+  }
+
+  <T> Mono<T> executeGrouped(String schemaId, Mono<T> work) {
+    return submit(schemaId, work, true);
+  }
+
+  private <T> Mono<T> submit(String schemaId, Mono<T> work, boolean groupable) {
+    if (schemaId == null) {
+      return work;
+    }
+    return Mono.deferContextual(contextView -> {
+      if (schemaId.equals(contextView.getOrDefault(HELD_SCHEMA_CONTEXT_KEY, null))) {
+        return work;
+      }
+      return isHeldByCurrentTransaction(schemaId)
+          .flatMap(held -> held ? work : enqueue(schemaId, work, groupable, contextView));
+    });
+  }
+
+  private <T> Mono<T> enqueue(String schemaId, Mono<T> work, boolean groupable, ContextView contextView) {
+    Task<T> task = new Task<>(groupable);
+    Mono<T> tracked = groupable
+        ? work
+        : holdUntilTransactionEnds(schemaId, task.released)
+            .flatMap(held -> held ? work : work.doFinally(signal -> task.released.tryEmitEmpty()));
+    task.work = tracked.contextWrite(context -> context.putAll(contextView).put(HELD_SCHEMA_CONTEXT_KEY, schemaId));
+
+    AtomicBoolean idle = new AtomicBoolean();
+    queues.compute(schemaId, (id, queue) -> {
+      SchemaQueue current = queue == null ? new SchemaQueue() : queue;
+      current.pending.add(task);
+      idle.set(!current.running);
+      current.running = true;
+      return current;
+    });
+    if (idle.get()) {
+      drainNext(schemaId);
+    }
+    return task.result.asMono().doOnCancel(() -> task.cancelled = true);
+  }
+
+  private void drainNext(String schemaId) {
+    List<Task<?>> next = new ArrayList<>();
+    queues.computeIfPresent(schemaId, (id, queue) -> {
+      pollNext(queue.pending, next);
+      return next.isEmpty() ? null : queue;
+    });
+    if (next.isEmpty()) {
+      return;
+    }
+    Mono<Void> run = next.size() == 1 ? runAlone(next.get(0)) : runGroup(next);
+    run.doFinally(signal -> drainNext(schemaId)).subscribe();
+  }
+
+  private void pollNext(Deque<Task<?>> pending, List<Task<?>> next) {
+    Task<?> task;
+    while ((task = pending.poll()) != null) {
+      if (task.cancelled) {
+        continue;
+      }
+      next.add(task);
+      if (!task.groupable) {
+        return;
+      }
+      break;
+    }
+    while (!next.isEmpty() && next.size() < maxGroupSize) {
+      Task<?> candidate = pending.peek();
+      if (candidate == null || !candidate.groupable) {
+        return;
+      }
+      pending.poll();
+      if (!candidate.cancelled) {
+        next.add(candidate);
+      }
+    }
+  }
+
+  private Mono<Void> runAlone(Task<?> task) {
+    if (task.groupable) {
+      return task.attempt()
+          .doOnNext(Runnable::run)
+          .doOnError(task::fail)
+          .onErrorResume(error -> Mono.empty())
+          .then();
+    }
+    return Mono.defer(() -> {
+      task.attempt().subscribe(Runnable::run, task::fail);
+      return task.released.asMono();
+    });
+  }
+
+  // Results are only handed out after the shared commit, and a failed group is replayed member by member.
+  private Mono<Void> runGroup(List<Task<?>> group) {
+    return Flux.fromIterable(group)
+        .concatMap(Task::attempt)
+        .collectList()
+        .as(transactionalOperator::transactional)
+        .doOnNext(completions -> completions.forEach(Runnable::run))
+        .then()
+        .onErrorResume(error -> Flux.fromIterable(group)
+            .concatMap(this::runAlone)
+            .then());
+  }
+
+  private static Mono<Boolean> isHeldByCurrentTransaction(String schemaId) {
+    return TransactionSynchronizationManager.forCurrentTransaction()
+        .map(manager -> manager.hasResource(new HeldSchema(schemaId)))
+        .onErrorResume(NoTransactionException.class, ex -> Mono.just(false));
+  }
+
+  private static Mono<Boolean> holdUntilTransactionEnds(String schemaId, Sinks.Empty<Void> released) {
+    return TransactionSynchronizationManager.forCurrentTransaction()
+        .filter(TransactionSynchronizationManager::isSynchronizationActive)
+        .map(manager -> {
+          manager.bindResource(new HeldSchema(schemaId), Boolean.TRUE);
+          manager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public Mono<Void> afterCompletion(int status) {
+              released.tryEmitEmpty();
+              return Mono.empty();
+            }
+          });
+          return true;
+        })
+        .onErrorResume(NoTransactionException.class, ex -> Mono.empty())
+        .defaultIfEmpty(false);
+  }
+
+  private record HeldSchema(String schemaId) {
+  }
+
+  private static final class SchemaQueue {
+
+    private final Deque<Task<?>> pending = new ArrayDeque<>();
+    private boolean running;
+
+  }
+
+  private static final class Task<T> {
+
+    private final boolean groupable;
+    private final Sinks.One<T> result = Sinks.one();
+    private final Sinks.Empty<Void> released = Sinks.empty();
+    private Mono<T> work;
+    private volatile boolean cancelled;
+
+    private Task(boolean groupable) {
+      this.groupable = groupable;
+    }
+
+    private Mono<Runnable> attempt() {
+      return work
+          .<Runnable>map(value -> () -> result.tryEmitValue(value))
+          .defaultIfEmpty(result::tryEmitEmpty);
+    }
+
+    private void fail(Throwable error) {
+      result.tryEmitError(error);
+    }
+
+  }
+
+}
@@ -2,8 +2,11 @@ package com.schemafy.core.erd.operation.application.service;
 
 import org.springframework.stereotype.Component;
 
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
 import com.schemafy.core.erd.operation.domain.ErdOperationType;
 import com.schemafy.core.erd.schema.application.port.in.ChangeSchemaNameCommand;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaCommand;
 import com.schemafy.core.erd.schema.application.port.in.CreateSchemaCommand;
 import com.schemafy.core.erd.schema.application.port.in.DeleteSchemaCommand;
 
@@ -11,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
 import static com.schemafy.core.erd.operation.application.service.ErdMutationTargetResolutionSupport.requirePayload;
+import static com.schemafy.core.erd.operation.application.service.ErdMutationTargetResolutionSupport.resolveStructuralOr;
 import static com.schemafy.core.erd.operation.application.service.ErdMutationTargetResolutionSupport.unsupportedTargetOperation;
 
 @Component
@@ -22,8 +26,11 @@ class SchemaMutationTargetResolver {
   Mono<ResolvedErdMutationTarget> resolve(ErdOperationType operationType, Object payload) {
     return switch (operationType) {
     case CREATE_SCHEMA -> resolveCreateSchema(payload);
+    case IMPORT_SCHEMA_DDL -> resolveImportSchemaDdl(payload);
+    case CLONE_SCHEMA -> resolveCloneSchema(payload);
     case CHANGE_SCHEMA_NAME -> resolveChangeSchemaName(payload);
     case DELETE_SCHEMA -> resolveDeleteSchema(payload);
+    case APPLY_MUTATION_BATCH -> resolveApplyMutationBatch(payload);
     default -> throw unsupportedTargetOperation(operationType);
     };
   }
@@ -33,6 +40,17 @@ class SchemaMutationTargetResolver {
     return Mono.just(new ResolvedErdMutationTarget(command.projectId(), null, null));
   }
 
+  private Mono<ResolvedErdMutationTarget> resolveImportSchemaDdl(Object payload) {
+    ImportSchemaDdlCommand command = requirePayload(payload, ImportSchemaDdlCommand.class);
+    return Mono.just(new ResolvedErdMutationTarget(command.projectId(), null, null));
+  }
+
+  private Mono<ResolvedErdMutationTarget> resolveCloneSchema(Object payload) {
+    CloneSchemaCommand command = requirePayload(payload, CloneSchemaCommand.class);
+    return targetLookup.resolveBySchemaId(command.sourceSchemaId(), null)
+        .map(sourceTarget -> new ResolvedErdMutationTarget(sourceTarget.projectId(), null, null));
+  }
+
   private Mono<ResolvedErdMutationTarget> resolveChangeSchemaName(Object payload) {
     ChangeSchemaNameCommand command = requirePayload(payload, ChangeSchemaNameCommand.class);
     return targetLookup.resolveBySchemaId(command.schemaId(), command.schemaId());
@@ -43,4 +61,11 @@ class SchemaMutationTargetResolver {
     return targetLookup.resolveBySchemaId(command.schemaId(), command.schemaId());
   }
 
+  private Mono<ResolvedErdMutationTarget> resolveApplyMutationBatch(Object payload) {
+    return resolveStructuralOr(payload, targetLookup, () -> {
+      ApplyErdMutationBatchCommand command = requirePayload(payload, ApplyErdMutationBatchCommand.class);
+      return targetLookup.resolveBySchemaId(command.schemaId(), command.schemaId());
+    });
+  }
+
 }
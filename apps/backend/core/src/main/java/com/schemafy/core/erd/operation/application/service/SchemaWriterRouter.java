@@ -0,0 +1,66 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.erd.operation.ErdOperationMetadata;
+import com.schemafy.core.erd.operation.SchemaWriterNode;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+import com.schemafy.core.erd.operation.application.port.out.ForwardErdMutationBatchPort;
+import com.schemafy.core.erd.operation.application.port.out.SchemaWriterLeasePort;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/** Sends a batch to the node holding the schema's write lease. Completes empty whenever the batch should run
+ * here: this node owns the schema, nothing can forward, or the lease store is unreachable. */
+@Slf4j
+@Component
+class SchemaWriterRouter {
+
+  private final SchemaWriterLeasePort schemaWriterLeasePort;
+  private final ObjectProvider<ForwardErdMutationBatchPort> forwardErdMutationBatchPortProvider;
+  private final SchemaWriterNode schemaWriterNode;
+  private final Duration leaseTtl;
+
+  SchemaWriterRouter(
+      SchemaWriterLeasePort schemaWriterLeasePort,
+      ObjectProvider<ForwardErdMutationBatchPort> forwardErdMutationBatchPortProvider,
+      SchemaWriterNode schemaWriterNode,
+      @Value("${erd.writer.lease-ttl:30s}") Duration leaseTtl) {
+    this.schemaWriterLeasePort = schemaWriterLeasePort;
+    this.forwardErdMutationBatchPortProvider = forwardErdMutationBatchPortProvider;
+    this.schemaWriterNode = schemaWriterNode;
+    this.leaseTtl = leaseTtl;
+  }
+
+  Mono<MutationResult<ApplyErdMutationBatchResult>> forwardIfRemote(
+      ApplyErdMutationBatchCommand command,
+      ErdOperationMetadata metadata) {
+    ForwardErdMutationBatchPort forwardPort = forwardErdMutationBatchPortProvider.getIfAvailable();
+    if (forwardPort == null) {
+      return Mono.empty();
+    }
+    return owner(command.schemaId())
+        .filter(ownerNodeId -> !ownerNodeId.equals(schemaWriterNode.id()))
+        .flatMap(ownerNodeId -> forwardPort.forward(ownerNodeId, command, metadata));
+  }
+
+  Mono<Void> renew(String schemaId) {
+    return owner(schemaId).then();
+  }
+
+  private Mono<String> owner(String schemaId) {
+    return schemaWriterLeasePort.acquireOrFindOwner(schemaId, schemaWriterNode.id(), leaseTtl)
+        .onErrorResume(error -> {
+          log.warn("Schema writer lease lookup failed, applying locally: schemaId={}", schemaId, error);
+          return Mono.empty();
+        });
+  }
+
+}
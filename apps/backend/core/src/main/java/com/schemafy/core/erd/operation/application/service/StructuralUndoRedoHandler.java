@@ -12,6 +12,7 @@ import com.schemafy.core.erd.operation.ErdOperationContexts;
 import com.schemafy.core.erd.operation.application.inverse.InversePayload;
 import com.schemafy.core.erd.operation.application.inverse.StructuralOperationInverse;
 import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralUndoRedoPayload;
 import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
 import com.schemafy.core.erd.operation.domain.ErdOperationLog;
 import com.schemafy.core.erd.operation.domain.ErdOperationType;
@@ -41,7 +42,8 @@ class StructuralUndoRedoHandler implements UndoRedoErdOperationHandler {
       ErdOperationType.CHANGE_RELATIONSHIP_KIND,
       ErdOperationType.DELETE_RELATIONSHIP,
       ErdOperationType.ADD_RELATIONSHIP_COLUMN,
-      ErdOperationType.REMOVE_RELATIONSHIP_COLUMN);
+      ErdOperationType.REMOVE_RELATIONSHIP_COLUMN,
+      ErdOperationType.APPLY_MUTATION_BATCH);
 
   private final JsonCodec jsonCodec;
   private final ErdMutationCoordinator erdMutationCoordinator;
@@ -62,10 +64,12 @@ class StructuralUndoRedoHandler implements UndoRedoErdOperationHandler {
     return execute(resolved);
   }
 
+  // Snapshots are read from the root operation, so undo/redo rows do not copy them again; the result
+  // still carries the inverse in-process for broadcasting.
   private Mono<MutationResult<Void>> execute(ResolvedUndoRedoEligibility resolved) {
     return Mono.defer(() -> {
-      ErdOperationType operationType = resolved.targetRootOriginalOperation().opType();
-      StructuralOperationInverse inversePayload = deserialize(resolved.executionBaseOperation());
+      ErdOperationLog rootOperation = resolved.targetRootOriginalOperation();
+      StructuralOperationInverse inversePayload = deserialize(rootOperation);
       StructuralSnapshot targetSnapshot = resolved.action() == UndoRedoAction.UNDO
           ? inversePayload.beforeSnapshot()
           : inversePayload.afterSnapshot();
@@ -73,21 +77,22 @@ class StructuralUndoRedoHandler implements UndoRedoErdOperationHandler {
           ? ErdOperationDerivationKind.UNDO
           : ErdOperationDerivationKind.REDO;
 
-      return erdMutationCoordinator.coordinate(operationType, inversePayload,
+      return erdMutationCoordinator.coordinate(rootOperation.opType(),
+          StructuralUndoRedoPayload.of(inversePayload, rootOperation.opId()),
           () -> structuralSnapshotService.reconcileTo(targetSnapshot)
-              .thenReturn(MutationResult.<Void>of(null, Set.copyOf(inversePayload.affectedTableIds()))
-                  .withInverse((InversePayload) inversePayload)))
+              .thenReturn(MutationResult.<Void>of(null, Set.copyOf(inversePayload.affectedTableIds()))))
+          .map(result -> result.withInverse((InversePayload) inversePayload))
           .contextWrite(ErdOperationContexts.withDerivation(derivationKind, resolved.executionBaseOperation().opId())
               .andThen(ErdOperationContexts.withBaseSchemaRevision(resolved.schemaCurrentRevision())));
     });
   }
 
-  private StructuralOperationInverse deserialize(ErdOperationLog executionBase) {
-    String inversePayloadJson = executionBase.inversePayloadJson();
+  private StructuralOperationInverse deserialize(ErdOperationLog rootOperation) {
+    String inversePayloadJson = rootOperation.inversePayloadJson();
     if (!StringUtils.hasText(inversePayloadJson)) {
       throw new DomainException(
           OperationErrorCode.INVERSE_PAYLOAD_MISSING,
-          "Inverse payload is missing for operation: " + executionBase.opId());
+          "Inverse payload is missing for operation: " + rootOperation.opId());
     }
 
     InversePayload payload = jsonCodec.fromPersistedJson(inversePayloadJson,
@@ -0,0 +1,61 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.table.application.port.in.ChangeTableExtraCommand;
+import com.schemafy.core.erd.table.application.port.in.ChangeTableExtraUseCase;
+import com.schemafy.core.erd.table.application.port.in.ChangeTableMetaCommand;
+import com.schemafy.core.erd.table.application.port.in.ChangeTableMetaUseCase;
+import com.schemafy.core.erd.table.application.port.in.ChangeTableNameCommand;
+import com.schemafy.core.erd.table.application.port.in.ChangeTableNameUseCase;
+import com.schemafy.core.erd.table.application.port.in.CreateTableCommand;
+import com.schemafy.core.erd.table.application.port.in.CreateTableUseCase;
+import com.schemafy.core.erd.table.application.port.in.DeleteTableCommand;
+import com.schemafy.core.erd.table.application.port.in.DeleteTableUseCase;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readCommand;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readText;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.readTextPatch;
+import static com.schemafy.core.erd.operation.application.service.ErdBatchMutationSupport.unsupportedBatchOperation;
+
+@Component
+@RequiredArgsConstructor
+class TableBatchMutationDispatcher {
+
+  private final JsonCodec jsonCodec;
+  private final CreateTableUseCase createTableUseCase;
+  private final ChangeTableNameUseCase changeTableNameUseCase;
+  private final ChangeTableMetaUseCase changeTableMetaUseCase;
+  private final ChangeTableExtraUseCase changeTableExtraUseCase;
+  private final DeleteTableUseCase deleteTableUseCase;
+
+  Mono<? extends MutationResult<?>> dispatch(ErdOperationType operationType, JsonNode payload) {
+    return switch (operationType) {
+    case CREATE_TABLE -> createTableUseCase.createTable(
+        readCommand(jsonCodec, payload, CreateTableCommand.class));
+    case CHANGE_TABLE_NAME -> changeTableNameUseCase.changeTableName(
+        readCommand(jsonCodec, payload, ChangeTableNameCommand.class));
+    case CHANGE_TABLE_META -> changeTableMetaUseCase.changeTableMeta(changeTableMetaCommand(payload));
+    case CHANGE_TABLE_EXTRA -> changeTableExtraUseCase.changeTableExtra(
+        readCommand(jsonCodec, payload, ChangeTableExtraCommand.class));
+    case DELETE_TABLE -> deleteTableUseCase.deleteTable(
+        readCommand(jsonCodec, payload, DeleteTableCommand.class));
+    default -> throw unsupportedBatchOperation(operationType);
+    };
+  }
+
+  private static ChangeTableMetaCommand changeTableMetaCommand(JsonNode payload) {
+    return new ChangeTableMetaCommand(
+        readText(payload, "tableId"),
+        readTextPatch(payload, "charset"),
+        readTextPatch(payload, "collation"));
+  }
+
+}
@@ -1,10 +1,28 @@
 package com.schemafy.core.erd.operation.domain;
 
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Operation committed by a mutation. {@code committedAt} is stamped once the
+ * surrounding transaction has committed and is only carried in-process; it is
+ * not part of the API contract.
+ */
 public record CommittedErdOperation(
     String opId,
     String clientOperationId,
     long committedRevision,
-    ErdOperationDerivationKind derivationKind) {
+    ErdOperationDerivationKind derivationKind,
+    @JsonIgnore Instant committedAt) {
+
+  public CommittedErdOperation(
+      String opId,
+      String clientOperationId,
+      long committedRevision,
+      ErdOperationDerivationKind derivationKind) {
+    this(opId, clientOperationId, committedRevision, derivationKind, null);
+  }
 
   public static CommittedErdOperation from(ErdOperationLog operationLog) {
     return new CommittedErdOperation(
@@ -14,4 +32,9 @@ public record CommittedErdOperation(
         operationLog.derivationKind());
   }
 
+  public CommittedErdOperation withCommittedAt(Instant committedAt) {
+    return new CommittedErdOperation(opId, clientOperationId, committedRevision, derivationKind,
+        committedAt);
+  }
+
 }
@@ -3,6 +3,8 @@ package com.schemafy.core.erd.operation.domain;
 public enum ErdOperationType {
 
   CREATE_SCHEMA,
+  IMPORT_SCHEMA_DDL,
+  CLONE_SCHEMA,
   CHANGE_SCHEMA_NAME,
   DELETE_SCHEMA,
   CREATE_TABLE,
@@ -40,6 +42,37 @@ public enum ErdOperationType {
   DELETE_RELATIONSHIP,
   ADD_RELATIONSHIP_COLUMN,
   REMOVE_RELATIONSHIP_COLUMN,
-  CHANGE_RELATIONSHIP_COLUMN_POSITION;
+  CHANGE_RELATIONSHIP_COLUMN_POSITION,
+  APPLY_MUTATION_BATCH;
+
+  public boolean createsSchema() {
+    return this == CREATE_SCHEMA || this == IMPORT_SCHEMA_DDL || this == CLONE_SCHEMA;
+  }
+
+  /** Whether the operation only rewrites attributes of existing rows inside one schema. */
+  public boolean updatesInPlace() {
+    return switch (this) {
+      case CHANGE_TABLE_NAME,
+          CHANGE_TABLE_META,
+          CHANGE_TABLE_EXTRA,
+          CHANGE_COLUMN_NAME,
+          CHANGE_COLUMN_TYPE,
+          CHANGE_COLUMN_META,
+          CHANGE_COLUMN_POSITION,
+          CHANGE_CONSTRAINT_NAME,
+          CHANGE_CONSTRAINT_CHECK_EXPR,
+          CHANGE_CONSTRAINT_DEFAULT_EXPR,
+          CHANGE_CONSTRAINT_COLUMN_POSITION,
+          CHANGE_INDEX_NAME,
+          CHANGE_INDEX_TYPE,
+          CHANGE_INDEX_COLUMN_POSITION,
+          CHANGE_INDEX_COLUMN_SORT_DIRECTION,
+          CHANGE_RELATIONSHIP_NAME,
+          CHANGE_RELATIONSHIP_CARDINALITY,
+          CHANGE_RELATIONSHIP_EXTRA,
+          CHANGE_RELATIONSHIP_COLUMN_POSITION -> true;
+      default -> false;
+    };
+  }
 
 }
@@ -0,0 +1,8 @@
+package com.schemafy.core.erd.operation.domain;
+
+public record SchemaCheckpoint(
+    String checkpointId,
+    String schemaId,
+    long revision,
+    String snapshotJson) {
+}
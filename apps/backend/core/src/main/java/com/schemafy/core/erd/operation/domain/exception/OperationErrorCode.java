@@ -17,7 +17,9 @@ public enum OperationErrorCode implements DomainErrorCode {
   ALREADY_UNDONE(HttpStatus.CONFLICT),
   REDO_NOT_ELIGIBLE(HttpStatus.CONFLICT),
   INVERSE_PAYLOAD_MISSING(HttpStatus.CONFLICT),
-  UNSUPPORTED(HttpStatus.CONFLICT);
+  UNSUPPORTED(HttpStatus.CONFLICT),
+  CONCURRENT_MODIFICATION(HttpStatus.CONFLICT),
+  WRITER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE);
 
   private final HttpStatus status;
 
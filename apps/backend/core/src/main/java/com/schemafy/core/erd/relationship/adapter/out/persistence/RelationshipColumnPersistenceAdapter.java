@@ -9,12 +9,14 @@ import com.schemafy.core.common.PersistenceAdapter;
 import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.erd.relationship.application.port.out.ChangeRelationshipColumnPositionPort;
 import com.schemafy.core.erd.relationship.application.port.out.CreateRelationshipColumnPort;
+import com.schemafy.core.erd.relationship.application.port.out.CreateRelationshipColumnsPort;
 import com.schemafy.core.erd.relationship.application.port.out.DeleteRelationshipColumnPort;
 import com.schemafy.core.erd.relationship.application.port.out.DeleteRelationshipColumnsByColumnIdPort;
 import com.schemafy.core.erd.relationship.application.port.out.DeleteRelationshipColumnsByRelationshipIdPort;
 import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipColumnByIdPort;
 import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipColumnsByColumnIdPort;
 import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipColumnsByRelationshipIdPort;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipColumnsBySchemaIdPort;
 import com.schemafy.core.erd.relationship.application.port.out.RestoreRelationshipColumnPort;
 import com.schemafy.core.erd.relationship.domain.RelationshipColumn;
 import com.schemafy.core.erd.relationship.domain.exception.RelationshipErrorCode;
@@ -27,9 +29,11 @@ import reactor.core.publisher.Mono;
 class RelationshipColumnPersistenceAdapter implements
     ChangeRelationshipColumnPositionPort,
     CreateRelationshipColumnPort,
+    CreateRelationshipColumnsPort,
     GetRelationshipColumnByIdPort,
     GetRelationshipColumnsByColumnIdPort,
     GetRelationshipColumnsByRelationshipIdPort,
+    GetRelationshipColumnsBySchemaIdPort,
     RestoreRelationshipColumnPort,
     DeleteRelationshipColumnPort,
     DeleteRelationshipColumnsByRelationshipIdPort,
@@ -46,6 +50,14 @@ class RelationshipColumnPersistenceAdapter implements
         .map(relationshipColumnMapper::toDomain);
   }
 
+  @Override
+  public Mono<Void> createRelationshipColumns(List<RelationshipColumn> relationshipColumns) {
+    return relationshipColumnRepository.saveAll(relationshipColumns.stream()
+        .map(relationshipColumnMapper::toEntity)
+        .toList())
+        .then();
+  }
+
   @Override
   public Mono<RelationshipColumn> findRelationshipColumnById(String relationshipColumnId) {
     return relationshipColumnRepository.findById(relationshipColumnId)
@@ -59,6 +71,13 @@ class RelationshipColumnPersistenceAdapter implements
         .collectList();
   }
 
+  @Override
+  public Mono<List<RelationshipColumn>> findRelationshipColumnsBySchemaId(String schemaId) {
+    return relationshipColumnRepository.findBySchemaId(schemaId)
+        .map(relationshipColumnMapper::toDomain)
+        .collectList();
+  }
+
   @Override
   public Mono<List<RelationshipColumn>> findRelationshipColumnsByColumnId(String columnId) {
     return relationshipColumnRepository.findByColumnId(columnId)
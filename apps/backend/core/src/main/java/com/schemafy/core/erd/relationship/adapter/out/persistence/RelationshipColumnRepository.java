@@ -18,4 +18,13 @@ interface RelationshipColumnRepository extends ReactiveCrudRepository<Relationsh
   @Query("DELETE FROM db_relationship_columns WHERE pk_column_id = :columnId OR fk_column_id = :columnId")
   Mono<Void> deleteByColumnId(String columnId);
 
+  @Query("""
+      SELECT rc.* FROM db_relationship_columns rc
+      JOIN db_relationships r ON r.id = rc.relationship_id
+      JOIN db_tables t ON t.id = r.fk_table_id
+      WHERE t.schema_id = :schemaId
+      ORDER BY rc.relationship_id, rc.seq_no
+      """)
+  Flux<RelationshipColumnEntity> findBySchemaId(String schemaId);
+
 }
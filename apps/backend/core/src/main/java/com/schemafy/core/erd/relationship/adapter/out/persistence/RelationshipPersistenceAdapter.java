@@ -12,6 +12,7 @@ import com.schemafy.core.erd.relationship.application.port.out.ChangeRelationshi
 import com.schemafy.core.erd.relationship.application.port.out.ChangeRelationshipKindPort;
 import com.schemafy.core.erd.relationship.application.port.out.ChangeRelationshipNamePort;
 import com.schemafy.core.erd.relationship.application.port.out.CreateRelationshipPort;
+import com.schemafy.core.erd.relationship.application.port.out.CreateRelationshipsPort;
 import com.schemafy.core.erd.relationship.application.port.out.DeleteRelationshipPort;
 import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipByIdPort;
 import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipsByPkTableIdPort;
@@ -31,6 +32,7 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 class RelationshipPersistenceAdapter implements
     CreateRelationshipPort,
+    CreateRelationshipsPort,
     GetRelationshipByIdPort,
     GetRelationshipsBySchemaIdPort,
     GetRelationshipsByTableIdPort,
@@ -54,6 +56,14 @@ class RelationshipPersistenceAdapter implements
         .map(relationshipMapper::toDomain);
   }
 
+  @Override
+  public Mono<Void> createRelationships(List<Relationship> relationships) {
+    return relationshipRepository.saveAll(relationships.stream()
+        .map(relationshipMapper::toEntity)
+        .toList())
+        .then();
+  }
+
   @Override
   public Mono<Relationship> findRelationshipById(String relationshipId) {
     return relationshipRepository.findById(relationshipId)
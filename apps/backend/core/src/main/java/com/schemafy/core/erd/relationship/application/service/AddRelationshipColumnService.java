@@ -7,7 +7,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -49,7 +48,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 })
 public class AddRelationshipColumnService implements AddRelationshipColumnUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final UlidGeneratorPort ulidGeneratorPort;
   private final CreateRelationshipColumnPort createRelationshipColumnPort;
   private final GetRelationshipByIdPort getRelationshipByIdPort;
@@ -76,8 +74,7 @@ public class AddRelationshipColumnService implements AddRelationshipColumnUseCas
                         result.result().relationshipColumnId(),
                         beforeSnapshot,
                         afterSnapshot,
-                        result.sortedAffectedTableIds()))))))
-        .as(transactionalOperator::transactional);
+                        result.sortedAffectedTableIds()))))));
   }
 
   private Mono<MutationResult<AddRelationshipColumnResult>> addRelationshipColumnWithoutInverse(
@@ -7,7 +7,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -39,7 +38,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 public class ChangeRelationshipColumnPositionService
     implements ChangeRelationshipColumnPositionUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final ChangeRelationshipColumnPositionPort changeRelationshipColumnPositionPort;
   private final GetRelationshipColumnByIdPort getRelationshipColumnByIdPort;
   private final GetRelationshipColumnsByRelationshipIdPort getRelationshipColumnsByRelationshipIdPort;
@@ -104,8 +102,7 @@ public class ChangeRelationshipColumnPositionService
                                             RelationshipColumn::id,
                                             RelationshipColumn::seqNo))));
                           }));
-                })))
-        .as(transactionalOperator::transactional);
+                })));
   }
 
   private static Set<String> toTableIdSet(Relationship relationship) {
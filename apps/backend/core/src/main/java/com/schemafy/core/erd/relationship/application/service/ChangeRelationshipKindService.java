@@ -6,7 +6,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -39,7 +38,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = RELATIONSHIP, id = "relationshipId"))
 public class ChangeRelationshipKindService implements ChangeRelationshipKindUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final ChangeRelationshipKindPort changeRelationshipKindPort;
   private final GetRelationshipByIdPort getRelationshipByIdPort;
   private final GetTableByIdPort getTableByIdPort;
@@ -102,8 +100,7 @@ public class ChangeRelationshipKindService implements ChangeRelationshipKindUseC
                                     afterSnapshot,
                                     result.sortedAffectedTableIds())))));
                   }));
-        })
-        .as(transactionalOperator::transactional);
+        });
   }
 
   private static Set<String> affectedTableIds(String fkTableId, String pkTableId) {
@@ -10,7 +10,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -64,7 +63,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 })
 public class CreateRelationshipService implements CreateRelationshipUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final UlidGeneratorPort ulidGeneratorPort;
   private final CreateRelationshipPort createRelationshipPort;
   private final CreateRelationshipColumnPort createRelationshipColumnPort;
@@ -116,8 +114,7 @@ public class CreateRelationshipService implements CreateRelationshipUseCase {
                                     afterSnapshot,
                                     result.sortedAffectedTableIds()))));
                       }))));
-    })
-        .as(transactionalOperator::transactional);
+    });
   }
 
   private Mono<TargetTables> loadTargetTables(CreateRelationshipCommand command) {
@@ -6,7 +6,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -41,7 +40,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = RELATIONSHIP, id = "relationshipId"))
 public class DeleteRelationshipService implements DeleteRelationshipUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteRelationshipPort deleteRelationshipPort;
   private final DeleteRelationshipColumnsByRelationshipIdPort deleteRelationshipColumnsPort;
   private final GetRelationshipColumnsByRelationshipIdPort getRelationshipColumnsByRelationshipIdPort;
@@ -61,8 +59,7 @@ public class DeleteRelationshipService implements DeleteRelationshipUseCase {
 
     return Mono.deferContextual(contextView -> ErdOperationContexts.isNestedMutationSuppressed(contextView)
         ? deleteRelationshipWithoutInverse(relationshipId)
-        : deleteRelationshipWithInverse(command, relationshipId))
-        .as(transactionalOperator::transactional);
+        : deleteRelationshipWithInverse(command, relationshipId));
   }
 
   private Mono<MutationResult<Void>> deleteRelationshipWithInverse(
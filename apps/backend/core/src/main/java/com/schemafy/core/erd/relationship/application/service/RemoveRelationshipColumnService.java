@@ -7,7 +7,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -42,7 +41,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = RELATIONSHIP_COLUMN, id = "relationshipColumnId"))
 public class RemoveRelationshipColumnService implements RemoveRelationshipColumnUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteRelationshipColumnPort deleteRelationshipColumnPort;
   private final DeleteRelationshipPort deleteRelationshipPort;
   private final ChangeRelationshipColumnPositionPort changeRelationshipColumnPositionPort;
@@ -69,8 +67,7 @@ public class RemoveRelationshipColumnService implements RemoveRelationshipColumn
                         command.relationshipColumnId(),
                         beforeSnapshot,
                         afterSnapshot,
-                        result.sortedAffectedTableIds()))))))
-        .as(transactionalOperator::transactional);
+                        result.sortedAffectedTableIds()))))));
   }
 
   private Mono<MutationResult<Void>> removeRelationshipColumnWithoutInverse(
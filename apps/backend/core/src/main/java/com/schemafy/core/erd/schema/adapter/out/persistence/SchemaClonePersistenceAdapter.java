@@ -0,0 +1,34 @@
+package com.schemafy.core.erd.schema.adapter.out.persistence;
+
+import com.schemafy.core.common.PersistenceAdapter;
+import com.schemafy.core.erd.schema.application.port.out.CloneSchemaContentsPort;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@PersistenceAdapter
+@RequiredArgsConstructor
+class SchemaClonePersistenceAdapter implements CloneSchemaContentsPort {
+
+  private final SchemaCloneRepository schemaCloneRepository;
+
+  @Override
+  public Mono<Integer> cloneSchemaContents(String sourceSchemaId, String targetSchemaId, String idPrefix) {
+    // The target schema id is fresh, so it doubles as the key of this clone's id map rows.
+    String cloneId = targetSchemaId;
+    return schemaCloneRepository.mapIds(cloneId, sourceSchemaId, idPrefix)
+        .then(schemaCloneRepository.copyTables(cloneId, targetSchemaId))
+        .flatMap(tableCount -> schemaCloneRepository.copyColumns(cloneId)
+            .then(schemaCloneRepository.copyConstraints(cloneId))
+            .then(schemaCloneRepository.copyConstraintColumns(cloneId))
+            .then(schemaCloneRepository.copyIndexes(cloneId))
+            .then(schemaCloneRepository.copyIndexColumns(cloneId))
+            .then(schemaCloneRepository.copyRelationships(cloneId))
+            .then(schemaCloneRepository.copyRelationshipColumns(cloneId))
+            .then(schemaCloneRepository.copyMemos(cloneId, targetSchemaId))
+            .then(schemaCloneRepository.copyMemoComments(cloneId))
+            .then(schemaCloneRepository.clearIdMap(cloneId))
+            .thenReturn(Math.toIntExact(tableCount)));
+  }
+
+}
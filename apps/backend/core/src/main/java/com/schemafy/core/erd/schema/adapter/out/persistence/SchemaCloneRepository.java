@@ -0,0 +1,175 @@
+package com.schemafy.core.erd.schema.adapter.out.persistence;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import reactor.core.publisher.Mono;
+
+interface SchemaCloneRepository extends Repository<SchemaEntity, String> {
+
+  @Modifying
+  @Query("""
+      INSERT INTO schema_clone_id_map (clone_id, source_id, target_id)
+      SELECT :cloneId,
+             src.id,
+             CONCAT(:idPrefix, LPAD(CONCAT('', ROW_NUMBER() OVER (ORDER BY src.id)), 10, '0'))
+      FROM (
+        SELECT t.id FROM db_tables t
+        WHERE t.schema_id = :sourceSchemaId
+        UNION ALL
+        SELECT c.id FROM db_columns c
+        JOIN db_tables t ON t.id = c.table_id
+        WHERE t.schema_id = :sourceSchemaId
+        UNION ALL
+        SELECT k.id FROM db_constraints k
+        JOIN db_tables t ON t.id = k.table_id
+        WHERE t.schema_id = :sourceSchemaId
+        UNION ALL
+        SELECT kc.id FROM db_constraint_columns kc
+        JOIN db_constraints k ON k.id = kc.constraint_id
+        JOIN db_tables t ON t.id = k.table_id
+        WHERE t.schema_id = :sourceSchemaId
+        UNION ALL
+        SELECT i.id FROM db_indexes i
+        JOIN db_tables t ON t.id = i.table_id
+        WHERE t.schema_id = :sourceSchemaId
+        UNION ALL
+        SELECT ic.id FROM db_index_columns ic
+        JOIN db_indexes i ON i.id = ic.index_id
+        JOIN db_tables t ON t.id = i.table_id
+        WHERE t.schema_id = :sourceSchemaId
+        UNION ALL
+        SELECT r.id FROM db_relationships r
+        JOIN db_tables t ON t.id = r.fk_table_id
+        WHERE t.schema_id = :sourceSchemaId
+        UNION ALL
+        SELECT rc.id FROM db_relationship_columns rc
+        JOIN db_relationships r ON r.id = rc.relationship_id
+        JOIN db_tables t ON t.id = r.fk_table_id
+        WHERE t.schema_id = :sourceSchemaId
+        UNION ALL
+        SELECT m.id FROM memos m
+        WHERE m.schema_id = :sourceSchemaId
+          AND m.deleted_at IS NULL
+        UNION ALL
+        SELECT mc.id FROM memo_comments mc
+        JOIN memos m ON m.id = mc.memo_id
+        WHERE m.schema_id = :sourceSchemaId
+          AND m.deleted_at IS NULL
+          AND mc.deleted_at IS NULL
+      ) src
+      """)
+  Mono<Long> mapIds(String cloneId, String sourceSchemaId, String idPrefix);
+
+  @Modifying
+  @Query("""
+      INSERT INTO db_tables (id, schema_id, name, charset, collation, extra)
+      SELECT m.target_id, :targetSchemaId, t.name, t.charset, t.collation, t.extra
+      FROM db_tables t
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = t.id
+      """)
+  Mono<Long> copyTables(String cloneId, String targetSchemaId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO db_columns (id, table_id, name, data_type, type_arguments, seq_no,
+                              auto_increment, charset, collation, comment)
+      SELECT m.target_id, tm.target_id, c.name, c.data_type, c.type_arguments, c.seq_no,
+             c.auto_increment, c.charset, c.collation, c.comment
+      FROM db_columns c
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = c.id
+      JOIN schema_clone_id_map tm ON tm.clone_id = :cloneId AND tm.source_id = c.table_id
+      """)
+  Mono<Long> copyColumns(String cloneId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO db_constraints (id, table_id, name, kind, check_expr, default_expr)
+      SELECT m.target_id, tm.target_id, k.name, k.kind, k.check_expr, k.default_expr
+      FROM db_constraints k
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = k.id
+      JOIN schema_clone_id_map tm ON tm.clone_id = :cloneId AND tm.source_id = k.table_id
+      """)
+  Mono<Long> copyConstraints(String cloneId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO db_constraint_columns (id, constraint_id, column_id, seq_no)
+      SELECT m.target_id, km.target_id, cm.target_id, kc.seq_no
+      FROM db_constraint_columns kc
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = kc.id
+      JOIN schema_clone_id_map km ON km.clone_id = :cloneId AND km.source_id = kc.constraint_id
+      JOIN schema_clone_id_map cm ON cm.clone_id = :cloneId AND cm.source_id = kc.column_id
+      """)
+  Mono<Long> copyConstraintColumns(String cloneId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO db_indexes (id, table_id, name, type)
+      SELECT m.target_id, tm.target_id, i.name, i.type
+      FROM db_indexes i
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = i.id
+      JOIN schema_clone_id_map tm ON tm.clone_id = :cloneId AND tm.source_id = i.table_id
+      """)
+  Mono<Long> copyIndexes(String cloneId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO db_index_columns (id, index_id, column_id, seq_no, sort_dir)
+      SELECT m.target_id, im.target_id, cm.target_id, ic.seq_no, ic.sort_dir
+      FROM db_index_columns ic
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = ic.id
+      JOIN schema_clone_id_map im ON im.clone_id = :cloneId AND im.source_id = ic.index_id
+      JOIN schema_clone_id_map cm ON cm.clone_id = :cloneId AND cm.source_id = ic.column_id
+      """)
+  Mono<Long> copyIndexColumns(String cloneId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO db_relationships (id, pk_table_id, fk_table_id, name, kind, cardinality, extra)
+      SELECT m.target_id, pm.target_id, fm.target_id, r.name, r.kind, r.cardinality, r.extra
+      FROM db_relationships r
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = r.id
+      JOIN schema_clone_id_map pm ON pm.clone_id = :cloneId AND pm.source_id = r.pk_table_id
+      JOIN schema_clone_id_map fm ON fm.clone_id = :cloneId AND fm.source_id = r.fk_table_id
+      """)
+  Mono<Long> copyRelationships(String cloneId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO db_relationship_columns (id, relationship_id, fk_column_id, pk_column_id, seq_no)
+      SELECT m.target_id, rm.target_id, fm.target_id, pm.target_id, rc.seq_no
+      FROM db_relationship_columns rc
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = rc.id
+      JOIN schema_clone_id_map rm ON rm.clone_id = :cloneId AND rm.source_id = rc.relationship_id
+      JOIN db_relationships copied ON copied.id = rm.target_id
+      JOIN schema_clone_id_map fm ON fm.clone_id = :cloneId AND fm.source_id = rc.fk_column_id
+      JOIN schema_clone_id_map pm ON pm.clone_id = :cloneId AND pm.source_id = rc.pk_column_id
+      """)
+  Mono<Long> copyRelationshipColumns(String cloneId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO memos (id, schema_id, author_id, positions)
+      SELECT m.target_id, :targetSchemaId, memo.author_id, memo.positions
+      FROM memos memo
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = memo.id
+      """)
+  Mono<Long> copyMemos(String cloneId, String targetSchemaId);
+
+  @Modifying
+  @Query("""
+      INSERT INTO memo_comments (id, memo_id, author_id, body, created_at)
+      SELECT m.target_id, mm.target_id, mc.author_id, mc.body, mc.created_at
+      FROM memo_comments mc
+      JOIN schema_clone_id_map m ON m.clone_id = :cloneId AND m.source_id = mc.id
+      JOIN schema_clone_id_map mm ON mm.clone_id = :cloneId AND mm.source_id = mc.memo_id
+      """)
+  Mono<Long> copyMemoComments(String cloneId);
+
+  @Modifying
+  @Query("DELETE FROM schema_clone_id_map WHERE clone_id = :cloneId")
+  Mono<Long> clearIdMap(String cloneId);
+
+}
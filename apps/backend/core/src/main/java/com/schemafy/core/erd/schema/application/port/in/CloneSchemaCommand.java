@@ -0,0 +1,7 @@
+package com.schemafy.core.erd.schema.application.port.in;
+
+public record CloneSchemaCommand(
+    String sourceSchemaId,
+    String name) {
+
+}
@@ -0,0 +1,12 @@
+package com.schemafy.core.erd.schema.application.port.in;
+
+public record CloneSchemaResult(
+    String schemaId,
+    String sourceSchemaId,
+    String projectId,
+    String name,
+    String charset,
+    String collation,
+    int tableCount) {
+
+}
@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.schema.application.port.in;
+
+import com.schemafy.core.common.MutationResult;
+
+import reactor.core.publisher.Mono;
+
+public interface CloneSchemaUseCase {
+
+  Mono<MutationResult<CloneSchemaResult>> cloneSchema(CloneSchemaCommand command);
+
+}
@@ -0,0 +1,14 @@
+package com.schemafy.core.erd.schema.application.port.out;
+
+import reactor.core.publisher.Mono;
+
+public interface CloneSchemaContentsPort {
+
+  /** Copies every table, column, constraint, index, relationship and memo of the source schema into
+   * the (already created) target schema without loading the rows. Copied rows get
+   * {@code idPrefix} followed by a zero-padded sequence number as their id.
+   *
+   * @return the number of copied tables */
+  Mono<Integer> cloneSchemaContents(String sourceSchemaId, String targetSchemaId, String idPrefix);
+
+}
@@ -0,0 +1,107 @@
+package com.schemafy.core.erd.schema.application.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.application.service.ErdMutationCoordinator;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaCommand;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaResult;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaUseCase;
+import com.schemafy.core.erd.schema.application.port.out.CloneSchemaContentsPort;
+import com.schemafy.core.erd.schema.application.port.out.CreateSchemaPort;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemaByIdPort;
+import com.schemafy.core.erd.schema.application.port.out.SchemaExistsPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorQuery;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorUseCase;
+import com.schemafy.core.erd.vendor.domain.validator.IdentifierValidator;
+import com.schemafy.core.project.application.access.AccessTarget;
+import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.domain.ProjectRole;
+import com.schemafy.core.ulid.application.port.out.UlidGeneratorPort;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.project.application.access.ProjectAccessResourceType.SCHEMA;
+
+@Service
+@RequiredArgsConstructor
+@RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = SCHEMA, id = "sourceSchemaId"))
+class CloneSchemaService implements CloneSchemaUseCase {
+
+  // Copied rows keep the time and leading random part of one fresh ULID and replace the last
+  // ten characters with a per-clone sequence, so the database can assign ids without a round trip.
+  static final int CLONE_ID_PREFIX_LENGTH = 16;
+
+  private final GetProjectDbVendorUseCase getProjectDbVendorUseCase;
+  private final UlidGeneratorPort ulidGeneratorPort;
+  private final GetSchemaByIdPort getSchemaByIdPort;
+  private final SchemaExistsPort schemaExistsPort;
+  private final FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+  private final CreateSchemaPort createSchemaPort;
+  private final CloneSchemaContentsPort cloneSchemaContentsPort;
+  private ErdMutationCoordinator erdMutationCoordinator = ErdMutationCoordinator.noop();
+
+  @Autowired
+  void setErdMutationCoordinator(ErdMutationCoordinator erdMutationCoordinator) {
+    this.erdMutationCoordinator = erdMutationCoordinator;
+  }
+
+  @Override
+  public Mono<MutationResult<CloneSchemaResult>> cloneSchema(CloneSchemaCommand command) {
+    return erdMutationCoordinator.coordinate(ErdOperationType.CLONE_SCHEMA, command,
+        () -> getSchemaByIdPort.findSchemaById(command.sourceSchemaId())
+            .switchIfEmpty(Mono.error(new DomainException(SchemaErrorCode.NOT_FOUND,
+                "Schema not found: " + command.sourceSchemaId())))
+            .flatMap(source -> getProjectDbVendorUseCase
+                .getProjectDbVendor(new GetProjectDbVendorQuery(source.projectId()))
+                .flatMap(dbVendor -> {
+                  IdentifierValidator.validateLength(
+                      dbVendor.capabilities().identifiers(),
+                      command.name(),
+                      SchemaErrorCode.INVALID_VALUE,
+                      "Schema name");
+                  return schemaExistsPort
+                      .existsActiveByProjectIdAndName(source.projectId(), command.name())
+                      .flatMap(exists -> {
+                        if (exists) {
+                          return Mono.error(new DomainException(SchemaErrorCode.NAME_DUPLICATE,
+                              "Schema name '%s' already exists in project".formatted(command.name())));
+                        }
+                        // Writers of the source schema hold this lock, so the copy sees one revision.
+                        return findSchemaCollaborationStatePort
+                            .findBySchemaIdForUpdate(source.id())
+                            .then(Mono.defer(() -> copy(source, command.name())));
+                      });
+                })));
+  }
+
+  private Mono<MutationResult<CloneSchemaResult>> copy(Schema source, String name) {
+    Schema clone = new Schema(
+        ulidGeneratorPort.generate(),
+        source.projectId(),
+        name,
+        source.charset(),
+        source.collation());
+    String idPrefix = ulidGeneratorPort.generate().substring(0, CLONE_ID_PREFIX_LENGTH);
+
+    return createSchemaPort.createSchema(clone)
+        .flatMap(savedSchema -> cloneSchemaContentsPort
+            .cloneSchemaContents(source.id(), savedSchema.id(), idPrefix)
+            .map(tableCount -> MutationResult.empty(new CloneSchemaResult(
+                savedSchema.id(),
+                source.id(),
+                savedSchema.projectId(),
+                savedSchema.name(),
+                savedSchema.charset(),
+                savedSchema.collation(),
+                tableCount))));
+  }
+
+}
@@ -2,7 +2,6 @@ package com.schemafy.core.erd.schema.application.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -37,7 +36,6 @@ class CreateSchemaService implements CreateSchemaUseCase {
   private final UlidGeneratorPort ulidGeneratorPort;
   private final CreateSchemaPort createSchemaPort;
   private final SchemaExistsPort schemaExistsPort;
-  private final TransactionalOperator transactionalOperator;
   private ErdMutationCoordinator erdMutationCoordinator = ErdMutationCoordinator.noop();
 
   @Autowired
@@ -84,8 +82,7 @@ class CreateSchemaService implements CreateSchemaUseCase {
                               .map(MutationResult::empty);
                         });
                   });
-            }))
-        .as(transactionalOperator::transactional);
+            }));
   }
 
 }
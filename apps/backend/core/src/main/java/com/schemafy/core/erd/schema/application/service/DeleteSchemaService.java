@@ -5,7 +5,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -35,7 +34,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.ADMIN, target = @AccessTarget(value = SCHEMA, id = "schemaId"))
 public class DeleteSchemaService implements DeleteSchemaUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteSchemaPort deleteSchemaPort;
   private final GetSchemaByIdPort getSchemaByIdPort;
   private final GetTablesBySchemaIdPort getTablesBySchemaIdPort;
@@ -65,8 +63,7 @@ public class DeleteSchemaService implements DeleteSchemaUseCase {
               .then();
         })
         .then(Mono.defer(() -> deleteSchemaPort.deleteSchema(schemaId)))
-        .then(Mono.fromCallable(() -> MutationResult.<Void>of(null, affectedTableIds))))
-        .as(transactionalOperator::transactional);
+        .then(Mono.fromCallable(() -> MutationResult.<Void>of(null, affectedTableIds))));
   }
 
 }
@@ -0,0 +1,42 @@
+package com.schemafy.core.erd.search.adapter.out.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schemafy.core.erd.search.application.port.out.SchemaSearchSegmentCachePort;
+import com.schemafy.core.erd.search.domain.SchemaSearchSegment;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class CaffeineSchemaSearchSegmentCacheAdapter implements SchemaSearchSegmentCachePort {
+
+  private final Cache<String, SchemaSearchSegment> cache;
+
+  public CaffeineSchemaSearchSegmentCacheAdapter(
+      @Value("${erd.search.segment-cache.ttl:30m}") Duration ttl,
+      @Value("${erd.search.segment-cache.maximum-documents:2000000}") long maximumDocuments) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maximumDocuments)
+        .<String, SchemaSearchSegment>weigher((schemaId, segment) -> Math.max(1, segment.size()))
+        .expireAfterAccess(ttl)
+        .build();
+  }
+
+  @Override
+  public Mono<SchemaSearchSegment> get(String schemaId) {
+    return Mono.fromSupplier(() -> cache.getIfPresent(schemaId));
+  }
+
+  // Segments grow in place, so the same instance is put back after a change to have Caffeine weigh it again.
+  @Override
+  public Mono<SchemaSearchSegment> putIfNewer(SchemaSearchSegment segment) {
+    return Mono.fromSupplier(() -> cache.asMap().merge(segment.schemaId(), segment,
+        (current, next) -> next.revision() >= current.revision() ? next : current));
+  }
+
+}
@@ -0,0 +1,43 @@
+package com.schemafy.core.erd.search.application.port.in;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.search.domain.TrigramIndex;
+import com.schemafy.core.erd.search.domain.exception.SearchErrorCode;
+
+public record SearchProjectQuery(
+    String projectId,
+    String keyword,
+    int limit) {
+
+  public static final int DEFAULT_LIMIT = 20;
+  public static final int MAX_LIMIT = 100;
+  public static final int MAX_KEYWORD_LENGTH = 100;
+
+  public SearchProjectQuery {
+    if (projectId == null || projectId.isBlank()) {
+      throw new DomainException(SearchErrorCode.INVALID_VALUE, "projectId must not be blank");
+    }
+    if (keyword == null || keyword.isBlank()) {
+      throw new DomainException(SearchErrorCode.INVALID_VALUE, "keyword must not be blank");
+    }
+    if (keyword.length() > MAX_KEYWORD_LENGTH) {
+      throw new DomainException(SearchErrorCode.INVALID_VALUE,
+          "keyword must be at most " + MAX_KEYWORD_LENGTH + " characters");
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new DomainException(SearchErrorCode.INVALID_VALUE,
+          "limit must be between 1 and " + MAX_LIMIT);
+    }
+  }
+
+  public List<String> terms() {
+    return Arrays.stream(TrigramIndex.normalize(keyword).split("\\s+"))
+        .filter(term -> !term.isEmpty())
+        .distinct()
+        .toList();
+  }
+
+}
@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.search.application.port.in;
+
+import java.util.List;
+
+import com.schemafy.core.erd.search.domain.SearchHit;
+
+import reactor.core.publisher.Mono;
+
+public interface SearchProjectUseCase {
+
+  Mono<List<SearchHit>> searchProject(SearchProjectQuery query);
+
+}
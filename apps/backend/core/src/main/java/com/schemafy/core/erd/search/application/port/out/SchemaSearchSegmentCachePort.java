@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.search.application.port.out;
+
+import com.schemafy.core.erd.search.domain.SchemaSearchSegment;
+
+import reactor.core.publisher.Mono;
+
+public interface SchemaSearchSegmentCachePort {
+
+  Mono<SchemaSearchSegment> get(String schemaId);
+
+  Mono<SchemaSearchSegment> putIfNewer(SchemaSearchSegment segment);
+
+}
@@ -0,0 +1,260 @@
+package com.schemafy.core.erd.search.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.column.application.port.out.GetColumnsBySchemaIdPort;
+import com.schemafy.core.erd.column.application.port.out.GetColumnsByTableIdPort;
+import com.schemafy.core.erd.column.domain.Column;
+import com.schemafy.core.erd.memo.application.port.out.GetMemoCommentVersionPort;
+import com.schemafy.core.erd.memo.application.port.out.GetMemoCommentsBySchemaIdPort;
+import com.schemafy.core.erd.memo.domain.MemoComment;
+import com.schemafy.core.erd.memo.domain.MemoCommentVersion;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.application.port.out.GetErdOperationsAfterRevisionPort;
+import com.schemafy.core.erd.operation.domain.ErdOperationLog;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemasByProjectIdPort;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectQuery;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectUseCase;
+import com.schemafy.core.erd.search.application.port.out.SchemaSearchSegmentCachePort;
+import com.schemafy.core.erd.search.domain.SchemaSearchSegment;
+import com.schemafy.core.erd.search.domain.SearchField;
+import com.schemafy.core.erd.search.domain.SearchHit;
+import com.schemafy.core.erd.search.domain.SearchHitType;
+import com.schemafy.core.erd.search.domain.TrigramIndex;
+import com.schemafy.core.erd.table.application.port.out.GetTableByIdPort;
+import com.schemafy.core.erd.table.application.port.out.GetTablesBySchemaIdPort;
+import com.schemafy.core.erd.table.domain.Table;
+import com.schemafy.core.project.application.access.AccessTarget;
+import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.domain.ProjectRole;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.project.application.access.ProjectAccessResourceType.PROJECT;
+
+@Service
+@RequiredArgsConstructor
+@RequireProjectAccess(role = ProjectRole.VIEWER, target = @AccessTarget(value = PROJECT, id = "projectId"))
+class SearchProjectService implements SearchProjectUseCase {
+
+  // Beyond this many touched tables a full rebuild is cheaper than replaying the log.
+  static final int MAX_INCREMENTAL_TABLES = 200;
+
+  // Beyond this many revisions the log is not read at all, so a long-idle segment never pulls an unbounded page.
+  static final int MAX_CATCH_UP_OPERATIONS = 500;
+
+  // MAX(updated_at) only has second precision, so very recent comment edits are never trusted as a version.
+  private static final Duration MEMO_VERSION_SETTLE_TIME = Duration.ofSeconds(2);
+
+  private static final int SEGMENT_CONCURRENCY = 4;
+
+  private final GetSchemasByProjectIdPort getSchemasByProjectIdPort;
+  private final FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+  private final GetErdOperationsAfterRevisionPort getErdOperationsAfterRevisionPort;
+  private final GetTablesBySchemaIdPort getTablesBySchemaIdPort;
+  private final GetColumnsBySchemaIdPort getColumnsBySchemaIdPort;
+  private final GetTableByIdPort getTableByIdPort;
+  private final GetColumnsByTableIdPort getColumnsByTableIdPort;
+  private final GetMemoCommentVersionPort getMemoCommentVersionPort;
+  private final GetMemoCommentsBySchemaIdPort getMemoCommentsBySchemaIdPort;
+  private final SchemaSearchSegmentCachePort schemaSearchSegmentCachePort;
+  private final JsonCodec jsonCodec;
+  private final Clock clock;
+
+  @Override
+  public Mono<List<SearchHit>> searchProject(SearchProjectQuery query) {
+    List<String> terms = query.terms();
+    String phrase = String.join(" ", terms);
+    return getSchemasByProjectIdPort.findSchemasByProjectId(query.projectId())
+        .flatMap(schema -> currentSegment(schema.id()), SEGMENT_CONCURRENCY)
+        .flatMapIterable(segment -> segment.search(terms))
+        .collectList()
+        .map(hits -> {
+          List<SearchHit> ranked = new ArrayList<>(hits);
+          ranked.sort(ranking(phrase));
+          return ranked.size() > query.limit()
+              ? List.copyOf(ranked.subList(0, query.limit()))
+              : List.copyOf(ranked);
+        });
+  }
+
+  private Mono<SchemaSearchSegment> currentSegment(String schemaId) {
+    return findSchemaCollaborationStatePort.findBySchemaId(schemaId)
+        .map(SchemaCollaborationState::currentRevision)
+        .defaultIfEmpty(0L)
+        .flatMap(revision -> schemaSearchSegmentCachePort.get(schemaId)
+            .flatMap(segment -> catchUp(segment, revision))
+            .switchIfEmpty(Mono.defer(() -> buildSegment(schemaId, revision))))
+        .flatMap(this::refreshMemoComments);
+  }
+
+  private Mono<SchemaSearchSegment> catchUp(SchemaSearchSegment segment, long revision) {
+    long fromRevision = segment.revision();
+    if (fromRevision >= revision) {
+      return Mono.just(segment);
+    }
+    String schemaId = segment.schemaId();
+    long gap = revision - fromRevision;
+    if (gap > MAX_CATCH_UP_OPERATIONS) {
+      return buildSegment(schemaId, revision);
+    }
+    return getErdOperationsAfterRevisionPort.findOperationsBySchemaIdAfterRevision(schemaId, fromRevision, (int) gap)
+        .flatMap(operations -> {
+          if (operations.isEmpty() || !isContiguous(operations, fromRevision)) {
+            return buildSegment(schemaId, revision);
+          }
+          Set<String> tableIds = affectedTableIds(operations);
+          if (tableIds.size() > MAX_INCREMENTAL_TABLES) {
+            return buildSegment(schemaId, revision);
+          }
+          long toRevision = operations.get(operations.size() - 1).committedRevision();
+          return Flux.fromIterable(tableIds)
+              .flatMap(tableId -> tableHits(tableId).map(hits -> Map.entry(tableId, hits)))
+              .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+              .map(hitsByTable -> {
+                segment.advance(fromRevision, toRevision, hitsByTable);
+                return segment;
+              })
+              .flatMap(schemaSearchSegmentCachePort::putIfNewer);
+        });
+  }
+
+  private Mono<SchemaSearchSegment> buildSegment(String schemaId, long revision) {
+    return Mono.zip(
+        getTablesBySchemaIdPort.findTablesBySchemaId(schemaId).collectList(),
+        getColumnsBySchemaIdPort.findColumnsBySchemaId(schemaId))
+        .map(tuple -> {
+          Map<String, List<Column>> columnsByTable = new HashMap<>();
+          for (Column column : tuple.getT2()) {
+            columnsByTable.computeIfAbsent(column.tableId(), ignored -> new ArrayList<>()).add(column);
+          }
+          Map<String, List<SearchHit>> hitsByTable = new HashMap<>();
+          for (Table table : tuple.getT1()) {
+            hitsByTable.put(table.id(), toHits(table, columnsByTable.getOrDefault(table.id(), List.of())));
+          }
+          return SchemaSearchSegment.build(schemaId, revision, hitsByTable);
+        })
+        .flatMap(schemaSearchSegmentCachePort::putIfNewer);
+  }
+
+  private Mono<SchemaSearchSegment> refreshMemoComments(SchemaSearchSegment segment) {
+    return getMemoCommentVersionPort.findMemoCommentVersion(segment.schemaId())
+        .defaultIfEmpty(new MemoCommentVersion(0, null))
+        .flatMap(version -> {
+          String cacheableVersion = toCacheableVersion(version);
+          if (cacheableVersion != null && cacheableVersion.equals(segment.memoCommentVersion())) {
+            return Mono.just(segment);
+          }
+          return getMemoCommentsBySchemaIdPort.findMemoCommentsBySchemaId(segment.schemaId())
+              .map(comment -> toHit(segment.schemaId(), comment))
+              .collectList()
+              .map(hits -> {
+                segment.replaceMemoComments(cacheableVersion, hits);
+                return segment;
+              })
+              .flatMap(schemaSearchSegmentCachePort::putIfNewer);
+        });
+  }
+
+  private Mono<List<SearchHit>> tableHits(String tableId) {
+    return getTableByIdPort.findTableById(tableId)
+        .flatMap(table -> getColumnsByTableIdPort.findColumnsByTableId(table.id())
+            .map(columns -> toHits(table, columns)))
+        .defaultIfEmpty(List.of());
+  }
+
+  private Set<String> affectedTableIds(List<ErdOperationLog> operations) {
+    Set<String> tableIds = new LinkedHashSet<>();
+    for (ErdOperationLog operation : operations) {
+      String[] ids = jsonCodec.fromPersistedJson(operation.affectedTableIdsJson(), String[].class);
+      if (ids != null) {
+        tableIds.addAll(List.of(ids));
+      }
+    }
+    return tableIds;
+  }
+
+  private static boolean isContiguous(List<ErdOperationLog> operations, long fromRevision) {
+    long expected = fromRevision + 1;
+    for (ErdOperationLog operation : operations) {
+      if (operation.committedRevision() != expected) {
+        return false;
+      }
+      expected++;
+    }
+    return true;
+  }
+
+  private String toCacheableVersion(MemoCommentVersion version) {
+    Instant lastUpdatedAt = version.lastUpdatedAt();
+    if (lastUpdatedAt == null) {
+      return version.commentCount() + ":";
+    }
+    if (lastUpdatedAt.plus(MEMO_VERSION_SETTLE_TIME).isAfter(clock.instant())) {
+      return null;
+    }
+    return version.commentCount() + ":" + lastUpdatedAt.toEpochMilli();
+  }
+
+  static List<SearchHit> toHits(Table table, List<Column> columns) {
+    List<SearchHit> hits = new ArrayList<>(1 + columns.size() * 3);
+    hits.add(new SearchHit(SearchHitType.TABLE, table.id(), table.schemaId(), table.id(), null,
+        table.name(), SearchField.NAME, table.name()));
+    for (Column column : columns) {
+      String label = table.name() + "." + column.name();
+      hits.add(columnHit(table, column, label, SearchField.NAME, column.name()));
+      hits.add(columnHit(table, column, label, SearchField.DATA_TYPE, column.dataType()));
+      if (column.comment() != null && !column.comment().isBlank()) {
+        hits.add(columnHit(table, column, label, SearchField.COMMENT, column.comment()));
+      }
+    }
+    return hits;
+  }
+
+  private static SearchHit columnHit(Table table, Column column, String label, SearchField field,
+      String text) {
+    return new SearchHit(SearchHitType.COLUMN, column.id(), table.schemaId(), table.id(), null,
+        label, field, text);
+  }
+
+  private static SearchHit toHit(String schemaId, MemoComment comment) {
+    return new SearchHit(SearchHitType.MEMO_COMMENT, comment.id(), schemaId, null, comment.memoId(),
+        null, SearchField.BODY, comment.body());
+  }
+
+  static Comparator<SearchHit> ranking(String phrase) {
+    return Comparator.<SearchHit>comparingInt(hit -> matchRank(hit, phrase))
+        .thenComparing(SearchHit::type)
+        .thenComparing(SearchHit::field)
+        .thenComparingInt(hit -> hit.text().length())
+        .thenComparing(hit -> hit.label() == null ? "" : hit.label())
+        .thenComparing(SearchHit::id);
+  }
+
+  private static int matchRank(SearchHit hit, String phrase) {
+    String text = TrigramIndex.normalize(hit.text());
+    if (text.equals(phrase)) {
+      return 0;
+    }
+    if (text.startsWith(phrase)) {
+      return 1;
+    }
+    return text.contains(phrase) ? 2 : 3;
+  }
+
+}
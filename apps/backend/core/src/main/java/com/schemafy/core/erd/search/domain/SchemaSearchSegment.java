@@ -0,0 +1,94 @@
+package com.schemafy.core.erd.search.domain;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Search documents of one schema, tagged with the collaboration revision and
+ * memo comment version they were built from. Table documents are replaced per
+ * table as later operations are applied, so a segment never has to be rebuilt
+ * while the operation log is contiguous.
+ */
+public final class SchemaSearchSegment {
+
+  private final String schemaId;
+  private final TrigramIndex<SearchHit> index = new TrigramIndex<>();
+  private final Map<String, List<SearchHit>> tableHits = new HashMap<>();
+  private List<SearchHit> memoCommentHits = List.of();
+  private long revision;
+  private String memoCommentVersion;
+
+  private SchemaSearchSegment(String schemaId, long revision) {
+    this.schemaId = schemaId;
+    this.revision = revision;
+  }
+
+  public static SchemaSearchSegment build(
+      String schemaId,
+      long revision,
+      Map<String, List<SearchHit>> hitsByTable) {
+    SchemaSearchSegment segment = new SchemaSearchSegment(schemaId, revision);
+    hitsByTable.forEach(segment::replaceTable);
+    return segment;
+  }
+
+  public String schemaId() {
+    return schemaId;
+  }
+
+  public synchronized long revision() {
+    return revision;
+  }
+
+  public synchronized String memoCommentVersion() {
+    return memoCommentVersion;
+  }
+
+  /**
+   * Replaces the documents of the given tables and moves the segment from
+   * {@code fromRevision} to {@code toRevision}. An empty hit list removes the
+   * table. Returns {@code false} when another caller already advanced the
+   * segment.
+   */
+  public synchronized boolean advance(
+      long fromRevision,
+      long toRevision,
+      Map<String, List<SearchHit>> hitsByTable) {
+    if (revision != fromRevision) {
+      return false;
+    }
+    hitsByTable.forEach(this::replaceTable);
+    revision = toRevision;
+    return true;
+  }
+
+  public synchronized void replaceMemoComments(String version, List<SearchHit> hits) {
+    memoCommentHits.forEach(index::remove);
+    memoCommentHits = List.copyOf(hits);
+    memoCommentHits.forEach(hit -> index.add(hit, hit.text()));
+    memoCommentVersion = version;
+  }
+
+  public synchronized List<SearchHit> search(List<String> normalizedTerms) {
+    return index.search(normalizedTerms);
+  }
+
+  public synchronized int size() {
+    return index.size();
+  }
+
+  private void replaceTable(String tableId, List<SearchHit> hits) {
+    List<SearchHit> previous = tableHits.remove(tableId);
+    if (previous != null) {
+      previous.forEach(index::remove);
+    }
+    if (hits.isEmpty()) {
+      return;
+    }
+    List<SearchHit> next = List.copyOf(hits);
+    tableHits.put(tableId, next);
+    next.forEach(hit -> index.add(hit, hit.text()));
+  }
+
+}
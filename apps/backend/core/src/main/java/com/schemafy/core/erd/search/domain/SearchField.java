@@ -0,0 +1,5 @@
+package com.schemafy.core.erd.search.domain;
+
+public enum SearchField {
+  NAME, DATA_TYPE, COMMENT, BODY
+}
@@ -0,0 +1,12 @@
+package com.schemafy.core.erd.search.domain;
+
+public record SearchHit(
+    SearchHitType type,
+    String id,
+    String schemaId,
+    String tableId,
+    String memoId,
+    String label,
+    SearchField field,
+    String text) {
+}
@@ -0,0 +1,5 @@
+package com.schemafy.core.erd.search.domain;
+
+public enum SearchHitType {
+  TABLE, COLUMN, MEMO_COMMENT
+}
@@ -0,0 +1,116 @@
+package com.schemafy.core.erd.search.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Case-insensitive substring index. Terms of three or more characters are
+ * narrowed through trigram postings and then verified against the stored text;
+ * shorter terms fall back to scanning the indexed documents. Not thread-safe.
+ */
+public final class TrigramIndex<T> {
+
+  static final int GRAM_LENGTH = 3;
+
+  private final Map<String, Set<T>> postings = new HashMap<>();
+  private final Map<T, String> texts = new HashMap<>();
+
+  public void add(T document, String text) {
+    String normalized = normalize(text);
+    if (normalized.isEmpty()) {
+      return;
+    }
+    remove(document);
+    texts.put(document, normalized);
+    for (String gram : grams(normalized)) {
+      postings.computeIfAbsent(gram, ignored -> new HashSet<>()).add(document);
+    }
+  }
+
+  public void remove(T document) {
+    String normalized = texts.remove(document);
+    if (normalized == null) {
+      return;
+    }
+    for (String gram : grams(normalized)) {
+      Set<T> documents = postings.get(gram);
+      if (documents != null) {
+        documents.remove(document);
+        if (documents.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+  }
+
+  public int size() {
+    return texts.size();
+  }
+
+  public List<T> search(List<String> normalizedTerms) {
+    if (normalizedTerms.isEmpty()) {
+      return List.of();
+    }
+    List<Set<T>> candidateSets = new ArrayList<>();
+    for (String term : normalizedTerms) {
+      for (String gram : grams(term)) {
+        Set<T> documents = postings.get(gram);
+        if (documents == null) {
+          return List.of();
+        }
+        candidateSets.add(documents);
+      }
+    }
+
+    Collection<T> candidates = texts.keySet();
+    if (!candidateSets.isEmpty()) {
+      candidateSets.sort(Comparator.comparingInt(Set::size));
+      Set<T> narrowed = new HashSet<>(candidateSets.get(0));
+      for (int i = 1; i < candidateSets.size() && !narrowed.isEmpty(); i++) {
+        narrowed.retainAll(candidateSets.get(i));
+      }
+      candidates = narrowed;
+    }
+
+    List<T> matches = new ArrayList<>();
+    for (T candidate : candidates) {
+      if (containsAll(texts.get(candidate), normalizedTerms)) {
+        matches.add(candidate);
+      }
+    }
+    return matches;
+  }
+
+  public static String normalize(String text) {
+    return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+  }
+
+  private static boolean containsAll(String text, List<String> terms) {
+    for (String term : terms) {
+      if (!text.contains(term)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Set<String> grams(String text) {
+    if (text.length() < GRAM_LENGTH) {
+      return Set.of();
+    }
+    Set<String> grams = new LinkedHashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+      grams.add(text.substring(i, i + GRAM_LENGTH));
+    }
+    return grams;
+  }
+
+}
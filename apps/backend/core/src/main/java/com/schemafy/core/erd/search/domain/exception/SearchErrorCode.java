@@ -0,0 +1,18 @@
+package com.schemafy.core.erd.search.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.schemafy.core.common.exception.DomainErrorCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SearchErrorCode implements DomainErrorCode {
+
+  INVALID_VALUE(HttpStatus.BAD_REQUEST);
+
+  private final HttpStatus status;
+
+}
@@ -1,5 +1,6 @@
 package com.schemafy.core.erd.table.adapter.out.persistence;
 
+import java.util.List;
 import java.util.Objects;
 
 import org.springframework.lang.NonNull;
@@ -12,12 +13,15 @@ import com.schemafy.core.erd.table.application.port.out.ChangeTableExtraPort;
 import com.schemafy.core.erd.table.application.port.out.ChangeTableMetaPort;
 import com.schemafy.core.erd.table.application.port.out.ChangeTableNamePort;
 import com.schemafy.core.erd.table.application.port.out.CreateTablePort;
+import com.schemafy.core.erd.table.application.port.out.CreateTablesPort;
 import com.schemafy.core.erd.table.application.port.out.DeleteTablePort;
 import com.schemafy.core.erd.table.application.port.out.GetTableByIdPort;
+import com.schemafy.core.erd.table.application.port.out.GetTableLayoutsBySchemaIdPort;
 import com.schemafy.core.erd.table.application.port.out.GetTablesBySchemaIdPort;
 import com.schemafy.core.erd.table.application.port.out.RestoreTablePort;
 import com.schemafy.core.erd.table.application.port.out.TableExistsPort;
 import com.schemafy.core.erd.table.domain.Table;
+import com.schemafy.core.erd.table.domain.TableLayout;
 import com.schemafy.core.erd.table.domain.exception.TableErrorCode;
 
 import lombok.RequiredArgsConstructor;
@@ -28,9 +32,11 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 class TablePersistenceAdapter implements
     CreateTablePort,
+    CreateTablesPort,
     TableExistsPort,
     GetTableByIdPort,
     GetTablesBySchemaIdPort,
+    GetTableLayoutsBySchemaIdPort,
     ChangeTableNamePort,
     ChangeTableExtraPort,
     ChangeTableMetaPort,
@@ -49,6 +55,14 @@ class TablePersistenceAdapter implements
         .map(tableMapper::toDomain);
   }
 
+  @Override
+  public Mono<Void> createTables(List<Table> tables) {
+    return tableRepository.saveAll(tables.stream()
+        .map(tableMapper::toEntity)
+        .toList())
+        .then();
+  }
+
   @Override
   public Mono<Boolean> existsBySchemaIdAndName(String schemaId, String name) {
     return tableRepository.existsBySchemaIdAndName(schemaId, name);
@@ -66,6 +80,11 @@ class TablePersistenceAdapter implements
         .map(tableMapper::toDomain);
   }
 
+  @Override
+  public Flux<TableLayout> findTableLayoutsBySchemaId(String schemaId) {
+    return tableRepository.findLayoutsBySchemaId(schemaId);
+  }
+
   @Override
   public Mono<Void> changeTableName(String tableId, String newName) {
     return findTableOrError(tableId)
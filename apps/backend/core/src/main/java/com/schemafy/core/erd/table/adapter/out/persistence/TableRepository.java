@@ -3,6 +3,8 @@ package com.schemafy.core.erd.table.adapter.out.persistence;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
+import com.schemafy.core.erd.table.domain.TableLayout;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -21,4 +23,15 @@ interface TableRepository extends ReactiveCrudRepository<TableEntity, String> {
       """)
   Mono<Boolean> existsBySchemaIdAndName(String schemaId, String name);
 
+  @Query("""
+      SELECT
+        t.id AS id,
+        t.name AS name,
+        t.extra AS extra,
+        (SELECT COUNT(*) FROM db_columns c WHERE c.table_id = t.id) AS column_count
+      FROM db_tables t
+      WHERE t.schema_id = :schemaId
+      """)
+  Flux<TableLayout> findLayoutsBySchemaId(String schemaId);
+
 }
@@ -0,0 +1,13 @@
+package com.schemafy.core.erd.table.application.port.out;
+
+import java.util.List;
+
+import com.schemafy.core.erd.table.domain.Table;
+
+import reactor.core.publisher.Mono;
+
+public interface CreateTablesPort {
+
+  Mono<Void> createTables(List<Table> tables);
+
+}
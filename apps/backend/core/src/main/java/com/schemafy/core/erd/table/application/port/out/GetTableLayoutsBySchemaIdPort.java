@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.table.application.port.out;
+
+import com.schemafy.core.erd.table.domain.TableLayout;
+
+import reactor.core.publisher.Flux;
+
+public interface GetTableLayoutsBySchemaIdPort {
+
+  Flux<TableLayout> findTableLayoutsBySchemaId(String schemaId);
+
+}
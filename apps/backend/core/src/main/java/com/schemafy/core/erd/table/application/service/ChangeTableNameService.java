@@ -8,7 +8,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -52,7 +51,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 public class ChangeTableNameService implements ChangeTableNameUseCase {
 
   private final ChangeTableNamePort changeTableNamePort;
-  private final TransactionalOperator transactionalOperator;
   private final TableExistsPort tableExistsPort;
   private final GetTableByIdPort getTableByIdPort;
   private final GetConstraintsByTableIdPort getConstraintsByTableIdPort;
@@ -112,8 +110,7 @@ public class ChangeTableNameService implements ChangeTableNameUseCase {
                                           .withInverse(plan.toInverse(lockedTable))));
                             });
                       }));
-            }))
-        .as(transactionalOperator::transactional);
+            }));
   }
 
   private Mono<TableRenamePlan> buildRenamePlan(
@@ -2,7 +2,6 @@ package com.schemafy.core.erd.table.application.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -41,7 +40,6 @@ public class CreateTableService implements CreateTableUseCase {
   private final CreateTablePort createTablePort;
   private final TableExistsPort tableExistsPort;
   private final GetSchemaByIdPort getSchemaByIdPort;
-  private final TransactionalOperator transactionalOperator;
   private final StructuralSnapshotService structuralSnapshotService;
   private final JsonObjectMetadataConverter jsonObjectMetadataConverter;
   private final IdentifierCapabilityResolver identifierCapabilityResolver;
@@ -110,8 +108,7 @@ public class CreateTableService implements CreateTableUseCase {
                           beforeSnapshot,
                           afterSnapshot,
                           result.sortedAffectedTableIds()))))));
-    })
-        .as(transactionalOperator::transactional);
+    });
   }
 
   private static boolean hasText(String value) {
@@ -6,7 +6,6 @@ import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
@@ -43,7 +42,6 @@ import static com.schemafy.core.project.application.access.ProjectAccessResource
 @RequireProjectAccess(role = ProjectRole.EDITOR, target = @AccessTarget(value = TABLE, id = "tableId"))
 public class DeleteTableService implements DeleteTableUseCase {
 
-  private final TransactionalOperator transactionalOperator;
   private final DeleteTablePort deleteTablePort;
   private final GetTableByIdPort getTableByIdPort;
   private final GetRelationshipsByTableIdPort getRelationshipsByTableIdPort;
@@ -63,8 +61,7 @@ public class DeleteTableService implements DeleteTableUseCase {
     String tableId = command.tableId();
     return Mono.deferContextual(contextView -> ErdOperationContexts.isNestedMutationSuppressed(contextView)
         ? deleteTableWithoutInverse(tableId)
-        : deleteTableWithInverse(command, tableId))
-        .as(transactionalOperator::transactional);
+        : deleteTableWithInverse(command, tableId));
   }
 
   private Mono<MutationResult<Void>> deleteTableWithInverse(
@@ -0,0 +1,8 @@
+package com.schemafy.core.erd.table.domain;
+
+public record TableLayout(
+    String id,
+    String name,
+    String extra,
+    long columnCount) {
+}
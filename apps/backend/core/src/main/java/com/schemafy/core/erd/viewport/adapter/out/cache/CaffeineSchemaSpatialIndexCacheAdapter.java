@@ -0,0 +1,56 @@
+package com.schemafy.core.erd.viewport.adapter.out.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schemafy.core.erd.viewport.application.port.out.SchemaSpatialIndexCachePort;
+import com.schemafy.core.erd.viewport.domain.SpatialGridIndex;
+import com.schemafy.core.erd.viewport.domain.ViewportItemType;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class CaffeineSchemaSpatialIndexCacheAdapter
+    implements SchemaSpatialIndexCachePort {
+
+  private final Cache<LayerKey, VersionedIndex> cache;
+
+  public CaffeineSchemaSpatialIndexCacheAdapter(
+      @Value("${erd.viewport.index-cache.ttl:10m}") Duration ttl,
+      @Value("${erd.viewport.index-cache.maximum-size:2000}") long maximumSize) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterAccess(ttl)
+        .build();
+  }
+
+  @Override
+  public Mono<SpatialGridIndex> get(String schemaId, ViewportItemType layer,
+      String version) {
+    return Mono.fromSupplier(() -> {
+      VersionedIndex cached = cache.getIfPresent(new LayerKey(schemaId, layer));
+      if (cached == null || !cached.version().equals(version)) {
+        return null;
+      }
+      return cached.index();
+    });
+  }
+
+  @Override
+  public Mono<Void> put(String schemaId, ViewportItemType layer,
+      String version, SpatialGridIndex index) {
+    return Mono.fromRunnable(() -> cache.put(new LayerKey(schemaId, layer),
+        new VersionedIndex(version, index)));
+  }
+
+  private record LayerKey(String schemaId, ViewportItemType layer) {
+  }
+
+  private record VersionedIndex(String version, SpatialGridIndex index) {
+  }
+
+}
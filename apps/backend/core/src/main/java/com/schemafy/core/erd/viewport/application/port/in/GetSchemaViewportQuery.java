@@ -0,0 +1,40 @@
+package com.schemafy.core.erd.viewport.application.port.in;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.viewport.domain.CanvasBounds;
+
+public record GetSchemaViewportQuery(String schemaId, CanvasBounds area) {
+
+  public GetSchemaViewportQuery {
+    if (schemaId == null || schemaId.isBlank()) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE, "schemaId must not be blank");
+    }
+  }
+
+  public static GetSchemaViewportQuery of(
+      String schemaId,
+      Double x,
+      Double y,
+      Double width,
+      Double height) {
+    if (x == null && y == null && width == null && height == null) {
+      return new GetSchemaViewportQuery(schemaId, null);
+    }
+    if (x == null || y == null || width == null || height == null) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE,
+          "x, y, width and height must be given together");
+    }
+    if (!(width > 0) || !(height > 0)) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE,
+          "viewport width and height must be positive");
+    }
+    try {
+      return new GetSchemaViewportQuery(schemaId,
+          new CanvasBounds(x, y, width, height));
+    } catch (IllegalArgumentException e) {
+      throw new DomainException(SchemaErrorCode.INVALID_VALUE, e.getMessage());
+    }
+  }
+
+}
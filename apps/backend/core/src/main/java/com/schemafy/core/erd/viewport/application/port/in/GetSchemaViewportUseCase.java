@@ -0,0 +1,9 @@
+package com.schemafy.core.erd.viewport.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface GetSchemaViewportUseCase {
+
+  Mono<SchemaViewport> getSchemaViewport(GetSchemaViewportQuery query);
+
+}
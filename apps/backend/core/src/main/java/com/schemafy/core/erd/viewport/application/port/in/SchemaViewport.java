@@ -0,0 +1,11 @@
+package com.schemafy.core.erd.viewport.application.port.in;
+
+import java.util.List;
+
+import com.schemafy.core.erd.viewport.domain.ViewportItem;
+
+public record SchemaViewport(
+    long currentRevision,
+    List<ViewportItem> tables,
+    List<ViewportItem> memos) {
+}
@@ -0,0 +1,16 @@
+package com.schemafy.core.erd.viewport.application.port.out;
+
+import com.schemafy.core.erd.viewport.domain.SpatialGridIndex;
+import com.schemafy.core.erd.viewport.domain.ViewportItemType;
+
+import reactor.core.publisher.Mono;
+
+public interface SchemaSpatialIndexCachePort {
+
+  Mono<SpatialGridIndex> get(String schemaId, ViewportItemType layer,
+      String version);
+
+  Mono<Void> put(String schemaId, ViewportItemType layer, String version,
+      SpatialGridIndex index);
+
+}
@@ -0,0 +1,170 @@
+package com.schemafy.core.erd.viewport.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.memo.application.port.out.GetMemoLayoutVersionPort;
+import com.schemafy.core.erd.memo.application.port.out.GetMemosBySchemaIdPort;
+import com.schemafy.core.erd.memo.domain.Memo;
+import com.schemafy.core.erd.memo.domain.MemoLayoutVersion;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemaByIdPort;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.table.application.port.out.GetTableLayoutsBySchemaIdPort;
+import com.schemafy.core.erd.table.domain.TableLayout;
+import com.schemafy.core.erd.viewport.application.port.in.GetSchemaViewportQuery;
+import com.schemafy.core.erd.viewport.application.port.in.GetSchemaViewportUseCase;
+import com.schemafy.core.erd.viewport.application.port.in.SchemaViewport;
+import com.schemafy.core.erd.viewport.application.port.out.SchemaSpatialIndexCachePort;
+import com.schemafy.core.erd.viewport.domain.CanvasBounds;
+import com.schemafy.core.erd.viewport.domain.SpatialGridIndex;
+import com.schemafy.core.erd.viewport.domain.ViewportItem;
+import com.schemafy.core.erd.viewport.domain.ViewportItemType;
+import com.schemafy.core.project.application.access.AccessTarget;
+import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.domain.ProjectRole;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.schemafy.core.project.application.access.ProjectAccessResourceType.SCHEMA;
+
+@Service
+@RequiredArgsConstructor
+@RequireProjectAccess(role = ProjectRole.VIEWER, target = @AccessTarget(value = SCHEMA, id = "schemaId"))
+class GetSchemaViewportService implements GetSchemaViewportUseCase {
+
+  static final double TILE_SIZE = 1024;
+  static final double TABLE_WIDTH = 320;
+  static final double TABLE_HEADER_HEIGHT = 48;
+  static final double TABLE_ROW_HEIGHT = 32;
+  static final double MEMO_SIZE = 24;
+
+  // MAX(updated_at) only has second precision, so very recent memo moves are never cached.
+  private static final Duration MEMO_VERSION_SETTLE_TIME = Duration.ofSeconds(2);
+
+  private final GetSchemaByIdPort getSchemaByIdPort;
+  private final FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+  private final GetTableLayoutsBySchemaIdPort getTableLayoutsBySchemaIdPort;
+  private final GetMemoLayoutVersionPort getMemoLayoutVersionPort;
+  private final GetMemosBySchemaIdPort getMemosBySchemaIdPort;
+  private final SchemaSpatialIndexCachePort schemaSpatialIndexCachePort;
+  private final JsonCodec jsonCodec;
+  private final Clock clock;
+
+  @Override
+  public Mono<SchemaViewport> getSchemaViewport(GetSchemaViewportQuery query) {
+    String schemaId = query.schemaId();
+    return getSchemaByIdPort.findSchemaById(schemaId)
+        .switchIfEmpty(Mono.error(
+            new DomainException(SchemaErrorCode.NOT_FOUND, "Schema not found: " + schemaId)))
+        .flatMap(schema -> findSchemaCollaborationStatePort.findBySchemaId(schemaId)
+            .map(SchemaCollaborationState::currentRevision)
+            .defaultIfEmpty(0L))
+        .flatMap(revision -> Mono.zip(
+            tableIndex(schemaId, revision),
+            memoIndex(schemaId))
+            .map(indexes -> new SchemaViewport(
+                revision,
+                indexes.getT1().query(query.area()),
+                indexes.getT2().query(query.area()))));
+  }
+
+  private Mono<SpatialGridIndex> tableIndex(String schemaId, long revision) {
+    String version = Long.toString(revision);
+    return schemaSpatialIndexCachePort.get(schemaId, ViewportItemType.TABLE, version)
+        .switchIfEmpty(Mono.defer(() -> getTableLayoutsBySchemaIdPort
+            .findTableLayoutsBySchemaId(schemaId)
+            .map(this::toTableItem)
+            .collectList()
+            .map(items -> SpatialGridIndex.build(items, TILE_SIZE))
+            .flatMap(index -> schemaSpatialIndexCachePort
+                .put(schemaId, ViewportItemType.TABLE, version, index)
+                .thenReturn(index))));
+  }
+
+  private Mono<SpatialGridIndex> memoIndex(String schemaId) {
+    return getMemoLayoutVersionPort.findMemoLayoutVersion(schemaId)
+        .defaultIfEmpty(new MemoLayoutVersion(0, null))
+        .flatMap(layoutVersion -> {
+          String version = toCacheableVersion(layoutVersion);
+          Mono<SpatialGridIndex> build = getMemosBySchemaIdPort
+              .findMemosBySchemaId(schemaId)
+              .map(this::toMemoItem)
+              .collectList()
+              .map(items -> SpatialGridIndex.build(items, TILE_SIZE));
+          if (version == null) {
+            return build;
+          }
+          return schemaSpatialIndexCachePort.get(schemaId, ViewportItemType.MEMO, version)
+              .switchIfEmpty(Mono.defer(() -> build
+                  .flatMap(index -> schemaSpatialIndexCachePort
+                      .put(schemaId, ViewportItemType.MEMO, version, index)
+                      .thenReturn(index))));
+        });
+  }
+
+  private String toCacheableVersion(MemoLayoutVersion layoutVersion) {
+    Instant lastUpdatedAt = layoutVersion.lastUpdatedAt();
+    if (lastUpdatedAt == null) {
+      return layoutVersion.memoCount() + ":";
+    }
+    if (lastUpdatedAt.plus(MEMO_VERSION_SETTLE_TIME).isAfter(clock.instant())) {
+      return null;
+    }
+    return layoutVersion.memoCount() + ":" + lastUpdatedAt.toEpochMilli();
+  }
+
+  private ViewportItem toTableItem(TableLayout layout) {
+    JsonNode position = readNode(layout.extra()).path("position");
+    double height = TABLE_HEADER_HEIGHT + layout.columnCount() * TABLE_ROW_HEIGHT;
+    return new ViewportItem(
+        layout.id(),
+        ViewportItemType.TABLE,
+        layout.name(),
+        new CanvasBounds(
+            coordinate(position.path("x")),
+            coordinate(position.path("y")),
+            TABLE_WIDTH,
+            height));
+  }
+
+  private ViewportItem toMemoItem(Memo memo) {
+    JsonNode position = readNode(memo.positions());
+    return new ViewportItem(
+        memo.id(),
+        ViewportItemType.MEMO,
+        null,
+        new CanvasBounds(
+            coordinate(position.path("x")),
+            coordinate(position.path("y")),
+            MEMO_SIZE,
+            MEMO_SIZE));
+  }
+
+  private JsonNode readNode(String rawJson) {
+    try {
+      JsonNode node = jsonCodec.fromPersistedJson(rawJson, JsonNode.class);
+      return node == null ? MissingNode.getInstance() : node;
+    } catch (IllegalArgumentException e) {
+      return MissingNode.getInstance();
+    }
+  }
+
+  private static double coordinate(JsonNode node) {
+    if (!node.isNumber()) {
+      return 0;
+    }
+    double value = node.asDouble();
+    return Double.isFinite(value) ? value : 0;
+  }
+
+}
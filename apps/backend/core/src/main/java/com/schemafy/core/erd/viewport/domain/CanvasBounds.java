@@ -0,0 +1,32 @@
+package com.schemafy.core.erd.viewport.domain;
+
+public record CanvasBounds(
+    double x,
+    double y,
+    double width,
+    double height) {
+
+  public CanvasBounds {
+    if (!Double.isFinite(x) || !Double.isFinite(y)
+        || !Double.isFinite(width) || !Double.isFinite(height)) {
+      throw new IllegalArgumentException("bounds must be finite");
+    }
+    if (width < 0 || height < 0) {
+      throw new IllegalArgumentException("bounds size must not be negative");
+    }
+  }
+
+  public double maxX() {
+    return x + width;
+  }
+
+  public double maxY() {
+    return y + height;
+  }
+
+  public boolean intersects(CanvasBounds other) {
+    return x <= other.maxX() && other.x <= maxX()
+        && y <= other.maxY() && other.y <= maxY();
+  }
+
+}
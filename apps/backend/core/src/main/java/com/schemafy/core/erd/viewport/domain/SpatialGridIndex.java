@@ -0,0 +1,114 @@
+package com.schemafy.core.erd.viewport.domain;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Uniform tile grid over canvas items. Items spanning several tiles are registered in each of them. */
+public final class SpatialGridIndex {
+
+  private final double tileSize;
+  private final List<ViewportItem> items;
+  private final Map<Long, int[]> tiles;
+
+  private SpatialGridIndex(double tileSize, List<ViewportItem> items,
+      Map<Long, int[]> tiles) {
+    this.tileSize = tileSize;
+    this.items = items;
+    this.tiles = tiles;
+  }
+
+  public static SpatialGridIndex build(Collection<ViewportItem> items,
+      double tileSize) {
+    if (!(tileSize > 0) || !Double.isFinite(tileSize)) {
+      throw new IllegalArgumentException("tileSize must be positive");
+    }
+    List<ViewportItem> indexedItems = List.copyOf(items);
+    Map<Long, List<Integer>> buckets = new HashMap<>();
+    for (int i = 0; i < indexedItems.size(); i++) {
+      CanvasBounds bounds = indexedItems.get(i).bounds();
+      long minTileX = tile(bounds.x(), tileSize);
+      long maxTileX = tile(bounds.maxX(), tileSize);
+      long minTileY = tile(bounds.y(), tileSize);
+      long maxTileY = tile(bounds.maxY(), tileSize);
+      for (long tileX = minTileX; tileX <= maxTileX; tileX++) {
+        for (long tileY = minTileY; tileY <= maxTileY; tileY++) {
+          buckets.computeIfAbsent(key(tileX, tileY), ignored -> new ArrayList<>())
+              .add(i);
+        }
+      }
+    }
+    Map<Long, int[]> tiles = new HashMap<>(buckets.size() * 2);
+    buckets.forEach((key, indexes) -> tiles.put(key,
+        indexes.stream().mapToInt(Integer::intValue).toArray()));
+    return new SpatialGridIndex(tileSize, indexedItems, tiles);
+  }
+
+  public List<ViewportItem> items() {
+    return items;
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public List<ViewportItem> query(CanvasBounds area) {
+    if (area == null) {
+      return items;
+    }
+    long minTileX = tile(area.x(), tileSize);
+    long maxTileX = tile(area.maxX(), tileSize);
+    long minTileY = tile(area.y(), tileSize);
+    long maxTileY = tile(area.maxY(), tileSize);
+    long spanX = maxTileX - minTileX + 1;
+    long spanY = maxTileY - minTileY + 1;
+    if (spanX > tiles.size() || spanY > tiles.size()
+        || spanX * spanY > tiles.size()) {
+      return scan(area);
+    }
+
+    BitSet candidates = new BitSet(items.size());
+    for (long tileX = minTileX; tileX <= maxTileX; tileX++) {
+      for (long tileY = minTileY; tileY <= maxTileY; tileY++) {
+        int[] indexes = tiles.get(key(tileX, tileY));
+        if (indexes != null) {
+          for (int index : indexes) {
+            candidates.set(index);
+          }
+        }
+      }
+    }
+
+    List<ViewportItem> result = new ArrayList<>(candidates.cardinality());
+    for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+      ViewportItem item = items.get(i);
+      if (item.bounds().intersects(area)) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  private List<ViewportItem> scan(CanvasBounds area) {
+    List<ViewportItem> result = new ArrayList<>();
+    for (ViewportItem item : items) {
+      if (item.bounds().intersects(area)) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  private static int tile(double coordinate, double tileSize) {
+    double tile = Math.floor(coordinate / tileSize);
+    return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, tile));
+  }
+
+  private static long key(long tileX, long tileY) {
+    return (tileX << 32) | (tileY & 0xFFFFFFFFL);
+  }
+
+}
@@ -0,0 +1,8 @@
+package com.schemafy.core.erd.viewport.domain;
+
+public record ViewportItem(
+    String id,
+    ViewportItemType type,
+    String name,
+    CanvasBounds bounds) {
+}
@@ -0,0 +1,6 @@
+package com.schemafy.core.erd.viewport.domain;
+
+public enum ViewportItemType {
+  TABLE,
+  MEMO
+}
@@ -0,0 +1,44 @@
+package com.schemafy.core.mail.adapter.out.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schemafy.core.mail.application.port.out.MailDomainRateLimitPort;
+
+/**
+ * Fixed one-minute window per recipient domain, local to this dispatcher.
+ * Providers throttle per sending connection, so a per-instance budget is
+ * what matters.
+ */
+@Component
+public class LocalMailDomainRateLimitAdapter implements MailDomainRateLimitPort {
+
+  private static final Duration WINDOW = Duration.ofMinutes(1);
+
+  private final int perDomainPerMinute;
+  private final Cache<String, AtomicInteger> windows;
+
+  public LocalMailDomainRateLimitAdapter(
+      @Value("${mail.outbox.per-domain-per-minute:60}") int perDomainPerMinute) {
+    this.perDomainPerMinute = perDomainPerMinute;
+    this.windows = Caffeine.newBuilder()
+        .expireAfterWrite(WINDOW)
+        .maximumSize(10_000)
+        .build();
+  }
+
+  @Override
+  public boolean tryAcquire(String recipientDomain) {
+    if (perDomainPerMinute <= 0) {
+      return true;
+    }
+    AtomicInteger sent = windows.get(recipientDomain, ignored -> new AtomicInteger());
+    return sent.incrementAndGet() <= perDomainPerMinute;
+  }
+
+}
@@ -0,0 +1,61 @@
+package com.schemafy.core.mail.adapter.out.persistence;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.schemafy.core.common.PersistenceAdapter;
+import com.schemafy.core.mail.application.port.out.AppendOutboxMailPort;
+import com.schemafy.core.mail.application.port.out.ClaimDueOutboxMailsPort;
+import com.schemafy.core.mail.application.port.out.UpdateOutboxMailPort;
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@PersistenceAdapter
+@RequiredArgsConstructor
+class OutboxMailPersistenceAdapter implements
+    AppendOutboxMailPort,
+    ClaimDueOutboxMailsPort,
+    UpdateOutboxMailPort {
+
+  private final OutboxMailRepository outboxMailRepository;
+
+  @Override
+  public Mono<Void> appendOutboxMail(OutboxMail mail) {
+    return outboxMailRepository.save(mail).then();
+  }
+
+  @Override
+  public Mono<List<OutboxMail>> claimDueOutboxMails(Instant now, int limit, Instant leaseUntil) {
+    return outboxMailRepository.findDue(utc(now), limit)
+        .concatMap(mail -> outboxMailRepository
+            .claim(mail.getId(), utc(mail.getNextAttemptAt()), utc(leaseUntil))
+            .filter(updated -> updated == 1L)
+            .map(updated -> mail))
+        .collectList();
+  }
+
+  @Override
+  public Mono<Void> deleteOutboxMail(String mailId) {
+    return outboxMailRepository.deleteById(mailId);
+  }
+
+  @Override
+  public Mono<Void> rescheduleOutboxMail(String mailId, int attempts, Instant nextAttemptAt,
+      String lastError) {
+    return outboxMailRepository.reschedule(mailId, attempts, utc(nextAttemptAt), lastError).then();
+  }
+
+  @Override
+  public Mono<Void> markOutboxMailFailed(String mailId, int attempts, String lastError) {
+    return outboxMailRepository.markFailed(mailId, attempts, lastError).then();
+  }
+
+  private static LocalDateTime utc(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.schemafy.core.mail.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+interface OutboxMailRepository extends ReactiveCrudRepository<OutboxMail, String> {
+
+  @Query("""
+      SELECT * FROM mail_outbox
+      WHERE status = 'PENDING'
+        AND next_attempt_at <= :now
+      ORDER BY next_attempt_at, id
+      LIMIT :limit
+      """)
+  Flux<OutboxMail> findDue(LocalDateTime now, int limit);
+
+  @Query("""
+      UPDATE mail_outbox
+      SET next_attempt_at = :leaseUntil
+      WHERE id = :id
+        AND status = 'PENDING'
+        AND next_attempt_at = :seenNextAttemptAt
+      """)
+  Mono<Long> claim(String id, LocalDateTime seenNextAttemptAt,
+      LocalDateTime leaseUntil);
+
+  @Query("""
+      UPDATE mail_outbox
+      SET attempts = :attempts,
+          next_attempt_at = :nextAttemptAt,
+          last_error = :lastError
+      WHERE id = :id
+      """)
+  Mono<Long> reschedule(String id, int attempts, LocalDateTime nextAttemptAt,
+      String lastError);
+
+  @Query("""
+      UPDATE mail_outbox
+      SET status = 'FAILED',
+          attempts = :attempts,
+          last_error = :lastError,
+          text_body = '',
+          html_body = ''
+      WHERE id = :id
+      """)
+  Mono<Long> markFailed(String id, int attempts, String lastError);
+
+}
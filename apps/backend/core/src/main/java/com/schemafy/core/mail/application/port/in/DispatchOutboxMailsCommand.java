@@ -0,0 +1,11 @@
+package com.schemafy.core.mail.application.port.in;
+
+public record DispatchOutboxMailsCommand(int batchSize) {
+
+  public DispatchOutboxMailsCommand {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be positive");
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+package com.schemafy.core.mail.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface DispatchOutboxMailsUseCase {
+
+  /** Sends one batch of due outbox mails and returns how many were delivered. */
+  Mono<Long> dispatchOutboxMails(DispatchOutboxMailsCommand command);
+
+}
@@ -0,0 +1,16 @@
+package com.schemafy.core.mail.application.port.in;
+
+import java.time.Instant;
+
+/**
+ * A mail to deliver in the background. {@code expiresAt} is optional; a mail
+ * whose content stops being useful, such as a verification code, is dropped
+ * instead of sent once it has passed.
+ */
+public record EnqueueMailCommand(
+    String recipient,
+    String subject,
+    String textBody,
+    String htmlBody,
+    Instant expiresAt) {
+}
@@ -0,0 +1,9 @@
+package com.schemafy.core.mail.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface EnqueueMailUseCase {
+
+  Mono<Void> enqueueMail(EnqueueMailCommand command);
+
+}
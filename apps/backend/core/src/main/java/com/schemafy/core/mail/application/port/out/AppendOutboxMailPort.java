@@ -0,0 +1,11 @@
+package com.schemafy.core.mail.application.port.out;
+
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import reactor.core.publisher.Mono;
+
+public interface AppendOutboxMailPort {
+
+  Mono<Void> appendOutboxMail(OutboxMail mail);
+
+}
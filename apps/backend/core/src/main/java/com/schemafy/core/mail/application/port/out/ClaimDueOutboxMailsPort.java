@@ -0,0 +1,19 @@
+package com.schemafy.core.mail.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import reactor.core.publisher.Mono;
+
+public interface ClaimDueOutboxMailsPort {
+
+  /**
+   * Claims up to {@code limit} pending mails due at {@code now} by pushing
+   * their next attempt to {@code leaseUntil}, so other dispatchers skip them
+   * until the lease runs out.
+   */
+  Mono<List<OutboxMail>> claimDueOutboxMails(Instant now, int limit, Instant leaseUntil);
+
+}
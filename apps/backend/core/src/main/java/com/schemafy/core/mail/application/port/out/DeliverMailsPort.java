@@ -0,0 +1,15 @@
+package com.schemafy.core.mail.application.port.out;
+
+import java.util.List;
+
+import com.schemafy.core.mail.domain.MailDeliveryResult;
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import reactor.core.publisher.Mono;
+
+public interface DeliverMailsPort {
+
+  /** Returns one result per mail, in no particular order. */
+  Mono<List<MailDeliveryResult>> deliverMails(List<OutboxMail> mails);
+
+}
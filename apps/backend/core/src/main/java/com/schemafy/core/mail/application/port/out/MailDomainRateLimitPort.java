@@ -0,0 +1,7 @@
+package com.schemafy.core.mail.application.port.out;
+
+public interface MailDomainRateLimitPort {
+
+  boolean tryAcquire(String recipientDomain);
+
+}
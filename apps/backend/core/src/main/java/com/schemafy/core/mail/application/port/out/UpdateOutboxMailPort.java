@@ -0,0 +1,16 @@
+package com.schemafy.core.mail.application.port.out;
+
+import java.time.Instant;
+
+import reactor.core.publisher.Mono;
+
+public interface UpdateOutboxMailPort {
+
+  Mono<Void> deleteOutboxMail(String mailId);
+
+  Mono<Void> rescheduleOutboxMail(String mailId, int attempts, Instant nextAttemptAt,
+      String lastError);
+
+  Mono<Void> markOutboxMailFailed(String mailId, int attempts, String lastError);
+
+}
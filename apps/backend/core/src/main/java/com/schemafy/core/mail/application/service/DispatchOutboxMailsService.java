@@ -0,0 +1,121 @@
+package com.schemafy.core.mail.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.mail.application.port.in.DispatchOutboxMailsCommand;
+import com.schemafy.core.mail.application.port.in.DispatchOutboxMailsUseCase;
+import com.schemafy.core.mail.application.port.out.ClaimDueOutboxMailsPort;
+import com.schemafy.core.mail.application.port.out.DeliverMailsPort;
+import com.schemafy.core.mail.application.port.out.MailDomainRateLimitPort;
+import com.schemafy.core.mail.application.port.out.UpdateOutboxMailPort;
+import com.schemafy.core.mail.domain.MailDeliveryResult;
+import com.schemafy.core.mail.domain.MailDeliveryStatus;
+import com.schemafy.core.mail.domain.MailOutboxPolicy;
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class DispatchOutboxMailsService implements DispatchOutboxMailsUseCase {
+
+  private final ClaimDueOutboxMailsPort claimDueOutboxMailsPort;
+  private final UpdateOutboxMailPort updateOutboxMailPort;
+  private final DeliverMailsPort deliverMailsPort;
+  private final MailDomainRateLimitPort mailDomainRateLimitPort;
+  private final Clock clock;
+
+  @Override
+  public Mono<Long> dispatchOutboxMails(DispatchOutboxMailsCommand command) {
+    return Mono.defer(() -> {
+      Instant now = clock.instant();
+      return claimDueOutboxMailsPort.claimDueOutboxMails(
+          now, command.batchSize(), now.plus(MailOutboxPolicy.CLAIM_LEASE))
+          .flatMap(mails -> dispatch(mails, now));
+    });
+  }
+
+  private Mono<Long> dispatch(List<OutboxMail> mails, Instant now) {
+    if (mails.isEmpty()) {
+      return Mono.just(0L);
+    }
+    List<OutboxMail> sendable = new ArrayList<>(mails.size());
+    List<OutboxMail> throttled = new ArrayList<>();
+    List<OutboxMail> expired = new ArrayList<>();
+    for (OutboxMail mail : mails) {
+      if (mail.isExpiredAt(now)) {
+        expired.add(mail);
+      } else if (mailDomainRateLimitPort.tryAcquire(mail.getRecipientDomain())) {
+        sendable.add(mail);
+      } else {
+        throttled.add(mail);
+      }
+    }
+
+    // An expired mail is dropped without spending an attempt; its content would only confuse the recipient now.
+    Mono<Void> dropExpired = Flux.fromIterable(expired)
+        .concatMap(mail -> markFailed(mail, mail.getAttempts(), MailOutboxPolicy.EXPIRED_ERROR))
+        .then();
+    Mono<Void> settleUnsent = dropExpired.then(Flux.fromIterable(throttled)
+        .concatMap(mail -> updateOutboxMailPort.rescheduleOutboxMail(
+            mail.getId(),
+            mail.getAttempts(),
+            now.plus(MailOutboxPolicy.RATE_LIMIT_DEFERRAL),
+            mail.getLastError()))
+        .then());
+    if (sendable.isEmpty()) {
+      return settleUnsent.thenReturn(0L);
+    }
+
+    Map<String, OutboxMail> mailsById = sendable.stream()
+        .collect(Collectors.toMap(OutboxMail::getId, Function.identity()));
+    return settleUnsent.then(deliverMailsPort.deliverMails(sendable))
+        .flatMapMany(Flux::fromIterable)
+        .concatMap(result -> apply(mailsById.get(result.mailId()), result, now))
+        .filter(MailDeliveryStatus.DELIVERED::equals)
+        .count();
+  }
+
+  private Mono<MailDeliveryStatus> apply(OutboxMail mail, MailDeliveryResult result, Instant now) {
+    if (mail == null) {
+      return Mono.empty();
+    }
+    int attempts = mail.getAttempts() + 1;
+    String error = MailOutboxPolicy.truncateError(result.error());
+    Mono<Void> update = switch (result.status()) {
+      case DELIVERED -> updateOutboxMailPort.deleteOutboxMail(mail.getId());
+      case REJECTED -> markFailed(mail, attempts, error);
+      case RETRYABLE -> retry(mail, attempts, now.plus(MailOutboxPolicy.backoff(attempts)), error);
+    };
+    return update.thenReturn(result.status());
+  }
+
+  private Mono<Void> retry(OutboxMail mail, int attempts, Instant nextAttemptAt, String error) {
+    if (attempts >= MailOutboxPolicy.MAX_ATTEMPTS) {
+      return markFailed(mail, attempts, error);
+    }
+    if (mail.isExpiredAt(nextAttemptAt)) {
+      return markFailed(mail, attempts, MailOutboxPolicy.EXPIRED_ERROR);
+    }
+    return updateOutboxMailPort.rescheduleOutboxMail(mail.getId(), attempts, nextAttemptAt, error);
+  }
+
+  private Mono<Void> markFailed(OutboxMail mail, int attempts, String error) {
+    log.warn("[DispatchOutboxMails] Giving up on mail. id={}, domain={}, attempts={}, error={}",
+        mail.getId(), mail.getRecipientDomain(), attempts, error);
+    return updateOutboxMailPort.markOutboxMailFailed(mail.getId(), attempts, error);
+  }
+
+}
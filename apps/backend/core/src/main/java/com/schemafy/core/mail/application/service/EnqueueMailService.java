@@ -0,0 +1,37 @@
+package com.schemafy.core.mail.application.service;
+
+import java.time.Clock;
+
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.mail.application.port.in.EnqueueMailCommand;
+import com.schemafy.core.mail.application.port.in.EnqueueMailUseCase;
+import com.schemafy.core.mail.application.port.out.AppendOutboxMailPort;
+import com.schemafy.core.mail.domain.OutboxMail;
+import com.schemafy.core.ulid.application.port.out.UlidGeneratorPort;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+class EnqueueMailService implements EnqueueMailUseCase {
+
+  private final UlidGeneratorPort ulidGeneratorPort;
+  private final AppendOutboxMailPort appendOutboxMailPort;
+  private final Clock clock;
+
+  @Override
+  public Mono<Void> enqueueMail(EnqueueMailCommand command) {
+    return Mono.fromCallable(() -> OutboxMail.enqueue(
+        ulidGeneratorPort.generate(),
+        command.recipient(),
+        command.subject(),
+        command.textBody(),
+        command.htmlBody(),
+        command.expiresAt(),
+        clock.instant()))
+        .flatMap(appendOutboxMailPort::appendOutboxMail);
+  }
+
+}
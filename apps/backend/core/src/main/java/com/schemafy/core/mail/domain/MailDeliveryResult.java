@@ -0,0 +1,20 @@
+package com.schemafy.core.mail.domain;
+
+public record MailDeliveryResult(
+    String mailId,
+    MailDeliveryStatus status,
+    String error) {
+
+  public static MailDeliveryResult delivered(String mailId) {
+    return new MailDeliveryResult(mailId, MailDeliveryStatus.DELIVERED, null);
+  }
+
+  public static MailDeliveryResult retryable(String mailId, String error) {
+    return new MailDeliveryResult(mailId, MailDeliveryStatus.RETRYABLE, error);
+  }
+
+  public static MailDeliveryResult rejected(String mailId, String error) {
+    return new MailDeliveryResult(mailId, MailDeliveryStatus.REJECTED, error);
+  }
+
+}
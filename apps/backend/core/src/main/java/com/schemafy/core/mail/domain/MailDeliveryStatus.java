@@ -0,0 +1,7 @@
+package com.schemafy.core.mail.domain;
+
+public enum MailDeliveryStatus {
+  DELIVERED,
+  RETRYABLE,
+  REJECTED
+}
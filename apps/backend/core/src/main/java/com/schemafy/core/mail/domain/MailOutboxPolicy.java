@@ -0,0 +1,30 @@
+package com.schemafy.core.mail.domain;
+
+import java.time.Duration;
+
+public final class MailOutboxPolicy {
+
+  public static final int MAX_ATTEMPTS = 8;
+  public static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+  public static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+  public static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+  public static final Duration RATE_LIMIT_DEFERRAL = Duration.ofMinutes(1);
+  public static final int MAX_ERROR_LENGTH = 500;
+  public static final String EXPIRED_ERROR = "Expired before delivery";
+
+  private MailOutboxPolicy() {}
+
+  public static Duration backoff(int attempts) {
+    int exponent = Math.max(0, Math.min(attempts - 1, 16));
+    Duration delay = INITIAL_BACKOFF.multipliedBy(1L << exponent);
+    return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+  }
+
+  public static String truncateError(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+
+}
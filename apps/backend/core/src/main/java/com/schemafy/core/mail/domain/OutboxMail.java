@@ -0,0 +1,66 @@
+package com.schemafy.core.mail.domain;
+
+import java.time.Instant;
+import java.util.Locale;
+
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.schemafy.core.common.BaseEntity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table("mail_outbox")
+public class OutboxMail extends BaseEntity {
+
+  private String recipient;
+  private String recipientDomain;
+  private String subject;
+  private String textBody;
+  private String htmlBody;
+  private OutboxMailStatus status;
+  private int attempts;
+  private Instant nextAttemptAt;
+  private Instant expiresAt;
+  private String lastError;
+
+  public static OutboxMail enqueue(
+      String id,
+      String recipient,
+      String subject,
+      String textBody,
+      String htmlBody,
+      Instant expiresAt,
+      Instant now) {
+    OutboxMail mail = new OutboxMail(
+        recipient,
+        domainOf(recipient),
+        subject,
+        textBody,
+        htmlBody,
+        OutboxMailStatus.PENDING,
+        0,
+        now,
+        expiresAt,
+        null);
+    mail.setId(id);
+    return mail;
+  }
+
+  public boolean isExpiredAt(Instant instant) {
+    return expiresAt != null && !instant.isBefore(expiresAt);
+  }
+
+  static String domainOf(String recipient) {
+    int atIndex = recipient == null ? -1 : recipient.lastIndexOf('@');
+    return atIndex >= 0 && atIndex + 1 < recipient.length()
+        ? recipient.substring(atIndex + 1).toLowerCase(Locale.ROOT)
+        : "unknown";
+  }
+
+}
@@ -0,0 +1,6 @@
+package com.schemafy.core.mail.domain;
+
+public enum OutboxMailStatus {
+  PENDING,
+  FAILED
+}
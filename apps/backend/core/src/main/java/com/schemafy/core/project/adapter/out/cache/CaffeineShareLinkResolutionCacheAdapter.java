@@ -0,0 +1,66 @@
+package com.schemafy.core.project.adapter.out.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schemafy.core.project.application.port.out.ShareLinkResolutionCachePort;
+import com.schemafy.core.project.domain.ShareLinkResolution;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolutions cached per node. With Redis enabled, an eviction is also relayed
+ * to the other nodes, so a revoked or deleted link stops resolving everywhere
+ * instead of after the TTL.
+ */
+@Component
+public class CaffeineShareLinkResolutionCacheAdapter
+    implements ShareLinkResolutionCachePort {
+
+  private final Cache<String, ShareLinkResolution> cache;
+  private final ObjectProvider<RedisShareLinkResolutionEvictionRelay> evictionRelayProvider;
+
+  public CaffeineShareLinkResolutionCacheAdapter(
+      @Value("${sharelink.resolution-cache.ttl:30s}") Duration ttl,
+      @Value("${sharelink.resolution-cache.maximum-size:10000}") long maximumSize,
+      ObjectProvider<RedisShareLinkResolutionEvictionRelay> evictionRelayProvider) {
+    this.evictionRelayProvider = evictionRelayProvider;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public Mono<ShareLinkResolution> get(String code) {
+    return Mono.fromSupplier(() -> cache.getIfPresent(code));
+  }
+
+  @Override
+  public Mono<Void> put(String code, ShareLinkResolution resolution) {
+    return Mono.fromRunnable(() -> cache.put(code, resolution));
+  }
+
+  @Override
+  public Mono<Void> evict(String code) {
+    return Mono.fromRunnable(() -> cache.invalidate(code))
+        .then(Mono.defer(() -> {
+          RedisShareLinkResolutionEvictionRelay evictionRelay = evictionRelayProvider.getIfAvailable();
+          return evictionRelay == null ? Mono.empty() : evictionRelay.publish(code);
+        }));
+  }
+
+  void evictLocally(String code) {
+    cache.invalidate(code);
+  }
+
+  void evictAllLocally() {
+    cache.invalidateAll();
+  }
+
+}
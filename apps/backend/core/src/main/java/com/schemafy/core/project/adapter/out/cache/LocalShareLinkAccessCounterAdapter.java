@@ -0,0 +1,69 @@
+package com.schemafy.core.project.adapter.out.cache;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.project.application.port.out.ShareLinkAccessCounterPort;
+import com.schemafy.core.project.domain.ShareLinkAccessDelta;
+import com.schemafy.core.project.domain.ShareLinkAccessDrain;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalShareLinkAccessCounterAdapter
+    implements ShareLinkAccessCounterPort {
+
+  private final ConcurrentMap<String, ShareLinkAccessDelta> pending = new ConcurrentHashMap<>();
+
+  @Override
+  public Mono<Void> record(String shareLinkId, Instant accessedAt) {
+    return Mono.fromRunnable(() -> merge(
+        new ShareLinkAccessDelta(shareLinkId, 1L, accessedAt)));
+  }
+
+  @Override
+  public Mono<ShareLinkAccessDrain> drain() {
+    return Mono.defer(() -> {
+      List<ShareLinkAccessDelta> drained = new ArrayList<>();
+      for (String shareLinkId : pending.keySet()) {
+        ShareLinkAccessDelta delta = pending.remove(shareLinkId);
+        if (delta != null) {
+          drained.add(delta);
+        }
+      }
+      return drained.isEmpty()
+          ? Mono.empty()
+          : Mono.just(new ShareLinkAccessDrain(UUID.randomUUID().toString(), drained));
+    });
+  }
+
+  // In-memory counters do not outlive the process, so there is never a drain left to take over.
+  @Override
+  public Flux<ShareLinkAccessDrain> reclaimStaleDrains(Instant startedBefore) {
+    return Flux.empty();
+  }
+
+  @Override
+  public Mono<Void> ack(String drainId) {
+    return Mono.empty();
+  }
+
+  @Override
+  public Mono<Void> restore(ShareLinkAccessDelta delta) {
+    return Mono.fromRunnable(() -> merge(delta));
+  }
+
+  private void merge(ShareLinkAccessDelta delta) {
+    pending.merge(delta.shareLinkId(), delta, ShareLinkAccessDelta::merge);
+  }
+
+}
@@ -0,0 +1,131 @@
+package com.schemafy.core.project.adapter.out.cache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
+import com.schemafy.core.project.application.port.out.ShareLinkAccessCounterPort;
+import com.schemafy.core.project.domain.ShareLinkAccessDelta;
+import com.schemafy.core.project.domain.ShareLinkAccessDrain;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnRedisEnabled
+@RequiredArgsConstructor
+public class RedisShareLinkAccessCounterAdapter
+    implements ShareLinkAccessCounterPort {
+
+  static final String COUNT_KEY = "share-link:access:count";
+  static final String LAST_ACCESSED_KEY = "share-link:access:last";
+  static final String DRAINS_KEY = "share-link:access:drains";
+  private static final String DRAINING_KEY_SUFFIX = ":draining:";
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final Clock clock;
+
+  @Override
+  public Mono<Void> record(String shareLinkId, Instant accessedAt) {
+    return increment(shareLinkId, 1L, accessedAt);
+  }
+
+  @Override
+  public Mono<ShareLinkAccessDrain> drain() {
+    return Mono.defer(() -> {
+      String drainId = UUID.randomUUID().toString();
+      return redisTemplate.execute(
+          ShareLinkAccessRedisScripts.DRAIN,
+          List.of(COUNT_KEY, LAST_ACCESSED_KEY, countKey(drainId), lastAccessedKey(drainId), DRAINS_KEY),
+          List.of(drainId, Long.toString(clock.millis())))
+          .next()
+          .filter(drained -> drained == 1L)
+          .flatMap(drained -> load(drainId));
+    });
+  }
+
+  @Override
+  public Flux<ShareLinkAccessDrain> reclaimStaleDrains(Instant startedBefore) {
+    return redisTemplate.opsForZSet()
+        .rangeByScore(DRAINS_KEY, Range.closed(0d, (double) startedBefore.toEpochMilli()))
+        .concatMap(this::reclaim);
+  }
+
+  @Override
+  public Mono<Void> ack(String drainId) {
+    return redisTemplate.delete(countKey(drainId), lastAccessedKey(drainId))
+        .then(redisTemplate.opsForZSet().remove(DRAINS_KEY, drainId))
+        .then();
+  }
+
+  @Override
+  public Mono<Void> restore(ShareLinkAccessDelta delta) {
+    return increment(delta.shareLinkId(), delta.accessCount(),
+        delta.lastAccessedAt());
+  }
+
+  private Mono<ShareLinkAccessDrain> reclaim(String staleDrainId) {
+    return Mono.defer(() -> {
+      String drainId = UUID.randomUUID().toString();
+      return redisTemplate.execute(
+          ShareLinkAccessRedisScripts.RECLAIM,
+          List.of(countKey(staleDrainId), lastAccessedKey(staleDrainId),
+              countKey(drainId), lastAccessedKey(drainId), DRAINS_KEY),
+          List.of(drainId, Long.toString(clock.millis()), staleDrainId))
+          .next()
+          .filter(reclaimed -> reclaimed == 1L)
+          .flatMap(reclaimed -> load(drainId));
+    });
+  }
+
+  private Mono<Void> increment(String shareLinkId, long accessCount,
+      Instant accessedAt) {
+    return redisTemplate.execute(
+        ShareLinkAccessRedisScripts.INCREMENT,
+        List.of(COUNT_KEY, LAST_ACCESSED_KEY),
+        List.of(shareLinkId, Long.toString(accessCount),
+            Long.toString(accessedAt.toEpochMilli())))
+        .then();
+  }
+
+  private Mono<ShareLinkAccessDrain> load(String drainId) {
+    return Mono.zip(
+        entries(countKey(drainId)),
+        entries(lastAccessedKey(drainId)))
+        .map(tuple -> new ShareLinkAccessDrain(drainId, toDeltas(tuple.getT1(), tuple.getT2())));
+  }
+
+  private Mono<Map<String, String>> entries(String key) {
+    return redisTemplate.<String, String>opsForHash()
+        .entries(key)
+        .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+  }
+
+  private List<ShareLinkAccessDelta> toDeltas(Map<String, String> counts,
+      Map<String, String> lastAccessedAts) {
+    return counts.entrySet().stream()
+        .map(entry -> new ShareLinkAccessDelta(
+            entry.getKey(),
+            Long.parseLong(entry.getValue()),
+            Instant.ofEpochMilli(Long.parseLong(
+                lastAccessedAts.getOrDefault(entry.getKey(), "0")))))
+        .toList();
+  }
+
+  private static String countKey(String drainId) {
+    return COUNT_KEY + DRAINING_KEY_SUFFIX + drainId;
+  }
+
+  private static String lastAccessedKey(String drainId) {
+    return LAST_ACCESSED_KEY + DRAINING_KEY_SUFFIX + drainId;
+  }
+
+}
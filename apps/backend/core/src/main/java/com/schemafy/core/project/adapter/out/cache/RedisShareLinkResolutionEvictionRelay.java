@@ -0,0 +1,63 @@
+package com.schemafy.core.project.adapter.out.cache;
+
+import java.time.Duration;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.common.config.ConditionalOnRedisEnabled;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+@Slf4j
+@Component
+@ConditionalOnRedisEnabled
+@RequiredArgsConstructor
+public class RedisShareLinkResolutionEvictionRelay {
+
+  static final String CHANNEL = "share-link:resolution:evict";
+
+  private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+  private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final CaffeineShareLinkResolutionCacheAdapter resolutionCache;
+  private Disposable subscription;
+
+  // The link is already revoked or deleted in the database, so a failed publish only leaves other nodes on the TTL.
+  public Mono<Void> publish(String code) {
+    return redisTemplate.convertAndSend(CHANNEL, code)
+        .then()
+        .onErrorResume(error -> {
+          log.error("Failed to publish share link resolution eviction", error);
+          return Mono.empty();
+        });
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    // Evictions published while disconnected are lost, so every (re)subscription starts from an empty cache.
+    subscription = redisTemplate.listenToChannel(CHANNEL)
+        .doOnSubscribe(ignored -> resolutionCache.evictAllLocally())
+        .doOnError(error -> log.warn(
+            "Share link resolution eviction subscription failed: channel={}", CHANNEL, error))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF).maxBackoff(MAX_BACKOFF))
+        .subscribe(message -> resolutionCache.evictLocally(message.getMessage()));
+  }
+
+  @PreDestroy
+  public void unsubscribe() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+}
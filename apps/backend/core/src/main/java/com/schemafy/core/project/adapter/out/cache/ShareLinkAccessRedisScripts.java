@@ -0,0 +1,51 @@
+package com.schemafy.core.project.adapter.out.cache;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+final class ShareLinkAccessRedisScripts {
+
+  static final RedisScript<Long> INCREMENT = RedisScript.of("""
+      redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+      local last = redis.call('HGET', KEYS[2], ARGV[1])
+      if not last or tonumber(last) < tonumber(ARGV[3]) then
+        redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+      end
+      return 1
+      """, Long.class);
+
+  // Pending counters are renamed atomically so that new hits keep accumulating
+  // while the drained snapshot is flushed. The drain is registered with its
+  // start time and kept until it is acknowledged.
+  static final RedisScript<Long> DRAIN = RedisScript.of("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return 0
+      end
+      redis.call('RENAME', KEYS[1], KEYS[3])
+      if redis.call('EXISTS', KEYS[2]) == 1 then
+        redis.call('RENAME', KEYS[2], KEYS[4])
+      end
+      redis.call('ZADD', KEYS[5], ARGV[2], ARGV[1])
+      return 1
+      """, Long.class);
+
+  // Removing the stale drain from the registry is the claim, so only one node
+  // takes it over. Its counters move to a new drain id started now.
+  static final RedisScript<Long> RECLAIM = RedisScript.of("""
+      if redis.call('ZREM', KEYS[5], ARGV[3]) == 0 then
+        return 0
+      end
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('DEL', KEYS[2])
+        return 0
+      end
+      redis.call('RENAME', KEYS[1], KEYS[3])
+      if redis.call('EXISTS', KEYS[2]) == 1 then
+        redis.call('RENAME', KEYS[2], KEYS[4])
+      end
+      redis.call('ZADD', KEYS[5], ARGV[2], ARGV[1])
+      return 1
+      """, Long.class);
+
+  private ShareLinkAccessRedisScripts() {}
+
+}
@@ -1,5 +1,7 @@
 package com.schemafy.core.project.adapter.out.persistence;
 
+import java.util.Collection;
+
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
@@ -19,6 +21,36 @@ public interface ProjectMemberRepository
   Flux<ProjectMember> findByProjectIdAndNotDeleted(String projectId,
       int limit, int offset);
 
+  @Query("""
+      SELECT * FROM project_members
+      WHERE project_id = :projectId
+        AND deleted_at IS NULL
+      ORDER BY id ASC
+      LIMIT :limit
+      """)
+  Flux<ProjectMember> findByProjectIdAndNotDeletedFirstPage(String projectId,
+      int limit);
+
+  @Query("""
+      SELECT * FROM project_members
+      WHERE project_id = :projectId
+        AND deleted_at IS NULL
+        AND id > :cursorId
+      ORDER BY id ASC
+      LIMIT :limit
+      """)
+  Flux<ProjectMember> findByProjectIdAndNotDeletedNextPage(String projectId,
+      String cursorId, int limit);
+
+  @Query("""
+      SELECT * FROM project_members
+      WHERE user_id = :userId
+        AND project_id IN (:projectIds)
+        AND deleted_at IS NULL
+      """)
+  Flux<ProjectMember> findByUserIdAndProjectIdsAndNotDeleted(String userId,
+      Collection<String> projectIds);
+
   @Query("SELECT COUNT(*) FROM project_members WHERE project_id = :projectId AND deleted_at IS NULL")
   Mono<Long> countByProjectIdAndNotDeleted(String projectId);
 
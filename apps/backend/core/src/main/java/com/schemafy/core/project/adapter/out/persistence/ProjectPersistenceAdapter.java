@@ -1,5 +1,7 @@
 package com.schemafy.core.project.adapter.out.persistence;
 
+import java.util.Collection;
+
 import com.schemafy.core.common.PersistenceAdapter;
 import com.schemafy.core.erd.schema.application.port.out.ActiveProjectExistsPort;
 import com.schemafy.core.erd.vendor.application.port.out.GetActiveProjectDbVendorIdPort;
@@ -80,6 +82,27 @@ public class ProjectPersistenceAdapter
         offset);
   }
 
+  @Override
+  public Flux<Project> findByWorkspaceIdAndUserIdWithCursor(String workspaceId,
+      String userId, String cursorId, int limit) {
+    if (cursorId == null) {
+      return projectRepository.findByWorkspaceIdAndUserIdFirstPage(
+          workspaceId, userId, limit);
+    }
+    return projectRepository.findByWorkspaceIdAndUserIdNextPage(workspaceId,
+        userId, cursorId, limit);
+  }
+
+  @Override
+  public Flux<Project> findSharedByUserIdWithCursor(String userId,
+      String cursorId, int limit) {
+    if (cursorId == null) {
+      return projectRepository.findSharedByUserIdFirstPage(userId, limit);
+    }
+    return projectRepository.findSharedByUserIdNextPage(userId, cursorId,
+        limit);
+  }
+
   @Override
   public Mono<ProjectMember> save(ProjectMember projectMember) {
     return projectMemberRepository.save(projectMember);
@@ -100,6 +123,27 @@ public class ProjectPersistenceAdapter
         limit, offset);
   }
 
+  @Override
+  public Flux<ProjectMember> findByProjectIdAndNotDeletedWithCursor(
+      String projectId, String cursorId, int limit) {
+    if (cursorId == null) {
+      return projectMemberRepository.findByProjectIdAndNotDeletedFirstPage(
+          projectId, limit);
+    }
+    return projectMemberRepository.findByProjectIdAndNotDeletedNextPage(
+        projectId, cursorId, limit);
+  }
+
+  @Override
+  public Flux<ProjectMember> findByUserIdAndProjectIdsAndNotDeleted(
+      String userId, Collection<String> projectIds) {
+    if (projectIds.isEmpty()) {
+      return Flux.empty();
+    }
+    return projectMemberRepository.findByUserIdAndProjectIdsAndNotDeleted(
+        userId, projectIds);
+  }
+
   @Override
   public Mono<Long> countByProjectIdAndNotDeleted(String projectId) {
     return projectMemberRepository.countByProjectIdAndNotDeleted(projectId);
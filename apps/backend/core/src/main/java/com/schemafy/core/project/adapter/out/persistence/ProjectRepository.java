@@ -54,4 +54,67 @@ public interface ProjectRepository extends ReactiveCrudRepository<Project, Strin
       int limit,
       int offset);
 
+  @Query("""
+      SELECT p.* FROM projects p
+      INNER JOIN project_members pm ON p.id = pm.project_id
+      WHERE p.workspace_id = :workspaceId
+        AND pm.user_id = :userId
+        AND pm.deleted_at IS NULL
+        AND p.deleted_at IS NULL
+      ORDER BY p.id DESC
+      LIMIT :limit
+      """)
+  Flux<Project> findByWorkspaceIdAndUserIdFirstPage(String workspaceId,
+      String userId, int limit);
+
+  @Query("""
+      SELECT p.* FROM projects p
+      INNER JOIN project_members pm ON p.id = pm.project_id
+      WHERE p.workspace_id = :workspaceId
+        AND pm.user_id = :userId
+        AND pm.deleted_at IS NULL
+        AND p.deleted_at IS NULL
+        AND p.id < :cursorId
+      ORDER BY p.id DESC
+      LIMIT :limit
+      """)
+  Flux<Project> findByWorkspaceIdAndUserIdNextPage(String workspaceId,
+      String userId, String cursorId, int limit);
+
+  @Query("""
+      SELECT p.* FROM projects p
+      INNER JOIN project_members pm ON p.id = pm.project_id
+      WHERE pm.user_id = :userId
+        AND pm.deleted_at IS NULL
+        AND p.deleted_at IS NULL
+        AND NOT EXISTS (
+          SELECT 1 FROM workspace_members wm
+          WHERE wm.workspace_id = p.workspace_id
+            AND wm.user_id = :userId
+            AND wm.deleted_at IS NULL
+        )
+      ORDER BY p.id DESC
+      LIMIT :limit
+      """)
+  Flux<Project> findSharedByUserIdFirstPage(String userId, int limit);
+
+  @Query("""
+      SELECT p.* FROM projects p
+      INNER JOIN project_members pm ON p.id = pm.project_id
+      WHERE pm.user_id = :userId
+        AND pm.deleted_at IS NULL
+        AND p.deleted_at IS NULL
+        AND p.id < :cursorId
+        AND NOT EXISTS (
+          SELECT 1 FROM workspace_members wm
+          WHERE wm.workspace_id = p.workspace_id
+            AND wm.user_id = :userId
+            AND wm.deleted_at IS NULL
+        )
+      ORDER BY p.id DESC
+      LIMIT :limit
+      """)
+  Flux<Project> findSharedByUserIdNextPage(String userId, String cursorId,
+      int limit);
+
 }
@@ -1,5 +1,9 @@
 package com.schemafy.core.project.adapter.out.persistence;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
 import com.schemafy.core.common.PersistenceAdapter;
 import com.schemafy.core.project.application.port.out.ShareLinkPort;
 import com.schemafy.core.project.domain.ShareLink;
@@ -25,8 +29,10 @@ public class ShareLinkPersistenceAdapter implements ShareLinkPort {
   }
 
   @Override
-  public Mono<Void> incrementAccessCount(String shareLinkId) {
-    return shareLinkRepository.incrementAccessCount(shareLinkId);
+  public Mono<Void> addAccessCount(String shareLinkId, long accessCount,
+      Instant lastAccessedAt) {
+    return shareLinkRepository.addAccessCount(shareLinkId, accessCount,
+        LocalDateTime.ofInstant(lastAccessedAt, ZoneOffset.UTC));
   }
 
   @Override
@@ -36,6 +42,17 @@ public class ShareLinkPersistenceAdapter implements ShareLinkPort {
         offset);
   }
 
+  @Override
+  public Flux<ShareLink> findByProjectIdAndNotDeletedWithCursor(
+      String projectId, String cursorId, int limit) {
+    if (cursorId == null) {
+      return shareLinkRepository.findByProjectIdAndNotDeletedFirstPage(
+          projectId, limit);
+    }
+    return shareLinkRepository.findByProjectIdAndNotDeletedNextPage(projectId,
+        cursorId, limit);
+  }
+
   @Override
   public Mono<Long> countByProjectIdAndNotDeleted(String projectId) {
     return shareLinkRepository.countByProjectIdAndNotDeleted(projectId);
@@ -1,5 +1,7 @@
 package com.schemafy.core.project.adapter.out.persistence;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
@@ -14,13 +16,44 @@ public interface ShareLinkRepository
   @Query("SELECT * FROM share_links WHERE code = :code AND deleted_at IS NULL")
   Mono<ShareLink> findByCodeAndNotDeleted(String code);
 
-  @Query("UPDATE share_links SET last_accessed_at = CURRENT_TIMESTAMP, access_count = access_count + 1 WHERE id = :id")
-  Mono<Void> incrementAccessCount(String id);
+  @Query("""
+      UPDATE share_links
+      SET access_count = access_count + :accessCount,
+          last_accessed_at = CASE
+            WHEN last_accessed_at IS NULL OR last_accessed_at < :lastAccessedAt
+              THEN :lastAccessedAt
+            ELSE last_accessed_at
+          END
+      WHERE id = :id
+      """)
+  Mono<Void> addAccessCount(String id, long accessCount,
+      LocalDateTime lastAccessedAt);
 
   @Query("SELECT * FROM share_links WHERE project_id = :projectId AND deleted_at IS NULL ORDER BY created_at DESC LIMIT :limit OFFSET :offset")
   Flux<ShareLink> findByProjectIdAndNotDeleted(String projectId, int limit,
       int offset);
 
+  @Query("""
+      SELECT * FROM share_links
+      WHERE project_id = :projectId
+        AND deleted_at IS NULL
+      ORDER BY id DESC
+      LIMIT :limit
+      """)
+  Flux<ShareLink> findByProjectIdAndNotDeletedFirstPage(String projectId,
+      int limit);
+
+  @Query("""
+      SELECT * FROM share_links
+      WHERE project_id = :projectId
+        AND deleted_at IS NULL
+        AND id < :cursorId
+      ORDER BY id DESC
+      LIMIT :limit
+      """)
+  Flux<ShareLink> findByProjectIdAndNotDeletedNextPage(String projectId,
+      String cursorId, int limit);
+
   @Query("SELECT COUNT(*) FROM share_links WHERE project_id = :projectId AND deleted_at IS NULL")
   Mono<Long> countByProjectIdAndNotDeleted(String projectId);
 
@@ -30,6 +30,27 @@ public interface WorkspaceMemberRepository
   Flux<WorkspaceMember> findByWorkspaceIdAndNotDeleted(String workspaceId,
       int limit, int offset);
 
+  @Query("""
+      SELECT * FROM workspace_members
+      WHERE workspace_id = :workspaceId
+        AND deleted_at IS NULL
+      ORDER BY id ASC
+      LIMIT :limit
+      """)
+  Flux<WorkspaceMember> findByWorkspaceIdAndNotDeletedFirstPage(
+      String workspaceId, int limit);
+
+  @Query("""
+      SELECT * FROM workspace_members
+      WHERE workspace_id = :workspaceId
+        AND deleted_at IS NULL
+        AND id > :cursorId
+      ORDER BY id ASC
+      LIMIT :limit
+      """)
+  Flux<WorkspaceMember> findByWorkspaceIdAndNotDeletedNextPage(
+      String workspaceId, String cursorId, int limit);
+
   @Query("""
       SELECT * FROM workspace_members
       WHERE workspace_id = :workspaceId
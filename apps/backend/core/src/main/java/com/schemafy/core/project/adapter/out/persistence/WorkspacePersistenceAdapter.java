@@ -34,6 +34,15 @@ public class WorkspacePersistenceAdapter
     return workspaceRepository.findByUserIdWithPaging(userId, limit, offset);
   }
 
+  @Override
+  public Flux<Workspace> findByUserIdWithCursor(String userId,
+      String cursorId, int limit) {
+    if (cursorId == null) {
+      return workspaceRepository.findByUserIdFirstPage(userId, limit);
+    }
+    return workspaceRepository.findByUserIdNextPage(userId, cursorId, limit);
+  }
+
   @Override
   public Mono<Long> countByUserId(String userId) {
     return workspaceRepository.countByUserId(userId);
@@ -61,6 +70,19 @@ public class WorkspacePersistenceAdapter
         workspaceId, limit, offset);
   }
 
+  @Override
+  public Flux<WorkspaceMember> findByWorkspaceIdAndNotDeletedWithCursor(
+      String workspaceId,
+      String cursorId,
+      int limit) {
+    if (cursorId == null) {
+      return workspaceMemberRepository
+          .findByWorkspaceIdAndNotDeletedFirstPage(workspaceId, limit);
+    }
+    return workspaceMemberRepository.findByWorkspaceIdAndNotDeletedNextPage(
+        workspaceId, cursorId, limit);
+  }
+
   @Override
   public Flux<WorkspaceMember> findAllByWorkspaceIdAndNotDeleted(
       String workspaceId) {
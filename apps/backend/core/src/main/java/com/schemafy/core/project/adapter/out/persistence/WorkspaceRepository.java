@@ -29,6 +29,30 @@ public interface WorkspaceRepository
   Flux<Workspace> findByUserIdWithPaging(String userId, int limit,
       int offset);
 
+  @Query("""
+      SELECT w.* FROM workspaces w
+      INNER JOIN workspace_members wm ON w.id = wm.workspace_id
+      WHERE wm.user_id = :userId
+        AND wm.deleted_at IS NULL
+        AND w.deleted_at IS NULL
+      ORDER BY w.id DESC
+      LIMIT :limit
+      """)
+  Flux<Workspace> findByUserIdFirstPage(String userId, int limit);
+
+  @Query("""
+      SELECT w.* FROM workspaces w
+      INNER JOIN workspace_members wm ON w.id = wm.workspace_id
+      WHERE wm.user_id = :userId
+        AND wm.deleted_at IS NULL
+        AND w.deleted_at IS NULL
+        AND w.id < :cursorId
+      ORDER BY w.id DESC
+      LIMIT :limit
+      """)
+  Flux<Workspace> findByUserIdNextPage(String userId, String cursorId,
+      int limit);
+
   @Query("""
       SELECT COUNT(*) FROM workspaces w
       INNER JOIN workspace_members wm ON w.id = wm.workspace_id
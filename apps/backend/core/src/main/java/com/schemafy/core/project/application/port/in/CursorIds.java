@@ -0,0 +1,20 @@
+package com.schemafy.core.project.application.port.in;
+
+import java.util.Locale;
+
+import com.schemafy.core.ulid.application.service.UlidGenerator;
+
+final class CursorIds {
+
+  private CursorIds() {}
+
+  static String normalize(String cursorId) {
+    if (cursorId == null || cursorId.isBlank()) {
+      return null;
+    }
+    String normalized = cursorId.trim().toUpperCase(Locale.ROOT);
+    UlidGenerator.extractTimestamp(normalized);
+    return normalized;
+  }
+
+}
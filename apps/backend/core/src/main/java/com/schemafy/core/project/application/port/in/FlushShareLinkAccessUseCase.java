@@ -0,0 +1,9 @@
+package com.schemafy.core.project.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface FlushShareLinkAccessUseCase {
+
+  Mono<Long> flushAccessCounts();
+
+}
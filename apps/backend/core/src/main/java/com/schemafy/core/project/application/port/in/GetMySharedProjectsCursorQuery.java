@@ -0,0 +1,12 @@
+package com.schemafy.core.project.application.port.in;
+
+public record GetMySharedProjectsCursorQuery(
+    String requesterId,
+    String cursorId,
+    int size) {
+
+  public GetMySharedProjectsCursorQuery {
+    cursorId = CursorIds.normalize(cursorId);
+  }
+
+}
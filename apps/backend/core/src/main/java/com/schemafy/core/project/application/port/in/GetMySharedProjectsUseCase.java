@@ -1,5 +1,6 @@
 package com.schemafy.core.project.application.port.in;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 
 import reactor.core.publisher.Mono;
@@ -9,4 +10,7 @@ public interface GetMySharedProjectsUseCase {
   Mono<PageResult<ProjectSummary>> getMySharedProjects(
       GetMySharedProjectsQuery query);
 
+  Mono<CursorResult<ProjectSummary>> getMySharedProjectsByCursor(
+      GetMySharedProjectsCursorQuery query);
+
 }
@@ -0,0 +1,13 @@
+package com.schemafy.core.project.application.port.in;
+
+public record GetProjectMembersCursorQuery(
+    String projectId,
+    String requesterId,
+    String cursorId,
+    int size) {
+
+  public GetProjectMembersCursorQuery {
+    cursorId = CursorIds.normalize(cursorId);
+  }
+
+}
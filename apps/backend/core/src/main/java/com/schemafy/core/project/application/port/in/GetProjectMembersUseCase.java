@@ -1,5 +1,6 @@
 package com.schemafy.core.project.application.port.in;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 import com.schemafy.core.project.domain.ProjectMember;
 
@@ -9,4 +10,7 @@ public interface GetProjectMembersUseCase {
 
   Mono<PageResult<ProjectMember>> getProjectMembers(GetProjectMembersQuery query);
 
+  Mono<CursorResult<ProjectMember>> getProjectMembersByCursor(
+      GetProjectMembersCursorQuery query);
+
 }
@@ -0,0 +1,13 @@
+package com.schemafy.core.project.application.port.in;
+
+public record GetProjectsCursorQuery(
+    String workspaceId,
+    String requesterId,
+    String cursorId,
+    int size) {
+
+  public GetProjectsCursorQuery {
+    cursorId = CursorIds.normalize(cursorId);
+  }
+
+}
@@ -1,5 +1,6 @@
 package com.schemafy.core.project.application.port.in;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 
 import reactor.core.publisher.Mono;
@@ -8,4 +9,7 @@ public interface GetProjectsUseCase {
 
   Mono<PageResult<ProjectSummary>> getProjects(GetProjectsQuery query);
 
+  Mono<CursorResult<ProjectSummary>> getProjectsByCursor(
+      GetProjectsCursorQuery query);
+
 }
@@ -0,0 +1,13 @@
+package com.schemafy.core.project.application.port.in;
+
+public record GetShareLinksCursorQuery(
+    String projectId,
+    String requesterId,
+    String cursorId,
+    int size) {
+
+  public GetShareLinksCursorQuery {
+    cursorId = CursorIds.normalize(cursorId);
+  }
+
+}
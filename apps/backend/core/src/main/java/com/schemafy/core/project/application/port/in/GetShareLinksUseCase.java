@@ -1,5 +1,6 @@
 package com.schemafy.core.project.application.port.in;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 import com.schemafy.core.project.domain.ShareLink;
 
@@ -9,4 +10,7 @@ public interface GetShareLinksUseCase {
 
   Mono<PageResult<ShareLink>> getShareLinks(GetShareLinksQuery query);
 
+  Mono<CursorResult<ShareLink>> getShareLinksByCursor(
+      GetShareLinksCursorQuery query);
+
 }
@@ -0,0 +1,13 @@
+package com.schemafy.core.project.application.port.in;
+
+public record GetWorkspaceMembersCursorQuery(
+    String workspaceId,
+    String requesterId,
+    String cursorId,
+    int size) {
+
+  public GetWorkspaceMembersCursorQuery {
+    cursorId = CursorIds.normalize(cursorId);
+  }
+
+}
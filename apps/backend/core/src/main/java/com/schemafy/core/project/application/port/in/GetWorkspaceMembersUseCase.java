@@ -1,5 +1,6 @@
 package com.schemafy.core.project.application.port.in;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 import com.schemafy.core.project.domain.WorkspaceMember;
 
@@ -10,4 +11,7 @@ public interface GetWorkspaceMembersUseCase {
   Mono<PageResult<WorkspaceMember>> getWorkspaceMembers(
       GetWorkspaceMembersQuery query);
 
+  Mono<CursorResult<WorkspaceMember>> getWorkspaceMembersByCursor(
+      GetWorkspaceMembersCursorQuery query);
+
 }
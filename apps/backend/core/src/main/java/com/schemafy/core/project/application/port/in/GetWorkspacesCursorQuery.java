@@ -0,0 +1,12 @@
+package com.schemafy.core.project.application.port.in;
+
+public record GetWorkspacesCursorQuery(
+    String requesterId,
+    String cursorId,
+    int size) {
+
+  public GetWorkspacesCursorQuery {
+    cursorId = CursorIds.normalize(cursorId);
+  }
+
+}
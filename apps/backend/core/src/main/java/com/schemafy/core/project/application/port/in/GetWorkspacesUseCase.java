@@ -1,5 +1,6 @@
 package com.schemafy.core.project.application.port.in;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 import com.schemafy.core.project.domain.Workspace;
 
@@ -9,4 +10,7 @@ public interface GetWorkspacesUseCase {
 
   Mono<PageResult<Workspace>> getWorkspaces(GetWorkspacesQuery query);
 
+  Mono<CursorResult<Workspace>> getWorkspacesByCursor(
+      GetWorkspacesCursorQuery query);
+
 }
@@ -1,5 +1,7 @@
 package com.schemafy.core.project.application.port.out;
 
+import java.util.Collection;
+
 import com.schemafy.core.project.domain.ProjectMember;
 
 import reactor.core.publisher.Flux;
@@ -18,6 +20,15 @@ public interface ProjectMemberPort {
       int limit,
       int offset);
 
+  Flux<ProjectMember> findByProjectIdAndNotDeletedWithCursor(
+      String projectId,
+      String cursorId,
+      int limit);
+
+  Flux<ProjectMember> findByUserIdAndProjectIdsAndNotDeleted(
+      String userId,
+      Collection<String> projectIds);
+
   Mono<Long> countByProjectIdAndNotDeleted(String projectId);
 
   Mono<Boolean> existsByProjectIdAndUserIdAndNotDeleted(
@@ -28,4 +28,15 @@ public interface ProjectPort {
   Flux<Project> findSharedByUserIdWithPaging(String userId, int limit,
       int offset);
 
+  Flux<Project> findByWorkspaceIdAndUserIdWithCursor(
+      String workspaceId,
+      String userId,
+      String cursorId,
+      int limit);
+
+  Flux<Project> findSharedByUserIdWithCursor(
+      String userId,
+      String cursorId,
+      int limit);
+
 }
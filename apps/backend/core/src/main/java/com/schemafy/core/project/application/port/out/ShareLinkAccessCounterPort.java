@@ -0,0 +1,30 @@
+package com.schemafy.core.project.application.port.out;
+
+import java.time.Instant;
+
+import com.schemafy.core.project.domain.ShareLinkAccessDelta;
+import com.schemafy.core.project.domain.ShareLinkAccessDrain;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ShareLinkAccessCounterPort {
+
+  Mono<Void> record(String shareLinkId, Instant accessedAt);
+
+  /** Moves the pending counters aside under a new drain id; empty when nothing is pending. */
+  Mono<ShareLinkAccessDrain> drain();
+
+  /**
+   * Takes over drains started before {@code startedBefore} that were never
+   * acknowledged, such as those of a node that stopped mid-flush. Each drain is
+   * handed to one caller only.
+   */
+  Flux<ShareLinkAccessDrain> reclaimStaleDrains(Instant startedBefore);
+
+  /** Discards a drain once every one of its deltas has been flushed or restored. */
+  Mono<Void> ack(String drainId);
+
+  Mono<Void> restore(ShareLinkAccessDelta delta);
+
+}
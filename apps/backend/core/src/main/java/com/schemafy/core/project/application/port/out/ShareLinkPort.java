@@ -1,5 +1,7 @@
 package com.schemafy.core.project.application.port.out;
 
+import java.time.Instant;
+
 import com.schemafy.core.project.domain.ShareLink;
 
 import reactor.core.publisher.Flux;
@@ -11,13 +13,21 @@ public interface ShareLinkPort {
 
   Mono<ShareLink> findByCodeAndNotDeleted(String code);
 
-  Mono<Void> incrementAccessCount(String shareLinkId);
+  Mono<Void> addAccessCount(
+      String shareLinkId,
+      long accessCount,
+      Instant lastAccessedAt);
 
   Flux<ShareLink> findByProjectIdAndNotDeleted(
       String projectId,
       int limit,
       int offset);
 
+  Flux<ShareLink> findByProjectIdAndNotDeletedWithCursor(
+      String projectId,
+      String cursorId,
+      int limit);
+
   Mono<Long> countByProjectIdAndNotDeleted(String projectId);
 
   Mono<ShareLink> findByIdAndProjectIdAndNotDeleted(
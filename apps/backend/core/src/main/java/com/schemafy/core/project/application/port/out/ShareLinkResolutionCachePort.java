@@ -0,0 +1,15 @@
+package com.schemafy.core.project.application.port.out;
+
+import com.schemafy.core.project.domain.ShareLinkResolution;
+
+import reactor.core.publisher.Mono;
+
+public interface ShareLinkResolutionCachePort {
+
+  Mono<ShareLinkResolution> get(String code);
+
+  Mono<Void> put(String code, ShareLinkResolution resolution);
+
+  Mono<Void> evict(String code);
+
+}
@@ -18,6 +18,11 @@ public interface WorkspaceMemberPort {
       int limit,
       int offset);
 
+  Flux<WorkspaceMember> findByWorkspaceIdAndNotDeletedWithCursor(
+      String workspaceId,
+      String cursorId,
+      int limit);
+
   Flux<WorkspaceMember> findAllByWorkspaceIdAndNotDeleted(String workspaceId);
 
   Mono<Long> countByWorkspaceIdAndNotDeleted(String workspaceId);
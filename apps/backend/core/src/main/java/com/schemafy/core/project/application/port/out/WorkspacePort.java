@@ -13,6 +13,9 @@ public interface WorkspacePort {
 
   Flux<Workspace> findByUserIdWithPaging(String userId, int limit, int offset);
 
+  Flux<Workspace> findByUserIdWithCursor(String userId, String cursorId,
+      int limit);
+
   Mono<Long> countByUserId(String userId);
 
 }
@@ -1,5 +1,7 @@
 package com.schemafy.core.project.application.service;
 
+import java.time.Instant;
+
 import org.springframework.stereotype.Service;
 
 import org.slf4j.Logger;
@@ -8,8 +10,11 @@ import org.slf4j.LoggerFactory;
 import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.project.application.port.in.AccessShareLinkQuery;
 import com.schemafy.core.project.application.port.in.AccessShareLinkUseCase;
+import com.schemafy.core.project.application.port.out.ShareLinkAccessCounterPort;
 import com.schemafy.core.project.application.port.out.ShareLinkPort;
+import com.schemafy.core.project.application.port.out.ShareLinkResolutionCachePort;
 import com.schemafy.core.project.domain.Project;
+import com.schemafy.core.project.domain.ShareLinkResolution;
 import com.schemafy.core.project.domain.exception.ProjectErrorCode;
 import com.schemafy.core.project.domain.exception.ShareLinkErrorCode;
 
@@ -24,29 +29,29 @@ class AccessShareLinkService implements AccessShareLinkUseCase {
       AccessShareLinkService.class);
 
   private final ShareLinkPort shareLinkPort;
+  private final ShareLinkAccessCounterPort shareLinkAccessCounterPort;
+  private final ShareLinkResolutionCachePort shareLinkResolutionCachePort;
   private final ShareLinkHelper shareLinkHelper;
 
   @Override
   public Mono<Project> accessShareLink(AccessShareLinkQuery query) {
     String user = query.userId() != null ? query.userId() : "anonymous";
 
-    return shareLinkPort.findByCodeAndNotDeleted(query.code())
-        .switchIfEmpty(Mono.error(
-            new DomainException(ShareLinkErrorCode.NOT_FOUND)))
+    return resolve(query.code())
         .flatMap(shareLinkHelper::validateShareLinkAccessible)
-        .doOnNext(shareLink -> log.info(
+        .doOnNext(resolution -> log.info(
             "ShareLink access success - code: {}, projectId: {}, userId: {}, ip: {}, userAgent: {}",
-            maskCode(query.code()), shareLink.getProjectId(), user,
+            maskCode(query.code()), resolution.projectId(), user,
             query.ipAddress(), query.userAgent()))
-        .flatMap(shareLink -> shareLinkPort.incrementAccessCount(
-            shareLink.getId())
+        .flatMap(resolution -> shareLinkAccessCounterPort.record(
+            resolution.shareLinkId(), Instant.now())
             .onErrorResume(error -> {
               log.error(
-                  "Failed to increment access count for ShareLink InvitationId: {}",
-                  shareLink.getId(), error);
+                  "Failed to record access for ShareLink id: {}",
+                  resolution.shareLinkId(), error);
               return Mono.empty();
             })
-            .then(shareLinkHelper.findProjectById(shareLink.getProjectId()))
+            .then(shareLinkHelper.findProjectById(resolution.projectId()))
             .switchIfEmpty(Mono.error(
                 new DomainException(ProjectErrorCode.NOT_FOUND))))
         .doOnError(error -> log.info(
@@ -55,6 +60,18 @@ class AccessShareLinkService implements AccessShareLinkUseCase {
             query.userAgent(), error.getMessage()));
   }
 
+  private Mono<ShareLinkResolution> resolve(String code) {
+    return shareLinkResolutionCachePort.get(code)
+        .switchIfEmpty(Mono.defer(() -> shareLinkPort
+            .findByCodeAndNotDeleted(code)
+            .map(ShareLinkResolution::from)
+            .flatMap(resolution -> shareLinkResolutionCachePort
+                .put(code, resolution)
+                .thenReturn(resolution))))
+        .switchIfEmpty(Mono.error(
+            new DomainException(ShareLinkErrorCode.NOT_FOUND)));
+  }
+
   private String maskCode(String code) {
     if (code == null || code.length() <= 4) {
       return "***";
@@ -7,6 +7,7 @@ import com.schemafy.core.project.application.access.RequireProjectAccess;
 import com.schemafy.core.project.application.port.in.DeleteShareLinkCommand;
 import com.schemafy.core.project.application.port.in.DeleteShareLinkUseCase;
 import com.schemafy.core.project.application.port.out.ShareLinkPort;
+import com.schemafy.core.project.application.port.out.ShareLinkResolutionCachePort;
 import com.schemafy.core.project.domain.ProjectRole;
 
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ class DeleteShareLinkService implements DeleteShareLinkUseCase {
   private final TransactionalOperator transactionalOperator;
   private final ShareLinkPort shareLinkPort;
   private final ShareLinkHelper shareLinkHelper;
+  private final ShareLinkResolutionCachePort shareLinkResolutionCachePort;
 
   @Override
   @RequireProjectAccess(role = ProjectRole.ADMIN)
@@ -27,9 +29,10 @@ class DeleteShareLinkService implements DeleteShareLinkUseCase {
         command.projectId())
         .flatMap(link -> {
           link.delete();
-          return shareLinkPort.save(link).then();
+          return shareLinkPort.save(link);
         })
-        .as(transactionalOperator::transactional);
+        .as(transactionalOperator::transactional)
+        .flatMap(link -> shareLinkResolutionCachePort.evict(link.getCode()));
   }
 
 }
@@ -0,0 +1,66 @@
+package com.schemafy.core.project.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.stereotype.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.schemafy.core.project.application.port.in.FlushShareLinkAccessUseCase;
+import com.schemafy.core.project.application.port.out.ShareLinkAccessCounterPort;
+import com.schemafy.core.project.application.port.out.ShareLinkPort;
+import com.schemafy.core.project.domain.ShareLinkAccessDelta;
+import com.schemafy.core.project.domain.ShareLinkAccessDrain;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+class FlushShareLinkAccessService implements FlushShareLinkAccessUseCase {
+
+  private static final Logger log = LoggerFactory.getLogger(
+      FlushShareLinkAccessService.class);
+
+  // Far longer than any flush takes, so a drain this old belongs to a node that stopped before acknowledging it.
+  static final Duration STALE_DRAIN_AGE = Duration.ofMinutes(5);
+
+  private final ShareLinkAccessCounterPort shareLinkAccessCounterPort;
+  private final ShareLinkPort shareLinkPort;
+  private final Clock clock;
+
+  @Override
+  public Mono<Long> flushAccessCounts() {
+    return Flux.defer(() -> shareLinkAccessCounterPort
+        .reclaimStaleDrains(clock.instant().minus(STALE_DRAIN_AGE)))
+        .concatWith(shareLinkAccessCounterPort.drain())
+        .concatMap(this::flush)
+        .reduce(0L, Long::sum);
+  }
+
+  // The drain is only acknowledged once every delta is either stored or back in the live counters.
+  private Mono<Long> flush(ShareLinkAccessDrain drain) {
+    return Flux.fromIterable(drain.deltas())
+        .concatMap(this::flush)
+        .count()
+        .flatMap(flushed -> shareLinkAccessCounterPort.ack(drain.drainId())
+            .thenReturn(flushed));
+  }
+
+  private Mono<ShareLinkAccessDelta> flush(ShareLinkAccessDelta delta) {
+    return shareLinkPort.addAccessCount(delta.shareLinkId(),
+        delta.accessCount(), delta.lastAccessedAt())
+        .thenReturn(delta)
+        .onErrorResume(error -> {
+          log.warn(
+              "Failed to flush access count for ShareLink id: {}, count: {}",
+              delta.shareLinkId(), delta.accessCount(), error);
+          return shareLinkAccessCounterPort.restore(delta)
+              .then(Mono.empty());
+        });
+  }
+
+}
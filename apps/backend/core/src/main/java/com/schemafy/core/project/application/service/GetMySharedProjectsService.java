@@ -1,13 +1,19 @@
 package com.schemafy.core.project.application.service;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
+import com.schemafy.core.project.application.port.in.GetMySharedProjectsCursorQuery;
 import com.schemafy.core.project.application.port.in.GetMySharedProjectsQuery;
 import com.schemafy.core.project.application.port.in.GetMySharedProjectsUseCase;
 import com.schemafy.core.project.application.port.in.ProjectSummary;
 import com.schemafy.core.project.application.port.out.ProjectMemberPort;
 import com.schemafy.core.project.application.port.out.ProjectPort;
+import com.schemafy.core.project.domain.Project;
+import com.schemafy.core.project.domain.ProjectMember;
 import com.schemafy.core.project.domain.ProjectRole;
 
 import lombok.RequiredArgsConstructor;
@@ -42,4 +48,27 @@ class GetMySharedProjectsService implements GetMySharedProjectsUseCase {
                     query.size(), totalElements))));
   }
 
+  @Override
+  public Mono<CursorResult<ProjectSummary>> getMySharedProjectsByCursor(
+      GetMySharedProjectsCursorQuery query) {
+    return projectPort.findSharedByUserIdWithCursor(query.requesterId(),
+        query.cursorId(), query.size() + 1)
+        .collectList()
+        .map(projects -> CursorResult.fromFetchedPage(projects, query.size(),
+            Project::getId))
+        .flatMap(page -> attachRoles(page, query.requesterId()));
+  }
+
+  private Mono<CursorResult<ProjectSummary>> attachRoles(
+      CursorResult<Project> page, String userId) {
+    List<String> projectIds = page.content().stream()
+        .map(Project::getId)
+        .toList();
+    return projectMemberPort.findByUserIdAndProjectIdsAndNotDeleted(userId,
+        projectIds)
+        .collectMap(ProjectMember::getProjectId, ProjectMember::getRoleAsEnum)
+        .map(rolesByProjectId -> page.map(project -> new ProjectSummary(
+            project, rolesByProjectId.get(project.getId()))));
+  }
+
 }
@@ -2,8 +2,10 @@ package com.schemafy.core.project.application.service;
 
 import org.springframework.stereotype.Service;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.application.port.in.GetProjectMembersCursorQuery;
 import com.schemafy.core.project.application.port.in.GetProjectMembersQuery;
 import com.schemafy.core.project.application.port.in.GetProjectMembersUseCase;
 import com.schemafy.core.project.application.port.out.ProjectMemberPort;
@@ -33,4 +35,15 @@ class GetProjectMembersService implements GetProjectMembersUseCase {
                 totalElements)));
   }
 
+  @Override
+  @RequireProjectAccess(role = ProjectRole.VIEWER)
+  public Mono<CursorResult<ProjectMember>> getProjectMembersByCursor(
+      GetProjectMembersCursorQuery query) {
+    return projectMemberPort.findByProjectIdAndNotDeletedWithCursor(
+        query.projectId(), query.cursorId(), query.size() + 1)
+        .collectList()
+        .map(members -> CursorResult.fromFetchedPage(members, query.size(),
+            ProjectMember::getId));
+  }
+
 }
@@ -2,8 +2,10 @@ package com.schemafy.core.project.application.service;
 
 import org.springframework.stereotype.Service;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 import com.schemafy.core.project.application.access.RequireProjectAccess;
+import com.schemafy.core.project.application.port.in.GetShareLinksCursorQuery;
 import com.schemafy.core.project.application.port.in.GetShareLinksQuery;
 import com.schemafy.core.project.application.port.in.GetShareLinksUseCase;
 import com.schemafy.core.project.application.port.out.ShareLinkPort;
@@ -32,4 +34,15 @@ class GetShareLinksService implements GetShareLinksUseCase {
                 totalElements)));
   }
 
+  @Override
+  @RequireProjectAccess(role = ProjectRole.ADMIN)
+  public Mono<CursorResult<ShareLink>> getShareLinksByCursor(
+      GetShareLinksCursorQuery query) {
+    return shareLinkPort.findByProjectIdAndNotDeletedWithCursor(
+        query.projectId(), query.cursorId(), query.size() + 1)
+        .collectList()
+        .map(links -> CursorResult.fromFetchedPage(links, query.size(),
+            ShareLink::getId));
+  }
+
 }
@@ -2,8 +2,10 @@ package com.schemafy.core.project.application.service;
 
 import org.springframework.stereotype.Service;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
 import com.schemafy.core.project.application.access.RequireWorkspaceAccess;
+import com.schemafy.core.project.application.port.in.GetWorkspaceMembersCursorQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspaceMembersQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspaceMembersUseCase;
 import com.schemafy.core.project.application.port.out.WorkspaceMemberPort;
@@ -33,4 +35,15 @@ class GetWorkspaceMembersService implements GetWorkspaceMembersUseCase {
                 totalElements)));
   }
 
+  @Override
+  @RequireWorkspaceAccess(role = WorkspaceRole.MEMBER)
+  public Mono<CursorResult<WorkspaceMember>> getWorkspaceMembersByCursor(
+      GetWorkspaceMembersCursorQuery query) {
+    return workspaceMemberPort.findByWorkspaceIdAndNotDeletedWithCursor(
+        query.workspaceId(), query.cursorId(), query.size() + 1)
+        .collectList()
+        .map(members -> CursorResult.fromFetchedPage(members, query.size(),
+            WorkspaceMember::getId));
+  }
+
 }
@@ -2,7 +2,9 @@ package com.schemafy.core.project.application.service;
 
 import org.springframework.stereotype.Service;
 
+import com.schemafy.core.common.CursorResult;
 import com.schemafy.core.common.PageResult;
+import com.schemafy.core.project.application.port.in.GetWorkspacesCursorQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspacesQuery;
 import com.schemafy.core.project.application.port.in.GetWorkspacesUseCase;
 import com.schemafy.core.project.application.port.out.WorkspacePort;
@@ -28,4 +30,14 @@ class GetWorkspacesService implements GetWorkspacesUseCase {
                 sizeOfWorkspace)));
   }
 
+  @Override
+  public Mono<CursorResult<Workspace>> getWorkspacesByCursor(
+      GetWorkspacesCursorQuery query) {
+    return workspacePort.findByUserIdWithCursor(query.requesterId(),
+        query.cursorId(), query.size() + 1)
+        .collectList()
+        .map(content -> CursorResult.fromFetchedPage(content, query.size(),
+            Workspace::getId));
+  }
+
 }
@@ -8,6 +8,7 @@ import com.schemafy.core.project.application.access.RequireProjectAccess;
 import com.schemafy.core.project.application.port.in.RevokeShareLinkCommand;
 import com.schemafy.core.project.application.port.in.RevokeShareLinkUseCase;
 import com.schemafy.core.project.application.port.out.ShareLinkPort;
+import com.schemafy.core.project.application.port.out.ShareLinkResolutionCachePort;
 import com.schemafy.core.project.domain.ProjectRole;
 import com.schemafy.core.project.domain.ShareLink;
 import com.schemafy.core.project.domain.exception.ShareLinkErrorCode;
@@ -22,6 +23,7 @@ class RevokeShareLinkService implements RevokeShareLinkUseCase {
   private final TransactionalOperator transactionalOperator;
   private final ShareLinkPort shareLinkPort;
   private final ShareLinkHelper shareLinkHelper;
+  private final ShareLinkResolutionCachePort shareLinkResolutionCachePort;
 
   @Override
   @RequireProjectAccess(role = ProjectRole.ADMIN)
@@ -36,7 +38,10 @@ class RevokeShareLinkService implements RevokeShareLinkUseCase {
           shareLink.revoke();
           return shareLinkPort.save(shareLink);
         })
-        .as(transactionalOperator::transactional);
+        .as(transactionalOperator::transactional)
+        .flatMap(shareLink -> shareLinkResolutionCachePort
+            .evict(shareLink.getCode())
+            .thenReturn(shareLink));
   }
 
 }
@@ -1,5 +1,7 @@
 package com.schemafy.core.project.application.service;
 
+import java.time.Instant;
+
 import org.springframework.stereotype.Component;
 
 import com.schemafy.core.common.exception.DomainException;
@@ -7,6 +9,7 @@ import com.schemafy.core.project.application.port.out.ProjectPort;
 import com.schemafy.core.project.application.port.out.ShareLinkPort;
 import com.schemafy.core.project.domain.Project;
 import com.schemafy.core.project.domain.ShareLink;
+import com.schemafy.core.project.domain.ShareLinkResolution;
 import com.schemafy.core.project.domain.exception.ProjectErrorCode;
 import com.schemafy.core.project.domain.exception.ShareLinkErrorCode;
 
@@ -28,6 +31,15 @@ class ShareLinkHelper {
     return Mono.just(shareLink);
   }
 
+  Mono<ShareLinkResolution> validateShareLinkAccessible(
+      ShareLinkResolution resolution) {
+    if (!resolution.isAccessible(Instant.now())) {
+      return Mono.error(new DomainException(ShareLinkErrorCode.INVALID_LINK));
+    }
+
+    return Mono.just(resolution);
+  }
+
   Mono<ShareLink> findShareLinkById(String shareLinkId, String projectId) {
     return shareLinkPort.findByIdAndProjectIdAndNotDeleted(shareLinkId,
         projectId)
@@ -0,0 +1,18 @@
+package com.schemafy.core.project.domain;
+
+import java.time.Instant;
+
+public record ShareLinkAccessDelta(
+    String shareLinkId,
+    long accessCount,
+    Instant lastAccessedAt) {
+
+  public ShareLinkAccessDelta merge(ShareLinkAccessDelta other) {
+    Instant latest = lastAccessedAt.isAfter(other.lastAccessedAt())
+        ? lastAccessedAt
+        : other.lastAccessedAt();
+    return new ShareLinkAccessDelta(shareLinkId,
+        accessCount + other.accessCount(), latest);
+  }
+
+}
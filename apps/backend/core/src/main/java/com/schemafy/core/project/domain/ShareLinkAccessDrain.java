@@ -0,0 +1,12 @@
+package com.schemafy.core.project.domain;
+
+import java.util.List;
+
+/**
+ * Counters moved aside in one drain. They stay in the counter store until the
+ * drain is acknowledged, so a flush that never finishes can be picked up again.
+ */
+public record ShareLinkAccessDrain(
+    String drainId,
+    List<ShareLinkAccessDelta> deltas) {
+}
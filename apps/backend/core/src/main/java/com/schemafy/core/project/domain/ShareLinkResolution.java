@@ -0,0 +1,26 @@
+package com.schemafy.core.project.domain;
+
+import java.time.Instant;
+
+public record ShareLinkResolution(
+    String shareLinkId,
+    String projectId,
+    Instant expiresAt,
+    boolean revoked) {
+
+  public static ShareLinkResolution from(ShareLink shareLink) {
+    return new ShareLinkResolution(
+        shareLink.getId(),
+        shareLink.getProjectId(),
+        shareLink.getExpiresAt(),
+        Boolean.TRUE.equals(shareLink.getIsRevoked()));
+  }
+
+  public boolean isAccessible(Instant now) {
+    if (revoked) {
+      return false;
+    }
+    return expiresAt == null || !now.isAfter(expiresAt);
+  }
+
+}
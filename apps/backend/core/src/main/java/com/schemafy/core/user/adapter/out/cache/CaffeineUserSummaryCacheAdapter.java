@@ -0,0 +1,47 @@
+package com.schemafy.core.user.adapter.out.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.schemafy.core.user.application.port.out.UserSummaryCachePort;
+import com.schemafy.core.user.domain.UserSummary;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class CaffeineUserSummaryCacheAdapter implements UserSummaryCachePort {
+
+  private final Cache<String, UserSummary> cache;
+
+  public CaffeineUserSummaryCacheAdapter(
+      @Value("${user.summary-cache.ttl:60s}") Duration ttl,
+      @Value("${user.summary-cache.maximum-size:10000}") long maximumSize) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public Mono<Map<String, UserSummary>> getAll(Set<String> userIds) {
+    return Mono.fromSupplier(() -> cache.getAllPresent(userIds));
+  }
+
+  @Override
+  public Mono<Void> putAll(Collection<UserSummary> summaries) {
+    return Mono.fromRunnable(() -> summaries.forEach(summary -> cache.put(summary.id(), summary)));
+  }
+
+  @Override
+  public Mono<Void> evict(String userId) {
+    return Mono.fromRunnable(() -> cache.invalidate(userId));
+  }
+
+}
@@ -0,0 +1,6 @@
+package com.schemafy.core.user.application.port.in;
+
+import java.util.Set;
+
+public record GetUserSummariesQuery(Set<String> userIds) {
+}
@@ -0,0 +1,17 @@
+package com.schemafy.core.user.application.port.in;
+
+import java.util.Map;
+
+import com.schemafy.core.user.domain.UserSummary;
+
+import reactor.core.publisher.Mono;
+
+public interface GetUserSummariesUseCase {
+
+  /**
+   * Returns the summaries of the users that exist, keyed by user id. Missing
+   * ids are simply absent from the map.
+   */
+  Mono<Map<String, UserSummary>> getUserSummaries(GetUserSummariesQuery query);
+
+}
@@ -0,0 +1,19 @@
+package com.schemafy.core.user.application.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import com.schemafy.core.user.domain.UserSummary;
+
+import reactor.core.publisher.Mono;
+
+public interface UserSummaryCachePort {
+
+  Mono<Map<String, UserSummary>> getAll(Set<String> userIds);
+
+  Mono<Void> putAll(Collection<UserSummary> summaries);
+
+  Mono<Void> evict(String userId);
+
+}
@@ -0,0 +1,49 @@
+package com.schemafy.core.user.application.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.schemafy.core.user.application.port.in.GetUserSummariesQuery;
+import com.schemafy.core.user.application.port.in.GetUserSummariesUseCase;
+import com.schemafy.core.user.application.port.out.UserSummaryCachePort;
+import com.schemafy.core.user.domain.UserSummary;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+class GetUserSummariesService implements GetUserSummariesUseCase {
+
+  private final UserSummaryCachePort userSummaryCachePort;
+  private final UserSummaryBatchLoader userSummaryBatchLoader;
+
+  @Override
+  public Mono<Map<String, UserSummary>> getUserSummaries(GetUserSummariesQuery query) {
+    Set<String> userIds = query.userIds();
+    if (userIds == null || userIds.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+    return userSummaryCachePort.getAll(userIds)
+        .flatMap(cached -> {
+          if (cached.size() == userIds.size()) {
+            return Mono.just(cached);
+          }
+          Set<String> missing = userIds.stream()
+              .filter(userId -> !cached.containsKey(userId))
+              .collect(Collectors.toSet());
+          return userSummaryBatchLoader.load(missing)
+              .flatMap(loaded -> userSummaryCachePort.putAll(loaded.values())
+                  .then(Mono.fromSupplier(() -> {
+                    Map<String, UserSummary> summaries = new HashMap<>(cached);
+                    summaries.putAll(loaded);
+                    return summaries;
+                  })));
+        });
+  }
+
+}
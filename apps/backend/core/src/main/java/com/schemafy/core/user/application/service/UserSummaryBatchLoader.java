@@ -0,0 +1,106 @@
+package com.schemafy.core.user.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.schemafy.core.user.application.port.out.FindUsersByIdsPort;
+import com.schemafy.core.user.domain.UserSummary;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Coalesces user lookups that arrive within a short window into a single
+ * {@code IN (...)} query. Callers asking for an id that is already waiting in
+ * the current batch share its result instead of adding a second lookup.
+ */
+@Component
+class UserSummaryBatchLoader {
+
+  private final FindUsersByIdsPort findUsersByIdsPort;
+  private final Duration batchWindow;
+  private final int maxBatchSize;
+  private final Scheduler scheduler = Schedulers.parallel();
+
+  private final Object lock = new Object();
+  private Map<String, Sinks.One<UserSummary>> pending = new HashMap<>();
+
+  UserSummaryBatchLoader(
+      FindUsersByIdsPort findUsersByIdsPort,
+      @Value("${user.summary-loader.batch-window:2ms}") Duration batchWindow,
+      @Value("${user.summary-loader.max-batch-size:200}") int maxBatchSize) {
+    this.findUsersByIdsPort = findUsersByIdsPort;
+    this.batchWindow = batchWindow;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  Mono<Map<String, UserSummary>> load(Set<String> userIds) {
+    return Mono.defer(() -> {
+      List<Mono<UserSummary>> lookups = new ArrayList<>(userIds.size());
+      List<Map<String, Sinks.One<UserSummary>>> fullBatches = new ArrayList<>();
+      synchronized (lock) {
+        for (String userId : userIds) {
+          Sinks.One<UserSummary> sink = pending.get(userId);
+          if (sink == null) {
+            if (pending.isEmpty()) {
+              scheduler.schedule(this::flush, batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            sink = Sinks.one();
+            pending.put(userId, sink);
+            if (pending.size() >= maxBatchSize) {
+              fullBatches.add(drain());
+            }
+          }
+          lookups.add(sink.asMono());
+        }
+      }
+      fullBatches.forEach(this::dispatch);
+      return Flux.merge(lookups).collectMap(UserSummary::id);
+    });
+  }
+
+  private void flush() {
+    Map<String, Sinks.One<UserSummary>> batch;
+    synchronized (lock) {
+      batch = drain();
+    }
+    if (!batch.isEmpty()) {
+      dispatch(batch);
+    }
+  }
+
+  private Map<String, Sinks.One<UserSummary>> drain() {
+    Map<String, Sinks.One<UserSummary>> batch = pending;
+    pending = new HashMap<>();
+    return batch;
+  }
+
+  private void dispatch(Map<String, Sinks.One<UserSummary>> batch) {
+    findUsersByIdsPort.findUsersByIds(Set.copyOf(batch.keySet()))
+        .map(UserSummary::from)
+        .collectList()
+        .subscribe(
+            summaries -> {
+              for (UserSummary summary : summaries) {
+                Sinks.One<UserSummary> sink = batch.get(summary.id());
+                if (sink != null) {
+                  sink.tryEmitValue(summary);
+                }
+              }
+              batch.values().forEach(Sinks.One::tryEmitEmpty);
+            },
+            error -> batch.values().forEach(sink -> sink.tryEmitError(error)));
+  }
+
+}
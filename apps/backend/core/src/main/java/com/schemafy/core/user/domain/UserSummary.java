@@ -0,0 +1,9 @@
+package com.schemafy.core.user.domain;
+
+public record UserSummary(String id, String email, String name) {
+
+  public static UserSummary from(User user) {
+    return new UserSummary(user.id(), user.email(), user.name());
+  }
+
+}
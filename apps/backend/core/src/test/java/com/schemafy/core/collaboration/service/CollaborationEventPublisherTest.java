@@ -1,7 +1,11 @@
 package com.schemafy.core.collaboration.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.Set;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +18,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.core.collaboration.dto.CursorPosition;
+import com.schemafy.core.collaboration.dto.event.CollaborationOutboundFactory;
+import com.schemafy.core.collaboration.dto.event.CursorEvent;
 import com.schemafy.core.collaboration.dto.event.ErdMutatedEvent;
+import com.schemafy.core.collaboration.stream.CollaborationEventStream;
+import com.schemafy.core.collaboration.stream.CollaborationStreamRecord;
+import com.schemafy.core.collaboration.stream.InMemoryCollaborationEventStream;
 import com.schemafy.core.common.json.JsonCodec;
 import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
 import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
@@ -24,6 +34,7 @@ import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -37,6 +48,9 @@ class CollaborationEventPublisherTest {
   @Mock
   private ReactiveStringRedisTemplate redisTemplate;
 
+  @Mock
+  private ObjectProvider<CollaborationEventStream> eventStreamProvider;
+
   private ObjectMapper objectMapper;
   private CollaborationEventPublisher publisher;
 
@@ -44,7 +58,7 @@ class CollaborationEventPublisherTest {
   void setUp() {
     objectMapper = new ObjectMapper().findAndRegisterModules();
     publisher = new CollaborationEventPublisher(redisTemplate,
-        new JsonCodec(objectMapper));
+        new JsonCodec(objectMapper), eventStreamProvider);
   }
 
   @Test
@@ -59,7 +73,8 @@ class CollaborationEventPublisherTest {
             "client-op-1",
             42L,
             ErdOperationDerivationKind.ORIGINAL),
-        123L);
+        123L,
+        null);
     given(redisTemplate.convertAndSend(eq(CHANNEL), anyString()))
         .willReturn(Mono.just(1L));
 
@@ -107,4 +122,36 @@ class CollaborationEventPublisherTest {
         .verifyComplete();
   }
 
+  @Test
+  @DisplayName("stream이 설정되면 ERD_MUTATED는 프로젝트 stream에 쌓고 CURSOR는 채널로 발행한다")
+  void appends_durable_events_to_project_stream() {
+    InMemoryCollaborationEventStream eventStream = new InMemoryCollaborationEventStream(100,
+        Duration.ofMinutes(10), Clock.systemUTC());
+    given(eventStreamProvider.getIfAvailable()).willReturn(eventStream);
+    given(redisTemplate.convertAndSend(eq(CHANNEL), anyString()))
+        .willReturn(Mono.just(1L));
+    eventStream.join("project-1", "node-1", 0L).block();
+
+    StepVerifier.create(publisher.publish("project-1", ErdMutatedEvent.Outbound.of(
+        null,
+        "schema-1",
+        Set.of("table-1"),
+        new CommittedErdOperation(
+            "op-1",
+            "client-op-1",
+            42L,
+            ErdOperationDerivationKind.ORIGINAL)))
+        .then(publisher.publish("project-1", CollaborationOutboundFactory.cursor("session-1",
+            new CursorEvent.UserInfo("user-1", "tester"), new CursorPosition(1.0, 2.0)))))
+        .verifyComplete();
+
+    List<CollaborationStreamRecord> records = eventStream
+        .readNew(List.of("project-1"), "node-1", 10, Duration.ZERO)
+        .collectList()
+        .block();
+    assertThat(records).singleElement()
+        .satisfies(record -> assertThat(record.payload()).contains("\"type\":\"ERD_MUTATED\""));
+    verify(redisTemplate).convertAndSend(eq(CHANNEL), contains("\"type\":\"CURSOR\""));
+  }
+
 }
@@ -0,0 +1,160 @@
+package com.schemafy.core.common.r2dbc;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadRoutingConnectionFactory")
+class ReadRoutingConnectionFactoryTest {
+
+  private static final String CREATE_HEARTBEAT_TABLE = """
+      CREATE TABLE IF NOT EXISTS replica_heartbeat (
+          id TINYINT NOT NULL PRIMARY KEY,
+          beat_at BIGINT NOT NULL)
+      """;
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ConnectionPool primary;
+  private ConnectionPool replica;
+
+  @BeforeEach
+  void setUp() {
+    primary = ReadReplicaConfig.connectionPool("primary",
+        "r2dbc:h2:mem:///routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", pool());
+    replica = ReadReplicaConfig.connectionPool("replica",
+        "r2dbc:h2:mem:///routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", pool());
+    givenHeartbeat(primary, NOW);
+    givenHeartbeat(replica, NOW.minusSeconds(2));
+  }
+
+  @AfterEach
+  void tearDown() {
+    primary.dispose();
+    replica.dispose();
+  }
+
+  @Test
+  @DisplayName("replica로 표시된 읽기는 허용 lag 안이면 replica에서, 표시되지 않은 작업은 primary에서 읽는다")
+  void routesMarkedReadsToReplicaWithinLag() {
+    DatabaseClient client = DatabaseClient.create(routing(Clock.fixed(NOW, ZoneOffset.UTC)));
+
+    StepVerifier.create(heartbeat(client).contextWrite(ReadRouting.preferReplica()))
+        .expectNext(NOW.minusSeconds(2).toEpochMilli())
+        .verifyComplete();
+    StepVerifier.create(heartbeat(client))
+        .expectNext(NOW.toEpochMilli())
+        .verifyComplete();
+
+    assertThat(meterRegistry.counter(ReadRoutingConnectionFactory.ROUTED_READS, "route", "replica").count())
+        .isEqualTo(1.0d);
+  }
+
+  @Test
+  @DisplayName("replica의 heartbeat가 허용 lag보다 뒤처지면 replica로 표시된 읽기도 primary로 보낸다")
+  void fallsBackToPrimaryWhenReplicaLags() {
+    DatabaseClient client = DatabaseClient.create(routing(Clock.fixed(NOW.plusSeconds(10), ZoneOffset.UTC)));
+
+    StepVerifier.create(heartbeat(client).contextWrite(ReadRouting.preferReplica()))
+        .expectNext(NOW.toEpochMilli())
+        .verifyComplete();
+
+    assertThat(meterRegistry.counter(ReadRoutingConnectionFactory.ROUTED_READS, "route", "primary").count())
+        .isEqualTo(1.0d);
+  }
+
+  @Test
+  @DisplayName("heartbeat는 primary에만 기록한다")
+  void writesHeartbeatToPrimaryOnly() {
+    Instant later = NOW.plusSeconds(30);
+    ReplicaLagGuard guard = new ReplicaLagGuard(DatabaseClient.create(primary), DatabaseClient.create(replica),
+        MAX_LAG, Duration.ZERO, Clock.fixed(later, ZoneOffset.UTC));
+
+    StepVerifier.create(guard.writeHeartbeat())
+        .verifyComplete();
+
+    StepVerifier.create(heartbeat(DatabaseClient.create(primary)))
+        .expectNext(later.toEpochMilli())
+        .verifyComplete();
+    StepVerifier.create(heartbeat(DatabaseClient.create(replica)))
+        .expectNext(NOW.minusSeconds(2).toEpochMilli())
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("오래된 lag 판정은 바로 돌려주고 새 판정은 백그라운드에서 갱신한다")
+  void servesLastLagCheckWhileRefreshingInBackground() {
+    ReplicaLagGuard guard = new ReplicaLagGuard(DatabaseClient.create(primary), DatabaseClient.create(replica),
+        MAX_LAG, Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+    StepVerifier.create(guard.isReplicaUsable())
+        .expectNext(true)
+        .verifyComplete();
+    givenHeartbeat(replica, NOW.minusSeconds(60));
+
+    StepVerifier.create(guard.isReplicaUsable())
+        .expectNext(true)
+        .verifyComplete();
+    StepVerifier.create(Flux.interval(Duration.ofMillis(10))
+        .concatMap(tick -> guard.isReplicaUsable())
+        .filter(usable -> !usable)
+        .next())
+        .expectNext(false)
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  private ReadRoutingConnectionFactory routing(Clock clock) {
+    ReadRoutingConnectionFactory routing = new ReadRoutingConnectionFactory(
+        primary,
+        replica,
+        new ReplicaLagGuard(DatabaseClient.create(primary), DatabaseClient.create(replica),
+            MAX_LAG, Duration.ZERO, clock),
+        meterRegistry);
+    routing.afterPropertiesSet();
+    return routing;
+  }
+
+  private static R2dbcProperties.Pool pool() {
+    R2dbcProperties.Pool pool = new R2dbcProperties.Pool();
+    pool.setInitialSize(1);
+    pool.setMaxSize(2);
+    return pool;
+  }
+
+  private static Mono<Long> heartbeat(DatabaseClient client) {
+    return client.sql(ReplicaLagGuard.READ_HEARTBEAT_SQL)
+        .map(row -> row.get(0, Number.class))
+        .one()
+        .map(Number::longValue);
+  }
+
+  private static void givenHeartbeat(ConnectionPool pool, Instant beatAt) {
+    DatabaseClient client = DatabaseClient.create(pool);
+    client.sql(CREATE_HEARTBEAT_TABLE).then()
+        .then(client.sql("DELETE FROM replica_heartbeat").then())
+        .then(client.sql("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, :beatAt)")
+            .bind("beatAt", beatAt.toEpochMilli())
+            .then())
+        .block();
+  }
+
+}
@@ -7,6 +7,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 
+import com.schemafy.core.mail.application.port.out.DeliverMailsPort;
+import com.schemafy.core.mail.domain.MailDeliveryResult;
 import com.schemafy.core.user.application.port.out.AuthMailPolicyPort;
 import com.schemafy.core.user.application.port.out.AuthTokenPort;
 import com.schemafy.core.user.application.port.out.PasswordHashPort;
@@ -75,6 +77,13 @@ public class PasswordHashTestConfiguration {
     return (email, code, expiresAt) -> Mono.empty();
   }
 
+  @Bean
+  public DeliverMailsPort deliverMailsPort() {
+    return mails -> Mono.just(mails.stream()
+        .map(mail -> MailDeliveryResult.delivered(mail.getId()))
+        .toList());
+  }
+
   @Bean
   public AuthTokenPort authTokenPort() {
     return new AuthTokenPort() {
@@ -9,11 +9,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.schemafy.core.collaboration.dto.event.CollaborationOutbound;
 import com.schemafy.core.collaboration.dto.event.ErdMutatedEvent;
 import com.schemafy.core.collaboration.service.CollaborationEventPublisher;
+import com.schemafy.core.erd.operation.ErdMutationMetrics;
 import com.schemafy.core.erd.operation.ErdOperationContexts;
 import com.schemafy.core.erd.operation.domain.CommittedErdOperation;
 import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
@@ -22,6 +24,7 @@ import com.schemafy.core.erd.schema.domain.Schema;
 import com.schemafy.core.erd.table.application.port.out.GetTableByIdPort;
 import com.schemafy.core.erd.table.domain.Table;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -45,6 +48,9 @@ class ErdMutationBroadcasterTest {
   @InjectMocks
   private ErdMutationBroadcaster broadcaster;
 
+  @Spy
+  private ErdMutationMetrics erdMutationMetrics = new ErdMutationMetrics(new SimpleMeterRegistry());
+
   @Mock
   private GetTableByIdPort getTableByIdPort;
 
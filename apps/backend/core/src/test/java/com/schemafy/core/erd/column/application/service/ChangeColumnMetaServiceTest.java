@@ -4,8 +4,6 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -85,9 +83,6 @@ class ChangeColumnMetaServiceTest {
   @Mock
   GetRelationshipColumnsByRelationshipIdPort getRelationshipColumnsByRelationshipIdPort;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   DatatypePolicyResolver datatypePolicyResolver;
 
@@ -95,9 +90,7 @@ class ChangeColumnMetaServiceTest {
   ChangeColumnMetaService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     lenient().when(datatypePolicyResolver.resolve(COLUMN, ColumnFixture.DEFAULT_ID))
         .thenReturn(Mono.just(DbVendorFixture.defaultDatatypePolicy()));
   }
@@ -2,8 +2,6 @@ package com.schemafy.core.erd.column.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -60,16 +58,11 @@ class ChangeColumnNameServiceTest {
   @Mock
   GetProjectDbVendorUseCase getProjectDbVendorUseCase;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @InjectMocks
   ChangeColumnNameService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     lenient().when(getProjectDbVendorUseCase.getProjectDbVendor(any()))
         .thenReturn(Mono.just(DbVendorFixture.defaultDbVendor()));
   }
@@ -2,8 +2,6 @@ package com.schemafy.core.erd.column.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -73,16 +71,11 @@ class CreateColumnServiceTest {
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @InjectMocks
   CreateColumnService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     stubEmptySnapshots(structuralSnapshotService);
     lenient().when(getProjectDbVendorUseCase.getProjectDbVendor(any()))
         .thenReturn(Mono.just(DbVendorFixture.defaultDbVendor()));
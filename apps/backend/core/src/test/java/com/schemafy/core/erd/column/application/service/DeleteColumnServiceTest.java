@@ -2,8 +2,6 @@ package com.schemafy.core.erd.column.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -61,9 +59,6 @@ import static org.mockito.Mockito.times;
 @DisplayName("DeleteColumnService")
 class DeleteColumnServiceTest {
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   DeleteColumnPort deleteColumnPort;
 
@@ -113,8 +108,6 @@ class DeleteColumnServiceTest {
 
   @BeforeEach
   void setUp() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
     stubEmptySnapshots(structuralSnapshotService);
   }
 
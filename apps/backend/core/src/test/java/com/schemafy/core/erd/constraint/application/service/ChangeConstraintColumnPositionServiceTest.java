@@ -2,9 +2,6 @@ package com.schemafy.core.erd.constraint.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -50,18 +47,9 @@ class ChangeConstraintColumnPositionServiceTest {
   @Mock
   GetConstraintColumnsByConstraintIdPort getConstraintColumnsByConstraintIdPort;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @InjectMocks
   ChangeConstraintColumnPositionService sut;
 
-  @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
-  }
-
   @Nested
   @DisplayName("changeConstraintColumnPosition 메서드는")
   class ChangeConstraintColumnPosition {
@@ -4,8 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -85,9 +83,6 @@ class CreateConstraintServiceTest {
   @Mock
   PkCascadeHelper pkCascadeHelper;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
@@ -98,9 +93,7 @@ class CreateConstraintServiceTest {
   CreateConstraintService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     org.mockito.Mockito.lenient()
         .when(identifierCapabilityResolver.resolve(any(), anyString()))
         .thenReturn(Mono.just(IdentifierCapabilities.codePoints(64)));
@@ -2,8 +2,6 @@ package com.schemafy.core.erd.constraint.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -39,9 +37,6 @@ import static org.mockito.Mockito.never;
 @DisplayName("DeleteConstraintService")
 class DeleteConstraintServiceTest {
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   DeleteConstraintPort deleteConstraintPort;
 
@@ -65,8 +60,6 @@ class DeleteConstraintServiceTest {
 
   @BeforeEach
   void setUp() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
     stubEmptySnapshots(structuralSnapshotService);
   }
 
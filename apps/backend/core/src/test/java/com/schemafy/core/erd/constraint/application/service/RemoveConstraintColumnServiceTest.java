@@ -2,8 +2,6 @@ package com.schemafy.core.erd.constraint.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -66,16 +64,11 @@ class RemoveConstraintColumnServiceTest {
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @InjectMocks
   RemoveConstraintColumnService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     lenient().when(structuralSnapshotService.captureByConstraintColumnId(any()))
         .thenReturn(Mono.just(structuralSnapshot()));
     lenient().when(structuralSnapshotService.captureBySchemaId(any()))
@@ -0,0 +1,255 @@
+package com.schemafy.core.erd.ddl.application.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.column.application.port.out.CreateColumnsPort;
+import com.schemafy.core.erd.constraint.application.port.out.CreateConstraintColumnsPort;
+import com.schemafy.core.erd.constraint.application.port.out.CreateConstraintsPort;
+import com.schemafy.core.erd.ddl.application.port.in.ImportSchemaDdlCommand;
+import com.schemafy.core.erd.ddl.domain.exception.DdlErrorCode;
+import com.schemafy.core.erd.ddl.domain.mysql.MySqlDdlGenerator;
+import com.schemafy.core.erd.ddl.domain.mysql.MySqlDdlParser;
+import com.schemafy.core.erd.index.application.port.out.CreateIndexColumnsPort;
+import com.schemafy.core.erd.index.application.port.out.CreateIndexesPort;
+import com.schemafy.core.erd.relationship.application.port.out.CreateRelationshipColumnsPort;
+import com.schemafy.core.erd.relationship.application.port.out.CreateRelationshipsPort;
+import com.schemafy.core.erd.relationship.domain.Relationship;
+import com.schemafy.core.erd.schema.application.port.out.CreateSchemaPort;
+import com.schemafy.core.erd.schema.application.port.out.SchemaExistsPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.table.application.port.out.CreateTablesPort;
+import com.schemafy.core.erd.table.domain.Table;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorUseCase;
+import com.schemafy.core.erd.vendor.domain.DbVendor;
+import com.schemafy.core.erd.vendor.fixture.DbVendorFixture;
+import com.schemafy.core.ulid.application.port.out.UlidGeneratorPort;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportSchemaDdlService")
+class ImportSchemaDdlServiceTest {
+
+  private static final String PROJECT_ID = "06D6VZBWHSDJBBG0H7D156YZ98";
+
+  private static final String DDL = """
+      CREATE TABLE users (
+        id BIGINT NOT NULL AUTO_INCREMENT,
+        email VARCHAR(255) NOT NULL,
+        PRIMARY KEY (id),
+        UNIQUE KEY uk_users_email (email)
+      );
+      CREATE TABLE orders (
+        id BIGINT NOT NULL AUTO_INCREMENT,
+        user_id BIGINT NOT NULL,
+        PRIMARY KEY (id),
+        KEY idx_orders_user (user_id),
+        CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+      );
+      INSERT INTO users VALUES (1, 'a@b.c');
+      """;
+
+  @Mock
+  GetProjectDbVendorUseCase getProjectDbVendorUseCase;
+
+  @Mock
+  UlidGeneratorPort ulidGeneratorPort;
+
+  @Mock
+  SchemaExistsPort schemaExistsPort;
+
+  @Mock
+  CreateSchemaPort createSchemaPort;
+
+  @Mock
+  CreateTablesPort createTablesPort;
+
+  @Mock
+  CreateColumnsPort createColumnsPort;
+
+  @Mock
+  CreateConstraintsPort createConstraintsPort;
+
+  @Mock
+  CreateConstraintColumnsPort createConstraintColumnsPort;
+
+  @Mock
+  CreateIndexesPort createIndexesPort;
+
+  @Mock
+  CreateIndexColumnsPort createIndexColumnsPort;
+
+  @Mock
+  CreateRelationshipsPort createRelationshipsPort;
+
+  @Mock
+  CreateRelationshipColumnsPort createRelationshipColumnsPort;
+
+  ImportSchemaDdlService sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new ImportSchemaDdlService(
+        getProjectDbVendorUseCase,
+        ulidGeneratorPort,
+        schemaExistsPort,
+        List.of(new MySqlDdlParser()),
+        new GenerateSchemaDdlService(List.of(new MySqlDdlGenerator())),
+        createSchemaPort,
+        createTablesPort,
+        createColumnsPort,
+        createConstraintsPort,
+        createConstraintColumnsPort,
+        createIndexesPort,
+        createIndexColumnsPort,
+        createRelationshipsPort,
+        createRelationshipColumnsPort,
+        new JsonCodec(new ObjectMapper()));
+  }
+
+  @Test
+  @DisplayName("DDL을 파싱해 스키마와 하위 요소를 FK 순서대로 한 번에 저장한다")
+  void importsSchemaInBatches() {
+    givenVendor(DbVendorFixture.defaultDbVendor());
+    givenSequentialIds();
+    given(schemaExistsPort.existsActiveByProjectIdAndName(PROJECT_ID, "imported"))
+        .willReturn(Mono.just(false));
+    given(createSchemaPort.createSchema(any(Schema.class)))
+        .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    given(createTablesPort.createTables(anyList())).willReturn(Mono.empty());
+    given(createColumnsPort.createColumns(anyList())).willReturn(Mono.empty());
+    given(createConstraintsPort.createConstraints(anyList())).willReturn(Mono.empty());
+    given(createConstraintColumnsPort.createConstraintColumns(anyList())).willReturn(Mono.empty());
+    given(createIndexesPort.createIndexes(anyList())).willReturn(Mono.empty());
+    given(createIndexColumnsPort.createIndexColumns(anyList())).willReturn(Mono.empty());
+    given(createRelationshipsPort.createRelationships(anyList())).willReturn(Mono.empty());
+    given(createRelationshipColumnsPort.createRelationshipColumns(anyList()))
+        .willReturn(Mono.empty());
+
+    StepVerifier.create(sut.importSchemaDdl(command(DDL)))
+        .assertNext(result -> {
+          assertThat(result.result().projectId()).isEqualTo(PROJECT_ID);
+          assertThat(result.result().name()).isEqualTo("imported");
+          assertThat(result.result().charset()).isEqualTo("utf8mb4");
+          assertThat(result.result().tableCount()).isEqualTo(2);
+          assertThat(result.result().warnings())
+              .containsExactly("Data manipulation statements were skipped");
+          assertThat(result.affectedTableIds()).hasSize(2);
+        })
+        .verifyComplete();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Table>> tables = ArgumentCaptor.forClass(List.class);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Relationship>> relationships = ArgumentCaptor.forClass(List.class);
+    InOrder order = inOrder(createSchemaPort, createTablesPort, createColumnsPort,
+        createConstraintsPort, createIndexesPort, createRelationshipsPort,
+        createRelationshipColumnsPort);
+    order.verify(createSchemaPort).createSchema(any(Schema.class));
+    order.verify(createTablesPort).createTables(tables.capture());
+    order.verify(createColumnsPort).createColumns(anyList());
+    order.verify(createConstraintsPort).createConstraints(anyList());
+    order.verify(createIndexesPort).createIndexes(anyList());
+    order.verify(createRelationshipsPort).createRelationships(relationships.capture());
+    order.verify(createRelationshipColumnsPort).createRelationshipColumns(anyList());
+
+    assertThat(tables.getValue()).extracting(Table::name)
+        .containsExactly("users", "orders");
+    assertThat(tables.getValue()).extracting(Table::extra)
+        .containsExactly(
+            "{\"position\":{\"x\":0,\"y\":0}}",
+            "{\"position\":{\"x\":360,\"y\":0}}");
+    assertThat(relationships.getValue()).singleElement()
+        .satisfies(relationship -> {
+          assertThat(relationship.name()).isEqualTo("fk_orders_user");
+          assertThat(relationship.extra()).contains("\"onDelete\":\"CASCADE\"");
+        });
+  }
+
+  @Test
+  @DisplayName("같은 이름의 스키마가 있으면 저장하지 않고 예외를 던진다")
+  void rejectsDuplicateName() {
+    givenVendor(DbVendorFixture.defaultDbVendor());
+    given(schemaExistsPort.existsActiveByProjectIdAndName(PROJECT_ID, "imported"))
+        .willReturn(Mono.just(true));
+
+    StepVerifier.create(sut.importSchemaDdl(command(DDL)))
+        .expectErrorMatches(DomainException.hasErrorCode(SchemaErrorCode.NAME_DUPLICATE))
+        .verify();
+
+    then(createSchemaPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("파싱할 수 없는 DDL이면 아무것도 저장하지 않는다")
+  void rejectsInvalidDdl() {
+    givenVendor(DbVendorFixture.defaultDbVendor());
+    givenSequentialIds();
+    given(schemaExistsPort.existsActiveByProjectIdAndName(PROJECT_ID, "imported"))
+        .willReturn(Mono.just(false));
+
+    StepVerifier.create(sut.importSchemaDdl(command("CREATE VIEW v AS SELECT 1;")))
+        .expectErrorMatches(DomainException.hasErrorCode(DdlErrorCode.INVALID_VALUE))
+        .verify();
+
+    then(createSchemaPort).shouldHaveNoInteractions();
+    then(createTablesPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("파서가 없는 DB vendor 프로젝트면 UNSUPPORTED_VENDOR를 반환한다")
+  void rejectsUnsupportedVendor() {
+    DbVendor mysql = DbVendorFixture.defaultDbVendor();
+    givenVendor(new DbVendor(
+        mysql.id(),
+        "PostgreSQL 16",
+        "postgresql",
+        "16",
+        mysql.datatypeMappings(),
+        mysql.capabilities()));
+
+    StepVerifier.create(sut.importSchemaDdl(command(DDL)))
+        .expectErrorMatches(DomainException.hasErrorCode(DdlErrorCode.UNSUPPORTED_VENDOR))
+        .verify();
+
+    then(schemaExistsPort).shouldHaveNoInteractions();
+  }
+
+  private void givenVendor(DbVendor dbVendor) {
+    given(getProjectDbVendorUseCase.getProjectDbVendor(any()))
+        .willReturn(Mono.just(dbVendor));
+  }
+
+  private void givenSequentialIds() {
+    AtomicInteger sequence = new AtomicInteger();
+    given(ulidGeneratorPort.generate())
+        .willAnswer(invocation -> "%026d".formatted(sequence.incrementAndGet()));
+  }
+
+  private static ImportSchemaDdlCommand command(String ddl) {
+    return new ImportSchemaDdlCommand(PROJECT_ID, "imported", null, null, ddl);
+  }
+
+}
@@ -1,6 +1,9 @@
 package com.schemafy.core.erd.ddl.domain.mysql;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +16,7 @@ import com.schemafy.core.erd.ddl.application.port.in.GenerateSchemaDdlCommand;
 import com.schemafy.core.erd.ddl.application.service.GenerateSchemaDdlService;
 import com.schemafy.core.erd.ddl.domain.DdlExportVendor;
 import com.schemafy.core.erd.ddl.domain.exception.DdlErrorCode;
+import com.schemafy.core.erd.diff.domain.SchemaDiff;
 import com.schemafy.core.erd.export.domain.SchemaExportSnapshot;
 import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Column;
 import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Constraint;
@@ -761,6 +765,80 @@ class MySqlDdlGeneratorTest {
         .matches(DomainException.hasErrorCode(DdlErrorCode.COLUMN_NOT_FOUND));
   }
 
+  @Test
+  @DisplayName("두 snapshot의 차이를 FK 해제, 테이블 변경, FK 재생성 순서의 migration DDL로 생성한다")
+  void generatesMigrationDdl() {
+    TableSnapshot baseUsers = userTable();
+    TableSnapshot targetUsers = new TableSnapshot(
+        table("users", "members"),
+        List.of(
+            column("u_id", "users", "id", "BIGINT", null, 0, true),
+            column("u_email", "users", "email", "VARCHAR",
+                new ColumnTypeArguments(320, null, null), 1, false),
+            column("u_nickname", "users", "nickname", "VARCHAR",
+                new ColumnTypeArguments(50, null, null), 2, false)),
+        baseUsers.constraints(),
+        List.of(),
+        List.of());
+    TableSnapshot baseOrders = orderTable();
+    TableSnapshot targetOrders = new TableSnapshot(
+        baseOrders.table(),
+        baseOrders.columns().stream()
+            .filter(column -> !column.id().equals("o_total"))
+            .toList(),
+        baseOrders.constraints().stream()
+            .filter(constraint -> !constraint.constraint().id().equals("ck-orders-total"))
+            .toList(),
+        baseOrders.relationships(),
+        List.of());
+    TableSnapshot payments = new TableSnapshot(
+        table("payments", "payments"),
+        List.of(column("p_id", "payments", "id", "BIGINT", null, 0, false)),
+        List.of(pk("pk-payments", "payments", "p_id")),
+        List.of(),
+        List.of());
+
+    String ddl = sut.generateMigration(
+        schema(baseUsers, baseOrders),
+        schema(targetUsers, targetOrders, payments),
+        sameIdDiff(
+            "users", "u_id", "u_email", "pk-users", "nn-users-email", "uk-users-email",
+            "orders", "o_id", "o_user_id", "o_status", "pk-orders", "nn-orders-user", "df-orders-status", "r1"),
+        DbVendorFixture.defaultDatatypePolicy());
+
+    assertThat(ddl).contains(
+        "-- Schemafy MySQL Migration",
+        "ALTER TABLE `orders` DROP INDEX `idx_orders_user`;",
+        "ALTER TABLE `orders` DROP CHECK `ck_order_total`;",
+        "RENAME TABLE `users` TO `members`;",
+        "CREATE TABLE `payments`",
+        "ALTER TABLE `members` CHANGE COLUMN `email` `email` VARCHAR(320) NOT NULL;",
+        "ALTER TABLE `members` ADD COLUMN `nickname` VARCHAR(50) AFTER `email`;",
+        "ALTER TABLE `orders` DROP COLUMN `total`;",
+        "ALTER TABLE `orders` ADD CONSTRAINT `fk_orders_user` FOREIGN KEY (`user_id`) REFERENCES `members` (`id`)");
+    assertThat(ddl.indexOf("DROP FOREIGN KEY `fk_orders_user`"))
+        .isLessThan(ddl.indexOf("RENAME TABLE"));
+    assertThat(ddl.indexOf("RENAME TABLE"))
+        .isLessThan(ddl.indexOf("ALTER TABLE `members` CHANGE COLUMN"));
+    assertThat(ddl.indexOf("ALTER TABLE `orders` DROP COLUMN"))
+        .isLessThan(ddl.indexOf("ADD CONSTRAINT `fk_orders_user`"));
+  }
+
+  @Test
+  @DisplayName("변경이 없으면 migration DDL에 statement를 출력하지 않는다")
+  void generatesEmptyMigrationForSameSnapshot() {
+    SchemaExportSnapshot snapshot = schema(userTable());
+
+    String ddl = sut.generateMigration(
+        snapshot,
+        snapshot,
+        sameIdDiff("users", "u_id", "u_email", "pk-users", "nn-users-email", "uk-users-email"),
+        DbVendorFixture.defaultDatatypePolicy());
+
+    assertThat(ddl).contains("-- No structural changes");
+    assertThat(ddl).doesNotContain("ALTER TABLE");
+  }
+
   private SchemaExportSnapshot schema(TableSnapshot... tables) {
     return new SchemaExportSnapshot(
         new SchemaSnapshot("schema-1", "mysql", "app`schema",
@@ -772,6 +850,12 @@ class MySqlDdlGeneratorTest {
     return sut.generate(snapshot, DbVendorFixture.defaultDatatypePolicy());
   }
 
+  private SchemaDiff sameIdDiff(String... ids) {
+    return new SchemaDiff(
+        List.of(),
+        Arrays.stream(ids).collect(Collectors.toMap(Function.identity(), Function.identity())));
+  }
+
   private void assertIdentifierLengthError(
       SchemaExportSnapshot snapshot,
       String subject) {
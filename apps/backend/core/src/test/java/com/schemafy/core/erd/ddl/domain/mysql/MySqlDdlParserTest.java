@@ -0,0 +1,264 @@
+package com.schemafy.core.erd.ddl.domain.mysql;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.column.domain.ColumnTypeArguments;
+import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
+import com.schemafy.core.erd.ddl.domain.DdlImportContext;
+import com.schemafy.core.erd.ddl.domain.ParsedDdl;
+import com.schemafy.core.erd.ddl.domain.exception.DdlErrorCode;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.Column;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.ConstraintColumn;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.ConstraintSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.IndexSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.RelationshipSnapshot;
+import com.schemafy.core.erd.export.domain.SchemaExportSnapshot.TableSnapshot;
+import com.schemafy.core.erd.index.domain.type.IndexType;
+import com.schemafy.core.erd.index.domain.type.SortDirection;
+import com.schemafy.core.erd.relationship.domain.type.Cardinality;
+import com.schemafy.core.erd.relationship.domain.type.RelationshipKind;
+import com.schemafy.core.erd.vendor.fixture.DbVendorFixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("MySqlDdlParser")
+class MySqlDdlParserTest {
+
+  private static final String SCHEMA_ID = "06D6W1GAHD51T5NJPK29Q6BCR8";
+
+  private final MySqlDdlParser sut = new MySqlDdlParser();
+
+  @Test
+  @DisplayName("mysqldump 형태의 스크립트에서 table/column/constraint/index/relationship을 읽어온다")
+  void parsesDumpScript() {
+    String ddl = """
+        -- MySQL dump 10.13
+        /*!40101 SET NAMES utf8mb4 */;
+        SET FOREIGN_KEY_CHECKS = 0;
+        CREATE SCHEMA IF NOT EXISTS `app` DEFAULT CHARACTER SET utf8mb4;
+        USE `app`;
+
+        CREATE TABLE `users` (
+          `id` BIGINT NOT NULL AUTO_INCREMENT,
+          `email` VARCHAR(255) NOT NULL COMMENT 'login email',
+          `grade` INT(11) DEFAULT 0,
+          PRIMARY KEY (`id`),
+          UNIQUE KEY `uk_users_email` (`email`)
+        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+        CREATE TABLE `app`.`orders` (
+          `id` BIGINT NOT NULL AUTO_INCREMENT,
+          `user_id` BIGINT NOT NULL,
+          `total` DECIMAL(10, 2) NOT NULL,
+          `status` ENUM('READY', 'it''s') DEFAULT 'READY',
+          PRIMARY KEY (`id`),
+          KEY `idx_orders_user` (`user_id` DESC),
+          CONSTRAINT `ck_order_total` CHECK (total >= 0),
+          CONSTRAINT `fk_orders_user` FOREIGN KEY (`user_id`)
+            REFERENCES `users` (`id`) ON DELETE CASCADE ON UPDATE NO ACTION
+        ) ENGINE=InnoDB;
+
+        INSERT INTO `users` VALUES (1, 'a@b.c', 0);
+        """;
+
+    ParsedDdl parsed = sut.parse(ddl, context());
+
+    assertThat(parsed.tables()).extracting(table -> table.table().name())
+        .containsExactly("users", "orders");
+    assertThat(parsed.warnings()).containsExactly(
+        "Type arguments without a matching datatype parameter, such as integer display widths, were dropped",
+        "Data manipulation statements were skipped");
+
+    TableSnapshot users = parsed.tables().get(0);
+    assertThat(users.table().schemaId()).isEqualTo(SCHEMA_ID);
+    assertThat(users.table().charset()).isEqualTo("utf8mb4");
+    assertThat(users.table().collation()).isEqualTo("utf8mb4_unicode_ci");
+    assertThat(users.columns()).extracting(Column::name, Column::dataType, Column::seqNo)
+        .containsExactly(
+            tuple("id", "BIGINT", 0),
+            tuple("email", "VARCHAR", 1),
+            tuple("grade", "INT", 2));
+    assertThat(column(users, "id").autoIncrement()).isTrue();
+    assertThat(column(users, "email").typeArguments())
+        .isEqualTo(new ColumnTypeArguments(255, null, null));
+    assertThat(column(users, "email").comment()).isEqualTo("login email");
+    assertThat(column(users, "grade").typeArguments()).isNull();
+    assertThat(users.constraints()).extracting(
+        snapshot -> snapshot.constraint().name(),
+        snapshot -> snapshot.constraint().kind())
+        .containsExactly(
+            tuple("pk_users", ConstraintKind.PRIMARY_KEY),
+            tuple("nn_users", ConstraintKind.NOT_NULL),
+            tuple("df_users", ConstraintKind.DEFAULT),
+            tuple("uk_users_email", ConstraintKind.UNIQUE));
+    assertThat(constraint(users, ConstraintKind.DEFAULT).constraint().defaultExpr())
+        .isEqualTo("0");
+
+    TableSnapshot orders = parsed.tables().get(1);
+    assertThat(orders.table().charset()).isEqualTo("utf8mb4");
+    assertThat(orders.table().collation()).isEqualTo("utf8mb4_general_ci");
+    assertThat(column(orders, "total").typeArguments())
+        .isEqualTo(new ColumnTypeArguments(null, 10, 2));
+    assertThat(column(orders, "status").typeArguments().values())
+        .containsExactly("READY", "it's");
+    assertThat(constraint(orders, ConstraintKind.CHECK).constraint().checkExpr())
+        .isEqualTo("total >= 0");
+    assertThat(constraint(orders, ConstraintKind.DEFAULT).constraint().defaultExpr())
+        .isEqualTo("'READY'");
+    assertThat(orders.constraints()).extracting(snapshot -> snapshot.constraint().name())
+        .doesNotHaveDuplicates()
+        .contains("pk_orders", "nn_orders", "nn_orders_1", "df_orders", "ck_order_total");
+
+    IndexSnapshot index = orders.indexes().getFirst();
+    assertThat(index.index().name()).isEqualTo("idx_orders_user");
+    assertThat(index.index().type()).isEqualTo(IndexType.BTREE);
+    assertThat(index.columns().getFirst().columnId()).isEqualTo(column(orders, "user_id").id());
+    assertThat(index.columns().getFirst().sortDirection()).isEqualTo(SortDirection.DESC);
+
+    RelationshipSnapshot relationship = orders.relationships().getFirst();
+    assertThat(relationship.relationship().name()).isEqualTo("fk_orders_user");
+    assertThat(relationship.relationship().pkTableId()).isEqualTo(users.table().id());
+    assertThat(relationship.relationship().fkTableId()).isEqualTo(orders.table().id());
+    assertThat(relationship.relationship().kind()).isEqualTo(RelationshipKind.NON_IDENTIFYING);
+    assertThat(relationship.relationship().cardinality()).isEqualTo(Cardinality.ONE_TO_MANY);
+    assertThat(relationship.relationship().onDelete()).isEqualTo("CASCADE");
+    assertThat(relationship.relationship().onUpdate()).isEqualTo("NO ACTION");
+    assertThat(relationship.columns().getFirst().pkColumnId()).isEqualTo(column(users, "id").id());
+    assertThat(relationship.columns().getFirst().fkColumnId())
+        .isEqualTo(column(orders, "user_id").id());
+  }
+
+  @Test
+  @DisplayName("ALTER TABLE과 CREATE INDEX로 추가된 key와 foreign key를 반영한다")
+  void appliesAlterTableAndCreateIndex() {
+    String ddl = """
+        CREATE TABLE users (id BIGINT PRIMARY KEY);
+        CREATE TABLE profiles (user_id BIGINT NOT NULL, bio TEXT);
+        ALTER TABLE profiles ADD PRIMARY KEY (user_id);
+        ALTER TABLE profiles ADD CONSTRAINT FOREIGN KEY (user_id) REFERENCES users (id);
+        CREATE FULLTEXT INDEX ft_profiles_bio ON profiles (bio);
+        """;
+
+    ParsedDdl parsed = sut.parse(ddl, context());
+
+    TableSnapshot profiles = parsed.tables().get(1);
+    assertThat(constraint(profiles, ConstraintKind.PRIMARY_KEY).columns())
+        .extracting(ConstraintColumn::columnId)
+        .containsExactly(column(profiles, "user_id").id());
+    assertThat(profiles.constraints()).extracting(snapshot -> snapshot.constraint().kind())
+        .doesNotContain(ConstraintKind.NOT_NULL);
+    assertThat(profiles.indexes()).extracting(
+        snapshot -> snapshot.index().name(),
+        snapshot -> snapshot.index().type())
+        .containsExactly(tuple("ft_profiles_bio", IndexType.FULLTEXT));
+
+    RelationshipSnapshot relationship = profiles.relationships().getFirst();
+    assertThat(relationship.relationship().name()).isEqualTo("rel_profiles_to_users");
+    assertThat(relationship.relationship().kind()).isEqualTo(RelationshipKind.IDENTIFYING);
+    assertThat(relationship.relationship().cardinality()).isEqualTo(Cardinality.ONE_TO_ONE);
+  }
+
+  @Test
+  @DisplayName("중복된 unique key와 index는 건너뛰고 경고를 남긴다")
+  void skipsRedundantKeys() {
+    String ddl = """
+        CREATE TABLE users (
+          id BIGINT NOT NULL,
+          email VARCHAR(100) UNIQUE,
+          PRIMARY KEY (id),
+          UNIQUE KEY (id),
+          UNIQUE KEY uk_email (email),
+          KEY (email),
+          INDEX (email) USING HASH
+        );
+        """;
+
+    ParsedDdl parsed = sut.parse(ddl, context());
+
+    TableSnapshot users = parsed.tables().getFirst();
+    assertThat(users.constraints()).filteredOn(
+        snapshot -> snapshot.constraint().kind() == ConstraintKind.UNIQUE)
+        .extracting(snapshot -> snapshot.constraint().name())
+        .containsExactly("uq_users");
+    assertThat(users.indexes()).extracting(snapshot -> snapshot.index().name())
+        .containsExactly("idx_users");
+    assertThat(parsed.warnings()).contains(
+        "USING HASH was imported as BTREE, as InnoDB does",
+        "Unique keys that repeat the primary key or another unique key were skipped",
+        "Indexes that repeat another index on the same columns were skipped");
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 구문은 INVALID_VALUE로 거부한다")
+  void rejectsUnsupportedStatement() {
+    assertThatThrownBy(() -> sut.parse("CREATE VIEW v AS SELECT 1;", context()))
+        .isInstanceOf(DomainException.class)
+        .matches(DomainException.hasErrorCode(DdlErrorCode.INVALID_VALUE));
+    assertThatThrownBy(() -> sut.parse(
+        "CREATE TABLE t (id INT, total INT AS (id * 2));", context()))
+        .isInstanceOf(DomainException.class)
+        .matches(DomainException.hasErrorCode(DdlErrorCode.INVALID_VALUE));
+    assertThatThrownBy(() -> sut.parse("SET NAMES utf8mb4;", context()))
+        .isInstanceOf(DomainException.class)
+        .matches(DomainException.hasErrorCode(DdlErrorCode.INVALID_VALUE));
+  }
+
+  @Test
+  @DisplayName("policy에 없는 data type은 거부한다")
+  void rejectsUnknownDataType() {
+    assertThatThrownBy(() -> sut.parse("CREATE TABLE t (id UUID);", context()))
+        .isInstanceOf(DomainException.class)
+        .matches(DomainException.hasErrorCode(DdlErrorCode.INVALID_VALUE))
+        .hasMessageContaining("UUID");
+  }
+
+  @Test
+  @DisplayName("참조 테이블이나 컬럼이 없으면 NOT_FOUND로 거부한다")
+  void rejectsMissingReferences() {
+    assertThatThrownBy(() -> sut.parse("""
+        CREATE TABLE orders (
+          user_id BIGINT,
+          FOREIGN KEY (user_id) REFERENCES users (id)
+        );
+        """, context()))
+        .isInstanceOf(DomainException.class)
+        .matches(DomainException.hasErrorCode(DdlErrorCode.TABLE_NOT_FOUND));
+    assertThatThrownBy(() -> sut.parse("""
+        CREATE TABLE users (id BIGINT, PRIMARY KEY (uid));
+        """, context()))
+        .isInstanceOf(DomainException.class)
+        .matches(DomainException.hasErrorCode(DdlErrorCode.COLUMN_NOT_FOUND));
+  }
+
+  private static DdlImportContext context() {
+    AtomicInteger sequence = new AtomicInteger();
+    return new DdlImportContext(
+        SCHEMA_ID,
+        "utf8mb4",
+        "utf8mb4_general_ci",
+        DbVendorFixture.defaultDatatypePolicy(),
+        DbVendorFixture.defaultCapabilities().identifiers(),
+        () -> "ID%022d".formatted(sequence.incrementAndGet()));
+  }
+
+  private static Column column(TableSnapshot table, String name) {
+    return table.columns().stream()
+        .filter(column -> column.name().equals(name))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static ConstraintSnapshot constraint(TableSnapshot table, ConstraintKind kind) {
+    return table.constraints().stream()
+        .filter(snapshot -> snapshot.constraint().kind() == kind)
+        .findFirst()
+        .orElseThrow();
+  }
+
+}
@@ -0,0 +1,205 @@
+package com.schemafy.core.erd.diff.application.service;
+
+import java.util.List;
+
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.column.application.port.out.GetColumnsBySchemaIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintColumnsBySchemaIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintsBySchemaIdPort;
+import com.schemafy.core.erd.ddl.domain.DdlExportVendor;
+import com.schemafy.core.erd.ddl.domain.DdlGenerator;
+import com.schemafy.core.erd.diff.application.port.in.GetSchemaDiffQuery;
+import com.schemafy.core.erd.diff.application.port.in.SchemaDiffResult;
+import com.schemafy.core.erd.diff.application.port.out.SchemaDiffCachePort;
+import com.schemafy.core.erd.diff.domain.SchemaChangeType;
+import com.schemafy.core.erd.diff.domain.SchemaElementType;
+import com.schemafy.core.erd.index.application.port.out.GetIndexColumnsBySchemaIdPort;
+import com.schemafy.core.erd.index.application.port.out.GetIndexesBySchemaIdPort;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionQuery;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionUseCase;
+import com.schemafy.core.erd.operation.application.port.in.SchemaAtRevisionResult;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipColumnsBySchemaIdPort;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipsBySchemaIdPort;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemaByIdPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.schema.fixture.SchemaFixture;
+import com.schemafy.core.erd.table.application.port.out.GetTablesBySchemaIdPort;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorUseCase;
+import com.schemafy.core.erd.vendor.domain.DbVendor;
+import com.schemafy.core.erd.vendor.fixture.DbVendorFixture;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetSchemaDiffService")
+class GetSchemaDiffServiceTest {
+
+  private static final Schema SCHEMA = SchemaFixture.defaultSchema();
+  private static final DbVendor VENDOR = DbVendorFixture.defaultDbVendor();
+
+  @Mock
+  GetSchemaByIdPort getSchemaByIdPort;
+
+  @Mock
+  FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+
+  @Mock
+  GetProjectDbVendorUseCase getProjectDbVendorUseCase;
+
+  @Mock
+  GetTablesBySchemaIdPort getTablesBySchemaIdPort;
+
+  @Mock
+  GetColumnsBySchemaIdPort getColumnsBySchemaIdPort;
+
+  @Mock
+  GetIndexesBySchemaIdPort getIndexesBySchemaIdPort;
+
+  @Mock
+  GetIndexColumnsBySchemaIdPort getIndexColumnsBySchemaIdPort;
+
+  @Mock
+  GetConstraintsBySchemaIdPort getConstraintsBySchemaIdPort;
+
+  @Mock
+  GetConstraintColumnsBySchemaIdPort getConstraintColumnsBySchemaIdPort;
+
+  @Mock
+  GetRelationshipsBySchemaIdPort getRelationshipsBySchemaIdPort;
+
+  @Mock
+  GetRelationshipColumnsBySchemaIdPort getRelationshipColumnsBySchemaIdPort;
+
+  @Mock
+  DdlGenerator ddlGenerator;
+
+  @Mock
+  SchemaDiffCachePort schemaDiffCachePort;
+
+  @Mock
+  GetSchemaAtRevisionUseCase getSchemaAtRevisionUseCase;
+
+  @Mock
+  ReactiveTransactionManager transactionManager;
+
+  @Mock
+  ReactiveTransaction transaction;
+
+  GetSchemaDiffService sut;
+
+  @BeforeEach
+  void setUp() {
+    given(transactionManager.getReactiveTransaction(any()))
+        .willReturn(Mono.just(transaction));
+    lenient().when(transactionManager.commit(transaction))
+        .thenReturn(Mono.empty());
+    lenient().when(transactionManager.rollback(transaction))
+        .thenReturn(Mono.empty());
+    given(getSchemaByIdPort.findSchemaById(SCHEMA.id()))
+        .willReturn(Mono.just(SCHEMA));
+
+    sut = new GetSchemaDiffService(
+        getSchemaByIdPort,
+        findSchemaCollaborationStatePort,
+        getProjectDbVendorUseCase,
+        getTablesBySchemaIdPort,
+        getColumnsBySchemaIdPort,
+        getIndexesBySchemaIdPort,
+        getIndexColumnsBySchemaIdPort,
+        getConstraintsBySchemaIdPort,
+        getConstraintColumnsBySchemaIdPort,
+        getRelationshipsBySchemaIdPort,
+        getRelationshipColumnsBySchemaIdPort,
+        List.of(ddlGenerator),
+        new StructuralExportSnapshotMapper(new JsonCodec(new ObjectMapper())),
+        schemaDiffCachePort,
+        getSchemaAtRevisionUseCase,
+        transactionManager);
+  }
+
+  @Test
+  @DisplayName("revision을 지정한 쪽은 그 revision으로 되돌린 구조를 현재 구조와 비교한다")
+  void comparesPastRevisionWithCurrentStructure() {
+    StructuralSnapshot past = new StructuralSnapshot(SCHEMA.id(),
+        List.of(new StructuralSnapshot.TableSnapshot("06D6W1GAHD51T5NJPK29Q6BCT1", SCHEMA.id(), "orders",
+            "utf8mb4", "utf8mb4_general_ci", null)),
+        List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    given(findSchemaCollaborationStatePort.findBySchemaId(SCHEMA.id()))
+        .willReturn(Mono.just(new SchemaCollaborationState(SCHEMA.id(), SCHEMA.projectId(), 5L, null, null)));
+    given(schemaDiffCachePort.get(SCHEMA.id(), 2L, SCHEMA.id(), 5L)).willReturn(Mono.empty());
+    given(schemaDiffCachePort.put(any())).willReturn(Mono.empty());
+    given(getSchemaAtRevisionUseCase.getSchemaAtRevision(new GetSchemaAtRevisionQuery(SCHEMA.id(), 2L)))
+        .willReturn(Mono.just(new SchemaAtRevisionResult(SCHEMA.id(), 2L, 5L, 3, past)));
+    givenEmptyLiveStructure();
+    given(getProjectDbVendorUseCase.getProjectDbVendor(any())).willReturn(Mono.just(VENDOR));
+    given(ddlGenerator.exportVendor()).willReturn(DdlExportVendor.of(VENDOR.name()));
+    given(ddlGenerator.generateMigration(any(), any(), any(), any())).willReturn("DROP TABLE `orders`;");
+
+    StepVerifier.create(sut.getSchemaDiff(new GetSchemaDiffQuery(SCHEMA.id(), 2L, SCHEMA.id(), null)))
+        .assertNext(result -> {
+          assertThat(result.baseRevision()).isEqualTo(2L);
+          assertThat(result.currentRevision()).isEqualTo(5L);
+          assertThat(result.changes()).singleElement().satisfies(change -> {
+            assertThat(change.elementType()).isEqualTo(SchemaElementType.TABLE);
+            assertThat(change.changeType()).isEqualTo(SchemaChangeType.REMOVED);
+            assertThat(change.name()).isEqualTo("orders");
+          });
+        })
+        .verifyComplete();
+
+    then(transactionManager).should().getReactiveTransaction(argThat(TransactionDefinition::isReadOnly));
+  }
+
+  @Test
+  @DisplayName("두 revision이 모두 주어지면 현재 revision을 읽지 않고 캐시된 결과를 반환한다")
+  void returnsCachedDiffBetweenRevisions() {
+    SchemaDiffResult cached = new SchemaDiffResult(SCHEMA.id(), 2L, SCHEMA.id(), 4L, List.of(), "");
+    given(schemaDiffCachePort.get(SCHEMA.id(), 2L, SCHEMA.id(), 4L)).willReturn(Mono.just(cached));
+
+    StepVerifier.create(sut.getSchemaDiff(new GetSchemaDiffQuery(SCHEMA.id(), 2L, SCHEMA.id(), 4L)))
+        .expectNext(cached)
+        .verifyComplete();
+
+    then(findSchemaCollaborationStatePort).shouldHaveNoInteractions();
+    then(getSchemaAtRevisionUseCase).shouldHaveNoInteractions();
+  }
+
+  private void givenEmptyLiveStructure() {
+    given(getTablesBySchemaIdPort.findTablesBySchemaId(anyString())).willReturn(Flux.empty());
+    given(getColumnsBySchemaIdPort.findColumnsBySchemaId(anyString())).willReturn(Mono.just(List.of()));
+    given(getIndexesBySchemaIdPort.findIndexesBySchemaId(anyString())).willReturn(Mono.just(List.of()));
+    given(getIndexColumnsBySchemaIdPort.findIndexColumnsBySchemaId(anyString())).willReturn(Mono.just(List.of()));
+    given(getConstraintsBySchemaIdPort.findConstraintsBySchemaId(anyString())).willReturn(Mono.just(List.of()));
+    given(getConstraintColumnsBySchemaIdPort.findConstraintColumnsBySchemaId(anyString()))
+        .willReturn(Mono.just(List.of()));
+    given(getRelationshipsBySchemaIdPort.findRelationshipsBySchemaId(anyString())).willReturn(Mono.just(List.of()));
+    given(getRelationshipColumnsBySchemaIdPort.findRelationshipColumnsBySchemaId(anyString()))
+        .willReturn(Mono.just(List.of()));
+  }
+
+}
@@ -0,0 +1,141 @@
+package com.schemafy.core.erd.diff.domain;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ConstraintColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ConstraintSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.TableSnapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("StructuralSnapshotDiffer")
+class StructuralSnapshotDifferTest {
+
+  @Test
+  @DisplayName("다른 스키마의 요소는 테이블과 이름으로 짝지어 추가, 삭제, 변경을 구분한다")
+  void matchesElementsAcrossSchemasByName() {
+    StructuralSnapshot base = snapshot("schema-a",
+        List.of(table("a-users", "schema-a", "users"), table("a-orders", "schema-a", "orders")),
+        List.of(
+            column("a-users-id", "a-users", "id", "BIGINT", 0),
+            column("a-users-email", "a-users", "email", "VARCHAR", 1),
+            column("a-orders-id", "a-orders", "id", "BIGINT", 0)));
+    StructuralSnapshot target = snapshot("schema-b",
+        List.of(table("b-users", "schema-b", "USERS"), table("b-payments", "schema-b", "payments")),
+        List.of(
+            column("b-users-id", "b-users", "id", "BIGINT", 0),
+            column("b-users-email", "b-users", "email", "TEXT", 1),
+            column("b-users-nickname", "b-users", "nickname", "VARCHAR", 2),
+            column("b-payments-id", "b-payments", "id", "BIGINT", 0)));
+
+    SchemaDiff diff = StructuralSnapshotDiffer.diff(base, target);
+
+    assertThat(diff.changes())
+        .extracting(SchemaChange::elementType, SchemaChange::changeType, SchemaChange::name,
+            SchemaChange::changedFields)
+        .containsExactly(
+            tuple(SchemaElementType.TABLE, SchemaChangeType.REMOVED, "orders", List.of()),
+            tuple(SchemaElementType.TABLE, SchemaChangeType.ADDED, "payments", List.of()),
+            tuple(SchemaElementType.TABLE, SchemaChangeType.MODIFIED, "USERS", List.of("name")),
+            tuple(SchemaElementType.COLUMN, SchemaChangeType.REMOVED, "id", List.of()),
+            tuple(SchemaElementType.COLUMN, SchemaChangeType.ADDED, "id", List.of()),
+            tuple(SchemaElementType.COLUMN, SchemaChangeType.MODIFIED, "email", List.of("dataType")),
+            tuple(SchemaElementType.COLUMN, SchemaChangeType.ADDED, "nickname", List.of()));
+    assertThat(diff.baseIdsByTargetId()).containsExactlyInAnyOrderEntriesOf(Map.of(
+        "b-users", "a-users",
+        "b-users-id", "a-users-id",
+        "b-users-email", "a-users-email"));
+  }
+
+  @Test
+  @DisplayName("같은 ID의 요소는 이름이 바뀌어도 같은 요소의 변경으로 본다")
+  void matchesRenamedElementsById() {
+    StructuralSnapshot base = snapshot("schema-a",
+        List.of(table("users", "schema-a", "users")),
+        List.of(column("users-id", "users", "id", "BIGINT", 0)),
+        List.of(new ConstraintSnapshot("pk-users", "users", "pk_users", ConstraintKind.PRIMARY_KEY, null, null)),
+        List.of(new ConstraintColumnSnapshot("pk-users-id", "pk-users", "users-id", 0)));
+    StructuralSnapshot target = snapshot("schema-a",
+        List.of(table("users", "schema-a", "members")),
+        List.of(column("users-id", "users", "member_id", "BIGINT", 0)),
+        List.of(new ConstraintSnapshot("pk-users", "users", "pk_members", ConstraintKind.PRIMARY_KEY, null, null)),
+        List.of(new ConstraintColumnSnapshot("pk-users-id", "pk-users", "users-id", 0)));
+
+    SchemaDiff diff = StructuralSnapshotDiffer.diff(base, target);
+
+    assertThat(diff.changes())
+        .extracting(SchemaChange::elementType, SchemaChange::changeType, SchemaChange::baseId,
+            SchemaChange::changedFields)
+        .containsExactly(
+            tuple(SchemaElementType.TABLE, SchemaChangeType.MODIFIED, "users", List.of("name")),
+            tuple(SchemaElementType.COLUMN, SchemaChangeType.MODIFIED, "users-id", List.of("name")),
+            tuple(SchemaElementType.CONSTRAINT, SchemaChangeType.MODIFIED, "pk-users", List.of("name")));
+  }
+
+  @Test
+  @DisplayName("컬럼 순서가 바뀌면 순서를 맞추는 데 필요한 최소 컬럼만 이동으로 표시한다")
+  void marksOnlyMovedColumns() {
+    StructuralSnapshot base = snapshot("schema-a",
+        List.of(table("t", "schema-a", "t")),
+        List.of(
+            column("c-a", "t", "a", "INT", 0),
+            column("c-b", "t", "b", "INT", 1),
+            column("c-c", "t", "c", "INT", 2),
+            column("c-d", "t", "d", "INT", 3)));
+    StructuralSnapshot target = snapshot("schema-a",
+        List.of(table("t", "schema-a", "t")),
+        List.of(
+            column("c-d", "t", "d", "INT", 0),
+            column("c-a", "t", "a", "INT", 1),
+            column("c-b", "t", "b", "INT", 2),
+            column("c-c", "t", "c", "INT", 3)));
+
+    SchemaDiff diff = StructuralSnapshotDiffer.diff(base, target);
+
+    assertThat(diff.changes())
+        .singleElement()
+        .satisfies(change -> {
+          assertThat(change.targetId()).isEqualTo("c-d");
+          assertThat(change.hasChanged(StructuralSnapshotDiffer.POSITION)).isTrue();
+        });
+  }
+
+  @Test
+  @DisplayName("같은 스냅샷끼리 비교하면 변경이 없다")
+  void returnsEmptyDiffForSameSnapshot() {
+    StructuralSnapshot snapshot = snapshot("schema-a",
+        List.of(table("t", "schema-a", "t")),
+        List.of(column("c-a", "t", "a", "INT", 0)));
+
+    assertThat(StructuralSnapshotDiffer.diff(snapshot, snapshot).isEmpty()).isTrue();
+  }
+
+  private static StructuralSnapshot snapshot(String schemaId, List<TableSnapshot> tables,
+      List<ColumnSnapshot> columns) {
+    return snapshot(schemaId, tables, columns, List.of(), List.of());
+  }
+
+  private static StructuralSnapshot snapshot(String schemaId, List<TableSnapshot> tables,
+      List<ColumnSnapshot> columns, List<ConstraintSnapshot> constraints,
+      List<ConstraintColumnSnapshot> constraintColumns) {
+    return new StructuralSnapshot(schemaId, tables, columns, constraints, constraintColumns,
+        List.of(), List.of(), List.of(), List.of());
+  }
+
+  private static TableSnapshot table(String id, String schemaId, String name) {
+    return new TableSnapshot(id, schemaId, name, null, null, null);
+  }
+
+  private static ColumnSnapshot column(String id, String tableId, String name, String dataType, int seqNo) {
+    return new ColumnSnapshot(id, tableId, name, dataType, null, seqNo, false, null, null, null);
+  }
+
+}
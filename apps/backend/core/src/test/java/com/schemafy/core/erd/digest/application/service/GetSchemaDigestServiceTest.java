@@ -0,0 +1,170 @@
+package com.schemafy.core.erd.digest.application.service;
+
+import java.util.List;
+
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.schemafy.core.erd.column.application.port.out.GetColumnsBySchemaIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintColumnsBySchemaIdPort;
+import com.schemafy.core.erd.constraint.application.port.out.GetConstraintsBySchemaIdPort;
+import com.schemafy.core.erd.digest.application.port.in.GetSchemaDigestQuery;
+import com.schemafy.core.erd.digest.application.port.in.SchemaDigest;
+import com.schemafy.core.erd.digest.application.port.out.SchemaDigestCachePort;
+import com.schemafy.core.erd.index.application.port.out.GetIndexColumnsBySchemaIdPort;
+import com.schemafy.core.erd.index.application.port.out.GetIndexesBySchemaIdPort;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipColumnsBySchemaIdPort;
+import com.schemafy.core.erd.relationship.application.port.out.GetRelationshipsBySchemaIdPort;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemaByIdPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.schema.fixture.SchemaFixture;
+import com.schemafy.core.erd.table.application.port.out.GetTablesBySchemaIdPort;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetSchemaDigestService")
+class GetSchemaDigestServiceTest {
+
+  private static final Schema SCHEMA = SchemaFixture.defaultSchema();
+
+  @Mock
+  GetSchemaByIdPort getSchemaByIdPort;
+
+  @Mock
+  FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+
+  @Mock
+  GetTablesBySchemaIdPort getTablesBySchemaIdPort;
+
+  @Mock
+  GetColumnsBySchemaIdPort getColumnsBySchemaIdPort;
+
+  @Mock
+  GetIndexesBySchemaIdPort getIndexesBySchemaIdPort;
+
+  @Mock
+  GetIndexColumnsBySchemaIdPort getIndexColumnsBySchemaIdPort;
+
+  @Mock
+  GetConstraintsBySchemaIdPort getConstraintsBySchemaIdPort;
+
+  @Mock
+  GetConstraintColumnsBySchemaIdPort getConstraintColumnsBySchemaIdPort;
+
+  @Mock
+  GetRelationshipsBySchemaIdPort getRelationshipsBySchemaIdPort;
+
+  @Mock
+  GetRelationshipColumnsBySchemaIdPort getRelationshipColumnsBySchemaIdPort;
+
+  @Mock
+  SchemaDigestCachePort schemaDigestCachePort;
+
+  @Mock
+  ReactiveTransactionManager transactionManager;
+
+  @Mock
+  ReactiveTransaction transaction;
+
+  GetSchemaDigestService sut;
+
+  @BeforeEach
+  void setUp() {
+    given(transactionManager.getReactiveTransaction(any()))
+        .willReturn(Mono.just(transaction));
+    lenient().when(transactionManager.commit(transaction))
+        .thenReturn(Mono.empty());
+    lenient().when(transactionManager.rollback(transaction))
+        .thenReturn(Mono.empty());
+    given(getSchemaByIdPort.findSchemaById(SCHEMA.id()))
+        .willReturn(Mono.just(SCHEMA));
+    given(findSchemaCollaborationStatePort.findBySchemaId(SCHEMA.id()))
+        .willReturn(Mono.just(new SchemaCollaborationState(SCHEMA.id(), SCHEMA.projectId(), 7L, null, null)));
+
+    sut = new GetSchemaDigestService(
+        getSchemaByIdPort,
+        findSchemaCollaborationStatePort,
+        getTablesBySchemaIdPort,
+        getColumnsBySchemaIdPort,
+        getIndexesBySchemaIdPort,
+        getIndexColumnsBySchemaIdPort,
+        getConstraintsBySchemaIdPort,
+        getConstraintColumnsBySchemaIdPort,
+        getRelationshipsBySchemaIdPort,
+        getRelationshipColumnsBySchemaIdPort,
+        schemaDigestCachePort,
+        transactionManager);
+  }
+
+  @Test
+  @DisplayName("revision과 구조를 한 read-only transaction에서 읽어 그 revision으로 캐시한다")
+  void buildsDigestInOneReadOnlyTransaction() {
+    given(schemaDigestCachePort.get(SCHEMA.id(), 7L)).willReturn(Mono.empty());
+    given(schemaDigestCachePort.put(any())).willReturn(Mono.empty());
+    givenEmptyStructure();
+
+    StepVerifier.create(sut.getSchemaDigest(new GetSchemaDigestQuery(SCHEMA.id())))
+        .assertNext(digest -> {
+          assertThat(digest.schemaId()).isEqualTo(SCHEMA.id());
+          assertThat(digest.currentRevision()).isEqualTo(7L);
+        })
+        .verifyComplete();
+
+    var order = inOrder(transactionManager, findSchemaCollaborationStatePort, getTablesBySchemaIdPort);
+    order.verify(transactionManager).getReactiveTransaction(argThat(definition -> definition.isReadOnly()
+        && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+    order.verify(findSchemaCollaborationStatePort).findBySchemaId(SCHEMA.id());
+    order.verify(getTablesBySchemaIdPort).findTablesBySchemaId(SCHEMA.id());
+    order.verify(transactionManager).commit(transaction);
+    then(schemaDigestCachePort).should().put(argThat(digest -> digest.currentRevision() == 7L));
+  }
+
+  @Test
+  @DisplayName("캐시된 digest가 있으면 구조를 다시 읽지 않는다")
+  void returnsCachedDigest() {
+    SchemaDigest cached = new SchemaDigest(SCHEMA.id(), 7L, "cached");
+    given(schemaDigestCachePort.get(SCHEMA.id(), 7L)).willReturn(Mono.just(cached));
+
+    StepVerifier.create(sut.getSchemaDigest(new GetSchemaDigestQuery(SCHEMA.id())))
+        .expectNext(cached)
+        .verifyComplete();
+
+    then(getTablesBySchemaIdPort).shouldHaveNoInteractions();
+  }
+
+  private void givenEmptyStructure() {
+    given(getTablesBySchemaIdPort.findTablesBySchemaId(SCHEMA.id())).willReturn(Flux.empty());
+    given(getColumnsBySchemaIdPort.findColumnsBySchemaId(SCHEMA.id())).willReturn(Mono.just(List.of()));
+    given(getIndexesBySchemaIdPort.findIndexesBySchemaId(SCHEMA.id())).willReturn(Mono.just(List.of()));
+    given(getIndexColumnsBySchemaIdPort.findIndexColumnsBySchemaId(SCHEMA.id())).willReturn(Mono.just(List.of()));
+    given(getConstraintsBySchemaIdPort.findConstraintsBySchemaId(SCHEMA.id())).willReturn(Mono.just(List.of()));
+    given(getConstraintColumnsBySchemaIdPort.findConstraintColumnsBySchemaId(SCHEMA.id()))
+        .willReturn(Mono.just(List.of()));
+    given(getRelationshipsBySchemaIdPort.findRelationshipsBySchemaId(SCHEMA.id()))
+        .willReturn(Mono.just(List.of()));
+    given(getRelationshipColumnsBySchemaIdPort.findRelationshipColumnsBySchemaId(SCHEMA.id()))
+        .willReturn(Mono.just(List.of()));
+  }
+
+}
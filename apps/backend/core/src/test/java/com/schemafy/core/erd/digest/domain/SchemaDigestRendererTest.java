@@ -0,0 +1,106 @@
+package com.schemafy.core.erd.digest.domain;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.core.erd.column.domain.Column;
+import com.schemafy.core.erd.column.domain.ColumnTypeArguments;
+import com.schemafy.core.erd.constraint.domain.Constraint;
+import com.schemafy.core.erd.constraint.domain.ConstraintColumn;
+import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
+import com.schemafy.core.erd.index.domain.Index;
+import com.schemafy.core.erd.index.domain.IndexColumn;
+import com.schemafy.core.erd.index.domain.type.IndexType;
+import com.schemafy.core.erd.index.domain.type.SortDirection;
+import com.schemafy.core.erd.relationship.domain.Relationship;
+import com.schemafy.core.erd.relationship.domain.RelationshipColumn;
+import com.schemafy.core.erd.relationship.domain.type.Cardinality;
+import com.schemafy.core.erd.relationship.domain.type.RelationshipKind;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.table.domain.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SchemaDigestRenderer")
+class SchemaDigestRendererTest {
+
+  private static final String CHARSET = "utf8mb4";
+  private static final String COLLATION = "utf8mb4_general_ci";
+
+  @Test
+  @DisplayName("테이블, 컬럼, 키, 인덱스, 외래 키를 한 줄씩 압축해 렌더링한다")
+  void rendersWholeSchemaCompactly() {
+    SchemaStructure structure = new SchemaStructure(
+        new Schema("schema-1", "project-1", "commerce", CHARSET, COLLATION),
+        List.of(
+            new Table("table-orders", "schema-1", "orders", CHARSET, COLLATION),
+            new Table("table-users", "schema-1", "users", CHARSET, COLLATION)),
+        List.of(
+            column("col-order-user", "table-orders", "user_id", "BIGINT", null, 2),
+            column("col-order-id", "table-orders", "id", "BIGINT", null, 1),
+            column("col-order-status", "table-orders", "status", "ENUM",
+                new ColumnTypeArguments(null, null, null, List.of("NEW", "PAID")), 3),
+            column("col-user-id", "table-users", "id", "BIGINT", null, 1),
+            column("col-user-email", "table-users", "email", "VARCHAR",
+                new ColumnTypeArguments(255, null, null), 2)),
+        List.of(new Index("idx-1", "table-orders", "idx_orders_status", IndexType.BTREE)),
+        List.of(
+            new IndexColumn("ic-2", "idx-1", "col-order-id", 2, SortDirection.DESC),
+            new IndexColumn("ic-1", "idx-1", "col-order-status", 1, SortDirection.ASC)),
+        List.of(
+            new Constraint("pk-orders", "table-orders", "pk_orders", ConstraintKind.PRIMARY_KEY, null, null),
+            new Constraint("nn-email", "table-users", "nn_email", ConstraintKind.NOT_NULL, null, null),
+            new Constraint("df-status", "table-orders", "df_status", ConstraintKind.DEFAULT, null, "'NEW'")),
+        List.of(
+            new ConstraintColumn("cc-1", "pk-orders", "col-order-id", 1),
+            new ConstraintColumn("cc-2", "nn-email", "col-user-email", 1),
+            new ConstraintColumn("cc-3", "df-status", "col-order-status", 1)),
+        List.of(new Relationship("rel-1", "table-users", "table-orders", "fk_orders_user",
+            RelationshipKind.NON_IDENTIFYING, Cardinality.ONE_TO_MANY, null)),
+        List.of(new RelationshipColumn("rc-1", "rel-1", "col-user-id", "col-order-user", 1)));
+
+    String digest = SchemaDigestRenderer.render(structure, 7L);
+
+    assertThat(digest).isEqualTo("""
+        schema commerce id=schema-1 charset=utf8mb4 collation=utf8mb4_general_ci revision=7
+        %s
+
+        table orders id=table-orders
+          id BIGINT
+          user_id BIGINT
+          status ENUM('NEW','PAID') DF 'NEW'
+          PK pk_orders (id)
+          IX idx_orders_status BTREE (status, id DESC)
+          FK fk_orders_user (user_id) -> users (id) NON_IDENTIFYING ONE_TO_MANY
+
+        table users id=table-users
+          id BIGINT
+          email VARCHAR(255) NN
+        """.formatted(SchemaDigestRenderer.LEGEND));
+  }
+
+  @Test
+  @DisplayName("스키마와 다른 문자셋과 멀티라인 주석만 한 줄로 표기한다")
+  void rendersOnlyOverriddenCharsetAndSingleLineComments() {
+    SchemaStructure structure = new SchemaStructure(
+        new Schema("schema-1", "project-1", "commerce", CHARSET, COLLATION),
+        List.of(new Table("table-1", "schema-1", "notes", "latin1", COLLATION)),
+        List.of(new Column("col-1", "table-1", "body", "TEXT", null, 1, false,
+            CHARSET, null, "first line\nsecond line")),
+        List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+    String digest = SchemaDigestRenderer.render(structure, 0L);
+
+    assertThat(digest)
+        .contains("table notes id=table-1 charset=latin1\n")
+        .contains("  body TEXT charset=utf8mb4 -- first line second line\n");
+  }
+
+  private static Column column(String id, String tableId, String name, String dataType,
+      ColumnTypeArguments typeArguments, int seqNo) {
+    return new Column(id, tableId, name, dataType, typeArguments, seqNo, false, null, null, null);
+  }
+
+}
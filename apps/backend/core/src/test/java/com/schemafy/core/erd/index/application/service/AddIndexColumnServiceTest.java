@@ -2,8 +2,6 @@ package com.schemafy.core.erd.index.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -65,9 +63,6 @@ class AddIndexColumnServiceTest {
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   IndexCapabilityResolver indexCapabilityResolver;
 
@@ -75,9 +70,7 @@ class AddIndexColumnServiceTest {
   AddIndexColumnService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     lenient().when(structuralSnapshotService.captureByIndexId(any()))
         .thenReturn(Mono.just(structuralSnapshot()));
     lenient().when(structuralSnapshotService.captureBySchemaId(any()))
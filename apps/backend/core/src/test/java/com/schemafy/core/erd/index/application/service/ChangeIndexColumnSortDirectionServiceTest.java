@@ -2,8 +2,6 @@ package com.schemafy.core.erd.index.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -56,9 +54,6 @@ class ChangeIndexColumnSortDirectionServiceTest {
   @Mock
   GetIndexesByTableIdPort getIndexesByTableIdPort;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   IndexCapabilityResolver indexCapabilityResolver;
 
@@ -66,9 +61,7 @@ class ChangeIndexColumnSortDirectionServiceTest {
   ChangeIndexColumnSortDirectionService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    lenient().when(transactionalOperator.transactional(any(Mono.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     lenient().when(indexCapabilityResolver.resolve(any(), anyString()))
         .thenReturn(Mono.just(DbVendorFixture.defaultCapabilities().indexes()));
   }
@@ -3,8 +3,6 @@ package com.schemafy.core.erd.index.application.service;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -79,9 +77,6 @@ class CreateIndexServiceTest {
   @Mock
   GetIndexColumnsByIndexIdPort getIndexColumnsByIndexIdPort;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
@@ -95,9 +90,7 @@ class CreateIndexServiceTest {
   CreateIndexService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     org.mockito.Mockito.lenient()
         .when(indexCapabilityResolver.resolve(any(), anyString()))
         .thenReturn(Mono.just(DbVendorFixture.defaultCapabilities().indexes()));
@@ -1,7 +1,5 @@
 package com.schemafy.core.erd.index.application.service;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,7 +19,6 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import static com.schemafy.core.erd.operation.application.service.StructuralSnapshotServiceTestSupport.stubEmptySnapshots;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -38,9 +35,6 @@ class DeleteIndexServiceTest {
   @Mock
   GetIndexByIdPort getIndexByIdPort;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
@@ -48,9 +42,7 @@ class DeleteIndexServiceTest {
   DeleteIndexService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     stubEmptySnapshots(structuralSnapshotService);
   }
 
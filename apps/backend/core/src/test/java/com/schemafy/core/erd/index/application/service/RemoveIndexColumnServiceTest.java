@@ -2,8 +2,6 @@ package com.schemafy.core.erd.index.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -61,16 +59,11 @@ class RemoveIndexColumnServiceTest {
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @InjectMocks
   RemoveIndexColumnService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     lenient().when(structuralSnapshotService.captureByIndexColumnId(any()))
         .thenReturn(Mono.just(structuralSnapshot()));
     lenient().when(structuralSnapshotService.captureBySchemaId(any()))
@@ -0,0 +1,108 @@
+package com.schemafy.core.erd.operation.application.inverse;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
+import com.schemafy.core.erd.operation.application.inverse.ChangeTableNameInverse.ConstraintRename;
+import com.schemafy.core.erd.operation.application.inverse.ChangeTableNameInverse.RelationshipRename;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ConstraintSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.RelationshipSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.TableSnapshot;
+import com.schemafy.core.erd.relationship.domain.type.Cardinality;
+import com.schemafy.core.erd.relationship.domain.type.RelationshipKind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StructuralSnapshotRewinder")
+class StructuralSnapshotRewinderTest {
+
+  @Test
+  @DisplayName("table 이름 inverse는 함께 바뀐 constraint와 relationship 이름까지 되돌린다")
+  void rewind_restoresTableRenameCascade() {
+    StructuralSnapshot snapshot = snapshot(
+        List.of(column("col-1", "table-2", "id", 0)),
+        List.of(new ConstraintSnapshot("pk-1", "table-2", "pk_members", ConstraintKind.PRIMARY_KEY, null, null)),
+        List.of(new RelationshipSnapshot("rel-1", "table-1", "table-2", "fk_members_orders",
+            RelationshipKind.NON_IDENTIFYING, Cardinality.ONE_TO_MANY, null)));
+
+    StructuralSnapshot rewound = StructuralSnapshotRewinder.rewind(snapshot, new ChangeTableNameInverse(
+        "table-2",
+        "users",
+        List.of(new ConstraintRename("pk-1", "pk_users")),
+        List.of(new RelationshipRename("rel-1", "fk_users_orders", "table-2", "table-1"))));
+
+    assertThat(rewound.tables()).extracting(TableSnapshot::name).containsExactly("orders", "users");
+    assertThat(rewound.constraints()).extracting(ConstraintSnapshot::name).containsExactly("pk_users");
+    assertThat(rewound.relationships()).extracting(RelationshipSnapshot::name)
+        .containsExactly("fk_users_orders");
+    assertThat(snapshot.tables()).extracting(TableSnapshot::name).containsExactly("orders", "members");
+  }
+
+  @Test
+  @DisplayName("column position과 meta inverse는 같은 table의 sibling과 지정된 값만 되돌린다")
+  void rewind_restoresColumnPositionAndMeta() {
+    StructuralSnapshot snapshot = snapshot(
+        List.of(
+            column("col-1", "table-1", "id", 1),
+            column("col-2", "table-1", "name", 0),
+            column("col-3", "table-2", "id", 0)),
+        List.of(),
+        List.of());
+
+    StructuralSnapshot reordered = StructuralSnapshotRewinder.rewind(snapshot, new ChangeColumnPositionInverse(
+        "col-2",
+        List.of(new ReorderPosition("col-1", 0), new ReorderPosition("col-2", 1))));
+    StructuralSnapshot rewound = StructuralSnapshotRewinder.rewind(reordered, new ChangeColumnMetaInverse(
+        "col-2", null, "latin1", null, "", List.of()));
+
+    assertThat(rewound.columns()).extracting(ColumnSnapshot::seqNo).containsExactly(0, 1, 0);
+    ColumnSnapshot name = rewound.columns().get(1);
+    assertThat(name.charset()).isEqualTo("latin1");
+    assertThat(name.collation()).isEqualTo("utf8mb4_general_ci");
+    assertThat(name.comment()).isNull();
+    assertThat(name.autoIncrement()).isFalse();
+  }
+
+  @Test
+  @DisplayName("structural inverse는 before snapshot을 돌려주고, 없는 entity를 가리키면 거부한다")
+  void rewind_usesBeforeSnapshotAndRejectsMissingEntity() {
+    StructuralSnapshot before = snapshot(List.of(), List.of(), List.of());
+    StructuralSnapshot after = snapshot(List.of(column("col-1", "table-1", "id", 0)), List.of(), List.of());
+
+    assertThat(StructuralSnapshotRewinder.rewind(after,
+        new CreateColumnInverse("schema-1", "col-1", before, after, List.of("table-1"))))
+        .isEqualTo(before);
+    assertThatThrownBy(() -> StructuralSnapshotRewinder.rewind(before,
+        new ChangeColumnNameInverse("col-1", "old_id")))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static StructuralSnapshot snapshot(
+      List<ColumnSnapshot> columns,
+      List<ConstraintSnapshot> constraints,
+      List<RelationshipSnapshot> relationships) {
+    return new StructuralSnapshot(
+        "schema-1",
+        List.of(
+            new TableSnapshot("table-1", "schema-1", "orders", null, null, null),
+            new TableSnapshot("table-2", "schema-1", "members", null, null, null)),
+        columns,
+        constraints,
+        List.of(),
+        List.of(),
+        List.of(),
+        relationships,
+        List.of());
+  }
+
+  private static ColumnSnapshot column(String id, String tableId, String name, int seqNo) {
+    return new ColumnSnapshot(id, tableId, name, "VARCHAR", null, seqNo, false, "utf8mb4",
+        "utf8mb4_general_ci", "memo");
+  }
+
+}
@@ -0,0 +1,238 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.schemafy.core.common.MutationResult;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.column.application.port.in.CreateColumnResult;
+import com.schemafy.core.erd.operation.SchemaWriterNode;
+import com.schemafy.core.erd.operation.application.inverse.ApplyMutationBatchInverse;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.TableSnapshot;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchCommand;
+import com.schemafy.core.erd.operation.application.port.in.ApplyErdMutationBatchResult;
+import com.schemafy.core.erd.operation.application.port.in.ErdMutationBatchItem;
+import com.schemafy.core.erd.operation.application.port.out.ForwardErdMutationBatchPort;
+import com.schemafy.core.erd.operation.application.port.out.SchemaWriterLeasePort;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
+import com.schemafy.core.erd.table.application.port.in.CreateTableResult;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplyErdMutationBatchService")
+class ApplyErdMutationBatchServiceTest {
+
+  private static final String SCHEMA_ID = "schema1";
+  private static final String TABLE_ID = "table1";
+  private static final String LOCAL_NODE_ID = "node-a";
+
+  @Mock
+  ErdBatchMutationDispatcher erdBatchMutationDispatcher;
+
+  @Mock
+  StructuralSnapshotService structuralSnapshotService;
+
+  @Mock
+  TransactionalOperator transactionalOperator;
+
+  @Mock
+  SchemaWriterLeasePort schemaWriterLeasePort;
+
+  @Mock
+  ObjectProvider<ForwardErdMutationBatchPort> forwardErdMutationBatchPortProvider;
+
+  @Mock
+  ForwardErdMutationBatchPort forwardErdMutationBatchPort;
+
+  ApplyErdMutationBatchService sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new ApplyErdMutationBatchService(
+        erdBatchMutationDispatcher,
+        structuralSnapshotService,
+        new SchemaMutationExecutor(transactionalOperator, 16),
+        new SchemaWriterRouter(
+            schemaWriterLeasePort,
+            forwardErdMutationBatchPortProvider,
+            new SchemaWriterNode(LOCAL_NODE_ID),
+            Duration.ofSeconds(30)));
+  }
+
+  @Test
+  @DisplayName("앞선 mutation이 만든 ID를 $ref로 치환하며 순서대로 적용하고 영향받은 테이블을 합친다")
+  void appliesMutationsInOrderWithReferences() {
+    given(structuralSnapshotService.captureBySchemaId(SCHEMA_ID))
+        .willReturn(Mono.just(snapshot()), Mono.just(snapshot(TABLE_ID)));
+    given(erdBatchMutationDispatcher.dispatch(eq(ErdOperationType.CREATE_TABLE), any()))
+        .willAnswer(invocation -> Mono.just(MutationResult.of(
+            new CreateTableResult(TABLE_ID, "orders", null, null, null), TABLE_ID)));
+    given(erdBatchMutationDispatcher.dispatch(eq(ErdOperationType.CREATE_COLUMN), any()))
+        .willAnswer(invocation -> Mono.just(MutationResult.of(
+            new CreateColumnResult("column1", "id", "BIGINT", null, 0, false, null, null, null),
+            TABLE_ID)));
+
+    ApplyErdMutationBatchCommand command = new ApplyErdMutationBatchCommand(SCHEMA_ID, List.of(
+        new ErdMutationBatchItem("orders", ErdOperationType.CREATE_TABLE,
+            payload().put("schemaId", SCHEMA_ID).put("name", "orders")),
+        new ErdMutationBatchItem(null, ErdOperationType.CREATE_COLUMN,
+            payload().put("tableId", "$orders").put("name", "id"))));
+
+    StepVerifier.create(sut.applyMutationBatch(command))
+        .assertNext(result -> {
+          assertThat(result.noOp()).isFalse();
+          assertThat(result.affectedTableIds()).containsExactly(TABLE_ID);
+          assertThat(result.result().mutations())
+              .extracting("ref", "type", "createdId")
+              .containsExactly(
+                  tuple("orders", ErdOperationType.CREATE_TABLE, TABLE_ID),
+                  tuple(null, ErdOperationType.CREATE_COLUMN, "column1"));
+          assertThat(result.inversePayload()).isInstanceOfSatisfying(
+              ApplyMutationBatchInverse.class,
+              inverse -> {
+                assertThat(inverse.schemaId()).isEqualTo(SCHEMA_ID);
+                assertThat(inverse.beforeSnapshot().tables()).isEmpty();
+                assertThat(inverse.afterSnapshot().tables()).hasSize(1);
+              });
+        })
+        .verifyComplete();
+
+    ArgumentCaptor<JsonNode> columnPayload = ArgumentCaptor.forClass(JsonNode.class);
+    then(erdBatchMutationDispatcher).should()
+        .dispatch(eq(ErdOperationType.CREATE_COLUMN), columnPayload.capture());
+    assertThat(columnPayload.getValue().get("tableId").asText()).isEqualTo(TABLE_ID);
+    assertThat(command.mutations().get(1).payload().get("tableId").asText()).isEqualTo("$orders");
+    then(structuralSnapshotService).should(times(2)).captureBySchemaId(SCHEMA_ID);
+  }
+
+  @Test
+  @DisplayName("모든 mutation이 no-op이면 batch도 no-op으로 반환한다")
+  void returnsNoopWhenNothingChanged() {
+    given(structuralSnapshotService.captureBySchemaId(SCHEMA_ID))
+        .willReturn(Mono.just(snapshot(TABLE_ID)));
+    given(erdBatchMutationDispatcher.dispatch(eq(ErdOperationType.CHANGE_TABLE_NAME), any()))
+        .willAnswer(invocation -> Mono.just(MutationResult.<Void>noop(null, TABLE_ID)));
+
+    StepVerifier.create(sut.applyMutationBatch(new ApplyErdMutationBatchCommand(SCHEMA_ID, List.of(
+        new ErdMutationBatchItem(null, ErdOperationType.CHANGE_TABLE_NAME,
+            payload().put("tableId", TABLE_ID).put("newName", "orders"))))))
+        .assertNext(result -> {
+          assertThat(result.noOp()).isTrue();
+          assertThat(result.inversePayload()).isNull();
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("schema 단위 operation은 batch에 포함할 수 없다")
+  void rejectsSchemaLevelOperation() {
+    StepVerifier.create(sut.applyMutationBatch(new ApplyErdMutationBatchCommand(SCHEMA_ID, List.of(
+        new ErdMutationBatchItem(null, ErdOperationType.DELETE_SCHEMA,
+            payload().put("schemaId", SCHEMA_ID))))))
+        .expectErrorMatches(DomainException.hasErrorCode(OperationErrorCode.INVALID_VALUE))
+        .verify();
+
+    then(erdBatchMutationDispatcher).shouldHaveNoInteractions();
+    then(structuralSnapshotService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("앞에서 정의되지 않은 $ref를 참조하면 INVALID_VALUE로 실패한다")
+  void rejectsUnknownReference() {
+    given(structuralSnapshotService.captureBySchemaId(SCHEMA_ID))
+        .willReturn(Mono.just(snapshot()));
+
+    StepVerifier.create(sut.applyMutationBatch(new ApplyErdMutationBatchCommand(SCHEMA_ID, List.of(
+        new ErdMutationBatchItem(null, ErdOperationType.CREATE_COLUMN,
+            payload().put("tableId", "$missing").put("name", "id"))))))
+        .expectErrorMatches(DomainException.hasErrorCode(OperationErrorCode.INVALID_VALUE))
+        .verify();
+
+    then(erdBatchMutationDispatcher).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("다른 스키마의 테이블을 변경하면 batch 전체를 실패시킨다")
+  void rejectsMutationOutsideSchema() {
+    given(structuralSnapshotService.captureBySchemaId(SCHEMA_ID))
+        .willReturn(Mono.just(snapshot(TABLE_ID)));
+    given(erdBatchMutationDispatcher.dispatch(eq(ErdOperationType.CHANGE_TABLE_NAME), any()))
+        .willAnswer(invocation -> Mono.just(MutationResult.<Void>of(null, Set.of("foreign-table"))));
+
+    StepVerifier.create(sut.applyMutationBatch(new ApplyErdMutationBatchCommand(SCHEMA_ID, List.of(
+        new ErdMutationBatchItem(null, ErdOperationType.CHANGE_TABLE_NAME,
+            payload().put("tableId", "foreign-table").put("newName", "orders"))))))
+        .expectErrorMatches(DomainException.hasErrorCode(OperationErrorCode.INVALID_VALUE))
+        .verify();
+  }
+
+  @Test
+  @DisplayName("다른 노드가 schema writer lease를 가지고 있으면 batch를 그 노드로 전달하고 로컬에서 적용하지 않는다")
+  void forwardsToLeaseOwner() {
+    ApplyErdMutationBatchCommand command = new ApplyErdMutationBatchCommand(SCHEMA_ID, List.of(
+        new ErdMutationBatchItem(null, ErdOperationType.CHANGE_TABLE_NAME,
+            payload().put("tableId", TABLE_ID).put("newName", "orders"))));
+    MutationResult<ApplyErdMutationBatchResult> forwarded = MutationResult.of(
+        new ApplyErdMutationBatchResult(SCHEMA_ID, List.of()), TABLE_ID);
+    given(forwardErdMutationBatchPortProvider.getIfAvailable()).willReturn(forwardErdMutationBatchPort);
+    given(schemaWriterLeasePort.acquireOrFindOwner(eq(SCHEMA_ID), eq(LOCAL_NODE_ID), any()))
+        .willReturn(Mono.just("node-b"));
+    given(forwardErdMutationBatchPort.forward(eq("node-b"), eq(command), any()))
+        .willReturn(Mono.just(forwarded));
+
+    StepVerifier.create(sut.applyMutationBatch(command))
+        .expectNext(forwarded)
+        .verifyComplete();
+
+    then(structuralSnapshotService).shouldHaveNoInteractions();
+    then(erdBatchMutationDispatcher).shouldHaveNoInteractions();
+  }
+
+  private static ObjectNode payload() {
+    return JsonNodeFactory.instance.objectNode();
+  }
+
+  private static StructuralSnapshot snapshot(String... tableIds) {
+    return new StructuralSnapshot(
+        SCHEMA_ID,
+        Arrays.stream(tableIds)
+            .map(tableId -> new TableSnapshot(tableId, SCHEMA_ID, tableId, null, null, null))
+            .toList(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of());
+  }
+
+}
@@ -1,10 +1,16 @@
 package com.schemafy.core.erd.operation.application.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.schemafy.core.common.MutationResult;
 import com.schemafy.core.common.exception.DomainException;
 import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.ErdMutationMetrics;
 import com.schemafy.core.erd.operation.ErdOperationContexts;
 import com.schemafy.core.erd.operation.application.port.out.AppendErdOperationLogPort;
 import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
@@ -33,20 +40,26 @@ import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
 import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
 import com.schemafy.core.ulid.application.port.out.UlidGeneratorPort;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultErdMutationCoordinatorTest {
 
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
   @Mock
   TransactionalOperator transactionalOperator;
 
@@ -74,6 +87,11 @@ class DefaultErdMutationCoordinatorTest {
   @Mock
   JsonCodec jsonCodec;
 
+  @Mock
+  SchemaCheckpointRecorder schemaCheckpointRecorder;
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   DefaultErdMutationCoordinator sut;
 
   @BeforeEach
@@ -88,12 +106,18 @@ class DefaultErdMutationCoordinatorTest {
         saveSchemaCollaborationStatePort,
         appendErdOperationLogPort,
         ulidGeneratorPort,
-        jsonCodec);
+        jsonCodec,
+        new ErdMutationMetrics(meterRegistry),
+        schemaCheckpointRecorder,
+        new ErdMutationConcurrencyPolicy(false, 1, Duration.ZERO),
+        new SchemaMutationExecutor(transactionalOperator, 16),
+        Clock.fixed(NOW, ZoneOffset.UTC));
 
     lenient().when(transactionalOperator.transactional(any(Mono.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
     lenient().when(jsonCodec.toJson(any())).thenReturn("{}");
     lenient().when(ulidGeneratorPort.generate()).thenReturn("operation1");
+    lenient().when(schemaCheckpointRecorder.recordAfterCommitIfDue(any(), anyLong())).thenReturn(Mono.empty());
   }
 
   @Test
@@ -149,11 +173,19 @@ class DefaultErdMutationCoordinatorTest {
               "operation1",
               null,
               4L,
-              ErdOperationDerivationKind.ORIGINAL));
+              ErdOperationDerivationKind.ORIGINAL,
+              NOW));
         })
         .verifyComplete();
 
     assertThat(events).containsExactly("lock", "mutate");
+    assertThat(meterRegistry.get("erd.mutation.lock.wait")
+        .tags("operation", "CREATE_TABLE", "tier", "small").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("erd.mutation.lock.hold").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("erd.mutation.body").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("erd.mutation.oplog.append").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("erd.mutation").tag("outcome", "success").timer().count())
+        .isEqualTo(1);
     then(findSchemaCollaborationStatePort).should()
         .findBySchemaIdForUpdate("schema1");
     then(findSchemaCollaborationStatePort).should(never())
@@ -174,6 +206,7 @@ class DefaultErdMutationCoordinatorTest {
         "{}",
         null,
         "{}"));
+    then(schemaCheckpointRecorder).should().recordIfDue("schema1", 4L);
   }
 
   @Test
@@ -265,9 +298,193 @@ class DefaultErdMutationCoordinatorTest {
         .verify();
 
     assertThat(events).containsExactly("lock");
+    assertThat(meterRegistry.get("erd.mutation.stale.derived")
+        .tag("derivation", derivationKind.name()).counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("erd.mutation").tag("outcome", "error").timer().count())
+        .isEqualTo(1);
     then(erdMutationTargetFinalizer).shouldHaveNoInteractions();
     then(incrementSchemaCollaborationRevisionPort).shouldHaveNoInteractions();
     then(appendErdOperationLogPort).shouldHaveNoInteractions();
   }
 
+  @Test
+  @DisplayName("optimistic 모드의 in-place 변경은 row lock 없이 읽고 commit 시점에 revision을 올린다")
+  void commitsInPlaceChangeWithoutLockingSchemaState() {
+    DefaultErdMutationCoordinator optimisticSut = optimisticCoordinator(3);
+    Object payload = new Object();
+    givenInPlaceChangeTarget(payload);
+    given(findSchemaCollaborationStatePort.findBySchemaId("schema1"))
+        .willReturn(Mono.just(state(3L)));
+    given(incrementSchemaCollaborationRevisionPort.increment("schema1"))
+        .willReturn(Mono.just(state(4L)));
+
+    StepVerifier.create(optimisticSut.coordinate(ErdOperationType.CHANGE_COLUMN_NAME, payload,
+        () -> Mono.just(MutationResult.of("ok", Set.of("table1")))))
+        .assertNext(result -> assertThat(result.operation().committedRevision()).isEqualTo(4L))
+        .verifyComplete();
+
+    then(findSchemaCollaborationStatePort).should(never()).findBySchemaIdForUpdate(any());
+    then(incrementSchemaCollaborationRevisionPort).should(never()).incrementIfCurrentRevision(any(), anyLong());
+    assertThat(meterRegistry.find("erd.mutation.lock.wait").timer()).isNull();
+  }
+
+  @Test
+  @DisplayName("optimistic 모드에서 서로 다른 table을 동시에 바꾸면 둘 다 재시도 없이 commit된다")
+  void commitsConcurrentInPlaceChangesOnDisjointTables() {
+    DefaultErdMutationCoordinator optimisticSut = optimisticCoordinator(3);
+    Object firstPayload = new Object();
+    Object secondPayload = new Object();
+    Sinks.Empty<Void> firstBody = Sinks.empty();
+    given(erdMutationTargetResolver.resolveBefore(ErdOperationType.CHANGE_COLUMN_NAME, firstPayload))
+        .willReturn(Mono.just(new ResolvedErdMutationTarget("project1", "schema1", "table1")));
+    given(erdMutationTargetResolver.resolveBefore(ErdOperationType.CHANGE_COLUMN_NAME, secondPayload))
+        .willReturn(Mono.just(new ResolvedErdMutationTarget("project1", "schema1", "table2")));
+    given(erdMutationTargetFinalizer.finalizeTarget(eq(ErdOperationType.CHANGE_COLUMN_NAME), any(), any()))
+        .willReturn(new FinalizedErdMutationTarget("project1", "schema1"));
+    given(appendErdOperationLogPort.append(any(ErdOperationLog.class)))
+        .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    given(findSchemaCollaborationStatePort.findBySchemaId("schema1"))
+        .willReturn(Mono.just(state(3L)));
+    given(incrementSchemaCollaborationRevisionPort.increment("schema1"))
+        .willReturn(Mono.just(state(4L)), Mono.just(state(5L)));
+
+    Mono<MutationResult<String>> first = optimisticSut.coordinate(ErdOperationType.CHANGE_COLUMN_NAME,
+        firstPayload, () -> firstBody.asMono().thenReturn(MutationResult.of("first", Set.of("table1"))));
+    Mono<MutationResult<String>> second = optimisticSut.coordinate(ErdOperationType.CHANGE_COLUMN_NAME,
+        secondPayload, () -> Mono.just(MutationResult.of("second", Set.of("table2"))));
+
+    StepVerifier.create(Mono.zip(first, second))
+        .then(() -> then(findSchemaCollaborationStatePort).should(times(2)).findBySchemaId("schema1"))
+        .then(firstBody::tryEmitEmpty)
+        .assertNext(results -> {
+          assertThat(results.getT1().operation().committedRevision()).isEqualTo(5L);
+          assertThat(results.getT2().operation().committedRevision()).isEqualTo(4L);
+        })
+        .verifyComplete();
+
+    assertThat(meterRegistry.find("erd.mutation.optimistic.retry").counter()).isNull();
+    then(appendErdOperationLogPort).should(times(2)).append(any(ErdOperationLog.class));
+  }
+
+  @Test
+  @DisplayName("optimistic 모드에서 변경한 row의 version이 먼저 바뀌면 mutation을 처음부터 다시 실행한다")
+  void retriesInPlaceChangeWhenEntityVersionMoved() {
+    DefaultErdMutationCoordinator optimisticSut = optimisticCoordinator(3);
+    Object payload = new Object();
+    List<String> events = new ArrayList<>();
+    givenInPlaceChangeTarget(payload);
+    given(findSchemaCollaborationStatePort.findBySchemaId("schema1"))
+        .willReturn(Mono.just(state(3L)), Mono.just(state(4L)));
+    given(incrementSchemaCollaborationRevisionPort.increment("schema1"))
+        .willReturn(Mono.just(state(5L)));
+
+    StepVerifier.create(optimisticSut.coordinate(ErdOperationType.CHANGE_COLUMN_NAME, payload, () -> {
+      events.add("mutate");
+      if (events.size() == 1) {
+        return Mono.error(new OptimisticLockingFailureException("column1 version moved"));
+      }
+      return Mono.just(MutationResult.of("ok", Set.of("table1")));
+    }))
+        .assertNext(result -> assertThat(result.operation().committedRevision()).isEqualTo(5L))
+        .verifyComplete();
+
+    assertThat(events).containsExactly("mutate", "mutate");
+    assertThat(meterRegistry.get("erd.mutation.optimistic.retry")
+        .tag("operation", "CHANGE_COLUMN_NAME").counter().count()).isEqualTo(1);
+    then(incrementSchemaCollaborationRevisionPort).should(times(1)).increment("schema1");
+    then(appendErdOperationLogPort).should(times(1)).append(any(ErdOperationLog.class));
+  }
+
+  @Test
+  @DisplayName("optimistic 모드의 재시도 한도를 넘기면 CONCURRENT_MODIFICATION으로 실패한다")
+  void failsWithConcurrentModificationAfterRetryLimit() {
+    DefaultErdMutationCoordinator optimisticSut = optimisticCoordinator(2);
+    Object payload = new Object();
+    List<String> events = new ArrayList<>();
+    given(erdMutationTargetResolver.resolveBefore(ErdOperationType.CHANGE_COLUMN_NAME, payload))
+        .willReturn(Mono.just(new ResolvedErdMutationTarget("project1", "schema1", "table1")));
+    given(findSchemaCollaborationStatePort.findBySchemaId("schema1"))
+        .willReturn(Mono.just(state(3L)));
+
+    StepVerifier.create(optimisticSut.coordinate(ErdOperationType.CHANGE_COLUMN_NAME, payload, () -> {
+      events.add("mutate");
+      return Mono.<MutationResult<String>>error(new OptimisticLockingFailureException("column1 version moved"));
+    }))
+        .expectErrorMatches(DomainException.hasErrorCode(OperationErrorCode.CONCURRENT_MODIFICATION))
+        .verify();
+
+    assertThat(events).containsExactly("mutate", "mutate");
+    then(incrementSchemaCollaborationRevisionPort).shouldHaveNoInteractions();
+    then(appendErdOperationLogPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  @DisplayName("같은 schema의 다음 mutation은 앞선 mutation이 끝난 뒤에 transaction을 연다")
+  void opensTransactionOnlyAfterTakingSchemaSlot() {
+    Object payload = new Object();
+    AtomicInteger openedTransactions = new AtomicInteger();
+    Sinks.Empty<Void> firstBody = Sinks.empty();
+    given(transactionalOperator.transactional(any(Mono.class)))
+        .willAnswer(invocation -> ((Mono<?>) invocation.getArgument(0))
+            .doOnSubscribe(subscription -> openedTransactions.incrementAndGet()));
+    given(erdMutationTargetResolver.resolveBefore(ErdOperationType.CREATE_TABLE, payload))
+        .willReturn(Mono.just(new ResolvedErdMutationTarget("project1", "schema1", "table1")));
+    given(findSchemaCollaborationStatePort.findBySchemaIdForUpdate("schema1"))
+        .willReturn(Mono.just(state(3L)));
+    given(erdMutationTargetFinalizer.finalizeTarget(eq(ErdOperationType.CREATE_TABLE), any(), any()))
+        .willReturn(new FinalizedErdMutationTarget("project1", "schema1"));
+    given(incrementSchemaCollaborationRevisionPort.increment("schema1"))
+        .willReturn(Mono.just(state(4L)), Mono.just(state(5L)));
+    given(appendErdOperationLogPort.append(any(ErdOperationLog.class)))
+        .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+    Mono<MutationResult<String>> first = sut.coordinate(ErdOperationType.CREATE_TABLE, payload,
+        () -> firstBody.asMono().thenReturn(MutationResult.of("first", Set.of("table1"))));
+    Mono<MutationResult<String>> second = sut.coordinate(ErdOperationType.CREATE_TABLE, payload,
+        () -> Mono.just(MutationResult.of("second", Set.of("table1"))));
+
+    StepVerifier.create(Mono.zip(first, second))
+        .then(() -> assertThat(openedTransactions).hasValue(1))
+        .then(firstBody::tryEmitEmpty)
+        .assertNext(results -> {
+          assertThat(results.getT1().result()).isEqualTo("first");
+          assertThat(results.getT2().result()).isEqualTo("second");
+        })
+        .verifyComplete();
+
+    assertThat(openedTransactions).hasValue(2);
+  }
+
+  private DefaultErdMutationCoordinator optimisticCoordinator(int maxAttempts) {
+    return new DefaultErdMutationCoordinator(
+        transactionalOperator,
+        erdMutationTargetResolver,
+        erdMutationTargetFinalizer,
+        findSchemaCollaborationStatePort,
+        incrementSchemaCollaborationRevisionPort,
+        saveSchemaCollaborationStatePort,
+        appendErdOperationLogPort,
+        ulidGeneratorPort,
+        jsonCodec,
+        new ErdMutationMetrics(meterRegistry),
+        schemaCheckpointRecorder,
+        new ErdMutationConcurrencyPolicy(true, maxAttempts, Duration.ofMillis(1)),
+        new SchemaMutationExecutor(transactionalOperator, 16),
+        Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  private void givenInPlaceChangeTarget(Object payload) {
+    given(erdMutationTargetResolver.resolveBefore(ErdOperationType.CHANGE_COLUMN_NAME, payload))
+        .willReturn(Mono.just(new ResolvedErdMutationTarget("project1", "schema1", "table1")));
+    given(erdMutationTargetFinalizer.finalizeTarget(eq(ErdOperationType.CHANGE_COLUMN_NAME), any(), any()))
+        .willReturn(new FinalizedErdMutationTarget("project1", "schema1"));
+    given(appendErdOperationLogPort.append(any(ErdOperationLog.class)))
+        .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+  }
+
+  private static SchemaCollaborationState state(long revision) {
+    return new SchemaCollaborationState("schema1", "project1", revision, null, null);
+  }
+
 }
@@ -0,0 +1,181 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.application.inverse.ChangeColumnNameInverse;
+import com.schemafy.core.erd.operation.application.inverse.CreateColumnInverse;
+import com.schemafy.core.erd.operation.application.inverse.InversePayload;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.ColumnSnapshot;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot.TableSnapshot;
+import com.schemafy.core.erd.operation.application.port.in.GetSchemaAtRevisionQuery;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCheckpointPort;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.application.port.out.GetErdOperationByIdPort;
+import com.schemafy.core.erd.operation.application.port.out.GetErdOperationsInRevisionRangePort;
+import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+import com.schemafy.core.erd.operation.domain.ErdOperationLifecycleState;
+import com.schemafy.core.erd.operation.domain.ErdOperationLog;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.operation.domain.SchemaCheckpoint;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.operation.domain.exception.OperationErrorCode;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetSchemaAtRevisionService")
+class GetSchemaAtRevisionServiceTest {
+
+  private static final String SCHEMA_ID = "06D6W1GAHD51T5NJPK29Q6BCR8";
+  private static final JsonCodec JSON_CODEC = new JsonCodec(new ObjectMapper().findAndRegisterModules());
+
+  @Mock
+  FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+
+  @Mock
+  FindSchemaCheckpointPort findSchemaCheckpointPort;
+
+  @Mock
+  GetErdOperationsInRevisionRangePort getErdOperationsInRevisionRangePort;
+
+  @Mock
+  GetErdOperationByIdPort getErdOperationByIdPort;
+
+  @Mock
+  StructuralSnapshotReader structuralSnapshotReader;
+
+  @Spy
+  JsonCodec jsonCodec = JSON_CODEC;
+
+  @InjectMocks
+  GetSchemaAtRevisionService sut;
+
+  @Test
+  @DisplayName("가장 가까운 이후 checkpoint에서 inverse를 최신 revision부터 적용해 과거 구조를 만든다")
+  void rewindsFromNearestLaterCheckpoint() {
+    givenCurrentRevision(10L);
+    given(findSchemaCheckpointPort.findEarliestAtOrAfterRevision(SCHEMA_ID, 2L))
+        .willReturn(Mono.just(new SchemaCheckpoint("checkpoint-1", SCHEMA_ID, 4L,
+            JSON_CODEC.toJson(snapshot(column("full_name"))))));
+    given(getErdOperationsInRevisionRangePort.findOperationsBySchemaIdInRevisionRangeDesc(SCHEMA_ID, 2L, 4L))
+        .willReturn(Mono.just(List.of(
+            operation("op-4", ErdOperationType.CHANGE_COLUMN_NAME, 4L, ErdOperationDerivationKind.ORIGINAL, null,
+                new ChangeColumnNameInverse("col-1", "name")),
+            operation("op-3", ErdOperationType.CHANGE_COLUMN_NAME, 3L, ErdOperationDerivationKind.ORIGINAL, null,
+                new ChangeColumnNameInverse("col-1", "nickname")))));
+
+    StepVerifier.create(sut.getSchemaAtRevision(new GetSchemaAtRevisionQuery(SCHEMA_ID, 2L)))
+        .assertNext(result -> {
+          assertThat(result.revision()).isEqualTo(2L);
+          assertThat(result.baseRevision()).isEqualTo(4L);
+          assertThat(result.rewoundOperationCount()).isEqualTo(2);
+          assertThat(result.structure().columns()).extracting(ColumnSnapshot::name)
+              .containsExactly("nickname");
+        })
+        .verifyComplete();
+
+    then(structuralSnapshotReader).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("checkpoint가 없으면 live 구조에서 되감고, 파생 structural operation은 root snapshot을 쓴다")
+  void rewindsFromLiveStructureUsingRootSnapshots() {
+    StructuralSnapshot before = snapshot();
+    StructuralSnapshot after = snapshot(column("id"));
+    givenCurrentRevision(3L);
+    given(findSchemaCheckpointPort.findEarliestAtOrAfterRevision(SCHEMA_ID, 2L)).willReturn(Mono.empty());
+    given(structuralSnapshotReader.captureBySchemaId(SCHEMA_ID)).willReturn(Mono.just(before));
+    given(getErdOperationsInRevisionRangePort.findOperationsBySchemaIdInRevisionRangeDesc(SCHEMA_ID, 2L, 3L))
+        .willReturn(Mono.just(List.of(
+            operation("op-3", ErdOperationType.CREATE_COLUMN, 3L, ErdOperationDerivationKind.UNDO, "op-2", null))));
+    given(getErdOperationByIdPort.findOperationById("op-2"))
+        .willReturn(Mono.just(operation("op-2", ErdOperationType.CREATE_COLUMN, 2L,
+            ErdOperationDerivationKind.ORIGINAL, null,
+            new CreateColumnInverse(SCHEMA_ID, "col-1", before, after, List.of("table-1")))));
+
+    StepVerifier.create(sut.getSchemaAtRevision(new GetSchemaAtRevisionQuery(SCHEMA_ID, 2L)))
+        .assertNext(result -> {
+          assertThat(result.baseRevision()).isEqualTo(3L);
+          assertThat(result.structure()).isEqualTo(after);
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("현재 revision보다 큰 revision은 NOT_FOUND를 반환한다")
+  void rejectsFutureRevision() {
+    givenCurrentRevision(3L);
+
+    StepVerifier.create(sut.getSchemaAtRevision(new GetSchemaAtRevisionQuery(SCHEMA_ID, 4L)))
+        .expectErrorMatches(DomainException.hasErrorCode(OperationErrorCode.NOT_FOUND))
+        .verify();
+
+    then(getErdOperationsInRevisionRangePort).shouldHaveNoInteractions();
+  }
+
+  private void givenCurrentRevision(long revision) {
+    given(findSchemaCollaborationStatePort.findBySchemaId(anyString()))
+        .willReturn(Mono.just(new SchemaCollaborationState(SCHEMA_ID, "project-1", revision, null, null)));
+  }
+
+  private static ErdOperationLog operation(
+      String opId,
+      ErdOperationType opType,
+      long revision,
+      ErdOperationDerivationKind derivationKind,
+      String derivedFromOpId,
+      InversePayload inverse) {
+    return new ErdOperationLog(
+        opId,
+        "project-1",
+        SCHEMA_ID,
+        opType,
+        revision,
+        revision - 1,
+        null,
+        null,
+        "system",
+        derivationKind,
+        derivedFromOpId,
+        ErdOperationLifecycleState.COMMITTED,
+        "{}",
+        inverse == null ? null : JSON_CODEC.toJson(inverse),
+        "[]");
+  }
+
+  private static StructuralSnapshot snapshot(ColumnSnapshot... columns) {
+    return new StructuralSnapshot(
+        SCHEMA_ID,
+        List.of(new TableSnapshot("table-1", SCHEMA_ID, "users", null, null, null)),
+        List.of(columns),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of());
+  }
+
+  private static ColumnSnapshot column(String name) {
+    return new ColumnSnapshot("col-1", "table-1", name, "VARCHAR", null, 0, false, null, null, null);
+  }
+
+}
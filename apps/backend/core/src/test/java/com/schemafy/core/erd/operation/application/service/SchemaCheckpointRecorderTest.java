@@ -0,0 +1,138 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.util.List;
+
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.operation.application.inverse.StructuralSnapshot;
+import com.schemafy.core.erd.operation.application.port.out.AppendSchemaCheckpointPort;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.application.port.out.PruneSchemaCheckpointsPort;
+import com.schemafy.core.erd.operation.domain.SchemaCheckpoint;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.ulid.application.port.out.UlidGeneratorPort;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchemaCheckpointRecorder")
+class SchemaCheckpointRecorderTest {
+
+  private static final String SCHEMA_ID = "schema1";
+  private static final StructuralSnapshot SNAPSHOT = new StructuralSnapshot(SCHEMA_ID,
+      List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+  @Mock
+  StructuralSnapshotReader structuralSnapshotReader;
+
+  @Mock
+  FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+
+  @Mock
+  AppendSchemaCheckpointPort appendSchemaCheckpointPort;
+
+  @Mock
+  PruneSchemaCheckpointsPort pruneSchemaCheckpointsPort;
+
+  @Mock
+  UlidGeneratorPort ulidGeneratorPort;
+
+  @Mock
+  JsonCodec jsonCodec;
+
+  @Mock
+  ReactiveTransactionManager transactionManager;
+
+  @Mock
+  ReactiveTransaction transaction;
+
+  SchemaCheckpointRecorder sut;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(transactionManager.getReactiveTransaction(any()))
+        .thenReturn(Mono.just(transaction));
+    lenient().when(transactionManager.commit(transaction))
+        .thenReturn(Mono.empty());
+    lenient().when(transactionManager.rollback(transaction))
+        .thenReturn(Mono.empty());
+
+    sut = new SchemaCheckpointRecorder(
+        structuralSnapshotReader,
+        findSchemaCollaborationStatePort,
+        appendSchemaCheckpointPort,
+        pruneSchemaCheckpointsPort,
+        ulidGeneratorPort,
+        jsonCodec,
+        transactionManager,
+        64,
+        2);
+  }
+
+  @Test
+  @DisplayName("read-only transaction에서 읽은 revision으로 checkpoint를 남기고 최근 것만 남긴다")
+  void recordsAtCapturedRevisionAndPrunes() {
+    givenCapture(70L);
+
+    StepVerifier.create(sut.record(SCHEMA_ID))
+        .verifyComplete();
+
+    then(transactionManager).should().getReactiveTransaction(argThat(definition -> definition.isReadOnly()
+        && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+    then(appendSchemaCheckpointPort).should().append(new SchemaCheckpoint("checkpoint1", SCHEMA_ID, 70L, "{}"));
+    then(pruneSchemaCheckpointsPort).should().deleteAllButLatest(SCHEMA_ID, 2);
+  }
+
+  @Test
+  @DisplayName("checkpoint 주기가 아닌 revision은 아무것도 읽지 않는다")
+  void skipsRevisionsThatAreNotDue() {
+    StepVerifier.create(sut.recordAfterCommitIfDue(SCHEMA_ID, 63L))
+        .verifyComplete();
+
+    then(findSchemaCollaborationStatePort).shouldHaveNoInteractions();
+    then(structuralSnapshotReader).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("transaction 밖에서 주기가 되면 호출자를 기다리게 하지 않고 백그라운드에서 기록한다")
+  void recordsInBackgroundOutsideTransaction() {
+    givenCapture(64L);
+
+    StepVerifier.create(sut.recordAfterCommitIfDue(SCHEMA_ID, 64L))
+        .verifyComplete();
+
+    then(appendSchemaCheckpointPort).should(timeout(1_000))
+        .append(new SchemaCheckpoint("checkpoint1", SCHEMA_ID, 64L, "{}"));
+    then(pruneSchemaCheckpointsPort).should(timeout(1_000)).deleteAllButLatest(SCHEMA_ID, 2);
+  }
+
+  private void givenCapture(long revision) {
+    given(findSchemaCollaborationStatePort.findBySchemaId(SCHEMA_ID))
+        .willReturn(Mono.just(new SchemaCollaborationState(SCHEMA_ID, "project1", revision, null, null)));
+    given(structuralSnapshotReader.captureBySchemaId(SCHEMA_ID)).willReturn(Mono.just(SNAPSHOT));
+    given(ulidGeneratorPort.generate()).willReturn("checkpoint1");
+    given(jsonCodec.toJson(SNAPSHOT)).willReturn("{}");
+    given(appendSchemaCheckpointPort.append(any()))
+        .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    given(pruneSchemaCheckpointsPort.deleteAllButLatest(SCHEMA_ID, 2)).willReturn(Mono.just(0L));
+  }
+
+}
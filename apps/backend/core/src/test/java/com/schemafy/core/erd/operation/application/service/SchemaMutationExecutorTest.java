@@ -0,0 +1,106 @@
+package com.schemafy.core.erd.operation.application.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchemaMutationExecutor")
+class SchemaMutationExecutorTest {
+
+  private static final String SCHEMA_ID = "schema1";
+
+  @Mock
+  TransactionalOperator transactionalOperator;
+
+  SchemaMutationExecutor sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new SchemaMutationExecutor(transactionalOperator, 16);
+  }
+
+  @Test
+  @DisplayName("같은 schema의 mutation은 앞선 mutation이 끝난 뒤에 시작하고, 다른 schema는 기다리지 않는다")
+  void runsMutationsOfOneSchemaOneAtATime() {
+    Sinks.Empty<Void> first = Sinks.empty();
+    AtomicBoolean secondStarted = new AtomicBoolean();
+    AtomicBoolean otherSchemaStarted = new AtomicBoolean();
+
+    Mono<String> firstResult = sut.execute(SCHEMA_ID, first.asMono().thenReturn("first"));
+    Mono<String> secondResult = sut.execute(SCHEMA_ID, Mono.fromSupplier(() -> {
+      secondStarted.set(true);
+      return "second";
+    }));
+    Mono<String> otherSchemaResult = sut.execute("schema2", Mono.fromSupplier(() -> {
+      otherSchemaStarted.set(true);
+      return "other";
+    }));
+
+    StepVerifier.create(Mono.zip(firstResult, secondResult, otherSchemaResult))
+        .then(() -> {
+          assertThat(secondStarted).isFalse();
+          assertThat(otherSchemaStarted).isTrue();
+          first.tryEmitEmpty();
+        })
+        .assertNext(results -> assertThat(results.toList()).containsExactly("first", "second", "other"))
+        .verifyComplete();
+
+    then(transactionalOperator).should(never()).transactional(any(Mono.class));
+  }
+
+  @Test
+  @DisplayName("대기 중인 grouped mutation은 한 transaction으로 묶고, 실패하면 하나씩 다시 적용한다")
+  void groupsQueuedMutationsAndReplaysThemAloneOnFailure() {
+    givenTransactional();
+    Sinks.Empty<Void> blocker = Sinks.empty();
+    AtomicInteger firstAttempts = new AtomicInteger();
+
+    Mono<String> blocking = sut.execute(SCHEMA_ID, blocker.asMono().thenReturn("blocking"));
+    Mono<String> first = sut.executeGrouped(SCHEMA_ID, Mono.fromSupplier(() -> {
+      firstAttempts.incrementAndGet();
+      return "first";
+    }));
+    Mono<String> failing = sut.executeGrouped(SCHEMA_ID,
+        Mono.error(new IllegalStateException("rejected")));
+    Mono<String> last = sut.executeGrouped(SCHEMA_ID, Mono.just("last"));
+
+    StepVerifier.create(Mono.zip(blocking, first, failing.materialize(), last))
+        .then(blocker::tryEmitEmpty)
+        .assertNext(results -> {
+          assertThat(results.getT1()).isEqualTo("blocking");
+          assertThat(results.getT2()).isEqualTo("first");
+          assertThat(results.getT3().getThrowable()).hasMessage("rejected");
+          assertThat(results.getT4()).isEqualTo("last");
+        })
+        .verifyComplete();
+
+    assertThat(firstAttempts).hasValue(2);
+    then(transactionalOperator).should(times(1)).transactional(any(Mono.class));
+  }
+
+  private void givenTransactional() {
+    given(transactionalOperator.transactional(any(Mono.class)))
+        .willAnswer(invocation -> invocation.getArgument(0));
+  }
+
+}
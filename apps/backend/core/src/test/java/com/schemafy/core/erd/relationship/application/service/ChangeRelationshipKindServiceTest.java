@@ -2,8 +2,6 @@ package com.schemafy.core.erd.relationship.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -36,7 +34,6 @@ import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.lenient;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ChangeRelationshipKindService")
@@ -59,9 +56,6 @@ class ChangeRelationshipKindServiceTest {
   @Mock
   PkCascadeHelper pkCascadeHelper;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
@@ -69,9 +63,7 @@ class ChangeRelationshipKindServiceTest {
   ChangeRelationshipKindService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    lenient().when(transactionalOperator.transactional(any(Mono.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     stubEmptySnapshots(structuralSnapshotService);
   }
 
@@ -2,8 +2,6 @@ package com.schemafy.core.erd.relationship.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -108,9 +106,6 @@ class CreateRelationshipServiceTest {
   @Mock
   PkCascadeHelper pkCascadeHelper;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
@@ -122,9 +117,7 @@ class CreateRelationshipServiceTest {
   CreateRelationshipService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     lenient().when(identifierCapabilityResolver.resolve(any(), any()))
         .thenReturn(Mono.just(IdentifierCapabilities.codePoints(64)));
     stubEmptySnapshots(structuralSnapshotService);
@@ -2,8 +2,6 @@ package com.schemafy.core.erd.relationship.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -39,9 +37,6 @@ import static org.mockito.Mockito.never;
 @DisplayName("DeleteRelationshipService")
 class DeleteRelationshipServiceTest {
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   DeleteRelationshipPort deleteRelationshipPort;
 
@@ -65,8 +60,6 @@ class DeleteRelationshipServiceTest {
 
   @BeforeEach
   void setUp() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
     stubEmptySnapshots(structuralSnapshotService);
   }
 
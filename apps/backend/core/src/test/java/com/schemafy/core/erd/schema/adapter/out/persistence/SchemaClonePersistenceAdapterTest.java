@@ -0,0 +1,203 @@
+package com.schemafy.core.erd.schema.adapter.out.persistence;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.core.config.R2dbcTestConfiguration;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@Import({ SchemaClonePersistenceAdapter.class, R2dbcTestConfiguration.class })
+@DisplayName("SchemaClonePersistenceAdapter")
+class SchemaClonePersistenceAdapterTest {
+
+  private static final String SOURCE_SCHEMA_ID = "06D6W1GAHD51T5NJPK29Q6BCR8";
+  private static final String OTHER_SCHEMA_ID = "06D6W1GAHD51T5NJPK29Q6BCR9";
+  private static final String TARGET_SCHEMA_ID = "06D6W4B2Q8M3N1P5R7T9V0X2Z4";
+  private static final String ID_PREFIX = "06D6W4B2Q8M3N1P6";
+
+  private static final List<String> CLONED_TABLES = List.of(
+      "memo_comments",
+      "memos",
+      "db_relationship_columns",
+      "db_relationships",
+      "db_index_columns",
+      "db_indexes",
+      "db_constraint_columns",
+      "db_constraints",
+      "db_columns",
+      "db_tables",
+      "schema_clone_id_map");
+
+  @Autowired
+  SchemaClonePersistenceAdapter sut;
+
+  @Autowired
+  DatabaseClient databaseClient;
+
+  @BeforeEach
+  void setUp() {
+    CLONED_TABLES.forEach(table -> execute("DELETE FROM " + table));
+
+    execute("""
+        INSERT INTO db_tables (id, schema_id, name) VALUES
+          ('TUSERS00000000000000000000', '%1$s', 'users'),
+          ('TORDERS0000000000000000000', '%1$s', 'orders'),
+          ('TOTHER00000000000000000000', '%2$s', 'other')
+        """.formatted(SOURCE_SCHEMA_ID, OTHER_SCHEMA_ID));
+    execute("""
+        INSERT INTO db_columns (id, table_id, name, data_type, seq_no) VALUES
+          ('CUSERSID000000000000000000', 'TUSERS00000000000000000000', 'id', 'BIGINT', 0),
+          ('CORDERSID00000000000000000', 'TORDERS0000000000000000000', 'id', 'BIGINT', 0),
+          ('CORDERSUSER000000000000000', 'TORDERS0000000000000000000', 'user_id', 'BIGINT', 1),
+          ('COTHERID000000000000000000', 'TOTHER00000000000000000000', 'id', 'BIGINT', 0)
+        """);
+    execute("""
+        INSERT INTO db_constraints (id, table_id, name, kind) VALUES
+          ('KUSERSPK000000000000000000', 'TUSERS00000000000000000000', 'pk_users', 'PRIMARY_KEY')
+        """);
+    execute("""
+        INSERT INTO db_constraint_columns (id, constraint_id, column_id, seq_no) VALUES
+          ('KCUSERSPK00000000000000000', 'KUSERSPK000000000000000000', 'CUSERSID000000000000000000', 0)
+        """);
+    execute("""
+        INSERT INTO db_indexes (id, table_id, name, type) VALUES
+          ('IORDERSUSER000000000000000', 'TORDERS0000000000000000000', 'idx_orders_user', 'BTREE')
+        """);
+    execute("""
+        INSERT INTO db_index_columns (id, index_id, column_id, seq_no, sort_dir) VALUES
+          ('ICORDERSUSER00000000000000', 'IORDERSUSER000000000000000', 'CORDERSUSER000000000000000', 0, 'ASC')
+        """);
+    execute("""
+        INSERT INTO db_relationships (id, pk_table_id, fk_table_id, name, kind, cardinality) VALUES
+          ('RORDERSUSER000000000000000', 'TUSERS00000000000000000000', 'TORDERS0000000000000000000',
+           'fk_orders_user', 'NON_IDENTIFYING', 'ONE_TO_MANY'),
+          ('RORDERSOTHER00000000000000', 'TOTHER00000000000000000000', 'TORDERS0000000000000000000',
+           'fk_orders_other', 'NON_IDENTIFYING', 'ONE_TO_MANY')
+        """);
+    execute("""
+        INSERT INTO db_relationship_columns (id, relationship_id, fk_column_id, pk_column_id, seq_no) VALUES
+          ('RCORDERSUSER00000000000000', 'RORDERSUSER000000000000000',
+           'CORDERSUSER000000000000000', 'CUSERSID000000000000000000', 0),
+          ('RCORDERSOTHER0000000000000', 'RORDERSOTHER00000000000000',
+           'CORDERSID00000000000000000', 'COTHERID000000000000000000', 0)
+        """);
+    execute("""
+        INSERT INTO memos (id, schema_id, author_id, positions, deleted_at) VALUES
+          ('MNOTE000000000000000000000', '%1$s', '06D6W1GAHD51T5NJPK29Q6AUTH', '{}', NULL),
+          ('MDELETED000000000000000000', '%1$s', '06D6W1GAHD51T5NJPK29Q6AUTH', '{}', CURRENT_TIMESTAMP)
+        """.formatted(SOURCE_SCHEMA_ID));
+    execute("""
+        INSERT INTO memo_comments (id, memo_id, author_id, body, created_at, deleted_at) VALUES
+          ('MCFIRST0000000000000000000', 'MNOTE000000000000000000000', '06D6W1GAHD51T5NJPK29Q6AUTH',
+           'orders 테이블 정리 필요', TIMESTAMP '2026-01-01 00:00:00', NULL),
+          ('MCREPLY0000000000000000000', 'MNOTE000000000000000000000', '06D6W1GAHD51T5NJPK29Q6AUTH',
+           '확인했습니다', TIMESTAMP '2026-01-01 00:01:00', NULL),
+          ('MCREMOVED00000000000000000', 'MNOTE000000000000000000000', '06D6W1GAHD51T5NJPK29Q6AUTH',
+           '삭제된 댓글', TIMESTAMP '2026-01-01 00:02:00', CURRENT_TIMESTAMP),
+          ('MCDELETEDMEMO0000000000000', 'MDELETED000000000000000000', '06D6W1GAHD51T5NJPK29Q6AUTH',
+           '삭제된 메모의 댓글', TIMESTAMP '2026-01-01 00:03:00', NULL)
+        """);
+  }
+
+  @Test
+  @DisplayName("원본 스키마의 하위 요소를 새 ID로 복사하고 참조를 새 ID로 바꾼다")
+  void copiesSchemaContentsWithRemappedIds() {
+    StepVerifier.create(sut.cloneSchemaContents(SOURCE_SCHEMA_ID, TARGET_SCHEMA_ID, ID_PREFIX))
+        .expectNext(2)
+        .verifyComplete();
+
+    Map<String, String> clonedTableIds = Map.of(
+        "users", queryString("SELECT id FROM db_tables WHERE schema_id = '%s' AND name = 'users'"
+            .formatted(TARGET_SCHEMA_ID)),
+        "orders", queryString("SELECT id FROM db_tables WHERE schema_id = '%s' AND name = 'orders'"
+            .formatted(TARGET_SCHEMA_ID)));
+    assertThat(clonedTableIds.values())
+        .allSatisfy(id -> assertThat(id).hasSize(26).startsWith(ID_PREFIX));
+
+    assertThat(count("SELECT COUNT(*) FROM db_columns WHERE table_id IN ('%s', '%s')"
+        .formatted(clonedTableIds.get("users"), clonedTableIds.get("orders")))).isEqualTo(3);
+    assertThat(queryString("""
+        SELECT kc.column_id FROM db_constraint_columns kc
+        JOIN db_constraints k ON k.id = kc.constraint_id
+        WHERE k.table_id = '%s'
+        """.formatted(clonedTableIds.get("users"))))
+        .isEqualTo(queryString("SELECT id FROM db_columns WHERE table_id = '%s' AND name = 'id'"
+            .formatted(clonedTableIds.get("users"))));
+    assertThat(queryString("""
+        SELECT ic.column_id FROM db_index_columns ic
+        JOIN db_indexes i ON i.id = ic.index_id
+        WHERE i.table_id = '%s'
+        """.formatted(clonedTableIds.get("orders"))))
+        .isEqualTo(queryString("SELECT id FROM db_columns WHERE table_id = '%s' AND name = 'user_id'"
+            .formatted(clonedTableIds.get("orders"))));
+
+    // The relationship pointing at a table of another schema has no counterpart in the clone.
+    assertThat(queryString("SELECT pk_table_id FROM db_relationships WHERE fk_table_id = '%s'"
+        .formatted(clonedTableIds.get("orders")))).isEqualTo(clonedTableIds.get("users"));
+    assertThat(count("""
+        SELECT COUNT(*) FROM db_relationship_columns rc
+        JOIN db_relationships r ON r.id = rc.relationship_id
+        WHERE r.fk_table_id = '%s'
+        """.formatted(clonedTableIds.get("orders")))).isEqualTo(1);
+
+    assertThat(count("SELECT COUNT(*) FROM memos WHERE schema_id = '%s'".formatted(TARGET_SCHEMA_ID)))
+        .isEqualTo(1);
+    assertThat(databaseClient.sql("""
+        SELECT mc.body FROM memo_comments mc
+        JOIN memos m ON m.id = mc.memo_id
+        WHERE m.schema_id = '%s'
+        ORDER BY mc.created_at
+        """.formatted(TARGET_SCHEMA_ID))
+        .map(row -> row.get(0, String.class))
+        .all()
+        .collectList()
+        .block())
+        .containsExactly("orders 테이블 정리 필요", "확인했습니다");
+    assertThat(count("SELECT COUNT(*) FROM db_tables WHERE schema_id = '%s'".formatted(SOURCE_SCHEMA_ID)))
+        .isEqualTo(2);
+    assertThat(count("SELECT COUNT(*) FROM schema_clone_id_map")).isZero();
+  }
+
+  @Test
+  @DisplayName("빈 스키마를 복제하면 아무것도 복사하지 않는다")
+  void copiesNothingForEmptySchema() {
+    StepVerifier.create(sut.cloneSchemaContents("06D6W1GAHD51T5NJPK29Q6BCRA", TARGET_SCHEMA_ID, ID_PREFIX))
+        .expectNext(0)
+        .verifyComplete();
+
+    assertThat(count("SELECT COUNT(*) FROM db_tables WHERE schema_id = '%s'".formatted(TARGET_SCHEMA_ID)))
+        .isZero();
+  }
+
+  private void execute(String sql) {
+    databaseClient.sql(sql).then().block();
+  }
+
+  private String queryString(String sql) {
+    return databaseClient.sql(sql)
+        .map(row -> row.get(0, String.class))
+        .one()
+        .block();
+  }
+
+  private long count(String sql) {
+    return databaseClient.sql(sql)
+        .map(row -> row.get(0, Long.class))
+        .one()
+        .block();
+  }
+
+}
@@ -0,0 +1,132 @@
+package com.schemafy.core.erd.schema.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.schemafy.core.common.exception.DomainException;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.schema.application.port.in.CloneSchemaCommand;
+import com.schemafy.core.erd.schema.application.port.out.CloneSchemaContentsPort;
+import com.schemafy.core.erd.schema.application.port.out.CreateSchemaPort;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemaByIdPort;
+import com.schemafy.core.erd.schema.application.port.out.SchemaExistsPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.schema.domain.exception.SchemaErrorCode;
+import com.schemafy.core.erd.schema.fixture.SchemaFixture;
+import com.schemafy.core.erd.vendor.application.port.in.GetProjectDbVendorUseCase;
+import com.schemafy.core.erd.vendor.fixture.DbVendorFixture;
+import com.schemafy.core.ulid.application.port.out.UlidGeneratorPort;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CloneSchemaService")
+class CloneSchemaServiceTest {
+
+  private static final String CLONE_ID = "01ARZ3NDEKTSV4RRFFQ69G5FB0";
+  private static final String PREFIX_SOURCE_ULID = "01ARZ3NDEKTSV4RRFFQ69G5FB1";
+
+  @Mock
+  GetProjectDbVendorUseCase getProjectDbVendorUseCase;
+
+  @Mock
+  UlidGeneratorPort ulidGeneratorPort;
+
+  @Mock
+  GetSchemaByIdPort getSchemaByIdPort;
+
+  @Mock
+  SchemaExistsPort schemaExistsPort;
+
+  @Mock
+  FindSchemaCollaborationStatePort findSchemaCollaborationStatePort;
+
+  @Mock
+  CreateSchemaPort createSchemaPort;
+
+  @Mock
+  CloneSchemaContentsPort cloneSchemaContentsPort;
+
+  @InjectMocks
+  CloneSchemaService sut;
+
+  @Test
+  @DisplayName("원본 스키마를 잠근 뒤 새 스키마를 만들고 하위 요소를 DB 안에서 복사한다")
+  void clonesSchemaInDatabase() {
+    Schema source = SchemaFixture.defaultSchema();
+    given(getSchemaByIdPort.findSchemaById(source.id())).willReturn(Mono.just(source));
+    given(getProjectDbVendorUseCase.getProjectDbVendor(any()))
+        .willReturn(Mono.just(DbVendorFixture.defaultDbVendor()));
+    given(schemaExistsPort.existsActiveByProjectIdAndName(source.projectId(), "what_if"))
+        .willReturn(Mono.just(false));
+    given(findSchemaCollaborationStatePort.findBySchemaIdForUpdate(source.id()))
+        .willReturn(Mono.empty());
+    given(ulidGeneratorPort.generate()).willReturn(CLONE_ID, PREFIX_SOURCE_ULID);
+    given(createSchemaPort.createSchema(any(Schema.class)))
+        .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    given(cloneSchemaContentsPort.cloneSchemaContents(anyString(), anyString(), anyString()))
+        .willReturn(Mono.just(3));
+
+    StepVerifier.create(sut.cloneSchema(new CloneSchemaCommand(source.id(), "what_if")))
+        .assertNext(result -> {
+          assertThat(result.result().schemaId()).isEqualTo(CLONE_ID);
+          assertThat(result.result().sourceSchemaId()).isEqualTo(source.id());
+          assertThat(result.result().projectId()).isEqualTo(source.projectId());
+          assertThat(result.result().charset()).isEqualTo(source.charset());
+          assertThat(result.result().collation()).isEqualTo(source.collation());
+          assertThat(result.result().tableCount()).isEqualTo(3);
+        })
+        .verifyComplete();
+
+    ArgumentCaptor<Schema> created = ArgumentCaptor.forClass(Schema.class);
+    then(createSchemaPort).should().createSchema(created.capture());
+    assertThat(created.getValue().name()).isEqualTo("what_if");
+    then(cloneSchemaContentsPort).should().cloneSchemaContents(
+        source.id(),
+        CLONE_ID,
+        PREFIX_SOURCE_ULID.substring(0, CloneSchemaService.CLONE_ID_PREFIX_LENGTH));
+  }
+
+  @Test
+  @DisplayName("같은 이름의 스키마가 있으면 복제하지 않는다")
+  void rejectsDuplicateName() {
+    Schema source = SchemaFixture.defaultSchema();
+    given(getSchemaByIdPort.findSchemaById(source.id())).willReturn(Mono.just(source));
+    given(getProjectDbVendorUseCase.getProjectDbVendor(any()))
+        .willReturn(Mono.just(DbVendorFixture.defaultDbVendor()));
+    given(schemaExistsPort.existsActiveByProjectIdAndName(source.projectId(), source.name()))
+        .willReturn(Mono.just(true));
+
+    StepVerifier.create(sut.cloneSchema(new CloneSchemaCommand(source.id(), source.name())))
+        .expectErrorMatches(DomainException.hasErrorCode(SchemaErrorCode.NAME_DUPLICATE))
+        .verify();
+
+    then(createSchemaPort).shouldHaveNoInteractions();
+    then(cloneSchemaContentsPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("원본 스키마가 없으면 NOT_FOUND를 반환한다")
+  void rejectsMissingSource() {
+    given(getSchemaByIdPort.findSchemaById("missing")).willReturn(Mono.empty());
+
+    StepVerifier.create(sut.cloneSchema(new CloneSchemaCommand("missing", "what_if")))
+        .expectErrorMatches(DomainException.hasErrorCode(SchemaErrorCode.NOT_FOUND))
+        .verify();
+
+    then(createSchemaPort).shouldHaveNoInteractions();
+  }
+
+}
@@ -1,8 +1,5 @@
 package com.schemafy.core.erd.schema.application.service;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -48,18 +45,9 @@ class CreateSchemaServiceTest {
   @Mock
   SchemaExistsPort schemaExistsPort;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @InjectMocks
   CreateSchemaService sut;
 
-  @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
-  }
-
   @Nested
   @DisplayName("createSchema 메서드는")
   class CreateSchema {
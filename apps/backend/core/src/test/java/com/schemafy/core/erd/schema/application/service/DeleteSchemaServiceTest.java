@@ -1,7 +1,5 @@
 package com.schemafy.core.erd.schema.application.service;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -36,9 +34,6 @@ class DeleteSchemaServiceTest {
 
   private static final String TABLE_ID = "01ARZ3NDEKTSV4RRFFQ69G5TAB";
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   DeleteSchemaPort deleteSchemaPort;
 
@@ -77,8 +72,6 @@ class DeleteSchemaServiceTest {
             .willReturn(Mono.empty());
         given(deleteSchemaPort.deleteSchema(any()))
             .willReturn(Mono.empty());
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteSchema(command))
             .expectNextCount(1)
@@ -110,8 +103,6 @@ class DeleteSchemaServiceTest {
             .willReturn(Mono.empty());
         given(deleteSchemaPort.deleteSchema(any()))
             .willReturn(Mono.empty());
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteSchema(command))
             .expectNextCount(1)
@@ -145,8 +136,6 @@ class DeleteSchemaServiceTest {
             .willReturn(Flux.empty());
         given(deleteSchemaPort.deleteSchema(any()))
             .willReturn(Mono.empty());
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteSchema(command))
             .expectNextCount(1)
@@ -168,8 +157,6 @@ class DeleteSchemaServiceTest {
           .willReturn(Mono.empty());
       given(getTablesBySchemaIdPort.findTablesBySchemaId(anyString()))
           .willReturn(Flux.empty());
-      given(transactionalOperator.transactional(any(Mono.class)))
-          .willAnswer(invocation -> invocation.getArgument(0));
 
       StepVerifier.create(sut.deleteSchema(command))
           .expectErrorMatches(DomainException.hasErrorCode(SchemaErrorCode.NOT_FOUND))
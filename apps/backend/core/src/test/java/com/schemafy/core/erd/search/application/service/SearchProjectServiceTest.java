@@ -0,0 +1,197 @@
+package com.schemafy.core.erd.search.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schemafy.core.common.json.JsonCodec;
+import com.schemafy.core.erd.column.application.port.out.GetColumnsBySchemaIdPort;
+import com.schemafy.core.erd.column.application.port.out.GetColumnsByTableIdPort;
+import com.schemafy.core.erd.column.domain.Column;
+import com.schemafy.core.erd.memo.application.port.out.GetMemoCommentVersionPort;
+import com.schemafy.core.erd.memo.application.port.out.GetMemoCommentsBySchemaIdPort;
+import com.schemafy.core.erd.memo.domain.MemoComment;
+import com.schemafy.core.erd.memo.domain.MemoCommentVersion;
+import com.schemafy.core.erd.operation.application.port.out.FindSchemaCollaborationStatePort;
+import com.schemafy.core.erd.operation.application.port.out.GetErdOperationsAfterRevisionPort;
+import com.schemafy.core.erd.operation.domain.ErdOperationDerivationKind;
+import com.schemafy.core.erd.operation.domain.ErdOperationLifecycleState;
+import com.schemafy.core.erd.operation.domain.ErdOperationLog;
+import com.schemafy.core.erd.operation.domain.ErdOperationType;
+import com.schemafy.core.erd.operation.domain.SchemaCollaborationState;
+import com.schemafy.core.erd.schema.application.port.out.GetSchemasByProjectIdPort;
+import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.search.adapter.out.cache.CaffeineSchemaSearchSegmentCacheAdapter;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectQuery;
+import com.schemafy.core.erd.search.domain.SearchField;
+import com.schemafy.core.erd.search.domain.SearchHit;
+import com.schemafy.core.erd.search.domain.SearchHitType;
+import com.schemafy.core.erd.table.application.port.out.GetTableByIdPort;
+import com.schemafy.core.erd.table.application.port.out.GetTablesBySchemaIdPort;
+import com.schemafy.core.erd.table.domain.Table;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("SearchProjectService")
+class SearchProjectServiceTest {
+
+  private static final String PROJECT_ID = "project-1";
+  private static final String SCHEMA_ID = "schema-1";
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final GetSchemasByProjectIdPort getSchemasByProjectIdPort = mock(GetSchemasByProjectIdPort.class);
+  private final FindSchemaCollaborationStatePort findSchemaCollaborationStatePort = mock(
+      FindSchemaCollaborationStatePort.class);
+  private final GetErdOperationsAfterRevisionPort getErdOperationsAfterRevisionPort = mock(
+      GetErdOperationsAfterRevisionPort.class);
+  private final GetTablesBySchemaIdPort getTablesBySchemaIdPort = mock(GetTablesBySchemaIdPort.class);
+  private final GetColumnsBySchemaIdPort getColumnsBySchemaIdPort = mock(GetColumnsBySchemaIdPort.class);
+  private final GetTableByIdPort getTableByIdPort = mock(GetTableByIdPort.class);
+  private final GetColumnsByTableIdPort getColumnsByTableIdPort = mock(GetColumnsByTableIdPort.class);
+  private final GetMemoCommentVersionPort getMemoCommentVersionPort = mock(GetMemoCommentVersionPort.class);
+  private final GetMemoCommentsBySchemaIdPort getMemoCommentsBySchemaIdPort = mock(
+      GetMemoCommentsBySchemaIdPort.class);
+
+  private SearchProjectService sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new SearchProjectService(
+        getSchemasByProjectIdPort,
+        findSchemaCollaborationStatePort,
+        getErdOperationsAfterRevisionPort,
+        getTablesBySchemaIdPort,
+        getColumnsBySchemaIdPort,
+        getTableByIdPort,
+        getColumnsByTableIdPort,
+        getMemoCommentVersionPort,
+        getMemoCommentsBySchemaIdPort,
+        new CaffeineSchemaSearchSegmentCacheAdapter(Duration.ofMinutes(10), 10_000),
+        new JsonCodec(new ObjectMapper()),
+        Clock.fixed(NOW, ZoneOffset.UTC));
+
+    given(getSchemasByProjectIdPort.findSchemasByProjectId(PROJECT_ID))
+        .willReturn(Flux.just(new Schema(SCHEMA_ID, PROJECT_ID, "commerce", "utf8mb4", "utf8mb4_general_ci")));
+    given(getMemoCommentVersionPort.findMemoCommentVersion(SCHEMA_ID))
+        .willReturn(Mono.just(new MemoCommentVersion(1, NOW.minusSeconds(60))));
+    given(getMemoCommentsBySchemaIdPort.findMemoCommentsBySchemaId(SCHEMA_ID))
+        .willReturn(Flux.just(new MemoComment("comment-1", "memo-1", "user-1",
+            "customer_id should be indexed", NOW, NOW, null)));
+    given(getTablesBySchemaIdPort.findTablesBySchemaId(SCHEMA_ID))
+        .willReturn(Flux.just(table("table-orders", "orders"), table("table-users", "users")));
+    given(getColumnsBySchemaIdPort.findColumnsBySchemaId(SCHEMA_ID))
+        .willReturn(Mono.just(List.of(
+            column("col-order-customer", "table-orders", "customer_id"),
+            column("col-user-id", "table-users", "id"))));
+  }
+
+  @Test
+  @DisplayName("테이블, 컬럼, 메모 댓글을 정확히 일치하는 결과부터 반환한다")
+  void ranksExactMatchesFirst() {
+    givenRevision(1L);
+
+    StepVerifier.create(sut.searchProject(new SearchProjectQuery(PROJECT_ID, "customer_id", 20)))
+        .assertNext(hits -> {
+          assertThat(hits).extracting(SearchHit::type)
+              .containsExactly(SearchHitType.COLUMN, SearchHitType.MEMO_COMMENT);
+          assertThat(hits.get(0).label()).isEqualTo("orders.customer_id");
+          assertThat(hits.get(0).field()).isEqualTo(SearchField.NAME);
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("revision이 앞서면 operation log의 영향받은 테이블만 다시 색인한다")
+  void reindexesOnlyAffectedTablesFromOperationLog() {
+    givenRevision(1L);
+    sut.searchProject(new SearchProjectQuery(PROJECT_ID, "customer", 20)).block();
+
+    givenRevision(2L);
+    given(getErdOperationsAfterRevisionPort.findOperationsBySchemaIdAfterRevision(SCHEMA_ID, 1L, 1))
+        .willReturn(Mono.just(List.of(operation(2L, "[\"table-orders\"]"))));
+    given(getTableByIdPort.findTableById("table-orders"))
+        .willReturn(Mono.just(table("table-orders", "orders")));
+    given(getColumnsByTableIdPort.findColumnsByTableId("table-orders"))
+        .willReturn(Mono.just(List.of(column("col-order-customer", "table-orders", "buyer_id"))));
+
+    StepVerifier.create(sut.searchProject(new SearchProjectQuery(PROJECT_ID, "buyer", 20)))
+        .assertNext(hits -> assertThat(hits).extracting(SearchHit::label)
+            .containsExactly("orders.buyer_id"))
+        .verifyComplete();
+
+    then(getTablesBySchemaIdPort).should(times(1)).findTablesBySchemaId(SCHEMA_ID);
+    then(getColumnsByTableIdPort).should(never()).findColumnsByTableId("table-users");
+    then(getMemoCommentsBySchemaIdPort).should(times(1)).findMemoCommentsBySchemaId(SCHEMA_ID);
+  }
+
+  @Test
+  @DisplayName("operation log에 빈 revision이 있으면 스키마 전체를 다시 색인한다")
+  void rebuildsWhenOperationLogHasGap() {
+    givenRevision(1L);
+    sut.searchProject(new SearchProjectQuery(PROJECT_ID, "customer", 20)).block();
+
+    givenRevision(3L);
+    given(getErdOperationsAfterRevisionPort.findOperationsBySchemaIdAfterRevision(SCHEMA_ID, 1L, 2))
+        .willReturn(Mono.just(List.of(operation(3L, "[\"table-orders\"]"))));
+
+    StepVerifier.create(sut.searchProject(new SearchProjectQuery(PROJECT_ID, "customer", 20)))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    then(getTablesBySchemaIdPort).should(times(2)).findTablesBySchemaId(SCHEMA_ID);
+    then(getTableByIdPort).should(never()).findTableById(anyString());
+  }
+
+  @Test
+  @DisplayName("밀린 revision이 catch-up 한도를 넘으면 operation log를 읽지 않고 스키마 전체를 다시 색인한다")
+  void rebuildsWithoutReadingOperationLogWhenTooFarBehind() {
+    givenRevision(1L);
+    sut.searchProject(new SearchProjectQuery(PROJECT_ID, "customer", 20)).block();
+
+    givenRevision(2L + SearchProjectService.MAX_CATCH_UP_OPERATIONS);
+
+    StepVerifier.create(sut.searchProject(new SearchProjectQuery(PROJECT_ID, "customer", 20)))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    then(getTablesBySchemaIdPort).should(times(2)).findTablesBySchemaId(SCHEMA_ID);
+    then(getErdOperationsAfterRevisionPort).shouldHaveNoInteractions();
+  }
+
+  private void givenRevision(long revision) {
+    given(findSchemaCollaborationStatePort.findBySchemaId(SCHEMA_ID))
+        .willReturn(Mono.just(new SchemaCollaborationState(SCHEMA_ID, PROJECT_ID, revision, NOW, NOW)));
+  }
+
+  private static Table table(String id, String name) {
+    return new Table(id, SCHEMA_ID, name, "utf8mb4", "utf8mb4_general_ci");
+  }
+
+  private static Column column(String id, String tableId, String name) {
+    return new Column(id, tableId, name, "BIGINT", null, 1, false, null, null, null);
+  }
+
+  private static ErdOperationLog operation(long revision, String affectedTableIdsJson) {
+    return new ErdOperationLog("op-" + revision, PROJECT_ID, SCHEMA_ID, ErdOperationType.CHANGE_COLUMN_NAME,
+        revision, null, null, null, "user-1", ErdOperationDerivationKind.ORIGINAL, null,
+        ErdOperationLifecycleState.COMMITTED, "{}", null, affectedTableIdsJson);
+  }
+
+}
@@ -0,0 +1,88 @@
+package com.schemafy.core.erd.search.domain;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SchemaSearchSegment")
+class SchemaSearchSegmentTest {
+
+  @Test
+  @DisplayName("대소문자와 무관하게 부분 문자열로 검색한다")
+  void searchesCaseInsensitiveSubstrings() {
+    SearchHit customerId = column("col-1", "orders.customer_id", SearchField.NAME, "customer_id");
+    SearchHit customerName = column("col-2", "customers.name", SearchField.COMMENT, "Customer display name");
+    SchemaSearchSegment segment = SchemaSearchSegment.build("schema-1", 3L, Map.of(
+        "table-orders", List.of(customerId),
+        "table-customers", List.of(customerName)));
+
+    assertThat(segment.search(List.of("customer"))).containsExactlyInAnyOrder(customerId, customerName);
+    assertThat(segment.search(List.of("customer", "_id"))).containsExactly(customerId);
+    assertThat(segment.search(List.of("id"))).containsExactly(customerId);
+    assertThat(segment.search(List.of("invoice"))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("advance는 테이블 문서를 교체하고 빈 목록이면 테이블을 제거한다")
+  void advanceReplacesAndRemovesTables() {
+    SearchHit oldName = column("col-1", "orders.customer_id", SearchField.NAME, "customer_id");
+    SearchHit archived = column("col-2", "archive.customer_ref", SearchField.NAME, "customer_ref");
+    SchemaSearchSegment segment = SchemaSearchSegment.build("schema-1", 3L, Map.of(
+        "table-orders", List.of(oldName),
+        "table-archive", List.of(archived)));
+    SearchHit renamed = column("col-1", "orders.buyer_id", SearchField.NAME, "buyer_id");
+
+    boolean advanced = segment.advance(3L, 5L, Map.of(
+        "table-orders", List.of(renamed),
+        "table-archive", List.of()));
+
+    assertThat(advanced).isTrue();
+    assertThat(segment.revision()).isEqualTo(5L);
+    assertThat(segment.search(List.of("customer"))).isEmpty();
+    assertThat(segment.search(List.of("buyer"))).containsExactly(renamed);
+    assertThat(segment.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("이미 다른 요청이 앞선 revision으로 진행시켰다면 advance를 무시한다")
+  void ignoresStaleAdvance() {
+    SearchHit hit = column("col-1", "orders.customer_id", SearchField.NAME, "customer_id");
+    SchemaSearchSegment segment = SchemaSearchSegment.build("schema-1", 5L, Map.of(
+        "table-orders", List.of(hit)));
+
+    boolean advanced = segment.advance(3L, 4L, Map.of("table-orders", List.of()));
+
+    assertThat(advanced).isFalse();
+    assertThat(segment.revision()).isEqualTo(5L);
+    assertThat(segment.search(List.of("customer"))).containsExactly(hit);
+  }
+
+  @Test
+  @DisplayName("메모 댓글 문서는 버전과 함께 통째로 교체된다")
+  void replacesMemoComments() {
+    SchemaSearchSegment segment = SchemaSearchSegment.build("schema-1", 0L, Map.of());
+    SearchHit first = memoComment("comment-1", "Check customer retention");
+    SearchHit second = memoComment("comment-2", "Add invoice table");
+
+    segment.replaceMemoComments("1:1000", List.of(first));
+    segment.replaceMemoComments("1:2000", List.of(second));
+
+    assertThat(segment.memoCommentVersion()).isEqualTo("1:2000");
+    assertThat(segment.search(List.of("customer"))).isEmpty();
+    assertThat(segment.search(List.of("invoice"))).containsExactly(second);
+  }
+
+  private static SearchHit column(String id, String label, SearchField field, String text) {
+    return new SearchHit(SearchHitType.COLUMN, id, "schema-1", "table-1", null, label, field, text);
+  }
+
+  private static SearchHit memoComment(String id, String body) {
+    return new SearchHit(SearchHitType.MEMO_COMMENT, id, "schema-1", null, "memo-1", null,
+        SearchField.BODY, body);
+  }
+
+}
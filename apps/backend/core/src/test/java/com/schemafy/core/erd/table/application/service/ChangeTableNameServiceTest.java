@@ -2,8 +2,6 @@ package com.schemafy.core.erd.table.application.service;
 
 import java.util.List;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -77,9 +75,6 @@ class ChangeTableNameServiceTest {
   @Mock
   RelationshipExistsPort relationshipExistsPort;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   IdentifierCapabilityResolver identifierCapabilityResolver;
 
@@ -87,9 +82,7 @@ class ChangeTableNameServiceTest {
   ChangeTableNameService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     given(identifierCapabilityResolver.resolve(any(), any()))
         .willReturn(Mono.just(DbVendorFixture.defaultCapabilities().identifiers()));
   }
@@ -1,7 +1,5 @@
 package com.schemafy.core.erd.table.application.service;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -55,9 +53,6 @@ class CreateTableServiceTest {
   @Mock
   GetSchemaByIdPort getSchemaByIdPort;
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   StructuralSnapshotService structuralSnapshotService;
 
@@ -72,9 +67,7 @@ class CreateTableServiceTest {
   CreateTableService sut;
 
   @BeforeEach
-  void setUpTransaction() {
-    given(transactionalOperator.transactional(any(Mono.class)))
-        .willAnswer(invocation -> invocation.getArgument(0));
+  void setUp() {
     stubEmptySnapshots(structuralSnapshotService);
     given(identifierCapabilityResolver.resolve(any(), any()))
         .willReturn(Mono.just(DbVendorFixture.defaultCapabilities().identifiers()));
@@ -3,8 +3,6 @@ package com.schemafy.core.erd.table.application.service;
 import java.util.List;
 import java.util.Set;
 
-import org.springframework.transaction.reactive.TransactionalOperator;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -50,9 +48,6 @@ import static org.mockito.Mockito.never;
 @DisplayName("DeleteTableService")
 class DeleteTableServiceTest {
 
-  @Mock
-  TransactionalOperator transactionalOperator;
-
   @Mock
   DeleteTablePort deleteTablePort;
 
@@ -109,8 +104,6 @@ class DeleteTableServiceTest {
             .willReturn(Mono.empty());
         given(deleteTablePort.deleteTable(any()))
             .willReturn(Mono.empty());
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteTable(command))
             .expectNextCount(1)
@@ -147,8 +140,6 @@ class DeleteTableServiceTest {
             .willReturn(Mono.just(List.of()));
         given(deleteTablePort.deleteTable(any()))
             .willReturn(Mono.empty());
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteTable(command))
             .expectNextCount(1)
@@ -172,8 +163,6 @@ class DeleteTableServiceTest {
             .willReturn(Mono.just(List.of()));
         given(deleteTablePort.deleteTable(any()))
             .willReturn(Mono.empty());
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(NestedErdMutations.run(sut.deleteTable(command)))
             .expectNextCount(1)
@@ -205,8 +194,6 @@ class DeleteTableServiceTest {
             .willReturn(Mono.empty());
         given(deleteTablePort.deleteTable(any()))
             .willReturn(Mono.empty());
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteTable(command))
             .expectNextCount(1)
@@ -258,8 +245,6 @@ class DeleteTableServiceTest {
             .willReturn(Mono.empty());
         given(deleteTablePort.deleteTable(command.tableId()))
             .willReturn(Mono.empty());
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteTable(command))
             .assertNext(result -> {
@@ -302,8 +287,6 @@ class DeleteTableServiceTest {
             .willReturn(Mono.error(new DomainException(
                 RelationshipErrorCode.INVALID_VALUE,
                 "Unexpected relationship deletion failure")));
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteTable(command))
             .expectErrorMatches(DomainException.hasErrorCode(RelationshipErrorCode.INVALID_VALUE))
@@ -325,8 +308,6 @@ class DeleteTableServiceTest {
             .thenReturn(Mono.just(List.of()));
         lenient().when(getColumnsByTableIdPort.findColumnsByTableId(anyString()))
             .thenReturn(Mono.just(List.of()));
-        given(transactionalOperator.transactional(any(Mono.class)))
-            .willAnswer(invocation -> invocation.getArgument(0));
 
         StepVerifier.create(sut.deleteTable(command))
             .expectErrorMatches(DomainException.hasErrorCode(TableErrorCode.NOT_FOUND))
@@ -0,0 +1,90 @@
+package com.schemafy.core.erd.viewport.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SpatialGridIndex")
+class SpatialGridIndexTest {
+
+  private static final double TILE_SIZE = 100;
+
+  @Test
+  @DisplayName("조회 영역과 겹치는 항목만 반환한다")
+  void returnsOnlyIntersectingItems() {
+    ViewportItem inside = table("inside", 10, 10, 50, 50);
+    ViewportItem crossing = table("crossing", 180, 180, 50, 50);
+    ViewportItem outside = table("outside", 500, 500, 50, 50);
+    SpatialGridIndex index = SpatialGridIndex.build(
+        List.of(inside, crossing, outside), TILE_SIZE);
+
+    List<ViewportItem> result = index.query(new CanvasBounds(0, 0, 200, 200));
+
+    assertThat(result).containsExactly(inside, crossing);
+  }
+
+  @Test
+  @DisplayName("여러 타일에 걸친 항목은 한 번만 반환한다")
+  void returnsSpanningItemOnce() {
+    ViewportItem wide = table("wide", 50, 50, 350, 250);
+    SpatialGridIndex index = SpatialGridIndex.build(List.of(wide), TILE_SIZE);
+
+    List<ViewportItem> result = index.query(new CanvasBounds(0, 0, 400, 400));
+
+    assertThat(result).containsExactly(wide);
+  }
+
+  @Test
+  @DisplayName("음수 좌표의 항목도 조회된다")
+  void findsItemsAtNegativeCoordinates() {
+    ViewportItem negative = table("negative", -250, -120, 40, 40);
+    SpatialGridIndex index = SpatialGridIndex.build(List.of(negative), TILE_SIZE);
+
+    assertThat(index.query(new CanvasBounds(-300, -150, 100, 100)))
+        .containsExactly(negative);
+    assertThat(index.query(new CanvasBounds(0, 0, 100, 100))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("조회 영역이 없으면 전체 항목을 반환한다")
+  void returnsAllItemsWithoutArea() {
+    List<ViewportItem> items = List.of(
+        table("a", 0, 0, 10, 10),
+        table("b", 10_000, 10_000, 10, 10));
+    SpatialGridIndex index = SpatialGridIndex.build(items, TILE_SIZE);
+
+    assertThat(index.query(null)).containsExactlyElementsOf(items);
+  }
+
+  @Test
+  @DisplayName("매우 큰 조회 영역은 선형 탐색 결과와 같다")
+  void largeAreaMatchesLinearScan() {
+    List<ViewportItem> items = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      items.add(table("t" + i, i * 300, (i % 7) * 200, 100, 80));
+    }
+    SpatialGridIndex index = SpatialGridIndex.build(items, TILE_SIZE);
+    CanvasBounds area = new CanvasBounds(-1e9, -1e9, 2e9, 2e9);
+
+    assertThat(index.query(area)).containsExactlyElementsOf(items);
+  }
+
+  @Test
+  @DisplayName("타일 크기가 양수가 아니면 예외가 발생한다")
+  void throwsWhenTileSizeIsNotPositive() {
+    assertThatThrownBy(() -> SpatialGridIndex.build(List.of(), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static ViewportItem table(String id, double x, double y,
+      double width, double height) {
+    return new ViewportItem(id, ViewportItemType.TABLE, id,
+        new CanvasBounds(x, y, width, height));
+  }
+
+}
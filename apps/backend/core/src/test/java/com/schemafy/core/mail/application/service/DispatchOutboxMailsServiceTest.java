@@ -0,0 +1,185 @@
+package com.schemafy.core.mail.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.core.mail.application.port.in.DispatchOutboxMailsCommand;
+import com.schemafy.core.mail.application.port.out.ClaimDueOutboxMailsPort;
+import com.schemafy.core.mail.application.port.out.DeliverMailsPort;
+import com.schemafy.core.mail.application.port.out.MailDomainRateLimitPort;
+import com.schemafy.core.mail.application.port.out.UpdateOutboxMailPort;
+import com.schemafy.core.mail.domain.MailDeliveryResult;
+import com.schemafy.core.mail.domain.MailOutboxPolicy;
+import com.schemafy.core.mail.domain.OutboxMail;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("DispatchOutboxMailsService")
+class DispatchOutboxMailsServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final ClaimDueOutboxMailsPort claimDueOutboxMailsPort = mock(ClaimDueOutboxMailsPort.class);
+  private final UpdateOutboxMailPort updateOutboxMailPort = mock(UpdateOutboxMailPort.class);
+  private final DeliverMailsPort deliverMailsPort = mock(DeliverMailsPort.class);
+  private final MailDomainRateLimitPort mailDomainRateLimitPort = mock(MailDomainRateLimitPort.class);
+
+  private DispatchOutboxMailsService sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new DispatchOutboxMailsService(
+        claimDueOutboxMailsPort,
+        updateOutboxMailPort,
+        deliverMailsPort,
+        mailDomainRateLimitPort,
+        Clock.fixed(NOW, ZoneOffset.UTC));
+    given(mailDomainRateLimitPort.tryAcquire(anyString())).willReturn(true);
+    given(updateOutboxMailPort.deleteOutboxMail(anyString())).willReturn(Mono.empty());
+    given(updateOutboxMailPort.rescheduleOutboxMail(anyString(), anyInt(), any(), any()))
+        .willReturn(Mono.empty());
+    given(updateOutboxMailPort.markOutboxMailFailed(anyString(), anyInt(), any()))
+        .willReturn(Mono.empty());
+  }
+
+  @Test
+  @DisplayName("발송된 메일은 outbox에서 지우고 일시 실패는 지수 backoff로 다시 예약한다")
+  void deletesDeliveredAndBacksOffRetryable() {
+    OutboxMail delivered = mail("mail-1", "a@example.com");
+    OutboxMail retryable = mail("mail-2", "b@example.com");
+    givenClaimed(delivered, retryable);
+    given(deliverMailsPort.deliverMails(List.of(delivered, retryable)))
+        .willReturn(Mono.just(List.of(
+            MailDeliveryResult.delivered("mail-1"),
+            MailDeliveryResult.retryable("mail-2", "421 try again later"))));
+
+    StepVerifier.create(sut.dispatchOutboxMails(new DispatchOutboxMailsCommand(10)))
+        .expectNext(1L)
+        .verifyComplete();
+
+    then(updateOutboxMailPort).should().deleteOutboxMail("mail-1");
+    then(updateOutboxMailPort).should().rescheduleOutboxMail(
+        "mail-2", 1, NOW.plus(MailOutboxPolicy.INITIAL_BACKOFF), "421 try again later");
+  }
+
+  @Test
+  @DisplayName("거절되거나 최대 시도 횟수에 도달한 메일은 실패로 표시한다")
+  void marksRejectedAndExhaustedMailsFailed() {
+    OutboxMail rejected = mail("mail-1", "a@example.com");
+    OutboxMail exhausted = mail("mail-2", "b@example.com", MailOutboxPolicy.MAX_ATTEMPTS - 1);
+    givenClaimed(rejected, exhausted);
+    given(deliverMailsPort.deliverMails(List.of(rejected, exhausted)))
+        .willReturn(Mono.just(List.of(
+            MailDeliveryResult.rejected("mail-1", "550 no such user"),
+            MailDeliveryResult.retryable("mail-2", "timeout"))));
+
+    StepVerifier.create(sut.dispatchOutboxMails(new DispatchOutboxMailsCommand(10)))
+        .expectNext(0L)
+        .verifyComplete();
+
+    then(updateOutboxMailPort).should().markOutboxMailFailed("mail-1", 1, "550 no such user");
+    then(updateOutboxMailPort).should()
+        .markOutboxMailFailed("mail-2", MailOutboxPolicy.MAX_ATTEMPTS, "timeout");
+    then(updateOutboxMailPort).should(never())
+        .rescheduleOutboxMail(anyString(), anyInt(), any(), any());
+  }
+
+  @Test
+  @DisplayName("도메인 발송 한도를 넘은 메일은 시도 횟수를 늘리지 않고 미룬다")
+  void defersThrottledDomainsWithoutCountingAttempt() {
+    OutboxMail sendable = mail("mail-1", "a@example.com");
+    OutboxMail throttled = mail("mail-2", "b@busy.example");
+    givenClaimed(sendable, throttled);
+    given(mailDomainRateLimitPort.tryAcquire("busy.example")).willReturn(false);
+    given(deliverMailsPort.deliverMails(List.of(sendable)))
+        .willReturn(Mono.just(List.of(MailDeliveryResult.delivered("mail-1"))));
+
+    StepVerifier.create(sut.dispatchOutboxMails(new DispatchOutboxMailsCommand(10)))
+        .expectNext(1L)
+        .verifyComplete();
+
+    then(updateOutboxMailPort).should().rescheduleOutboxMail(
+        eq("mail-2"), eq(0), eq(NOW.plus(MailOutboxPolicy.RATE_LIMIT_DEFERRAL)), any());
+  }
+
+  @Test
+  @DisplayName("만료된 메일은 발송하지 않고 시도 횟수를 늘리지 않은 채 실패로 표시한다")
+  void dropsExpiredMailsWithoutSending() {
+    OutboxMail sendable = mail("mail-1", "a@example.com");
+    OutboxMail expired = OutboxMail.enqueue("mail-2", "b@expired.example", "subject", "text", "<p>html</p>",
+        NOW.minusSeconds(1), NOW.minusSeconds(600));
+    givenClaimed(sendable, expired);
+    given(deliverMailsPort.deliverMails(List.of(sendable)))
+        .willReturn(Mono.just(List.of(MailDeliveryResult.delivered("mail-1"))));
+
+    StepVerifier.create(sut.dispatchOutboxMails(new DispatchOutboxMailsCommand(10)))
+        .expectNext(1L)
+        .verifyComplete();
+
+    then(updateOutboxMailPort).should().markOutboxMailFailed("mail-2", 0, MailOutboxPolicy.EXPIRED_ERROR);
+    then(mailDomainRateLimitPort).should(never()).tryAcquire("expired.example");
+  }
+
+  @Test
+  @DisplayName("다음 시도 전에 만료되는 메일은 다시 예약하지 않고 실패로 표시한다")
+  void stopsRetryingMailThatExpiresBeforeNextAttempt() {
+    OutboxMail expiring = OutboxMail.enqueue("mail-1", "a@example.com", "subject", "text", "<p>html</p>",
+        NOW.plusSeconds(10), NOW.minusSeconds(60));
+    givenClaimed(expiring);
+    given(deliverMailsPort.deliverMails(List.of(expiring)))
+        .willReturn(Mono.just(List.of(MailDeliveryResult.retryable("mail-1", "421 try again later"))));
+
+    StepVerifier.create(sut.dispatchOutboxMails(new DispatchOutboxMailsCommand(10)))
+        .expectNext(0L)
+        .verifyComplete();
+
+    then(updateOutboxMailPort).should().markOutboxMailFailed("mail-1", 1, MailOutboxPolicy.EXPIRED_ERROR);
+    then(updateOutboxMailPort).should(never())
+        .rescheduleOutboxMail(anyString(), anyInt(), any(), any());
+  }
+
+  @Test
+  @DisplayName("backoff는 최대 대기 시간을 넘지 않는다")
+  void backoffIsCapped() {
+    assertThat(MailOutboxPolicy.backoff(1)).isEqualTo(MailOutboxPolicy.INITIAL_BACKOFF);
+    assertThat(MailOutboxPolicy.backoff(2)).isEqualTo(MailOutboxPolicy.INITIAL_BACKOFF.multipliedBy(2));
+    assertThat(MailOutboxPolicy.backoff(30)).isEqualTo(MailOutboxPolicy.MAX_BACKOFF);
+  }
+
+  private void givenClaimed(OutboxMail... mails) {
+    given(claimDueOutboxMailsPort.claimDueOutboxMails(
+        NOW, 10, NOW.plus(MailOutboxPolicy.CLAIM_LEASE)))
+        .willReturn(Mono.just(List.of(mails)));
+  }
+
+  private static OutboxMail mail(String id, String recipient) {
+    return OutboxMail.enqueue(id, recipient, "subject", "text", "<p>html</p>", null, NOW);
+  }
+
+  private static OutboxMail mail(String id, String recipient, int attempts) {
+    OutboxMail mail = mock(OutboxMail.class);
+    given(mail.getId()).willReturn(id);
+    given(mail.getRecipient()).willReturn(recipient);
+    given(mail.getRecipientDomain()).willReturn(recipient.substring(recipient.indexOf('@') + 1));
+    given(mail.getAttempts()).willReturn(attempts);
+    return mail;
+  }
+
+}
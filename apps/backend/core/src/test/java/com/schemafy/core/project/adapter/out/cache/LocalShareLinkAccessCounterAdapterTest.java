@@ -0,0 +1,55 @@
+package com.schemafy.core.project.adapter.out.cache;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.core.project.domain.ShareLinkAccessDelta;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalShareLinkAccessCounterAdapter")
+class LocalShareLinkAccessCounterAdapterTest {
+
+  private final LocalShareLinkAccessCounterAdapter sut = new LocalShareLinkAccessCounterAdapter();
+
+  @Test
+  @DisplayName("drain: 링크별 접근 횟수와 마지막 접근 시각을 합산해 비운다")
+  void drainMergesAccessesPerShareLink() {
+    Instant first = Instant.parse("2026-01-01T00:00:00Z");
+    Instant latest = first.plusSeconds(30);
+
+    sut.record("link-1", latest).block();
+    sut.record("link-1", first).block();
+    sut.record("link-2", first).block();
+
+    StepVerifier.create(sut.drain())
+        .assertNext(drain -> assertThat(drain.deltas())
+            .containsExactlyInAnyOrder(
+                new ShareLinkAccessDelta("link-1", 2L, latest),
+                new ShareLinkAccessDelta("link-2", 1L, first)))
+        .verifyComplete();
+
+    StepVerifier.create(sut.drain())
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("restore: 플러시에 실패한 접근 횟수를 다음 drain에 다시 포함한다")
+  void restoreRequeuesDelta() {
+    Instant accessedAt = Instant.parse("2026-01-01T00:00:00Z");
+
+    sut.restore(new ShareLinkAccessDelta("link-1", 5L, accessedAt)).block();
+    sut.record("link-1", accessedAt.plusSeconds(1)).block();
+
+    StepVerifier.create(sut.drain())
+        .assertNext(drain -> assertThat(drain.deltas())
+            .containsExactly(new ShareLinkAccessDelta("link-1", 6L,
+                accessedAt.plusSeconds(1))))
+        .verifyComplete();
+  }
+
+}
@@ -0,0 +1,81 @@
+package com.schemafy.core.project.adapter.out.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.schemafy.core.project.domain.ShareLinkResolution;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisShareLinkResolutionEvictionRelay")
+class RedisShareLinkResolutionEvictionRelayTest {
+
+  private static final ShareLinkResolution RESOLUTION = new ShareLinkResolution("link-1", "project-1", null,
+      false);
+
+  @Mock
+  private ReactiveStringRedisTemplate redisTemplate;
+
+  @Mock
+  private ObjectProvider<RedisShareLinkResolutionEvictionRelay> evictionRelayProvider;
+
+  private CaffeineShareLinkResolutionCacheAdapter resolutionCache;
+  private RedisShareLinkResolutionEvictionRelay sut;
+
+  @BeforeEach
+  void setUp() {
+    resolutionCache = new CaffeineShareLinkResolutionCacheAdapter(Duration.ofSeconds(30), 100,
+        evictionRelayProvider);
+    sut = new RedisShareLinkResolutionEvictionRelay(redisTemplate, resolutionCache);
+  }
+
+  @Test
+  @DisplayName("evict: 로컬 캐시에서 지우고 다른 노드에 code를 발행한다")
+  void evictPublishesCodeToOtherNodes() {
+    given(evictionRelayProvider.getIfAvailable()).willReturn(sut);
+    given(redisTemplate.convertAndSend(RedisShareLinkResolutionEvictionRelay.CHANNEL, "code-1"))
+        .willReturn(Mono.just(1L));
+    resolutionCache.put("code-1", RESOLUTION).block();
+
+    StepVerifier.create(resolutionCache.evict("code-1")).verifyComplete();
+
+    StepVerifier.create(resolutionCache.get("code-1")).verifyComplete();
+    verify(redisTemplate).convertAndSend(RedisShareLinkResolutionEvictionRelay.CHANNEL, "code-1");
+  }
+
+  @Test
+  @DisplayName("다른 노드가 발행한 code를 받으면 로컬 캐시에서 지운다")
+  void evictsCodePublishedByOtherNode() {
+    Sinks.Many<ReactiveSubscription.Message<String, String>> messages = Sinks.many().unicast()
+        .onBackpressureBuffer();
+    doReturn(messages.asFlux()).when(redisTemplate).listenToChannel(RedisShareLinkResolutionEvictionRelay.CHANNEL);
+    sut.subscribe();
+    resolutionCache.put("code-1", RESOLUTION).block();
+    resolutionCache.put("code-2", RESOLUTION).block();
+
+    messages.tryEmitNext(new ReactiveSubscription.ChannelMessage<>(RedisShareLinkResolutionEvictionRelay.CHANNEL,
+        "code-1"));
+
+    StepVerifier.create(resolutionCache.get("code-1")).verifyComplete();
+    StepVerifier.create(resolutionCache.get("code-2")).expectNext(RESOLUTION).verifyComplete();
+    sut.unsubscribe();
+  }
+
+}
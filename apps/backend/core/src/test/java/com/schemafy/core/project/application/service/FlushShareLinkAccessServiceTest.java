@@ -0,0 +1,107 @@
+package com.schemafy.core.project.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.schemafy.core.project.application.port.out.ShareLinkAccessCounterPort;
+import com.schemafy.core.project.application.port.out.ShareLinkPort;
+import com.schemafy.core.project.domain.ShareLinkAccessDelta;
+import com.schemafy.core.project.domain.ShareLinkAccessDrain;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlushShareLinkAccessService")
+class FlushShareLinkAccessServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:10:00Z");
+  private static final ShareLinkAccessDelta LINK_1 = new ShareLinkAccessDelta("link-1", 3L, NOW);
+  private static final ShareLinkAccessDelta LINK_2 = new ShareLinkAccessDelta("link-2", 1L, NOW);
+
+  @Mock
+  ShareLinkAccessCounterPort shareLinkAccessCounterPort;
+
+  @Mock
+  ShareLinkPort shareLinkPort;
+
+  FlushShareLinkAccessService sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new FlushShareLinkAccessService(shareLinkAccessCounterPort, shareLinkPort,
+        Clock.fixed(NOW, ZoneOffset.UTC));
+    given(shareLinkAccessCounterPort.reclaimStaleDrains(NOW.minus(FlushShareLinkAccessService.STALE_DRAIN_AGE)))
+        .willReturn(Flux.empty());
+  }
+
+  @Test
+  @DisplayName("모든 접근 횟수를 저장한 뒤에만 drain을 확인 처리한다")
+  void acksDrainAfterEveryDeltaIsStored() {
+    given(shareLinkAccessCounterPort.drain())
+        .willReturn(Mono.just(new ShareLinkAccessDrain("drain-1", List.of(LINK_1, LINK_2))));
+    given(shareLinkPort.addAccessCount("link-1", 3L, NOW)).willReturn(Mono.empty());
+    given(shareLinkPort.addAccessCount("link-2", 1L, NOW)).willReturn(Mono.empty());
+    given(shareLinkAccessCounterPort.ack("drain-1")).willReturn(Mono.empty());
+
+    StepVerifier.create(sut.flushAccessCounts())
+        .expectNext(2L)
+        .verifyComplete();
+
+    InOrder inOrder = inOrder(shareLinkPort, shareLinkAccessCounterPort);
+    inOrder.verify(shareLinkPort).addAccessCount("link-1", 3L, NOW);
+    inOrder.verify(shareLinkPort).addAccessCount("link-2", 1L, NOW);
+    inOrder.verify(shareLinkAccessCounterPort).ack("drain-1");
+  }
+
+  @Test
+  @DisplayName("저장에 실패한 접근 횟수를 되돌리지 못하면 drain을 남겨 나중에 다시 처리한다")
+  void keepsDrainWhenRestoreFails() {
+    given(shareLinkAccessCounterPort.drain())
+        .willReturn(Mono.just(new ShareLinkAccessDrain("drain-1", List.of(LINK_1))));
+    given(shareLinkPort.addAccessCount("link-1", 3L, NOW))
+        .willReturn(Mono.error(new IllegalStateException("db down")));
+    given(shareLinkAccessCounterPort.restore(LINK_1))
+        .willReturn(Mono.error(new IllegalStateException("redis down")));
+
+    StepVerifier.create(sut.flushAccessCounts())
+        .expectError(IllegalStateException.class)
+        .verify();
+
+    then(shareLinkAccessCounterPort).should(never()).ack(anyString());
+  }
+
+  @Test
+  @DisplayName("확인되지 않은 오래된 drain을 먼저 가져와 저장한다")
+  void flushesReclaimedStaleDrains() {
+    given(shareLinkAccessCounterPort.reclaimStaleDrains(NOW.minus(FlushShareLinkAccessService.STALE_DRAIN_AGE)))
+        .willReturn(Flux.just(new ShareLinkAccessDrain("drain-stale", List.of(LINK_1))));
+    given(shareLinkAccessCounterPort.drain()).willReturn(Mono.empty());
+    given(shareLinkPort.addAccessCount("link-1", 3L, NOW)).willReturn(Mono.empty());
+    given(shareLinkAccessCounterPort.ack("drain-stale")).willReturn(Mono.empty());
+
+    StepVerifier.create(sut.flushAccessCounts())
+        .expectNext(1L)
+        .verifyComplete();
+
+    then(shareLinkAccessCounterPort).should().ack("drain-stale");
+  }
+
+}
@@ -1,5 +1,9 @@
 package com.schemafy.core.project.integration;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.junit.jupiter.api.DisplayName;
@@ -11,15 +15,19 @@ import com.schemafy.core.project.application.port.in.CreateProjectCommand;
 import com.schemafy.core.project.application.port.in.CreateProjectUseCase;
 import com.schemafy.core.project.application.port.in.DeleteProjectCommand;
 import com.schemafy.core.project.application.port.in.DeleteProjectUseCase;
+import com.schemafy.core.project.application.port.in.GetMySharedProjectsCursorQuery;
 import com.schemafy.core.project.application.port.in.GetMySharedProjectsQuery;
 import com.schemafy.core.project.application.port.in.GetMySharedProjectsUseCase;
+import com.schemafy.core.project.application.port.in.GetProjectMembersCursorQuery;
 import com.schemafy.core.project.application.port.in.GetProjectMembersQuery;
 import com.schemafy.core.project.application.port.in.GetProjectMembersUseCase;
 import com.schemafy.core.project.application.port.in.GetProjectQuery;
 import com.schemafy.core.project.application.port.in.GetProjectUseCase;
+import com.schemafy.core.project.application.port.in.GetProjectsCursorQuery;
 import com.schemafy.core.project.application.port.in.LeaveProjectCommand;
 import com.schemafy.core.project.application.port.in.LeaveProjectUseCase;
 import com.schemafy.core.project.application.port.in.ProjectDetail;
+import com.schemafy.core.project.application.port.in.ProjectSummary;
 import com.schemafy.core.project.application.port.in.RemoveProjectMemberCommand;
 import com.schemafy.core.project.application.port.in.RemoveProjectMemberUseCase;
 import com.schemafy.core.project.application.port.in.UpdateProjectCommand;
@@ -37,6 +45,7 @@ import com.schemafy.core.user.domain.User;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("프로젝트 유스케이스 통합 테스트")
 class ProjectUseCaseIntegrationTest extends ProjectDomainIntegrationSupport {
@@ -611,6 +620,86 @@ class ProjectUseCaseIntegrationTest extends ProjectDomainIntegrationSupport {
     assertThat(result.totalElements()).isEqualTo(2);
   }
 
+  @Test
+  @DisplayName("shared 프로젝트 커서 조회는 id 역순으로 다음 페이지를 이어서 반환한다")
+  void getMySharedProjectsByCursor_pagesByKeyset() {
+    User requester = signUpUser("shared-cursor-requester@test.com", "Requester");
+    User owner = signUpUser("shared-cursor-owner@test.com", "Owner");
+
+    Workspace workspace = saveWorkspace("Shared Cursor WS", "Description");
+    saveWorkspaceMember(workspace, owner, WorkspaceRole.ADMIN);
+    List<String> expectedIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      var project = saveProject(workspace, "Shared Cursor Project " + i);
+      saveProjectMember(project, owner, ProjectRole.ADMIN);
+      saveProjectMember(project, requester, ProjectRole.EDITOR);
+      expectedIds.add(project.getId());
+    }
+    expectedIds.sort(Comparator.reverseOrder());
+
+    var firstPage = getMySharedProjectsUseCase.getMySharedProjectsByCursor(
+        new GetMySharedProjectsCursorQuery(requester.id(), null, 2)).block();
+
+    assertThat(firstPage.content())
+        .extracting(summary -> summary.project().getId())
+        .containsExactly(expectedIds.get(0), expectedIds.get(1));
+    assertThat(firstPage.content())
+        .extracting(ProjectSummary::role)
+        .containsOnly(ProjectRole.EDITOR);
+    assertThat(firstPage.hasNext()).isTrue();
+    assertThat(firstPage.nextCursorId()).isEqualTo(expectedIds.get(1));
+
+    var secondPage = getMySharedProjectsUseCase.getMySharedProjectsByCursor(
+        new GetMySharedProjectsCursorQuery(requester.id(),
+            firstPage.nextCursorId().toLowerCase(), 2)).block();
+
+    assertThat(secondPage.content())
+        .extracting(summary -> summary.project().getId())
+        .containsExactly(expectedIds.get(2));
+    assertThat(secondPage.hasNext()).isFalse();
+    assertThat(secondPage.nextCursorId()).isNull();
+  }
+
+  @Test
+  @DisplayName("프로젝트 멤버 커서 조회는 삭제된 멤버를 제외하고 id 순으로 반환한다")
+  void getProjectMembersByCursor_pagesByKeyset() {
+    User admin = signUpUser("cursor-member-admin@test.com", "Admin");
+    User viewer = signUpUser("cursor-member-viewer@test.com", "Viewer");
+    User removed = signUpUser("cursor-member-removed@test.com", "Removed");
+    Workspace workspace = saveWorkspace("Cursor Member WS", "Description");
+    var project = saveProject(workspace, "Cursor Member Project");
+    var adminMember = saveProjectMember(project, admin, ProjectRole.ADMIN);
+    var viewerMember = saveProjectMember(project, viewer, ProjectRole.VIEWER);
+    var removedMember = saveProjectMember(project, removed, ProjectRole.EDITOR);
+    softDeleteProjectMember(removedMember.getId());
+    List<String> expectedIds = new ArrayList<>(List.of(adminMember.getId(),
+        viewerMember.getId()));
+    expectedIds.sort(Comparator.naturalOrder());
+
+    var firstPage = getProjectMembersUseCase.getProjectMembersByCursor(
+        new GetProjectMembersCursorQuery(project.getId(), admin.id(), null, 1))
+        .block();
+    var secondPage = getProjectMembersUseCase.getProjectMembersByCursor(
+        new GetProjectMembersCursorQuery(project.getId(), admin.id(),
+            firstPage.nextCursorId(), 1))
+        .block();
+
+    assertThat(firstPage.content()).extracting(ProjectMember::getId)
+        .containsExactly(expectedIds.get(0));
+    assertThat(firstPage.hasNext()).isTrue();
+    assertThat(secondPage.content()).extracting(ProjectMember::getId)
+        .containsExactly(expectedIds.get(1));
+    assertThat(secondPage.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("커서 id가 ULID 형식이 아니면 쿼리 생성이 거부된다")
+  void getProjectsCursorQuery_rejectsInvalidCursor() {
+    assertThatThrownBy(() -> new GetProjectsCursorQuery("workspace", "user",
+        "not-a-ulid", 5))
+        .isInstanceOf(DomainException.class);
+  }
+
   @Test
   @DisplayName("해당 워크스페이스의 active MEMBER면 shared 프로젝트에서 제외된다")
   void getMySharedProjects_excludesWorkspaceMember() {
@@ -16,6 +16,7 @@ import com.schemafy.core.project.application.port.in.CreateShareLinkCommand;
 import com.schemafy.core.project.application.port.in.CreateShareLinkUseCase;
 import com.schemafy.core.project.application.port.in.DeleteShareLinkCommand;
 import com.schemafy.core.project.application.port.in.DeleteShareLinkUseCase;
+import com.schemafy.core.project.application.port.in.FlushShareLinkAccessUseCase;
 import com.schemafy.core.project.application.port.in.GetShareLinkQuery;
 import com.schemafy.core.project.application.port.in.GetShareLinkUseCase;
 import com.schemafy.core.project.application.port.in.GetShareLinksQuery;
@@ -55,6 +56,9 @@ class ShareLinkUseCaseIntegrationTest extends ProjectDomainIntegrationSupport {
   @Autowired
   private DeleteShareLinkUseCase deleteShareLinkUseCase;
 
+  @Autowired
+  private FlushShareLinkAccessUseCase flushShareLinkAccessUseCase;
+
   @Test
   @DisplayName("프로젝트 관리자는 공유 링크를 생성, 단건 조회, 목록 조회할 수 있다")
   void createGetAndListShareLinks() {
@@ -134,7 +138,7 @@ class ShareLinkUseCaseIntegrationTest extends ProjectDomainIntegrationSupport {
   }
 
   @Test
-  @DisplayName("공유 링크 접근은 프로젝트를 반환하고 접근 횟수를 증가시킨다")
+  @DisplayName("공유 링크 접근은 프로젝트를 반환하고 플러시 시점에 접근 횟수를 반영한다")
   void accessShareLink_incrementsAccessCount() {
     User admin = signUpUser("admin-share-access@test.com", "Admin");
     var workspace = saveWorkspace("Access WS", "Description");
@@ -150,10 +154,14 @@ class ShareLinkUseCaseIntegrationTest extends ProjectDomainIntegrationSupport {
         "JUnit"))
         .block();
 
+    ShareLink bufferedLink = shareLinkRepository.findById(link.getId()).block();
+    flushShareLinkAccessUseCase.flushAccessCounts().block();
     ShareLink updatedLink = shareLinkRepository.findById(link.getId()).block();
 
     assertThat(accessedProject.getId()).isEqualTo(project.getId());
+    assertThat(bufferedLink.getAccessCount()).isZero();
     assertThat(updatedLink.getAccessCount()).isEqualTo(1L);
+    assertThat(updatedLink.getLastAccessedAt()).isNotNull();
   }
 
   @Test
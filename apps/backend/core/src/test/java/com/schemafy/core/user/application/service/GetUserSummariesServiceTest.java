@@ -0,0 +1,102 @@
+package com.schemafy.core.user.application.service;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.schemafy.core.user.adapter.out.cache.CaffeineUserSummaryCacheAdapter;
+import com.schemafy.core.user.application.port.in.GetUserSummariesQuery;
+import com.schemafy.core.user.application.port.out.FindUsersByIdsPort;
+import com.schemafy.core.user.domain.User;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("GetUserSummariesService")
+class GetUserSummariesServiceTest {
+
+  private final FindUsersByIdsPort findUsersByIdsPort = mock(FindUsersByIdsPort.class);
+
+  private CaffeineUserSummaryCacheAdapter cache;
+  private GetUserSummariesService sut;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CaffeineUserSummaryCacheAdapter(Duration.ofMinutes(1), 1_000);
+    sut = new GetUserSummariesService(cache,
+        new UserSummaryBatchLoader(findUsersByIdsPort, Duration.ofMillis(20), 200));
+  }
+
+  @Test
+  @DisplayName("같은 구간에 들어온 조회는 하나의 IN 쿼리로 합친다")
+  void coalescesConcurrentLookups() {
+    given(findUsersByIdsPort.findUsersByIds(Set.of("user-1", "user-2", "user-3")))
+        .willReturn(Flux.just(user("user-1"), user("user-2")));
+
+    StepVerifier.create(Mono.zip(
+        sut.getUserSummaries(new GetUserSummariesQuery(Set.of("user-1", "user-2"))),
+        sut.getUserSummaries(new GetUserSummariesQuery(Set.of("user-2", "user-3")))))
+        .assertNext(tuple -> {
+          assertThat(tuple.getT1()).containsOnlyKeys("user-1", "user-2");
+          assertThat(tuple.getT2()).containsOnlyKeys("user-2");
+          assertThat(tuple.getT1().get("user-1").name()).isEqualTo("name-user-1");
+        })
+        .verifyComplete();
+
+    then(findUsersByIdsPort).should(times(1)).findUsersByIds(anySet());
+  }
+
+  @Test
+  @DisplayName("캐시에 있는 사용자는 다시 조회하지 않는다")
+  void servesCachedSummaries() {
+    given(findUsersByIdsPort.findUsersByIds(Set.of("user-1")))
+        .willReturn(Flux.just(user("user-1")));
+    sut.getUserSummaries(new GetUserSummariesQuery(Set.of("user-1"))).block();
+
+    StepVerifier.create(sut.getUserSummaries(new GetUserSummariesQuery(Set.of("user-1"))))
+        .assertNext(summaries -> assertThat(summaries).containsOnlyKeys("user-1"))
+        .verifyComplete();
+
+    then(findUsersByIdsPort).should(times(1)).findUsersByIds(anySet());
+  }
+
+  @Test
+  @DisplayName("프로필이 바뀌어 캐시에서 제거되면 다시 조회한다")
+  void reloadsAfterEviction() {
+    given(findUsersByIdsPort.findUsersByIds(Set.of("user-1")))
+        .willReturn(Flux.just(user("user-1")));
+    sut.getUserSummaries(new GetUserSummariesQuery(Set.of("user-1"))).block();
+
+    cache.evict("user-1").block();
+    sut.getUserSummaries(new GetUserSummariesQuery(Set.of("user-1"))).block();
+
+    then(findUsersByIdsPort).should(times(2)).findUsersByIds(Set.of("user-1"));
+  }
+
+  @Test
+  @DisplayName("빈 집합이면 조회하지 않는다")
+  void skipsEmptyQuery() {
+    StepVerifier.create(sut.getUserSummaries(new GetUserSummariesQuery(Set.of())))
+        .assertNext(summaries -> assertThat(summaries).isEmpty())
+        .verifyComplete();
+
+    then(findUsersByIdsPort).should(never()).findUsersByIds(anySet());
+  }
+
+  private static User user(String id) {
+    return User.signUp(id, id + "@example.com", "name-" + id, "encoded");
+  }
+
+}
@@ -0,0 +1,228 @@
+package com.schemafy.core.collaboration.stream;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process stand-in for {@link RedisCollaborationEventStream} with the same
+ * group, acknowledgement, trimming and expiry rules, for tests that need a
+ * stream without a Redis server. As on Redis, a read fails with {@code NOGROUP}
+ * when a project stream has expired or the group has not joined it.
+ */
+public class InMemoryCollaborationEventStream implements CollaborationEventStream {
+
+  private final long maxLength;
+  private final Duration maxAge;
+  private final Clock clock;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<String, ProjectStream> streams = new ConcurrentHashMap<>();
+
+  public InMemoryCollaborationEventStream(long maxLength, Duration maxAge, Clock clock) {
+    this.maxLength = maxLength;
+    this.maxAge = maxAge;
+    this.clock = clock;
+  }
+
+  @Override
+  public Mono<String> append(String projectId, String payload) {
+    return Mono.fromSupplier(() -> liveOrNew(projectId).append(payload));
+  }
+
+  @Override
+  public Mono<Void> join(String projectId, String group, long sinceMillis) {
+    return Mono.fromRunnable(() -> liveOrNew(projectId).join(group, sinceMillis));
+  }
+
+  @Override
+  public Mono<Void> leave(String projectId, String group) {
+    return Mono.fromRunnable(() -> {
+      ProjectStream stream = live(projectId);
+      if (stream != null) {
+        stream.leave(group);
+      }
+    });
+  }
+
+  @Override
+  public Flux<CollaborationStreamRecord> readNew(Collection<String> projectIds, String group, int count,
+      Duration block) {
+    Flux<CollaborationStreamRecord> read = Flux.defer(() -> Flux.fromIterable(
+        collect(projectIds, count, (stream, limit) -> stream.readNew(group, limit))));
+    if (block.isZero()) {
+      return read;
+    }
+    return read.switchIfEmpty(Mono.delay(block).thenMany(read));
+  }
+
+  @Override
+  public Flux<CollaborationStreamRecord> readPending(Collection<String> projectIds, String group, int count) {
+    return Flux.defer(() -> Flux.fromIterable(
+        collect(projectIds, count, (stream, limit) -> stream.readPending(group, limit))));
+  }
+
+  @Override
+  public Mono<Void> acknowledge(String projectId, String group, String recordId) {
+    return Mono.fromRunnable(() -> {
+      ProjectStream stream = live(projectId);
+      if (stream != null) {
+        stream.acknowledge(group, recordId);
+      }
+    });
+  }
+
+  public int size(String projectId) {
+    ProjectStream stream = live(projectId);
+    return stream == null ? 0 : stream.size();
+  }
+
+  private ProjectStream live(String projectId) {
+    ProjectStream stream = streams.get(projectId);
+    if (stream != null && stream.expired()) {
+      streams.remove(projectId, stream);
+      return null;
+    }
+    return stream;
+  }
+
+  private ProjectStream liveOrNew(String projectId) {
+    return streams.compute(projectId,
+        (id, stream) -> stream == null || stream.expired() ? new ProjectStream() : stream);
+  }
+
+  private List<CollaborationStreamRecord> collect(Collection<String> projectIds, int count,
+      BiFunction<ProjectStream, Integer, List<Entry>> reader) {
+    List<CollaborationStreamRecord> records = new ArrayList<>();
+    for (String projectId : projectIds) {
+      ProjectStream stream = live(projectId);
+      if (stream == null) {
+        throw new IllegalStateException("NOGROUP no stream for project " + projectId);
+      }
+      for (Entry entry : reader.apply(stream, count - records.size())) {
+        records.add(new CollaborationStreamRecord(projectId, entry.id(), entry.payload()));
+      }
+    }
+    return records;
+  }
+
+  private record Entry(long sequence, String id, long millis, String payload) {
+  }
+
+  private final class ProjectStream {
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final Map<String, Group> groups = new HashMap<>();
+    private volatile long expiresAt = clock.millis() + maxAge.toMillis();
+
+    boolean expired() {
+      return clock.millis() >= expiresAt;
+    }
+
+    synchronized String append(String payload) {
+      long millis = clock.millis();
+      expiresAt = millis + maxAge.toMillis();
+      long next = sequence.incrementAndGet();
+      Entry entry = new Entry(next, millis + "-" + next, millis, payload);
+      entries.addLast(entry);
+      while (entries.size() > maxLength) {
+        entries.pollFirst();
+      }
+      long minMillis = millis - maxAge.toMillis();
+      while (!entries.isEmpty() && entries.peekFirst().millis() < minMillis) {
+        entries.pollFirst();
+      }
+      return entry.id();
+    }
+
+    synchronized void join(String group, long sinceMillis) {
+      expiresAt = clock.millis() + maxAge.toMillis();
+      long lastDelivered = entries.stream()
+          .filter(entry -> entry.millis() < sinceMillis)
+          .mapToLong(Entry::sequence)
+          .max()
+          .orElse(0L);
+      groups.putIfAbsent(group, new Group(lastDelivered));
+    }
+
+    synchronized void leave(String group) {
+      groups.remove(group);
+    }
+
+    synchronized List<Entry> readNew(String groupName, int count) {
+      Group group = group(groupName);
+      List<Entry> read = new ArrayList<>();
+      for (Entry entry : entries) {
+        if (read.size() == count) {
+          break;
+        }
+        if (entry.sequence() > group.lastDelivered) {
+          read.add(entry);
+          group.pending.add(entry.id());
+          group.lastDelivered = entry.sequence();
+        }
+      }
+      return read;
+    }
+
+    synchronized List<Entry> readPending(String groupName, int count) {
+      Group group = group(groupName);
+      List<Entry> read = new ArrayList<>();
+      for (String id : group.pending) {
+        if (read.size() == count) {
+          break;
+        }
+        read.add(entries.stream()
+            .filter(entry -> entry.id().equals(id))
+            .findFirst()
+            .orElse(new Entry(0L, id, 0L, null)));
+      }
+      return read;
+    }
+
+    synchronized void acknowledge(String groupName, String id) {
+      Group group = groups.get(groupName);
+      if (group != null) {
+        group.pending.remove(id);
+      }
+    }
+
+    synchronized int size() {
+      return entries.size();
+    }
+
+    private Group group(String groupName) {
+      Group group = groups.get(groupName);
+      if (group == null) {
+        throw new IllegalStateException("NOGROUP no group " + groupName);
+      }
+      return group;
+    }
+
+  }
+
+  private static final class Group {
+
+    private final Set<String> pending = new LinkedHashSet<>();
+    private long lastDelivered;
+
+    private Group(long lastDelivered) {
+      this.lastDelivered = lastDelivered;
+    }
+
+  }
+
+}
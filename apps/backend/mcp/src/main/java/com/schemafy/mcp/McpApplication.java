@@ -10,7 +10,10 @@ import org.springframework.context.annotation.FilterType;
 @ComponentScan(basePackages = {
   "com.schemafy.mcp",
   "com.schemafy.core",
-}, excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.schemafy\\.core\\.user\\.application\\.service\\.(LoginUserService|SignUpUserService|SendSignUpEmailCodeService|VerifySignUpEmailService)"))
+}, excludeFilters = {
+  @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.schemafy\\.core\\.user\\.application\\.service\\.(LoginUserService|SignUpUserService|SendSignUpEmailCodeService|VerifySignUpEmailService)"),
+  @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.schemafy\\.core\\.mail\\.application\\.service\\.DispatchOutboxMailsService"),
+})
 @ConfigurationPropertiesScan(basePackages = {
   "com.schemafy.mcp",
   "com.schemafy.core",
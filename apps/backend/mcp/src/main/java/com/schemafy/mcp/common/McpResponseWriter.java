@@ -19,6 +19,7 @@ import reactor.core.publisher.Mono;
 public class McpResponseWriter {
 
   private static final String JSON_MIME_TYPE = "application/json";
+  private static final String TEXT_MIME_TYPE = "text/plain";
   private static final String RESOURCE_FAILURE_MESSAGE = "Schemafy MCP resource read failed";
   private static final String TOOL_FAILURE_MESSAGE = "Schemafy MCP tool call failed";
 
@@ -36,6 +37,17 @@ public class McpResponseWriter {
     })).onErrorMap(this::resourceError);
   }
 
+  public Mono<McpSchema.ReadResourceResult> resourceText(String uri, Mono<String> text) {
+    return text.map(value -> new McpSchema.ReadResourceResult(List.of(
+        new McpSchema.TextResourceContents(uri, TEXT_MIME_TYPE, value, null))))
+        .onErrorMap(this::resourceError);
+  }
+
+  public Mono<McpSchema.CallToolResult> toolText(Mono<String> text) {
+    return text.map(value -> toolText(value, false))
+        .onErrorResume(error -> Mono.just(toolError(toolErrorMessage(error))));
+  }
+
   public Mono<McpSchema.CallToolResult> toolPayload(Mono<?> payload) {
     return payload.flatMap(this::toolJson)
         .onErrorResume(error -> Mono.just(toolError(toolErrorMessage(error))));
@@ -0,0 +1,204 @@
+package com.schemafy.mcp.common.security;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fixed-window limiter that leases permits from the shared Redis counter in batches of
+ * {@code lease-size} and spends them locally. The Redis counter never passes the limit, so the
+ * global limit holds; the error is in the other direction, since up to {@code lease-size} permits
+ * per node can sit unused for at most {@code lease-ttl} before being returned.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(prefix = "mcp.security.rate-limit", name = "mode", havingValue = "leased", matchIfMissing = true)
+public class LeasedMcpRateLimiter implements McpRateLimiter {
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final McpSecurityProperties properties;
+  private final Clock clock;
+  private final ConcurrentMap<String, PermitLease> leases = new ConcurrentHashMap<>();
+
+  private Disposable sweepTask;
+
+  public LeasedMcpRateLimiter(
+      ReactiveStringRedisTemplate redisTemplate,
+      McpSecurityProperties properties,
+      Clock clock) {
+    this.redisTemplate = redisTemplate;
+    this.properties = properties;
+    this.clock = clock;
+  }
+
+  @PostConstruct
+  public void start() {
+    sweepTask = Flux.interval(properties.getRateLimit().getLeaseTtl())
+        .onBackpressureDrop()
+        .concatMap(tick -> sweep())
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (sweepTask != null && !sweepTask.isDisposed()) {
+      sweepTask.dispose();
+    }
+  }
+
+  @Override
+  public Mono<Boolean> tryAcquire(McpTokenClaims claims) {
+    McpSecurityProperties.RateLimit rateLimit = properties.getRateLimit();
+    if (!rateLimit.isEnabled()) {
+      return Mono.just(true);
+    }
+
+    long now = clock.millis();
+    long windowMillis = rateLimit.getWindow().toMillis();
+    long windowStart = now - Math.floorMod(now, windowMillis);
+    PermitLease lease = leases.compute(claims.userId(),
+        (userId, current) -> current != null && current.windowStart == windowStart
+            ? current
+            : new PermitLease(userId, windowStart));
+    return lease.acquire();
+  }
+
+  // Hands permits of idle, expired leases back to Redis and forgets leases of past windows.
+  Mono<Void> sweep() {
+    long now = clock.millis();
+    long windowMillis = properties.getRateLimit().getWindow().toMillis();
+    return Flux.fromIterable(leases.values())
+        .concatMap(lease -> {
+          if (lease.windowStart + windowMillis <= now) {
+            leases.remove(lease.userId, lease);
+            return Mono.empty();
+          }
+          int unused = lease.takeExpiredRemainder(now);
+          if (unused == 0) {
+            return Mono.empty();
+          }
+          return redisTemplate.execute(
+              McpSecurityRedisScripts.RATE_LIMIT_RETURN,
+              List.of(lease.key()),
+              List.of(Integer.toString(unused)))
+              .then();
+        })
+        .onErrorResume(error -> {
+          log.warn("[LeasedMcpRateLimiter] Returning unused permits failed: {}",
+              error.getMessage());
+          return Mono.empty();
+        })
+        .then();
+  }
+
+  private final class PermitLease {
+
+    private final String userId;
+    private final long windowStart;
+    private int remaining;
+    private long expiresAt;
+    private long deniedUntil;
+    private Mono<Void> refill;
+
+    private PermitLease(String userId, long windowStart) {
+      this.userId = userId;
+      this.windowStart = windowStart;
+    }
+
+    Mono<Boolean> acquire() {
+      Mono<Void> pending;
+      synchronized (this) {
+        long now = clock.millis();
+        if (remaining > 0 && now < expiresAt) {
+          remaining--;
+          return Mono.just(true);
+        }
+        if (now < deniedUntil) {
+          return Mono.just(false);
+        }
+        if (refill == null) {
+          refill = lease(takeExpiredRemainder(now)).cache();
+        }
+        pending = refill;
+      }
+      return pending.then(Mono.defer(this::acquireAfterRefill));
+    }
+
+    private Mono<Boolean> acquireAfterRefill() {
+      synchronized (this) {
+        if (remaining > 0) {
+          remaining--;
+          return Mono.just(true);
+        }
+        if (clock.millis() < deniedUntil) {
+          return Mono.just(false);
+        }
+      }
+      return acquire();
+    }
+
+    private Mono<Void> lease(int returned) {
+      McpSecurityProperties.RateLimit rateLimit = properties.getRateLimit();
+      int leaseSize = Math.min(rateLimit.getLeaseSize(), rateLimit.getRequests());
+      long windowMillis = rateLimit.getWindow().toMillis();
+      return redisTemplate.execute(
+          McpSecurityRedisScripts.RATE_LIMIT_LEASE,
+          List.of(key()),
+          List.of(
+              Integer.toString(leaseSize),
+              Long.toString(windowMillis),
+              Integer.toString(rateLimit.getRequests()),
+              Integer.toString(returned)))
+          .next()
+          .defaultIfEmpty(0L)
+          .doOnNext(granted -> granted(granted.intValue(), windowMillis,
+              rateLimit.getLeaseTtl().toMillis()))
+          .doFinally(signal -> clearRefill())
+          .then();
+    }
+
+    private synchronized void granted(int granted, long windowMillis, long leaseTtlMillis) {
+      long now = clock.millis();
+      long windowEnd = windowStart + windowMillis;
+      long leaseEnd = Math.min(windowEnd, now + leaseTtlMillis);
+      remaining = granted;
+      expiresAt = leaseEnd;
+      if (granted == 0) {
+        deniedUntil = leaseEnd;
+      }
+    }
+
+    private synchronized void clearRefill() {
+      refill = null;
+    }
+
+    synchronized int takeExpiredRemainder(long now) {
+      if (refill != null || now < expiresAt) {
+        return 0;
+      }
+      int unused = remaining;
+      remaining = 0;
+      return unused;
+    }
+
+    String key() {
+      return properties.getRateLimit().getKeyPrefix() + userId + ":" + windowStart;
+    }
+
+  }
+
+}
@@ -49,6 +49,14 @@ public class McpSecurityProperties {
     @NotBlank
     private String revocationKeyPrefix = "mcp:token:revoked:";
 
+    @NotBlank
+    private String revocationChannel = "mcp:token:revocations";
+
+    private Duration stateCacheTtl = Duration.ofSeconds(30);
+
+    @Positive
+    private long stateCacheMaximumSize = 10_000;
+
     public String getSecret() { return secret; }
 
     public void setSecret(String secret) { this.secret = secret; }
@@ -73,6 +81,18 @@ public class McpSecurityProperties {
 
     public void setRevocationKeyPrefix(String revocationKeyPrefix) { this.revocationKeyPrefix = revocationKeyPrefix; }
 
+    public String getRevocationChannel() { return revocationChannel; }
+
+    public void setRevocationChannel(String revocationChannel) { this.revocationChannel = revocationChannel; }
+
+    public Duration getStateCacheTtl() { return stateCacheTtl; }
+
+    public void setStateCacheTtl(Duration stateCacheTtl) { this.stateCacheTtl = stateCacheTtl; }
+
+    public long getStateCacheMaximumSize() { return stateCacheMaximumSize; }
+
+    public void setStateCacheMaximumSize(long stateCacheMaximumSize) { this.stateCacheMaximumSize = stateCacheMaximumSize; }
+
   }
 
   public static class RateLimit {
@@ -87,6 +107,13 @@ public class McpSecurityProperties {
 
     private Duration window = Duration.ofMinutes(1);
 
+    private Mode mode = Mode.LEASED;
+
+    @Positive
+    private int leaseSize = 20;
+
+    private Duration leaseTtl = Duration.ofSeconds(5);
+
     public boolean isEnabled() { return enabled; }
 
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
@@ -103,6 +130,22 @@ public class McpSecurityProperties {
 
     public void setWindow(Duration window) { this.window = window; }
 
+    public Mode getMode() { return mode; }
+
+    public void setMode(Mode mode) { this.mode = mode; }
+
+    public int getLeaseSize() { return leaseSize; }
+
+    public void setLeaseSize(int leaseSize) { this.leaseSize = leaseSize; }
+
+    public Duration getLeaseTtl() { return leaseTtl; }
+
+    public void setLeaseTtl(Duration leaseTtl) { this.leaseTtl = leaseTtl; }
+
+    public enum Mode {
+      STRICT, LEASED
+    }
+
   }
 
 }
@@ -12,6 +12,33 @@ final class McpSecurityRedisScripts {
       return current
       """, Long.class);
 
+  // Returns permits left over from an expired lease, then leases up to ARGV[1] new permits
+  // without letting the window counter pass the limit. Returns the number of permits granted.
+  static final RedisScript<Long> RATE_LIMIT_LEASE = RedisScript.of("""
+      local returned = tonumber(ARGV[4])
+      if returned > 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+        redis.call('DECRBY', KEYS[1], returned)
+      end
+      local requested = tonumber(ARGV[1])
+      local current = redis.call('INCRBY', KEYS[1], requested)
+      if redis.call('PTTL', KEYS[1]) < 0 then
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      end
+      local available = tonumber(ARGV[3]) - (current - requested)
+      local granted = math.max(0, math.min(requested, available))
+      if granted < requested then
+        redis.call('DECRBY', KEYS[1], requested - granted)
+      end
+      return granted
+      """, Long.class);
+
+  static final RedisScript<Long> RATE_LIMIT_RETURN = RedisScript.of("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        redis.call('DECRBY', KEYS[1], ARGV[1])
+      end
+      return 1
+      """, Long.class);
+
   private McpSecurityRedisScripts() {}
 
 }
@@ -0,0 +1,57 @@
+package com.schemafy.mcp.common.security;
+
+import java.time.Duration;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class McpTokenRevocationSubscriber {
+
+  private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+  private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final McpTokenStateCache stateCache;
+  private final String channel;
+  private Disposable subscription;
+
+  public McpTokenRevocationSubscriber(
+      ReactiveStringRedisTemplate redisTemplate,
+      McpTokenStateCache stateCache,
+      McpSecurityProperties properties) {
+    this.redisTemplate = redisTemplate;
+    this.stateCache = stateCache;
+    this.channel = properties.getToken().getRevocationChannel();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    // Events published while disconnected are lost, so every (re)subscription starts from an empty cache.
+    subscription = redisTemplate.listenToChannel(channel)
+        .doOnSubscribe(ignored -> stateCache.invalidateAll())
+        .doOnError(error -> log.warn(
+            "MCP token revocation subscription failed: channel={}", channel, error))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF).maxBackoff(MAX_BACKOFF))
+        .subscribe(message -> stateCache.invalidate(message.getMessage()));
+  }
+
+  @PreDestroy
+  public void unsubscribe() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.schemafy.mcp.common.security;
+
+import java.time.Instant;
+
+import com.schemafy.core.mcp.domain.McpToken;
+
+record McpTokenState(
+    String tokenId,
+    String userId,
+    String scope,
+    Instant expiresAt,
+    boolean revoked,
+    boolean deleted) {
+
+  static McpTokenState from(McpToken token) {
+    return new McpTokenState(
+        token.getId(),
+        token.getUserId(),
+        token.getScope(),
+        token.getExpiresAt(),
+        token.isRevoked(),
+        token.isDeleted());
+  }
+
+  boolean belongsTo(String userId) {
+    return this.userId != null && this.userId.equals(userId);
+  }
+
+  boolean isExpiredAt(Instant now) {
+    return expiresAt == null || !expiresAt.isAfter(now);
+  }
+
+}
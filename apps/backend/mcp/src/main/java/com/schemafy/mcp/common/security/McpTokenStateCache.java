@@ -0,0 +1,42 @@
+package com.schemafy.mcp.common.security;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Node-local copy of the token registry rows validated recently. Entries are dropped by
+ * revocation events and otherwise live at most {@code mcp.security.token.state-cache-ttl}, which
+ * bounds how long a revocation can go unnoticed when an event is lost.
+ */
+@Component
+public class McpTokenStateCache {
+
+  private final Cache<String, McpTokenState> cache;
+
+  public McpTokenStateCache(McpSecurityProperties properties) {
+    McpSecurityProperties.Token token = properties.getToken();
+    this.cache = Caffeine.newBuilder()
+        .expireAfterWrite(token.getStateCacheTtl())
+        .maximumSize(token.getStateCacheMaximumSize())
+        .build();
+  }
+
+  McpTokenState get(String tokenId) {
+    return cache.getIfPresent(tokenId);
+  }
+
+  void put(McpTokenState state) {
+    cache.put(state.tokenId(), state);
+  }
+
+  public void invalidate(String tokenId) {
+    cache.invalidate(tokenId);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+}
@@ -12,7 +12,6 @@ import org.springframework.util.StringUtils;
 
 import com.schemafy.core.mcp.application.port.in.GetMcpTokenQuery;
 import com.schemafy.core.mcp.application.port.in.GetMcpTokenUseCase;
-import com.schemafy.core.mcp.domain.McpToken;
 import com.schemafy.core.mcp.domain.McpTokenClaimSupport;
 
 import io.jsonwebtoken.Claims;
@@ -27,6 +26,7 @@ public class McpTokenValidator {
   private final McpSecurityProperties properties;
   private final McpTokenRevocationCache revocationCache;
   private final GetMcpTokenUseCase getMcpTokenUseCase;
+  private final McpTokenStateCache stateCache;
   private final Clock clock;
   private final SecretKey secretKey;
 
@@ -34,11 +34,13 @@ public class McpTokenValidator {
       McpSecurityProperties properties,
       McpTokenRevocationCache revocationCache,
       GetMcpTokenUseCase getMcpTokenUseCase,
+      McpTokenStateCache stateCache,
       Clock clock,
       @Qualifier("mcpTokenSecretKey") SecretKey secretKey) {
     this.properties = properties;
     this.revocationCache = revocationCache;
     this.getMcpTokenUseCase = getMcpTokenUseCase;
+    this.stateCache = stateCache;
     this.clock = clock;
     this.secretKey = secretKey;
   }
@@ -92,6 +94,10 @@ public class McpTokenValidator {
 
     McpTokenClaims tokenClaims = new McpTokenClaims(claims.getId(), claims.getSubject(),
         Set.copyOf(scopes));
+    McpTokenState cachedState = stateCache.get(claims.getId());
+    if (cachedState != null) {
+      return Mono.just(validateRegisteredToken(tokenClaims, cachedState));
+    }
     return revocationCache.isRevoked(claims.getId())
         .flatMap(revoked -> revoked
             ? Mono.just(McpTokenValidationResult.failure(McpSecurityError.TOKEN_REVOKED))
@@ -103,7 +109,9 @@ public class McpTokenValidator {
   private Mono<McpTokenValidationResult> validateRegisteredToken(
       McpTokenClaims tokenClaims) {
     return getMcpTokenUseCase.getMcpToken(new GetMcpTokenQuery(tokenClaims.tokenId()))
-        .map(token -> validateRegisteredToken(tokenClaims, token))
+        .map(McpTokenState::from)
+        .doOnNext(stateCache::put)
+        .map(state -> validateRegisteredToken(tokenClaims, state))
         .defaultIfEmpty(McpTokenValidationResult.failure(McpSecurityError.TOKEN_INVALID))
         .onErrorResume(error -> Mono.just(McpTokenValidationResult.failure(
             McpSecurityError.TOKEN_REGISTRY_UNAVAILABLE)));
@@ -111,14 +119,14 @@ public class McpTokenValidator {
 
   private McpTokenValidationResult validateRegisteredToken(
       McpTokenClaims claims,
-      McpToken token) {
+      McpTokenState token) {
     if (!token.belongsTo(claims.userId())
-        || !claims.hasScope(token.getScope())
-        || token.isDeleted()
+        || !claims.hasScope(token.scope())
+        || token.deleted()
         || token.isExpiredAt(clock.instant())) {
       return McpTokenValidationResult.failure(McpSecurityError.TOKEN_INVALID);
     }
-    if (token.isRevoked()) {
+    if (token.revoked()) {
       return McpTokenValidationResult.failure(McpSecurityError.TOKEN_REVOKED);
     }
     return McpTokenValidationResult.success(claims);
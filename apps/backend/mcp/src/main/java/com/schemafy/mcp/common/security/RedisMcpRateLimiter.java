@@ -10,6 +10,7 @@ import reactor.core.publisher.Mono;
 
 @Component
 @ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(prefix = "mcp.security.rate-limit", name = "mode", havingValue = "strict")
 public class RedisMcpRateLimiter implements McpRateLimiter {
 
   private final ReactiveStringRedisTemplate redisTemplate;
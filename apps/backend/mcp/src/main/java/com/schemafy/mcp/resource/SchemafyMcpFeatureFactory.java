@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import com.schemafy.core.common.r2dbc.ReadRouting;
+
 import io.modelcontextprotocol.server.McpAsyncServerExchange;
 import io.modelcontextprotocol.server.McpServerFeatures;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -13,6 +15,7 @@ import reactor.core.publisher.Mono;
 final class SchemafyMcpFeatureFactory {
 
   private static final String JSON_MIME_TYPE = "application/json";
+  private static final String TEXT_MIME_TYPE = "text/plain";
 
   private SchemafyMcpFeatureFactory() {}
 
@@ -29,7 +32,8 @@ final class SchemafyMcpFeatureFactory {
         .mimeType(JSON_MIME_TYPE)
         .build();
     return new McpServerFeatures.AsyncResourceSpecification(resource,
-        (McpAsyncServerExchange exchange, McpSchema.ReadResourceRequest request) -> readHandler.apply(request));
+        (McpAsyncServerExchange exchange, McpSchema.ReadResourceRequest request) -> readHandler.apply(request)
+            .contextWrite(ReadRouting.preferReplica()));
   }
 
   static McpServerFeatures.AsyncResourceTemplateSpecification template(
@@ -37,16 +41,34 @@ final class SchemafyMcpFeatureFactory {
       String name,
       String description,
       Function<McpSchema.ReadResourceRequest, Mono<McpSchema.ReadResourceResult>> readHandler) {
+    return template(uriTemplate, name, description, JSON_MIME_TYPE, readHandler);
+  }
+
+  static McpServerFeatures.AsyncResourceTemplateSpecification textTemplate(
+      String uriTemplate,
+      String name,
+      String description,
+      Function<McpSchema.ReadResourceRequest, Mono<McpSchema.ReadResourceResult>> readHandler) {
+    return template(uriTemplate, name, description, TEXT_MIME_TYPE, readHandler);
+  }
+
+  private static McpServerFeatures.AsyncResourceTemplateSpecification template(
+      String uriTemplate,
+      String name,
+      String description,
+      String mimeType,
+      Function<McpSchema.ReadResourceRequest, Mono<McpSchema.ReadResourceResult>> readHandler) {
     McpSchema.ResourceTemplate resourceTemplate = McpSchema.ResourceTemplate.builder()
         .uriTemplate(uriTemplate)
         .name(name)
         .title(name)
         .description(description)
-        .mimeType(JSON_MIME_TYPE)
+        .mimeType(mimeType)
         .build();
     return new McpServerFeatures.AsyncResourceTemplateSpecification(resourceTemplate,
         (McpAsyncServerExchange exchange, McpSchema.ReadResourceRequest request) -> Mono.defer(
-            () -> readHandler.apply(request)));
+            () -> readHandler.apply(request))
+            .contextWrite(ReadRouting.preferReplica()));
   }
 
   static McpServerFeatures.AsyncToolSpecification tool(
@@ -65,7 +87,8 @@ final class SchemafyMcpFeatureFactory {
         .build();
     return McpServerFeatures.AsyncToolSpecification.builder()
         .tool(tool)
-        .callHandler((exchange, request) -> callHandler.apply(request))
+        .callHandler((exchange, request) -> callHandler.apply(request)
+            .contextWrite(ReadRouting.preferReplica()))
         .build();
   }
 
@@ -100,6 +123,20 @@ final class SchemafyMcpFeatureFactory {
     return arguments;
   }
 
+  static Map<String, Object> searchArguments() {
+    Map<String, Object> arguments = new LinkedHashMap<>(idArgument("projectId", "Schemafy project ID."));
+    arguments.put("query", Map.of(
+        "type", "string",
+        "description", "Case-insensitive keyword; every whitespace-separated word must match."));
+    arguments.put("limit", Map.of(
+        "type", "integer",
+        "description", "Maximum number of hits from 1 to 100. Defaults to 20.",
+        "minimum", 1,
+        "maximum", 100,
+        "default", 20));
+    return arguments;
+  }
+
   private static McpSchema.JsonSchema objectSchema(
       Map<String, Object> properties,
       List<String> required) {
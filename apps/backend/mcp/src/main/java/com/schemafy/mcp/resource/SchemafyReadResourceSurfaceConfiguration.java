@@ -9,6 +9,7 @@ import io.modelcontextprotocol.server.McpServerFeatures;
 
 import static com.schemafy.mcp.resource.SchemafyMcpFeatureFactory.resource;
 import static com.schemafy.mcp.resource.SchemafyMcpFeatureFactory.template;
+import static com.schemafy.mcp.resource.SchemafyMcpFeatureFactory.textTemplate;
 
 @Configuration(proxyBeanMethods = false)
 public class SchemafyReadResourceSurfaceConfiguration {
@@ -62,6 +63,9 @@ public class SchemafyReadResourceSurfaceConfiguration {
             request -> reader.projectSchemas(request, "schemafy://projects/{projectId}/schemas")),
         template("schemafy://schemas/{schemaId}", "schema", "Schema detail",
             request -> reader.schema(request, "schemafy://schemas/{schemaId}")),
+        textTemplate("schemafy://schemas/{schemaId}/digest", "schema-digest",
+            "Whole schema as compact DDL-like text: tables, columns, keys, indexes, and foreign keys",
+            request -> reader.schemaDigest(request, "schemafy://schemas/{schemaId}/digest")),
         template("schemafy://schemas/{schemaId}/tables", "schema-tables", "Schema tables",
             request -> reader.schemaTables(request, "schemafy://schemas/{schemaId}/tables")),
         template("schemafy://schemas/{schemaId}/memos", "schema-memos", "Schema memos",
@@ -11,6 +11,7 @@ import io.modelcontextprotocol.server.McpServerFeatures;
 import static com.schemafy.mcp.resource.SchemafyMcpFeatureFactory.idArgument;
 import static com.schemafy.mcp.resource.SchemafyMcpFeatureFactory.pagedIdArgument;
 import static com.schemafy.mcp.resource.SchemafyMcpFeatureFactory.paginationArguments;
+import static com.schemafy.mcp.resource.SchemafyMcpFeatureFactory.searchArguments;
 import static com.schemafy.mcp.resource.SchemafyMcpFeatureFactory.tool;
 
 @Configuration(proxyBeanMethods = false)
@@ -59,11 +60,21 @@ public class SchemafyReadToolSurfaceConfiguration {
             idArgument("projectId", "Schemafy project ID."),
             List.of("projectId"),
             reader::schemasTool),
+        tool("schemafy_search_project", "Search project",
+            "Use after a projectId is known when the user asks where a table, column, data type, comment, or memo discussion is in a Schemafy project; returns ranked hits across every schema with their schema, table, and memo IDs.",
+            searchArguments(),
+            List.of("projectId", "query"),
+            reader::searchProjectTool),
         tool("schemafy_get_schema", "Get schema",
             "Use after a schemaId is known to inspect one Schemafy schema, including database vendor, charset, collation, and revision metadata.",
             idArgument("schemaId", "Schemafy schema ID."),
             List.of("schemaId"),
             reader::schemaTool),
+        tool("schemafy_get_schema_digest", "Get schema digest",
+            "Use after a schemaId is known when the user asks to understand, review, or explain a whole Schemafy schema; returns every table with columns, keys, indexes, and foreign keys as compact DDL-like text in one call.",
+            idArgument("schemaId", "Schemafy schema ID."),
+            List.of("schemaId"),
+            reader::schemaDigestTool),
         tool("schemafy_list_tables", "List tables",
             "Use after schemafy_list_schemas when a schemaId is known to enumerate ERD tables before reading columns, indexes, constraints, or relationships.",
             idArgument("schemaId", "Schemafy schema ID."),
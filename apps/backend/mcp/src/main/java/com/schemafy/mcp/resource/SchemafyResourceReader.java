@@ -11,6 +11,9 @@ import com.schemafy.core.erd.column.application.port.in.GetColumnsByTableIdQuery
 import com.schemafy.core.erd.column.application.port.in.GetColumnsByTableIdUseCase;
 import com.schemafy.core.erd.constraint.application.port.in.GetConstraintsByTableIdQuery;
 import com.schemafy.core.erd.constraint.application.port.in.GetConstraintsByTableIdUseCase;
+import com.schemafy.core.erd.digest.application.port.in.GetSchemaDigestQuery;
+import com.schemafy.core.erd.digest.application.port.in.GetSchemaDigestUseCase;
+import com.schemafy.core.erd.digest.application.port.in.SchemaDigest;
 import com.schemafy.core.erd.index.application.port.in.GetIndexesByTableIdQuery;
 import com.schemafy.core.erd.index.application.port.in.GetIndexesByTableIdUseCase;
 import com.schemafy.core.erd.memo.application.port.in.GetMemoCommentsQuery;
@@ -25,6 +28,8 @@ import com.schemafy.core.erd.schema.application.port.in.GetSchemaQuery;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemaUseCase;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemasByProjectIdQuery;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemasByProjectIdUseCase;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectQuery;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectUseCase;
 import com.schemafy.core.erd.table.application.port.in.GetTableQuery;
 import com.schemafy.core.erd.table.application.port.in.GetTableUseCase;
 import com.schemafy.core.erd.table.application.port.in.GetTablesBySchemaIdQuery;
@@ -73,6 +78,8 @@ final class SchemafyResourceReader {
   private final ListDbVendorsUseCase listDbVendorsUseCase;
   private final GetSchemasByProjectIdUseCase getSchemasByProjectIdUseCase;
   private final GetSchemaUseCase getSchemaUseCase;
+  private final GetSchemaDigestUseCase getSchemaDigestUseCase;
+  private final SearchProjectUseCase searchProjectUseCase;
   private final GetTablesBySchemaIdUseCase getTablesBySchemaIdUseCase;
   private final GetTableUseCase getTableUseCase;
   private final GetColumnsByTableIdUseCase getColumnsByTableIdUseCase;
@@ -193,6 +200,14 @@ final class SchemafyResourceReader {
         getSchemaUseCase.getSchema(new GetSchemaQuery(variable(request, template, "schemaId"))));
   }
 
+  Mono<McpSchema.ReadResourceResult> schemaDigest(
+      McpSchema.ReadResourceRequest request,
+      String template) {
+    return responseWriter.resourceText(request.uri(), getSchemaDigestUseCase
+        .getSchemaDigest(new GetSchemaDigestQuery(variable(request, template, "schemaId")))
+        .map(SchemaDigest::content));
+  }
+
   Mono<McpSchema.ReadResourceResult> schemaTables(
       McpSchema.ReadResourceRequest request,
       String template) {
@@ -330,6 +345,19 @@ final class SchemafyResourceReader {
             .collectList()));
   }
 
+  Mono<McpSchema.CallToolResult> searchProjectTool(
+      McpSchema.CallToolRequest request) {
+    return withRequiredArgument(request, "projectId",
+        projectId -> withRequiredArgument(request, "query",
+            keyword -> {
+              int limit = integerValue(request.arguments().get("limit"), "limit",
+                  SearchProjectQuery.DEFAULT_LIMIT);
+              return responseWriter.toolPayload(Mono.fromCallable(
+                  () -> new SearchProjectQuery(projectId, keyword, limit))
+                  .flatMap(searchProjectUseCase::searchProject));
+            }));
+  }
+
   Mono<McpSchema.CallToolResult> schemaTool(
       McpSchema.CallToolRequest request) {
     return withRequiredArgument(request, "schemaId",
@@ -337,6 +365,14 @@ final class SchemafyResourceReader {
             new GetSchemaQuery(schemaId))));
   }
 
+  Mono<McpSchema.CallToolResult> schemaDigestTool(
+      McpSchema.CallToolRequest request) {
+    return withRequiredArgument(request, "schemaId",
+        schemaId -> responseWriter.toolText(getSchemaDigestUseCase
+            .getSchemaDigest(new GetSchemaDigestQuery(schemaId))
+            .map(SchemaDigest::content)));
+  }
+
   Mono<McpSchema.CallToolResult> tablesTool(
       McpSchema.CallToolRequest request) {
     return withRequiredArgument(request, "schemaId",
@@ -0,0 +1,126 @@
+package com.schemafy.mcp.common.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeasedMcpRateLimiterTest {
+
+  private static final long WINDOW_START = 1_800_000_000_000L;
+  private static final String KEY = "mcp:rate-limit:user:user-1:" + WINDOW_START;
+
+  @Mock
+  ReactiveStringRedisTemplate redisTemplate;
+
+  @Mock
+  Clock clock;
+
+  McpSecurityProperties properties;
+  LeasedMcpRateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    properties = new McpSecurityProperties();
+    properties.getRateLimit().setRequests(100);
+    properties.getRateLimit().setWindow(Duration.ofMinutes(1));
+    properties.getRateLimit().setLeaseSize(3);
+    properties.getRateLimit().setLeaseTtl(Duration.ofSeconds(5));
+    lenient().when(clock.millis()).thenReturn(WINDOW_START + 1_000);
+    rateLimiter = new LeasedMcpRateLimiter(redisTemplate, properties, clock);
+  }
+
+  @Test
+  @DisplayName("Redis에서 임대한 허용량은 추가 Redis 호출 없이 로컬에서 소진한다")
+  void spendsLeasedPermitsLocally() {
+    when(redisTemplate.execute(eq(McpSecurityRedisScripts.RATE_LIMIT_LEASE),
+        eq(List.of(KEY)), anyList()))
+        .thenReturn(Flux.just(3L));
+
+    for (int i = 0; i < 3; i++) {
+      StepVerifier.create(rateLimiter.tryAcquire(claims()))
+          .expectNext(true)
+          .verifyComplete();
+    }
+
+    verify(redisTemplate, times(1)).execute(
+        McpSecurityRedisScripts.RATE_LIMIT_LEASE,
+        List.of(KEY),
+        List.of("3", "60000", "100", "0"));
+  }
+
+  @Test
+  @DisplayName("Redis가 허용량을 주지 않으면 lease TTL 동안 로컬에서 바로 거부한다")
+  void rejectsLocallyWhileDenied() {
+    when(redisTemplate.execute(eq(McpSecurityRedisScripts.RATE_LIMIT_LEASE),
+        eq(List.of(KEY)), anyList()))
+        .thenReturn(Flux.just(0L));
+
+    StepVerifier.create(rateLimiter.tryAcquire(claims()))
+        .expectNext(false)
+        .verifyComplete();
+    StepVerifier.create(rateLimiter.tryAcquire(claims()))
+        .expectNext(false)
+        .verifyComplete();
+
+    verify(redisTemplate, times(1)).execute(
+        eq(McpSecurityRedisScripts.RATE_LIMIT_LEASE), eq(List.of(KEY)), anyList());
+  }
+
+  @Test
+  @DisplayName("만료된 임대의 남은 허용량은 Redis에 반납한다")
+  void returnsUnusedPermitsAfterLeaseExpires() {
+    when(redisTemplate.execute(eq(McpSecurityRedisScripts.RATE_LIMIT_LEASE),
+        eq(List.of(KEY)), anyList()))
+        .thenReturn(Flux.just(3L));
+    when(redisTemplate.execute(McpSecurityRedisScripts.RATE_LIMIT_RETURN,
+        List.of(KEY), List.of("2")))
+        .thenReturn(Flux.just(1L));
+
+    StepVerifier.create(rateLimiter.tryAcquire(claims()))
+        .expectNext(true)
+        .verifyComplete();
+
+    when(clock.millis()).thenReturn(WINDOW_START + 7_000);
+    StepVerifier.create(rateLimiter.sweep())
+        .verifyComplete();
+
+    verify(redisTemplate).execute(McpSecurityRedisScripts.RATE_LIMIT_RETURN,
+        List.of(KEY), List.of("2"));
+  }
+
+  @Test
+  @DisplayName("rate limit이 비활성화되면 Redis 없이 허용한다")
+  void allowsWhenDisabled() {
+    properties.getRateLimit().setEnabled(false);
+
+    StepVerifier.create(rateLimiter.tryAcquire(claims()))
+        .expectNext(true)
+        .verifyComplete();
+  }
+
+  private McpTokenClaims claims() {
+    return new McpTokenClaims("token-1", "user-1", Set.of("mcp"));
+  }
+
+}
@@ -7,6 +7,7 @@ import java.time.ZoneOffset;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.crypto.SecretKey;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,7 @@ class McpTokenValidatorTest {
   McpTokenValidator validator;
   TestMcpTokenRevocationCache revocationCache;
   TestGetMcpTokenUseCase getMcpTokenUseCase;
+  McpTokenStateCache stateCache;
 
   @BeforeEach
   void setUp() {
@@ -45,8 +47,9 @@ class McpTokenValidatorTest {
     SecretKey secretKey = Keys.hmacShaKeyFor(
         properties.getToken().getSecret().getBytes(StandardCharsets.UTF_8));
     getMcpTokenUseCase = new TestGetMcpTokenUseCase(properties, clock);
+    stateCache = new McpTokenStateCache(properties);
     validator = new McpTokenValidator(properties, revocationCache,
-        getMcpTokenUseCase, clock, secretKey);
+        getMcpTokenUseCase, stateCache, clock, secretKey);
     tokenFactory = new McpTokenTestFactory(properties, clock);
   }
 
@@ -150,6 +153,37 @@ class McpTokenValidatorTest {
         McpSecurityError.TOKEN_REGISTRY_UNAVAILABLE);
   }
 
+  @Test
+  @DisplayName("한 번 검증한 토큰은 Redis와 DB 조회 없이 로컬 캐시로 검증한다")
+  void cachedTokenSkipsRemoteLookups() {
+    String token = tokenFactory.validToken();
+    StepVerifier.create(validator.validate(token))
+        .assertNext(result -> assertThat(result.valid()).isTrue())
+        .verifyComplete();
+
+    revocationCache.fail();
+    getMcpTokenUseCase.fail();
+
+    StepVerifier.create(validator.validate(token))
+        .assertNext(result -> assertThat(result.valid()).isTrue())
+        .verifyComplete();
+    assertThat(getMcpTokenUseCase.lookups()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("폐기 이벤트로 캐시가 무효화되면 다음 검증에서 폐기가 반영된다")
+  void revocationEventInvalidatesCachedToken() {
+    String token = tokenFactory.validToken();
+    StepVerifier.create(validator.validate(token))
+        .assertNext(result -> assertThat(result.valid()).isTrue())
+        .verifyComplete();
+
+    getMcpTokenUseCase.revoke("token-1");
+    stateCache.invalidate("token-1");
+
+    expectFailure(validator.validate(token), McpSecurityError.TOKEN_REVOKED);
+  }
+
   private void expectFailure(Mono<McpTokenValidationResult> actual, McpSecurityError error) {
     StepVerifier.create(actual)
         .assertNext(result -> {
@@ -189,6 +223,7 @@ class McpTokenValidatorTest {
 
     private final Map<String, McpToken> tokens = new ConcurrentHashMap<>();
     private final Clock clock;
+    private final AtomicInteger lookups = new AtomicInteger();
     private boolean fail;
 
     TestGetMcpTokenUseCase(McpSecurityProperties properties, Clock clock) {
@@ -204,6 +239,7 @@ class McpTokenValidatorTest {
 
     @Override
     public Mono<McpToken> getMcpToken(GetMcpTokenQuery query) {
+      lookups.incrementAndGet();
       if (fail) {
         return Mono.error(new IllegalStateException("Token registry unavailable"));
       }
@@ -214,6 +250,10 @@ class McpTokenValidatorTest {
       tokens.clear();
     }
 
+    int lookups() {
+      return lookups.get();
+    }
+
     void revoke(String tokenId) {
       tokens.get(tokenId).revoke(clock.instant());
     }
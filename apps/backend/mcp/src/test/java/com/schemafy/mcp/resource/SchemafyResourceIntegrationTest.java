@@ -34,6 +34,9 @@ import com.schemafy.core.erd.constraint.application.port.in.GetConstraintsByTabl
 import com.schemafy.core.erd.constraint.application.port.in.GetConstraintsByTableIdUseCase;
 import com.schemafy.core.erd.constraint.domain.Constraint;
 import com.schemafy.core.erd.constraint.domain.type.ConstraintKind;
+import com.schemafy.core.erd.digest.application.port.in.GetSchemaDigestQuery;
+import com.schemafy.core.erd.digest.application.port.in.GetSchemaDigestUseCase;
+import com.schemafy.core.erd.digest.application.port.in.SchemaDigest;
 import com.schemafy.core.erd.index.application.port.in.GetIndexesByTableIdQuery;
 import com.schemafy.core.erd.index.application.port.in.GetIndexesByTableIdUseCase;
 import com.schemafy.core.erd.index.domain.Index;
@@ -57,6 +60,11 @@ import com.schemafy.core.erd.schema.application.port.in.GetSchemaUseCase;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemasByProjectIdQuery;
 import com.schemafy.core.erd.schema.application.port.in.GetSchemasByProjectIdUseCase;
 import com.schemafy.core.erd.schema.domain.Schema;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectQuery;
+import com.schemafy.core.erd.search.application.port.in.SearchProjectUseCase;
+import com.schemafy.core.erd.search.domain.SearchField;
+import com.schemafy.core.erd.search.domain.SearchHit;
+import com.schemafy.core.erd.search.domain.SearchHitType;
 import com.schemafy.core.erd.table.application.port.in.GetTableQuery;
 import com.schemafy.core.erd.table.application.port.in.GetTableUseCase;
 import com.schemafy.core.erd.table.application.port.in.GetTablesBySchemaIdQuery;
@@ -141,6 +149,8 @@ class SchemafyResourceIntegrationTest {
         .contains("schemafy_list_schemas")
         .contains("Use after schemafy_list_schemas when a schemaId is known to enumerate ERD tables")
         .contains("schemafy_get_schema")
+        .contains("schemafy_get_schema_digest")
+        .contains("schemafy_search_project")
         .contains("Zero-based page number. Defaults to 0.")
         .contains("Page size from 1 to 100. Defaults to 100.")
         .contains("readOnlyHint")
@@ -162,6 +172,7 @@ class SchemafyResourceIntegrationTest {
         .contains("schemafy://workspaces/{workspaceId}/projects?page={page}&size={size}")
         .contains("schemafy://projects/{projectId}/schemas")
         .contains("schemafy://tables/{tableId}/columns")
+        .contains("schemafy://schemas/{schemaId}/digest")
         .contains("schemafy://memos/{memoId}/comments")
         .doesNotContain("schemafy://schemas/{schemaId}/snapshot")
         .doesNotContain("schemafy://tables/{tableId}/snapshot");
@@ -248,6 +259,36 @@ class SchemafyResourceIntegrationTest {
         .contains("schema-1")
         .contains("commerce")
         .doesNotContain("\"isError\":true");
+
+    String digest = callTool(sessionId, token, "schemafy_get_schema_digest",
+        Map.of("schemaId", "schema-1"));
+    assertThat(digest)
+        .contains("table orders id=table-1")
+        .contains("id BIGINT NN AI")
+        .doesNotContain("\"isError\":true");
+
+    String search = callTool(sessionId, token, "schemafy_search_project",
+        Map.of("projectId", "project-1", "query", "order", "limit", 5));
+    assertThat(search)
+        .contains("orders.order_id")
+        .contains("MEMO_COMMENT")
+        .doesNotContain("\"isError\":true");
+    assertThat(readUseCases.lastSearchProjectQuery.get().limit()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("schema digest 리소스는 text/plain으로 스키마 전체를 한 번에 반환한다")
+  void readsSchemaDigestResource() {
+    String token = tokenFactory.validToken();
+    String sessionId = initialize(token);
+
+    String digest = readResource(sessionId, token, "schemafy://schemas/schema-1/digest");
+
+    assertThat(digest)
+        .contains("schemafy://schemas/schema-1/digest")
+        .contains("text/plain")
+        .contains("schema commerce id=schema-1")
+        .contains("PK pk_orders (id)");
   }
 
   @Test
@@ -428,6 +469,8 @@ class SchemafyResourceIntegrationTest {
       ListDbVendorsUseCase,
       GetSchemasByProjectIdUseCase,
       GetSchemaUseCase,
+      GetSchemaDigestUseCase,
+      SearchProjectUseCase,
       GetTablesBySchemaIdUseCase,
       GetTableUseCase,
       GetColumnsByTableIdUseCase,
@@ -440,6 +483,7 @@ class SchemafyResourceIntegrationTest {
 
     private final AtomicReference<GetWorkspacesQuery> lastWorkspacesQuery = new AtomicReference<>();
     private final AtomicReference<GetProjectsQuery> lastWorkspaceProjectsQuery = new AtomicReference<>();
+    private final AtomicReference<SearchProjectQuery> lastSearchProjectQuery = new AtomicReference<>();
     private final AtomicReference<GetProjectQuery> lastProjectQuery = new AtomicReference<>();
 
     void reset() {
@@ -515,6 +559,28 @@ class SchemafyResourceIntegrationTest {
       return Mono.just(schema("project-1"));
     }
 
+    @Override
+    public Mono<SchemaDigest> getSchemaDigest(GetSchemaDigestQuery query) {
+      String content = """
+          schema commerce id=%s charset=utf8mb4 collation=utf8mb4_general_ci revision=3
+
+          table orders id=table-1
+            id BIGINT NN AI -- primary key
+            PK pk_orders (id)
+          """.formatted(query.schemaId());
+      return Mono.just(new SchemaDigest(query.schemaId(), 3L, content));
+    }
+
+    @Override
+    public Mono<List<SearchHit>> searchProject(SearchProjectQuery query) {
+      lastSearchProjectQuery.set(query);
+      return Mono.just(List.of(
+          new SearchHit(SearchHitType.COLUMN, "column-1", "schema-1", "table-1", null,
+              "orders.order_id", SearchField.NAME, "order_id"),
+          new SearchHit(SearchHitType.MEMO_COMMENT, "comment-1", "schema-1", null, "memo-1",
+              null, SearchField.BODY, "order_id needs an index")));
+    }
+
     @Override
     public Flux<Table> getTablesBySchemaId(GetTablesBySchemaIdQuery query) {
       return Flux.just(table(query.schemaId()));
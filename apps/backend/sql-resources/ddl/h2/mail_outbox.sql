@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id               CHAR(26)      NOT NULL,
+    recipient        VARCHAR(320)  NOT NULL,
+    recipient_domain VARCHAR(255)  NOT NULL,
+    subject          VARCHAR(255)  NOT NULL,
+    text_body        TEXT          NOT NULL,
+    html_body        MEDIUMTEXT    NOT NULL,
+    status           VARCHAR(16)   NOT NULL DEFAULT 'PENDING',
+    attempts         INT           NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at       TIMESTAMP     NULL,
+    last_error       VARCHAR(500)  NULL,
+    created_at       TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at       TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted_at       TIMESTAMP     NULL,
+    CONSTRAINT pk_mail_outbox PRIMARY KEY (id)
+    );
+
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_due ON mail_outbox (status, next_attempt_at);
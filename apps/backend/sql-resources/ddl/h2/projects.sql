@@ -21,6 +21,8 @@ CREATE TABLE IF NOT EXISTS workspace_members (
     );
 
 CREATE INDEX IF NOT EXISTS idx_workspace_members_access ON workspace_members (workspace_id, user_id, deleted_at);
+CREATE INDEX IF NOT EXISTS idx_workspace_members_keyset ON workspace_members (workspace_id, deleted_at, id);
+CREATE INDEX IF NOT EXISTS idx_workspace_members_user ON workspace_members (user_id, deleted_at, workspace_id);
 
 CREATE TABLE IF NOT EXISTS projects (
     id           CHAR(26)     NOT NULL,
@@ -35,6 +37,8 @@ CREATE TABLE IF NOT EXISTS projects (
     CONSTRAINT fk_projects_db_vendor FOREIGN KEY (db_vendor_id) REFERENCES db_vendors (id)
     );
 
+CREATE INDEX IF NOT EXISTS idx_projects_workspace_keyset ON projects (workspace_id, deleted_at, id);
+
 CREATE TABLE IF NOT EXISTS project_members (
     id         CHAR(26)    NOT NULL,
     project_id CHAR(26)    NOT NULL,
@@ -49,3 +53,5 @@ CREATE TABLE IF NOT EXISTS project_members (
     );
 
 CREATE INDEX IF NOT EXISTS idx_project_members_access ON project_members (project_id, user_id, deleted_at);
+CREATE INDEX IF NOT EXISTS idx_project_members_keyset ON project_members (project_id, deleted_at, id);
+CREATE INDEX IF NOT EXISTS idx_project_members_user ON project_members (user_id, deleted_at, project_id);
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id       TINYINT  NOT NULL,
+    beat_at  BIGINT   NOT NULL,
+    CONSTRAINT pk_replica_heartbeat PRIMARY KEY (id)
+);
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS schema_clone_id_map (
+    clone_id   CHAR(26) NOT NULL,
+    source_id  CHAR(26) NOT NULL,
+    target_id  CHAR(26) NOT NULL,
+    CONSTRAINT pk_schema_clone_id_map PRIMARY KEY (clone_id, source_id)
+);
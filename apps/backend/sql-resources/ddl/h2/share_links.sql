@@ -12,3 +12,5 @@ CREATE TABLE IF NOT EXISTS share_links (
     CONSTRAINT pk_share_links PRIMARY KEY (id),
     CONSTRAINT uk_share_links_code UNIQUE (code)
     );
+
+CREATE INDEX IF NOT EXISTS idx_share_links_project_keyset ON share_links (project_id, deleted_at, id);
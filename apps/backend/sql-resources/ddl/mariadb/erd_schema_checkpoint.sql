@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS erd_schema_checkpoint (
+    checkpoint_id  CHAR(26)   NOT NULL,
+    schema_id      CHAR(26)   NOT NULL,
+    revision       BIGINT     NOT NULL,
+    snapshot_json  JSON       NOT NULL,
+    created_at     TIMESTAMP  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_erd_schema_checkpoint PRIMARY KEY (checkpoint_id),
+    CONSTRAINT uq_erd_schema_checkpoint_schema_revision UNIQUE (schema_id, revision)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -18,7 +18,9 @@ CREATE TABLE IF NOT EXISTS workspace_members (
     deleted_at  TIMESTAMP    NULL,
     CONSTRAINT pk_workspace_members PRIMARY KEY (id),
     CONSTRAINT uq_workspace_members_user UNIQUE (workspace_id, user_id),
-    INDEX idx_workspace_members_access (workspace_id, user_id, deleted_at)
+    INDEX idx_workspace_members_access (workspace_id, user_id, deleted_at),
+    INDEX idx_workspace_members_keyset (workspace_id, deleted_at, id),
+    INDEX idx_workspace_members_user (user_id, deleted_at, workspace_id)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS projects (
@@ -31,7 +33,8 @@ CREATE TABLE IF NOT EXISTS projects (
     updated_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     deleted_at   TIMESTAMP    NULL,
     CONSTRAINT pk_projects PRIMARY KEY (id),
-    CONSTRAINT fk_projects_db_vendor FOREIGN KEY (db_vendor_id) REFERENCES db_vendors (id)
+    CONSTRAINT fk_projects_db_vendor FOREIGN KEY (db_vendor_id) REFERENCES db_vendors (id),
+    INDEX idx_projects_workspace_keyset (workspace_id, deleted_at, id)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS project_members (
@@ -45,5 +48,7 @@ CREATE TABLE IF NOT EXISTS project_members (
     deleted_at TIMESTAMP   NULL,
     CONSTRAINT pk_project_members PRIMARY KEY (id),
     CONSTRAINT uq_project_members_user UNIQUE (project_id, user_id),
-    INDEX idx_project_members_access (project_id, user_id, deleted_at)
+    INDEX idx_project_members_access (project_id, user_id, deleted_at),
+    INDEX idx_project_members_keyset (project_id, deleted_at, id),
+    INDEX idx_project_members_user (user_id, deleted_at, project_id)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -10,5 +10,6 @@ CREATE TABLE IF NOT EXISTS share_links (
     updated_at       TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     deleted_at       TIMESTAMP     NULL,
     CONSTRAINT pk_share_links PRIMARY KEY (id),
-    CONSTRAINT uk_share_links_code UNIQUE (code)
+    CONSTRAINT uk_share_links_code UNIQUE (code),
+    INDEX idx_share_links_project_keyset (project_id, deleted_at, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;